@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.collision.CollisionItem;
+import org.dyn4j.collision.broadphase.AABBExpansionMethod;
+import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetector;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.world.PhysicsBodyVelocityAABBExpansionMethod;
+import org.dyn4j.world.World;
+import org.dyn4j.world.WorldCollisionData;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link StaticValueAABBExpansionMethod} against the {@link PhysicsBodyVelocityAABBExpansionMethod}
+ * for the world's {@link DynamicAABBTree}.
+ * <p>
+ * Along with the step throughput, the number of reinsertions (the stored AABB had to change) and 
+ * false positive pairs (broadphase pairs that failed the narrowphase) are reported per step using
+ * JMH's auxiliary counters.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AABBExpansionBenchmark {
+	/** The scene to simulate */
+	@Param({"pyramid", "circles", "ragdolls", "terrain"})
+	public String scene;
+	
+	/** The number of dynamic bodies in the scene */
+	@Param({"500"})
+	public int bodies;
+	
+	/** The expansion method */
+	@Param({"static", "velocity"})
+	public String expansion;
+	
+	/** The world */
+	private World<Body> world;
+	
+	/** The AABBs of the fixtures before the step */
+	private Map<BodyFixture, AABB> aabbs;
+	
+	/**
+	 * The auxiliary counters reported per step.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		/** The number of fixtures whose AABB was reinserted */
+		public long reinsertions;
+		
+		/** The number of broadphase pairs that failed the narrowphase */
+		public long falsePositives;
+		
+		/**
+		 * Resets the counters.
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.reinsertions = 0;
+			this.falsePositives = 0;
+		}
+	}
+	
+	/**
+	 * Builds the scene and replaces the broadphase.
+	 */
+	@Setup(Level.Iteration)
+	public void setup() {
+		this.world = Scenes.create(this.scene, this.bodies);
+		// don't let the scene go to sleep during the iteration
+		this.world.getSettings().setAtRestDetectionEnabled(false);
+		
+		AABBExpansionMethod<CollisionItem<Body, BodyFixture>> method;
+		if ("velocity".equals(this.expansion)) {
+			method = new PhysicsBodyVelocityAABBExpansionMethod<Body>(this.world.getTimeStep());
+		} else {
+			method = new StaticValueAABBExpansionMethod<CollisionItem<Body, BodyFixture>>(0.2);
+		}
+		
+		this.world.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+				new DynamicAABBTree<CollisionItem<Body, BodyFixture>>(
+						new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+						new CollisionItemAABBProducer<Body, BodyFixture>(),
+						method)));
+		
+		this.aabbs = new IdentityHashMap<BodyFixture, AABB>();
+	}
+	
+	/**
+	 * Performs one simulation step and updates the counters.
+	 * @param counters the counters
+	 * @return {@link World}
+	 */
+	@Benchmark
+	public World<Body> step(Counters counters) {
+		CollisionItemBroadphaseDetector<Body, BodyFixture> broadphase = this.world.getBroadphaseDetector();
+		List<Body> bodies = this.world.getBodies();
+		
+		// save the stored AABBs
+		for (Body body : bodies) {
+			for (BodyFixture fixture : body.getFixtures()) {
+				AABB aabb = broadphase.getAABB(body, fixture);
+				if (aabb != null) {
+					AABB saved = this.aabbs.get(fixture);
+					if (saved == null) {
+						this.aabbs.put(fixture, aabb.copy());
+					} else {
+						saved.set(aabb);
+					}
+				}
+			}
+		}
+		
+		this.world.step(1);
+		
+		// any stored AABB that changed was reinserted
+		for (Body body : bodies) {
+			for (BodyFixture fixture : body.getFixtures()) {
+				AABB before = this.aabbs.get(fixture);
+				AABB after = broadphase.getAABB(body, fixture);
+				if (before != null && after != null && !before.equals(after)) {
+					counters.reinsertions++;
+				}
+			}
+		}
+		
+		Iterator<WorldCollisionData<Body>> it = this.world.getCollisionDataIterator();
+		while (it.hasNext()) {
+			WorldCollisionData<Body> data = it.next();
+			if (data.isBroadphaseCollision() && !data.isNarrowphaseCollision()) {
+				counters.falsePositives++;
+			}
+		}
+		
+		return this.world;
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.collision.broadphase.AABBExpansionMethod;
+import org.dyn4j.collision.broadphase.AABBProducer;
+import org.dyn4j.collision.broadphase.BoxPruning;
+import org.dyn4j.collision.broadphase.BroadphaseDetector;
+import org.dyn4j.collision.broadphase.BroadphaseFilter;
+import org.dyn4j.collision.broadphase.BroadphaseRaycastListener;
+import org.dyn4j.collision.broadphase.BruteForceBroadphase;
+import org.dyn4j.collision.broadphase.CollisionBodyAABBProducer;
+import org.dyn4j.collision.broadphase.CollisionBodyBroadphaseFilter;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.collision.broadphase.HashedGrid;
+import org.dyn4j.collision.broadphase.PackedDynamicAABBTree;
+import org.dyn4j.collision.broadphase.Sap;
+import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
+import org.dyn4j.collision.narrowphase.Gjk;
+import org.dyn4j.collision.narrowphase.Raycast;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Micro-benchmarks for each {@link BroadphaseDetector} implementation.
+ * <p>
+ * The bodies are randomly placed circles and rectangles.  Each update benchmark moves 
+ * a fraction of the bodies, updates the broadphase and then iterates the pairs.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadphaseBenchmark {
+	/** The broadphase implementation */
+	@Param({"Sap", "DynamicAABBTree", "PackedDynamicAABBTree", "BoxPruning", "HashedGrid", "BruteForce"})
+	public String detector;
+	
+	/** The number of bodies */
+	@Param({"100", "1000", "5000"})
+	public int bodies;
+	
+	/** The fraction of the bodies moved each operation */
+	@Param({"0.1"})
+	public double moving;
+	
+	/** The broadphase */
+	private BroadphaseDetector<Body> broadphase;
+	
+	/** The bodies */
+	private List<Body> items;
+	
+	/** The random number generator used to move bodies */
+	private Random random;
+	
+	/** The AABB used for AABB queries */
+	private AABB aabb;
+	
+	/** The ray used for raycasts */
+	private Ray ray;
+	
+	/** The narrowphase raycast used for the closest raycasts */
+	private Gjk gjk;
+	
+	/** The reusable narrowphase raycast result */
+	private Raycast raycast;
+	
+	/**
+	 * Creates the broadphase and adds the bodies.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		BroadphaseFilter<Body> filter = new CollisionBodyBroadphaseFilter<Body>();
+		AABBProducer<Body> producer = new CollisionBodyAABBProducer<Body>();
+		AABBExpansionMethod<Body> expansion = new StaticValueAABBExpansionMethod<Body>(0.2);
+		
+		if ("Sap".equals(this.detector)) {
+			this.broadphase = new Sap<Body>(filter, producer, expansion, this.bodies);
+		} else if ("DynamicAABBTree".equals(this.detector)) {
+			this.broadphase = new DynamicAABBTree<Body>(filter, producer, expansion, this.bodies);
+		} else if ("PackedDynamicAABBTree".equals(this.detector)) {
+			this.broadphase = new PackedDynamicAABBTree<Body>(filter, producer, expansion, this.bodies);
+		} else if ("BoxPruning".equals(this.detector)) {
+			this.broadphase = new BoxPruning<Body>(filter, producer, expansion, this.bodies);
+		} else if ("HashedGrid".equals(this.detector)) {
+			this.broadphase = new HashedGrid<Body>(filter, producer, expansion, 1.5, this.bodies);
+		} else {
+			this.broadphase = new BruteForceBroadphase<Body>(filter, producer);
+		}
+		
+		// keep the density the same regardless of the count
+		double size = Math.sqrt(this.bodies) * 2.0;
+		
+		this.random = new Random(1234);
+		this.items = new ArrayList<Body>(this.bodies);
+		for (int i = 0; i < this.bodies; i++) {
+			Body body = new Body();
+			body.addFixture(i % 2 == 0 ? Geometry.createCircle(0.5) : Geometry.createRectangle(1.0, 0.5));
+			body.setMass(MassType.NORMAL);
+			body.translate((this.random.nextDouble() - 0.5) * size, (this.random.nextDouble() - 0.5) * size);
+			this.items.add(body);
+			this.broadphase.add(body);
+		}
+		
+		this.aabb = new AABB(-size * 0.1, -size * 0.1, size * 0.1, size * 0.1);
+		this.ray = new Ray(new Vector2(-size * 0.5, -size * 0.5), new Vector2(1.0, 1.0));
+		this.gjk = new Gjk();
+		this.raycast = new Raycast();
+	}
+	
+	/**
+	 * Moves some of the bodies, updates the broadphase and iterates the pairs.
+	 * @param blackhole the sink for the pairs
+	 */
+	@Benchmark
+	public void updateAndDetect(Blackhole blackhole) {
+		int n = (int)(this.bodies * this.moving);
+		for (int i = 0; i < n; i++) {
+			Body body = this.items.get(this.random.nextInt(this.bodies));
+			body.translate((this.random.nextDouble() - 0.5) * 0.2, (this.random.nextDouble() - 0.5) * 0.2);
+		}
+		
+		this.broadphase.update();
+		
+		Iterator<CollisionPair<Body>> it = this.broadphase.detectIterator(false);
+		while (it.hasNext()) {
+			blackhole.consume(it.next());
+		}
+		
+		this.broadphase.clearUpdates();
+	}
+	
+	/**
+	 * Iterates all the pairs without moving any bodies.
+	 * @param blackhole the sink for the pairs
+	 */
+	@Benchmark
+	public void detect(Blackhole blackhole) {
+		Iterator<CollisionPair<Body>> it = this.broadphase.detectIterator(true);
+		while (it.hasNext()) {
+			blackhole.consume(it.next());
+		}
+	}
+	
+	/**
+	 * Iterates the bodies overlapping an AABB in the center of the bodies.
+	 * @param blackhole the sink for the bodies
+	 */
+	@Benchmark
+	public void detectAABB(Blackhole blackhole) {
+		Iterator<Body> it = this.broadphase.detectIterator(this.aabb);
+		while (it.hasNext()) {
+			blackhole.consume(it.next());
+		}
+	}
+	
+	/**
+	 * Iterates the bodies along a ray that crosses all the bodies.
+	 * @param blackhole the sink for the bodies
+	 */
+	@Benchmark
+	public void raycast(Blackhole blackhole) {
+		Iterator<Body> it = this.broadphase.raycastIterator(this.ray, 0.0);
+		while (it.hasNext()) {
+			blackhole.consume(it.next());
+		}
+	}
+	
+	/**
+	 * Finds the closest body along a ray that crosses all the bodies, performing
+	 * the narrowphase raycast for each body the broadphase reports.
+	 * @param blackhole the sink for the closest distance
+	 */
+	@Benchmark
+	public void raycastClosest(Blackhole blackhole) {
+		final Gjk gjk = this.gjk;
+		final Raycast raycast = this.raycast;
+		final Ray ray = this.ray;
+		this.broadphase.raycast(ray, 0.0, new BroadphaseRaycastListener<Body>() {
+			@Override
+			public double raycast(Body object, double length) {
+				if (gjk.raycast(ray, length, object.getFixture(0).getShape(), object.getTransform(), raycast)) {
+					return raycast.getDistance();
+				}
+				return length;
+			}
+		});
+		blackhole.consume(raycast.getDistance());
+	}
+}
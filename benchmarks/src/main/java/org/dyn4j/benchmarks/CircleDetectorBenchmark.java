@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.collision.narrowphase.CircleDetector;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.geometry.Circle;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Transform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for the {@link CircleDetector}.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircleDetectorBenchmark {
+	/** The distance between the circle centers */
+	@Param({"0.5", "2.0"})
+	public double distance;
+	
+	/** The first circle */
+	private Circle circle1;
+	
+	/** The second circle */
+	private Circle circle2;
+	
+	/** The first circle's transform */
+	private Transform transform1;
+	
+	/** The second circle's transform */
+	private Transform transform2;
+	
+	/** The reusable penetration */
+	private Penetration penetration;
+	
+	/**
+	 * Creates the circles.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.circle1 = Geometry.createCircle(0.5);
+		this.circle2 = Geometry.createCircle(0.5);
+		this.transform1 = new Transform();
+		this.transform2 = new Transform();
+		this.transform2.translate(this.distance, 0.1);
+		this.penetration = new Penetration();
+	}
+	
+	/**
+	 * Tests the circles for collision.
+	 * @return boolean
+	 */
+	@Benchmark
+	public boolean detect() {
+		return CircleDetector.detect(this.circle1, this.transform1, this.circle2, this.transform2);
+	}
+	
+	/**
+	 * Tests the circles for collision and computes the penetration.
+	 * @return {@link Penetration}
+	 */
+	@Benchmark
+	public Penetration detectPenetration() {
+		this.penetration.clear();
+		CircleDetector.detect(this.circle1, this.transform1, this.circle2, this.transform2, this.penetration);
+		return this.penetration;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.geometry.decompose.Bayazit;
+import org.dyn4j.geometry.decompose.Decomposer;
+import org.dyn4j.geometry.decompose.EarClipping;
+import org.dyn4j.geometry.decompose.SweepLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for each {@link Decomposer} implementation.
+ * <p>
+ * The polygon is a star with the given number of vertices in counter-clockwise order.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecomposerBenchmark {
+	/** The decomposer implementation */
+	@Param({"Bayazit", "EarClipping", "SweepLine"})
+	public String algorithm;
+	
+	/** The number of vertices */
+	@Param({"10", "100", "500"})
+	public int size;
+	
+	/** The decomposer */
+	private Decomposer decomposer;
+	
+	/** The simple polygon */
+	private Vector2[] polygon;
+	
+	/**
+	 * Creates the decomposer and the polygon.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		if ("Bayazit".equals(this.algorithm)) {
+			this.decomposer = new Bayazit();
+		} else if ("EarClipping".equals(this.algorithm)) {
+			this.decomposer = new EarClipping();
+		} else {
+			this.decomposer = new SweepLine();
+		}
+		
+		// alternate between an outer and inner radius
+		this.polygon = new Vector2[this.size];
+		for (int i = 0; i < this.size; i++) {
+			double r = i % 2 == 0 ? 1.0 : 0.5;
+			double t = Math.PI * 2.0 * i / this.size;
+			this.polygon[i] = new Vector2(r * Math.cos(t), r * Math.sin(t));
+		}
+	}
+	
+	/**
+	 * Decomposes the polygon into convex pieces.
+	 * @return List&lt;{@link Convex}&gt;
+	 */
+	@Benchmark
+	public List<Convex> decompose() {
+		return this.decomposer.decompose(this.polygon);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.geometry.hull.DivideAndConquer;
+import org.dyn4j.geometry.hull.GiftWrap;
+import org.dyn4j.geometry.hull.GrahamScan;
+import org.dyn4j.geometry.hull.HullGenerator;
+import org.dyn4j.geometry.hull.MonotoneChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for each {@link HullGenerator} implementation.
+ * <p>
+ * Some of the generators sort the given points in place, so the points are copied into
+ * a working array before each operation.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HullGeneratorBenchmark {
+	/** The hull generator implementation */
+	@Param({"GiftWrap", "GrahamScan", "MonotoneChain", "DivideAndConquer"})
+	public String generator;
+	
+	/** The number of points */
+	@Param({"10", "100", "1000"})
+	public int size;
+	
+	/** The hull generator */
+	private HullGenerator hullGenerator;
+	
+	/** The points */
+	private Vector2[] points;
+	
+	/** The working copy of the points */
+	private Vector2[] working;
+	
+	/**
+	 * Creates the hull generator and the points.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		if ("GiftWrap".equals(this.generator)) {
+			this.hullGenerator = new GiftWrap();
+		} else if ("GrahamScan".equals(this.generator)) {
+			this.hullGenerator = new GrahamScan();
+		} else if ("MonotoneChain".equals(this.generator)) {
+			this.hullGenerator = new MonotoneChain();
+		} else {
+			this.hullGenerator = new DivideAndConquer();
+		}
+		
+		// random points in a disc
+		Random random = new Random(1234);
+		this.points = new Vector2[this.size];
+		for (int i = 0; i < this.size; i++) {
+			double r = Math.sqrt(random.nextDouble());
+			double t = random.nextDouble() * Math.PI * 2.0;
+			this.points[i] = new Vector2(r * Math.cos(t), r * Math.sin(t));
+		}
+		this.working = new Vector2[this.size];
+	}
+	
+	/**
+	 * Generates the convex hull of the points.
+	 * @return Vector2[]
+	 */
+	@Benchmark
+	public Vector2[] generate() {
+		System.arraycopy(this.points, 0, this.working, 0, this.size);
+		return this.hullGenerator.generate(this.working);
+	}
+}
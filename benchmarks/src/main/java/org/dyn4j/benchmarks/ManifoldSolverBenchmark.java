@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.collision.manifold.ClippingManifoldSolver;
+import org.dyn4j.collision.manifold.Manifold;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.Sat;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Transform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for the {@link ClippingManifoldSolver}.
+ * <p>
+ * The penetration is computed once during setup so that only the manifold generation
+ * is measured.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ManifoldSolverBenchmark {
+	/** The pair of shapes to generate a manifold for */
+	@Param({"box-box", "box-polygon", "box-capsule", "box-circle"})
+	public String shapes;
+	
+	/** The manifold solver */
+	private ClippingManifoldSolver solver;
+	
+	/** The first shape */
+	private Convex convex1;
+	
+	/** The second shape */
+	private Convex convex2;
+	
+	/** The first shape's transform */
+	private Transform transform1;
+	
+	/** The second shape's transform */
+	private Transform transform2;
+	
+	/** The penetration between the shapes */
+	private Penetration penetration;
+	
+	/** The reusable manifold */
+	private Manifold manifold;
+	
+	/**
+	 * Creates the shapes and computes their penetration.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.solver = new ClippingManifoldSolver();
+		
+		// a box resting on a larger box
+		this.convex1 = Geometry.createRectangle(4.0, 1.0);
+		this.transform1 = new Transform();
+		this.transform2 = new Transform();
+		this.transform2.translate(0.2, 0.95);
+		
+		if ("box-box".equals(this.shapes)) {
+			this.convex2 = Geometry.createSquare(1.0);
+		} else if ("box-polygon".equals(this.shapes)) {
+			this.convex2 = Geometry.createPolygonalCircle(8, 0.5);
+		} else if ("box-capsule".equals(this.shapes)) {
+			this.convex2 = Geometry.createCapsule(1.5, 1.0);
+		} else {
+			this.convex2 = Geometry.createCircle(0.5);
+		}
+		
+		this.penetration = new Penetration();
+		if (!new Sat().detect(this.convex1, this.transform1, this.convex2, this.transform2, this.penetration)) {
+			throw new IllegalStateException("The shapes must overlap");
+		}
+		
+		this.manifold = new Manifold();
+	}
+	
+	/**
+	 * Generates the contact manifold.
+	 * @return {@link Manifold}
+	 */
+	@Benchmark
+	public Manifold getManifold() {
+		this.manifold.clear();
+		this.solver.getManifold(this.penetration, this.convex1, this.transform1, this.convex2, this.transform2, this.manifold);
+		return this.manifold;
+	}
+}
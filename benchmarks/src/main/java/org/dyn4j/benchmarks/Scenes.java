@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.joint.RevoluteJoint;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Link;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.world.World;
+
+/**
+ * Builds the standard scenes used by the benchmarks.
+ * <p>
+ * The scenes are deterministic so that results are comparable between runs.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public final class Scenes {
+	/** The seed for all the random placement */
+	private static final long SEED = 1234;
+	
+	/** The number of links in each ragdoll chain */
+	private static final int CHAIN_LENGTH = 10;
+	
+	/** Hidden constructor */
+	private Scenes() {}
+	
+	/**
+	 * Creates the given scene with roughly the given number of dynamic bodies.
+	 * @param scene the scene name; one of pyramid, circles, ragdolls or terrain
+	 * @param bodies the number of dynamic bodies
+	 * @return {@link World}
+	 * @throws IllegalArgumentException if the scene is not known
+	 */
+	public static World<Body> create(String scene, int bodies) {
+		if ("pyramid".equals(scene)) {
+			return Scenes.createPyramid(bodies);
+		} else if ("circles".equals(scene)) {
+			return Scenes.createCircles(bodies);
+		} else if ("ragdolls".equals(scene)) {
+			return Scenes.createRagdolls(bodies);
+		} else if ("terrain".equals(scene)) {
+			return Scenes.createTerrain(bodies);
+		}
+		throw new IllegalArgumentException("Unknown scene: " + scene);
+	}
+	
+	/**
+	 * Creates a pyramid of stacked boxes resting on a static floor.
+	 * @param bodies the number of boxes
+	 * @return {@link World}
+	 */
+	public static World<Body> createPyramid(int bodies) {
+		World<Body> world = new World<Body>(bodies + 1, 0);
+		
+		// find the number of rows needed
+		int rows = 1;
+		while (rows * (rows + 1) / 2 < bodies) {
+			rows++;
+		}
+		
+		world.addBody(Scenes.createStatic(Geometry.createRectangle(rows * 2.0 + 10.0, 1.0), 0.0, -0.5));
+		
+		int n = 0;
+		for (int i = 0; i < rows && n < bodies; i++) {
+			int columns = rows - i;
+			double x = -columns * 0.5 + 0.5;
+			double y = i + 0.5;
+			for (int j = 0; j < columns && n < bodies; j++, n++) {
+				world.addBody(Scenes.createDynamic(Geometry.createSquare(1.0), x + j, y));
+			}
+		}
+		
+		return world;
+	}
+	
+	/**
+	 * Creates a grid of circles falling into a static box.
+	 * @param bodies the number of circles
+	 * @return {@link World}
+	 */
+	public static World<Body> createCircles(int bodies) {
+		World<Body> world = new World<Body>(bodies + 3, 0);
+		
+		int columns = (int)Math.ceil(Math.sqrt(bodies));
+		double width = columns * 1.2;
+		
+		world.addBody(Scenes.createStatic(Geometry.createRectangle(width + 2.0, 1.0), 0.0, -0.5));
+		world.addBody(Scenes.createStatic(Geometry.createRectangle(1.0, width * 4.0), -width * 0.5 - 0.5, width * 2.0));
+		world.addBody(Scenes.createStatic(Geometry.createRectangle(1.0, width * 4.0), width * 0.5 + 0.5, width * 2.0));
+		
+		Random random = new Random(SEED);
+		for (int i = 0; i < bodies; i++) {
+			int row = i / columns;
+			int column = i % columns;
+			double x = -width * 0.5 + column * 1.2 + 0.6 + random.nextDouble() * 0.1;
+			double y = 1.0 + row * 1.2;
+			world.addBody(Scenes.createDynamic(Geometry.createCircle(0.5), x, y));
+		}
+		
+		return world;
+	}
+	
+	/**
+	 * Creates chains of capsules, joined with {@link RevoluteJoint}s, that hang from
+	 * a static bar and fall onto a static floor.
+	 * @param bodies the number of capsules
+	 * @return {@link World}
+	 */
+	public static World<Body> createRagdolls(int bodies) {
+		int chains = Math.max(1, bodies / CHAIN_LENGTH);
+		World<Body> world = new World<Body>(chains * CHAIN_LENGTH + 2, chains * CHAIN_LENGTH);
+		
+		double width = chains * 1.5;
+		double top = CHAIN_LENGTH + 2.0;
+		Body bar = Scenes.createStatic(Geometry.createRectangle(width + 2.0, 0.2), 0.0, top);
+		world.addBody(bar);
+		world.addBody(Scenes.createStatic(Geometry.createRectangle(width + 20.0, 1.0), 0.0, -0.5));
+		
+		for (int i = 0; i < chains; i++) {
+			double x = -width * 0.5 + i * 1.5 + 0.75;
+			Body previous = bar;
+			for (int j = 0; j < CHAIN_LENGTH; j++) {
+				double y = top - 0.5 - j;
+				Body link = Scenes.createDynamic(Geometry.createCapsule(0.25, 1.0), x, y);
+				// give the chains an initial swing
+				link.setLinearVelocity(2.0, 0.0);
+				world.addBody(link);
+				world.addJoint(new RevoluteJoint<Body>(previous, link, new Vector2(x, y + 0.5)));
+				previous = link;
+			}
+		}
+		
+		return world;
+	}
+	
+	/**
+	 * Creates a large static terrain made of {@link Link} segments with boxes and circles
+	 * falling onto it.
+	 * @param bodies the number of falling bodies
+	 * @return {@link World}
+	 */
+	public static World<Body> createTerrain(int bodies) {
+		World<Body> world = new World<Body>(bodies + 1, 0);
+		
+		// the terrain gets wider with the body count
+		int segments = Math.max(100, bodies * 4);
+		double width = segments * 0.5;
+		
+		Random random = new Random(SEED);
+		List<Vector2> vertices = new ArrayList<Vector2>(segments + 1);
+		for (int i = 0; i <= segments; i++) {
+			double x = -width * 0.5 + i * 0.5;
+			vertices.add(new Vector2(x, Math.sin(x * 0.2) * 2.0 + random.nextDouble() * 0.2));
+		}
+		
+		Body terrain = new Body();
+		for (Link link : Geometry.createLinks(vertices, false)) {
+			terrain.addFixture(link);
+		}
+		terrain.setMass(MassType.INFINITE);
+		world.addBody(terrain);
+		
+		for (int i = 0; i < bodies; i++) {
+			double x = -width * 0.5 + (i + 0.5) * width / bodies;
+			double y = 4.0 + random.nextDouble() * 4.0;
+			Convex convex = i % 2 == 0 ? Geometry.createCircle(0.25) : Geometry.createSquare(0.5);
+			world.addBody(Scenes.createDynamic(convex, x, y));
+		}
+		
+		return world;
+	}
+	
+	/**
+	 * Returns a new static body with the given shape at the given position.
+	 * @param convex the shape
+	 * @param x the x position
+	 * @param y the y position
+	 * @return {@link Body}
+	 */
+	private static Body createStatic(Convex convex, double x, double y) {
+		Body body = new Body();
+		body.addFixture(convex);
+		body.setMass(MassType.INFINITE);
+		body.translate(x, y);
+		return body;
+	}
+	
+	/**
+	 * Returns a new dynamic body with the given shape at the given position.
+	 * @param convex the shape
+	 * @param x the x position
+	 * @param y the y position
+	 * @return {@link Body}
+	 */
+	private static Body createDynamic(Convex convex, double x, double y) {
+		Body body = new Body();
+		body.addFixture(convex);
+		body.setMass(MassType.NORMAL);
+		body.translate(x, y);
+		return body;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.world.World;
+import org.dyn4j.world.WorldSnapshot;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks saving and restoring a {@link WorldSnapshot} of the standard {@link Scenes}.
+ * <p>
+ * The scene is stepped before measuring so that it has contacts to save.  The size of the
+ * snapshot in bytes is reported using JMH's auxiliary counters.  Both operations should
+ * report no allocations with the GC profiler once the snapshot has been sized.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldSnapshotBenchmark {
+	/** The scene to simulate */
+	@Param({"pyramid", "circles", "ragdolls"})
+	public String scene;
+	
+	/** The number of dynamic bodies in the scene */
+	@Param({"1000", "10000"})
+	public int bodies;
+	
+	/** The world */
+	private World<Body> world;
+	
+	/** The snapshot */
+	private WorldSnapshot snapshot;
+	
+	/**
+	 * The auxiliary counters reported per iteration.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		/** The size of the snapshot in bytes */
+		public long bytes;
+	}
+	
+	/**
+	 * Builds and steps the scene and saves the first snapshot.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.world = Scenes.create(this.scene, this.bodies);
+		for (int i = 0; i < 60; i++) {
+			this.world.step(1);
+		}
+		
+		this.snapshot = new WorldSnapshot();
+		this.world.saveSnapshot(this.snapshot);
+	}
+	
+	/**
+	 * Saves the state of the world.
+	 * @param counters the counters
+	 * @return {@link WorldSnapshot}
+	 */
+	@Benchmark
+	public WorldSnapshot save(Counters counters) {
+		this.world.saveSnapshot(this.snapshot);
+		counters.bytes = this.snapshot.getSize() * 8L;
+		return this.snapshot;
+	}
+	
+	/**
+	 * Restores the state of the world.
+	 * @param counters the counters
+	 * @return {@link World}
+	 */
+	@Benchmark
+	public World<Body> restore(Counters counters) {
+		this.world.restoreSnapshot(this.snapshot);
+		counters.bytes = this.snapshot.getSize() * 8L;
+		return this.world;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j;
+
+/**
+ * Represents an object whose simulation state can be saved to and restored
+ * from a buffer of primitive values.
+ * <p>
+ * This is used to take snapshots of a simulation and roll it back to an earlier
+ * point in time.  Only the state that changes during simulation is saved; 
+ * configuration like shapes, mass or limits is not.  The state is written as a 
+ * sequence of {@link #getStateSize()} values starting at the given offset.
+ * <p>
+ * Neither method should allocate memory.
+ * <p>
+ * A {@link org.dyn4j.world.PhysicsWorld} snapshot only includes the state of the bodies and joints
+ * that implement this interface.  The {@link org.dyn4j.dynamics.AbstractPhysicsBody} and 
+ * {@link org.dyn4j.dynamics.joint.AbstractJoint} classes implement it.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public interface Restorable {
+	/**
+	 * Returns the number of values written by {@link #saveState(double[], int)}
+	 * and read by {@link #restoreState(double[], int)}.
+	 * @return int
+	 */
+	public int getStateSize();
+	
+	/**
+	 * Writes the current state to the given buffer starting at the given offset.
+	 * @param state the buffer to write to
+	 * @param offset the index of the first value to write
+	 * @throws IndexOutOfBoundsException if the buffer doesn't have room for {@link #getStateSize()} values after the offset
+	 */
+	public void saveState(double[] state, int offset);
+	
+	/**
+	 * Reads the state from the given buffer starting at the given offset.
+	 * <p>
+	 * The buffer should contain the values written by {@link #saveState(double[], int)}.
+	 * @param state the buffer to read from
+	 * @param offset the index of the first value to read
+	 * @throws IndexOutOfBoundsException if the buffer doesn't have {@link #getStateSize()} values after the offset
+	 */
+	public void restoreState(double[] state, int offset);
+}
@@ -40,11 +40,11 @@ import org.dyn4j.geometry.Vector2;
 /**
  * Abstract implementation of a {@link BroadphaseDetector}.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @param <T> the object type
  */
-public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetector<T> {
+public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetector<T>, PairTrackingBroadphaseDetector<T> {
 	/** A multiplier used when determining if we should update an AABB regardless if it fits within the existing AABB */
 	protected static final double AABB_REDUCTION_RATIO = 2.0;
 	
@@ -180,6 +180,29 @@ public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetecto
 		return items;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#raycast(org.dyn4j.geometry.Ray, double, org.dyn4j.collision.broadphase.BroadphaseRaycastListener)
+	 */
+	@Override
+	public void raycast(Ray ray, double length, BroadphaseRaycastListener<T> listener) {
+		if (listener == null)
+			throw new ArgumentNullException("listener");
+		
+		// by default, report the items in the order of the iterator; the
+		// iterator can't be clipped so this only saves the listener work
+		double l = length > 0.0 ? length : Double.MAX_VALUE;
+		Iterator<T> it = this.raycastIterator(ray, length);
+		while (it.hasNext()) {
+			double nl = listener.raycast(it.next(), l);
+			if (nl <= 0.0) {
+				return;
+			}
+			if (nl < l) {
+				l = nl;
+			}
+		}
+	}
+	
 	/**
 	 * Returns true if the ray and AABB intersect.
 	 * <p>
@@ -195,16 +218,37 @@ public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetecto
 	 * @return true if the AABB and ray intersect
 	 */
 	static boolean raycast(Vector2 start, double length, double invDx, double invDy, AABB aabb) {
+		return raycast(start.x, start.y, length, invDx, invDy, aabb.getMinX(), aabb.getMinY(), aabb.getMaxX(), aabb.getMaxY());
+	}
+	
+	/**
+	 * Returns true if the ray and AABB intersect.
+	 * <p>
+	 * This method is the same as {@link #raycast(Vector2, double, double, double, AABB)} but
+	 * accepts the ray start and AABB as primitives for broadphases that don't store {@link AABB}s.
+	 * @param startX the x coordinate of the start position of the ray
+	 * @param startY the y coordinate of the start position of the ray
+	 * @param length the length of the ray
+	 * @param invDx the inverse of the x component of the ray direction
+	 * @param invDy the inverse of the y component of the ray direction
+	 * @param minX the minimum x value of the AABB to test
+	 * @param minY the minimum y value of the AABB to test
+	 * @param maxX the maximum x value of the AABB to test
+	 * @param maxY the maximum y value of the AABB to test
+	 * @return true if the AABB and ray intersect
+	 * @since 6.1.0
+	 */
+	static boolean raycast(double startX, double startY, double length, double invDx, double invDy, double minX, double minY, double maxX, double maxY) {
 		// see here for implementation details
 		// http://tavianator.com/2011/05/fast-branchless-raybounding-box-intersections/
-		double tx1 = (aabb.getMinX() - start.x) * invDx;
-		double tx2 = (aabb.getMaxX() - start.x) * invDx;
+		double tx1 = (minX - startX) * invDx;
+		double tx2 = (maxX - startX) * invDx;
 
 		double tmin = Math.min(tx1, tx2);
 		double tmax = Math.max(tx1, tx2);
 
-		double ty1 = (aabb.getMinY() - start.y) * invDy;
-		double ty2 = (aabb.getMaxY() - start.y) * invDy;
+		double ty1 = (minY - startY) * invDy;
+		double ty2 = (maxY - startY) * invDy;
 
 		tmin = Math.max(tmin, Math.min(ty1, ty2));
 		tmax = Math.min(tmax, Math.max(ty1, ty2));
@@ -216,6 +260,39 @@ public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetecto
 		return tmax >= tmin;
 	}
 	
+	/**
+	 * Returns the distance along the ray where it enters the given AABB or -1 if the ray
+	 * and AABB don't intersect within the given length.
+	 * <p>
+	 * Returns zero if the start of the ray is inside the AABB.
+	 * @param startX the x coordinate of the start position of the ray
+	 * @param startY the y coordinate of the start position of the ray
+	 * @param length the length of the ray
+	 * @param invDx the inverse of the x component of the ray direction
+	 * @param invDy the inverse of the y component of the ray direction
+	 * @param aabb the AABB to test
+	 * @return double
+	 * @since 6.1.0
+	 */
+	static double raycastEntry(double startX, double startY, double length, double invDx, double invDy, AABB aabb) {
+		double tx1 = (aabb.getMinX() - startX) * invDx;
+		double tx2 = (aabb.getMaxX() - startX) * invDx;
+
+		double tmin = Math.min(tx1, tx2);
+		double tmax = Math.max(tx1, tx2);
+
+		double ty1 = (aabb.getMinY() - startY) * invDy;
+		double ty2 = (aabb.getMaxY() - startY) * invDy;
+
+		tmin = Math.max(tmin, Math.min(ty1, ty2));
+		tmax = Math.min(tmax, Math.max(ty1, ty2));
+		
+		if (tmax < 0 || tmin > length || tmax < tmin) {
+			return -1.0;
+		}
+		return tmin < 0 ? 0.0 : tmin;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#getAABBProducer()
 	 */
@@ -255,4 +332,36 @@ public abstract class AbstractBroadphaseDetector<T> implements BroadphaseDetecto
 	public void setUpdateTrackingEnabled(boolean flag) {
 		this.updateTrackingEnabled = flag;
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingSupported()
+	 */
+	@Override
+	public boolean isPairTrackingSupported() {
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingEnabled()
+	 */
+	@Override
+	public boolean isPairTrackingEnabled() {
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#setPairTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setPairTrackingEnabled(boolean flag) {
+		// not supported by default
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#updatePairs(org.dyn4j.collision.broadphase.BroadphasePairListener)
+	 */
+	@Override
+	public void updatePairs(BroadphasePairListener<T> listener) {
+		// not supported by default
+	}
 }
@@ -0,0 +1,1221 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.exception.ValueOutOfRangeException;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Implementation of the box pruning broad-phase collision detection algorithm.
+ * <p>
+ * This class stores the AABBs in primitive arrays sorted by their minimum value along a sweep axis.  Pairs
+ * are found by sweeping the sorted arrays: each AABB only needs to be tested against the AABBs that follow 
+ * it until their minimum value passes its maximum value.  The AABBs are then tested along the other axis.
+ * <p>
+ * The arrays are sorted using an insertion sort before they are used.  Since objects typically move only a 
+ * little from one step to the next, the arrays are nearly sorted and the sort is close to O(n).
+ * <p>
+ * The sweep axis is chosen based on the variance of the AABB centers.  The axis along which the AABBs are
+ * most spread out reports the fewest AABBs overlapping along the sweep axis.  For example, a tall stack
+ * of objects would be swept along the y axis.
+ * <p>
+ * Since the AABBs are not stored as {@link AABB}s, the {@link #getAABB(Object)} method returns a new {@link AABB}
+ * for objects that are in the broadphase.
+ * <p>
+ * This algorithm is O(n) for all {@link #detect(AABB)} and {@link #raycast(Ray, double)} methods.
+ * <p>
+ * Since the arrays are sorted when they are first used after a change, call the {@link #prepare()} method 
+ * before querying this broad-phase from multiple threads at the same time.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ */
+public final class BoxPruning<T> extends AbstractBroadphaseDetector<T> implements PreparableBroadphaseDetector<T> {
+	/** The index used to represent the absence of a proxy */
+	private static final int NULL_PROXY = -1;
+	
+	/** The variance ratio along the other axis required to switch the sweep axis */
+	private static final double AXIS_SWITCH_RATIO = 1.5;
+	
+	/** The minimum value along the sweep axis of each AABB in sorted order */
+	private double[] sweepMin;
+	
+	/** The maximum value along the sweep axis of each AABB in sorted order */
+	private double[] sweepMax;
+	
+	/** The minimum value along the other axis of each AABB in sorted order */
+	private double[] crossMin;
+	
+	/** The maximum value along the other axis of each AABB in sorted order */
+	private double[] crossMax;
+	
+	/** The proxy of each AABB in sorted order */
+	private int[] sortedProxies;
+	
+	/** The number of AABBs */
+	private int count;
+	
+	/** True if the sweep axis is the x axis */
+	private boolean sweepX;
+	
+	/** True if the arrays are sorted */
+	private boolean sorted;
+	
+	/** The maximum extent of the AABBs along the sweep axis at the time they were sorted */
+	private double maxExtent;
+	
+	/** The position of each proxy in the sorted arrays; for free proxies this is the next free proxy */
+	private int[] positions;
+	
+	/** The object of each proxy; null for free proxies */
+	private Object[] items;
+	
+	/** The position of each proxy in the updated array; -1 if the proxy hasn't been updated */
+	private int[] updatedIndex;
+	
+	/** The proxies that were updated since the last detection phase */
+	private int[] updated;
+	
+	/** The number of updated proxies */
+	private int updatedCount;
+	
+	/** The head of the list of free proxies */
+	private int free;
+	
+	/** Object to proxy id map for fast lookup */
+	private final ProxyIndexMap<T> proxies;
+	
+	/** A reusable {@link AABB} for updates to reduce allocation */
+	private final AABB updatedAABB;
+	
+	/**
+	 * Default constructor.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer
+	 * @param aabbExpansionMethod the AABB expansion method
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 */
+	public BoxPruning(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod) {
+		this(broadphaseFilter, aabbProducer, aabbExpansionMethod, BroadphaseDetector.DEFAULT_INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Optional constructor.
+	 * <p>
+	 * Allows fine tuning of the initial capacity of local storage for faster running times.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer; cannot be null
+	 * @param aabbExpansionMethod the AABB expansion method; cannot be null
+	 * @param initialCapacity the initial capacity of local storage
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 * @throws IllegalArgumentException if initialCapacity is less than zero
+	 */
+	public BoxPruning(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod, int initialCapacity) {
+		super(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		
+		if (initialCapacity < 0)
+			throw new ValueOutOfRangeException("initialCapacity", initialCapacity, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+		
+		int capacity = Math.max(initialCapacity, 1);
+		
+		this.sweepMin = new double[capacity];
+		this.sweepMax = new double[capacity];
+		this.crossMin = new double[capacity];
+		this.crossMax = new double[capacity];
+		this.sortedProxies = new int[capacity];
+		this.positions = new int[capacity];
+		this.items = new Object[capacity];
+		this.updatedIndex = new int[capacity];
+		this.updated = new int[capacity];
+		
+		this.count = 0;
+		this.sweepX = true;
+		this.sorted = true;
+		this.maxExtent = 0.0;
+		this.updatedCount = 0;
+		this.free = NULL_PROXY;
+		this.linkFreeProxies(0, capacity);
+		Arrays.fill(this.updatedIndex, -1);
+		
+		this.proxies = new ProxyIndexMap<T>(initialCapacity);
+		this.updatedAABB = new AABB(0,0,0,0);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#getAABB(java.lang.Object)
+	 */
+	@Override
+	public AABB getAABB(T object) {
+		int proxy = this.proxies.get(object);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			int position = this.positions[proxy];
+			if (this.sweepX) {
+				return new AABB(this.sweepMin[position], this.crossMin[position], this.sweepMax[position], this.crossMax[position]);
+			}
+			return new AABB(this.crossMin[position], this.sweepMin[position], this.crossMax[position], this.sweepMax[position]);
+		} else {
+			AABB aabb = this.aabbProducer.compute(object);
+			if (aabb.isDegenerate()) {
+				return aabb;
+			}
+			
+			this.aabbExpansionMethod.expand(object, aabb);
+			return aabb;
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#detect(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public boolean detect(T a, T b) {
+		int proxyA = this.proxies.get(a);
+		int proxyB = this.proxies.get(b);
+		// test the stored AABBs directly if we have them
+		if (proxyA != ProxyIndexMap.NOT_FOUND && proxyB != ProxyIndexMap.NOT_FOUND) {
+			return this.overlaps(this.positions[proxyA], this.positions[proxyB]);
+		}
+		return super.detect(a, b);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#add(java.lang.Object)
+	 */
+	@Override
+	public void add(T obj) {
+		// see if the object has already been added
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.updateProxy(obj, proxy);
+		} else {
+			this.addProxy(obj);
+		}
+	}
+	
+	/**
+	 * Internal add method.
+	 * <p>
+	 * This method assumes the given object is non-null and has not
+	 * been added to the broadphase already.
+	 * @param obj the object to add
+	 */
+	private void addProxy(T obj) {
+		// compute the aabb
+		this.aabbProducer.compute(obj, this.updatedAABB);
+		// expand the aabb
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+		// create a new proxy for the object
+		int proxy = this.allocateProxy();
+		this.items[proxy] = obj;
+		this.proxies.put(obj, proxy);
+		// add it to the end, it will be moved into place
+		// the next time the arrays are sorted
+		int position = this.count++;
+		this.sortedProxies[position] = proxy;
+		this.positions[proxy] = position;
+		this.setAABB(position, this.updatedAABB);
+		this.sorted = false;
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#remove(java.lang.Object)
+	 */
+	@Override
+	public boolean remove(T obj) {
+		// find the proxy in the map
+		int proxy = this.proxies.remove(obj);
+		// make sure it was found
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.unmarkUpdated(proxy);
+			
+			// shift the remaining AABBs down to keep them in order
+			int position = this.positions[proxy];
+			int length = this.count - position - 1;
+			if (length > 0) {
+				System.arraycopy(this.sweepMin, position + 1, this.sweepMin, position, length);
+				System.arraycopy(this.sweepMax, position + 1, this.sweepMax, position, length);
+				System.arraycopy(this.crossMin, position + 1, this.crossMin, position, length);
+				System.arraycopy(this.crossMax, position + 1, this.crossMax, position, length);
+				System.arraycopy(this.sortedProxies, position + 1, this.sortedProxies, position, length);
+				for (int i = position; i < this.count - 1; i++) {
+					this.positions[this.sortedProxies[i]] = i;
+				}
+			}
+			this.count--;
+			
+			this.freeProxy(proxy);
+			return true;
+		}
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update()
+	 */
+	@Override
+	public void update() {
+		// updating a proxy doesn't change the sorted order until the
+		// arrays are sorted so we can just walk them in order
+		for (int i = 0; i < this.count; i++) {
+			int proxy = this.sortedProxies[i];
+			this.updateProxy(this.getItem(proxy), proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update(java.lang.Object)
+	 */
+	@Override
+	public void update(T obj) {
+		// get the proxy from the map
+		int proxy = this.proxies.get(obj);
+		// make sure we found it
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			// update the proxy
+			this.updateProxy(obj, proxy);
+		} else {
+			// add the proxy
+			this.addProxy(obj);
+		}
+	}
+	
+	/**
+	 * Internal update method.
+	 * <p>
+	 * This method assumes the given object is non-null.
+	 * @param obj the object to update
+	 * @param proxy the object's proxy
+	 */
+	private void updateProxy(T obj, int proxy) {
+		int position = this.positions[proxy];
+		
+		// compute the AABB
+		this.aabbProducer.compute(obj, this.updatedAABB);
+		
+		// see if the old AABB contains the new one
+		// NOTE: the old AABB is the expanded AABB and this is how
+		// we handle what's been updated vs. not
+		boolean isNonExpanedNewContainedInExpandedOld = this.contains(position, this.updatedAABB);
+		
+		// now expand the AABB so that we can do some additional
+		// checking on it and so we can use it later if we find
+		// we need to update it
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+		
+		// now we check if the new non-expanded AABB fits within the
+		// current expanded AABB
+		if (isNonExpanedNewContainedInExpandedOld) {
+			// adapt larger AABBs to smaller ones based on their perimeter
+			// ratio (see DynamicAABBTree for the details)
+			double p0 = 2 * (this.sweepMax[position] - this.sweepMin[position] + this.crossMax[position] - this.crossMin[position]);
+			double p1 = this.updatedAABB.getPerimeter();
+			double ratio = p0 / p1;
+			if (ratio <= AABB_REDUCTION_RATIO) {
+				// if the old AABB is 2x (or less) the size (in perimeter) to the new
+				// then we'll accept it and not update
+				return;
+			}
+		}
+		
+		// set the new aabb, it will be moved into place
+		// the next time the arrays are sorted
+		this.setAABB(position, this.updatedAABB);
+		this.sorted = false;
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdated(java.lang.Object)
+	 */
+	@Override
+	public boolean isUpdated(T obj) {
+		int proxy = this.proxies.get(obj);
+		if (proxy == ProxyIndexMap.NOT_FOUND) {
+			return false;
+		}
+		
+		if (!this.updateTrackingEnabled) {
+			return true;
+		}
+		
+		return this.updatedIndex[proxy] >= 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#setUpdated(java.lang.Object)
+	 */
+	@Override
+	public void setUpdated(T obj) {
+		if (!this.updateTrackingEnabled) {
+			return;
+		}
+		
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#setUpdateTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setUpdateTrackingEnabled(boolean flag) {
+		if (this.updateTrackingEnabled != flag && !flag) {
+			// clear everything so that it doesn't produce
+			// odd results if it's turned back on
+			this.clearUpdates();
+		}
+		super.setUpdateTrackingEnabled(flag);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clearUpdates()
+	 */
+	@Override
+	public void clearUpdates() {
+		for (int i = 0; i < this.updatedCount; i++) {
+			this.updatedIndex[this.updated[i]] = -1;
+		}
+		this.updatedCount = 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#contains(java.lang.Object)
+	 */
+	@Override
+	public boolean contains(T obj) {
+		return this.proxies.containsKey(obj);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clear()
+	 */
+	@Override
+	public void clear() {
+		this.proxies.clear();
+		this.count = 0;
+		this.sorted = true;
+		this.maxExtent = 0.0;
+		this.updatedCount = 0;
+		this.free = NULL_PROXY;
+		this.linkFreeProxies(0, this.positions.length);
+		Arrays.fill(this.updatedIndex, -1);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#size()
+	 */
+	@Override
+	public int size() {
+		return this.count;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(boolean)
+	 */
+	@Override
+	public Iterator<CollisionPair<T>> detectIterator(boolean forceFullDetection) {
+		this.sort();
+		if (forceFullDetection || !this.updateTrackingEnabled) {
+			return new DetectPairsIterator(false);
+		}
+		return new DetectPairsIterator(true);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public Iterator<T> detectIterator(AABB aabb) {
+		this.sort();
+		return new DetectAABBIterator(aabb);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#raycastIterator(org.dyn4j.geometry.Ray, double)
+	 */
+	@Override
+	public Iterator<T> raycastIterator(Ray ray, double length) {
+		this.sort();
+		return new DetectRayIterator(ray, length);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void shift(Vector2 shift) {
+		// shifting doesn't change the sorted order
+		double ss = this.sweepX ? shift.x : shift.y;
+		double cs = this.sweepX ? shift.y : shift.x;
+		for (int i = 0; i < this.count; i++) {
+			this.sweepMin[i] += ss;
+			this.sweepMax[i] += ss;
+			this.crossMin[i] += cs;
+			this.crossMax[i] += cs;
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdateTrackingSupported()
+	 */
+	@Override
+	public boolean isUpdateTrackingSupported() {
+		return true;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#optimize()
+	 */
+	@Override
+	public void optimize() {
+		// no-op - the arrays are always sorted before they are used
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PreparableBroadphaseDetector#prepare()
+	 */
+	@Override
+	public void prepare() {
+		this.sort();
+	}
+	
+	/**
+	 * Returns true if the AABBs are currently being swept along the x axis.
+	 * <p>
+	 * The sweep axis is chosen each time the AABBs are sorted.
+	 * @return boolean
+	 */
+	public boolean isSweepingX() {
+		return this.sweepX;
+	}
+	
+	/**
+	 * Sorts the AABBs along the sweep axis, switching the sweep
+	 * axis first if the AABBs are more spread out along the other.
+	 */
+	private void sort() {
+		if (this.sorted) {
+			return;
+		}
+		
+		if (this.count > 1) {
+			// compute the variance of the AABB centers along both axes
+			double sSum = 0.0, sSumSq = 0.0;
+			double cSum = 0.0, cSumSq = 0.0;
+			for (int i = 0; i < this.count; i++) {
+				double s = (this.sweepMin[i] + this.sweepMax[i]) * 0.5;
+				double c = (this.crossMin[i] + this.crossMax[i]) * 0.5;
+				sSum += s;
+				sSumSq += s * s;
+				cSum += c;
+				cSumSq += c * c;
+			}
+			double sMean = sSum / this.count;
+			double cMean = cSum / this.count;
+			// NOTE: clamp to zero in case of round-off
+			double sVariance = Math.max(0.0, sSumSq / this.count - sMean * sMean);
+			double cVariance = Math.max(0.0, cSumSq / this.count - cMean * cMean);
+			
+			// only switch when its significantly better to avoid
+			// switching back and forth
+			if (cVariance > sVariance * AXIS_SWITCH_RATIO) {
+				double[] temp = this.sweepMin;
+				this.sweepMin = this.crossMin;
+				this.crossMin = temp;
+				temp = this.sweepMax;
+				this.sweepMax = this.crossMax;
+				this.crossMax = temp;
+				this.sweepX = !this.sweepX;
+				
+				// the order along the new axis has nothing to do with the
+				// order along the old one, so use a shell sort to get close
+				// before the final insertion sort
+				int gap = this.count / 2;
+				while (gap > 1) {
+					this.sort(gap);
+					gap = gap * 5 / 11;
+				}
+			}
+		}
+		
+		// the AABBs move very little from step to step so they
+		// are usually already close to being sorted
+		this.sort(1);
+		
+		// record the largest extent along the sweep axis so that we
+		// know how far back we need to look for overlapping AABBs
+		double extent = 0.0;
+		for (int i = 0; i < this.count; i++) {
+			extent = Math.max(extent, this.sweepMax[i] - this.sweepMin[i]);
+		}
+		this.maxExtent = extent;
+		this.sorted = true;
+	}
+	
+	/**
+	 * Performs an insertion sort of the AABBs on their minimum value along the sweep
+	 * axis comparing AABBs that are the given gap apart.
+	 * @param gap the gap between the AABBs to compare
+	 */
+	private void sort(int gap) {
+		for (int i = gap; i < this.count; i++) {
+			double min = this.sweepMin[i];
+			// is it already in place?
+			if (this.sweepMin[i - gap] <= min) {
+				continue;
+			}
+			
+			double max = this.sweepMax[i];
+			double cmin = this.crossMin[i];
+			double cmax = this.crossMax[i];
+			int proxy = this.sortedProxies[i];
+			
+			// move the AABBs that should be after it up
+			int j = i;
+			while (j >= gap && this.sweepMin[j - gap] > min) {
+				int k = j - gap;
+				this.sweepMin[j] = this.sweepMin[k];
+				this.sweepMax[j] = this.sweepMax[k];
+				this.crossMin[j] = this.crossMin[k];
+				this.crossMax[j] = this.crossMax[k];
+				this.sortedProxies[j] = this.sortedProxies[k];
+				this.positions[this.sortedProxies[j]] = j;
+				j = k;
+			}
+			
+			this.sweepMin[j] = min;
+			this.sweepMax[j] = max;
+			this.crossMin[j] = cmin;
+			this.crossMax[j] = cmax;
+			this.sortedProxies[j] = proxy;
+			this.positions[proxy] = j;
+		}
+	}
+	
+	/**
+	 * Returns the object of the given proxy.
+	 * @param proxy the proxy
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	private T getItem(int proxy) {
+		return (T)this.items[proxy];
+	}
+	
+	/**
+	 * Returns the object of the AABB at the given position.
+	 * @param position the position
+	 * @return T
+	 */
+	private T getItemAt(int position) {
+		return this.getItem(this.sortedProxies[position]);
+	}
+	
+	/**
+	 * Returns a free proxy from the free list, growing the storage if necessary.
+	 * @return int the proxy
+	 */
+	private int allocateProxy() {
+		if (this.free == NULL_PROXY) {
+			this.grow();
+		}
+		
+		int proxy = this.free;
+		this.free = this.positions[proxy];
+		return proxy;
+	}
+	
+	/**
+	 * Returns the given proxy to the free list.
+	 * @param proxy the proxy
+	 */
+	private void freeProxy(int proxy) {
+		this.items[proxy] = null;
+		this.positions[proxy] = this.free;
+		this.free = proxy;
+	}
+	
+	/**
+	 * Adds the proxies in the range [start, end) to the free list.
+	 * <p>
+	 * The proxies are linked so that the lowest index is allocated first.
+	 * @param start the first proxy
+	 * @param end one past the last proxy
+	 */
+	private void linkFreeProxies(int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			this.freeProxy(i);
+		}
+	}
+	
+	/**
+	 * Doubles the storage and adds the new proxies to the free list.
+	 */
+	private void grow() {
+		int capacity = this.positions.length;
+		int newCapacity = capacity * 2;
+		
+		this.sweepMin = Arrays.copyOf(this.sweepMin, newCapacity);
+		this.sweepMax = Arrays.copyOf(this.sweepMax, newCapacity);
+		this.crossMin = Arrays.copyOf(this.crossMin, newCapacity);
+		this.crossMax = Arrays.copyOf(this.crossMax, newCapacity);
+		this.sortedProxies = Arrays.copyOf(this.sortedProxies, newCapacity);
+		this.positions = Arrays.copyOf(this.positions, newCapacity);
+		this.items = Arrays.copyOf(this.items, newCapacity);
+		this.updatedIndex = Arrays.copyOf(this.updatedIndex, newCapacity);
+		this.updated = Arrays.copyOf(this.updated, newCapacity);
+		
+		Arrays.fill(this.updatedIndex, capacity, newCapacity, -1);
+		this.linkFreeProxies(capacity, newCapacity);
+	}
+	
+	/**
+	 * Adds the given proxy to the list of updated proxies if it's not already there.
+	 * @param proxy the proxy
+	 */
+	private void markUpdated(int proxy) {
+		if (this.updatedIndex[proxy] < 0) {
+			this.updatedIndex[proxy] = this.updatedCount;
+			this.updated[this.updatedCount++] = proxy;
+		}
+	}
+	
+	/**
+	 * Removes the given proxy from the list of updated proxies if it's there.
+	 * @param proxy the proxy
+	 */
+	private void unmarkUpdated(int proxy) {
+		int index = this.updatedIndex[proxy];
+		if (index >= 0) {
+			// move the last updated proxy into its place
+			int last = this.updated[--this.updatedCount];
+			this.updated[index] = last;
+			this.updatedIndex[last] = index;
+			this.updatedIndex[proxy] = -1;
+		}
+	}
+	
+	/**
+	 * Sets the AABB at the given position.
+	 * @param position the position
+	 * @param aabb the AABB
+	 */
+	private void setAABB(int position, AABB aabb) {
+		if (this.sweepX) {
+			this.sweepMin[position] = aabb.getMinX();
+			this.sweepMax[position] = aabb.getMaxX();
+			this.crossMin[position] = aabb.getMinY();
+			this.crossMax[position] = aabb.getMaxY();
+		} else {
+			this.sweepMin[position] = aabb.getMinY();
+			this.sweepMax[position] = aabb.getMaxY();
+			this.crossMin[position] = aabb.getMinX();
+			this.crossMax[position] = aabb.getMaxX();
+		}
+	}
+	
+	/**
+	 * Returns true if the AABB at the given position contains the given AABB.
+	 * @param position the position
+	 * @param aabb the AABB
+	 * @return boolean
+	 */
+	private boolean contains(int position, AABB aabb) {
+		if (this.sweepX) {
+			return this.sweepMin[position] <= aabb.getMinX() &&
+					this.sweepMax[position] >= aabb.getMaxX() &&
+					this.crossMin[position] <= aabb.getMinY() &&
+					this.crossMax[position] >= aabb.getMaxY();
+		}
+		return this.sweepMin[position] <= aabb.getMinY() &&
+				this.sweepMax[position] >= aabb.getMaxY() &&
+				this.crossMin[position] <= aabb.getMinX() &&
+				this.crossMax[position] >= aabb.getMaxX();
+	}
+	
+	/**
+	 * Returns true if the AABBs at positions a and b overlap.
+	 * @param a the first position
+	 * @param b the second position
+	 * @return boolean
+	 */
+	private boolean overlaps(int a, int b) {
+		return this.sweepMin[a] <= this.sweepMax[b] &&
+				this.sweepMax[a] >= this.sweepMin[b] &&
+				this.crossMin[a] <= this.crossMax[b] &&
+				this.crossMax[a] >= this.crossMin[b];
+	}
+	
+	/**
+	 * Returns the position of the first AABB that could overlap an
+	 * AABB with the given minimum value along the sweep axis.
+	 * <p>
+	 * This method assumes the arrays are sorted.
+	 * @param min the minimum value along the sweep axis
+	 * @return int
+	 */
+	private int getFirstPosition(double min) {
+		// no AABB that starts before this value can reach the given minimum
+		double value = min - this.maxExtent;
+		int low = 0;
+		int high = this.count;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.sweepMin[mid] < value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * Returns true if the AABBs are sorted and all the proxies map back to their position.
+	 * <p>
+	 * Used for testing.
+	 * @return boolean
+	 */
+	boolean isValid() {
+		if (this.count != this.proxies.size()) {
+			return false;
+		}
+		
+		for (int i = 0; i < this.count; i++) {
+			int proxy = this.sortedProxies[i];
+			if (this.positions[proxy] != i || this.items[proxy] == null) {
+				return false;
+			}
+			if (this.sorted && i > 0 && this.sweepMin[i - 1] > this.sweepMin[i]) {
+				return false;
+			}
+			if (this.sweepMax[i] - this.sweepMin[i] > this.maxExtent && this.sorted) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * A specialized iterator for detecting pairs of colliding {@link AABB}s in this broaphase.
+	 * <p>
+	 * Each AABB being tested is compared against the AABBs that follow it in sorted order until
+	 * they no longer overlap along the sweep axis.  When only the updated AABBs are tested, the
+	 * AABBs that precede it are also tested, skipping the updated ones since they have already
+	 * tested the pair.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectPairsIterator implements Iterator<CollisionPair<T>> {
+		/** True if only the updated proxies should be tested */
+		private final boolean updatedOnly;
+		
+		/** The number of AABBs to test */
+		private final int count;
+		
+		/** The index of the next AABB to test the broadphase with */
+		private int index;
+		
+		/** The position of the AABB we're testing the broadphase with; -1 if none */
+		private int current;
+		
+		/** The next position after the current to test against */
+		private int forward;
+		
+		/** The next position before the current to test against */
+		private int backward;
+		
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> currentPair;
+		
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> nextPair;
+		
+		/** True if there's another pair */
+		private boolean hasNext;
+		
+		/**
+		 * Minimal constructor.
+		 * @param updatedOnly true if only the updated proxies should be tested
+		 */
+		public DetectPairsIterator(boolean updatedOnly) {
+			this.updatedOnly = updatedOnly;
+			this.count = updatedOnly ? BoxPruning.this.updatedCount : BoxPruning.this.count;
+			this.index = 0;
+			this.current = -1;
+			this.currentPair = new BroadphasePair<T>();
+			this.nextPair = new BroadphasePair<T>();
+			this.hasNext = this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.hasNext;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public CollisionPair<T> next() {
+			if (this.hasNext) {
+				// copy over to the one we return
+				this.currentPair.first = this.nextPair.first;
+				this.currentPair.second = this.nextPair.second;
+				
+				// find the next pair
+				this.hasNext = this.findNext();
+				
+				// return the current pair
+				return this.currentPair;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Returns true if there's another pair to process and sets
+		 * the nextPair field to that pair.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final BoxPruning<T> bp = BoxPruning.this;
+			
+			while (this.current >= 0 || this.index < this.count) {
+				// if there's no current AABB, then grab the next one
+				if (this.current < 0) {
+					this.current = this.updatedOnly ? bp.positions[bp.updated[this.index]] : this.index;
+					this.index++;
+					this.forward = this.current + 1;
+					this.backward = this.updatedOnly ? this.current - 1 : -1;
+				}
+				
+				final int i = this.current;
+				final T item = bp.getItemAt(i);
+				
+				// test the AABBs that start before this one ends
+				while (this.forward < bp.count && bp.sweepMin[this.forward] <= bp.sweepMax[i]) {
+					int j = this.forward++;
+					if (bp.crossMin[i] <= bp.crossMax[j] && bp.crossMax[i] >= bp.crossMin[j]) {
+						T other = bp.getItemAt(j);
+						if (bp.broadphaseFilter.isAllowed(item, other)) {
+							this.nextPair.first = item;
+							this.nextPair.second = other;
+							return true;
+						}
+					}
+				}
+				
+				// test the AABBs that start before this one and could still
+				// reach it (only needed when testing the updated AABBs)
+				double limit = bp.sweepMin[i] - bp.maxExtent;
+				while (this.backward >= 0 && bp.sweepMin[this.backward] >= limit) {
+					int j = this.backward--;
+					// if the other was updated, it will test (or already has tested) this pair
+					if (bp.updatedIndex[bp.sortedProxies[j]] < 0 && 
+						bp.sweepMax[j] >= bp.sweepMin[i] &&
+						bp.crossMin[i] <= bp.crossMax[j] && bp.crossMax[i] >= bp.crossMin[j]) {
+						T other = bp.getItemAt(j);
+						if (bp.broadphaseFilter.isAllowed(item, other)) {
+							this.nextPair.first = item;
+							this.nextPair.second = other;
+							return true;
+						}
+					}
+				}
+				
+				// move to the next AABB
+				this.current = -1;
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * A specialized iterator for detecting {@link AABB}s in this broadphase that 
+	 * overlap a given {@link AABB}.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectAABBIterator implements Iterator<T> {
+		/** The minimum value of the AABB along the sweep axis */
+		private final double sweepMin;
+		
+		/** The maximum value of the AABB along the sweep axis */
+		private final double sweepMax;
+		
+		/** The minimum value of the AABB along the other axis */
+		private final double crossMin;
+		
+		/** The maximum value of the AABB along the other axis */
+		private final double crossMax;
+		
+		/** The next position to test */
+		private int position;
+		
+		/** The next item */
+		private T nextItem;
+		
+		/**
+		 * Minimal constructor.
+		 * @param aabb the {@link AABB} to test with
+		 */
+		public DetectAABBIterator(AABB aabb) {
+			final BoxPruning<T> bp = BoxPruning.this;
+			this.sweepMin = bp.sweepX ? aabb.getMinX() : aabb.getMinY();
+			this.sweepMax = bp.sweepX ? aabb.getMaxX() : aabb.getMaxY();
+			this.crossMin = bp.sweepX ? aabb.getMinY() : aabb.getMinX();
+			this.crossMax = bp.sweepX ? aabb.getMaxY() : aabb.getMaxX();
+			this.position = bp.getFirstPosition(this.sweepMin);
+			this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Finds the next overlapping {@link AABB} and places it in the nextItem field.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final BoxPruning<T> bp = BoxPruning.this;
+			this.nextItem = null;
+			
+			// test the AABBs until they start after the given AABB ends
+			while (this.position < bp.count && bp.sweepMin[this.position] <= this.sweepMax) {
+				int i = this.position++;
+				if (bp.sweepMax[i] >= this.sweepMin &&
+					bp.crossMin[i] <= this.crossMax &&
+					bp.crossMax[i] >= this.crossMin) {
+					this.nextItem = bp.getItemAt(i);
+					return true;
+				}
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * A specialized iterator for detecting {@link AABB}s in this broadphase that 
+	 * are intersected by a given {@link Ray}.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectRayIterator implements Iterator<T> {
+		/** The ray start x coordinate */
+		private final double startX;
+		
+		/** The ray start y coordinate */
+		private final double startY;
+		
+		/** The ray length */
+		private final double length;
+		
+		/** The minimum value of the ray's AABB along the sweep axis */
+		private final double sweepMin;
+		
+		/** The maximum value of the ray's AABB along the sweep axis */
+		private final double sweepMax;
+		
+		/** The minimum value of the ray's AABB along the other axis */
+		private final double crossMin;
+		
+		/** The maximum value of the ray's AABB along the other axis */
+		private final double crossMax;
+		
+		/** The inverse of the ray's x direction */
+		private final double invDx;
+		
+		/** The inverse of the ray's y direction */
+		private final double invDy;
+		
+		/** The next position to test */
+		private int position;
+		
+		/** The next item */
+		private T nextItem;
+		
+		/**
+		 * Minimal constructor.
+		 * @param ray the {@link Ray}
+		 * @param length the length of the ray; 0.0 for infinite length
+		 */
+		public DetectRayIterator(Ray ray, double length) {
+			final BoxPruning<T> bp = BoxPruning.this;
+			
+			// create an aabb from the ray
+			Vector2 s = ray.getStart();
+			Vector2 d = ray.getDirectionVector();
+			
+			// get the length
+			double l = length;
+			if (length <= 0.0) l = Double.MAX_VALUE;
+			this.length = l;
+			
+			// compute the coordinates
+			double x1 = s.x;
+			double x2 = s.x + d.x * l;
+			double y1 = s.y;
+			double y2 = s.y + d.y * l;
+			
+			this.startX = x1;
+			this.startY = y1;
+			
+			// compute the aabb
+			double minX = Math.min(x1, x2);
+			double minY = Math.min(y1, y2);
+			double maxX = Math.max(x1, x2);
+			double maxY = Math.max(y1, y2);
+			this.sweepMin = bp.sweepX ? minX : minY;
+			this.sweepMax = bp.sweepX ? maxX : maxY;
+			this.crossMin = bp.sweepX ? minY : minX;
+			this.crossMax = bp.sweepX ? maxY : maxX;
+			
+			// precompute
+			this.invDx = 1.0 / d.x;
+			this.invDy = 1.0 / d.y;
+			
+			this.position = bp.getFirstPosition(this.sweepMin);
+			this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Finds the next {@link AABB} intersected by the ray and places it in the nextItem field.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final BoxPruning<T> bp = BoxPruning.this;
+			this.nextItem = null;
+			
+			// test the AABBs until they start after the ray's AABB ends
+			while (this.position < bp.count && bp.sweepMin[this.position] <= this.sweepMax) {
+				int i = this.position++;
+				if (bp.sweepMax[i] >= this.sweepMin &&
+					bp.crossMin[i] <= this.crossMax &&
+					bp.crossMax[i] >= this.crossMin) {
+					boolean hit = bp.sweepX ?
+						AbstractBroadphaseDetector.raycast(this.startX, this.startY, this.length, this.invDx, this.invDy, 
+							bp.sweepMin[i], bp.crossMin[i], bp.sweepMax[i], bp.crossMax[i]) :
+						AbstractBroadphaseDetector.raycast(this.startX, this.startY, this.length, this.invDx, this.invDy, 
+							bp.crossMin[i], bp.sweepMin[i], bp.crossMax[i], bp.sweepMax[i]);
+					if (hit) {
+						this.nextItem = bp.getItemAt(i);
+						return true;
+					}
+				}
+			}
+			
+			return false;
+		}
+	}
+}
@@ -78,7 +78,7 @@ import org.dyn4j.geometry.Transform;
  * {@link CollisionBody}, avoid overriding these methods.  When using subclasses of {@link CollisionItem}, avoid
  * reusing those object as the hashcode and equals method depends upon the content.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 1.0.0
  * @param <T> the object type
  */
@@ -306,6 +306,22 @@ public interface BroadphaseDetector<T> extends Shiftable {
 	 */
 	public abstract Iterator<T> raycastIterator(Ray ray, double length);
 	
+	/**
+	 * Performs a closest-hit raycast over the objects in this broad-phase, reporting the
+	 * items that intersect to the given listener.
+	 * <p>
+	 * The listener returns the new length of the ray after each item, typically the distance
+	 * to the closest narrowphase hit so far.  Items whose AABBs are beyond the current length
+	 * are not reported.  Implementations may report the items in order of the distance along 
+	 * the ray to their AABBs so that the ray is shortened as early as possible.
+	 * @param ray the {@link Ray}
+	 * @param length the length of the ray; 0.0 for infinite length
+	 * @param listener the listener
+	 * @throws NullPointerException if listener is null
+	 * @since 6.1.0
+	 */
+	public abstract void raycast(Ray ray, double length, BroadphaseRaycastListener<T> listener);
+	
 	/**
 	 * Returns true if this broad-phase detector considers the given objects to be in collision.
 	 * @param a the first object
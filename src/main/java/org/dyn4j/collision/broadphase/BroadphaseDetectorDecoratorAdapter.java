@@ -36,12 +36,17 @@ import org.dyn4j.geometry.Vector2;
 
 /**
  * A default implementation of the the {@link BroadphaseDetectorDecorator} interface.
+ * <p>
+ * The {@link PairTrackingBroadphaseDetector} methods are delegated when the decorated detector
+ * implements that interface.  Otherwise pair tracking is reported as unsupported.  Likewise, the
+ * {@link PreparableBroadphaseDetector#prepare()} method is delegated when the decorated detector
+ * implements that interface and does nothing otherwise.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  * @param <T> the object type
  */
-public class BroadphaseDetectorDecoratorAdapter<T> implements BroadphaseDetectorDecorator<T>, BroadphaseDetector<T> {
+public class BroadphaseDetectorDecoratorAdapter<T> implements BroadphaseDetectorDecorator<T>, BroadphaseDetector<T>, PairTrackingBroadphaseDetector<T>, PreparableBroadphaseDetector<T> {
 	/** The wrapped detector */
 	protected final BroadphaseDetector<T> detector;
 
@@ -219,6 +224,14 @@ public class BroadphaseDetectorDecoratorAdapter<T> implements BroadphaseDetector
 	public Iterator<T> raycastIterator(Ray ray, double length) {
 		return this.detector.raycastIterator(ray, length);
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#raycast(org.dyn4j.geometry.Ray, double, org.dyn4j.collision.broadphase.BroadphaseRaycastListener)
+	 */
+	@Override
+	public void raycast(Ray ray, double length, BroadphaseRaycastListener<T> listener) {
+		this.detector.raycast(ray, length, listener);
+	}
 
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detect(java.lang.Object, java.lang.Object)
@@ -260,6 +273,58 @@ public class BroadphaseDetectorDecoratorAdapter<T> implements BroadphaseDetector
 		this.detector.setUpdateTrackingEnabled(flag);
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingSupported()
+	 */
+	@Override
+	public boolean isPairTrackingSupported() {
+		if (this.detector instanceof PairTrackingBroadphaseDetector) {
+			return ((PairTrackingBroadphaseDetector<T>)this.detector).isPairTrackingSupported();
+		}
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingEnabled()
+	 */
+	@Override
+	public boolean isPairTrackingEnabled() {
+		if (this.detector instanceof PairTrackingBroadphaseDetector) {
+			return ((PairTrackingBroadphaseDetector<T>)this.detector).isPairTrackingEnabled();
+		}
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#setPairTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setPairTrackingEnabled(boolean flag) {
+		if (this.detector instanceof PairTrackingBroadphaseDetector) {
+			((PairTrackingBroadphaseDetector<T>)this.detector).setPairTrackingEnabled(flag);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#updatePairs(org.dyn4j.collision.broadphase.BroadphasePairListener)
+	 */
+	@Override
+	public void updatePairs(BroadphasePairListener<T> listener) {
+		if (this.detector instanceof PairTrackingBroadphaseDetector) {
+			((PairTrackingBroadphaseDetector<T>)this.detector).updatePairs(listener);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PreparableBroadphaseDetector#prepare()
+	 */
+	@Override
+	public void prepare() {
+		if (this.detector instanceof PreparableBroadphaseDetector) {
+			((PreparableBroadphaseDetector<T>)this.detector).prepare();
+		}
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#getAABBProducer()
 	 */
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+/**
+ * Represents a listener for the objects found by a closest-hit raycast of a {@link BroadphaseDetector}.
+ * <p>
+ * The listener is typically used to perform the narrowphase raycast for each object reported and
+ * returns the distance to the closest hit found so far.  The broadphase uses the returned distance
+ * to shorten the ray so that objects beyond the closest hit are not reported.
+ * <p>
+ * Implementations should not modify the {@link BroadphaseDetector} reporting the objects.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ * @see BroadphaseDetector#raycast(org.dyn4j.geometry.Ray, double, BroadphaseRaycastListener)
+ */
+public interface BroadphaseRaycastListener<T> {
+	/**
+	 * Called for each object whose AABB is intersected by the ray within the given length.
+	 * <p>
+	 * Return the given length to continue with the same length or a shorter length to clip
+	 * the ray.  Returning a value less than or equal to zero ends the raycast.
+	 * @param object the object
+	 * @param length the current length of the ray
+	 * @return double the new length of the ray
+	 */
+	public abstract double raycast(T object, double length);
+}
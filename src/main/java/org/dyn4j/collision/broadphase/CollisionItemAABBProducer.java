@@ -28,6 +28,8 @@ import org.dyn4j.collision.CollisionBody;
 import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.collision.Fixture;
 import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Polygon;
 import org.dyn4j.geometry.Transform;
 
 /**
@@ -35,8 +37,11 @@ import org.dyn4j.geometry.Transform;
  * <p>
  * This class produces a tight fitting AABB around the {@link CollisionItem}'s {@link Fixture} using the
  * {@link CollisionBody}'s current transform.
+ * <p>
+ * As of 6.1.0, the world space vertices of {@link Polygon}s with the vertex cache enabled are updated
+ * using the {@link CollisionBody}'s current transform before the AABB is computed.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  * @param <T> the {@link CollisionBody} type
  * @param <E> the {@link Fixture} type
@@ -50,7 +55,11 @@ public final class CollisionItemAABBProducer<T extends CollisionBody<E>, E exten
 		CollisionBody<?> body = object.getBody();
 		Fixture fixture = object.getFixture();
 		Transform tx = body.getTransform();
-		AABB aabb = fixture.getShape().createAABB(tx);
+		Convex convex = fixture.getShape();
+		if (convex instanceof Polygon) {
+			((Polygon)convex).updateVertexCache(tx);
+		}
+		AABB aabb = convex.createAABB(tx);
 		return aabb;
 	}
 
@@ -62,7 +71,10 @@ public final class CollisionItemAABBProducer<T extends CollisionBody<E>, E exten
 		CollisionBody<?> body = object.getBody();
 		Fixture fixture = object.getFixture();
 		Transform tx = body.getTransform();
-		fixture.getShape().computeAABB(tx, result);
-		
+		Convex convex = fixture.getShape();
+		if (convex instanceof Polygon) {
+			((Polygon)convex).updateVertexCache(tx);
+		}
+		convex.computeAABB(tx, result);
 	}
 }
@@ -25,16 +25,20 @@
 package org.dyn4j.collision.broadphase;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.exception.ArgumentNullException;
 import org.dyn4j.geometry.AABB;
 import org.dyn4j.geometry.Ray;
 import org.dyn4j.geometry.Vector2;
@@ -45,7 +49,7 @@ import org.dyn4j.geometry.Vector2;
  * This class uses a self-balancing binary tree to store the AABBs.  The AABBs are sorted using the perimeter.
  * The perimeter hueristic is better than area for 2D because axis aligned segments would have zero area.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.0.0
  * @param <T> the object type
  */
@@ -61,6 +65,27 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 	
 	/** A reusable {@link AABB} for updates to reduce allocation */
 	private final AABB updatedAABB;
+	
+	/** The id to assign to the next leaf */
+	private long nextLeafId;
+	
+	/** True if the overlapping pairs are being tracked */
+	private boolean pairTrackingEnabled;
+	
+	/** The leaves added or moved since the last pair update */
+	private final List<DynamicAABBTreeLeaf<T>> moved;
+	
+	/** The pairs removed along with their objects since the last pair update (stored as first, second, first, second, ...) */
+	private final List<T> removedPairs;
+	
+	/** The reusable heap of nodes to visit for raycasts */
+	private DynamicAABBTreeNode[] raycastNodes;
+	
+	/** The reusable entry distances of the nodes in the raycast heap */
+	private double[] raycastEntries;
+	
+	/** True if a raycast is using the reusable raycast heap */
+	private final AtomicBoolean raycastHeapInUse;
 
 	/**
 	 * Default constructor.
@@ -93,6 +118,13 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		this.leaves = new LinkedHashMap<T, DynamicAABBTreeLeaf<T>>(initialCapacity * 4 / 3 + 1, 0.75f);
 		this.updated = new LinkedHashMap<T, DynamicAABBTreeLeaf<T>>(initialCapacity * 4 / 3 + 1, 0.75f);
 		this.updatedAABB = new AABB(0,0,0,0);
+		this.nextLeafId = 0;
+		this.pairTrackingEnabled = false;
+		this.moved = new ArrayList<DynamicAABBTreeLeaf<T>>();
+		this.removedPairs = new ArrayList<T>();
+		this.raycastNodes = new DynamicAABBTreeNode[8];
+		this.raycastEntries = new double[8];
+		this.raycastHeapInUse = new AtomicBoolean(false);
 	}
 	
 	/* (non-Javadoc)
@@ -143,6 +175,7 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		// create a new node for the body
 		DynamicAABBTreeLeaf<T> node = new DynamicAABBTreeLeaf<T>(obj);
 		node.aabb.set(this.updatedAABB);
+		node.id = this.nextLeafId++;
 		// add the proxy to the map
 		this.leaves.put(obj, node);
 		// insert the node into the tree
@@ -151,6 +184,11 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		if (this.updateTrackingEnabled) {
 			this.updated.put(obj, node);
 		}
+		// are we tracking pairs?
+		if (this.pairTrackingEnabled) {
+			node.pairs = new LinkedHashSet<DynamicAABBTreeLeaf<T>>();
+			this.markMoved(node);
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -165,6 +203,10 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 			// remove the node from the tree
 			this.updated.remove(obj);
 			this.remove(node);
+			// remove the node's pairs
+			if (this.pairTrackingEnabled) {
+				this.removePairs(node);
+			}
 			return true;
 		}
 		return false;
@@ -246,6 +288,10 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		if (this.updateTrackingEnabled) {
 			this.updated.put(obj, node);
 		}
+		// are we tracking pairs?
+		if (this.pairTrackingEnabled) {
+			this.markMoved(node);
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -318,8 +364,167 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 	public void clear() {
 		this.leaves.clear();
 		this.updated.clear();
+		this.moved.clear();
+		this.removedPairs.clear();
 		this.root = null;
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingSupported()
+	 */
+	@Override
+	public boolean isPairTrackingSupported() {
+		return true;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#isPairTrackingEnabled()
+	 */
+	@Override
+	public boolean isPairTrackingEnabled() {
+		return this.pairTrackingEnabled;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#setPairTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setPairTrackingEnabled(boolean flag) {
+		if (this.pairTrackingEnabled == flag) {
+			return;
+		}
+		
+		this.pairTrackingEnabled = flag;
+		this.moved.clear();
+		this.removedPairs.clear();
+		
+		for (DynamicAABBTreeLeaf<T> leaf : this.leaves.values()) {
+			leaf.moved = false;
+			if (flag) {
+				// all the pairs will be reported as added in the next update
+				leaf.pairs = new LinkedHashSet<DynamicAABBTreeLeaf<T>>();
+				this.markMoved(leaf);
+			} else {
+				leaf.pairs = null;
+			}
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector#updatePairs(org.dyn4j.collision.broadphase.BroadphasePairListener)
+	 */
+	@Override
+	public void updatePairs(BroadphasePairListener<T> listener) {
+		if (!this.pairTrackingEnabled) {
+			return;
+		}
+		
+		// report the pairs that were removed along with their objects
+		int rSize = this.removedPairs.size();
+		for (int i = 0; i < rSize; i += 2) {
+			listener.pairRemoved(this.removedPairs.get(i), this.removedPairs.get(i + 1));
+		}
+		this.removedPairs.clear();
+		
+		// only the pairs of the leaves that moved could have changed
+		// NOTE: leaves that were removed after they moved are skipped
+		int mSize = this.moved.size();
+		for (int i = 0; i < mSize; i++) {
+			DynamicAABBTreeLeaf<T> leaf = this.moved.get(i);
+			if (leaf.pairs == null) continue;
+			Iterator<DynamicAABBTreeLeaf<T>> pairs = leaf.pairs.iterator();
+			while (pairs.hasNext()) {
+				DynamicAABBTreeLeaf<T> other = pairs.next();
+				if (!leaf.aabb.overlaps(other.aabb)) {
+					pairs.remove();
+					other.pairs.remove(leaf);
+					listener.pairRemoved(leaf.item, other.item);
+				}
+			}
+		}
+		
+		for (int i = 0; i < mSize; i++) {
+			DynamicAABBTreeLeaf<T> leaf = this.moved.get(i);
+			if (leaf.pairs != null) {
+				this.addPairs(leaf, listener);
+			}
+			leaf.moved = false;
+		}
+		this.moved.clear();
+	}
+	
+	/**
+	 * Marks the given leaf as moved so that its pairs are updated
+	 * in the next call to {@link #updatePairs(BroadphasePairListener)}.
+	 * @param leaf the leaf
+	 */
+	private void markMoved(DynamicAABBTreeLeaf<T> leaf) {
+		if (!leaf.moved) {
+			leaf.moved = true;
+			this.moved.add(leaf);
+		}
+	}
+	
+	/**
+	 * Removes all the pairs of the given leaf and buffers them to be
+	 * reported in the next call to {@link #updatePairs(BroadphasePairListener)}.
+	 * <p>
+	 * This method assumes the leaf has already been removed from the tree.
+	 * @param leaf the leaf being removed
+	 */
+	private void removePairs(DynamicAABBTreeLeaf<T> leaf) {
+		for (DynamicAABBTreeLeaf<T> other : leaf.pairs) {
+			other.pairs.remove(leaf);
+			this.removedPairs.add(leaf.item);
+			this.removedPairs.add(other.item);
+		}
+		// the leaf is skipped if it's in the list of moved leaves
+		leaf.pairs = null;
+	}
+	
+	/**
+	 * Adds any new pairs for the given leaf and reports them to the given listener.
+	 * @param leaf the leaf
+	 * @param listener the listener to report the new pairs to
+	 */
+	private void addPairs(DynamicAABBTreeLeaf<T> leaf, BroadphasePairListener<T> listener) {
+		DynamicAABBTreeNode node = this.root;
+		// perform a iterative, stack-less, traversal of the tree
+		while (node != null) {
+			if (node.aabb.overlaps(leaf.aabb)) {
+				if (node.left != null) {
+					node = node.left;
+					continue;
+				}
+				
+				@SuppressWarnings("unchecked")
+				DynamicAABBTreeLeaf<T> other = (DynamicAABBTreeLeaf<T>)node;
+				// pairs already being tracked were reported when they were added
+				if (other != leaf && 
+					this.broadphaseFilter.isAllowed(other.item, leaf.item) && 
+					leaf.pairs.add(other)) {
+					other.pairs.add(leaf);
+					listener.pairAdded(leaf.item, other.item);
+				}
+			}
+			
+			// go back up the tree until we find the first left
+			// node and move to its sibling
+			boolean nextNodeFound = false;
+			while (node.parent != null) {
+				if (node == node.parent.left) {
+					node = node.parent.right;
+					nextNodeFound = true;
+					break;
+				}
+				node = node.parent;
+			}
+			
+			if (!nextNodeFound) {
+				break;
+			}
+		}
+	}
 
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#size()
@@ -335,9 +540,9 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 	@Override
 	public Iterator<CollisionPair<T>> detectIterator(boolean forceFullDetection) {
 		if (forceFullDetection || !this.updateTrackingEnabled) {
-			return new DetectPairsIterator(this.leaves.values().iterator());
+			return new DetectPairsIterator(this.leaves.values().iterator(), false);
 		}
-		return new DetectPairsIterator(this.updated.values().iterator());
+		return new DetectPairsIterator(this.updated.values().iterator(), true);
 	}
 	
 	/* (non-Javadoc)
@@ -356,6 +561,166 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		return new DetectRayIterator(ray, length);
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#raycast(org.dyn4j.geometry.Ray, double, org.dyn4j.collision.broadphase.BroadphaseRaycastListener)
+	 */
+	@Override
+	public void raycast(Ray ray, double length, BroadphaseRaycastListener<T> listener) {
+		if (listener == null)
+			throw new ArgumentNullException("listener");
+		
+		if (this.root == null) {
+			return;
+		}
+		
+		Vector2 s = ray.getStart();
+		Vector2 d = ray.getDirectionVector();
+		double sx = s.x;
+		double sy = s.y;
+		double invDx = 1.0 / d.x;
+		double invDy = 1.0 / d.y;
+		
+		double l = length;
+		if (length <= 0.0) l = Double.MAX_VALUE;
+		
+		if (AbstractBroadphaseDetector.raycastEntry(sx, sy, l, invDx, invDy, this.root.aabb) < 0) {
+			return;
+		}
+		
+		// visit the nodes front to back using a priority queue (binary min-heap)
+		// of the nodes to visit keyed by the distance along the ray where the ray
+		// enters them so that the ray can be shortened as early as possible
+		int capacity = Math.max(8, this.root.height * 2 + 2);
+		
+		// reuse the heap storage unless another raycast (on another thread
+		// or from within a listener) is already using it
+		boolean reuse = this.raycastHeapInUse.compareAndSet(false, true);
+		DynamicAABBTreeNode[] nodes;
+		double[] entries;
+		if (reuse && this.raycastNodes.length >= capacity) {
+			nodes = this.raycastNodes;
+			entries = this.raycastEntries;
+		} else {
+			nodes = new DynamicAABBTreeNode[capacity];
+			entries = new double[capacity];
+		}
+		int size = 0;
+		
+		try {
+			nodes[size] = this.root;
+			entries[size] = 0.0;
+			size++;
+			
+			while (size > 0) {
+				// the ray may have been shortened since the node was queued and
+				// since this is the nearest node, all the others are farther
+				if (entries[0] > l) {
+					return;
+				}
+				
+				DynamicAABBTreeNode node = nodes[0];
+				
+				// remove the nearest node
+				size--;
+				siftDown(nodes, entries, size, nodes[size], entries[size]);
+				nodes[size] = null;
+				
+				if (node.left == null) {
+					@SuppressWarnings("unchecked")
+					DynamicAABBTreeLeaf<T> leaf = (DynamicAABBTreeLeaf<T>)node;
+					double nl = listener.raycast(leaf.item, l);
+					if (nl <= 0.0) {
+						return;
+					}
+					if (nl < l) {
+						l = nl;
+					}
+					continue;
+				}
+				
+				// make sure we have room for both children
+				if (size + 2 > nodes.length) {
+					nodes = Arrays.copyOf(nodes, nodes.length * 2);
+					entries = Arrays.copyOf(entries, entries.length * 2);
+				}
+				
+				double el = AbstractBroadphaseDetector.raycastEntry(sx, sy, l, invDx, invDy, node.left.aabb);
+				if (el >= 0) {
+					siftUp(nodes, entries, size++, node.left, el);
+				}
+				
+				double er = AbstractBroadphaseDetector.raycastEntry(sx, sy, l, invDx, invDy, node.right.aabb);
+				if (er >= 0) {
+					siftUp(nodes, entries, size++, node.right, er);
+				}
+			}
+		} finally {
+			// don't hold on to the nodes after the raycast
+			Arrays.fill(nodes, 0, size, null);
+			if (reuse) {
+				this.raycastNodes = nodes;
+				this.raycastEntries = entries;
+				this.raycastHeapInUse.set(false);
+			}
+		}
+	}
+	
+	/**
+	 * Inserts the given node into the given binary min-heap at the given index and moves it up
+	 * until its parent's entry distance is less than or equal to its own.
+	 * @param nodes the nodes of the heap
+	 * @param entries the entry distances of the nodes of the heap
+	 * @param index the index to insert at; the current size of the heap
+	 * @param node the node to insert
+	 * @param entry the entry distance of the node
+	 * @since 6.1.0
+	 */
+	private static void siftUp(DynamicAABBTreeNode[] nodes, double[] entries, int index, DynamicAABBTreeNode node, double entry) {
+		while (index > 0) {
+			int parent = (index - 1) >> 1;
+			if (entries[parent] <= entry) {
+				break;
+			}
+			nodes[index] = nodes[parent];
+			entries[index] = entries[parent];
+			index = parent;
+		}
+		nodes[index] = node;
+		entries[index] = entry;
+	}
+	
+	/**
+	 * Places the given node at the root of the given binary min-heap and moves it down
+	 * until its children's entry distances are greater than or equal to its own.
+	 * @param nodes the nodes of the heap
+	 * @param entries the entry distances of the nodes of the heap
+	 * @param size the size of the heap not including the given node's current position
+	 * @param node the node to place
+	 * @param entry the entry distance of the node
+	 * @since 6.1.0
+	 */
+	private static void siftDown(DynamicAABBTreeNode[] nodes, double[] entries, int size, DynamicAABBTreeNode node, double entry) {
+		int index = 0;
+		int half = size >> 1;
+		while (index < half) {
+			int child = (index << 1) + 1;
+			int right = child + 1;
+			if (right < size && entries[right] < entries[child]) {
+				child = right;
+			}
+			if (entry <= entries[child]) {
+				break;
+			}
+			nodes[index] = nodes[child];
+			entries[index] = entries[child];
+			index = child;
+		}
+		if (size > 0) {
+			nodes[index] = node;
+			entries[index] = entry;
+		}
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -881,8 +1246,8 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		/** The iterator for all {@link AABB}s to test against the broadphase */
 		private final Iterator<DynamicAABBTreeLeaf<T>> iterator;
 		
-		/** A map to track the pairs already tested */
-		private final Map<T, Boolean> tested;
+		/** True if only the updated leaves are being tested */
+		private final boolean updatedOnly;
 		
 		/** Internal state to track the current {@link AABB} we're testing the broadphase with */
 		private DynamicAABBTreeLeaf<T> currentLeaf;
@@ -902,10 +1267,11 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 		/**
 		 * Minimal constructor.
 		 * @param bodyIterator an Iterator for the {@link AABB}s to test agains the broadphase
+		 * @param updatedOnly true if the iterator is only for the updated leaves
 		 */
-		public DetectPairsIterator(Iterator<DynamicAABBTreeLeaf<T>> bodyIterator) {
+		public DetectPairsIterator(Iterator<DynamicAABBTreeLeaf<T>> bodyIterator, boolean updatedOnly) {
 			this.iterator = bodyIterator;
-			this.tested = new HashMap<T, Boolean>();
+			this.updatedOnly = updatedOnly;
 			this.currentPair = new BroadphasePair<T>();
 			this.nextPair = new BroadphasePair<T>();
 			this.hasNext = this.findNext();
@@ -1008,8 +1374,10 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 						
 						// don't compare nodes among themselves
 						if (DynamicAABBTree.this.broadphaseFilter.isAllowed(leaf.item, node.item)) {
-							// have we already tested this pair?
-							boolean tested = this.tested.containsKey(leaf.item);
+							// have we already tested this pair? when both leaves are being
+							// tested, the pair is only reported by the one added first
+							boolean tested = leaf.id < node.id && 
+									(!this.updatedOnly || DynamicAABBTree.this.updated.containsKey(leaf.item));
 							
 							// check the tested flag to avoid duplicates and
 							// verify we aren't testing the same body against
@@ -1058,9 +1426,6 @@ public final class DynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
 					// this indicates that we're done testing the currentLeaf against
 					// the entire broadphase
 					
-					// make sure the leaf is marked as already tested
-					this.tested.put(this.currentLeaf.item, true);
-					
 					// make sure the next call to hasNext gets the next AABB to test
 					this.currentLeaf = null;
 					
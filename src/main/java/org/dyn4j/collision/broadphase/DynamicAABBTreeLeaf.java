@@ -24,12 +24,14 @@
  */
 package org.dyn4j.collision.broadphase;
 
+import java.util.Set;
+
 /**
  * Represents a leaf node in a {@link DynamicAABBTree}.
  * <p>
  * The leaf nodes in a {@link DynamicAABBTree} are the nodes that contain the object AABBs.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 3.2.0
  * @param <T> the object type
  */
@@ -37,6 +39,15 @@ final class DynamicAABBTreeLeaf<T> extends DynamicAABBTreeNode {
 	/** The collsion item */
 	final T item;
 	
+	/** The order in which the leaf was added to the tree */
+	long id;
+	
+	/** The leaves whose AABBs overlap this leaf's AABB; null when pair tracking is disabled or the leaf was removed */
+	Set<DynamicAABBTreeLeaf<T>> pairs;
+	
+	/** True if the leaf has been added or moved since the last pair update */
+	boolean moved;
+	
 	/**
 	 * Minimal constructor.
 	 * @param item the collision item
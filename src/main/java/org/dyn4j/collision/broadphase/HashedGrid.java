@@ -0,0 +1,1662 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.exception.ValueOutOfRangeException;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Implementation of a hashed uniform grid broad-phase collision detection algorithm.
+ * <p>
+ * This class divides space into square cells of a fixed size and places each object in every cell its
+ * AABB overlaps.  Only the cells that contain objects are stored, in an open-addressed hash table keyed
+ * by the cell coordinates.  The cell contents and the object AABBs are stored in primitive arrays that 
+ * are reused so that updates don't allocate once the arrays have grown to their working size.
+ * <p>
+ * This broadphase works best when the objects are of similar size and the cell size is close to the 
+ * size of the objects, for example, particle-like scenes with many circles of the same radius.  Large 
+ * objects will occupy many cells and slow down updates and detection.  Use the occupancy metrics, like 
+ * {@link #getAverageCellOccupancy()} and {@link #getAverageCellsPerProxy()}, to tune the cell size.
+ * <p>
+ * Raycasts walk the cells along the ray, in order, using a digital differential analyzer.  The ray is
+ * clipped to the bounds of all the objects in the grid first.
+ * <p>
+ * Since the AABBs are not stored as {@link AABB}s, the {@link #getAABB(Object)} method returns a new {@link AABB}
+ * for objects that are in the broadphase.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ */
+public final class HashedGrid<T> extends AbstractBroadphaseDetector<T> {
+	/** The index used to represent the absence of a proxy or entry */
+	private static final int NULL_INDEX = -1;
+	
+	/** The cell head value for slots in the cell table that are not in use */
+	private static final int UNUSED_SLOT = -2;
+	
+	/** The minimum capacity of the cell table */
+	private static final int MINIMUM_CELL_CAPACITY = 16;
+	
+	/** The size of a cell */
+	private final double cellSize;
+	
+	/** The inverse of the cell size */
+	private final double invCellSize;
+	
+	// proxies
+	
+	/** The minimum x value of each proxy's AABB */
+	private double[] minX;
+	
+	/** The minimum y value of each proxy's AABB */
+	private double[] minY;
+	
+	/** The maximum x value of each proxy's AABB */
+	private double[] maxX;
+	
+	/** The maximum y value of each proxy's AABB */
+	private double[] maxY;
+	
+	/** The minimum cell x coordinate of each proxy */
+	private int[] cellMinX;
+	
+	/** The minimum cell y coordinate of each proxy */
+	private int[] cellMinY;
+	
+	/** The maximum cell x coordinate of each proxy */
+	private int[] cellMaxX;
+	
+	/** The maximum cell y coordinate of each proxy */
+	private int[] cellMaxY;
+	
+	/** The object of each proxy; null for free proxies */
+	private Object[] items;
+	
+	/** The position of each proxy in the proxy list; for free proxies this is the next free proxy */
+	private int[] listIndex;
+	
+	/** The position of each proxy in the updated array; -1 if the proxy hasn't been updated */
+	private int[] updatedIndex;
+	
+	/** All the proxies in this broadphase */
+	private int[] list;
+	
+	/** The number of proxies */
+	private int count;
+	
+	/** The proxies that were updated since the last detection phase */
+	private int[] updated;
+	
+	/** The number of updated proxies */
+	private int updatedCount;
+	
+	/** The head of the list of free proxies */
+	private int freeProxy;
+	
+	/** Object to proxy id map for fast lookup */
+	private final ProxyIndexMap<T> proxies;
+	
+	// cells
+	
+	/** The packed coordinates of each cell in the cell table */
+	private long[] cellKeys;
+	
+	/** The first entry of each cell in the cell table; {@link #UNUSED_SLOT} for unused slots */
+	private int[] cellHeads;
+	
+	/** The number of entries in each cell in the cell table */
+	private int[] cellCounts;
+	
+	/** The number of slots in use in the cell table, including cells that are now empty */
+	private int usedSlots;
+	
+	/** The number of cells that contain at least one entry */
+	private int occupiedCells;
+	
+	// entries
+	
+	/** The proxy of each entry */
+	private int[] entryProxy;
+	
+	/** The next entry in the same cell; for free entries this is the next free entry */
+	private int[] entryNext;
+	
+	/** The head of the list of free entries */
+	private int freeEntry;
+	
+	/** The number of entries in use */
+	private int entryCount;
+	
+	/** A reusable {@link AABB} for updates to reduce allocation */
+	private final AABB updatedAABB;
+	
+	/**
+	 * Default constructor.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer
+	 * @param aabbExpansionMethod the AABB expansion method
+	 * @param cellSize the size of the cells
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 * @throws IllegalArgumentException if cellSize is less than or equal to zero
+	 */
+	public HashedGrid(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod, double cellSize) {
+		this(broadphaseFilter, aabbProducer, aabbExpansionMethod, cellSize, BroadphaseDetector.DEFAULT_INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Optional constructor.
+	 * <p>
+	 * Allows fine tuning of the initial capacity of local storage for faster running times.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer; cannot be null
+	 * @param aabbExpansionMethod the AABB expansion method; cannot be null
+	 * @param cellSize the size of the cells
+	 * @param initialCapacity the initial capacity of local storage
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 * @throws IllegalArgumentException if cellSize is less than or equal to zero or initialCapacity is less than zero
+	 */
+	public HashedGrid(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod, double cellSize, int initialCapacity) {
+		super(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		
+		if (!(cellSize > 0.0) || Double.isInfinite(cellSize))
+			throw new ValueOutOfRangeException("cellSize", cellSize, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0.0);
+		
+		if (initialCapacity < 0)
+			throw new ValueOutOfRangeException("initialCapacity", initialCapacity, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+		
+		this.cellSize = cellSize;
+		this.invCellSize = 1.0 / cellSize;
+		
+		int capacity = Math.max(initialCapacity, 1);
+		
+		this.minX = new double[capacity];
+		this.minY = new double[capacity];
+		this.maxX = new double[capacity];
+		this.maxY = new double[capacity];
+		this.cellMinX = new int[capacity];
+		this.cellMinY = new int[capacity];
+		this.cellMaxX = new int[capacity];
+		this.cellMaxY = new int[capacity];
+		this.items = new Object[capacity];
+		this.listIndex = new int[capacity];
+		this.updatedIndex = new int[capacity];
+		this.list = new int[capacity];
+		this.updated = new int[capacity];
+		this.count = 0;
+		this.updatedCount = 0;
+		this.freeProxy = NULL_INDEX;
+		this.linkFreeProxies(0, capacity);
+		Arrays.fill(this.updatedIndex, -1);
+		
+		// objects typically occupy a few cells
+		int cellCapacity = MINIMUM_CELL_CAPACITY;
+		while (cellCapacity < capacity * 4) {
+			cellCapacity <<= 1;
+		}
+		this.cellKeys = new long[cellCapacity];
+		this.cellHeads = new int[cellCapacity];
+		this.cellCounts = new int[cellCapacity];
+		Arrays.fill(this.cellHeads, UNUSED_SLOT);
+		this.usedSlots = 0;
+		this.occupiedCells = 0;
+		
+		this.entryProxy = new int[capacity * 4];
+		this.entryNext = new int[capacity * 4];
+		this.freeEntry = NULL_INDEX;
+		this.entryCount = 0;
+		this.linkFreeEntries(0, capacity * 4);
+		
+		this.proxies = new ProxyIndexMap<T>(initialCapacity);
+		this.updatedAABB = new AABB(0,0,0,0);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#getAABB(java.lang.Object)
+	 */
+	@Override
+	public AABB getAABB(T object) {
+		int proxy = this.proxies.get(object);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			int p = proxy;
+			return new AABB(this.minX[p], this.minY[p], this.maxX[p], this.maxY[p]);
+		} else {
+			AABB aabb = this.aabbProducer.compute(object);
+			if (aabb.isDegenerate()) {
+				return aabb;
+			}
+			
+			this.aabbExpansionMethod.expand(object, aabb);
+			return aabb;
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#detect(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public boolean detect(T a, T b) {
+		int proxyA = this.proxies.get(a);
+		int proxyB = this.proxies.get(b);
+		// test the stored AABBs directly if we have them
+		if (proxyA != ProxyIndexMap.NOT_FOUND && proxyB != ProxyIndexMap.NOT_FOUND) {
+			return this.overlaps(proxyA, proxyB);
+		}
+		return super.detect(a, b);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#add(java.lang.Object)
+	 */
+	@Override
+	public void add(T obj) {
+		// see if the object has already been added
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.updateProxy(obj, proxy);
+		} else {
+			this.addProxy(obj);
+		}
+	}
+	
+	/**
+	 * Internal add method.
+	 * <p>
+	 * This method assumes the given object is non-null and has not
+	 * been added to the broadphase already.
+	 * @param obj the object to add
+	 */
+	private void addProxy(T obj) {
+		// compute the aabb
+		this.aabbProducer.compute(obj, this.updatedAABB);
+		// expand the aabb
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+		// create a new proxy for the object
+		int proxy = this.allocateProxy();
+		this.items[proxy] = obj;
+		this.proxies.put(obj, proxy);
+		// add it to the list of proxies
+		this.listIndex[proxy] = this.count;
+		this.list[this.count++] = proxy;
+		// place it in the cells
+		this.setAABB(proxy, this.updatedAABB);
+		this.insertCells(proxy);
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#remove(java.lang.Object)
+	 */
+	@Override
+	public boolean remove(T obj) {
+		// find the proxy in the map
+		int proxy = this.proxies.remove(obj);
+		// make sure it was found
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			int p = proxy;
+			this.unmarkUpdated(p);
+			this.removeCells(p);
+			
+			// remove it from the list of proxies by moving
+			// the last proxy into its place
+			int index = this.listIndex[p];
+			int last = this.list[--this.count];
+			this.list[index] = last;
+			this.listIndex[last] = index;
+			
+			this.freeProxy(p);
+			return true;
+		}
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update()
+	 */
+	@Override
+	public void update() {
+		// updating a proxy doesn't change the list of proxies
+		for (int i = 0; i < this.count; i++) {
+			int proxy = this.list[i];
+			this.updateProxy(this.getItem(proxy), proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update(java.lang.Object)
+	 */
+	@Override
+	public void update(T obj) {
+		// get the proxy from the map
+		int proxy = this.proxies.get(obj);
+		// make sure we found it
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			// update the proxy
+			this.updateProxy(obj, proxy);
+		} else {
+			// add the proxy
+			this.addProxy(obj);
+		}
+	}
+	
+	/**
+	 * Internal update method.
+	 * <p>
+	 * This method assumes the given object is non-null.
+	 * @param obj the object to update
+	 * @param proxy the object's proxy
+	 */
+	private void updateProxy(T obj, int proxy) {
+		// compute the AABB
+		this.aabbProducer.compute(obj, this.updatedAABB);
+		
+		// see if the old AABB contains the new one
+		// NOTE: the old AABB is the expanded AABB and this is how
+		// we handle what's been updated vs. not
+		boolean isNonExpanedNewContainedInExpandedOld =
+				this.minX[proxy] <= this.updatedAABB.getMinX() &&
+				this.maxX[proxy] >= this.updatedAABB.getMaxX() &&
+				this.minY[proxy] <= this.updatedAABB.getMinY() &&
+				this.maxY[proxy] >= this.updatedAABB.getMaxY();
+		
+		// now expand the AABB so that we can do some additional
+		// checking on it and so we can use it later if we find
+		// we need to update it
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+		
+		// now we check if the new non-expanded AABB fits within the
+		// current expanded AABB
+		if (isNonExpanedNewContainedInExpandedOld) {
+			// adapt larger AABBs to smaller ones based on their perimeter
+			// ratio (see DynamicAABBTree for the details)
+			double p0 = 2 * (this.maxX[proxy] - this.minX[proxy] + this.maxY[proxy] - this.minY[proxy]);
+			double p1 = this.updatedAABB.getPerimeter();
+			double ratio = p0 / p1;
+			if (ratio <= AABB_REDUCTION_RATIO) {
+				// if the old AABB is 2x (or less) the size (in perimeter) to the new
+				// then we'll accept it and not update
+				return;
+			}
+		}
+		
+		// only move the proxy to other cells if the cells it occupies change
+		int cx0 = this.getCell(this.updatedAABB.getMinX());
+		int cy0 = this.getCell(this.updatedAABB.getMinY());
+		int cx1 = this.getCell(this.updatedAABB.getMaxX());
+		int cy1 = this.getCell(this.updatedAABB.getMaxY());
+		if (cx0 != this.cellMinX[proxy] || cy0 != this.cellMinY[proxy] ||
+			cx1 != this.cellMaxX[proxy] || cy1 != this.cellMaxY[proxy]) {
+			this.removeCells(proxy);
+			this.setAABB(proxy, this.updatedAABB);
+			this.insertCells(proxy);
+		} else {
+			this.setAABB(proxy, this.updatedAABB);
+		}
+		
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdated(java.lang.Object)
+	 */
+	@Override
+	public boolean isUpdated(T obj) {
+		int proxy = this.proxies.get(obj);
+		if (proxy == ProxyIndexMap.NOT_FOUND) {
+			return false;
+		}
+		
+		if (!this.updateTrackingEnabled) {
+			return true;
+		}
+		
+		return this.updatedIndex[proxy] >= 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#setUpdated(java.lang.Object)
+	 */
+	@Override
+	public void setUpdated(T obj) {
+		if (!this.updateTrackingEnabled) {
+			return;
+		}
+		
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.markUpdated(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#setUpdateTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setUpdateTrackingEnabled(boolean flag) {
+		if (this.updateTrackingEnabled != flag && !flag) {
+			// clear everything so that it doesn't produce
+			// odd results if it's turned back on
+			this.clearUpdates();
+		}
+		super.setUpdateTrackingEnabled(flag);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clearUpdates()
+	 */
+	@Override
+	public void clearUpdates() {
+		for (int i = 0; i < this.updatedCount; i++) {
+			this.updatedIndex[this.updated[i]] = -1;
+		}
+		this.updatedCount = 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#contains(java.lang.Object)
+	 */
+	@Override
+	public boolean contains(T obj) {
+		return this.proxies.containsKey(obj);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clear()
+	 */
+	@Override
+	public void clear() {
+		this.proxies.clear();
+		this.count = 0;
+		this.updatedCount = 0;
+		this.freeProxy = NULL_INDEX;
+		this.linkFreeProxies(0, this.items.length);
+		Arrays.fill(this.updatedIndex, -1);
+		this.clearCells();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#size()
+	 */
+	@Override
+	public int size() {
+		return this.count;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(boolean)
+	 */
+	@Override
+	public Iterator<CollisionPair<T>> detectIterator(boolean forceFullDetection) {
+		if (forceFullDetection || !this.updateTrackingEnabled) {
+			return new DetectPairsIterator(false);
+		}
+		return new DetectPairsIterator(true);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public Iterator<T> detectIterator(AABB aabb) {
+		return new DetectAABBIterator(aabb);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#raycastIterator(org.dyn4j.geometry.Ray, double)
+	 */
+	@Override
+	public Iterator<T> raycastIterator(Ray ray, double length) {
+		return new DetectRayIterator(ray, length);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void shift(Vector2 shift) {
+		// the cells are fixed in space so every proxy
+		// needs to be placed in its new cells
+		this.clearCells();
+		for (int i = 0; i < this.count; i++) {
+			int proxy = this.list[i];
+			this.minX[proxy] += shift.x;
+			this.minY[proxy] += shift.y;
+			this.maxX[proxy] += shift.x;
+			this.maxY[proxy] += shift.y;
+			this.cellMinX[proxy] = this.getCell(this.minX[proxy]);
+			this.cellMinY[proxy] = this.getCell(this.minY[proxy]);
+			this.cellMaxX[proxy] = this.getCell(this.maxX[proxy]);
+			this.cellMaxY[proxy] = this.getCell(this.maxY[proxy]);
+			this.insertCells(proxy);
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdateTrackingSupported()
+	 */
+	@Override
+	public boolean isUpdateTrackingSupported() {
+		return true;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#optimize()
+	 */
+	@Override
+	public void optimize() {
+		// drop the cells that are no longer occupied
+		this.rehash(this.cellKeys.length);
+	}
+	
+	/**
+	 * Returns the size of the cells.
+	 * @return double
+	 */
+	public double getCellSize() {
+		return this.cellSize;
+	}
+	
+	/**
+	 * Returns the number of cells that contain at least one object.
+	 * @return int
+	 */
+	public int getOccupiedCellCount() {
+		return this.occupiedCells;
+	}
+	
+	/**
+	 * Returns the average number of objects in the occupied cells.
+	 * <p>
+	 * A high value indicates that the cell size is too large for the objects.
+	 * @return double
+	 */
+	public double getAverageCellOccupancy() {
+		if (this.occupiedCells == 0) {
+			return 0.0;
+		}
+		return (double)this.entryCount / (double)this.occupiedCells;
+	}
+	
+	/**
+	 * Returns the largest number of objects in a single cell.
+	 * @return int
+	 */
+	public int getMaximumCellOccupancy() {
+		int max = 0;
+		int capacity = this.cellHeads.length;
+		for (int i = 0; i < capacity; i++) {
+			if (this.cellHeads[i] != UNUSED_SLOT) {
+				max = Math.max(max, this.cellCounts[i]);
+			}
+		}
+		return max;
+	}
+	
+	/**
+	 * Returns the average number of cells each object occupies.
+	 * <p>
+	 * A high value indicates that the cell size is too small for the objects.
+	 * @return double
+	 */
+	public double getAverageCellsPerProxy() {
+		if (this.count == 0) {
+			return 0.0;
+		}
+		return (double)this.entryCount / (double)this.count;
+	}
+	
+	/**
+	 * Returns the cell coordinate for the given value.
+	 * @param value the x or y value
+	 * @return int
+	 */
+	private int getCell(double value) {
+		return (int)Math.floor(value * this.invCellSize);
+	}
+	
+	/**
+	 * Returns the object of the given proxy.
+	 * @param proxy the proxy
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	private T getItem(int proxy) {
+		return (T)this.items[proxy];
+	}
+	
+	/**
+	 * Sets the AABB of the given proxy along with the range of cells it occupies.
+	 * @param proxy the proxy
+	 * @param aabb the AABB
+	 */
+	private void setAABB(int proxy, AABB aabb) {
+		this.minX[proxy] = aabb.getMinX();
+		this.minY[proxy] = aabb.getMinY();
+		this.maxX[proxy] = aabb.getMaxX();
+		this.maxY[proxy] = aabb.getMaxY();
+		this.cellMinX[proxy] = this.getCell(aabb.getMinX());
+		this.cellMinY[proxy] = this.getCell(aabb.getMinY());
+		this.cellMaxX[proxy] = this.getCell(aabb.getMaxX());
+		this.cellMaxY[proxy] = this.getCell(aabb.getMaxY());
+	}
+	
+	/**
+	 * Returns true if the AABBs of proxies a and b overlap.
+	 * @param a the first proxy
+	 * @param b the second proxy
+	 * @return boolean
+	 */
+	private boolean overlaps(int a, int b) {
+		return this.minX[a] <= this.maxX[b] &&
+				this.maxX[a] >= this.minX[b] &&
+				this.minY[a] <= this.maxY[b] &&
+				this.maxY[a] >= this.minY[b];
+	}
+	
+	/**
+	 * Returns a free proxy from the free list, growing the storage if necessary.
+	 * @return int the proxy
+	 */
+	private int allocateProxy() {
+		if (this.freeProxy == NULL_INDEX) {
+			this.growProxies();
+		}
+		
+		int proxy = this.freeProxy;
+		this.freeProxy = this.listIndex[proxy];
+		return proxy;
+	}
+	
+	/**
+	 * Returns the given proxy to the free list.
+	 * @param proxy the proxy
+	 */
+	private void freeProxy(int proxy) {
+		this.items[proxy] = null;
+		this.listIndex[proxy] = this.freeProxy;
+		this.freeProxy = proxy;
+	}
+	
+	/**
+	 * Adds the proxies in the range [start, end) to the free list.
+	 * <p>
+	 * The proxies are linked so that the lowest index is allocated first.
+	 * @param start the first proxy
+	 * @param end one past the last proxy
+	 */
+	private void linkFreeProxies(int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			this.freeProxy(i);
+		}
+	}
+	
+	/**
+	 * Doubles the proxy storage and adds the new proxies to the free list.
+	 */
+	private void growProxies() {
+		int capacity = this.items.length;
+		int newCapacity = capacity * 2;
+		
+		this.minX = Arrays.copyOf(this.minX, newCapacity);
+		this.minY = Arrays.copyOf(this.minY, newCapacity);
+		this.maxX = Arrays.copyOf(this.maxX, newCapacity);
+		this.maxY = Arrays.copyOf(this.maxY, newCapacity);
+		this.cellMinX = Arrays.copyOf(this.cellMinX, newCapacity);
+		this.cellMinY = Arrays.copyOf(this.cellMinY, newCapacity);
+		this.cellMaxX = Arrays.copyOf(this.cellMaxX, newCapacity);
+		this.cellMaxY = Arrays.copyOf(this.cellMaxY, newCapacity);
+		this.items = Arrays.copyOf(this.items, newCapacity);
+		this.listIndex = Arrays.copyOf(this.listIndex, newCapacity);
+		this.updatedIndex = Arrays.copyOf(this.updatedIndex, newCapacity);
+		this.list = Arrays.copyOf(this.list, newCapacity);
+		this.updated = Arrays.copyOf(this.updated, newCapacity);
+		
+		Arrays.fill(this.updatedIndex, capacity, newCapacity, -1);
+		this.linkFreeProxies(capacity, newCapacity);
+	}
+	
+	/**
+	 * Adds the given proxy to the list of updated proxies if it's not already there.
+	 * @param proxy the proxy
+	 */
+	private void markUpdated(int proxy) {
+		if (this.updatedIndex[proxy] < 0) {
+			this.updatedIndex[proxy] = this.updatedCount;
+			this.updated[this.updatedCount++] = proxy;
+		}
+	}
+	
+	/**
+	 * Removes the given proxy from the list of updated proxies if it's there.
+	 * @param proxy the proxy
+	 */
+	private void unmarkUpdated(int proxy) {
+		int index = this.updatedIndex[proxy];
+		if (index >= 0) {
+			// move the last updated proxy into its place
+			int last = this.updated[--this.updatedCount];
+			this.updated[index] = last;
+			this.updatedIndex[last] = index;
+			this.updatedIndex[proxy] = -1;
+		}
+	}
+	
+	/**
+	 * Returns a free entry from the free list, growing the storage if necessary.
+	 * @return int the entry
+	 */
+	private int allocateEntry() {
+		if (this.freeEntry == NULL_INDEX) {
+			int capacity = this.entryProxy.length;
+			int newCapacity = capacity * 2;
+			this.entryProxy = Arrays.copyOf(this.entryProxy, newCapacity);
+			this.entryNext = Arrays.copyOf(this.entryNext, newCapacity);
+			this.linkFreeEntries(capacity, newCapacity);
+		}
+		
+		int entry = this.freeEntry;
+		this.freeEntry = this.entryNext[entry];
+		this.entryCount++;
+		return entry;
+	}
+	
+	/**
+	 * Adds the entries in the range [start, end) to the free list.
+	 * @param start the first entry
+	 * @param end one past the last entry
+	 */
+	private void linkFreeEntries(int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			this.entryNext[i] = this.freeEntry;
+			this.freeEntry = i;
+		}
+	}
+	
+	/**
+	 * Returns the packed key of the given cell.
+	 * @param cx the cell x coordinate
+	 * @param cy the cell y coordinate
+	 * @return long
+	 */
+	private static long getKey(int cx, int cy) {
+		return ((long)cx << 32) | (cy & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the first slot to probe in the cell table for the given key.
+	 * @param key the cell key
+	 * @param mask the cell table capacity minus one
+	 * @return int
+	 */
+	private static int getSlot(long key, int mask) {
+		// mix the bits so that neighboring cells are spread out
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h >>> 32) & mask;
+	}
+	
+	/**
+	 * Returns the slot of the given cell in the cell table or -1 if the cell isn't in the table.
+	 * @param cx the cell x coordinate
+	 * @param cy the cell y coordinate
+	 * @return int
+	 */
+	private int findCell(int cx, int cy) {
+		long key = getKey(cx, cy);
+		int mask = this.cellKeys.length - 1;
+		int slot = getSlot(key, mask);
+		// linear probing
+		while (this.cellHeads[slot] != UNUSED_SLOT) {
+			if (this.cellKeys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns the first entry of the given cell or {@link #NULL_INDEX} if the cell is empty.
+	 * @param cx the cell x coordinate
+	 * @param cy the cell y coordinate
+	 * @return int
+	 */
+	private int getCellHead(int cx, int cy) {
+		int slot = this.findCell(cx, cy);
+		if (slot < 0) {
+			return NULL_INDEX;
+		}
+		return this.cellHeads[slot];
+	}
+	
+	/**
+	 * Adds the given proxy to all the cells it occupies.
+	 * @param proxy the proxy
+	 */
+	private void insertCells(int proxy) {
+		for (int cy = this.cellMinY[proxy]; cy <= this.cellMaxY[proxy]; cy++) {
+			for (int cx = this.cellMinX[proxy]; cx <= this.cellMaxX[proxy]; cx++) {
+				this.insertCell(cx, cy, proxy);
+			}
+		}
+	}
+	
+	/**
+	 * Adds the given proxy to the given cell.
+	 * @param cx the cell x coordinate
+	 * @param cy the cell y coordinate
+	 * @param proxy the proxy
+	 */
+	private void insertCell(int cx, int cy, int proxy) {
+		int slot = this.findCell(cx, cy);
+		if (slot < 0) {
+			// keep the table at most half full so that probing stays short
+			if ((this.usedSlots + 1) * 2 > this.cellKeys.length) {
+				this.rehash(this.cellKeys.length);
+			}
+			
+			long key = getKey(cx, cy);
+			int mask = this.cellKeys.length - 1;
+			slot = getSlot(key, mask);
+			while (this.cellHeads[slot] != UNUSED_SLOT) {
+				slot = (slot + 1) & mask;
+			}
+			this.cellKeys[slot] = key;
+			this.cellHeads[slot] = NULL_INDEX;
+			this.cellCounts[slot] = 0;
+			this.usedSlots++;
+		}
+		
+		if (this.cellHeads[slot] == NULL_INDEX) {
+			this.occupiedCells++;
+		}
+		
+		int entry = this.allocateEntry();
+		this.entryProxy[entry] = proxy;
+		this.entryNext[entry] = this.cellHeads[slot];
+		this.cellHeads[slot] = entry;
+		this.cellCounts[slot]++;
+	}
+	
+	/**
+	 * Removes the given proxy from all the cells it occupies.
+	 * <p>
+	 * Empty cells are left in the cell table until it's rehashed.
+	 * @param proxy the proxy
+	 */
+	private void removeCells(int proxy) {
+		for (int cy = this.cellMinY[proxy]; cy <= this.cellMaxY[proxy]; cy++) {
+			for (int cx = this.cellMinX[proxy]; cx <= this.cellMaxX[proxy]; cx++) {
+				int slot = this.findCell(cx, cy);
+				if (slot < 0) {
+					continue;
+				}
+				
+				// unlink the proxy's entry
+				int previous = NULL_INDEX;
+				int entry = this.cellHeads[slot];
+				while (entry != NULL_INDEX) {
+					int next = this.entryNext[entry];
+					if (this.entryProxy[entry] == proxy) {
+						if (previous == NULL_INDEX) {
+							this.cellHeads[slot] = next;
+						} else {
+							this.entryNext[previous] = next;
+						}
+						this.entryNext[entry] = this.freeEntry;
+						this.freeEntry = entry;
+						this.entryCount--;
+						this.cellCounts[slot]--;
+						if (this.cellHeads[slot] == NULL_INDEX) {
+							this.occupiedCells--;
+						}
+						break;
+					}
+					previous = entry;
+					entry = next;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Removes all the cells and entries.
+	 */
+	private void clearCells() {
+		Arrays.fill(this.cellHeads, UNUSED_SLOT);
+		this.usedSlots = 0;
+		this.occupiedCells = 0;
+		this.freeEntry = NULL_INDEX;
+		this.entryCount = 0;
+		this.linkFreeEntries(0, this.entryProxy.length);
+	}
+	
+	/**
+	 * Rebuilds the cell table dropping the empty cells, growing it if it would be
+	 * more than a quarter full.
+	 * @param capacity the minimum capacity
+	 */
+	private void rehash(int capacity) {
+		int newCapacity = Math.max(capacity, MINIMUM_CELL_CAPACITY);
+		while (this.occupiedCells * 4 > newCapacity) {
+			newCapacity <<= 1;
+		}
+		
+		long[] keys = this.cellKeys;
+		int[] heads = this.cellHeads;
+		int[] counts = this.cellCounts;
+		
+		this.cellKeys = new long[newCapacity];
+		this.cellHeads = new int[newCapacity];
+		this.cellCounts = new int[newCapacity];
+		Arrays.fill(this.cellHeads, UNUSED_SLOT);
+		this.usedSlots = 0;
+		
+		int mask = newCapacity - 1;
+		for (int i = 0; i < heads.length; i++) {
+			// only keep the occupied cells
+			if (heads[i] >= 0) {
+				int slot = getSlot(keys[i], mask);
+				while (this.cellHeads[slot] != UNUSED_SLOT) {
+					slot = (slot + 1) & mask;
+				}
+				this.cellKeys[slot] = keys[i];
+				this.cellHeads[slot] = heads[i];
+				this.cellCounts[slot] = counts[i];
+				this.usedSlots++;
+			}
+		}
+	}
+	
+	/**
+	 * Returns true if the proxies and cells are consistent.
+	 * <p>
+	 * Used for testing.
+	 * @return boolean
+	 */
+	boolean isValid() {
+		if (this.count != this.proxies.size()) {
+			return false;
+		}
+		
+		int entries = 0;
+		int occupied = 0;
+		for (int i = 0; i < this.cellHeads.length; i++) {
+			if (this.cellHeads[i] == UNUSED_SLOT) {
+				continue;
+			}
+			int n = 0;
+			int entry = this.cellHeads[i];
+			while (entry != NULL_INDEX) {
+				int proxy = this.entryProxy[entry];
+				int cx = (int)(this.cellKeys[i] >> 32);
+				int cy = (int)this.cellKeys[i];
+				if (this.items[proxy] == null ||
+					cx < this.cellMinX[proxy] || cx > this.cellMaxX[proxy] ||
+					cy < this.cellMinY[proxy] || cy > this.cellMaxY[proxy]) {
+					return false;
+				}
+				n++;
+				entry = this.entryNext[entry];
+			}
+			if (n != this.cellCounts[i]) {
+				return false;
+			}
+			if (n > 0) {
+				occupied++;
+			}
+			entries += n;
+		}
+		
+		int expected = 0;
+		for (int i = 0; i < this.count; i++) {
+			int proxy = this.list[i];
+			if (this.listIndex[proxy] != i || this.items[proxy] == null) {
+				return false;
+			}
+			expected += (this.cellMaxX[proxy] - this.cellMinX[proxy] + 1) * (this.cellMaxY[proxy] - this.cellMinY[proxy] + 1);
+		}
+		
+		return entries == this.entryCount && entries == expected && occupied == this.occupiedCells;
+	}
+	
+	/**
+	 * A specialized iterator for detecting pairs of colliding {@link AABB}s in this broaphase.
+	 * <p>
+	 * A pair of proxies can share more than one cell, so a pair is only reported from the 
+	 * first cell they share.  Like the other detectors, any proxy whose position is before
+	 * the current proxy in the list being tested has already reported its pairs.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectPairsIterator implements Iterator<CollisionPair<T>> {
+		/** True if only the updated proxies should be tested */
+		private final boolean updatedOnly;
+		
+		/** The number of proxies to test */
+		private final int count;
+		
+		/** The position of the next proxy to test the broadphase with */
+		private int index;
+		
+		/** The proxy we're testing the broadphase with; -1 if none */
+		private int current;
+		
+		/** The x coordinate of the current cell */
+		private int cellX;
+		
+		/** The y coordinate of the current cell */
+		private int cellY;
+		
+		/** The next entry to test in the current cell */
+		private int entry;
+		
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> currentPair;
+		
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> nextPair;
+		
+		/** True if there's another pair */
+		private boolean hasNext;
+		
+		/**
+		 * Minimal constructor.
+		 * @param updatedOnly true if only the updated proxies should be tested
+		 */
+		public DetectPairsIterator(boolean updatedOnly) {
+			this.updatedOnly = updatedOnly;
+			this.count = updatedOnly ? HashedGrid.this.updatedCount : HashedGrid.this.count;
+			this.index = 0;
+			this.current = NULL_INDEX;
+			this.currentPair = new BroadphasePair<T>();
+			this.nextPair = new BroadphasePair<T>();
+			this.hasNext = this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.hasNext;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public CollisionPair<T> next() {
+			if (this.hasNext) {
+				// copy over to the one we return
+				this.currentPair.first = this.nextPair.first;
+				this.currentPair.second = this.nextPair.second;
+				
+				// find the next pair
+				this.hasNext = this.findNext();
+				
+				// return the current pair
+				return this.currentPair;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Returns the position of the given proxy in the list being tested
+		 * or -1 if it's not in the list.
+		 * @param proxy the proxy
+		 * @return int
+		 */
+		private int getPosition(int proxy) {
+			if (this.updatedOnly) {
+				return HashedGrid.this.updatedIndex[proxy];
+			}
+			return HashedGrid.this.listIndex[proxy];
+		}
+		
+		/**
+		 * Returns true if there's another pair to process and sets
+		 * the nextPair field to that pair.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final HashedGrid<T> grid = HashedGrid.this;
+			
+			while (this.current != NULL_INDEX || this.index < this.count) {
+				// if there's no current proxy, then grab the next one
+				if (this.current == NULL_INDEX) {
+					this.current = this.updatedOnly ? grid.updated[this.index] : grid.list[this.index];
+					this.index++;
+					this.cellX = grid.cellMinX[this.current];
+					this.cellY = grid.cellMinY[this.current];
+					this.entry = grid.getCellHead(this.cellX, this.cellY);
+				}
+				
+				final int p = this.current;
+				while (true) {
+					// test the proxies in the current cell
+					while (this.entry != NULL_INDEX) {
+						int q = grid.entryProxy[this.entry];
+						this.entry = grid.entryNext[this.entry];
+						
+						// only report the pair in the first cell they share
+						if (q == p || 
+							this.cellX != Math.max(grid.cellMinX[p], grid.cellMinX[q]) ||
+							this.cellY != Math.max(grid.cellMinY[p], grid.cellMinY[q])) {
+							continue;
+						}
+						
+						// have we already tested this pair?
+						int position = this.getPosition(q);
+						if (position >= 0 && position < this.index - 1) {
+							continue;
+						}
+						
+						if (grid.overlaps(p, q)) {
+							T item = grid.getItem(p);
+							T other = grid.getItem(q);
+							if (grid.broadphaseFilter.isAllowed(item, other)) {
+								this.nextPair.first = item;
+								this.nextPair.second = other;
+								return true;
+							}
+						}
+					}
+					
+					// move to the next cell
+					this.cellX++;
+					if (this.cellX > grid.cellMaxX[p]) {
+						this.cellX = grid.cellMinX[p];
+						this.cellY++;
+						if (this.cellY > grid.cellMaxY[p]) {
+							break;
+						}
+					}
+					this.entry = grid.getCellHead(this.cellX, this.cellY);
+				}
+				
+				// move to the next proxy
+				this.current = NULL_INDEX;
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * A specialized iterator for detecting {@link AABB}s in this broadphase that 
+	 * overlap a given {@link AABB}.
+	 * <p>
+	 * When the given {@link AABB} covers more cells than there are proxies, the proxies
+	 * are tested directly rather than walking the cells.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectAABBIterator implements Iterator<T> {
+		/** The minimum x value of the AABB */
+		private final double minX;
+		
+		/** The minimum y value of the AABB */
+		private final double minY;
+		
+		/** The maximum x value of the AABB */
+		private final double maxX;
+		
+		/** The maximum y value of the AABB */
+		private final double maxY;
+		
+		/** The minimum cell x coordinate of the AABB */
+		private final int cellMinX;
+		
+		/** The minimum cell y coordinate of the AABB */
+		private final int cellMinY;
+		
+		/** The maximum cell x coordinate of the AABB */
+		private final int cellMaxX;
+		
+		/** The maximum cell y coordinate of the AABB */
+		private final int cellMaxY;
+		
+		/** True if the proxies should be tested directly */
+		private final boolean direct;
+		
+		/** The x coordinate of the current cell */
+		private int cellX;
+		
+		/** The y coordinate of the current cell */
+		private int cellY;
+		
+		/** The next entry to test in the current cell or the next proxy position when testing directly */
+		private int entry;
+		
+		/** The next item */
+		private T nextItem;
+		
+		/**
+		 * Minimal constructor.
+		 * @param aabb the {@link AABB} to test with
+		 */
+		public DetectAABBIterator(AABB aabb) {
+			final HashedGrid<T> grid = HashedGrid.this;
+			this.minX = aabb.getMinX();
+			this.minY = aabb.getMinY();
+			this.maxX = aabb.getMaxX();
+			this.maxY = aabb.getMaxY();
+			
+			// compute the cell range using doubles to avoid overflow
+			double cx0 = Math.floor(this.minX * grid.invCellSize);
+			double cy0 = Math.floor(this.minY * grid.invCellSize);
+			double cx1 = Math.floor(this.maxX * grid.invCellSize);
+			double cy1 = Math.floor(this.maxY * grid.invCellSize);
+			double cells = (cx1 - cx0 + 1.0) * (cy1 - cy0 + 1.0);
+			
+			this.direct = !(cells <= grid.count);
+			this.cellMinX = (int)cx0;
+			this.cellMinY = (int)cy0;
+			this.cellMaxX = (int)cx1;
+			this.cellMaxY = (int)cy1;
+			
+			if (this.direct) {
+				this.entry = 0;
+			} else {
+				this.cellX = this.cellMinX;
+				this.cellY = this.cellMinY;
+				this.entry = grid.getCellHead(this.cellX, this.cellY);
+			}
+			
+			this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Returns true if the given proxy's AABB overlaps the AABB.
+		 * @param proxy the proxy
+		 * @return boolean
+		 */
+		private boolean overlaps(int proxy) {
+			final HashedGrid<T> grid = HashedGrid.this;
+			return this.minX <= grid.maxX[proxy] &&
+					this.maxX >= grid.minX[proxy] &&
+					this.minY <= grid.maxY[proxy] &&
+					this.maxY >= grid.minY[proxy];
+		}
+		
+		/**
+		 * Finds the next overlapping {@link AABB} and places it in the nextItem field.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final HashedGrid<T> grid = HashedGrid.this;
+			this.nextItem = null;
+			
+			if (this.direct) {
+				while (this.entry < grid.count) {
+					int proxy = grid.list[this.entry++];
+					if (this.overlaps(proxy)) {
+						this.nextItem = grid.getItem(proxy);
+						return true;
+					}
+				}
+				return false;
+			}
+			
+			while (true) {
+				while (this.entry != NULL_INDEX) {
+					int proxy = grid.entryProxy[this.entry];
+					this.entry = grid.entryNext[this.entry];
+					
+					// only report the proxy in the first cell it shares with the AABB
+					if (this.cellX == Math.max(grid.cellMinX[proxy], this.cellMinX) &&
+						this.cellY == Math.max(grid.cellMinY[proxy], this.cellMinY) &&
+						this.overlaps(proxy)) {
+						this.nextItem = grid.getItem(proxy);
+						return true;
+					}
+				}
+				
+				// move to the next cell
+				this.cellX++;
+				if (this.cellX > this.cellMaxX) {
+					this.cellX = this.cellMinX;
+					this.cellY++;
+					if (this.cellY > this.cellMaxY) {
+						return false;
+					}
+				}
+				this.entry = grid.getCellHead(this.cellX, this.cellY);
+			}
+		}
+	}
+	
+	/**
+	 * A specialized iterator for detecting {@link AABB}s in this broadphase that 
+	 * are intersected by a given {@link Ray}.
+	 * <p>
+	 * The cells along the ray are visited in order from the start of the ray using a
+	 * digital differential analyzer.  A proxy is only reported in the first cell along
+	 * the ray that it occupies.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectRayIterator implements Iterator<T> {
+		/** The ray start x coordinate */
+		private final double startX;
+		
+		/** The ray start y coordinate */
+		private final double startY;
+		
+		/** The ray length */
+		private final double length;
+		
+		/** The inverse of the ray's x direction */
+		private final double invDx;
+		
+		/** The inverse of the ray's y direction */
+		private final double invDy;
+		
+		/** The cell step along the x axis */
+		private final int stepX;
+		
+		/** The cell step along the y axis */
+		private final int stepY;
+		
+		/** The distance along the ray between x cell boundaries */
+		private final double deltaX;
+		
+		/** The distance along the ray between y cell boundaries */
+		private final double deltaY;
+		
+		/** The distance along the ray to the next x cell boundary */
+		private double nextX;
+		
+		/** The distance along the ray to the next y cell boundary */
+		private double nextY;
+		
+		/** The number of cells left to visit after the current */
+		private int remaining;
+		
+		/** The x coordinate of the previous cell; only valid if hasPrevious is true */
+		private int previousX;
+		
+		/** The y coordinate of the previous cell; only valid if hasPrevious is true */
+		private int previousY;
+		
+		/** True if a cell was visited before the current cell */
+		private boolean hasPrevious;
+		
+		/** The x coordinate of the current cell */
+		private int cellX;
+		
+		/** The y coordinate of the current cell */
+		private int cellY;
+		
+		/** The next entry to test in the current cell */
+		private int entry;
+		
+		/** The next item */
+		private T nextItem;
+		
+		/**
+		 * Minimal constructor.
+		 * @param ray the {@link Ray}
+		 * @param length the length of the ray; 0.0 for infinite length
+		 */
+		public DetectRayIterator(Ray ray, double length) {
+			final HashedGrid<T> grid = HashedGrid.this;
+			
+			Vector2 s = ray.getStart();
+			Vector2 d = ray.getDirectionVector();
+			
+			// get the length
+			double l = length;
+			if (length <= 0.0) l = Double.MAX_VALUE;
+			this.length = l;
+			
+			this.startX = s.x;
+			this.startY = s.y;
+			
+			// precompute
+			this.invDx = 1.0 / d.x;
+			this.invDy = 1.0 / d.y;
+			
+			this.stepX = d.x > 0.0 ? 1 : (d.x < 0.0 ? -1 : 0);
+			this.stepY = d.y > 0.0 ? 1 : (d.y < 0.0 ? -1 : 0);
+			this.deltaX = this.stepX != 0 ? Math.abs(grid.cellSize * this.invDx) : Double.POSITIVE_INFINITY;
+			this.deltaY = this.stepY != 0 ? Math.abs(grid.cellSize * this.invDy) : Double.POSITIVE_INFINITY;
+			
+			this.entry = NULL_INDEX;
+			this.remaining = -1;
+			this.hasPrevious = false;
+			
+			// clip the ray to the bounds of all the proxies
+			if (grid.count == 0) {
+				return;
+			}
+			
+			double bMinX = Double.POSITIVE_INFINITY;
+			double bMinY = Double.POSITIVE_INFINITY;
+			double bMaxX = Double.NEGATIVE_INFINITY;
+			double bMaxY = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < grid.count; i++) {
+				int proxy = grid.list[i];
+				bMinX = Math.min(bMinX, grid.minX[proxy]);
+				bMinY = Math.min(bMinY, grid.minY[proxy]);
+				bMaxX = Math.max(bMaxX, grid.maxX[proxy]);
+				bMaxY = Math.max(bMaxY, grid.maxY[proxy]);
+			}
+			
+			double t0 = 0.0;
+			double t1 = l;
+			if (this.stepX == 0) {
+				if (s.x < bMinX || s.x > bMaxX) return;
+			} else {
+				double tx1 = (bMinX - s.x) * this.invDx;
+				double tx2 = (bMaxX - s.x) * this.invDx;
+				t0 = Math.max(t0, Math.min(tx1, tx2));
+				t1 = Math.min(t1, Math.max(tx1, tx2));
+			}
+			if (this.stepY == 0) {
+				if (s.y < bMinY || s.y > bMaxY) return;
+			} else {
+				double ty1 = (bMinY - s.y) * this.invDy;
+				double ty2 = (bMaxY - s.y) * this.invDy;
+				t0 = Math.max(t0, Math.min(ty1, ty2));
+				t1 = Math.min(t1, Math.max(ty1, ty2));
+			}
+			
+			if (t0 > t1) {
+				return;
+			}
+			
+			// find the first and last cells
+			double x0 = s.x + d.x * t0;
+			double y0 = s.y + d.y * t0;
+			double x1 = s.x + d.x * t1;
+			double y1 = s.y + d.y * t1;
+			
+			this.cellX = grid.getCell(x0);
+			this.cellY = grid.getCell(y0);
+			int endX = grid.getCell(x1);
+			int endY = grid.getCell(y1);
+			
+			// the DDA moves one cell along one axis at a time
+			this.remaining = Math.abs(endX - this.cellX) + Math.abs(endY - this.cellY);
+			
+			// compute the distance along the ray to the first cell boundaries
+			if (this.stepX > 0) {
+				this.nextX = ((this.cellX + 1) * grid.cellSize - s.x) * this.invDx;
+			} else if (this.stepX < 0) {
+				this.nextX = (this.cellX * grid.cellSize - s.x) * this.invDx;
+			} else {
+				this.nextX = Double.POSITIVE_INFINITY;
+			}
+			if (this.stepY > 0) {
+				this.nextY = ((this.cellY + 1) * grid.cellSize - s.y) * this.invDy;
+			} else if (this.stepY < 0) {
+				this.nextY = (this.cellY * grid.cellSize - s.y) * this.invDy;
+			} else {
+				this.nextY = Double.POSITIVE_INFINITY;
+			}
+			
+			this.entry = grid.getCellHead(this.cellX, this.cellY);
+			this.findNext();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+		
+		/**
+		 * Finds the next {@link AABB} intersected by the ray and places it in the nextItem field.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final HashedGrid<T> grid = HashedGrid.this;
+			this.nextItem = null;
+			
+			if (this.remaining < 0) {
+				return false;
+			}
+			
+			while (true) {
+				while (this.entry != NULL_INDEX) {
+					int proxy = grid.entryProxy[this.entry];
+					this.entry = grid.entryNext[this.entry];
+					
+					// the cells along the ray that a proxy occupies are visited one after
+					// another, so if it occupied the previous cell we've already tested it
+					if (this.hasPrevious &&
+						this.previousX >= grid.cellMinX[proxy] && this.previousX <= grid.cellMaxX[proxy] &&
+						this.previousY >= grid.cellMinY[proxy] && this.previousY <= grid.cellMaxY[proxy]) {
+						continue;
+					}
+					
+					if (AbstractBroadphaseDetector.raycast(
+							this.startX, this.startY, this.length, this.invDx, this.invDy,
+							grid.minX[proxy], grid.minY[proxy], grid.maxX[proxy], grid.maxY[proxy])) {
+						this.nextItem = grid.getItem(proxy);
+						return true;
+					}
+				}
+				
+				// are we done?
+				if (this.remaining == 0) {
+					this.remaining = -1;
+					return false;
+				}
+				this.remaining--;
+				
+				// move to the next cell along the ray
+				this.previousX = this.cellX;
+				this.previousY = this.cellY;
+				this.hasPrevious = true;
+				if (this.nextX < this.nextY) {
+					this.cellX += this.stepX;
+					this.nextX += this.deltaX;
+				} else {
+					this.cellY += this.stepY;
+					this.nextY += this.deltaY;
+				}
+				this.entry = grid.getCellHead(this.cellX, this.cellY);
+			}
+		}
+	}
+}
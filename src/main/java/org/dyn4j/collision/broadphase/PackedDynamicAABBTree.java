@@ -0,0 +1,1718 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.exception.ValueOutOfRangeException;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Implementation of a self-balancing axis-aligned bounding box tree broad-phase collision detection algorithm
+ * that stores the tree in primitive arrays.
+ * <p>
+ * This class uses the same insertion, removal and balancing logic as the {@link DynamicAABBTree}, but each node
+ * is identified by an integer index rather than an object.  The bounds, links and heights of the nodes are stored
+ * in parallel primitive arrays and nodes that are removed from the tree are placed in a free list to be reused.
+ * This keeps the tree compact in memory for traversal and allows the tree to be updated without allocating once
+ * the arrays have grown to their working size.
+ * <p>
+ * The index of an object's leaf node is used as its proxy id.  The proxy id of an object does not change while
+ * the object is in the broadphase, so updates only perform a single map lookup.
+ * <p>
+ * Since the bounds are not stored as {@link AABB}s, the {@link #getAABB(Object)} method returns a new {@link AABB}
+ * for objects that are in the broadphase.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ */
+public final class PackedDynamicAABBTree<T> extends AbstractBroadphaseDetector<T> {
+	/** The index used to represent the absence of a node */
+	private static final int NULL_NODE = -1;
+
+	/** The root node of the tree */
+	private int root;
+
+	/** The head of the list of free nodes */
+	private int free;
+
+	/** The minimum x value of each node's AABB */
+	private double[] minX;
+
+	/** The minimum y value of each node's AABB */
+	private double[] minY;
+
+	/** The maximum x value of each node's AABB */
+	private double[] maxX;
+
+	/** The maximum y value of each node's AABB */
+	private double[] maxY;
+
+	/** The parent of each node; for free nodes this is the next free node */
+	private int[] parent;
+
+	/** The left child of each node */
+	private int[] left;
+
+	/** The right child of each node */
+	private int[] right;
+
+	/** The height of each node; -1 for free nodes */
+	private int[] height;
+
+	/** The object stored in each leaf node; null for all other nodes */
+	private Object[] items;
+
+	/** The position of each leaf node in the leaves array */
+	private int[] leafIndex;
+
+	/** The position of each leaf node in the updated array; -1 if the leaf hasn't been updated */
+	private int[] updatedIndex;
+
+	/** The leaf nodes of all objects in this broadphase */
+	private int[] leaves;
+
+	/** The number of leaf nodes */
+	private int leafCount;
+
+	/** The leaf nodes that were updated since the last detection phase */
+	private int[] updated;
+
+	/** The number of updated leaf nodes */
+	private int updatedCount;
+
+	/** Object to proxy id map for fast lookup */
+	private final ProxyIndexMap<T> proxies;
+	
+	/** Reusable storage for the leaf nodes sorted by {@link #optimize()} */
+	private int[] sortedLeaves;
+	
+	/** Reusable storage for the perimeters of the leaf nodes sorted by {@link #optimize()} */
+	private double[] sortedPerimeters;
+
+	/** A reusable {@link AABB} for updates to reduce allocation */
+	private final AABB updatedAABB;
+
+	/**
+	 * Default constructor.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer
+	 * @param aabbExpansionMethod the AABB expansion method
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 */
+	public PackedDynamicAABBTree(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod) {
+		this(broadphaseFilter, aabbProducer, aabbExpansionMethod, BroadphaseDetector.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Optional constructor.
+	 * <p>
+	 * Allows fine tuning of the initial capacity of local storage for faster running times.
+	 * @param broadphaseFilter the broadphase filter
+	 * @param aabbProducer the AABB producer; cannot be null
+	 * @param aabbExpansionMethod the AABB expansion method; cannot be null
+	 * @param initialCapacity the initial capacity of local storage
+	 * @throws NullPointerException if broadphaseFilter, aabbProducer or aabbExpansionMethod are null
+	 * @throws IllegalArgumentException if initialCapacity is less than zero
+	 */
+	public PackedDynamicAABBTree(BroadphaseFilter<T> broadphaseFilter, AABBProducer<T> aabbProducer, AABBExpansionMethod<T> aabbExpansionMethod, int initialCapacity) {
+		super(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+
+		if (initialCapacity < 0)
+			throw new ValueOutOfRangeException("initialCapacity", initialCapacity, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+
+		// a tree with n leaf nodes has 2n - 1 nodes
+		int capacity = Math.max(initialCapacity * 2, 2);
+
+		this.minX = new double[capacity];
+		this.minY = new double[capacity];
+		this.maxX = new double[capacity];
+		this.maxY = new double[capacity];
+		this.parent = new int[capacity];
+		this.left = new int[capacity];
+		this.right = new int[capacity];
+		this.height = new int[capacity];
+		this.items = new Object[capacity];
+		this.leafIndex = new int[capacity];
+		this.updatedIndex = new int[capacity];
+		this.leaves = new int[capacity];
+		this.updated = new int[capacity];
+
+		this.root = NULL_NODE;
+		this.free = NULL_NODE;
+		this.leafCount = 0;
+		this.updatedCount = 0;
+		this.linkFreeNodes(0, capacity);
+		Arrays.fill(this.updatedIndex, -1);
+
+		this.proxies = new ProxyIndexMap<T>(initialCapacity);
+		this.sortedLeaves = new int[0];
+		this.sortedPerimeters = new double[0];
+		this.updatedAABB = new AABB(0,0,0,0);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#getAABB(java.lang.Object)
+	 */
+	@Override
+	public AABB getAABB(T object) {
+		int node = this.proxies.get(object);
+		if (node != ProxyIndexMap.NOT_FOUND) {
+			return new AABB(this.minX[node], this.minY[node], this.maxX[node], this.maxY[node]);
+		} else {
+			AABB aabb = this.aabbProducer.compute(object);
+			if (aabb.isDegenerate()) {
+				return aabb;
+			}
+
+			this.aabbExpansionMethod.expand(object, aabb);
+			return aabb;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#detect(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public boolean detect(T a, T b) {
+		int proxyA = this.proxies.get(a);
+		int proxyB = this.proxies.get(b);
+		// test the stored AABBs directly if we have them
+		if (proxyA != ProxyIndexMap.NOT_FOUND && proxyB != ProxyIndexMap.NOT_FOUND) {
+			return this.overlaps(proxyA, proxyB);
+		}
+		return super.detect(a, b);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#add(java.lang.Object)
+	 */
+	@Override
+	public void add(T obj) {
+		// see if the object has already been added
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.updateNode(obj, proxy);
+		} else {
+			this.addNode(obj);
+		}
+	}
+
+	/**
+	 * Internal add method.
+	 * <p>
+	 * This method assumes the given object is non-null and has not
+	 * been added to the tree already.
+	 * @param obj the object to add
+	 */
+	private void addNode(T obj) {
+		// compute the aabb
+		this.aabbProducer.compute(obj, this.updatedAABB);
+		// expand the aabb
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+		// create a new leaf node for the object
+		int node = this.allocateNode();
+		this.setAABB(node, this.updatedAABB);
+		this.items[node] = obj;
+		// add the proxy to the map
+		this.proxies.put(obj, node);
+		// add the node to the list of leaves
+		this.leafIndex[node] = this.leafCount;
+		this.leaves[this.leafCount++] = node;
+		// insert the node into the tree
+		this.insertLeaf(node);
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(node);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#remove(java.lang.Object)
+	 */
+	@Override
+	public boolean remove(T obj) {
+		// find the node in the map
+		int node = this.proxies.remove(obj);
+		// make sure it was found
+		if (node != ProxyIndexMap.NOT_FOUND) {
+			this.unmarkUpdated(node);
+
+			// remove it from the list of leaves by moving
+			// the last leaf into its place
+			int index = this.leafIndex[node];
+			int last = this.leaves[--this.leafCount];
+			this.leaves[index] = last;
+			this.leafIndex[last] = index;
+
+			// remove the node from the tree
+			this.removeLeaf(node);
+			this.freeNode(node);
+			return true;
+		}
+		return false;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update()
+	 */
+	@Override
+	public void update() {
+		// updating a node doesn't change the list of leaves
+		for (int i = 0; i < this.leafCount; i++) {
+			int node = this.leaves[i];
+			this.updateNode(this.getItem(node), node);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#update(java.lang.Object)
+	 */
+	@Override
+	public void update(T obj) {
+		// get the node from the map
+		int proxy = this.proxies.get(obj);
+		// make sure we found it
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			// update the node
+			this.updateNode(obj, proxy);
+		} else {
+			// add the node
+			this.addNode(obj);
+		}
+	}
+
+	/**
+	 * Internal update method.
+	 * <p>
+	 * This method assumes the given object is non-null.
+	 * @param obj the object to update
+	 * @param node the object's leaf node
+	 */
+	private void updateNode(T obj, int node) {
+		// compute the AABB
+		this.aabbProducer.compute(obj, this.updatedAABB);
+
+		// see if the old AABB contains the new one
+		// NOTE: the old AABB is the expanded AABB and this is how
+		// we handle what's been updated vs. not
+		boolean isNonExpanedNewContainedInExpandedOld =
+				this.minX[node] <= this.updatedAABB.getMinX() &&
+				this.maxX[node] >= this.updatedAABB.getMaxX() &&
+				this.minY[node] <= this.updatedAABB.getMinY() &&
+				this.maxY[node] >= this.updatedAABB.getMaxY();
+
+		// now expand the AABB so that we can do some additional
+		// checking on it and so we can use it later if we find
+		// we need to update it
+		this.aabbExpansionMethod.expand(obj, this.updatedAABB);
+
+		// now we check if the new non-expanded AABB fits within the
+		// current expanded AABB
+		if (isNonExpanedNewContainedInExpandedOld) {
+			// adapt larger AABBs to smaller ones based on their perimeter
+			// ratio (see DynamicAABBTree for the details)
+			double p0 = this.getPerimeter(node);
+			double p1 = this.updatedAABB.getPerimeter();
+			double ratio = p0 / p1;
+			if (ratio <= AABB_REDUCTION_RATIO) {
+				// if the old AABB is 2x (or less) the size (in perimeter) to the new
+				// then we'll accept it and not update
+				return;
+			}
+		}
+
+		// remove the current node from the tree
+		this.removeLeaf(node);
+		// set the new aabb
+		this.setAABB(node, this.updatedAABB);
+		// reinsert the node
+		this.insertLeaf(node);
+		// are we tracking updates?
+		if (this.updateTrackingEnabled) {
+			this.markUpdated(node);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdated(java.lang.Object)
+	 */
+	@Override
+	public boolean isUpdated(T obj) {
+		int proxy = this.proxies.get(obj);
+		if (proxy == ProxyIndexMap.NOT_FOUND) {
+			return false;
+		}
+
+		if (!this.updateTrackingEnabled) {
+			return true;
+		}
+
+		return this.updatedIndex[proxy] >= 0;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#setUpdated(java.lang.Object)
+	 */
+	@Override
+	public void setUpdated(T obj) {
+		if (!this.updateTrackingEnabled) {
+			return;
+		}
+
+		int proxy = this.proxies.get(obj);
+		if (proxy != ProxyIndexMap.NOT_FOUND) {
+			this.markUpdated(proxy);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AbstractBroadphaseDetector#setUpdateTrackingEnabled(boolean)
+	 */
+	@Override
+	public void setUpdateTrackingEnabled(boolean flag) {
+		if (this.updateTrackingEnabled != flag && !flag) {
+			// clear everything so that it doesn't produce
+			// odd results if it's turned back on
+			this.clearUpdates();
+		}
+		super.setUpdateTrackingEnabled(flag);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clearUpdates()
+	 */
+	@Override
+	public void clearUpdates() {
+		for (int i = 0; i < this.updatedCount; i++) {
+			this.updatedIndex[this.updated[i]] = -1;
+		}
+		this.updatedCount = 0;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#contains(java.lang.Object)
+	 */
+	@Override
+	public boolean contains(T obj) {
+		return this.proxies.containsKey(obj);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#clear()
+	 */
+	@Override
+	public void clear() {
+		this.proxies.clear();
+		this.root = NULL_NODE;
+		this.free = NULL_NODE;
+		this.leafCount = 0;
+		this.updatedCount = 0;
+		this.linkFreeNodes(0, this.height.length);
+		Arrays.fill(this.updatedIndex, -1);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#size()
+	 */
+	@Override
+	public int size() {
+		return this.leafCount;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(boolean)
+	 */
+	@Override
+	public Iterator<CollisionPair<T>> detectIterator(boolean forceFullDetection) {
+		if (forceFullDetection || !this.updateTrackingEnabled) {
+			return new DetectPairsIterator(false);
+		}
+		return new DetectPairsIterator(true);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#detectIterator(org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public Iterator<T> detectIterator(AABB aabb) {
+		return new DetectAABBIterator(aabb);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#raycastIterator(org.dyn4j.geometry.Ray, double)
+	 */
+	@Override
+	public Iterator<T> raycastIterator(Ray ray, double length) {
+		return new DetectRayIterator(ray, length);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void shift(Vector2 shift) {
+		// we need to update all nodes in the tree (not just the
+		// nodes that contain the objects), since every node in
+		// use is in the arrays we can just walk them in order
+		int capacity = this.height.length;
+		for (int i = 0; i < capacity; i++) {
+			if (this.height[i] >= 0) {
+				this.minX[i] += shift.x;
+				this.minY[i] += shift.y;
+				this.maxX[i] += shift.x;
+				this.maxY[i] += shift.y;
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#isUpdateTrackingSupported()
+	 */
+	@Override
+	public boolean isUpdateTrackingSupported() {
+		return true;
+	}
+
+	/**
+	 * Returns the object stored in the given leaf node.
+	 * @param node the leaf node
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	private T getItem(int node) {
+		return (T)this.items[node];
+	}
+
+	/**
+	 * Returns a free node from the free list, growing the storage if necessary.
+	 * @return int the node
+	 */
+	private int allocateNode() {
+		if (this.free == NULL_NODE) {
+			this.grow();
+		}
+
+		int node = this.free;
+		this.free = this.parent[node];
+		this.parent[node] = NULL_NODE;
+		this.left[node] = NULL_NODE;
+		this.right[node] = NULL_NODE;
+		this.height[node] = 0;
+		return node;
+	}
+
+	/**
+	 * Returns the given node to the free list.
+	 * @param node the node
+	 */
+	private void freeNode(int node) {
+		this.items[node] = null;
+		this.left[node] = NULL_NODE;
+		this.right[node] = NULL_NODE;
+		this.height[node] = -1;
+		this.parent[node] = this.free;
+		this.free = node;
+	}
+
+	/**
+	 * Adds the nodes in the range [start, end) to the free list.
+	 * <p>
+	 * The nodes are linked so that the lowest index is allocated first.
+	 * @param start the first node
+	 * @param end one past the last node
+	 */
+	private void linkFreeNodes(int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			this.freeNode(i);
+		}
+	}
+
+	/**
+	 * Doubles the node storage and adds the new nodes to the free list.
+	 */
+	private void grow() {
+		int capacity = this.height.length;
+		int newCapacity = capacity * 2;
+
+		this.minX = Arrays.copyOf(this.minX, newCapacity);
+		this.minY = Arrays.copyOf(this.minY, newCapacity);
+		this.maxX = Arrays.copyOf(this.maxX, newCapacity);
+		this.maxY = Arrays.copyOf(this.maxY, newCapacity);
+		this.parent = Arrays.copyOf(this.parent, newCapacity);
+		this.left = Arrays.copyOf(this.left, newCapacity);
+		this.right = Arrays.copyOf(this.right, newCapacity);
+		this.height = Arrays.copyOf(this.height, newCapacity);
+		this.items = Arrays.copyOf(this.items, newCapacity);
+		this.leafIndex = Arrays.copyOf(this.leafIndex, newCapacity);
+		this.updatedIndex = Arrays.copyOf(this.updatedIndex, newCapacity);
+		this.leaves = Arrays.copyOf(this.leaves, newCapacity);
+		this.updated = Arrays.copyOf(this.updated, newCapacity);
+
+		Arrays.fill(this.updatedIndex, capacity, newCapacity, -1);
+		this.linkFreeNodes(capacity, newCapacity);
+	}
+
+	/**
+	 * Adds the given leaf node to the list of updated nodes if it's not already there.
+	 * @param node the leaf node
+	 */
+	private void markUpdated(int node) {
+		if (this.updatedIndex[node] < 0) {
+			this.updatedIndex[node] = this.updatedCount;
+			this.updated[this.updatedCount++] = node;
+		}
+	}
+
+	/**
+	 * Removes the given leaf node from the list of updated nodes if it's there.
+	 * @param node the leaf node
+	 */
+	private void unmarkUpdated(int node) {
+		int index = this.updatedIndex[node];
+		if (index >= 0) {
+			// move the last updated node into its place
+			int last = this.updated[--this.updatedCount];
+			this.updated[index] = last;
+			this.updatedIndex[last] = index;
+			this.updatedIndex[node] = -1;
+		}
+	}
+
+	/**
+	 * Sets the AABB of the given node.
+	 * @param node the node
+	 * @param aabb the AABB
+	 */
+	private void setAABB(int node, AABB aabb) {
+		this.minX[node] = aabb.getMinX();
+		this.minY[node] = aabb.getMinY();
+		this.maxX[node] = aabb.getMaxX();
+		this.maxY[node] = aabb.getMaxY();
+	}
+
+	/**
+	 * Sets the AABB of the given node to the union of the AABBs of nodes a and b.
+	 * @param node the node to set
+	 * @param a the first node
+	 * @param b the second node
+	 */
+	private void union(int node, int a, int b) {
+		this.minX[node] = Math.min(this.minX[a], this.minX[b]);
+		this.minY[node] = Math.min(this.minY[a], this.minY[b]);
+		this.maxX[node] = Math.max(this.maxX[a], this.maxX[b]);
+		this.maxY[node] = Math.max(this.maxY[a], this.maxY[b]);
+	}
+
+	/**
+	 * Returns the perimeter of the given node's AABB.
+	 * @param node the node
+	 * @return double
+	 */
+	private double getPerimeter(int node) {
+		return 2 * (this.maxX[node] - this.minX[node] + this.maxY[node] - this.minY[node]);
+	}
+
+	/**
+	 * Returns the perimeter of the union of the AABBs of nodes a and b.
+	 * @param a the first node
+	 * @param b the second node
+	 * @return double
+	 */
+	private double getUnionPerimeter(int a, int b) {
+		double minX = Math.min(this.minX[a], this.minX[b]);
+		double minY = Math.min(this.minY[a], this.minY[b]);
+		double maxX = Math.max(this.maxX[a], this.maxX[b]);
+		double maxY = Math.max(this.maxY[a], this.maxY[b]);
+		return 2 * (maxX - minX + maxY - minY);
+	}
+
+	/**
+	 * Returns true if the AABBs of nodes a and b overlap.
+	 * @param a the first node
+	 * @param b the second node
+	 * @return boolean
+	 */
+	private boolean overlaps(int a, int b) {
+		return this.minX[a] <= this.maxX[b] &&
+				this.maxX[a] >= this.minX[b] &&
+				this.minY[a] <= this.maxY[b] &&
+				this.maxY[a] >= this.minY[b];
+	}
+
+	/**
+	 * Returns true if the AABB of node a contains the AABB of node b.
+	 * @param a the first node
+	 * @param b the second node
+	 * @return boolean
+	 */
+	private boolean contains(int a, int b) {
+		return this.minX[a] <= this.minX[b] &&
+				this.maxX[a] >= this.maxX[b] &&
+				this.minY[a] <= this.minY[b] &&
+				this.maxY[a] >= this.maxY[b];
+	}
+
+	/**
+	 * Internal method to insert a leaf node into the tree.
+	 * @param item the leaf node to insert
+	 */
+	private void insertLeaf(int item) {
+		// make sure the root is not null
+		if (this.root == NULL_NODE) {
+			// if it is then set this node as the root
+			this.root = item;
+			this.parent[item] = NULL_NODE;
+			// return from the insert method
+			return;
+		}
+
+		// start looking for the insertion point at the root
+		int node = this.root;
+		// loop until node is a leaf or we find a better location
+		while (this.left[node] != NULL_NODE) {
+			// the perimeter heuristic is better than area for 2D because
+			// a line segment aligned with the x or y axis will generate
+			// zero area
+
+			// get its perimeter
+			double perimeter = this.getPerimeter(node);
+
+			// union the new node's aabb and the current aabb
+			// get the union's perimeter
+			double unionPerimeter = this.getUnionPerimeter(node, item);
+
+			// compute the cost of creating a new parent for the new
+			// node and the current node
+			double cost = 2 * unionPerimeter;
+
+			// compute the minimum cost of descending further down the tree
+			double descendCost = 2 * (unionPerimeter - perimeter);
+
+			// get the left and right nodes
+			int left = this.left[node];
+			int right = this.right[node];
+
+			// compute the cost of descending to the left
+			double costl = 0.0;
+			if (this.left[left] == NULL_NODE) {
+				costl = this.getUnionPerimeter(left, item) + descendCost;
+			} else {
+				double oldPerimeter = this.getPerimeter(left);
+				double newPerimeter = this.getUnionPerimeter(left, item);
+				costl = newPerimeter - oldPerimeter + descendCost;
+			}
+
+			// compute the cost of descending to the right
+			double costr = 0.0;
+			if (this.left[right] == NULL_NODE) {
+				costr = this.getUnionPerimeter(right, item) + descendCost;
+			} else {
+				double oldPerimeter = this.getPerimeter(right);
+				double newPerimeter = this.getUnionPerimeter(right, item);
+				costr = newPerimeter - oldPerimeter + descendCost;
+			}
+
+			// see if the cost to create a new parent node for the new
+			// node and the current node is better than the children of
+			// this node
+			if (cost < costl && cost < costr) {
+				break;
+			}
+
+			// if not then choose the next best node to try
+			if (costl < costr) {
+				node = left;
+			} else {
+				node = right;
+			}
+		}
+
+		// now that we have found a suitable place, insert a new root
+		// node for node and item
+		int parent = this.parent[node];
+		int newParent = this.allocateNode();
+		this.parent[newParent] = parent;
+		this.union(newParent, node, item);
+		this.height[newParent] = this.height[node] + 1;
+
+		if (parent != NULL_NODE) {
+			// node is not the root node
+			if (this.left[parent] == node) {
+				this.left[parent] = newParent;
+			} else {
+				this.right[parent] = newParent;
+			}
+		} else {
+			// node is the root item
+			this.root = newParent;
+		}
+
+		this.left[newParent] = node;
+		this.right[newParent] = item;
+		this.parent[node] = newParent;
+		this.parent[item] = newParent;
+
+		// fix the heights and aabbs
+		node = this.parent[item];
+		while (node != NULL_NODE) {
+			// balance the current tree
+			node = this.balance(node);
+
+			int left = this.left[node];
+			int right = this.right[node];
+
+			// neither node should be null
+			this.height[node] = 1 + Math.max(this.height[left], this.height[right]);
+			// the node's AABB should be the union of it's children
+			this.union(node, left, right);
+
+			node = this.parent[node];
+		}
+	}
+
+	/**
+	 * Internal method to remove a leaf node from the tree.
+	 * <p>
+	 * The leaf node itself is not freed, but its old parent node is.
+	 * @param node the leaf node to remove
+	 */
+	private void removeLeaf(int node) {
+		// check for an empty tree
+		// should never happen based on current usage
+		if (this.root == NULL_NODE) return;
+		// check the root node
+		if (node == this.root) {
+			// set the root to null
+			this.root = NULL_NODE;
+			// return from the remove method
+			return;
+		}
+
+		// get the node's parent, grandparent, and sibling
+		int parent = this.parent[node];
+		int grandparent = this.parent[parent];
+		int other;
+		if (this.left[parent] == node) {
+			other = this.right[parent];
+		} else {
+			other = this.left[parent];
+		}
+
+		// check if the grandparent is null
+		// indicating that the parent is the root
+		if (grandparent != NULL_NODE) {
+			// remove the node by overwriting the parent node
+			// reference in the grandparent with the sibling
+			if (this.left[grandparent] == parent) {
+				this.left[grandparent] = other;
+			} else {
+				this.right[grandparent] = other;
+			}
+			// set the siblings parent to the grandparent
+			this.parent[other] = grandparent;
+
+			// finally rebalance the tree
+			int n = grandparent;
+			while (n != NULL_NODE) {
+				// balance the current subtree
+				n = this.balance(n);
+
+				int left = this.left[n];
+				int right = this.right[n];
+
+				// neither node should be null
+				this.height[n] = 1 + Math.max(this.height[left], this.height[right]);
+				this.union(n, left, right);
+
+				n = this.parent[n];
+			}
+		} else {
+			// the parent is the root so set the root to the sibling
+			this.root = other;
+			// set the siblings parent to null
+			this.parent[other] = NULL_NODE;
+		}
+
+		// the old parent is no longer used
+		this.freeNode(parent);
+	}
+
+	/**
+	 * Balances the subtree using node as the root.
+	 * @param node the root node of the subtree to balance
+	 * @return int the new root of the subtree
+	 */
+	private int balance(int node) {
+		int a = node;
+
+		// see if the node is a leaf node or if
+		// it doesn't have enough children to be unbalanced
+		if (this.left[a] == NULL_NODE || this.height[a] < 2) {
+			// return since there isn't any work to perform
+			return a;
+		}
+
+		// get the nodes left and right children
+		int b = this.left[a];
+		int c = this.right[a];
+
+		// compute the balance factor for node a
+		int balance = this.height[c] - this.height[b];
+
+		// if the balance is off on the right side
+		if (balance > 1) {
+			// get the c's left and right nodes
+			int f = this.left[c];
+			int g = this.right[c];
+
+			// switch a and c
+			this.left[c] = a;
+			this.parent[c] = this.parent[a];
+			this.parent[a] = c;
+
+			// update c's parent to point to c instead of a
+			int cp = this.parent[c];
+			if (cp != NULL_NODE) {
+				if (this.left[cp] == a) {
+					this.left[cp] = c;
+				} else {
+					this.right[cp] = c;
+				}
+			} else {
+				this.root = c;
+			}
+
+			// compare the balance of the children of c
+			if (this.height[f] > this.height[g]) {
+				// rotate left
+				this.right[c] = f;
+				this.right[a] = g;
+				this.parent[g] = a;
+				// update the aabb
+				this.union(a, b, g);
+				this.union(c, a, f);
+				// update the heights
+				this.height[a] = 1 + Math.max(this.height[b], this.height[g]);
+				this.height[c] = 1 + Math.max(this.height[a], this.height[f]);
+			} else {
+				// rotate right
+				this.right[c] = g;
+				this.right[a] = f;
+				this.parent[f] = a;
+				// update the aabb
+				this.union(a, b, f);
+				this.union(c, a, g);
+				// update the heights
+				this.height[a] = 1 + Math.max(this.height[b], this.height[f]);
+				this.height[c] = 1 + Math.max(this.height[a], this.height[g]);
+			}
+			// c is the new root node of the subtree
+			return c;
+		}
+		// if the balance is off on the left side
+		if (balance < -1) {
+			// get b's children
+			int d = this.left[b];
+			int e = this.right[b];
+
+			// switch a and b
+			this.left[b] = a;
+			this.parent[b] = this.parent[a];
+			this.parent[a] = b;
+
+			// update b's parent to point to b instead of a
+			int bp = this.parent[b];
+			if (bp != NULL_NODE) {
+				if (this.left[bp] == a) {
+					this.left[bp] = b;
+				} else {
+					this.right[bp] = b;
+				}
+			} else {
+				this.root = b;
+			}
+
+			// compare the balance of the children of b
+			if (this.height[d] > this.height[e]) {
+				// rotate left
+				this.right[b] = d;
+				this.left[a] = e;
+				this.parent[e] = a;
+				// update the aabb
+				this.union(a, c, e);
+				this.union(b, a, d);
+				// update the heights
+				this.height[a] = 1 + Math.max(this.height[c], this.height[e]);
+				this.height[b] = 1 + Math.max(this.height[a], this.height[d]);
+			} else {
+				// rotate right
+				this.right[b] = e;
+				this.left[a] = d;
+				this.parent[d] = a;
+				// update the aabb
+				this.union(a, c, d);
+				this.union(b, a, e);
+				// update the heights
+				this.height[a] = 1 + Math.max(this.height[c], this.height[d]);
+				this.height[b] = 1 + Math.max(this.height[a], this.height[e]);
+			}
+			// b is the new root node of the subtree
+			return b;
+		}
+		// no balancing required so return the original subtree root node
+		return a;
+	}
+
+	/**
+	 * Returns the height of the tree.
+	 * @return int
+	 */
+	public int getHeight() {
+		if (this.root == NULL_NODE) return 0;
+		return this.height[this.root];
+	}
+
+	/**
+	 * Returns a quality metric for the tree.
+	 * @return double
+	 */
+	public double getPerimeterRatio() {
+		if (this.root == NULL_NODE) return 0.0;
+
+		double root = this.getPerimeter(this.root);
+		double total = this.getPerimeterRatio(this.root);
+
+		return total / root;
+	}
+
+	/**
+	 * Returns the quality metric for the given subtree.
+	 * @param node the subtree root node
+	 * @return double
+	 */
+	private double getPerimeterRatio(int node) {
+		if (node == NULL_NODE) return 0;
+		double total = this.getPerimeter(node);
+		total += this.getPerimeterRatio(this.left[node]);
+		total += this.getPerimeterRatio(this.right[node]);
+		return total;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.BroadphaseDetector#optimize()
+	 */
+	@Override
+	public void optimize() {
+		if (this.root == NULL_NODE) return;
+
+		this.root = NULL_NODE;
+
+		// return all the internal nodes to the free list
+		// and detach all the leaf nodes
+		this.free = NULL_NODE;
+		for (int i = this.height.length - 1; i >= 0; i--) {
+			if (this.items[i] == null) {
+				this.freeNode(i);
+			} else {
+				this.parent[i] = NULL_NODE;
+				this.height[i] = 0;
+			}
+		}
+
+		// get all the leaves and their perimeters
+		int n = this.leafCount;
+		if (this.sortedLeaves.length < n) {
+			this.sortedLeaves = new int[n];
+			this.sortedPerimeters = new double[n];
+		}
+		int[] leaves = this.sortedLeaves;
+		double[] perimeters = this.sortedPerimeters;
+		for (int i = 0; i < n; i++) {
+			int leaf = this.leaves[i];
+			leaves[i] = leaf;
+			perimeters[i] = this.getPerimeter(leaf);
+		}
+
+		// sort them by their perimeter, largest first
+		this.sortLeaves(leaves, perimeters, n);
+
+		// re-insert them in order
+		for (int i = 0; i < n; i++) {
+			this.insertLeaf(leaves[i]);
+		}
+	}
+
+	/**
+	 * Sorts the first n leaf nodes in the given array by their perimeter, largest first, using a heap sort.
+	 * <p>
+	 * Leaf nodes with the same perimeter are kept in the order they appear in the list of leaves.
+	 * @param leaves the leaf nodes
+	 * @param perimeters the perimeter of each leaf node
+	 * @param n the number of leaf nodes
+	 */
+	private void sortLeaves(int[] leaves, double[] perimeters, int n) {
+		// build the heap
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			this.siftDown(leaves, perimeters, i, n);
+		}
+		// move the heap's root to the end one at a time
+		for (int end = n - 1; end > 0; end--) {
+			this.swap(leaves, perimeters, 0, end);
+			this.siftDown(leaves, perimeters, 0, end);
+		}
+	}
+
+	/**
+	 * Moves the leaf node at index i down the heap of the given size until the heap is valid.
+	 * @param leaves the leaf nodes
+	 * @param perimeters the perimeter of each leaf node
+	 * @param i the index
+	 * @param size the size of the heap
+	 */
+	private void siftDown(int[] leaves, double[] perimeters, int i, int size) {
+		while (true) {
+			int child = i * 2 + 1;
+			if (child >= size) return;
+			if (child + 1 < size && this.isAfter(leaves, perimeters, child + 1, child)) {
+				child++;
+			}
+			if (!this.isAfter(leaves, perimeters, child, i)) return;
+			this.swap(leaves, perimeters, i, child);
+			i = child;
+		}
+	}
+
+	/**
+	 * Returns true if the leaf node at index i comes after the leaf node at index j in sorted order.
+	 * @param leaves the leaf nodes
+	 * @param perimeters the perimeter of each leaf node
+	 * @param i the first index
+	 * @param j the second index
+	 * @return boolean
+	 */
+	private boolean isAfter(int[] leaves, double[] perimeters, int i, int j) {
+		if (perimeters[i] != perimeters[j]) {
+			return perimeters[i] < perimeters[j];
+		}
+		return this.leafIndex[leaves[i]] > this.leafIndex[leaves[j]];
+	}
+
+	/**
+	 * Swaps the leaf nodes, and their perimeters, at the given indices.
+	 * @param leaves the leaf nodes
+	 * @param perimeters the perimeter of each leaf node
+	 * @param i the first index
+	 * @param j the second index
+	 */
+	private void swap(int[] leaves, double[] perimeters, int i, int j) {
+		int leaf = leaves[i];
+		leaves[i] = leaves[j];
+		leaves[j] = leaf;
+		double perimeter = perimeters[i];
+		perimeters[i] = perimeters[j];
+		perimeters[j] = perimeter;
+	}
+
+	/**
+	 * Validates the tree structure.
+	 * @return true if the structure is valid
+	 */
+	boolean isValid() {
+		if (this.leafCount != this.proxies.size()) {
+			return false;
+		}
+		return this.isValid(this.root);
+	}
+
+	/**
+	 * Internal recursive method used to validate the state of the
+	 * subtree with the given node as the root.
+	 * @param node the root node of the tree
+	 * @return boolean true if the subtree is valid
+	 */
+	private boolean isValid(int node) {
+		// just return if the given node is null
+		if (node == NULL_NODE) {
+			return true;
+		}
+
+		// check if the node is the root node
+		if (node == this.root) {
+			// if so, then make sure its parent is null
+			if (this.parent[node] != NULL_NODE) return false;
+		}
+
+		// get the left and right children
+		int left = this.left[node];
+		int right = this.right[node];
+
+		// check if the node is a leaf
+		if (left == NULL_NODE) {
+			// if so, then both children should be null
+			// the height should be zero, the object
+			// should not be null and it should map
+			// back to this node
+			if (right != NULL_NODE ||
+				this.height[node] != 0 ||
+				this.items[node] == null ||
+				this.leaves[this.leafIndex[node]] != node) {
+				return false;
+			}
+
+			return true;
+		}
+
+		// internal nodes don't store objects
+		if (this.items[node] != null || right == NULL_NODE) {
+			return false;
+		}
+
+		// if its not a leaf node then check that both the right
+		// and the left aabbs are contained within this aabb
+		if (!this.contains(node, left) || !this.contains(node, right)) {
+			return false;
+		}
+
+		// make sure the parent nodes of the children point to this node
+		if (this.parent[left] != node) return false;
+		if (this.parent[right] != node) return false;
+
+		// validate the child subtrees
+		boolean leftValid = this.isValid(left);
+		boolean rightValid = this.isValid(right);
+
+		return leftValid && rightValid;
+	}
+
+	/**
+	 * Returns the next node in a stack-less, depth first traversal of the tree
+	 * after the given node's subtree has been visited.
+	 * <p>
+	 * Returns {@link #NULL_NODE} when the traversal is complete.
+	 * @param node the node whose subtree has been visited
+	 * @return int
+	 */
+	private int next(int node) {
+		// go back up the tree until we find the first left
+		// node, its sibling is the next node to test
+		// NOTE: every internal node has two children
+		while (this.parent[node] != NULL_NODE) {
+			int parent = this.parent[node];
+			if (node == this.left[parent]) {
+				return this.right[parent];
+			}
+			node = parent;
+		}
+		return NULL_NODE;
+	}
+
+	/**
+	 * A specialized iterator for detecting pairs of colliding {@link AABB}s in this broaphase.
+	 * <p>
+	 * Rather than tracking the leaf nodes that have already been tested in a map, this iterator
+	 * uses the position of each leaf in the list being tested.  Any leaf whose position is before
+	 * the current leaf has already been tested against the entire tree.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectPairsIterator implements Iterator<CollisionPair<T>> {
+		/** True if only the updated leaf nodes should be tested */
+		private final boolean updatedOnly;
+
+		/** The number of leaf nodes to test */
+		private final int count;
+
+		/** The position of the leaf node we're testing the broadphase with */
+		private int index;
+
+		/** Internal state to track the node in the tree we're testing against */
+		private int currentNode;
+
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> currentPair;
+
+		/** A reusable pair to output collisions */
+		private final BroadphasePair<T> nextPair;
+
+		/** True if there's another pair */
+		private boolean hasNext;
+
+		/**
+		 * Minimal constructor.
+		 * @param updatedOnly true if only the updated leaf nodes should be tested
+		 */
+		public DetectPairsIterator(boolean updatedOnly) {
+			this.updatedOnly = updatedOnly;
+			this.count = updatedOnly ? PackedDynamicAABBTree.this.updatedCount : PackedDynamicAABBTree.this.leafCount;
+			this.index = 0;
+			this.currentNode = NULL_NODE;
+			this.currentPair = new BroadphasePair<T>();
+			this.nextPair = new BroadphasePair<T>();
+			this.hasNext = this.findNext();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.hasNext;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public CollisionPair<T> next() {
+			if (this.hasNext) {
+				// copy over to the one we return
+				this.currentPair.first = this.nextPair.first;
+				this.currentPair.second = this.nextPair.second;
+
+				// find the next pair
+				this.hasNext = this.findNext();
+
+				// return the current pair
+				return this.currentPair;
+			}
+			throw new NoSuchElementException();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Returns the position of the given leaf node in the list being tested
+		 * or -1 if it's not in the list.
+		 * @param node the leaf node
+		 * @return int
+		 */
+		private int getPosition(int node) {
+			if (this.updatedOnly) {
+				return PackedDynamicAABBTree.this.updatedIndex[node];
+			}
+			return PackedDynamicAABBTree.this.leafIndex[node];
+		}
+
+		/**
+		 * Returns true if there's another pair to process and sets
+		 * the nextPair field to that pair.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			// iterate through the list of leaf nodes to test the entire
+			// broadphase against
+			while (this.index < this.count) {
+				// if the current node in the broadphase is null
+				// then we need to start at the root
+				if (this.currentNode == NULL_NODE) {
+					// start at the root node
+					this.currentNode = PackedDynamicAABBTree.this.root;
+				}
+
+				// is there another collision with the current leaf?
+				if (this.findNextForCurrentLeaf()) {
+					return true;
+				}
+
+				// if not we need to move to the next leaf
+			}
+
+			return false;
+		}
+
+		/**
+		 * Conversion of the non-recursive detection method into a finite state machine.
+		 * <p>
+		 * This method returns true if there's a "next" collision and places the next collision
+		 * result in storage to be reported in the call to the {@link #next()} method.
+		 * @return boolean
+		 */
+		private boolean findNextForCurrentLeaf() {
+			final PackedDynamicAABBTree<T> tree = PackedDynamicAABBTree.this;
+			boolean foundCollision = false;
+
+			// find the next collision pair (if there is one)
+			int node = this.updatedOnly ? tree.updated[this.index] : tree.leaves[this.index];
+			int test = this.currentNode;
+
+			// perform a iterative, stack-less, traversal of the tree
+			while (test != NULL_NODE) {
+				// check if the current node overlaps the desired node
+				if (tree.overlaps(test, node)) {
+					// if they do overlap, then check the left child node
+					if (tree.left[test] != NULL_NODE) {
+						// if the left is not null, then check that subtree
+						test = tree.left[test];
+						continue;
+					} else {
+						// if both are null, then this is a leaf node
+						T item = tree.getItem(node);
+						T other = tree.getItem(test);
+
+						// don't compare nodes among themselves
+						if (tree.broadphaseFilter.isAllowed(other, item)) {
+							// have we already tested this pair?
+							int position = this.getPosition(test);
+							boolean tested = position >= 0 && position < this.index;
+
+							// check the tested flag to avoid duplicates
+							if (!tested) {
+								// its a leaf so we have a collision
+								this.nextPair.first = item;
+								this.nextPair.second = other;
+
+								// we can't return here because we need to advance the detection
+								// to the next node to test before we exit from this method
+								foundCollision = true;
+							}
+						}
+					}
+				}
+
+				// if the current node is a leaf node or doesnt overlap the
+				// desired aabb, then we need to go to the next node
+				test = tree.next(test);
+
+				// update the current node so we can pick up where we left off
+				this.currentNode = test;
+
+				// if we didn't find it then we are done
+				if (test == NULL_NODE) {
+					// this indicates that we're done testing the current leaf
+					// against the entire broadphase, moving to the next
+					// position marks it as tested
+					this.index++;
+					break;
+				}
+
+				// if we found a collision then we need to stop
+				if (foundCollision) {
+					break;
+				}
+			}
+
+			return foundCollision;
+		}
+	}
+
+	/**
+	 * A specialized iterator for testing an {@link AABB} against this broadphase.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectAABBIterator implements Iterator<T> {
+		/** The minimum x value of the {@link AABB} to test with */
+		private final double minX;
+
+		/** The minimum y value of the {@link AABB} to test with */
+		private final double minY;
+
+		/** The maximum x value of the {@link AABB} to test with */
+		private final double maxX;
+
+		/** The maximum y value of the {@link AABB} to test with */
+		private final double maxY;
+
+		/** Internal state to track the node in the tree we're testing against */
+		private int currentNode;
+
+		/** The next item to return */
+		private T nextItem;
+
+		/**
+		 * Minimal constructor.
+		 * @param aabb the {@link AABB} to test
+		 */
+		public DetectAABBIterator(AABB aabb) {
+			this.minX = aabb.getMinX();
+			this.minY = aabb.getMinY();
+			this.maxX = aabb.getMaxX();
+			this.maxY = aabb.getMaxY();
+			this.currentNode = PackedDynamicAABBTree.this.root;
+			this.findNext();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Conversion of the non-recursive detection method into a finite state machine.
+		 * <p>
+		 * This method returns true if there's a "next" collision and places the next collision
+		 * result in storage to be reported in the call to the {@link #next()} method.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final PackedDynamicAABBTree<T> tree = PackedDynamicAABBTree.this;
+			this.nextItem = null;
+			boolean foundCollision = false;
+
+			// start where we left off
+			int node = this.currentNode;
+
+			// perform a iterative, stack-less, traversal of the tree
+			while (node != NULL_NODE) {
+				// check if the current node overlaps the desired node
+				if (this.minX <= tree.maxX[node] &&
+					this.maxX >= tree.minX[node] &&
+					this.minY <= tree.maxY[node] &&
+					this.maxY >= tree.minY[node]) {
+					// if they do overlap, then check the left child node
+					if (tree.left[node] != NULL_NODE) {
+						// if the left is not null, then check that subtree
+						node = tree.left[node];
+						continue;
+					} else {
+						// if both are null, then this is a leaf node
+						this.nextItem = tree.getItem(node);
+
+						// we can't return here because we need to advance the detection
+						// to the next node to test before we exit from this method
+						foundCollision = true;
+					}
+				}
+
+				// if the current node is a leaf node or doesnt overlap the
+				// desired aabb, then we need to go to the next node
+				node = tree.next(node);
+
+				// update the current node so we can pick up where we left off
+				this.currentNode = node;
+
+				// if we found a collision then we need to stop
+				if (foundCollision) {
+					break;
+				}
+			}
+
+			return foundCollision;
+		}
+	}
+
+	/**
+	 * A specialized iterator for detecting ray collisions in this broaphase.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectRayIterator implements Iterator<T> {
+		/** The x coordinate of the start of the ray */
+		private final double startX;
+
+		/** The y coordinate of the start of the ray */
+		private final double startY;
+
+		/** The length of the ray */
+		private final double length;
+
+		/** The minimum x value of the AABB of the ray */
+		private final double minX;
+
+		/** The minimum y value of the AABB of the ray */
+		private final double minY;
+
+		/** The maximum x value of the AABB of the ray */
+		private final double maxX;
+
+		/** The maximum y value of the AABB of the ray */
+		private final double maxY;
+
+		/** Precomputed 1/x */
+		private final double invDx;
+
+		/** Precomputed 1/y */
+		private final double invDy;
+
+		/** Internal state to track the node in the tree we're testing against */
+		private int currentNode;
+
+		/** The next item to return */
+		private T nextItem;
+
+		/**
+		 * Minimal constructor.
+		 * @param ray the {@link Ray}
+		 * @param length the length of the ray
+		 */
+		public DetectRayIterator(Ray ray, double length) {
+			this.currentNode = PackedDynamicAABBTree.this.root;
+
+			// create an aabb from the ray
+			Vector2 s = ray.getStart();
+			Vector2 d = ray.getDirectionVector();
+
+			// get the length
+			double l = length;
+			if (length <= 0.0) l = Double.MAX_VALUE;
+			this.length = l;
+
+			// compute the coordinates
+			double x1 = s.x;
+			double x2 = s.x + d.x * l;
+			double y1 = s.y;
+			double y2 = s.y + d.y * l;
+
+			this.startX = x1;
+			this.startY = y1;
+
+			// compute the aabb
+			this.minX = Math.min(x1, x2);
+			this.minY = Math.min(y1, y2);
+			this.maxX = Math.max(x1, x2);
+			this.maxY = Math.max(y1, y2);
+
+			// precompute
+			this.invDx = 1.0 / d.x;
+			this.invDy = 1.0 / d.y;
+
+			this.findNext();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.nextItem != null;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			if (this.nextItem != null) {
+				T item = this.nextItem;
+				this.findNext();
+				return item;
+			}
+			throw new NoSuchElementException();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Conversion of the non-recursive detection method into a finite state machine.
+		 * <p>
+		 * This method returns true if there's a "next" collision and places the next collision
+		 * result in storage to be reported in the call to the {@link #next()} method.
+		 * @return boolean
+		 */
+		private boolean findNext() {
+			final PackedDynamicAABBTree<T> tree = PackedDynamicAABBTree.this;
+			this.nextItem = null;
+			boolean foundCollision = false;
+
+			// start where we left off
+			int node = this.currentNode;
+
+			// perform a iterative, stack-less, traversal of the tree
+			while (node != NULL_NODE) {
+				// check if the current node overlaps the desired node
+				if (this.minX <= tree.maxX[node] &&
+					this.maxX >= tree.minX[node] &&
+					this.minY <= tree.maxY[node] &&
+					this.maxY >= tree.minY[node]) {
+					// if they do overlap, then check the left child node
+					if (tree.left[node] != NULL_NODE) {
+						// if the left is not null, then check that subtree
+						node = tree.left[node];
+						continue;
+					} else if (AbstractBroadphaseDetector.raycast(
+							this.startX, this.startY, this.length, this.invDx, this.invDy,
+							tree.minX[node], tree.minY[node], tree.maxX[node], tree.maxY[node])) {
+						// if both are null, then this is a leaf node
+						this.nextItem = tree.getItem(node);
+
+						// we can't return here because we need to advance the detection
+						// to the next node to test before we exit from this method
+						foundCollision = true;
+					}
+				}
+
+				// if the current node is a leaf node or doesnt overlap the
+				// desired aabb, then we need to go to the next node
+				node = tree.next(node);
+
+				// update the current node so we can pick up where we left off
+				this.currentNode = node;
+
+				// if we found a collision then exit so we can report it
+				if (foundCollision) {
+					break;
+				}
+			}
+
+			return foundCollision;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+/**
+ * Represents a {@link BroadphaseDetector} that can maintain the set of overlapping pairs and report
+ * only the changes to that set.
+ * <p>
+ * Pair tracking is disabled by default and must be enabled using the {@link #setPairTrackingEnabled(boolean)}
+ * method.  Not every implementation supports it, use the {@link #isPairTrackingSupported()} method to check.
+ * <p>
+ * The {@link AbstractBroadphaseDetector} class implements this interface without pair tracking support.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ */
+public interface PairTrackingBroadphaseDetector<T> extends BroadphaseDetector<T> {
+	/**
+	 * Returns whether this particular {@link BroadphaseDetector} supports pair tracking.
+	 * @return boolean
+	 */
+	public abstract boolean isPairTrackingSupported();
+	
+	/**
+	 * Returns true if this broad-phase is tracking the overlapping pairs.
+	 * @return boolean
+	 * @see #setPairTrackingEnabled(boolean)
+	 */
+	public abstract boolean isPairTrackingEnabled();
+	
+	/**
+	 * Sets the pair tracking to the given flag.
+	 * <p>
+	 * When enabled, the broad-phase maintains the set of overlapping pairs and only re-examines the 
+	 * pairs of items that were added, removed or whose AABB changed.  The changes to the set are 
+	 * reported through the {@link #updatePairs(BroadphasePairListener)} method.
+	 * <p>
+	 * Disabling this feature will clear the set of tracked pairs.  Enabling this feature will report
+	 * all the overlapping pairs as added in the next call to {@link #updatePairs(BroadphasePairListener)}.
+	 * <p>
+	 * This method does nothing if pair tracking isn't supported.
+	 * @param flag true to turn on pair tracking
+	 * @see #isPairTrackingSupported()
+	 */
+	public abstract void setPairTrackingEnabled(boolean flag);
+	
+	/**
+	 * Reports the changes to the set of overlapping pairs since the last call to this method
+	 * to the given listener.
+	 * <p>
+	 * Removed pairs are reported before added pairs.  A pair is only reported as added once
+	 * and will not be reported again until it has been reported as removed.
+	 * <p>
+	 * This method does nothing if pair tracking isn't enabled.
+	 * @param listener the listener to report the changes to
+	 * @see #setPairTrackingEnabled(boolean)
+	 */
+	public abstract void updatePairs(BroadphasePairListener<T> listener);
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A map of objects to non-negative int indices that doesn't box its values.
+ * <p>
+ * Used by the {@link PackedDynamicAABBTree} to find the leaf node of an object and by the
+ * {@link BoxPruning} and {@link HashedGrid} to find the proxy of an object.  The keys are compared
+ * using their {@link Object#equals(Object)} and {@link Object#hashCode()} methods, just like a 
+ * {@link java.util.HashMap}.  The map uses open addressing with linear probing so that lookups, insertions
+ * and removals don't create any new objects.  Storage is only allocated when the map grows.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the object type
+ */
+final class ProxyIndexMap<T> {
+	/** The value returned when a key isn't in the map */
+	static final int NOT_FOUND = -1;
+	
+	/** The keys; null for empty slots */
+	private Object[] keys;
+	
+	/** The value of each key */
+	private int[] values;
+	
+	/** The number of keys in the map */
+	private int size;
+	
+	/** The number of keys at which the storage is grown */
+	private int threshold;
+	
+	/**
+	 * Minimal constructor.
+	 * @param initialCapacity the number of keys the map can hold before it grows
+	 */
+	public ProxyIndexMap(int initialCapacity) {
+		// keep the load factor at or below 0.5 for short probe sequences
+		int capacity = 4;
+		while (capacity < initialCapacity * 2) {
+			capacity <<= 1;
+		}
+		this.keys = new Object[capacity];
+		this.values = new int[capacity];
+		this.size = 0;
+		this.threshold = capacity / 2;
+	}
+	
+	/**
+	 * Returns the index of the given key or {@link #NOT_FOUND}.
+	 * @param key the key
+	 * @return int
+	 */
+	public int get(T key) {
+		int slot = this.find(key);
+		if (slot < 0) {
+			return NOT_FOUND;
+		}
+		return this.values[slot];
+	}
+	
+	/**
+	 * Returns true if the given key is in this map.
+	 * @param key the key
+	 * @return boolean
+	 */
+	public boolean containsKey(T key) {
+		return this.find(key) >= 0;
+	}
+	
+	/**
+	 * Maps the given key to the given index, replacing any existing index.
+	 * @param key the key; cannot be null
+	 * @param value the index; must be zero or greater
+	 */
+	public void put(T key, int value) {
+		if (this.size >= this.threshold) {
+			this.grow();
+		}
+		
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (keys[slot] != null) {
+			if (keys[slot].equals(key)) {
+				this.values[slot] = value;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		
+		keys[slot] = key;
+		this.values[slot] = value;
+		this.size++;
+	}
+	
+	/**
+	 * Removes the given key and returns its index or {@link #NOT_FOUND}.
+	 * @param key the key
+	 * @return int
+	 */
+	public int remove(T key) {
+		int slot = this.find(key);
+		if (slot < 0) {
+			return NOT_FOUND;
+		}
+		
+		int value = this.values[slot];
+		
+		// shift the following keys in the probe sequence back so that
+		// lookups don't stop at the now empty slot
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		int empty = slot;
+		int next = (slot + 1) & mask;
+		while (keys[next] != null) {
+			int home = hash(keys[next]) & mask;
+			// move the key if its home slot isn't in (empty, next]
+			if (((next - home) & mask) >= ((next - empty) & mask)) {
+				keys[empty] = keys[next];
+				this.values[empty] = this.values[next];
+				empty = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[empty] = null;
+		this.size--;
+		
+		return value;
+	}
+	
+	/**
+	 * Returns the number of keys in this map.
+	 * @return int
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Removes all the keys from this map.
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, null);
+		this.size = 0;
+	}
+	
+	/**
+	 * Returns the slot of the given key or -1 if it's not in this map.
+	 * @param key the key
+	 * @return int
+	 */
+	private int find(Object key) {
+		if (key == null) {
+			return -1;
+		}
+		
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (keys[slot] != null) {
+			if (keys[slot].equals(key)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Doubles the storage and re-inserts all the keys.
+	 */
+	private void grow() {
+		Object[] oldKeys = this.keys;
+		int[] oldValues = this.values;
+		
+		int capacity = oldKeys.length * 2;
+		Object[] keys = new Object[capacity];
+		int[] values = new int[capacity];
+		int mask = capacity - 1;
+		
+		for (int i = 0; i < oldKeys.length; i++) {
+			Object key = oldKeys[i];
+			if (key != null) {
+				int slot = hash(key) & mask;
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+				values[slot] = oldValues[i];
+			}
+		}
+		
+		this.keys = keys;
+		this.values = values;
+		this.threshold = capacity / 2;
+	}
+	
+	/**
+	 * Returns the hash code of the given key with the high bits spread into the low bits.
+	 * @param key the key
+	 * @return int
+	 */
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+}
@@ -32,11 +32,17 @@
  * {@link org.dyn4j.collision.Fixture}s that could be colliding.  While not exact, the broad-phase is conservative.
  * In other words, the broad-phase will never miss collisions, but will detect false positives.
  * <p>
- * There are two broad-phase implementations at this time: {@link org.dyn4j.collision.broadphase.Sap} and 
- * {@link org.dyn4j.collision.broadphase.DynamicAABBTree}, each with their 
- * own merits and drawbacks. The {@link org.dyn4j.collision.broadphase.DynamicAABBTree} is the default.
+ * There are five broad-phase implementations at this time: {@link org.dyn4j.collision.broadphase.Sap}, 
+ * {@link org.dyn4j.collision.broadphase.DynamicAABBTree}, {@link org.dyn4j.collision.broadphase.PackedDynamicAABBTree}, 
+ * {@link org.dyn4j.collision.broadphase.BoxPruning} and {@link org.dyn4j.collision.broadphase.HashedGrid}, each with their own merits and drawbacks. The 
+ * {@link org.dyn4j.collision.broadphase.DynamicAABBTree} is the default.
+ * The {@link org.dyn4j.collision.broadphase.PackedDynamicAABBTree} builds the same tree, but stores it in primitive 
+ * arrays so that it can be updated without allocation.  The {@link org.dyn4j.collision.broadphase.BoxPruning}
+ * detector sweeps sorted arrays along the axis the objects are most spread out on.  The 
+ * {@link org.dyn4j.collision.broadphase.HashedGrid} places the objects in uniform cells and works best when 
+ * the objects are of similar size.
  * @author William Bittle
- * @version 4.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 package org.dyn4j.collision.broadphase;
\ No newline at end of file
@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
 import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.Separation;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.EdgeFeature;
 import org.dyn4j.geometry.Feature;
@@ -50,8 +51,12 @@ import org.dyn4j.geometry.Vector2;
  * <p>
  * It's possible that no contact points are returned, in which case the {@link #getManifold(Penetration, Convex, Transform, Convex, Transform, Manifold)}
  * method will return false.
+ * <p>
+ * The {@link #getManifold(Separation, double, Convex, Transform, Convex, Transform, Manifold)} method builds a 
+ * speculative manifold for two separated {@link Convex} {@link Shape}s in the same way using the separation
+ * normal.  The points of a speculative manifold have a negative depth equal to their separation.
  * @author William Bittle
- * @version 4.2.1
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="http://www.dyn4j.org/2011/11/contact-points-using-clipping/" target="_blank">Contact Points Using Clipping</a>
  */
@@ -61,16 +66,66 @@ public class ClippingManifoldSolver implements ManifoldSolver {
 	 */
 	@Override
 	public boolean getManifold(Penetration penetration, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
-		// get the penetration normal
-		Vector2 n = penetration.getNormal();
+		// only keep the points that are penetrating
+		return this.getManifold(penetration.getNormal(), penetration.getDepth(), 0.0, convex1, transform1, convex2, transform2, manifold);
+	}
+	
+	/**
+	 * Returns true if there exists a speculative contact manifold between the two separated {@link Convex} {@link Shape}s.
+	 * <p>
+	 * The separation normal and distance are used in place of the penetration normal and depth.  The manifold points
+	 * have a negative depth equal to their separation and only the points separated by less than the given maximum 
+	 * distance are kept.  If clipping doesn't produce any points, a single point at the closest point on the first
+	 * {@link Convex} {@link Shape} is used.
+	 * @param separation the separation of the shapes
+	 * @param maximumDistance the maximum separation of a manifold point
+	 * @param convex1 the first {@link Convex} {@link Shape}
+	 * @param transform1 the first {@link Convex} {@link Shape}'s {@link Transform}
+	 * @param convex2 the second {@link Convex} {@link Shape}
+	 * @param transform2 the second {@link Convex} {@link Shape}'s {@link Transform}
+	 * @param manifold the {@link Manifold} object to fill
+	 * @return boolean true if the separation is less than the maximum distance
+	 * @since 6.1.0
+	 */
+	public boolean getManifold(Separation separation, double maximumDistance, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+		double distance = separation.getDistance();
+		if (distance >= maximumDistance) {
+			return false;
+		}
 		
+		Vector2 n = separation.getNormal();
+		if (this.getManifold(n, -distance, -maximumDistance, convex1, transform1, convex2, transform2, manifold)) {
+			return true;
+		}
+		
+		// the features didn't clip to any points so use the closest points
+		manifold.points.clear();
+		manifold.points.add(new ManifoldPoint(ManifoldPointId.DISTANCE, separation.getPoint1().copy(), -distance));
+		manifold.normal.x = -n.x;
+		manifold.normal.y = -n.y;
+		return true;
+	}
+	
+	/**
+	 * Finds the closest features along the given normal and clips them to build the {@link Manifold}.
+	 * @param n the normal from the first {@link Convex} {@link Shape} to the second
+	 * @param depth the depth along the normal; negative if the shapes are separated
+	 * @param minimumDepth the minimum depth of the clipped points
+	 * @param convex1 the first {@link Convex} {@link Shape}
+	 * @param transform1 the first {@link Convex} {@link Shape}'s {@link Transform}
+	 * @param convex2 the second {@link Convex} {@link Shape}
+	 * @param transform2 the second {@link Convex} {@link Shape}'s {@link Transform}
+	 * @param manifold the {@link Manifold} object to fill
+	 * @return boolean true if the manifold has at least one point
+	 */
+	private boolean getManifold(Vector2 n, double depth, double minimumDepth, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
 		// get the reference feature for the first convex shape
 		Feature feature1 = convex1.getFarthestFeature(n, transform1);
 		// check for vertex
 		if (feature1 instanceof PointFeature) {
 			// if the maximum
 			PointFeature vertex = (PointFeature) feature1;
-			ManifoldPoint mp = new ManifoldPoint(ManifoldPointId.DISTANCE, vertex.getPoint(), penetration.getDepth());
+			ManifoldPoint mp = new ManifoldPoint(ManifoldPointId.DISTANCE, vertex.getPoint(), depth);
 			manifold.points.add(mp);
 			manifold.normal.x = -n.x;
 			manifold.normal.y = -n.y;
@@ -83,7 +138,7 @@ public class ClippingManifoldSolver implements ManifoldSolver {
 		// check for vertex
 		if (feature2 instanceof PointFeature) {
 			PointFeature vertex = (PointFeature) feature2;
-			ManifoldPoint mp = new ManifoldPoint(ManifoldPointId.DISTANCE, vertex.getPoint(), penetration.getDepth());
+			ManifoldPoint mp = new ManifoldPoint(ManifoldPointId.DISTANCE, vertex.getPoint(), depth);
 			manifold.points.add(mp);
 			manifold.normal.x = ne.x;
 			manifold.normal.y = ne.y;
@@ -148,13 +203,13 @@ public class ClippingManifoldSolver implements ManifoldSolver {
 		for (int i = 0; i < clip2.size(); i++) {
 			PointFeature vertex = clip2.get(i);
 			Vector2 point = vertex.getPoint();
-			double depth = frontNormal.dot(point) - frontOffset;
+			double pointDepth = frontNormal.dot(point) - frontOffset;
 			// make sure the point is behind the front normal
-			if (depth >= 0.0) {
+			if (pointDepth >= minimumDepth) {
 				// create an id for the manifold point
 				IndexedManifoldPointId id = new IndexedManifoldPointId(reference.getIndex(), incident.getIndex(), vertex.getIndex(), flipped);
 				// create the manifold point
-				ManifoldPoint mp = new ManifoldPoint(id, point, depth);
+				ManifoldPoint mp = new ManifoldPoint(id, point, pointDepth);
 				// add it to the list
 				manifold.points.add(mp);
 			}
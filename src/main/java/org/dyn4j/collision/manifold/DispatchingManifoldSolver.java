@@ -0,0 +1,1166 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.manifold;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dyn4j.Copyable;
+import org.dyn4j.Epsilon;
+import org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.FallbackCondition;
+import org.dyn4j.collision.narrowphase.FallbackNarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.Gjk;
+import org.dyn4j.collision.narrowphase.NarrowphaseCache;
+import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.NarrowphasePostProcessor;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.exception.ArgumentNullException;
+import org.dyn4j.geometry.Capsule;
+import org.dyn4j.geometry.Circle;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Link;
+import org.dyn4j.geometry.Polygon;
+import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Segment;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Triangle;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Represents a {@link NarrowphaseDetector} and {@link ManifoldSolver} that dispatches on the concrete
+ * {@link Convex} class pair to specialized routines that find the {@link Penetration} and the contact
+ * {@link Manifold} in a single pass.
+ * <p>
+ * The following pairs (in either order) are handled directly:
+ * <ul>
+ * <li>{@link Circle} - {@link Circle}</li>
+ * <li>{@link Circle} - {@link Polygon}</li>
+ * <li>{@link Circle} - {@link Segment}</li>
+ * <li>{@link Circle} - {@link Capsule}</li>
+ * <li>{@link Polygon} - {@link Polygon} using SAT and reference edge clipping</li>
+ * <li>{@link Capsule} - {@link Capsule}</li>
+ * </ul>
+ * Where {@link Polygon} means exactly the {@link Polygon}, {@link Rectangle} and {@link Triangle} classes and 
+ * {@link Segment} means exactly the {@link Segment} and {@link Link} classes.  Sub classes of these are not
+ * dispatched since they may change how the shape behaves.  All other pairs, degenerate configurations, and pairs
+ * matching any of the added {@link FallbackCondition}s, are handed to the fallback {@link NarrowphaseDetector} 
+ * and {@link ManifoldSolver}; {@link Gjk} and {@link ClippingManifoldSolver} by default.
+ * <p>
+ * To take advantage of the single pass, this class should be set as both the {@link NarrowphaseDetector} and
+ * the {@link ManifoldSolver}:
+ * <pre>
+ * DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+ * world.setNarrowphaseDetector(dms);
+ * world.setManifoldSolver(dms);</pre>
+ * The manifold found in the last successful call to {@link #detect(Convex, Transform, Convex, Transform, Penetration)}
+ * is kept and returned by {@link #getManifold(Penetration, Convex, Transform, Convex, Transform, Manifold)} when called
+ * with the same shapes, unchanged transforms, and an unchanged {@link Penetration}.  If any of these changed, for
+ * example because a {@link NarrowphasePostProcessor} modified the penetration, the fallback {@link ManifoldSolver} 
+ * is used instead.  The contact manifolds follow the same conventions as the {@link ClippingManifoldSolver}.
+ * <p>
+ * This class implements the {@link Copyable} interface because it has internal state.  Like the
+ * {@link FallbackNarrowphaseDetector}, the fallback detector and solver are copied if they implement the 
+ * {@link Copyable} interface and the {@link FallbackCondition}s are shared.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class DispatchingManifoldSolver implements CachingNarrowphaseDetector, ManifoldSolver, Copyable<DispatchingManifoldSolver> {
+	/** The separation tolerance used to prefer the first polygon's edge as the reference edge */
+	private static final double REFERENCE_EDGE_TOLERANCE = 0.0005;
+	
+	/** The minimum projection of the normal onto both capsule side normals to generate a two point manifold */
+	private static final double CAPSULE_SIDE_SELECTION_CRITERIA = 0.98;
+	
+	/** Type identifier for shapes that are not dispatched */
+	private static final int TYPE_UNKNOWN = -1;
+	
+	/** Type identifier for {@link Polygon}, {@link Rectangle} and {@link Triangle} */
+	private static final int TYPE_POLYGON = 0;
+	
+	/** Type identifier for {@link Circle} */
+	private static final int TYPE_CIRCLE = 1;
+	
+	/** Type identifier for {@link Capsule} */
+	private static final int TYPE_CAPSULE = 2;
+	
+	/** Type identifier for {@link Segment} and {@link Link} */
+	private static final int TYPE_SEGMENT = 3;
+	
+	/** The number of type identifiers */
+	private static final int TYPE_COUNT = 4;
+	
+	/** Return code of the routines when the shapes are separated */
+	private static final int SEPARATED = 0;
+	
+	/** Return code of the routines when the shapes are penetrating */
+	private static final int PENETRATING = 1;
+	
+	/** Return code of the routines when the configuration must be handled by the fallback */
+	private static final int UNRESOLVED = 2;
+	
+	/** The fallback {@link NarrowphaseDetector} */
+	protected final NarrowphaseDetector fallbackNarrowphaseDetector;
+	
+	/** The fallback {@link ManifoldSolver} */
+	protected final ManifoldSolver fallbackManifoldSolver;
+	
+	/** The conditions for when to use the fallback {@link NarrowphaseDetector} */
+	protected final List<FallbackCondition> fallbackConditions;
+	
+	/** The manifold found by the last detection */
+	private final Manifold manifold;
+	
+	/** Scratch penetration for the detect methods that don't return one */
+	private final Penetration penetration;
+	
+	/** True if the manifold found by the last detection is available */
+	private boolean manifoldAvailable;
+	
+	/** The first shape of the last detection */
+	private Convex convex1;
+	
+	/** The first transform of the last detection */
+	private Transform transform1;
+	
+	/** The version of the first transform at the last detection */
+	private long version1;
+	
+	/** The second shape of the last detection */
+	private Convex convex2;
+	
+	/** The second transform of the last detection */
+	private Transform transform2;
+	
+	/** The version of the second transform at the last detection */
+	private long version2;
+	
+	/** The x component of the penetration normal of the last detection */
+	private double normalX;
+	
+	/** The y component of the penetration normal of the last detection */
+	private double normalY;
+	
+	/** The penetration depth of the last detection */
+	private double depth;
+	
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Uses {@link Gjk} and {@link ClippingManifoldSolver} as the fallbacks.
+	 */
+	public DispatchingManifoldSolver() {
+		this(new Gjk(), new ClippingManifoldSolver(), null);
+	}
+	
+	/**
+	 * Minimal constructor.
+	 * @param fallbackNarrowphaseDetector the fallback {@link NarrowphaseDetector}
+	 * @param fallbackManifoldSolver the fallback {@link ManifoldSolver}
+	 * @throws NullPointerException if either the fallback {@link NarrowphaseDetector} or {@link ManifoldSolver} is null
+	 */
+	public DispatchingManifoldSolver(NarrowphaseDetector fallbackNarrowphaseDetector, ManifoldSolver fallbackManifoldSolver) {
+		this(fallbackNarrowphaseDetector, fallbackManifoldSolver, null);
+	}
+	
+	/**
+	 * Full constructor.
+	 * @param fallbackNarrowphaseDetector the fallback {@link NarrowphaseDetector}
+	 * @param fallbackManifoldSolver the fallback {@link ManifoldSolver}
+	 * @param conditions the fallback conditions
+	 * @throws NullPointerException if either the fallback {@link NarrowphaseDetector} or {@link ManifoldSolver} is null
+	 */
+	public DispatchingManifoldSolver(NarrowphaseDetector fallbackNarrowphaseDetector, ManifoldSolver fallbackManifoldSolver, List<FallbackCondition> conditions) {
+		if (fallbackNarrowphaseDetector == null) 
+			throw new ArgumentNullException("fallbackNarrowphaseDetector");
+		
+		if (fallbackManifoldSolver == null) 
+			throw new ArgumentNullException("fallbackManifoldSolver");
+		
+		this.fallbackNarrowphaseDetector = fallbackNarrowphaseDetector;
+		this.fallbackManifoldSolver = fallbackManifoldSolver;
+		if (conditions != null) {
+			this.fallbackConditions = conditions;
+		} else {
+			this.fallbackConditions = new ArrayList<FallbackCondition>();
+		}
+		
+		this.manifold = new Manifold();
+		this.penetration = new Penetration();
+		this.manifoldAvailable = false;
+	}
+	
+	/**
+	 * Adds the given condition to the list of fallback conditions.
+	 * @param condition the condition
+	 */
+	public void addCondition(FallbackCondition condition) {
+		this.fallbackConditions.add(condition);
+		Collections.sort(this.fallbackConditions);
+	}
+	
+	/**
+	 * Removes the given condition to the list of fallback conditions and
+	 * returns true if the operation was successful.
+	 * @param condition the condition
+	 * @return boolean
+	 */
+	public boolean removeCondition(FallbackCondition condition) {
+		return this.fallbackConditions.remove(condition);
+	}
+	
+	/**
+	 * Returns true if the given condition is contained in this detector.
+	 * @param condition the fallback condition
+	 * @return boolean
+	 */
+	public boolean containsCondition(FallbackCondition condition) {
+		return this.fallbackConditions.contains(condition);
+	}
+	
+	/**
+	 * Returns the number of fallback conditions.
+	 * @return int
+	 */
+	public int getConditionCount() {
+		return this.fallbackConditions.size();
+	}
+	
+	/**
+	 * Returns the fallback condition at the given index.
+	 * @param index the index
+	 * @return {@link FallbackCondition}
+	 * @throws IndexOutOfBoundsException if index is not between 0 and {@link #getConditionCount()}
+	 */
+	public FallbackCondition getCondition(int index) {
+		return this.fallbackConditions.get(index);
+	}
+	
+	/**
+	 * Returns true if the fallback {@link NarrowphaseDetector} and {@link ManifoldSolver} 
+	 * will be used for the given pair.
+	 * <p>
+	 * This is the case when the pair isn't one of the dispatched pairs or when any of the 
+	 * {@link FallbackCondition}s match.
+	 * @param convex1 the first convex
+	 * @param convex2 the second convex
+	 * @return boolean
+	 */
+	public boolean isFallbackRequired(Convex convex1, Convex convex2) {
+		return this.getPair(convex1, convex2) < 0;
+	}
+	
+	/**
+	 * Returns the dispatch key for the given pair or -1 if the pair should use the fallback.
+	 * @param convex1 the first convex
+	 * @param convex2 the second convex
+	 * @return int
+	 */
+	private int getPair(Convex convex1, Convex convex2) {
+		int type1 = getType(convex1);
+		int type2 = getType(convex2);
+		if (type1 == TYPE_UNKNOWN || type2 == TYPE_UNKNOWN) {
+			return -1;
+		}
+		
+		int pair = type1 * TYPE_COUNT + type2;
+		switch (pair) {
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_CIRCLE:
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_POLYGON:
+			case TYPE_POLYGON * TYPE_COUNT + TYPE_CIRCLE:
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_SEGMENT:
+			case TYPE_SEGMENT * TYPE_COUNT + TYPE_CIRCLE:
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_CAPSULE:
+			case TYPE_CAPSULE * TYPE_COUNT + TYPE_CIRCLE:
+			case TYPE_POLYGON * TYPE_COUNT + TYPE_POLYGON:
+			case TYPE_CAPSULE * TYPE_COUNT + TYPE_CAPSULE:
+				break;
+			default:
+				return -1;
+		}
+		
+		int size = this.fallbackConditions.size();
+		for (int i = 0; i < size; i++) {
+			FallbackCondition condition = this.fallbackConditions.get(i);
+			if (condition != null && condition.isMatch(convex1, convex2)) {
+				return -1;
+			}
+		}
+		
+		return pair;
+	}
+	
+	/**
+	 * Returns the type identifier for the given convex using its exact class.
+	 * @param convex the convex
+	 * @return int
+	 */
+	private static int getType(Convex convex) {
+		Class<?> type = convex.getClass();
+		if (type == Polygon.class || type == Rectangle.class || type == Triangle.class) {
+			return TYPE_POLYGON;
+		} else if (type == Circle.class) {
+			return TYPE_CIRCLE;
+		} else if (type == Capsule.class) {
+			return TYPE_CAPSULE;
+		} else if (type == Segment.class || type == Link.class) {
+			return TYPE_SEGMENT;
+		}
+		return TYPE_UNKNOWN;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration) {
+		return this.detect(convex1, transform1, convex2, transform2, penetration, null);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+		return this.detect(convex1, transform1, convex2, transform2, (NarrowphaseCache)null);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration, org.dyn4j.collision.narrowphase.NarrowphaseCache)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration, NarrowphaseCache cache) {
+		// any previous manifold is no longer valid
+		this.manifoldAvailable = false;
+		this.manifold.clear();
+		
+		int pair = this.getPair(convex1, convex2);
+		if (pair >= 0) {
+			int result = this.detect(pair, convex1, transform1, convex2, transform2, penetration, this.manifold);
+			if (result == PENETRATING) {
+				// keep the manifold for the manifold solver
+				Vector2 n = penetration.getNormal();
+				this.manifoldAvailable = true;
+				this.convex1 = convex1;
+				this.transform1 = transform1;
+				this.version1 = transform1.getVersion();
+				this.convex2 = convex2;
+				this.transform2 = transform2;
+				this.version2 = transform2.getVersion();
+				this.normalX = n.x;
+				this.normalY = n.y;
+				this.depth = penetration.getDepth();
+				return true;
+			} else if (result == SEPARATED) {
+				return false;
+			}
+			
+			// otherwise use the fallback
+			this.manifold.clear();
+		}
+		
+		if (cache != null && this.fallbackNarrowphaseDetector instanceof CachingNarrowphaseDetector) {
+			return ((CachingNarrowphaseDetector)this.fallbackNarrowphaseDetector).detect(convex1, transform1, convex2, transform2, penetration, cache);
+		}
+		return this.fallbackNarrowphaseDetector.detect(convex1, transform1, convex2, transform2, penetration);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.NarrowphaseCache)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache) {
+		int pair = this.getPair(convex1, convex2);
+		if (pair >= 0) {
+			this.penetration.clear();
+			int result = this.detect(pair, convex1, transform1, convex2, transform2, this.penetration, null);
+			if (result != UNRESOLVED) {
+				return result == PENETRATING;
+			}
+		}
+		
+		if (cache != null && this.fallbackNarrowphaseDetector instanceof CachingNarrowphaseDetector) {
+			return ((CachingNarrowphaseDetector)this.fallbackNarrowphaseDetector).detect(convex1, transform1, convex2, transform2, cache);
+		}
+		return this.fallbackNarrowphaseDetector.detect(convex1, transform1, convex2, transform2);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.manifold.ManifoldSolver#getManifold(org.dyn4j.collision.narrowphase.Penetration, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.manifold.Manifold)
+	 */
+	@Override
+	public boolean getManifold(Penetration penetration, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+		if (this.manifoldAvailable &&
+			this.convex1 == convex1 &&
+			this.convex2 == convex2 &&
+			this.transform1 == transform1 &&
+			this.transform2 == transform2 &&
+			this.version1 == transform1.getVersion() &&
+			this.version2 == transform2.getVersion() &&
+			this.normalX == penetration.getNormal().x &&
+			this.normalY == penetration.getNormal().y &&
+			this.depth == penetration.getDepth()) {
+			// hand over the manifold found during detection
+			this.manifoldAvailable = false;
+			this.convex1 = null;
+			this.transform1 = null;
+			this.convex2 = null;
+			this.transform2 = null;
+			
+			if (this.manifold.points.isEmpty()) {
+				return false;
+			}
+			
+			manifold.points.addAll(this.manifold.points);
+			manifold.normal.x = this.manifold.normal.x;
+			manifold.normal.y = this.manifold.normal.y;
+			this.manifold.clear();
+			return true;
+		}
+		
+		return this.fallbackManifoldSolver.getManifold(penetration, convex1, transform1, convex2, transform2, manifold);
+	}
+	
+	/**
+	 * Dispatches the given pair to its routine.
+	 * @param pair the dispatch key
+	 * @param convex1 the first convex
+	 * @param transform1 the first convex's transform
+	 * @param convex2 the second convex
+	 * @param transform2 the second convex's transform
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int one of {@link #SEPARATED}, {@link #PENETRATING} or {@link #UNRESOLVED}
+	 */
+	private int detect(int pair, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration, Manifold manifold) {
+		switch (pair) {
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_CIRCLE:
+				return this.detect((Circle)convex1, transform1, (Circle)convex2, transform2, penetration, manifold);
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_POLYGON:
+				return this.detect((Circle)convex1, transform1, (Polygon)convex2, transform2, true, penetration, manifold);
+			case TYPE_POLYGON * TYPE_COUNT + TYPE_CIRCLE:
+				return this.detect((Circle)convex2, transform2, (Polygon)convex1, transform1, false, penetration, manifold);
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_SEGMENT:
+				return this.detect((Circle)convex1, transform1, (Segment)convex2, transform2, true, penetration, manifold);
+			case TYPE_SEGMENT * TYPE_COUNT + TYPE_CIRCLE:
+				return this.detect((Circle)convex2, transform2, (Segment)convex1, transform1, false, penetration, manifold);
+			case TYPE_CIRCLE * TYPE_COUNT + TYPE_CAPSULE:
+				return this.detect((Circle)convex1, transform1, (Capsule)convex2, transform2, true, penetration, manifold);
+			case TYPE_CAPSULE * TYPE_COUNT + TYPE_CIRCLE:
+				return this.detect((Circle)convex2, transform2, (Capsule)convex1, transform1, false, penetration, manifold);
+			case TYPE_POLYGON * TYPE_COUNT + TYPE_POLYGON:
+				return this.detect((Polygon)convex1, transform1, (Polygon)convex2, transform2, penetration, manifold);
+			case TYPE_CAPSULE * TYPE_COUNT + TYPE_CAPSULE:
+				return this.detect((Capsule)convex1, transform1, (Capsule)convex2, transform2, penetration, manifold);
+			default:
+				return UNRESOLVED;
+		}
+	}
+	
+	/**
+	 * Detects a collision between two {@link Circle}s.
+	 * @param circle1 the first circle
+	 * @param transform1 the first circle's transform
+	 * @param circle2 the second circle
+	 * @param transform2 the second circle's transform
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Circle circle1, Transform transform1, Circle circle2, Transform transform2, Penetration penetration, Manifold manifold) {
+		Vector2 c1 = circle1.getCenter();
+		Vector2 c2 = circle2.getCenter();
+		double x1 = transform1.getTransformedX(c1);
+		double y1 = transform1.getTransformedY(c1);
+		double vx = transform2.getTransformedX(c2) - x1;
+		double vy = transform2.getTransformedY(c2) - y1;
+		
+		double r1 = circle1.getRadius();
+		double radii = r1 + circle2.getRadius();
+		double mag = vx * vx + vy * vy;
+		if (mag >= radii * radii) {
+			return SEPARATED;
+		}
+		
+		// coincident centers have no well defined normal
+		if (mag <= Epsilon.E) {
+			return UNRESOLVED;
+		}
+		
+		double d = Math.sqrt(mag);
+		double nx = vx / d;
+		double ny = vy / d;
+		
+		// the contact point is the deepest point on the first circle
+		setResult(nx, ny, radii - d, x1 + nx * r1, y1 + ny * r1, penetration, manifold);
+		return PENETRATING;
+	}
+	
+	/**
+	 * Detects a collision between a {@link Circle} and a {@link Polygon}.
+	 * @param circle the circle
+	 * @param circleTransform the circle's transform
+	 * @param polygon the polygon
+	 * @param polygonTransform the polygon's transform
+	 * @param circleFirst true if the circle is the first shape of the pair
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Circle circle, Transform circleTransform, Polygon polygon, Transform polygonTransform, boolean circleFirst, Penetration penetration, Manifold manifold) {
+		double radius = circle.getRadius();
+		Vector2 c = circle.getCenter();
+		double cx = circleTransform.getTransformedX(c);
+		double cy = circleTransform.getTransformedY(c);
+		
+		// put the circle center in the polygon's local space
+		double cos = polygonTransform.getCost();
+		double sin = polygonTransform.getSint();
+		double dx = cx - polygonTransform.getTranslationX();
+		double dy = cy - polygonTransform.getTranslationY();
+		double lx = cos * dx + sin * dy;
+		double ly = -sin * dx + cos * dy;
+		
+		// find the edge of maximum separation
+		Vector2[] vertices = polygon.getVertices();
+		Vector2[] normals = polygon.getNormals();
+		int count = vertices.length;
+		int index = 0;
+		double separation = -Double.MAX_VALUE;
+		for (int i = 0; i < count; i++) {
+			Vector2 v = vertices[i];
+			Vector2 n = normals[i];
+			double s = n.x * (lx - v.x) + n.y * (ly - v.y);
+			if (s >= radius) {
+				return SEPARATED;
+			}
+			if (s > separation) {
+				separation = s;
+				index = i;
+			}
+		}
+		
+		Vector2 v1 = vertices[index];
+		Vector2 v2 = vertices[index + 1 == count ? 0 : index + 1];
+		
+		// the local normal from the polygon to the circle
+		double nx = normals[index].x;
+		double ny = normals[index].y;
+		double depth = radius - separation;
+		
+		// if the center is outside the polygon, check the voronoi regions of the edge's vertices
+		if (separation > Epsilon.E) {
+			double u1 = (lx - v1.x) * (v2.x - v1.x) + (ly - v1.y) * (v2.y - v1.y);
+			double u2 = (lx - v2.x) * (v1.x - v2.x) + (ly - v2.y) * (v1.y - v2.y);
+			Vector2 v = null;
+			if (u1 <= 0.0) {
+				v = v1;
+			} else if (u2 <= 0.0) {
+				v = v2;
+			}
+			
+			if (v != null) {
+				double vx = lx - v.x;
+				double vy = ly - v.y;
+				double mag = vx * vx + vy * vy;
+				if (mag >= radius * radius) {
+					return SEPARATED;
+				}
+				double d = Math.sqrt(mag);
+				nx = vx / d;
+				ny = vy / d;
+				depth = radius - d;
+			}
+		}
+		
+		// put the normal in world space
+		double wx = cos * nx - sin * ny;
+		double wy = sin * nx + cos * ny;
+		
+		// the contact point is the deepest point on the circle
+		double px = cx - wx * radius;
+		double py = cy - wy * radius;
+		if (circleFirst) {
+			setResult(-wx, -wy, depth, px, py, penetration, manifold);
+		} else {
+			setResult(wx, wy, depth, px, py, penetration, manifold);
+		}
+		return PENETRATING;
+	}
+	
+	/**
+	 * Detects a collision between a {@link Circle} and a {@link Segment}.
+	 * @param circle the circle
+	 * @param circleTransform the circle's transform
+	 * @param segment the segment
+	 * @param segmentTransform the segment's transform
+	 * @param circleFirst true if the circle is the first shape of the pair
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Circle circle, Transform circleTransform, Segment segment, Transform segmentTransform, boolean circleFirst, Penetration penetration, Manifold manifold) {
+		Vector2 c = circle.getCenter();
+		Vector2 p1 = segment.getPoint1();
+		Vector2 p2 = segment.getPoint2();
+		return detect(
+				circleTransform.getTransformedX(c), 
+				circleTransform.getTransformedY(c), 
+				circle.getRadius(),
+				segmentTransform.getTransformedX(p1),
+				segmentTransform.getTransformedY(p1),
+				segmentTransform.getTransformedX(p2),
+				segmentTransform.getTransformedY(p2),
+				0.0,
+				circleFirst,
+				penetration,
+				manifold);
+	}
+	
+	/**
+	 * Detects a collision between a {@link Circle} and a {@link Capsule}.
+	 * @param circle the circle
+	 * @param circleTransform the circle's transform
+	 * @param capsule the capsule
+	 * @param capsuleTransform the capsule's transform
+	 * @param circleFirst true if the circle is the first shape of the pair
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Circle circle, Transform circleTransform, Capsule capsule, Transform capsuleTransform, boolean circleFirst, Penetration penetration, Manifold manifold) {
+		Vector2 c = circle.getCenter();
+		Vector2[] foci = capsule.getFoci(capsuleTransform);
+		return detect(
+				circleTransform.getTransformedX(c), 
+				circleTransform.getTransformedY(c), 
+				circle.getRadius(),
+				foci[0].x,
+				foci[0].y,
+				foci[1].x,
+				foci[1].y,
+				capsule.getCapRadius(),
+				circleFirst,
+				penetration,
+				manifold);
+	}
+	
+	/**
+	 * Detects a collision between a circle and a radially expanded segment, all in world space.
+	 * @param cx the circle center x
+	 * @param cy the circle center y
+	 * @param radius the circle radius
+	 * @param ax the segment start x
+	 * @param ay the segment start y
+	 * @param bx the segment end x
+	 * @param by the segment end y
+	 * @param segmentRadius the segment radius; zero for a {@link Segment}
+	 * @param circleFirst true if the circle is the first shape of the pair
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private static int detect(double cx, double cy, double radius, double ax, double ay, double bx, double by, double segmentRadius, boolean circleFirst, Penetration penetration, Manifold manifold) {
+		// find the closest point on the segment to the circle center
+		double ex = bx - ax;
+		double ey = by - ay;
+		double t = (cx - ax) * ex + (cy - ay) * ey;
+		double ee = ex * ex + ey * ey;
+		if (t <= 0.0 || ee <= Epsilon.E) {
+			t = 0.0;
+		} else if (t >= ee) {
+			t = 1.0;
+		} else {
+			t /= ee;
+		}
+		
+		double vx = cx - (ax + ex * t);
+		double vy = cy - (ay + ey * t);
+		double radii = radius + segmentRadius;
+		double mag = vx * vx + vy * vy;
+		if (mag >= radii * radii) {
+			return SEPARATED;
+		}
+		
+		// the center is on the segment so there's no well defined normal
+		if (mag <= Epsilon.E) {
+			return UNRESOLVED;
+		}
+		
+		// the normal from the segment to the circle
+		double d = Math.sqrt(mag);
+		double nx = vx / d;
+		double ny = vy / d;
+		
+		// the contact point is the deepest point on the circle
+		double px = cx - nx * radius;
+		double py = cy - ny * radius;
+		if (circleFirst) {
+			setResult(-nx, -ny, radii - d, px, py, penetration, manifold);
+		} else {
+			setResult(nx, ny, radii - d, px, py, penetration, manifold);
+		}
+		return PENETRATING;
+	}
+	
+	/**
+	 * Detects a collision between two {@link Capsule}s.
+	 * <p>
+	 * A two point manifold is generated when the capsules' sides face each other, otherwise
+	 * a single point manifold is generated.
+	 * @param capsule1 the first capsule
+	 * @param transform1 the first capsule's transform
+	 * @param capsule2 the second capsule
+	 * @param transform2 the second capsule's transform
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Capsule capsule1, Transform transform1, Capsule capsule2, Transform transform2, Penetration penetration, Manifold manifold) {
+		Vector2[] f1 = capsule1.getFoci(transform1);
+		Vector2[] f2 = capsule2.getFoci(transform2);
+		double r1 = capsule1.getCapRadius();
+		double r2 = capsule2.getCapRadius();
+		
+		Vector2 a = f1[0];
+		Vector2 b = f2[0];
+		double d1x = f1[1].x - a.x;
+		double d1y = f1[1].y - a.y;
+		double d2x = f2[1].x - b.x;
+		double d2y = f2[1].y - b.y;
+		double rx = a.x - b.x;
+		double ry = a.y - b.y;
+		
+		// find the closest points on the two focal segments
+		double l1 = d1x * d1x + d1y * d1y;
+		double l2 = d2x * d2x + d2y * d2y;
+		double d12 = d1x * d2x + d1y * d2y;
+		double c1 = d1x * rx + d1y * ry;
+		double c2 = d2x * rx + d2y * ry;
+		double denom = l1 * l2 - d12 * d12;
+		
+		// the capsule's foci are never coincident so l1 and l2 are positive
+		double s = 0.0;
+		if (denom > Epsilon.E) {
+			s = clamp((d12 * c2 - c1 * l2) / denom);
+		}
+		double t = (d12 * s + c2) / l2;
+		if (t < 0.0) {
+			t = 0.0;
+			s = clamp(-c1 / l1);
+		} else if (t > 1.0) {
+			t = 1.0;
+			s = clamp((d12 - c1) / l1);
+		}
+		
+		double p1x = a.x + d1x * s;
+		double p1y = a.y + d1y * s;
+		double vx = b.x + d2x * t - p1x;
+		double vy = b.y + d2y * t - p1y;
+		double radii = r1 + r2;
+		double mag = vx * vx + vy * vy;
+		if (mag >= radii * radii) {
+			return SEPARATED;
+		}
+		
+		// the focal segments intersect so there's no well defined normal
+		if (mag <= Epsilon.E) {
+			return UNRESOLVED;
+		}
+		
+		double d = Math.sqrt(mag);
+		double nx = vx / d;
+		double ny = vy / d;
+		
+		// the penetration
+		Vector2 pn = penetration.getNormal();
+		pn.x = nx;
+		pn.y = ny;
+		penetration.setDepth(radii - d);
+		
+		if (manifold == null) {
+			return PENETRATING;
+		}
+		
+		// do the sides face each other?
+		double len1 = Math.sqrt(l1);
+		double len2 = Math.sqrt(l2);
+		double sn1 = (nx * d1y - ny * d1x) / len1;
+		double sn2 = (nx * d2y - ny * d2x) / len2;
+		if (Math.abs(sn1) >= CAPSULE_SIDE_SELECTION_CRITERIA && Math.abs(sn2) >= CAPSULE_SIDE_SELECTION_CRITERIA) {
+			// the side normal of the first capsule facing the second
+			double sx = d1y / len1;
+			double sy = -d1x / len1;
+			int side1 = 0;
+			if (sn1 < 0.0) {
+				sx = -sx;
+				sy = -sy;
+				side1 = 1;
+			}
+			int side2 = sn2 < 0.0 ? 0 : 1;
+			
+			// clip the second focal segment by the extent of the first
+			double u1 = -(rx * d1x + ry * d1y) / l1;
+			double u2 = u1 + d12 / l1;
+			double du = u2 - u1;
+			if (Math.abs(du) > Epsilon.E) {
+				double lo = Math.max(0.0, Math.min(-u1 / du, (1.0 - u1) / du));
+				double hi = Math.min(1.0, Math.max(-u1 / du, (1.0 - u1) / du));
+				if (hi - lo > Epsilon.E) {
+					double sOffset = sx * a.x + sy * a.y;
+					double[] clip = new double[] { lo, hi };
+					for (int i = 0; i < 2; i++) {
+						double qx = b.x + d2x * clip[i];
+						double qy = b.y + d2y * clip[i];
+						double depth = radii - (sx * qx + sy * qy - sOffset);
+						if (depth >= 0.0) {
+							// the point is on the second capsule's side
+							Vector2 point = new Vector2(qx - sx * r2, qy - sy * r2);
+							IndexedManifoldPointId id = new IndexedManifoldPointId(side1, side2, i);
+							manifold.points.add(new ManifoldPoint(id, point, depth));
+						}
+					}
+					
+					if (manifold.points.size() == 2) {
+						manifold.normal.x = -sx;
+						manifold.normal.y = -sy;
+						return PENETRATING;
+					}
+					manifold.points.clear();
+				}
+			}
+		}
+		
+		// the contact point is the deepest point on the first capsule
+		setResult(nx, ny, radii - d, p1x + nx * r1, p1y + ny * r1, penetration, manifold);
+		return PENETRATING;
+	}
+	
+	/**
+	 * Detects a collision between two {@link Polygon}s using the separating axis theorem
+	 * and builds the manifold by clipping the incident edge against the reference edge.
+	 * @param polygon1 the first polygon
+	 * @param transform1 the first polygon's transform
+	 * @param polygon2 the second polygon
+	 * @param transform2 the second polygon's transform
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 * @return int
+	 */
+	private int detect(Polygon polygon1, Transform transform1, Polygon polygon2, Transform transform2, Penetration penetration, Manifold manifold) {
+		int edge1 = getMaxSeparationEdge(polygon1, transform1, polygon2, transform2);
+		double separation1 = getSeparation(polygon1, transform1, edge1, polygon2, transform2);
+		if (separation1 >= 0.0) {
+			return SEPARATED;
+		}
+		
+		int edge2 = getMaxSeparationEdge(polygon2, transform2, polygon1, transform1);
+		double separation2 = getSeparation(polygon2, transform2, edge2, polygon1, transform1);
+		if (separation2 >= 0.0) {
+			return SEPARATED;
+		}
+		
+		// choose the reference edge preferring the first polygon's for consistency between steps
+		Polygon reference = polygon1;
+		Transform referenceTransform = transform1;
+		Polygon incident = polygon2;
+		Transform incidentTransform = transform2;
+		int referenceEdge = edge1;
+		boolean flipped = false;
+		if (separation2 > separation1 + REFERENCE_EDGE_TOLERANCE) {
+			reference = polygon2;
+			referenceTransform = transform2;
+			incident = polygon1;
+			incidentTransform = transform1;
+			referenceEdge = edge2;
+			flipped = true;
+		}
+		
+		// the reference edge's normal in world space
+		Vector2 rn = referenceTransform.getTransformedR(reference.getNormals()[referenceEdge]);
+		
+		// the penetration is along the reference edge's normal which is within the 
+		// tolerance of the axis of minimum penetration
+		Vector2 pn = penetration.getNormal();
+		if (flipped) {
+			pn.x = -rn.x;
+			pn.y = -rn.y;
+			penetration.setDepth(-separation2);
+		} else {
+			pn.x = rn.x;
+			pn.y = rn.y;
+			penetration.setDepth(-separation1);
+		}
+		
+		if (manifold == null) {
+			return PENETRATING;
+		}
+		
+		Vector2[] rvertices = reference.getVertices();
+		Vector2[] ivertices = incident.getVertices();
+		Vector2[] inormals = incident.getNormals();
+		int rcount = rvertices.length;
+		int icount = ivertices.length;
+		
+		// find the incident edge, the edge most anti-parallel to the reference edge's normal
+		double nx = incidentTransform.getCost() * rn.x + incidentTransform.getSint() * rn.y;
+		double ny = -incidentTransform.getSint() * rn.x + incidentTransform.getCost() * rn.y;
+		int incidentEdge = 0;
+		double min = Double.MAX_VALUE;
+		for (int i = 0; i < icount; i++) {
+			double dot = inormals[i].x * nx + inormals[i].y * ny;
+			if (dot < min) {
+				min = dot;
+				incidentEdge = i;
+			}
+		}
+		
+		int i1 = incidentEdge;
+		int i2 = incidentEdge + 1 == icount ? 0 : incidentEdge + 1;
+		Vector2 r1 = referenceTransform.getTransformed(rvertices[referenceEdge]);
+		Vector2 r2 = referenceTransform.getTransformed(rvertices[referenceEdge + 1 == rcount ? 0 : referenceEdge + 1]);
+		Vector2 p1 = incidentTransform.getTransformed(ivertices[i1]);
+		Vector2 p2 = incidentTransform.getTransformed(ivertices[i2]);
+		
+		// clip the incident edge by the reference edge's side planes
+		// the reference edge's tangent is the normal rotated to the left
+		double tx = -rn.y;
+		double ty = rn.x;
+		double a1 = tx * p1.x + ty * p1.y;
+		double a2 = tx * p2.x + ty * p2.y;
+		double lo = tx * r1.x + ty * r1.y;
+		double hi = tx * r2.x + ty * r2.y;
+		double da = a2 - a1;
+		double smin = 0.0;
+		double smax = 1.0;
+		if (Math.abs(da) > Epsilon.E) {
+			double sl = (lo - a1) / da;
+			double sh = (hi - a1) / da;
+			smin = Math.max(0.0, Math.min(sl, sh));
+			smax = Math.min(1.0, Math.max(sl, sh));
+		} else if (a1 < lo || a1 > hi) {
+			return PENETRATING;
+		}
+		
+		if (smax <= smin) {
+			return PENETRATING;
+		}
+		
+		// keep the clipped points behind the reference edge
+		double ex = p2.x - p1.x;
+		double ey = p2.y - p1.y;
+		double offset = rn.x * r1.x + rn.y * r1.y;
+		for (int i = 0; i < 2; i++) {
+			double s = i == 0 ? smin : smax;
+			double px = p1.x + ex * s;
+			double py = p1.y + ey * s;
+			double depth = offset - (rn.x * px + rn.y * py);
+			if (depth >= 0.0) {
+				IndexedManifoldPointId id = new IndexedManifoldPointId(referenceEdge, incidentEdge, i == 0 ? i1 : i2, flipped);
+				manifold.points.add(new ManifoldPoint(id, new Vector2(px, py), depth));
+			}
+		}
+		
+		// the manifold normal points from the second polygon to the first
+		manifold.normal.x = flipped ? rn.x : -rn.x;
+		manifold.normal.y = flipped ? rn.y : -rn.y;
+		return PENETRATING;
+	}
+	
+	/**
+	 * Returns the index of the edge of the first polygon with the largest separation from the 
+	 * second polygon.
+	 * @param polygon1 the first polygon
+	 * @param transform1 the first polygon's transform
+	 * @param polygon2 the second polygon
+	 * @param transform2 the second polygon's transform
+	 * @return int
+	 */
+	private static int getMaxSeparationEdge(Polygon polygon1, Transform transform1, Polygon polygon2, Transform transform2) {
+		int count = polygon1.getVertices().length;
+		int index = 0;
+		double max = -Double.MAX_VALUE;
+		for (int i = 0; i < count; i++) {
+			double s = getSeparation(polygon1, transform1, i, polygon2, transform2);
+			if (s > max) {
+				max = s;
+				index = i;
+			}
+		}
+		return index;
+	}
+	
+	/**
+	 * Returns the separation of the second polygon from the given edge of the first polygon.
+	 * <p>
+	 * The edge's normal and vertex are put in the second polygon's local space to avoid
+	 * transforming all of the second polygon's vertices.
+	 * @param polygon1 the first polygon
+	 * @param transform1 the first polygon's transform
+	 * @param edge the edge index of the first polygon
+	 * @param polygon2 the second polygon
+	 * @param transform2 the second polygon's transform
+	 * @return double negative if penetrating along the edge's normal
+	 */
+	private static double getSeparation(Polygon polygon1, Transform transform1, int edge, Polygon polygon2, Transform transform2) {
+		Vector2 n = polygon1.getNormals()[edge];
+		Vector2 v = polygon1.getVertices()[edge];
+		
+		double cos1 = transform1.getCost();
+		double sin1 = transform1.getSint();
+		double cos2 = transform2.getCost();
+		double sin2 = transform2.getSint();
+		
+		// world space normal and vertex
+		double wnx = cos1 * n.x - sin1 * n.y;
+		double wny = sin1 * n.x + cos1 * n.y;
+		double wvx = transform1.getTransformedX(v) - transform2.getTranslationX();
+		double wvy = transform1.getTransformedY(v) - transform2.getTranslationY();
+		
+		// in the second polygon's local space
+		double nx = cos2 * wnx + sin2 * wny;
+		double ny = -sin2 * wnx + cos2 * wny;
+		double vx = cos2 * wvx + sin2 * wvy;
+		double vy = -sin2 * wvx + cos2 * wvy;
+		
+		Vector2[] vertices = polygon2.getVertices();
+		int count = vertices.length;
+		double min = Double.MAX_VALUE;
+		for (int i = 0; i < count; i++) {
+			Vector2 p = vertices[i];
+			double s = nx * (p.x - vx) + ny * (p.y - vy);
+			if (s < min) {
+				min = s;
+			}
+		}
+		return min;
+	}
+	
+	/**
+	 * Fills the penetration and a single point manifold.
+	 * @param nx the penetration normal x; from the first shape to the second
+	 * @param ny the penetration normal y; from the first shape to the second
+	 * @param depth the penetration depth
+	 * @param px the contact point x
+	 * @param py the contact point y
+	 * @param penetration the penetration to fill
+	 * @param manifold the manifold to fill; can be null
+	 */
+	private static void setResult(double nx, double ny, double depth, double px, double py, Penetration penetration, Manifold manifold) {
+		Vector2 n = penetration.getNormal();
+		n.x = nx;
+		n.y = ny;
+		penetration.setDepth(depth);
+		
+		if (manifold != null) {
+			manifold.points.add(new ManifoldPoint(ManifoldPointId.DISTANCE, new Vector2(px, py), depth));
+			manifold.normal.x = -nx;
+			manifold.normal.y = -ny;
+		}
+	}
+	
+	/**
+	 * Clamps the given value to the range [0, 1].
+	 * @param value the value
+	 * @return double
+	 */
+	private static double clamp(double value) {
+		if (value < 0.0) return 0.0;
+		if (value > 1.0) return 1.0;
+		return value;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheHitCount()
+	 */
+	@Override
+	public long getCacheHitCount() {
+		if (this.fallbackNarrowphaseDetector instanceof CachingNarrowphaseDetector) {
+			return ((CachingNarrowphaseDetector)this.fallbackNarrowphaseDetector).getCacheHitCount();
+		}
+		return 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheMissCount()
+	 */
+	@Override
+	public long getCacheMissCount() {
+		if (this.fallbackNarrowphaseDetector instanceof CachingNarrowphaseDetector) {
+			return ((CachingNarrowphaseDetector)this.fallbackNarrowphaseDetector).getCacheMissCount();
+		}
+		return 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#resetCacheCounters()
+	 */
+	@Override
+	public void resetCacheCounters() {
+		if (this.fallbackNarrowphaseDetector instanceof CachingNarrowphaseDetector) {
+			((CachingNarrowphaseDetector)this.fallbackNarrowphaseDetector).resetCacheCounters();
+		}
+	}
+	
+	/**
+	 * Returns the fallback {@link NarrowphaseDetector}.
+	 * @return {@link NarrowphaseDetector}
+	 */
+	public NarrowphaseDetector getFallbackNarrowphaseDetector() {
+		return this.fallbackNarrowphaseDetector;
+	}
+	
+	/**
+	 * Returns the fallback {@link ManifoldSolver}.
+	 * @return {@link ManifoldSolver}
+	 */
+	public ManifoldSolver getFallbackManifoldSolver() {
+		return this.fallbackManifoldSolver;
+	}
+	
+	/**
+	 * Returns a copy of this detector.
+	 * <p>
+	 * The fallback {@link NarrowphaseDetector} and {@link ManifoldSolver} are copied if they implement
+	 * the {@link Copyable} interface, otherwise they are shared with the copy.  The
+	 * {@link FallbackCondition}s are always shared.  The manifold from the last detection
+	 * is not copied.
+	 * @return {@link DispatchingManifoldSolver}
+	 */
+	@Override
+	public DispatchingManifoldSolver copy() {
+		NarrowphaseDetector detector = this.fallbackNarrowphaseDetector;
+		ManifoldSolver solver = this.fallbackManifoldSolver;
+		if (detector instanceof Copyable) {
+			detector = (NarrowphaseDetector)((Copyable<?>)detector).copy();
+		}
+		if (solver instanceof Copyable) {
+			solver = (ManifoldSolver)((Copyable<?>)solver).copy();
+		}
+		return new DispatchingManifoldSolver(detector, solver, new ArrayList<FallbackCondition>(this.fallbackConditions));
+	}
+}
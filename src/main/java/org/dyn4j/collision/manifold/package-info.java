@@ -47,10 +47,13 @@
  * which describe the information for each contact point in the collision. The {@link org.dyn4j.collision.manifold.ManifoldPoint}s
  * have a {@link org.dyn4j.collision.manifold.ManifoldPointId} associated with them to facilitate caching.
  * <p>
- * Only one implementation of the {@link org.dyn4j.collision.manifold.ManifoldSolver} is provided: 
- * {@link org.dyn4j.collision.manifold.ClippingManifoldSolver}.
+ * The general purpose implementation of the {@link org.dyn4j.collision.manifold.ManifoldSolver} is the
+ * {@link org.dyn4j.collision.manifold.ClippingManifoldSolver}.  The 
+ * {@link org.dyn4j.collision.manifold.DispatchingManifoldSolver} is both a 
+ * {@link org.dyn4j.collision.narrowphase.NarrowphaseDetector} and a {@link org.dyn4j.collision.manifold.ManifoldSolver}
+ * that finds the penetration and manifold of common shape pairs in a single pass.
  * @author William Bittle
- * @version 2.2.2
+ * @version 6.1.0
  * @since 1.0.0
  */
 package org.dyn4j.collision.manifold;
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.narrowphase;
+
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Shape;
+import org.dyn4j.geometry.Transform;
+
+/**
+ * Represents a {@link NarrowphaseDetector} that can use a {@link NarrowphaseCache} to take 
+ * advantage of temporal coherence.
+ * <p>
+ * The detect methods accepting a {@link NarrowphaseCache} must return the same result as the 
+ * methods without.  The cache is only used to reach the result faster.  When more than one 
+ * direction has the minimum penetration depth, the {@link Penetration} normal may be any of them.
+ * When the given cache is null, they behave exactly like the methods without.
+ * <p>
+ * Implementations track the number of times a cache was used to exit early (a hit) and the number
+ * of times it wasn't (a miss).  These counters are only updated by the detect methods accepting a 
+ * {@link NarrowphaseCache} and can be used to verify the effectiveness of the cache.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see NarrowphaseCache
+ */
+public interface CachingNarrowphaseDetector extends NarrowphaseDetector {
+	/**
+	 * Returns true if the two {@link Convex} {@link Shape}s intersect and fills the {@link Penetration} object
+	 * with the penetration vector and depth.
+	 * <p>
+	 * The given cache is tested first and then updated with the result of the detection.
+	 * @param convex1 the first {@link Convex} {@link Shape}
+	 * @param transform1 the first {@link Shape}'s {@link Transform}
+	 * @param convex2 the second {@link Convex} {@link Shape}
+	 * @param transform2 the second {@link Shape}'s {@link Transform}
+	 * @param penetration the {@link Penetration} object to fill
+	 * @param cache the cache for this pair of {@link Convex} {@link Shape}s; can be null
+	 * @return boolean true if the two {@link Convex} {@link Shape}s intersect
+	 * @see #detect(Convex, Transform, Convex, Transform, Penetration)
+	 */
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration, NarrowphaseCache cache);
+	
+	/**
+	 * Returns true if the two {@link Convex} {@link Shape}s intersect.
+	 * <p>
+	 * The given cache is tested first and then updated with the result of the detection.
+	 * @param convex1 the first {@link Convex} {@link Shape}
+	 * @param transform1 the first {@link Shape}'s {@link Transform}
+	 * @param convex2 the second {@link Convex} {@link Shape}
+	 * @param transform2 the second {@link Shape}'s {@link Transform}
+	 * @param cache the cache for this pair of {@link Convex} {@link Shape}s; can be null
+	 * @return boolean true if the two {@link Convex} {@link Shape}s intersect
+	 * @see #detect(Convex, Transform, Convex, Transform)
+	 */
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache);
+	
+	/**
+	 * Returns the number of detections that exited early using the cache.
+	 * @return long
+	 */
+	public long getCacheHitCount();
+	
+	/**
+	 * Returns the number of detections that couldn't use the cache to exit early.
+	 * @return long
+	 */
+	public long getCacheMissCount();
+	
+	/**
+	 * Sets the cache hit and miss counters to zero.
+	 */
+	public void resetCacheCounters();
+}
@@ -33,7 +33,7 @@ import org.dyn4j.geometry.Vector2;
 /**
  * Class devoted to {@link Circle} detection queries.
  * @author William Bittle
- * @version 4.2.1
+ * @version 6.1.0
  * @since 2.0.0
  */
 public final class CircleDetector {
@@ -67,20 +67,23 @@ public final class CircleDetector {
 	 */
 	public static final boolean detect(Circle circle1, Transform transform1, Circle circle2, Transform transform2, Penetration penetration) {
 		// get their world centers
-		Vector2 ce1 = transform1.getTransformed(circle1.getCenter());
-		Vector2 ce2 = transform2.getTransformed(circle2.getCenter());
+		Vector2 c1 = circle1.getCenter();
+		Vector2 c2 = circle2.getCenter();
 		// create a vector from one center to the other
-		Vector2 v = ce2.subtract(ce1);
+		// (computed in place to avoid creating temporary vectors)
+		double vx = transform2.getTransformedX(c2) - transform1.getTransformedX(c1);
+		double vy = transform2.getTransformedY(c2) - transform1.getTransformedY(c1);
 		// check the magnitude against the sum of the radii
 		double radii = circle1.getRadius() + circle2.getRadius();
 		// get the magnitude squared
-		double mag = v.getMagnitudeSquared();
+		double mag = vx * vx + vy * vy;
 		// check difference
 		if (mag < radii * radii) {
 			// then we have a collision
-			penetration.depth = radii - v.normalize();
-			penetration.normal.x = v.x;
-			penetration.normal.y = v.y;
+			Vector2 n = penetration.normal;
+			n.x = vx;
+			n.y = vy;
+			penetration.depth = radii - n.normalize();
 			return true;
 		}
 		return false;
@@ -98,14 +101,15 @@ public final class CircleDetector {
 	 */
 	public static final boolean detect(Circle circle1, Transform transform1, Circle circle2, Transform transform2) {
 		// get their world centers
-		Vector2 ce1 = transform1.getTransformed(circle1.getCenter());
-		Vector2 ce2 = transform2.getTransformed(circle2.getCenter());
+		Vector2 c1 = circle1.getCenter();
+		Vector2 c2 = circle2.getCenter();
 		// create a vector from one center to the other
-		Vector2 v = ce2.subtract(ce1);
+		double vx = transform2.getTransformedX(c2) - transform1.getTransformedX(c1);
+		double vy = transform2.getTransformedY(c2) - transform1.getTransformedY(c1);
 		// check the magnitude against the sum of the radii
 		double radii = circle1.getRadius() + circle2.getRadius();
 		// get the magnitude squared
-		double mag = v.getMagnitudeSquared();
+		double mag = vx * vx + vy * vy;
 		// check difference
 		if (mag < radii * radii) {
 			// then we have a collision
@@ -24,8 +24,10 @@
  */
 package org.dyn4j.collision.narrowphase;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.Epsilon;
 import org.dyn4j.exception.ValueOutOfRangeException;
 import org.dyn4j.geometry.Convex;
@@ -61,13 +63,18 @@ import org.dyn4j.geometry.Vector2;
  * If either shape has curved surfaces the algorithm requires an expected accuracy epsilon: {@link #distanceEpsilon}.
  * In the case that the {@link #distanceEpsilon} is too small, the {@link #maxIterations} will prevent the
  * algorithm from running forever.
+ * <p>
+ * The expanding simplex and the support points are reused from one call to the next so that 
+ * {@link Epa} doesn't create any new objects once it has warmed up.  As a result, an instance
+ * of this class is not thread-safe.  Use the {@link #copy()} method to get an instance for
+ * another thread.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see Gjk
  * @see <a href="http://www.dyn4j.org/2010/05/epa-expanding-polytope-algorithm/" target="_blank">EPA (Expanding Polytope Algorithm)</a>
  */
-public class Epa implements MinkowskiPenetrationSolver {
+public class Epa implements MinkowskiPenetrationSolver, Copyable<Epa> {
 	/** The default {@link Epa} maximum iterations */
 	public static final int DEFAULT_MAX_ITERATIONS = 100;
 
@@ -80,19 +87,42 @@ public class Epa implements MinkowskiPenetrationSolver {
 	/** The {@link Epa} distance epsilon in meters */
 	protected double distanceEpsilon = Epa.DEFAULT_DISTANCE_EPSILON;
 	
+	/** The reusable expanding simplex */
+	private final ExpandingSimplex expandingSimplex = new ExpandingSimplex();
+	
+	/** The reusable support points */
+	private final List<Vector2> points = new ArrayList<Vector2>();
+	
+	/** The total number of iterations performed */
+	private long iterationCount;
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Copyable#copy()
+	 */
+	@Override
+	public Epa copy() {
+		Epa epa = new Epa();
+		epa.maxIterations = this.maxIterations;
+		epa.distanceEpsilon = this.distanceEpsilon;
+		return epa;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.narrowphase.MinkowskiPenetrationSolver#getPenetration(java.util.List, org.dyn4j.collision.narrowphase.MinkowskiSum, org.dyn4j.collision.narrowphase.Penetration)
 	 */
 	public void getPenetration(List<Vector2> simplex, MinkowskiSum minkowskiSum, Penetration penetration) {
-		// create an expandable simplex
-		ExpandingSimplex smplx = new ExpandingSimplex(simplex);
+		// reset the expandable simplex
+		ExpandingSimplex smplx = this.expandingSimplex;
+		smplx.initialize(simplex);
 		ExpandingSimplexEdge edge = null;
 		Vector2 point = null;
 		for (int i = 0; i < this.maxIterations; i++) {
+			this.iterationCount++;
 			// get the closest edge to the origin
 			edge = smplx.getClosestEdge();
 			// get a new support point in the direction of the edge normal
-			point = minkowskiSum.getSupportPoint(edge.normal);
+			point = this.getPoint(i);
+			minkowskiSum.getSupportPoint(edge.normal, point);
 			
 			// see if the new point is significantly past the edge
 			double projection = point.dot(edge.normal);
@@ -121,6 +151,32 @@ public class Epa implements MinkowskiPenetrationSolver {
 		penetration.depth = point.dot(edge.normal);
 	}
 	
+	/**
+	 * Returns the reusable support point for the given iteration.
+	 * @param iteration the iteration
+	 * @return {@link Vector2}
+	 * @since 6.1.0
+	 */
+	private Vector2 getPoint(int iteration) {
+		// points are only created the first time an iteration is reached
+		if (iteration == this.points.size()) {
+			this.points.add(new Vector2());
+		}
+		return this.points.get(iteration);
+	}
+	
+	/**
+	 * Returns the total number of iterations performed by this {@link Epa}.
+	 * <p>
+	 * This is a running total that's never reset and can be used to measure the 
+	 * cost of penetration solving between two points in time.  Copies start at zero.
+	 * @return long
+	 * @since 6.1.0
+	 */
+	public long getIterationCount() {
+		return this.iterationCount;
+	}
+	
 	/**
 	 * Returns the maximum number of iterations the algorithm will perform before exiting.
 	 * @return int
@@ -25,7 +25,6 @@
 package org.dyn4j.collision.narrowphase;
 
 import java.util.List;
-import java.util.PriorityQueue;
 
 import org.dyn4j.geometry.Vector2;
 
@@ -38,29 +37,74 @@ import org.dyn4j.geometry.Vector2;
  * <p>
  * Given the way the simplex is expanded, the winding can be computed initially
  * and will never change.
+ * <p>
+ * The edges are kept in a binary heap ordered by their distance to the origin.  Both 
+ * the heap and the edges are reused when the simplex is reinitialized using the 
+ * {@link #initialize(List)} method so that no objects are created once the simplex 
+ * has grown to the size required.
  * @author William Bittle 
- * @version 4.1.0
+ * @version 6.1.0
  * @since 3.2.0
  */
 final class ExpandingSimplex {
+	/** The initial capacity of the edge heap and pool */
+	private static final int INITIAL_CAPACITY = 16;
+	
 	/** The winding direction of the simplex */
-	private final int winding;
+	private int winding;
+	
+	/** The binary heap of simplex edges; the closest edge is always at index zero */
+	private ExpandingSimplexEdge[] queue;
+	
+	/** The number of edges in the heap */
+	private int size;
 	
-	/** The priority queue of simplex edges */
-	private final PriorityQueue<ExpandingSimplexEdge> queue;
+	/** The pool of edges */
+	private ExpandingSimplexEdge[] edges;
+	
+	/** The number of edges in use from the pool */
+	private int edgeCount;
+	
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Creates an empty simplex that must be initialized using the {@link #initialize(List)} method.
+	 * @since 6.1.0
+	 */
+	ExpandingSimplex() {
+		this.queue = new ExpandingSimplexEdge[INITIAL_CAPACITY];
+		this.edges = new ExpandingSimplexEdge[INITIAL_CAPACITY];
+		this.size = 0;
+		this.edgeCount = 0;
+	}
 	
 	/**
 	 * Minimal constructor.
 	 * @param simplex the starting simplex from GJK
 	 */
 	public ExpandingSimplex(List<Vector2> simplex) {
-		int size = simplex.size();		
-
+		this();
+		this.initialize(simplex);
+	}
+	
+	/**
+	 * Resets this simplex to the given starting simplex.
+	 * <p>
+	 * Any edges returned by this simplex before calling this method will be reused.
+	 * @param simplex the starting simplex from GJK
+	 * @since 6.1.0
+	 */
+	void initialize(List<Vector2> simplex) {
+		int size = simplex.size();
+		
+		// release all the edges
+		this.size = 0;
+		this.edgeCount = 0;
+		
 		// compute the winding
 		this.winding = this.getSimplexWinding(simplex);
-		// build the initial edge queue
-		this.queue = new PriorityQueue<ExpandingSimplexEdge>();
 		
+		// build the initial edge queue
 		for (int i = 0; i < size; i++) {
 			// compute j
 			int j = i + 1 == size ? 0 : i + 1;
@@ -68,7 +112,7 @@ final class ExpandingSimplex {
 			Vector2 a = simplex.get(i);
 			Vector2 b = simplex.get(j);
 			// create the edge
-			this.queue.add(new ExpandingSimplexEdge(a, b, this.winding));
+			this.offer(this.createEdge(a, b));
 		}
 	}
 	
@@ -118,7 +162,7 @@ final class ExpandingSimplex {
 	 * @return {@link ExpandingSimplexEdge} the closest edge to the origin
 	 */
 	public final ExpandingSimplexEdge getClosestEdge() {
-		return this.queue.peek(); // O(1)
+		return this.size > 0 ? this.queue[0] : null; // O(1)
 	}
 	
 	/**
@@ -131,12 +175,12 @@ final class ExpandingSimplex {
 	 */
 	public final void expand(Vector2 point) {
 		// remove the edge we are splitting
-		ExpandingSimplexEdge edge = this.queue.poll(); // O(log n)
+		ExpandingSimplexEdge edge = this.poll(); // O(log n)
 		// create two new edges
-		ExpandingSimplexEdge edge1 = new ExpandingSimplexEdge(edge.point1, point, this.winding);
-		ExpandingSimplexEdge edge2 = new ExpandingSimplexEdge(point, edge.point2, this.winding);
-		this.queue.add(edge1); // O(log n)
-		this.queue.add(edge2); // O(log n)
+		ExpandingSimplexEdge edge1 = this.createEdge(edge.point1, point);
+		ExpandingSimplexEdge edge2 = this.createEdge(point, edge.point2);
+		this.offer(edge1); // O(log n)
+		this.offer(edge2); // O(log n)
 	}
 	
 	/**
@@ -145,7 +189,103 @@ final class ExpandingSimplex {
 	 * @return int
 	 */
 	public final int size() {
-		return this.queue.size();
+		return this.size;
+	}
+	
+	/**
+	 * Returns an edge from the pool set to the given points.
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return {@link ExpandingSimplexEdge}
+	 * @since 6.1.0
+	 */
+	private ExpandingSimplexEdge createEdge(Vector2 point1, Vector2 point2) {
+		if (this.edgeCount == this.edges.length) {
+			ExpandingSimplexEdge[] edges = new ExpandingSimplexEdge[this.edges.length * 2];
+			System.arraycopy(this.edges, 0, edges, 0, this.edgeCount);
+			this.edges = edges;
+		}
+		
+		ExpandingSimplexEdge edge = this.edges[this.edgeCount];
+		if (edge == null) {
+			edge = new ExpandingSimplexEdge();
+			this.edges[this.edgeCount] = edge;
+		}
+		this.edgeCount++;
+		
+		edge.set(point1, point2, this.winding);
+		return edge;
+	}
+	
+	/**
+	 * Adds the given edge to the heap.
+	 * <p>
+	 * This uses the same sift up procedure as the {@link java.util.PriorityQueue} so that
+	 * edges with equal distances are returned in the same order.
+	 * @param edge the edge
+	 * @since 6.1.0
+	 */
+	private void offer(ExpandingSimplexEdge edge) {
+		if (this.size == this.queue.length) {
+			ExpandingSimplexEdge[] queue = new ExpandingSimplexEdge[this.queue.length * 2];
+			System.arraycopy(this.queue, 0, queue, 0, this.size);
+			this.queue = queue;
+		}
+		
+		// sift up
+		int k = this.size;
+		while (k > 0) {
+			int parent = (k - 1) >>> 1;
+			ExpandingSimplexEdge e = this.queue[parent];
+			if (edge.compareTo(e) >= 0) {
+				break;
+			}
+			this.queue[k] = e;
+			k = parent;
+		}
+		this.queue[k] = edge;
+		this.size++;
+	}
+	
+	/**
+	 * Removes and returns the closest edge from the heap.
+	 * <p>
+	 * This uses the same sift down procedure as the {@link java.util.PriorityQueue} so that
+	 * edges with equal distances are returned in the same order.
+	 * @return {@link ExpandingSimplexEdge}
+	 * @since 6.1.0
+	 */
+	private ExpandingSimplexEdge poll() {
+		if (this.size == 0) {
+			return null;
+		}
+		
+		ExpandingSimplexEdge result = this.queue[0];
+		int n = --this.size;
+		ExpandingSimplexEdge edge = this.queue[n];
+		this.queue[n] = null;
+		
+		if (n > 0) {
+			// sift down
+			int k = 0;
+			int half = n >>> 1;
+			while (k < half) {
+				int child = (k << 1) + 1;
+				ExpandingSimplexEdge c = this.queue[child];
+				int right = child + 1;
+				if (right < n && c.compareTo(this.queue[right]) > 0) {
+					c = this.queue[child = right];
+				}
+				if (edge.compareTo(c) <= 0) {
+					break;
+				}
+				this.queue[k] = c;
+				k = child;
+			}
+			this.queue[k] = edge;
+		}
+		
+		return result;
 	}
 	
 	/* (non-Javadoc)
@@ -154,13 +294,12 @@ final class ExpandingSimplex {
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("[");
-		int i = 0;
-		for (ExpandingSimplexEdge edge : this.queue) {
+		for (int i = 0; i < this.size; i++) {
+			ExpandingSimplexEdge edge = this.queue[i];
 			if (i != 0) sb.append(",");
 			sb.append(edge.point1)
 			  .append("=")
 			  .append(edge.distance);
-			i++;
 		}
 		sb.append("]");
 		return sb.toString();
@@ -33,23 +33,35 @@ import org.dyn4j.geometry.Vector2;
  * distance to the origin.
  * <p>
  * Note: this class has a natural ordering that is inconsistent with equals.
+ * <p>
+ * Edges can be reused by calling the {@link #set(Vector2, Vector2, int)} method.
  * @author William Bittle
- * @version 3.2.0
+ * @version 6.1.0
  * @since 3.2.0
  */
 final class ExpandingSimplexEdge implements Comparable<ExpandingSimplexEdge> {
 	/** The first point of the edge */
-	final Vector2 point1;
+	Vector2 point1;
 	
 	/** The second point of the edge */
-	final Vector2 point2;
+	Vector2 point2;
 	
 	/** The normal of the edge */
 	final Vector2 normal;
 	
 	/** The perpendicular distance from the edge to the origin */
-	final double distance;
+	double distance;
 
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Creates an edge that must be initialized using the {@link #set(Vector2, Vector2, int)} method.
+	 * @since 6.1.0
+	 */
+	ExpandingSimplexEdge() {
+		this.normal = new Vector2();
+	}
+	
 	/**
 	 * Minimal constructor.
 	 * @param point1 the first point
@@ -57,9 +69,22 @@ final class ExpandingSimplexEdge implements Comparable<ExpandingSimplexEdge> {
 	 * @param winding the winding
 	 */
 	public ExpandingSimplexEdge(Vector2 point1, Vector2 point2, int winding) {
+		this.normal = new Vector2();
+		this.set(point1, point2, winding);
+	}
+	
+	/**
+	 * Sets this edge to the given points.
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param winding the winding
+	 * @since 6.1.0
+	 */
+	void set(Vector2 point1, Vector2 point2, int winding) {
 		// create the edge
 		// inline b - a
-		this.normal = new Vector2(point2.x - point1.x, point2.y - point1.y);
+		this.normal.x = point2.x - point1.x;
+		this.normal.y = point2.y - point1.y;
 		// depending on the winding get the edge normal
 		// it would be better to use Vector.tripleProduct(ab, ao, ab);
 		// where ab is the edge and ao is a.to(ORIGIN) but this will
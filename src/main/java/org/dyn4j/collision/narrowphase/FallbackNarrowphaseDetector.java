@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.exception.ArgumentNullException;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Transform;
@@ -53,11 +54,14 @@ import org.dyn4j.geometry.Transform;
  * <p>
  * The primary and fallback detectors can also be {@link FallbackNarrowphaseDetector}s as well allowing for a chain of 
  * fallbacks.
+ * <p>
+ * This class implements the {@link Copyable} interface so that detectors with internal state,
+ * like {@link Gjk}, can be copied for use by multiple threads.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
-public class FallbackNarrowphaseDetector implements NarrowphaseDetector {
+public class FallbackNarrowphaseDetector implements NarrowphaseDetector, Copyable<FallbackNarrowphaseDetector> {
 	/** The primary {@link NarrowphaseDetector} */
 	protected final NarrowphaseDetector primaryNarrowphaseDetector;
 	
@@ -201,4 +205,26 @@ public class FallbackNarrowphaseDetector implements NarrowphaseDetector {
 	public NarrowphaseDetector getFallbackNarrowphaseDetector() {
 		return this.fallbackNarrowphaseDetector;
 	}
+	
+	/**
+	 * Returns a copy of this detector.
+	 * <p>
+	 * The primary and fallback {@link NarrowphaseDetector}s are copied if they implement
+	 * the {@link Copyable} interface, otherwise they are shared with the copy.  The
+	 * {@link FallbackCondition}s are always shared.
+	 * @return {@link FallbackNarrowphaseDetector}
+	 * @since 6.1.0
+	 */
+	@Override
+	public FallbackNarrowphaseDetector copy() {
+		NarrowphaseDetector primary = this.primaryNarrowphaseDetector;
+		NarrowphaseDetector fallback = this.fallbackNarrowphaseDetector;
+		if (primary instanceof Copyable) {
+			primary = (NarrowphaseDetector)((Copyable<?>)primary).copy();
+		}
+		if (fallback instanceof Copyable) {
+			fallback = (NarrowphaseDetector)((Copyable<?>)fallback).copy();
+		}
+		return new FallbackNarrowphaseDetector(primary, fallback, new ArrayList<FallbackCondition>(this.fallbackConditions));
+	}
 }
@@ -27,6 +27,7 @@ package org.dyn4j.collision.narrowphase;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.Epsilon;
 import org.dyn4j.collision.CollisionBody;
 import org.dyn4j.exception.ArgumentNullException;
@@ -115,17 +116,28 @@ import org.dyn4j.geometry.Vector2;
  * <p>
  * {@link Gjk}'s default {@link MinkowskiPenetrationSolver} is {@link Epa}.
  * <p>
+ * The simplex, {@link MinkowskiSum} and search direction used by the detect methods are reused 
+ * from one call to the next so that, along with {@link Epa}, collision detection doesn't create 
+ * any new objects once it has warmed up.  As a result, an instance of this class is not 
+ * thread-safe.  Use the {@link #copy()} method to get an instance for another thread.
+ * <p>
+ * When the shapes are separated, the final search direction is a separating axis.  The detect methods
+ * accepting a {@link NarrowphaseCache} store this axis and test it first the next time the same pair is 
+ * tested.  If the axis still separates the shapes, the detection exits after a single support 
+ * evaluation.  When the shapes overlap, the last search direction is stored instead and is used as
+ * the initial direction of the next test.
+ * <p>
  * The {@link Gjk} algorithm's original intent was to find the minimum distance between two {@link Convex}
  * {@link Shape}s.  Refer to {@link Gjk#distance(Convex, Transform, Convex, Transform, Separation)}
  * for details on the implementation.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see Epa
  * @see <a href="http://www.dyn4j.org/2010/04/gjk-gilbert-johnson-keerthi/" target="_blank">GJK (Gilbert-Johnson-Keerthi)</a>
  * @see <a href="http://www.dyn4j.org/2010/04/gjk-distance-closest-points/" target="_blank">GJK - Distance &amp; Closest Points</a>
  */
-public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetector {
+public class Gjk implements CachingNarrowphaseDetector, DistanceDetector, RaycastDetector, Copyable<Gjk> {
 	/** The origin point */
 	private static final Vector2 ORIGIN = new Vector2();
 	
@@ -166,6 +178,32 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 	/** The raycast check epsilon in meters */
 	protected double raycastEpsilon = Gjk.DEFAULT_DISTANCE_EPSILON;
 	
+	// reusable workspace
+	
+	/** The number of detections that exited early using a cache */
+	private long cacheHitCount;
+	
+	/** The number of detections that couldn't use a cache to exit early */
+	private long cacheMissCount;
+	
+	/** The total number of detect iterations performed */
+	private long detectIterationCount;
+	
+	/** The reusable simplex */
+	private final List<Vector2> simplex = new ArrayList<Vector2>(3);
+	
+	/** The reusable simplex points */
+	private final Vector2[] simplexPoints = new Vector2[] { new Vector2(), new Vector2(), new Vector2() };
+	
+	/** The reusable Minkowski sum */
+	private final MinkowskiSum minkowskiSum = new MinkowskiSum();
+	
+	/** The reusable search direction */
+	private final Vector2 direction = new Vector2();
+	
+	/** The reusable center of the first {@link Convex} */
+	private final Vector2 center = new Vector2();
+	
 	/**
 	 * Default constructor.
 	 */
@@ -183,6 +221,31 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 		this.minkowskiPenetrationSolver = minkowskiPenetrationSolver;
 	}
 	
+	/**
+	 * Returns a copy of this {@link Gjk} with the same settings.
+	 * <p>
+	 * The {@link MinkowskiPenetrationSolver} is copied if it implements the {@link Copyable}
+	 * interface, otherwise it's shared with the copy.
+	 * @return {@link Gjk}
+	 * @since 6.1.0
+	 */
+	@Override
+	public Gjk copy() {
+		MinkowskiPenetrationSolver solver = this.minkowskiPenetrationSolver;
+		if (solver instanceof Copyable) {
+			solver = (MinkowskiPenetrationSolver)((Copyable<?>)solver).copy();
+		}
+		
+		Gjk gjk = new Gjk(solver);
+		gjk.maxDetectIterations = this.maxDetectIterations;
+		gjk.maxDistanceIterations = this.maxDistanceIterations;
+		gjk.maxRaycastIterations = this.maxRaycastIterations;
+		gjk.detectEpsilon = this.detectEpsilon;
+		gjk.distanceEpsilon = this.distanceEpsilon;
+		gjk.raycastEpsilon = this.raycastEpsilon;
+		return gjk;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration)
 	 */
@@ -194,11 +257,13 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2, penetration);
 		}
 		
-		// define the simplex
-		List<Vector2> simplex = new ArrayList<Vector2>(3);
+		// reset the simplex
+		List<Vector2> simplex = this.simplex;
+		simplex.clear();
 		
-		// create a Minkowski sum
-		MinkowskiSum ms = new MinkowskiSum(convex1, transform1, convex2, transform2);
+		// setup the Minkowski sum
+		MinkowskiSum ms = this.minkowskiSum;
+		ms.set(convex1, transform1, convex2, transform2);
 		
 		// choose some search direction
 		Vector2 d = this.getInitialDirection(convex1, transform1, convex2, transform2);
@@ -223,11 +288,13 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2);
 		}
 		
-		// define the simplex
-		List<Vector2> simplex = new ArrayList<Vector2>(3);
+		// reset the simplex
+		List<Vector2> simplex = this.simplex;
+		simplex.clear();
 		
-		// create a Minkowski sum
-		MinkowskiSum ms = new MinkowskiSum(convex1, transform1, convex2, transform2);
+		// setup the Minkowski sum
+		MinkowskiSum ms = this.minkowskiSum;
+		ms.set(convex1, transform1, convex2, transform2);
 		
 		// choose some search direction
 		Vector2 d = this.getInitialDirection(convex1, transform1, convex2, transform2);
@@ -236,10 +303,148 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 		return detect(ms, simplex, d);
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration, org.dyn4j.collision.narrowphase.NarrowphaseCache)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration, NarrowphaseCache cache) {
+		// check for circles
+		if (convex1 instanceof Circle && convex2 instanceof Circle) {
+			// if its a circle - circle collision use the faster method
+			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2, penetration);
+		}
+		
+		if (cache == null) {
+			return this.detect(convex1, transform1, convex2, transform2, penetration);
+		}
+		
+		// setup the Minkowski sum
+		MinkowskiSum ms = this.minkowskiSum;
+		ms.set(convex1, transform1, convex2, transform2);
+		
+		// check the last separating axis first
+		if (this.isSeparated(ms, cache)) {
+			return false;
+		}
+		
+		// reset the simplex
+		List<Vector2> simplex = this.simplex;
+		simplex.clear();
+		
+		// choose some search direction
+		Vector2 d = this.getInitialDirection(convex1, transform1, convex2, transform2, cache);
+		
+		// perform the detection
+		if (this.detect(ms, simplex, d)) {
+			cache.setSearchDirection(d);
+			this.minkowskiPenetrationSolver.getPenetration(simplex, ms, penetration);
+			return true;
+		}
+		
+		// the final search direction is the separating axis
+		cache.setSeparatingAxis(d);
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.NarrowphaseCache)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache) {
+		// check for circles
+		if (convex1 instanceof Circle && convex2 instanceof Circle) {
+			// if its a circle - circle collision use the faster method
+			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2);
+		}
+		
+		if (cache == null) {
+			return this.detect(convex1, transform1, convex2, transform2);
+		}
+		
+		// setup the Minkowski sum
+		MinkowskiSum ms = this.minkowskiSum;
+		ms.set(convex1, transform1, convex2, transform2);
+		
+		// check the last separating axis first
+		if (this.isSeparated(ms, cache)) {
+			return false;
+		}
+		
+		// reset the simplex
+		List<Vector2> simplex = this.simplex;
+		simplex.clear();
+		
+		// choose some search direction
+		Vector2 d = this.getInitialDirection(convex1, transform1, convex2, transform2, cache);
+		
+		// perform the detection
+		if (this.detect(ms, simplex, d)) {
+			cache.setSearchDirection(d);
+			return true;
+		}
+		
+		// the final search direction is the separating axis
+		cache.setSeparatingAxis(d);
+		return false;
+	}
+	
+	/**
+	 * Returns true if the separating axis in the given cache still separates the
+	 * {@link Convex}es of the given {@link MinkowskiSum}.
+	 * <p>
+	 * This is the same test {@link #detect(MinkowskiSum, List, Vector2)} uses to
+	 * determine that the search direction can't pass the origin.
+	 * @param ms the {@link MinkowskiSum}
+	 * @param cache the cache
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	private boolean isSeparated(MinkowskiSum ms, NarrowphaseCache cache) {
+		Vector2 axis = cache.getSeparatingAxis();
+		if (cache.isSeparated() && !axis.isZero()) {
+			// the simplex is reset after this test so any point can be used
+			Vector2 point = this.simplexPoints[0];
+			ms.getSupportPoint(axis, point);
+			if (point.dot(axis) <= this.detectEpsilon) {
+				this.cacheHitCount++;
+				return true;
+			}
+		}
+		this.cacheMissCount++;
+		return false;
+	}
+	
+	/**
+	 * Returns a vector for the initial direction for the GJK algorithm in world coordinates
+	 * using the given cache.
+	 * <p>
+	 * If the pair was overlapping during the last test, the last search direction is used
+	 * since it's likely to find a support point near the origin again.  Otherwise the 
+	 * direction from {@link #getInitialDirection(Convex, Transform, Convex, Transform)} is used.
+	 * @param convex1 the first convex
+	 * @param transform1 the first convex's transform
+	 * @param convex2 the second convex
+	 * @param transform2 the second convex's transform
+	 * @param cache the cache
+	 * @return Vector2
+	 * @since 6.1.0
+	 */
+	private Vector2 getInitialDirection(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache) {
+		Vector2 direction = cache.getSearchDirection();
+		if (!cache.isSeparated() && !direction.isZero()) {
+			Vector2 d = this.direction.set(direction);
+			d.normalize();
+			return d;
+		}
+		return this.getInitialDirection(convex1, transform1, convex2, transform2);
+	}
+	
 	/**
 	 * Returns a vector for the initial direction for the GJK algorithm in world coordinates.
 	 * <p>
 	 * This implementation returns the vector from the center of the first convex to the center of the second.
+	 * <p>
+	 * As of 6.1.0, the returned vector is reused by this instance and is modified by the detect methods.
 	 * @param convex1 the first convex
 	 * @param transform1 the first convex's transform
 	 * @param convex2 the second convex
@@ -248,10 +453,12 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 	 */
 	protected Vector2 getInitialDirection(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
 		// transform into world space if transform is not null
-		Vector2 c1 = transform1.getTransformed(convex1.getCenter());
-		Vector2 c2 = transform2.getTransformed(convex2.getCenter());
+		Vector2 c1 = this.center;
+		Vector2 d = this.direction;
+		transform1.getTransformed(convex1.getCenter(), c1);
+		transform2.getTransformed(convex2.getCenter(), d);
 		// choose some search direction
-		return c2.subtract(c1);
+		return d.subtract(c1);
 	}
 	
 	/**
@@ -262,6 +469,8 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 	 * The simplex and direction parameters will reflect the state of the algorithm at termination, whether
 	 * a collision was found or not.  This is useful for subsequent algorithms that use the GJK simplex to
 	 * find the collision information ({@link Epa} for example).
+	 * <p>
+	 * The points added to the simplex are reused by subsequent calls to this method.
 	 * @param ms the {@link MinkowskiSum}
 	 * @param simplex the simplex; should be an empty list
 	 * @param d the initial direction
@@ -271,25 +480,35 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 		// check for a zero direction vector
 		if (d.isZero()) d.set(1.0, 0.0);
 		// add the first point
-		simplex.add(ms.getSupportPoint(d));
+		Vector2 point = this.getSimplexPoint(simplex);
+		ms.getSupportPoint(d, point);
+		simplex.add(point);
 		// is the support point past the origin along d?
-		if (simplex.get(0).dot(d) <= 0.0) {
+		if (point.dot(d) <= 0.0) {
 			return false;
 		}
 		// negate the search direction
 		d.negate();
 		// start the loop
 		for (int i = 0; i < this.maxDetectIterations; i++) {
+			this.detectIterationCount++;
 			// always add another point to the simplex at the beginning of the loop
-			Vector2 supportPoint = ms.getSupportPoint(d);
+			Vector2 supportPoint = this.getSimplexPoint(simplex);
+			ms.getSupportPoint(d, supportPoint);
 			simplex.add(supportPoint);
 			
 			// make sure that the last point we added was past the origin
-			if (supportPoint.dot(d) <= this.detectEpsilon) {
+			double projection = supportPoint.dot(d);
+			if (projection <= this.detectEpsilon) {
 				// a is not past the origin so therefore the shapes do not intersect
 				// here we treat the origin on the line as no intersection
 				// immediately return with null indicating no penetration
 				return false;
+			} else if (projection - simplex.get(simplex.size() - 2).dot(d) <= Epsilon.E * d.getMagnitude()) {
+				// the new point is no farther along d than the simplex, so the simplex is
+				// already on the boundary of the Minkowski sum and the origin is outside
+				// of it; without this check the degenerate simplex could contain the origin
+				return false;
 			} else {
 				// if it is past the origin, then test whether the simplex contains the origin
 				if (this.checkSimplex(simplex, d)) {
@@ -304,6 +523,34 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 		return false;
 	}
 	
+	/**
+	 * Returns a reusable simplex point that isn't currently in the given simplex.
+	 * <p>
+	 * The simplex never has more than two points when a new point is added so
+	 * there's always one available.
+	 * @param simplex the simplex
+	 * @return {@link Vector2}
+	 * @since 6.1.0
+	 */
+	private Vector2 getSimplexPoint(List<Vector2> simplex) {
+		int size = simplex.size();
+		for (int i = 0; i < this.simplexPoints.length; i++) {
+			Vector2 point = this.simplexPoints[i];
+			boolean used = false;
+			for (int j = 0; j < size; j++) {
+				if (simplex.get(j) == point) {
+					used = true;
+					break;
+				}
+			}
+			if (!used) {
+				return point;
+			}
+		}
+		// this should only happen if the given simplex wasn't empty to start with
+		return new Vector2();
+	}
+	
 	/**
 	 * Determines whether the given simplex contains the origin.  If it does contain the origin,
 	 * then this method will return true.  If it does not, this method will update both the given
@@ -320,31 +567,36 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 	 * @return boolean true if the simplex contains the origin
 	 */
 	protected boolean checkSimplex(List<Vector2> simplex, Vector2 direction) {
+		// NOTE: the vector operations in this method have been inlined
+		// to avoid creating temporary objects
+		
 		// this method should never be supplied anything other than 2 or 3 points for the simplex
 		// get the last point added (a)
 		Vector2 a = simplex.get(simplex.size() - 1);
 		// this is the same as a.to(ORIGIN);
-		Vector2 ao = a.getNegative();
+		double aox = -a.x;
+		double aoy = -a.y;
 		// check to see what type of simplex we have
 		if (simplex.size() == 3) {
 			// then we have a triangle
 			Vector2 b = simplex.get(1);
 			Vector2 c = simplex.get(0);
 			// get the edges
-			Vector2 ab = a.to(b);
-			Vector2 ac = a.to(c);
+			double abx = b.x - a.x;
+			double aby = b.y - a.y;
+			double acx = c.x - a.x;
+			double acy = c.y - a.y;
 			// get the edge normal
 			
 			// inline Vector2.tripleProduct(ab, ac, ac) so we can use the
 			// immidiate calculations for Vector2.tripleProduct(ac, ab, ab) too
 			
-			Vector2 acPerp = new Vector2();
-			double dot = ab.x * ac.y - ac.x * ab.y;
-			acPerp.x = -ac.y * dot;
-			acPerp.y = ac.x * dot;
+			double dot = abx * acy - acx * aby;
+			double acPerpx = -acy * dot;
+			double acPerpy = acx * dot;
 			
 			// see where the origin is at
-			double acLocation = acPerp.dot(ao);
+			double acLocation = acPerpx * aox + acPerpy * aoy;
 			if (acLocation >= 0.0) {
 				// the origin lies on the right side of A->C
 				// because of the condition for the gjk loop to continue the origin 
@@ -355,16 +607,16 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 				// but was changed since the origin may lie on the segment created
 				// by a -> c in which case would produce a zero vector normal
 				// calculating ac's normal using b is more robust
-				direction.set(acPerp);
+				direction.x = acPerpx;
+				direction.y = acPerpy;
 			} else {
 				// inlined Vector2.tripleProduct(ac, ab, ab) because
 				// it can use dot from the tripleProduct(ab, ab, ac) above
 				// see Vector2.tripleProduct implementation
-				Vector2 abPerp = new Vector2();
-				abPerp.x = ab.y * dot;
-				abPerp.y = -ab.x * dot;
+				double abPerpx = aby * dot;
+				double abPerpy = -abx * dot;
 				
-				double abLocation = abPerp.dot(ao);
+				double abLocation = abPerpx * aox + abPerpy * aoy;
 				// the origin lies on the left side of A->C
 				if (abLocation < 0.0) {
 					// the origin lies on the right side of A->B and therefore in the
@@ -378,23 +630,30 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 					// but was changed since the origin may lie on the segment created
 					// by a -> b in which case would produce a zero vector normal
 					// calculating ab's normal using c is more robust
-					direction.set(abPerp);
+					direction.x = abPerpx;
+					direction.y = abPerpy;
 				}
 			}
 		} else {
 			// get the b point
 			Vector2 b = simplex.get(0);
-			Vector2 ab = a.to(b);
+			double abx = b.x - a.x;
+			double aby = b.y - a.y;
 			// otherwise we have 2 points (line segment)
 			// because of the condition for the gjk loop to continue the origin 
 			// must lie in between A and B, so keep both points in the simplex and
 			// set the direction to the perp of the line segment towards the origin
-			direction.set(Vector2.tripleProduct(ab, ao, ab));
+			// (inlined Vector2.tripleProduct(ab, ao, ab))
+			double dot = abx * aoy - aox * aby;
+			direction.x = -aby * dot;
+			direction.y = abx * dot;
 			// check for degenerate cases where the origin lies on the segment
 			// created by a -> b which will yield a zero edge normal
 			if (direction.getMagnitudeSquared() <= Epsilon.E) {
 				// in this case just choose either normal (left or right)
-				direction.set(ab.left());
+				// (inlined ab.left())
+				direction.x = aby;
+				direction.y = -abx;
 			}
 		}
 		return false;
@@ -905,6 +1164,43 @@ public class Gjk implements NarrowphaseDetector, DistanceDetector, RaycastDetect
 		this.distanceEpsilon = distanceEpsilon;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheHitCount()
+	 */
+	@Override
+	public long getCacheHitCount() {
+		return this.cacheHitCount;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheMissCount()
+	 */
+	@Override
+	public long getCacheMissCount() {
+		return this.cacheMissCount;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#resetCacheCounters()
+	 */
+	@Override
+	public void resetCacheCounters() {
+		this.cacheHitCount = 0;
+		this.cacheMissCount = 0;
+	}
+	
+	/**
+	 * Returns the total number of detect iterations performed by this {@link Gjk}.
+	 * <p>
+	 * This is a running total that's never reset and can be used to measure the 
+	 * cost of detection between two points in time.  Copies start at zero.
+	 * @return long
+	 * @since 6.1.0
+	 */
+	public long getDetectIterationCount() {
+		return this.detectIterationCount;
+	}
+	
 	/**
 	 * Returns the {@link MinkowskiPenetrationSolver} used to obtain the
 	 * penetration vector and depth.
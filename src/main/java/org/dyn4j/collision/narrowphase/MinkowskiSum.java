@@ -25,6 +25,7 @@
 package org.dyn4j.collision.narrowphase;
 
 import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.FarthestPointProvider;
 import org.dyn4j.geometry.Shape;
 import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
@@ -35,23 +36,44 @@ import org.dyn4j.geometry.Vector2;
  * This class is used by the {@link Gjk} and {@link Epa} classes to compute support points.
  * <p>
  * This class doesn't actually compute the Minkowski sum.
+ * <p>
+ * An instance can be reused for other {@link Convex} {@link Shape}s by using the 
+ * {@link #set(Convex, Transform, Convex, Transform)} method.
  * @author William Bittle
- * @version 3.2.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class MinkowskiSum {
 	/** The first {@link Convex} */
-	final Convex convex1;
+	Convex convex1;
 	
 	/** The second {@link Convex} */
-	final Convex convex2;
+	Convex convex2;
 	
 	/** The first {@link Convex}'s {@link Transform} */
-	final Transform transform1;
+	Transform transform1;
 	
 	/** The second {@link Convex}'s {@link Transform} */
-	final Transform transform2;
-		
+	Transform transform2;
+	
+	/** The first {@link Convex} if it's a {@link FarthestPointProvider}; null otherwise */
+	private FarthestPointProvider provider1;
+	
+	/** The second {@link Convex} if it's a {@link FarthestPointProvider}; null otherwise */
+	private FarthestPointProvider provider2;
+	
+	/** Reusable vector for the second {@link Convex}'s support point */
+	private final Vector2 point2 = new Vector2();
+	
+	/**
+	 * Default constructor.
+	 * <p>
+	 * The {@link Convex} {@link Shape}s must be set using the {@link #set(Convex, Transform, Convex, Transform)}
+	 * method before use.
+	 * @since 6.1.0
+	 */
+	public MinkowskiSum() {}
+	
 	/**
 	 * Full constructor.
 	 * @param convex1 the first {@link Convex}
@@ -60,10 +82,24 @@ public class MinkowskiSum {
 	 * @param transform2 the second {@link Convex}'s {@link Transform}
 	 */
 	public MinkowskiSum(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+		this.set(convex1, transform1, convex2, transform2);
+	}
+	
+	/**
+	 * Sets the {@link Convex} {@link Shape}s of this Minkowski sum.
+	 * @param convex1 the first {@link Convex}
+	 * @param transform1 the first {@link Convex}'s {@link Transform}
+	 * @param convex2 the second {@link Convex}
+	 * @param transform2 the second {@link Convex}'s {@link Transform}
+	 * @since 6.1.0
+	 */
+	public void set(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
 		this.convex1 = convex1;
 		this.convex2 = convex2;
 		this.transform1 = transform1;
 		this.transform2 = transform2;
+		this.provider1 = convex1 instanceof FarthestPointProvider ? (FarthestPointProvider)convex1 : null;
+		this.provider2 = convex2 instanceof FarthestPointProvider ? (FarthestPointProvider)convex2 : null;
 	}
 	
 	/* (non-Javadoc)
@@ -96,6 +132,36 @@ public class MinkowskiSum {
 		return point1.subtract(point2);
 	}
 	
+	/**
+	 * Places the farthest point in the Minkowski sum given the direction in the given destination.
+	 * <p>
+	 * This method produces the same result as the {@link #getSupportPoint(Vector2)} method without 
+	 * creating any new objects when both {@link Convex} {@link Shape}s implement the 
+	 * {@link FarthestPointProvider} interface.
+	 * @param direction the search direction
+	 * @param destination the {@link Vector2} to place the point farthest in the Minkowski sum in the given direction
+	 * @since 6.1.0
+	 */
+	public final void getSupportPoint(Vector2 direction, Vector2 destination) {
+		// get the farthest point in the given direction in convex1
+		if (this.provider1 != null) {
+			this.provider1.getFarthestPoint(direction, this.transform1, destination);
+		} else {
+			destination.set(this.convex1.getFarthestPoint(direction, this.transform1));
+		}
+		direction.negate();
+		// get the farthest point in the opposite direction in convex2
+		if (this.provider2 != null) {
+			this.provider2.getFarthestPoint(direction, this.transform2, this.point2);
+		} else {
+			this.point2.set(this.convex2.getFarthestPoint(direction, this.transform2));
+		}
+		direction.negate();
+		// compute the Minkowski sum point
+		destination.x -= this.point2.x;
+		destination.y -= this.point2.y;
+	}
+	
 	/**
 	 * Returns the farthest point, and the support points in the shapes, in the Minkowski sum given the direction.
 	 * @param direction the search direction
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.narrowphase;
+
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Represents the temporal coherence data of a {@link CachingNarrowphaseDetector} for 
+ * a specific pair of {@link Convex}es.
+ * <p>
+ * Pairs of {@link Convex}es tend to be tested from one step to the next with little 
+ * change in their positions and orientations.  When a pair was found to be separated,
+ * the separating axis is very likely to still separate the pair during the next test.
+ * Testing the cached axis first only requires a single support evaluation or projection
+ * rather than a full detection.
+ * <p>
+ * When a pair was found to be overlapping, detectors that search for the origin, like 
+ * {@link Gjk}, can store their last search direction instead to start the next search 
+ * close to where the last one ended.
+ * <p>
+ * The cache should be kept with the pair for the lifetime of the pair and should not
+ * be shared between pairs.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see CachingNarrowphaseDetector
+ */
+public class NarrowphaseCache {
+	/** The last separating axis in world space */
+	protected final Vector2 axis;
+	
+	/** True if the axis was set */
+	protected boolean separated;
+	
+	/** The last search direction in world space when the pair was overlapping */
+	protected final Vector2 direction;
+	
+	/**
+	 * Default constructor.
+	 */
+	public NarrowphaseCache() {
+		this.axis = new Vector2();
+		this.separated = false;
+		this.direction = new Vector2();
+	}
+	
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("NarrowphaseCache[Separated=").append(this.separated)
+		.append("|Axis=").append(this.axis)
+		.append("|Direction=").append(this.direction)
+		.append("]");
+		return sb.toString();
+	}
+	
+	/**
+	 * Clears the cached data.
+	 */
+	public void clear() {
+		this.axis.x = 0;
+		this.axis.y = 0;
+		this.separated = false;
+		this.direction.x = 0;
+		this.direction.y = 0;
+	}
+	
+	/**
+	 * Returns true if this cache contains the axis that separated the pair
+	 * during the last test.
+	 * @return boolean
+	 */
+	public boolean isSeparated() {
+		return this.separated;
+	}
+	
+	/**
+	 * Returns the axis that separated the pair during the last test.
+	 * <p>
+	 * The axis is only valid if {@link #isSeparated()} returns true.  The axis
+	 * is not necessarily normalized.
+	 * @return {@link Vector2}
+	 */
+	public Vector2 getSeparatingAxis() {
+		return this.axis;
+	}
+	
+	/**
+	 * Sets the axis that separated the pair.
+	 * @param axis the separating axis in world space
+	 */
+	public void setSeparatingAxis(Vector2 axis) {
+		this.axis.x = axis.x;
+		this.axis.y = axis.y;
+		this.separated = true;
+		this.direction.x = 0;
+		this.direction.y = 0;
+	}
+	
+	/**
+	 * Returns the last search direction used when the pair was found to be overlapping.
+	 * <p>
+	 * The direction is zero if it wasn't set or if the pair was separated during the last
+	 * test.  The direction is not necessarily normalized.
+	 * @return {@link Vector2}
+	 */
+	public Vector2 getSearchDirection() {
+		return this.direction;
+	}
+	
+	/**
+	 * Sets the last search direction of a pair that was found to be overlapping.
+	 * <p>
+	 * This also clears the separating axis.
+	 * @param direction the search direction in world space
+	 */
+	public void setSearchDirection(Vector2 direction) {
+		this.axis.x = 0;
+		this.axis.y = 0;
+		this.separated = false;
+		this.direction.x = direction.x;
+		this.direction.y = direction.y;
+	}
+}
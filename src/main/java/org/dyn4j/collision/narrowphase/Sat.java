@@ -24,6 +24,7 @@
  */
 package org.dyn4j.collision.narrowphase;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.geometry.Circle;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Interval;
@@ -46,23 +47,68 @@ import org.dyn4j.geometry.Vector2;
  * If the {@link Convex} {@link Shape}s are penetrating, a {@link Penetration} object can be built from the {@link Interval}s
  * with the least overlap.  The normal will be the edge normal of the {@link Interval} and the depth will be the {@link Interval}
  * overlap.
+ * <p>
+ * The detect methods accepting a {@link NarrowphaseCache} store the axis that separated the {@link Convex} 
+ * {@link Shape}s and test it first the next time the same pair is tested.  If the axis still separates the
+ * {@link Convex} {@link Shape}s, the detection exits after a single pair of projections.  The cache counters 
+ * make an instance of this class not thread-safe.  Use the {@link #copy()} method to get an instance for 
+ * another thread.
  * @author William Bittle
- * @version 4.2.1
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="http://www.dyn4j.org/2010/01/sat/" target="_blank">SAT (Separating Axis Theorem)</a>
  */
-public class Sat implements NarrowphaseDetector, ContainmentDetector {
+public class Sat implements CachingNarrowphaseDetector, ContainmentDetector, Copyable<Sat> {
+	/** The number of detections that exited early using a cache */
+	private long cacheHitCount;
+	
+	/** The number of detections that couldn't use a cache to exit early */
+	private long cacheMissCount;
+	
+	/**
+	 * Returns a new {@link Sat} instance.
+	 * <p>
+	 * The cache counters are not copied.
+	 * @return {@link Sat}
+	 * @since 6.1.0
+	 */
+	@Override
+	public Sat copy() {
+		return new Sat();
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration)
 	 */
 	@Override
 	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration) {
+		return this.detect(convex1, transform1, convex2, transform2, penetration, null);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+		return this.detect(convex1, transform1, convex2, transform2, (NarrowphaseCache)null);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Penetration, org.dyn4j.collision.narrowphase.NarrowphaseCache)
+	 */
+	@Override
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration, NarrowphaseCache cache) {
 		// check for circles
 		if (convex1 instanceof Circle && convex2 instanceof Circle) {
 			// if its a circle - circle collision use the faster method
 			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2, penetration);
 		}
 		
+		// check the last separating axis first
+		if (this.isSeparated(convex1, transform1, convex2, transform2, cache)) {
+			return false;
+		}
+		
 		Vector2 n = null;
 		double overlap = Double.MAX_VALUE;
 		
@@ -88,6 +134,10 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 		            // if the intervals do not overlap then the two shapes
 		            // cannot be intersecting
 		            if (!intervalA.overlaps(intervalB)) {
+		            	// save the axis for the next test of this pair
+		            	if (cache != null) {
+		            		cache.setSeparatingAxis(axis);
+		            	}
 		            	// the shapes cannot be intersecting so immediately return null
 		            	return false;
 		            } else {
@@ -133,6 +183,10 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 		            // if the intervals do not overlap then the two shapes
 		            // cannot be intersecting
 		            if (!intervalA.overlaps(intervalB)) {
+		            	// save the axis for the next test of this pair
+		            	if (cache != null) {
+		            		cache.setSeparatingAxis(axis);
+		            	}
 		            	// the shapes cannot be intersecting so immediately return null
 		            	return false;
 		            } else {
@@ -173,6 +227,10 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 			n.negate();
 		}
 		
+		if (cache != null) {
+			cache.clear();
+		}
+		
 		// fill the penetration object
 		penetration.normal.x = n.x;
 		penetration.normal.y = n.y;
@@ -182,15 +240,20 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 	}
 	
 	/* (non-Javadoc)
-	 * @see org.dyn4j.collision.narrowphase.NarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#detect(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.NarrowphaseCache)
 	 */
 	@Override
-	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+	public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache) {
 		// check for circles
 		if (convex1 instanceof Circle && convex2 instanceof Circle) {
 			// if its a circle - circle collision use the faster method
 			return CircleDetector.detect((Circle) convex1, transform1, (Circle) convex2, transform2);
 		}
+		
+		// check the last separating axis first
+		if (this.isSeparated(convex1, transform1, convex2, transform2, cache)) {
+			return false;
+		}
 
 		// get the foci from both shapes, the foci are used to test any
 		// voronoi regions of the other shape
@@ -214,6 +277,10 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 		            // if the intervals do not overlap then the two shapes
 		            // cannot be intersecting
 		            if (!intervalA.overlaps(intervalB)) {
+		            	// save the axis for the next test of this pair
+		            	if (cache != null) {
+		            		cache.setSeparatingAxis(axis);
+		            	}
 		            	// the shapes cannot be intersecting so immediately return
 		            	return false;
 		            }
@@ -234,6 +301,10 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 		            // if the intervals do not overlap then the two shapes
 		            // cannot be intersecting
 		            if (!intervalA.overlaps(intervalB)) {
+		            	// save the axis for the next test of this pair
+		            	if (cache != null) {
+		            		cache.setSeparatingAxis(axis);
+		            	}
 		            	// the shapes cannot be intersecting so immediately return
 		            	return false;
 		            }
@@ -241,10 +312,71 @@ public class Sat implements NarrowphaseDetector, ContainmentDetector {
 			}
 		}
 		
+		if (cache != null) {
+			cache.clear();
+		}
+		
 		// if we get here, then we have intersection
 		return true;
 	}
 	
+	/**
+	 * Returns true if the separating axis in the given cache still separates the
+	 * given {@link Convex} {@link Shape}s.
+	 * <p>
+	 * Returns false if the cache is null.
+	 * @param convex1 the first {@link Convex} {@link Shape}
+	 * @param transform1 the first {@link Shape}'s {@link Transform}
+	 * @param convex2 the second {@link Convex} {@link Shape}
+	 * @param transform2 the second {@link Shape}'s {@link Transform}
+	 * @param cache the cache; can be null
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	private boolean isSeparated(Convex convex1, Transform transform1, Convex convex2, Transform transform2, NarrowphaseCache cache) {
+		if (cache == null) {
+			return false;
+		}
+		
+		Vector2 axis = cache.getSeparatingAxis();
+		if (cache.isSeparated() && !axis.isZero()) {
+			Interval intervalA = convex1.project(axis, transform1);
+			Interval intervalB = convex2.project(axis, transform2);
+			if (!intervalA.overlaps(intervalB)) {
+				this.cacheHitCount++;
+				return true;
+			}
+		}
+		
+		this.cacheMissCount++;
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheHitCount()
+	 */
+	@Override
+	public long getCacheHitCount() {
+		return this.cacheHitCount;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#getCacheMissCount()
+	 */
+	@Override
+	public long getCacheMissCount() {
+		return this.cacheMissCount;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector#resetCacheCounters()
+	 */
+	@Override
+	public void resetCacheCounters() {
+		this.cacheHitCount = 0;
+		this.cacheMissCount = 0;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.collision.narrowphase.ContainmentDetector#contains(org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.narrowphase.Containment)
 	 */
@@ -48,7 +48,10 @@
  * to find the collision points.
  * <p>
  * There are two {@link org.dyn4j.collision.narrowphase.NarrowphaseDetector} implementations provided: 
- * {@link org.dyn4j.collision.narrowphase.Sat} and {@link org.dyn4j.collision.narrowphase.Gjk}.
+ * {@link org.dyn4j.collision.narrowphase.Sat} and {@link org.dyn4j.collision.narrowphase.Gjk}.  Both
+ * implement the {@link org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector} interface which accepts a 
+ * per-pair {@link org.dyn4j.collision.narrowphase.NarrowphaseCache} to exit early when the pair is still 
+ * separated by the same axis as the last test.
  * <p>
  * <strong>NOTE: The {@link org.dyn4j.collision.narrowphase.Sat} algorithm doesn't
  * support the {@link org.dyn4j.geometry.Ellipse} and {@link org.dyn4j.geometry.HalfEllipse} shapes.</strong>
@@ -76,7 +79,7 @@
  * distance.  For raycasting, it's also advisable to perform a raycast against a {@link org.dyn4j.collision.broadphase.BroadphaseDetector}
  * first to rule out the obvious failures.
  * @author William Bittle
- * @version 3.2.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 package org.dyn4j.collision.narrowphase;
\ No newline at end of file
@@ -31,6 +31,7 @@ import java.util.List;
 import org.dyn4j.DataContainer;
 import org.dyn4j.Epsilon;
 import org.dyn4j.Ownable;
+import org.dyn4j.Restorable;
 import org.dyn4j.collision.AbstractCollisionBody;
 import org.dyn4j.collision.CollisionBody;
 import org.dyn4j.exception.ArgumentNullException;
@@ -47,11 +48,18 @@ import org.dyn4j.geometry.Vector2;
 
 /**
  * Abstract implementation of the {@link PhysicsBody} interface.
+ * <p>
+ * The {@link Restorable} state of a body is its transform, previous transform, velocity, 
+ * accumulated force and torque, and at-rest state.  Forces and torques that have been applied 
+ * but not yet accumulated are not part of the state.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 4.0.0
  */
-public abstract class AbstractPhysicsBody extends AbstractCollisionBody<BodyFixture> implements PhysicsBody, CollisionBody<BodyFixture>, Transformable, DataContainer, Ownable {
+public abstract class AbstractPhysicsBody extends AbstractCollisionBody<BodyFixture> implements PhysicsBody, CollisionBody<BodyFixture>, Transformable, DataContainer, Ownable, Restorable {
+	/** The number of values in the saved state of a body */
+	private static final int STATE_SIZE = 16;
+	
 	/** The {@link Mass} information */
 	protected Mass mass;
 	
@@ -1282,4 +1290,54 @@ public abstract class AbstractPhysicsBody extends AbstractCollisionBody<BodyFixt
 		
 		this.gravityScale = scale;
 	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return STATE_SIZE;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.transform.getCost();
+		state[offset + 1] = this.transform.getSint();
+		state[offset + 2] = this.transform.getTranslationX();
+		state[offset + 3] = this.transform.getTranslationY();
+		state[offset + 4] = this.transform0.getCost();
+		state[offset + 5] = this.transform0.getSint();
+		state[offset + 6] = this.transform0.getTranslationX();
+		state[offset + 7] = this.transform0.getTranslationY();
+		state[offset + 8] = this.linearVelocity.x;
+		state[offset + 9] = this.linearVelocity.y;
+		state[offset + 10] = this.angularVelocity;
+		state[offset + 11] = this.force.x;
+		state[offset + 12] = this.force.y;
+		state[offset + 13] = this.torque;
+		state[offset + 14] = this.atRestTime;
+		state[offset + 15] = this.atRest ? 1.0 : 0.0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		// set the fields directly since the setters have side effects
+		// like waking the body or clearing its velocity
+		this.transform.set(state[offset], state[offset + 1], state[offset + 2], state[offset + 3]);
+		this.transform0.set(state[offset + 4], state[offset + 5], state[offset + 6], state[offset + 7]);
+		this.linearVelocity.x = state[offset + 8];
+		this.linearVelocity.y = state[offset + 9];
+		this.angularVelocity = state[offset + 10];
+		this.force.x = state[offset + 11];
+		this.force.y = state[offset + 12];
+		this.torque = state[offset + 13];
+		this.atRestTime = state[offset + 14];
+		this.atRest = state[offset + 15] != 0.0;
+	}
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ package org.dyn4j.dynamics;
 /**
  * Enumeration of Continuous Collision Detection modes.
  * @author William Bittle
- * @version 2.2.3
+ * @version 6.1.0
  * @since 2.2.3
  */
 public enum ContinuousDetectionMode {
@@ -55,5 +55,25 @@ public enum ContinuousDetectionMode {
 	 * <li>Bullet vs. Dynamic</li>
 	 * </ul> 
 	 */
-	ALL
+	ALL,
+	
+	/**
+	 * Speculative contacts are generated instead of performing a time of impact phase.
+	 * <p>
+	 * All pairs whose separation is less than the distance they can close over the next step
+	 * produce contacts with a negative depth (the separation).  The contact solver allows
+	 * these contacts to close the gap, but not cross it, stopping fast bodies within the normal
+	 * velocity solve.
+	 * <p>
+	 * The pair must be found by the broadphase before the bodies touch, so this mode should be 
+	 * used with a broadphase that expands AABBs by the body velocity, like the
+	 * {@link org.dyn4j.world.PhysicsBodyVelocityAABBExpansionMethod}.  Contacts between a sensor
+	 * fixture and another fixture are not generated speculatively.  Contacts between a 
+	 * {@link org.dyn4j.geometry.LinkShape} and another fixture are generated from the closest link.
+	 * <p>
+	 * Speculative contacts are reported to the contact listeners with a negative depth and 
+	 * restitution is not applied to them.
+	 * @since 6.1.0
+	 */
+	SPECULATIVE
 }
@@ -31,7 +31,7 @@ import org.dyn4j.exception.ValueOutOfRangeException;
 /**
  * Responsible for housing all of the dynamics engine's settings.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class Settings implements Copyable<Settings> {
@@ -135,9 +135,18 @@ public class Settings implements Copyable<Settings> {
 	/** The time required for a {@link PhysicsBody} to stay motionless before being flagged as at-rest */
 	private double minimumAtRestTime = Settings.DEFAULT_MINIMUM_AT_REST_TIME;
 	
+	/** True if the broadphase is updated for static and at-rest {@link PhysicsBody}s every step */
+	private boolean staticBodyBroadphaseUpdateEnabled = true;
+	
+	/** True if the manifolds of resting contacts are reused between steps */
+	private boolean manifoldReuseEnabled = false;
+	
 	/** The number of iterations used to solve velocity constraints */
 	private int velocityConstraintSolverIterations = Settings.DEFAULT_VELOCITY_CONSTRAINT_SOLVER_ITERATIONS;
 	
+	/** The impulse change below which the velocity constraint solver stops iterating; zero to disable */
+	private double velocityConstraintSolverTolerance = 0.0;
+	
 	/** The maximum number of iterations used to solve position constraints */
 	private int positionConstraintSolverIterations = Settings.DEFAULT_POSITION_CONSTRAINT_SOLVER_ITERATIONS;
 	
@@ -180,6 +189,9 @@ public class Settings implements Copyable<Settings> {
 	/** The continuous collision detection flag */
 	private ContinuousDetectionMode continuousDetectionMode = ContinuousDetectionMode.ALL;
 	
+	/** True if continuous collision detection should use the main broadphase */
+	private boolean continuousDetectionUnifiedBroadphaseEnabled = false;
+	
 	/** Default constructor */
 	public Settings() {}
 	
@@ -196,7 +208,10 @@ public class Settings implements Copyable<Settings> {
 		.append("|AtRestLinearVelocity=").append(this.maximumAtRestLinearVelocity)
 		.append("|AtRestAngularVelocity=").append(this.maximumAtRestAngularVelocity)
 		.append("|AtRestTime=").append(this.minimumAtRestTime)
+		.append("|StaticBodyBroadphaseUpdateEnabled=").append(this.staticBodyBroadphaseUpdateEnabled)
+		.append("|ManifoldReuseEnabled=").append(this.manifoldReuseEnabled)
 		.append("|VelocityConstraintSolverIterations=").append(this.velocityConstraintSolverIterations)
+		.append("|VelocityConstraintSolverTolerance=").append(this.velocityConstraintSolverTolerance)
 		.append("|PositionConstraintSolverIterations=").append(this.positionConstraintSolverIterations)
 		.append("|WarmStartingEnabled=").append(this.warmStartingEnabled)
 		.append("|MaximumWarmStartDistance=").append(this.maximumWarmStartDistance)
@@ -206,6 +221,7 @@ public class Settings implements Copyable<Settings> {
 		.append("|MaximumAngularCorrection=").append(this.maximumAngularCorrection)
 		.append("|Baumgarte=").append(this.baumgarte)
 		.append("|ContinuousDetectionMode=").append(this.continuousDetectionMode)
+		.append("|ContinuousDetectionUnifiedBroadphaseEnabled=").append(this.continuousDetectionUnifiedBroadphaseEnabled)
 		.append("]");
 		return sb.toString();
 	}
@@ -225,7 +241,10 @@ public class Settings implements Copyable<Settings> {
 		this.maximumAtRestAngularVelocity = Settings.DEFAULT_MAXIMUM_AT_REST_ANGULAR_VELOCITY;
 		this.maximumAtRestAngularVelocitySquared = Settings.DEFAULT_MAXIMUM_AT_REST_ANGULAR_VELOCITY * Settings.DEFAULT_MAXIMUM_AT_REST_ANGULAR_VELOCITY;
 		this.minimumAtRestTime = Settings.DEFAULT_MINIMUM_AT_REST_TIME;
+		this.staticBodyBroadphaseUpdateEnabled = true;
+		this.manifoldReuseEnabled = false;
 		this.velocityConstraintSolverIterations = Settings.DEFAULT_VELOCITY_CONSTRAINT_SOLVER_ITERATIONS;
+		this.velocityConstraintSolverTolerance = 0.0;
 		this.positionConstraintSolverIterations = Settings.DEFAULT_POSITION_CONSTRAINT_SOLVER_ITERATIONS;
 		this.warmStartingEnabled = true;
 		this.maximumWarmStartDistance = Settings.DEFAULT_MAXIMUM_WARM_START_DISTANCE;
@@ -240,6 +259,7 @@ public class Settings implements Copyable<Settings> {
 		this.angularToleranceSquared = Settings.DEFAULT_ANGULAR_TOLERANCE * Settings.DEFAULT_ANGULAR_TOLERANCE;
 		this.baumgarte = Settings.DEFAULT_BAUMGARTE;
 		this.continuousDetectionMode = ContinuousDetectionMode.ALL;
+		this.continuousDetectionUnifiedBroadphaseEnabled = false;
 	}
 
 	/**
@@ -275,6 +295,7 @@ public class Settings implements Copyable<Settings> {
 		this.atRestDetectionEnabled = settings.atRestDetectionEnabled;
 		this.baumgarte = settings.baumgarte;
 		this.continuousDetectionMode = settings.continuousDetectionMode;
+		this.continuousDetectionUnifiedBroadphaseEnabled = settings.continuousDetectionUnifiedBroadphaseEnabled;
 		this.linearTolerance = settings.linearTolerance;
 		this.linearToleranceSquared = settings.linearToleranceSquared;
 		this.maximumAngularCorrection = settings.maximumAngularCorrection;
@@ -293,8 +314,11 @@ public class Settings implements Copyable<Settings> {
 		this.maximumWarmStartDistanceSquared = settings.maximumWarmStartDistanceSquared;
 		this.minimumAtRestTime = settings.minimumAtRestTime;
 		this.positionConstraintSolverIterations = settings.positionConstraintSolverIterations;
+		this.staticBodyBroadphaseUpdateEnabled = settings.staticBodyBroadphaseUpdateEnabled;
+		this.manifoldReuseEnabled = settings.manifoldReuseEnabled;
 		this.stepFrequency = settings.stepFrequency;
 		this.velocityConstraintSolverIterations = settings.velocityConstraintSolverIterations;
+		this.velocityConstraintSolverTolerance = settings.velocityConstraintSolverTolerance;
 		this.warmStartingEnabled = settings.warmStartingEnabled;
 	}
 	
@@ -413,6 +437,65 @@ public class Settings implements Copyable<Settings> {
 		this.atRestDetectionEnabled = flag;
 	}
 	
+	/**
+	 * Returns true if the broadphase is updated for static and at-rest {@link PhysicsBody}s every step.
+	 * @return boolean
+	 * @see #setStaticBodyBroadphaseUpdateEnabled(boolean)
+	 * @since 6.1.0
+	 */
+	public boolean isStaticBodyBroadphaseUpdateEnabled() {
+		return this.staticBodyBroadphaseUpdateEnabled;
+	}
+	
+	/**
+	 * Sets whether the broadphase is updated for static and at-rest {@link PhysicsBody}s every step.
+	 * <p>
+	 * Static and at-rest bodies don't move on their own, so recomputing their AABBs every step is
+	 * wasted work in scenes with lots of static geometry or sleeping bodies.  When disabled, these 
+	 * bodies are only updated in the broadphase when they're woken up, their mass type changes so that 
+	 * they are no longer static, or their transform changed since they were last updated.  Moving a 
+	 * static or at-rest body, during the step or between steps, is detected through its transform.
+	 * <p>
+	 * When disabled, changing the shapes of a static or at-rest body's fixtures must be followed by 
+	 * updating it in the broadphase directly using 
+	 * {@link org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetector#update(org.dyn4j.collision.CollisionBody)}.
+	 * <p>
+	 * Enabled by default.
+	 * @param flag true if the broadphase should be updated for static and at-rest bodies every step
+	 * @since 6.1.0
+	 */
+	public void setStaticBodyBroadphaseUpdateEnabled(boolean flag) {
+		this.staticBodyBroadphaseUpdateEnabled = flag;
+	}
+	
+	/**
+	 * Returns true if the manifolds of resting contacts are reused between steps.
+	 * @return boolean
+	 * @see #setManifoldReuseEnabled(boolean)
+	 * @since 6.1.0
+	 */
+	public boolean isManifoldReuseEnabled() {
+		return this.manifoldReuseEnabled;
+	}
+	
+	/**
+	 * Sets whether the manifolds of resting contacts are reused between steps.
+	 * <p>
+	 * When enabled, the narrowphase and manifold generation are skipped for a pair of bodies
+	 * where one is at-rest and the other is at-rest or static, as long as neither body's 
+	 * {@link org.dyn4j.geometry.Transform} has changed since the manifold was generated.
+	 * <p>
+	 * When enabled, changing the shape of a fixture of an at-rest or static body in place must be 
+	 * followed by waking the bodies in contact with it.
+	 * <p>
+	 * Disabled by default.
+	 * @param flag true if the manifolds of resting contacts should be reused
+	 * @since 6.1.0
+	 */
+	public void setManifoldReuseEnabled(boolean flag) {
+		this.manifoldReuseEnabled = flag;
+	}
+	
 	/**
 	 * Returns the maximum at-rest linear velocity.
 	 * @return double the maximum at-rest velocity
@@ -544,6 +627,41 @@ public class Settings implements Copyable<Settings> {
 		this.velocityConstraintSolverIterations = velocityConstraintSolverIterations;
 	}
 	
+	/**
+	 * Returns the impulse change below which the velocity constraint solver stops iterating.
+	 * @return double
+	 * @see #setVelocityConstraintSolverTolerance(double)
+	 * @since 6.1.0
+	 */
+	public double getVelocityConstraintSolverTolerance() {
+		return this.velocityConstraintSolverTolerance;
+	}
+	
+	/**
+	 * Sets the impulse change below which the velocity constraint solver stops iterating.
+	 * <p>
+	 * After each velocity iteration, the change in the accumulated impulse of each contact and joint 
+	 * of an island during that iteration is computed.  When the largest is less than or equal to this 
+	 * tolerance, the impulses have converged and the remaining iterations are skipped.  The 
+	 * {@link #getVelocityConstraintSolverIterations()} is still the maximum number of iterations.
+	 * <p>
+	 * This is primarily useful for resting stacks and piles which typically converge in a few 
+	 * iterations.  The number of iterations used by each island is available from the 
+	 * {@link org.dyn4j.world.Island#getVelocityIterationCount()} method.
+	 * <p>
+	 * Valid values are in the range [0, &infin;] newton-seconds.  A value of zero disables the early 
+	 * exit.  Disabled by default.
+	 * @param velocityConstraintSolverTolerance the tolerance in newton-seconds
+	 * @throws IllegalArgumentException if velocityConstraintSolverTolerance is less than zero
+	 * @since 6.1.0
+	 */
+	public void setVelocityConstraintSolverTolerance(double velocityConstraintSolverTolerance) {
+		if (velocityConstraintSolverTolerance < 0) 
+			throw new ValueOutOfRangeException("velocityConstraintSolverTolerance", velocityConstraintSolverTolerance, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0.0);
+		
+		this.velocityConstraintSolverTolerance = velocityConstraintSolverTolerance;
+	}
+	
 	/**
 	 * Returns the number of iterations used to solve position constraints.
 	 * @return int
@@ -823,4 +941,34 @@ public class Settings implements Copyable<Settings> {
 		// set the mode
 		this.continuousDetectionMode = mode;
 	}
+	
+	/**
+	 * Returns true if continuous collision detection uses the main broadphase.
+	 * @return boolean
+	 * @see #setContinuousDetectionUnifiedBroadphaseEnabled(boolean)
+	 * @since 6.1.0
+	 */
+	public boolean isContinuousDetectionUnifiedBroadphaseEnabled() {
+		return this.continuousDetectionUnifiedBroadphaseEnabled;
+	}
+	
+	/**
+	 * Sets whether continuous collision detection uses the main broadphase.
+	 * <p>
+	 * By default, the world maintains a second broadphase of swept {@link PhysicsBody} AABBs used to find
+	 * the continuous collision detection candidates.  When enabled, this second broadphase is emptied and 
+	 * the candidates are found by querying the main broadphase with the swept AABBs of the bullets and the 
+	 * bodies that moved farther than the main broadphase's AABB expansion during the step.  The other bodies 
+	 * haven't moved past their expanded AABBs since the main broadphase was last updated.
+	 * <p>
+	 * This removes the cost of maintaining the second broadphase, which is a good trade off when only a few
+	 * bodies are fast moving.
+	 * <p>
+	 * Disabled by default.
+	 * @param flag true if continuous collision detection should use the main broadphase
+	 * @since 6.1.0
+	 */
+	public void setContinuousDetectionUnifiedBroadphaseEnabled(boolean flag) {
+		this.continuousDetectionUnifiedBroadphaseEnabled = flag;
+	}
 }
@@ -28,9 +28,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.dyn4j.Restorable;
 import org.dyn4j.collision.CollisionBody;
 import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.collision.CollisionPair;
+import org.dyn4j.collision.manifold.IndexedManifoldPointId;
 import org.dyn4j.collision.manifold.Manifold;
 import org.dyn4j.collision.manifold.ManifoldPoint;
 import org.dyn4j.collision.manifold.ManifoldPointId;
@@ -40,16 +42,35 @@ import org.dyn4j.dynamics.Settings;
 import org.dyn4j.exception.ValueOutOfRangeException;
 import org.dyn4j.geometry.Matrix22;
 import org.dyn4j.geometry.Shiftable;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 /**
  * Represents a {@link SolvableContact} constraint for each {@link PhysicsBody} pair.  
+ * <p>
+ * The {@link Restorable} state of a {@link ContactConstraint} is the accumulated impulses
+ * of its contacts used to warm start the constraint in the next step.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 1.0.0
  * @param <T> The {@link PhysicsBody} type
  */
-public final class ContactConstraint<T extends PhysicsBody> implements Shiftable {
+public final class ContactConstraint<T extends PhysicsBody> implements Shiftable, Restorable {
+	/** The number of values in the saved state of each contact */
+	private static final int CONTACT_STATE_SIZE = 6;
+	
+	/** The saved id type of a {@link ManifoldPointId} that isn't a distance or indexed id */
+	private static final int ID_TYPE_OTHER = 0;
+	
+	/** The saved id type of the {@link ManifoldPointId#DISTANCE} id */
+	private static final int ID_TYPE_DISTANCE = 1;
+	
+	/** The saved id type of an {@link IndexedManifoldPointId} */
+	private static final int ID_TYPE_INDEXED = 2;
+	
+	/** The saved flag for a solved contact; stored with the id type */
+	private static final int SOLVED = 4;
+	
 	/** The collision pair */
 	protected final CollisionPair<CollisionItem<T, BodyFixture>> pair;
 	
@@ -86,11 +107,23 @@ public final class ContactConstraint<T extends PhysicsBody> implements Shiftable
 	/** The number of contacts to solve */
 	protected int size;
 	
+	/** The state restored to this constraint; applied on the next update */
+	private double[] restoredState;
+	
+	/** True if a state was restored since the last update */
+	private boolean restored;
+	
+	/** The {@link Transform} version of the first body at the last update */
+	private long transformVersion1;
+	
+	/** The {@link Transform} version of the second body at the last update */
+	private long transformVersion2;
+	
 	/** The K matrix for block solving a contact pair */
-	Matrix22 K;
+	final Matrix22 K;
 	
 	/** The inverse of the {@link #K} matrix */
-	Matrix22 invK;
+	final Matrix22 invK;
 	
 	/**
 	 * Full constructor.
@@ -117,6 +150,13 @@ public final class ContactConstraint<T extends PhysicsBody> implements Shiftable
 		this.tangentSpeed = 0;
 		this.enabled = true;
 		this.size = 0;
+		// the block solver matrices are reused each step
+		this.K = new Matrix22();
+		this.invK = new Matrix22();
+		this.restoredState = null;
+		this.restored = false;
+		this.transformVersion1 = -1;
+		this.transformVersion2 = -1;
 	}
 	
 	/**
@@ -203,7 +243,13 @@ public final class ContactConstraint<T extends PhysicsBody> implements Shiftable
 				// notify that this contact is new
 				handler.begin(newContact);
 			}
+			
+			// a restored state replaces the warm start from the old contacts
+			if (this.restored && isWarmStartEnabled) {
+				this.restoreContact(newContact, maxWarmStartDistanceSquared);
+			}
 		}
+		this.restored = false;
 		
 		// notify of contacts that have "ended"
 		int cSize = this.contacts.size();
@@ -217,6 +263,26 @@ public final class ContactConstraint<T extends PhysicsBody> implements Shiftable
 		this.contacts.clear();
 		this.contacts.addAll(contacts);
 		this.size = this.contacts.size();
+		
+		// remember the state of the bodies the manifold was generated for
+		this.transformVersion1 = body1.getTransform().getVersion();
+		this.transformVersion2 = body2.getTransform().getVersion();
+	}
+	
+	/**
+	 * Returns true if the {@link Transform} of either body has changed since the last call to 
+	 * the {@link #update(Manifold, Settings, ContactUpdateHandler)} method.
+	 * <p>
+	 * Returns true if this constraint has never been updated.
+	 * @return boolean
+	 * @since 6.1.0
+	 * @see Transform#getVersion()
+	 */
+	public boolean isTransformChanged() {
+		T body1 = this.pair.getFirst().getBody();
+		T body2 = this.pair.getSecond().getBody();
+		return this.transformVersion1 != body1.getTransform().getVersion() ||
+			   this.transformVersion2 != body2.getTransform().getVersion();
 	}
 	
 	/* (non-Javadoc)
@@ -264,6 +330,130 @@ public final class ContactConstraint<T extends PhysicsBody> implements Shiftable
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The size depends on the number of contacts at the time of the call.
+	 * @since 6.1.0
+	 */
+	@Override
+	public int getStateSize() {
+		return 1 + this.contacts.size() * CONTACT_STATE_SIZE;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		int size = this.contacts.size();
+		state[offset] = size;
+		for (int i = 0; i < size; i++) {
+			SolvableContact c = this.contacts.get(i);
+			int j = offset + 1 + i * CONTACT_STATE_SIZE;
+			state[j] = getIdType(c.id) | (c.solved ? SOLVED : 0);
+			state[j + 1] = getIdKey(c.id);
+			state[j + 2] = c.p.x;
+			state[j + 3] = c.p.y;
+			state[j + 4] = c.jn;
+			state[j + 5] = c.jt;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The contacts of a constraint are replaced each step, so the saved state isn't applied
+	 * until the next call to {@link #update(Manifold, Settings, ContactUpdateHandler)}.  At 
+	 * that time, the saved contacts are matched to the new contacts just like warm starting. 
+	 * New contacts that don't match a saved contact start with no accumulated impulse.
+	 * <p>
+	 * The number of values read is the size of the saved state, which can be different than
+	 * the current {@link #getStateSize()}.
+	 * @since 6.1.0
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		int n = 1 + (int) state[offset] * CONTACT_STATE_SIZE;
+		if (this.restoredState == null || this.restoredState.length < n) {
+			this.restoredState = new double[n];
+		}
+		System.arraycopy(state, offset, this.restoredState, 0, n);
+		this.restored = true;
+	}
+	
+	/**
+	 * Sets the accumulated impulses of the given new contact from the restored state.
+	 * @param contact the new contact
+	 * @param maxWarmStartDistanceSquared the maximum distance squared between distance contacts to match
+	 */
+	private void restoreContact(SolvableContact contact, double maxWarmStartDistanceSquared) {
+		contact.jn = 0.0;
+		contact.jt = 0.0;
+		contact.solved = false;
+		
+		double[] state = this.restoredState;
+		int n = (int) state[0];
+		int type = getIdType(contact.id);
+		double key = getIdKey(contact.id);
+		for (int k = 0; k < n; k++) {
+			int j = 1 + k * CONTACT_STATE_SIZE;
+			int flags = (int) state[j];
+			if ((flags & ~SOLVED) != type) {
+				continue;
+			}
+			
+			// distance ids are matched by the contact point, just like warm starting
+			boolean match = type == ID_TYPE_DISTANCE ? 
+					contact.p.distanceSquared(state[j + 2], state[j + 3]) <= maxWarmStartDistanceSquared :
+					state[j + 1] == key;
+			
+			if (match) {
+				contact.jn = state[j + 4];
+				contact.jt = state[j + 5];
+				contact.solved = (flags & SOLVED) != 0;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the type of the given id used in the saved state.
+	 * @param id the id
+	 * @return int
+	 */
+	private static int getIdType(ManifoldPointId id) {
+		if (id == ManifoldPointId.DISTANCE) {
+			return ID_TYPE_DISTANCE;
+		} else if (id instanceof IndexedManifoldPointId) {
+			return ID_TYPE_INDEXED;
+		}
+		return ID_TYPE_OTHER;
+	}
+	
+	/**
+	 * Returns a value that identifies the given id in the saved state.
+	 * <p>
+	 * The indices of an {@link IndexedManifoldPointId} are packed into the 53 bits a double can
+	 * represent exactly, which is exact for indices less than 2<sup>17</sup>.  Other ids use their 
+	 * hash code.
+	 * @param id the id
+	 * @return double
+	 */
+	private static double getIdKey(ManifoldPointId id) {
+		if (id == ManifoldPointId.DISTANCE) {
+			return 0;
+		} else if (id instanceof IndexedManifoldPointId) {
+			IndexedManifoldPointId iid = (IndexedManifoldPointId) id;
+			long key = ((long) iid.getReferenceEdgeIndex() << 35) |
+					   ((long) iid.getIncidentEdgeIndex() << 18) |
+					   ((long) iid.getIncidentVertexIndex() << 1) |
+					   (iid.isFlipped() ? 1 : 0);
+			return key;
+		}
+		return id.hashCode();
+	}
+	
 	/**
 	 * Returns the collision normal.
 	 * @return {@link Vector2} the collision normal
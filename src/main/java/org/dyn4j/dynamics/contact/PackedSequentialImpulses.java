@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.dynamics.contact;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dyn4j.dynamics.PhysicsBody;
+import org.dyn4j.dynamics.Settings;
+import org.dyn4j.dynamics.TimeStep;
+import org.dyn4j.exception.ValueOutOfRangeException;
+import org.dyn4j.geometry.Mass;
+import org.dyn4j.geometry.Matrix22;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * A {@link SequentialImpulses} solver that solves the velocity constraints using packed
+ * primitive arrays.
+ * <p>
+ * The {@link SequentialImpulses} solver reads and writes the {@link PhysicsBody} and 
+ * {@link SolvableContact} objects directly.  For large {@link org.dyn4j.world.Island}s this
+ * means every iteration follows references to objects that are scattered across the heap. This
+ * solver instead copies the constraint data (the contact arms, effective masses, velocity 
+ * biases, normals, etc.) into packed <code>double[]</code> arrays during {@link #initialize(List, TimeStep, Settings)}
+ * and solves the velocity constraints using only those arrays.
+ * <p>
+ * Body velocities are gathered into the arrays at the beginning of each call to 
+ * {@link #solveVelocityContraints(List, TimeStep, Settings)} and scattered back to the bodies
+ * at the end of the call.  This is necessary because joints are solved in between calls and may
+ * modify the body velocities.  The accumulated impulses are also written back to the contacts
+ * at the end of each call so that warm starting and contact reporting work as normal.
+ * <p>
+ * The position constraints are solved by {@link SequentialImpulses}.
+ * <p>
+ * The computations are performed in the same order as {@link SequentialImpulses} so the
+ * results are identical.  Since packing has a cost of its own, sets of constraints smaller 
+ * than the minimum constraint count are solved by {@link SequentialImpulses} directly.
+ * <p>
+ * This class is not thread-safe.  Use the {@link #copy()} method to get a solver for each thread.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the {@link PhysicsBody} type
+ */
+public class PackedSequentialImpulses<T extends PhysicsBody> extends SequentialImpulses<T> {
+	/** The default minimum number of constraints to use packed arrays */
+	public static final int DEFAULT_MINIMUM_CONSTRAINT_COUNT = 64;
+	
+	/** The initial capacity of the packed arrays */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	/** The minimum number of constraints to use the packed arrays */
+	private final int minimumConstraintCount;
+	
+	/** The body to packed index map */
+	private final Map<PhysicsBody, Integer> bodyIndices;
+	
+	/** The contact constraints that have been packed; null if none */
+	private List<ContactConstraint<T>> packedConstraints;
+	
+	// bodies
+	
+	/** The number of packed bodies */
+	private int bodyCount;
+	
+	/** The packed bodies */
+	private PhysicsBody[] bodies;
+	
+	/** The body linear velocity x component */
+	private double[] vx;
+	
+	/** The body linear velocity y component */
+	private double[] vy;
+	
+	/** The body angular velocity */
+	private double[] w;
+	
+	/** The body inverse mass */
+	private double[] invM;
+	
+	/** The body inverse inertia */
+	private double[] invI;
+	
+	// constraints
+	
+	/** The number of packed constraints */
+	private int constraintCount;
+	
+	/** The index of the first body */
+	private int[] body1;
+	
+	/** The index of the second body */
+	private int[] body2;
+	
+	/** The number of contacts to solve (1 or 2) */
+	private int[] size;
+	
+	/** The normal x component */
+	private double[] nx;
+	
+	/** The normal y component */
+	private double[] ny;
+	
+	/** The tangent x component */
+	private double[] tx;
+	
+	/** The tangent y component */
+	private double[] ty;
+	
+	/** The coefficient of friction */
+	private double[] friction;
+	
+	/** The tangent speed */
+	private double[] tangentSpeed;
+	
+	/** The K matrix (row major) for the block solver */
+	private double[] k;
+	
+	/** The inverse of the K matrix (row major) for the block solver */
+	private double[] invK;
+	
+	// contacts (two slots per constraint)
+	
+	/** The contact arm from body 1 x component */
+	private double[] r1x;
+	
+	/** The contact arm from body 1 y component */
+	private double[] r1y;
+	
+	/** The contact arm from body 2 x component */
+	private double[] r2x;
+	
+	/** The contact arm from body 2 y component */
+	private double[] r2y;
+	
+	/** The normal mass */
+	private double[] massN;
+	
+	/** The tangent mass */
+	private double[] massT;
+	
+	/** The velocity bias */
+	private double[] vb;
+	
+	/** The accumulated normal impulse */
+	private double[] jn;
+	
+	/** The accumulated tangent impulse */
+	private double[] jt;
+	
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Uses the {@link #DEFAULT_MINIMUM_CONSTRAINT_COUNT}.
+	 */
+	public PackedSequentialImpulses() {
+		this(DEFAULT_MINIMUM_CONSTRAINT_COUNT);
+	}
+	
+	/**
+	 * Full constructor.
+	 * @param minimumConstraintCount the minimum number of constraints to use the packed arrays; zero to always use them
+	 * @throws IllegalArgumentException if minimumConstraintCount is less than zero
+	 */
+	public PackedSequentialImpulses(int minimumConstraintCount) {
+		if (minimumConstraintCount < 0) 
+			throw new ValueOutOfRangeException("minimumConstraintCount", minimumConstraintCount, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+		
+		this.minimumConstraintCount = minimumConstraintCount;
+		this.bodyIndices = new IdentityHashMap<PhysicsBody, Integer>();
+		this.packedConstraints = null;
+		
+		this.bodies = new PhysicsBody[INITIAL_CAPACITY];
+		this.vx = new double[INITIAL_CAPACITY];
+		this.vy = new double[INITIAL_CAPACITY];
+		this.w = new double[INITIAL_CAPACITY];
+		this.invM = new double[INITIAL_CAPACITY];
+		this.invI = new double[INITIAL_CAPACITY];
+		
+		this.body1 = new int[INITIAL_CAPACITY];
+		this.body2 = new int[INITIAL_CAPACITY];
+		this.size = new int[INITIAL_CAPACITY];
+		this.nx = new double[INITIAL_CAPACITY];
+		this.ny = new double[INITIAL_CAPACITY];
+		this.tx = new double[INITIAL_CAPACITY];
+		this.ty = new double[INITIAL_CAPACITY];
+		this.friction = new double[INITIAL_CAPACITY];
+		this.tangentSpeed = new double[INITIAL_CAPACITY];
+		this.k = new double[INITIAL_CAPACITY * 4];
+		this.invK = new double[INITIAL_CAPACITY * 4];
+		
+		this.r1x = new double[INITIAL_CAPACITY * 2];
+		this.r1y = new double[INITIAL_CAPACITY * 2];
+		this.r2x = new double[INITIAL_CAPACITY * 2];
+		this.r2y = new double[INITIAL_CAPACITY * 2];
+		this.massN = new double[INITIAL_CAPACITY * 2];
+		this.massT = new double[INITIAL_CAPACITY * 2];
+		this.vb = new double[INITIAL_CAPACITY * 2];
+		this.jn = new double[INITIAL_CAPACITY * 2];
+		this.jt = new double[INITIAL_CAPACITY * 2];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns a new solver with the same minimum constraint count that shares no 
+	 * state with this solver.
+	 */
+	@Override
+	public PackedSequentialImpulses<T> copy() {
+		return new PackedSequentialImpulses<T>(this.minimumConstraintCount);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.contact.SequentialImpulses#initialize(java.util.List, org.dyn4j.dynamics.TimeStep, org.dyn4j.dynamics.Settings)
+	 */
+	@Override
+	public void initialize(List<ContactConstraint<T>> contactConstraints, TimeStep step, Settings settings) {
+		// compute the constraint data and warm start
+		super.initialize(contactConstraints, step, settings);
+		
+		// release any references from the last step
+		this.clear();
+		
+		int size = contactConstraints.size();
+		if (size == 0 || size < this.minimumConstraintCount) {
+			return;
+		}
+		
+		this.ensureConstraintCapacity(size);
+		for (int i = 0; i < size; i++) {
+			ContactConstraint<T> contactConstraint = contactConstraints.get(i);
+			this.pack(contactConstraint);
+		}
+		
+		this.packedConstraints = contactConstraints;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.contact.SequentialImpulses#solveVelocityContraints(java.util.List, org.dyn4j.dynamics.TimeStep, org.dyn4j.dynamics.Settings)
+	 */
+	@Override
+	public void solveVelocityContraints(List<ContactConstraint<T>> contactConstraints, TimeStep step, Settings settings) {
+		// use the object based solver if the given constraints were not packed
+		if (this.packedConstraints != contactConstraints || this.constraintCount != contactConstraints.size()) {
+			super.solveVelocityContraints(contactConstraints, step, settings);
+			return;
+		}
+		
+		this.gather();
+		this.solve();
+		this.scatter();
+	}
+	
+	/**
+	 * Releases references to the bodies and constraints of the last step.
+	 */
+	private void clear() {
+		for (int i = 0; i < this.bodyCount; i++) {
+			this.bodies[i] = null;
+		}
+		this.bodyIndices.clear();
+		this.bodyCount = 0;
+		this.constraintCount = 0;
+		this.packedConstraints = null;
+	}
+	
+	/**
+	 * Copies the data of the given constraint into the packed arrays.
+	 * @param contactConstraint the contact constraint
+	 */
+	private void pack(ContactConstraint<T> contactConstraint) {
+		int c = this.constraintCount++;
+		int cSize = contactConstraint.size;
+		
+		this.body1[c] = this.getBodyIndex(contactConstraint.getBody1());
+		this.body2[c] = this.getBodyIndex(contactConstraint.getBody2());
+		this.size[c] = cSize;
+		this.nx[c] = contactConstraint.normal.x;
+		this.ny[c] = contactConstraint.normal.y;
+		this.tx[c] = contactConstraint.tangent.x;
+		this.ty[c] = contactConstraint.tangent.y;
+		this.friction[c] = contactConstraint.friction;
+		this.tangentSpeed[c] = contactConstraint.tangentSpeed;
+		
+		if (cSize == 2) {
+			Matrix22 K = contactConstraint.K;
+			Matrix22 invK = contactConstraint.invK;
+			int m = c * 4;
+			this.k[m    ] = K.m00;
+			this.k[m + 1] = K.m01;
+			this.k[m + 2] = K.m10;
+			this.k[m + 3] = K.m11;
+			this.invK[m    ] = invK.m00;
+			this.invK[m + 1] = invK.m01;
+			this.invK[m + 2] = invK.m10;
+			this.invK[m + 3] = invK.m11;
+		}
+		
+		List<SolvableContact> contacts = contactConstraint.contacts;
+		for (int j = 0; j < cSize; j++) {
+			SolvableContact contact = contacts.get(j);
+			int p = c * 2 + j;
+			this.r1x[p] = contact.r1.x;
+			this.r1y[p] = contact.r1.y;
+			this.r2x[p] = contact.r2.x;
+			this.r2y[p] = contact.r2.y;
+			this.massN[p] = contact.massN;
+			this.massT[p] = contact.massT;
+			this.vb[p] = contact.vb;
+			this.jn[p] = contact.jn;
+			this.jt[p] = contact.jt;
+		}
+	}
+	
+	/**
+	 * Returns the packed index of the given body, adding it if necessary.
+	 * @param body the body
+	 * @return int
+	 */
+	private int getBodyIndex(PhysicsBody body) {
+		Integer index = this.bodyIndices.get(body);
+		if (index != null) {
+			return index.intValue();
+		}
+		
+		int b = this.bodyCount++;
+		this.ensureBodyCapacity(this.bodyCount);
+		
+		Mass mass = body.getMass();
+		this.bodies[b] = body;
+		this.invM[b] = mass.getInverseMass();
+		this.invI[b] = mass.getInverseInertia();
+		this.bodyIndices.put(body, b);
+		
+		return b;
+	}
+	
+	/**
+	 * Copies the body velocities into the packed arrays.
+	 */
+	private void gather() {
+		for (int i = 0; i < this.bodyCount; i++) {
+			PhysicsBody body = this.bodies[i];
+			Vector2 v = body.getLinearVelocity();
+			this.vx[i] = v.x;
+			this.vy[i] = v.y;
+			this.w[i] = body.getAngularVelocity();
+		}
+	}
+	
+	/**
+	 * Copies the packed body velocities and accumulated impulses back to the 
+	 * bodies and contacts.
+	 */
+	private void scatter() {
+		for (int i = 0; i < this.bodyCount; i++) {
+			PhysicsBody body = this.bodies[i];
+			body.setLinearVelocity(this.vx[i], this.vy[i]);
+			body.setAngularVelocity(this.w[i]);
+		}
+		
+		List<ContactConstraint<T>> contactConstraints = this.packedConstraints;
+		for (int i = 0; i < this.constraintCount; i++) {
+			List<SolvableContact> contacts = contactConstraints.get(i).contacts;
+			int cSize = this.size[i];
+			for (int j = 0; j < cSize; j++) {
+				SolvableContact contact = contacts.get(j);
+				int p = i * 2 + j;
+				contact.jn = this.jn[p];
+				contact.jt = this.jt[p];
+			}
+		}
+	}
+	
+	/**
+	 * Performs one velocity iteration over the packed arrays.
+	 * <p>
+	 * See {@link SequentialImpulses#solveVelocityContraints(List, TimeStep, Settings)} for
+	 * details on the algorithm.
+	 */
+	private void solve() {
+		final double[] vx = this.vx;
+		final double[] vy = this.vy;
+		final double[] w = this.w;
+		final double[] invM = this.invM;
+		final double[] invI = this.invI;
+		final double[] r1x = this.r1x;
+		final double[] r1y = this.r1y;
+		final double[] r2x = this.r2x;
+		final double[] r2y = this.r2y;
+		final double[] jn = this.jn;
+		final double[] jt = this.jt;
+		
+		for (int c = 0; c < this.constraintCount; c++) {
+			final int cSize = this.size[c];
+			if (cSize == 0) continue;
+			
+			final int i1 = this.body1[c];
+			final int i2 = this.body2[c];
+			final double invM1 = invM[i1];
+			final double invM2 = invM[i2];
+			final double invI1 = invI[i1];
+			final double invI2 = invI[i2];
+			final double nx = this.nx[c];
+			final double ny = this.ny[c];
+			final double tx = this.tx[c];
+			final double ty = this.ty[c];
+			final double friction = this.friction[c];
+			final double tangentSpeed = this.tangentSpeed[c];
+			final int p0 = c * 2;
+			
+			// evaluate friction impulse
+			for (int p = p0; p < p0 + cSize; p++) {
+				// get the relative velocity and project it onto the tangent normal
+				double rvx = (-r1y[p] * w[i1] + vx[i1]) - (-r2y[p] * w[i2] + vx[i2]);
+				double rvy = (r1x[p] * w[i1] + vy[i1]) - (r2x[p] * w[i2] + vy[i2]);
+				double rvt = (tx * rvx + ty * rvy) - tangentSpeed;
+				
+				// calculate the tangential impulse
+				double j = this.massT[p] * (-rvt);
+				
+				// apply the coefficient of friction
+				double maxJt = friction * jn[p];
+				
+				// clamp the accumulated tangential impulse
+				double j0 = jt[p];
+				jt[p] = Math.max(-maxJt, Math.min(j0 + j, maxJt));
+				j = jt[p] - j0;
+				
+				// apply to the bodies immediately
+				double Jx = tx * j;
+				double Jy = ty * j;
+				vx[i1] += Jx * invM1;
+				vy[i1] += Jy * invM1;
+				w[i1] = w[i1] + invI1 * (r1x[p] * Jy - r1y[p] * Jx);
+				vx[i2] -= Jx * invM2;
+				vy[i2] -= Jy * invM2;
+				w[i2] = w[i2] - invI2 * (r2x[p] * Jy - r2y[p] * Jx);
+			}
+			
+			// evaluate the normal impulse
+			if (cSize == 1) {
+				final int p = p0;
+				
+				// get the relative velocity and project it onto the penetration normal
+				double rvx = (-r1y[p] * w[i1] + vx[i1]) - (-r2y[p] * w[i2] + vx[i2]);
+				double rvy = (r1x[p] * w[i1] + vy[i1]) - (r2x[p] * w[i2] + vy[i2]);
+				double rvn = nx * rvx + ny * rvy;
+				
+				// calculate the impulse using the velocity bias
+				double j = -this.massN[p] * (rvn - this.vb[p]);
+				
+				// clamp the accumulated impulse
+				double j0 = jn[p];
+				jn[p] = Math.max(j0 + j, 0.0);
+				j = jn[p] - j0;
+				
+				double Jx = nx * j;
+				double Jy = ny * j;
+				vx[i1] += Jx * invM1;
+				vy[i1] += Jy * invM1;
+				w[i1] = w[i1] + invI1 * (r1x[p] * Jy - r1y[p] * Jx);
+				vx[i2] -= Jx * invM2;
+				vy[i2] -= Jy * invM2;
+				w[i2] = w[i2] - invI2 * (r2x[p] * Jy - r2y[p] * Jx);
+			} else {
+				// solve both contacts simultaneously using the block solver
+				final int pa = p0;
+				final int pb = p0 + 1;
+				final int m = c * 4;
+				
+				// the current accumulated impulses
+				double ax = jn[pa];
+				double ay = jn[pb];
+				
+				// the relative velocities along the collision normal
+				double rvx1 = (-r1y[pa] * w[i1] + vx[i1]) - (-r2y[pa] * w[i2] + vx[i2]);
+				double rvy1 = (r1x[pa] * w[i1] + vy[i1]) - (r2x[pa] * w[i2] + vy[i2]);
+				double rvx2 = (-r1y[pb] * w[i1] + vx[i1]) - (-r2y[pb] * w[i2] + vx[i2]);
+				double rvy2 = (r1x[pb] * w[i1] + vy[i1]) - (r2x[pb] * w[i2] + vy[i2]);
+				double rvn1 = nx * rvx1 + ny * rvy1;
+				double rvn2 = nx * rvx2 + ny * rvy2;
+				
+				// compute b' = b - A * a
+				double bx = rvn1 - this.vb[pa];
+				double by = rvn2 - this.vb[pb];
+				bx -= this.k[m] * ax + this.k[m + 1] * ay;
+				by -= this.k[m + 2] * ax + this.k[m + 3] * ay;
+				
+				// Case 1: vn = 0
+				double xx = -(this.invK[m] * bx + this.invK[m + 1] * by);
+				double xy = -(this.invK[m + 2] * bx + this.invK[m + 3] * by);
+				boolean solved = xx >= 0.0 && xy >= 0.0;
+				
+				// Case 2: vn1 = 0 and x2 = 0
+				if (!solved) {
+					xx = -this.massN[pa] * bx;
+					xy = 0.0;
+					solved = xx >= 0.0 && this.k[m + 2] * xx + by >= 0.0;
+				}
+				
+				// Case 3: vn2 = 0 and x1 = 0
+				if (!solved) {
+					xx = 0.0;
+					xy = -this.massN[pb] * by;
+					solved = xy >= 0.0 && this.k[m + 1] * xy + bx >= 0.0;
+				}
+				
+				// Case 4: x1 = 0 and x2 = 0
+				if (!solved) {
+					xx = 0.0;
+					xy = 0.0;
+					solved = bx >= 0.0 && by >= 0.0;
+				}
+				
+				// no solution, give up
+				if (!solved) continue;
+				
+				// apply the incremental impulse
+				double dx = xx - ax;
+				double dy = xy - ay;
+				double J1x = nx * dx;
+				double J1y = ny * dx;
+				double J2x = nx * dy;
+				double J2y = ny * dy;
+				double Jx = J1x + J2x;
+				double Jy = J1y + J2y;
+				
+				vx[i1] += Jx * invM1;
+				vy[i1] += Jy * invM1;
+				w[i1] = w[i1] + invI1 * (
+						(r1x[pa] * J1y - r1y[pa] * J1x) + 
+						(r1x[pb] * J2y - r1y[pb] * J2x));
+				
+				vx[i2] -= Jx * invM2;
+				vy[i2] -= Jy * invM2;
+				w[i2] = w[i2] - invI2 * (
+						(r2x[pa] * J1y - r2y[pa] * J1x) + 
+						(r2x[pb] * J2y - r2y[pb] * J2x));
+				
+				jn[pa] = xx;
+				jn[pb] = xy;
+			}
+		}
+	}
+	
+	/**
+	 * Ensures the body arrays can hold the given number of bodies.
+	 * @param capacity the required capacity
+	 */
+	private void ensureBodyCapacity(int capacity) {
+		if (capacity <= this.bodies.length) return;
+		
+		int length = Math.max(capacity, this.bodies.length * 2);
+		PhysicsBody[] bodies = new PhysicsBody[length];
+		System.arraycopy(this.bodies, 0, bodies, 0, this.bodies.length);
+		this.bodies = bodies;
+		this.vx = new double[length];
+		this.vy = new double[length];
+		this.w = new double[length];
+		this.invM = grow(this.invM, length);
+		this.invI = grow(this.invI, length);
+	}
+	
+	/**
+	 * Ensures the constraint and contact arrays can hold the given number of constraints.
+	 * <p>
+	 * The contents of the arrays are not retained.
+	 * @param capacity the required capacity
+	 */
+	private void ensureConstraintCapacity(int capacity) {
+		if (capacity <= this.body1.length) return;
+		
+		int length = Math.max(capacity, this.body1.length * 2);
+		this.body1 = new int[length];
+		this.body2 = new int[length];
+		this.size = new int[length];
+		this.nx = new double[length];
+		this.ny = new double[length];
+		this.tx = new double[length];
+		this.ty = new double[length];
+		this.friction = new double[length];
+		this.tangentSpeed = new double[length];
+		this.k = new double[length * 4];
+		this.invK = new double[length * 4];
+		
+		this.r1x = new double[length * 2];
+		this.r1y = new double[length * 2];
+		this.r2x = new double[length * 2];
+		this.r2y = new double[length * 2];
+		this.massN = new double[length * 2];
+		this.massT = new double[length * 2];
+		this.vb = new double[length * 2];
+		this.jn = new double[length * 2];
+		this.jt = new double[length * 2];
+	}
+	
+	/**
+	 * Returns a new array of the given length containing the elements of the given array.
+	 * @param array the array
+	 * @param length the new length
+	 * @return double[]
+	 */
+	private static final double[] grow(double[] array, int length) {
+		double[] result = new double[length];
+		System.arraycopy(array, 0, result, 0, array.length);
+		return result;
+	}
+	
+	/**
+	 * Returns the minimum number of constraints to use the packed arrays.
+	 * @return int
+	 */
+	public int getMinimumConstraintCount() {
+		return this.minimumConstraintCount;
+	}
+}
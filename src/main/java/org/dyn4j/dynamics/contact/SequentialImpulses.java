@@ -27,6 +27,7 @@ package org.dyn4j.dynamics.contact;
 import java.util.Collections;
 import java.util.List;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.Epsilon;
 import org.dyn4j.dynamics.PhysicsBody;
 import org.dyn4j.dynamics.Settings;
@@ -39,28 +40,40 @@ import org.dyn4j.geometry.Vector2;
 
 /**
  * Represents an impulse based rigid {@link PhysicsBody} physics collision resolver.
+ * <p>
+ * The solver performs its computations using scalars and the storage on the {@link ContactConstraint}
+ * and {@link SolvableContact} classes so that no objects are created while solving.
+ * <p>
+ * Contacts with a negative depth are speculative: the bodies are separated by the depth and are
+ * allowed to approach one another by that much over the step, but not any further.
+ * <p>
+ * <b>NOTE</b>: Extenders that add state should override the {@link #copy()} method so that
+ * each worker gets its own solver when {@link org.dyn4j.world.Island}s are solved in parallel.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.2.0
  * @param <T> the {@link PhysicsBody} type
  */
-public class SequentialImpulses<T extends PhysicsBody> implements ContactConstraintSolver<T> {
+public class SequentialImpulses<T extends PhysicsBody> implements ContactConstraintSolver<T>, Copyable<SequentialImpulses<T>> {
 	/**
 	 * Compute the mass coefficient for a {@link SolvableContact}.
 	 * 
 	 * @param contactConstraint The {@link ContactConstraint} of the contact
-	 * @param r1 The contact.r1 field
-	 * @param r2 The contact.r2 field
+	 * @param r1x The x component of the contact.r1 field
+	 * @param r1y The y component of the contact.r1 field
+	 * @param r2x The x component of the contact.r2 field
+	 * @param r2y The y component of the contact.r2 field
 	 * @param n The normal
 	 * @return The mass coefficient
 	 * @since 3.4.0
 	 */
-	private static final double getMassCoefficient(ContactConstraint<?> contactConstraint, Vector2 r1, Vector2 r2, Vector2 n) {
+	private static final double getMassCoefficient(ContactConstraint<?> contactConstraint, double r1x, double r1y, double r2x, double r2y, Vector2 n) {
 		Mass m1 = contactConstraint.getBody1().getMass();
 		Mass m2 = contactConstraint.getBody2().getMass();
 		
-		double r1CrossN = r1.cross(n);
-		double r2CrossN = r2.cross(n);
+		// r1.cross(n) and r2.cross(n)
+		double r1CrossN = r1x * n.y - r1y * n.x;
+		double r2CrossN = r2x * n.y - r2y * n.x;
 		
 		return m1.getInverseMass() + 
 				m2.getInverseMass() + 
@@ -73,47 +86,74 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 	 * 
 	 * @param contactConstraint The {@link ContactConstraint} of the bodies
 	 * @param contact The corresponding {@link SolvableContact}
-	 * @param J
+	 * @param Jx the x component of the impulse
+	 * @param Jy the y component of the impulse
 	 * @since 3.4.0
 	 */
-	private static final void updateBodies(ContactConstraint<?> contactConstraint, SolvableContact contact, Vector2 J) {
+	private static final void updateBodies(ContactConstraint<?> contactConstraint, SolvableContact contact, double Jx, double Jy) {
 		PhysicsBody b1 = contactConstraint.getBody1();
 		PhysicsBody b2 = contactConstraint.getBody2();
 		Mass m1 = b1.getMass();
 		Mass m2 = b2.getMass();
+		Vector2 r1 = contact.r1;
+		Vector2 r2 = contact.r2;
 		
 		// b1.getVelocity().add(J.product(invM1));
-		b1.getLinearVelocity().add(J.x * m1.getInverseMass(), J.y * m1.getInverseMass());
-		b1.setAngularVelocity(b1.getAngularVelocity() + m1.getInverseInertia() * contact.r1.cross(J));
+		b1.getLinearVelocity().add(Jx * m1.getInverseMass(), Jy * m1.getInverseMass());
+		b1.setAngularVelocity(b1.getAngularVelocity() + m1.getInverseInertia() * (r1.x * Jy - r1.y * Jx));
 		
 		// b2.getVelocity().subtract(J.product(invM2));
-		b2.getLinearVelocity().subtract(J.x * m2.getInverseMass(), J.y * m2.getInverseMass());
-		b2.setAngularVelocity(b2.getAngularVelocity() - m2.getInverseInertia() * contact.r2.cross(J));
+		b2.getLinearVelocity().subtract(Jx * m2.getInverseMass(), Jy * m2.getInverseMass());
+		b2.setAngularVelocity(b2.getAngularVelocity() - m2.getInverseInertia() * (r2.x * Jy - r2.y * Jx));
 	}
 	
 	/**
-	 * Compute the relative velocity of this {@link ContactConstraint}'s bodies.
+	 * Compute the relative velocity of this {@link ContactConstraint}'s bodies
+	 * projected onto the given vector.
+	 * <p>
+	 * The relative velocity is computed with scalars to avoid creating
+	 * temporary vectors.
 	 * 
 	 * @param contactConstraint The {@link ContactConstraint}
 	 * @param contact The {@link SolvableContact}
-	 * @return The relative velocity vector
-	 * @since 3.4.0
+	 * @param n the vector to project onto
+	 * @return double the relative velocity along the given vector
+	 * @since 6.1.0
 	 */
-	private static final Vector2 getRelativeVelocity(ContactConstraint<?> contactConstraint, SolvableContact contact) {
+	private static final double getRelativeVelocity(ContactConstraint<?> contactConstraint, SolvableContact contact, Vector2 n) {
 		PhysicsBody b1 = contactConstraint.getBody1();
 		PhysicsBody b2 = contactConstraint.getBody2();
+		Vector2 r1 = contact.r1;
+		Vector2 r2 = contact.r2;
+		Vector2 v1 = b1.getLinearVelocity();
+		Vector2 v2 = b2.getLinearVelocity();
+		double w1 = b1.getAngularVelocity();
+		double w2 = b2.getAngularVelocity();
 		
-		Vector2 lv1 = contact.r1.cross(b1.getAngularVelocity()).add(b1.getLinearVelocity());
-		Vector2 lv2 = contact.r2.cross(b2.getAngularVelocity()).add(b2.getLinearVelocity());
-		Vector2 rv = lv1.subtract(lv2);
+		// r1.cross(w1).add(v1) - r2.cross(w2).add(v2)
+		double rvx = (-r1.y * w1 + v1.x) - (-r2.y * w2 + v2.x);
+		double rvy = (r1.x * w1 + v1.y) - (r2.x * w2 + v2.y);
 		
-		return rv;
+		return n.x * rvx + n.y * rvy;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns a new solver that shares no state with this solver.
+	 * @since 6.1.0
+	 */
+	@Override
+	public SequentialImpulses<T> copy() {
+		return new SequentialImpulses<T>();
 	}
 	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.dynamics.contact.ContactConstraintSolver#initialize(java.util.List, org.dyn4j.dynamics.TimeStep, org.dyn4j.dynamics.Settings)
 	 */
 	public void initialize(List<ContactConstraint<T>> contactConstraints, TimeStep step, Settings settings) {
+		double invdt = step.getInverseDeltaTime();
+		
 		// loop through the contact constraints
 		int size = contactConstraints.size();
 		for (int i = 0; i < size; i++) {
@@ -142,8 +182,10 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 			double invI2 = m2.getInverseInertia();
 			
 			// get the transformed centers of mass
-			Vector2 c1 = t1.getTransformed(m1.getCenter());
-			Vector2 c2 = t2.getTransformed(m2.getCenter());
+			double c1x = t1.getTransformedX(m1.getCenter());
+			double c1y = t1.getTransformedY(m1.getCenter());
+			double c2x = t2.getTransformedX(m2.getCenter());
+			double c2y = t2.getTransformedY(m2.getCenter());
 			
 			// get the penetration axis
 			Vector2 N = contactConstraint.normal;
@@ -153,15 +195,19 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 			// loop through the contact points
 			for (int j = 0; j < cSize; j++) {
 				SolvableContact contact = contacts.get(j);
+				Vector2 r1 = contact.r1;
+				Vector2 r2 = contact.r2;
 				
 				// calculate ra and rb
-				contact.r1 = c1.to(contact.p);
-				contact.r2 = c2.to(contact.p);
+				r1.x = contact.p.x - c1x;
+				r1.y = contact.p.y - c1y;
+				r2.x = contact.p.x - c2x;
+				r2.y = contact.p.y - c2y;
 				
 				// pre calculate the mass normal
-				contact.massN = 1.0 / SequentialImpulses.getMassCoefficient(contactConstraint, contact.r1, contact.r2, N);
+				contact.massN = 1.0 / SequentialImpulses.getMassCoefficient(contactConstraint, r1.x, r1.y, r2.x, r2.y, N);
 				// pre calculate the mass tangent
-				contact.massT = 1.0 / SequentialImpulses.getMassCoefficient(contactConstraint, contact.r1, contact.r2, T);
+				contact.massT = 1.0 / SequentialImpulses.getMassCoefficient(contactConstraint, r1.x, r1.y, r2.x, r2.y, T);
 				// set the velocity bias
 				contact.vb = 0.0;
 				// set the ignored flag
@@ -170,11 +216,14 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				contact.solved = true;
 				
 				// find the relative velocity and project it onto the penetration normal
-				Vector2 rv = SequentialImpulses.getRelativeVelocity(contactConstraint, contact);
-				double rvn = N.dot(rv);
-				
-				// if its negative then the bodies are moving away from one another
-				if (rvn < -restitutionVelocity) {
+				double rvn = SequentialImpulses.getRelativeVelocity(contactConstraint, contact, N);
+				
+				if (contact.depth < 0.0) {
+					// a speculative contact can close the gap over
+					// the step, but not cross it
+					contact.vb = contact.depth * invdt;
+				} else if (rvn < -restitutionVelocity) {
+					// if its negative then the bodies are moving away from one another
 					// use the coefficient of elasticity
 					contact.vb += -contactConstraint.restitution * rvn; 
 				}
@@ -192,7 +241,7 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				double rn2B = contact2.r2.cross(N);
 				
 				// compute the K matrix for the constraints
-				Matrix22 K = new Matrix22();
+				Matrix22 K = contactConstraint.K;
 				K.m00 = invM1 + invM2 + invI1 * rn1A * rn1A + invI2 * rn1B * rn1B;
 				K.m01 = invM1 + invM2 + invI1 * rn1A * rn2A + invI2 * rn1B * rn2B;
 				K.m10 = K.m01;
@@ -223,8 +272,10 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				if (K.m00 * K.m00 < maxCondition * det) {
 					// if the condition number is below the max then we can
 					// assume that we can invert K
-					contactConstraint.K = K;
-					contactConstraint.invK = K.getInverse();
+					Matrix22 invK = contactConstraint.invK;
+					invK.m00 = K.m00; invK.m01 = K.m01;
+					invK.m10 = K.m10; invK.m11 = K.m11;
+					invK.invert();
 				} else {
 					// otherwise the matrix is ill conditioned
 					
@@ -291,8 +342,9 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				contact.jt *= ratio;
 				
 				// apply accumulated impulses to warm start the solver
-				Vector2 J = new Vector2(N.x * contact.jn + T.x * contact.jt, N.y * contact.jn + T.y * contact.jt);
-				SequentialImpulses.updateBodies(contactConstraint, contact, J);
+				double Jx = N.x * contact.jn + T.x * contact.jt;
+				double Jy = N.y * contact.jn + T.y * contact.jt;
+				SequentialImpulses.updateBodies(contactConstraint, contact, Jx, Jy);
 			}
 		}
 	}
@@ -321,11 +373,8 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 			for (int k = 0; k < cSize; k++) {
 				SolvableContact contact = contacts.get(k);
 				
-				// get the relative velocity
-				Vector2 rv = SequentialImpulses.getRelativeVelocity(contactConstraint, contact);
-				
-				// project the relative velocity onto the tangent normal
-				double rvt = T.dot(rv) - tangentSpeed;
+				// get the relative velocity and project it onto the tangent normal
+				double rvt = SequentialImpulses.getRelativeVelocity(contactConstraint, contact, T) - tangentSpeed;
 				// calculate the tangential impulse
 				double jt = contact.massT * (-rvt);
 				
@@ -338,8 +387,7 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				jt = contact.jt - Jt0;
 				
 				// apply to the bodies immediately
-				Vector2 J = new Vector2(T.x * jt, T.y * jt);
-				SequentialImpulses.updateBodies(contactConstraint, contact, J);
+				SequentialImpulses.updateBodies(contactConstraint, contact, T.x * jt, T.y * jt);
 			}
 			
 			// evalutate the normal impulse
@@ -350,8 +398,7 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				SolvableContact contact = contacts.get(0);
 				
 				// get the relative velocity and project it onto the penetration normal
-				Vector2 rv = SequentialImpulses.getRelativeVelocity(contactConstraint, contact);
-				double rvn = N.dot(rv);
+				double rvn = SequentialImpulses.getRelativeVelocity(contactConstraint, contact, N);
 				
 				// calculate the impulse using the velocity bias
 				double j = -contact.massN * (rvn - contact.vb);
@@ -362,8 +409,7 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				j = contact.jn - j0;
 				
 				// only update the bodies after processing all the contacts
-				Vector2 J = new Vector2(N.x * j, N.y * j);
-				SequentialImpulses.updateBodies(contactConstraint, contact, J);
+				SequentialImpulses.updateBodies(contactConstraint, contact, N.x * j, N.y * j);
 			} else {
 				// if its 2 then solve the contacts simultaneously using a mini-LCP
 				
@@ -400,25 +446,31 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				//    = A * x + b'
 				// b' = b - A * a;
 				
+				// NOTE: the vectors a, b and x are stored in scalar locals to avoid
+				// creating temporary vectors in this hot loop
+				
 				SolvableContact contact1 = contacts.get(0);
 				SolvableContact contact2 = contacts.get(1);
+				Matrix22 K = contactConstraint.K;
+				Matrix22 invK = contactConstraint.invK;
 				
-				// create a vector containing the current accumulated impulses
-				Vector2 a = new Vector2(contact1.jn, contact2.jn);
+				// the current accumulated impulses
+				double ax = contact1.jn;
+				double ay = contact2.jn;
 				
 				// get the relative velocity at both contacts and
 				// compute the relative velocities along the collision normal
-				Vector2 rv1 = SequentialImpulses.getRelativeVelocity(contactConstraint, contact1);
-				Vector2 rv2 = SequentialImpulses.getRelativeVelocity(contactConstraint, contact2);
-				double rvn1 = N.dot(rv1);
-				double rvn2 = N.dot(rv2);
+				double rvn1 = SequentialImpulses.getRelativeVelocity(contactConstraint, contact1, N);
+				double rvn2 = SequentialImpulses.getRelativeVelocity(contactConstraint, contact2, N);
 				
-				// create the b vector
-				Vector2 b = new Vector2();
-				b.x = rvn1 - contact1.vb;
-				b.y = rvn2 - contact2.vb;
-				b.subtract(contactConstraint.K.product(a));
+				// compute b' = b - A * a
+				double bx = rvn1 - contact1.vb;
+				double by = rvn2 - contact2.vb;
+				bx -= K.m00 * ax + K.m01 * ay;
+				by -= K.m10 * ax + K.m11 * ay;
 				
+				double xx;
+				double xy;
 				for (;;) {
 					//
 					// Case 1: vn = 0
@@ -429,10 +481,11 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 					//
 					// x = - inv(A) * b'
 					//
-					Vector2 x = contactConstraint.invK.product(b).negate();
+					xx = -(invK.m00 * bx + invK.m01 * by);
+					xy = -(invK.m10 * bx + invK.m11 * by);
 
-					if (x.x >= 0.0 && x.y >= 0.0) {
-						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, x, a);
+					if (xx >= 0.0 && xy >= 0.0) {
+						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, xx, xy, ax, ay);
 						break;
 					}
 
@@ -443,13 +496,13 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 					// vn2 = a21 * x1 + a22 * 0 + b2'
 					//
 					
-					x.x = -contact1.massN * b.x;
-					x.y = 0.0;
+					xx = -contact1.massN * bx;
+					xy = 0.0;
 					rvn1 = 0.0;
-					rvn2 = contactConstraint.K.m10 * x.x + b.y;
+					rvn2 = K.m10 * xx + by;
 
-					if (x.x >= 0.0 && rvn2 >= 0.0) {
-						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, x, a);
+					if (xx >= 0.0 && rvn2 >= 0.0) {
+						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, xx, xy, ax, ay);
 						break;
 					}
 
@@ -461,13 +514,13 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 					//   0 = a21 * 0 + a22 * x2 + b2'
 					//
 					
-					x.x = 0.0;
-					x.y = -contact2.massN * b.y;
-					rvn1 = contactConstraint.K.m01 * x.y + b.x;
+					xx = 0.0;
+					xy = -contact2.massN * by;
+					rvn1 = K.m01 * xy + bx;
 					rvn2 = 0.0;
 
-					if (x.y >= 0.0 && rvn1 >= 0.0) {
-						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, x, a);
+					if (xy >= 0.0 && rvn1 >= 0.0) {
+						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, xx, xy, ax, ay);
 						break;
 					}
 
@@ -476,13 +529,13 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 					// 
 					// vn1 = b1
 					// vn2 = b2;
-					x.x = 0.0f;
-					x.y = 0.0f;
-					rvn1 = b.x;
-					rvn2 = b.y;
+					xx = 0.0;
+					xy = 0.0;
+					rvn1 = bx;
+					rvn2 = by;
 					
 					if (rvn1 >= 0.0 && rvn2 >= 0.0) {
-						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, x, a);
+						SequentialImpulses.updateBodies(contactConstraint, contact1, contact2, xx, xy, ax, ay);
 						break;
 					}
 					
@@ -499,11 +552,13 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 	 * @param contactConstraint The {@link ContactConstraint} of the contacts
 	 * @param contact1 The first contact
 	 * @param contact2 The second contact
-	 * @param x
-	 * @param a
+	 * @param xx the new total impulse of the first contact
+	 * @param xy the new total impulse of the second contact
+	 * @param ax the old total impulse of the first contact
+	 * @param ay the old total impulse of the second contact
 	 * @since 3.4.0
 	 */
-	private static final void updateBodies(ContactConstraint<?> contactConstraint, SolvableContact contact1, SolvableContact contact2, Vector2 x, Vector2 a) {
+	private static final void updateBodies(ContactConstraint<?> contactConstraint, SolvableContact contact1, SolvableContact contact2, double xx, double xy, double ax, double ay) {
 		PhysicsBody b1 = contactConstraint.getBody1();
 		PhysicsBody b2 = contactConstraint.getBody2();
 		Mass m1 = b1.getMass();
@@ -514,23 +569,31 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 		// find the incremental impulse
 		// Vector2 d = x.difference(a);
 		// apply the incremental impulse
-		Vector2 J1 = N.product(x.x - a.x);
-		Vector2 J2 = N.product(x.y - a.y);
+		double dx = xx - ax;
+		double dy = xy - ay;
+		double J1x = N.x * dx;
+		double J1y = N.y * dx;
+		double J2x = N.x * dy;
+		double J2y = N.y * dy;
 		
-		double Jx = J1.x + J2.x;
-		double Jy = J1.y + J2.y;
+		double Jx = J1x + J2x;
+		double Jy = J1y + J2y;
 		
 		// v1.add(J1.sum(J2).multiply(invM1));
 		b1.getLinearVelocity().add(Jx * m1.getInverseMass(), Jy * m1.getInverseMass());
-		b1.setAngularVelocity(b1.getAngularVelocity() + m1.getInverseInertia() * (contact1.r1.cross(J1) + contact2.r1.cross(J2)));
+		b1.setAngularVelocity(b1.getAngularVelocity() + m1.getInverseInertia() * (
+				(contact1.r1.x * J1y - contact1.r1.y * J1x) + 
+				(contact2.r1.x * J2y - contact2.r1.y * J2x)));
 		
 		// v2.subtract(J1.sum(J2).multiply(invM2));
 		b2.getLinearVelocity().subtract(Jx * m2.getInverseMass(), Jy * m2.getInverseMass());
-		b2.setAngularVelocity(b2.getAngularVelocity() - m2.getInverseInertia() * (contact1.r2.cross(J1) + contact2.r2.cross(J2)));
+		b2.setAngularVelocity(b2.getAngularVelocity() - m2.getInverseInertia() * (
+				(contact1.r2.x * J1y - contact1.r2.y * J1x) + 
+				(contact2.r2.x * J2y - contact2.r2.y * J2x)));
 		
 		// set the new incremental impulse
-		contact1.jn = x.x;
-		contact2.jn = x.y;
+		contact1.jn = xx;
+		contact2.jn = xy;
 	}
 	
 	/* (non-Javadoc)
@@ -569,6 +632,9 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 			// get the masses
 			Mass m1 = b1.getMass();
 			Mass m2 = b2.getMass();
+			// get the local centers of mass
+			Vector2 lc1 = m1.getCenter();
+			Vector2 lc2 = m2.getCenter();
 		  
 			// get the penetration axis
 			Vector2 N = contactConstraint.normal;
@@ -580,22 +646,27 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				// get the world centers of mass
 				// NOTE: the world center needs to be recomputed each iteration because
 				//       we are modifying the transform in each iteration
-				Vector2 c1 = t1.getTransformed(m1.getCenter());
-				Vector2 c2 = t2.getTransformed(m2.getCenter());
-				
-				// get r1 and r2
-				Vector2 r1 = contact.p1.difference(m1.getCenter());
-				t1.transformR(r1);
-				Vector2 r2 = contact.p2.difference(m2.getCenter());
-				t2.transformR(r2);
+				double c1x = t1.getTransformedX(lc1);
+				double c1y = t1.getTransformedY(lc1);
+				double c2x = t2.getTransformedX(lc2);
+				double c2y = t2.getTransformedY(lc2);
+				
+				// get r1 and r2 (rotated by the body transforms)
+				double lr1x = contact.p1.x - lc1.x;
+				double lr1y = contact.p1.y - lc1.y;
+				double lr2x = contact.p2.x - lc2.x;
+				double lr2y = contact.p2.y - lc2.y;
+				double r1x = t1.getCost() * lr1x - t1.getSint() * lr1y;
+				double r1y = t1.getSint() * lr1x + t1.getCost() * lr1y;
+				double r2x = t2.getCost() * lr2x - t2.getSint() * lr2y;
+				double r2y = t2.getSint() * lr2x + t2.getCost() * lr2y;
 				
 				// get the world contact points
-				Vector2 p1 = c1.sum(r1);
-				Vector2 p2 = c2.sum(r2);
-				Vector2 dp = p1.subtract(p2);
+				double dpx = (c1x + r1x) - (c2x + r2x);
+				double dpy = (c1y + r1y) - (c2y + r2y);
 				
 				// estimate the current penetration
-				double penetration = dp.dot(N) - contact.depth;
+				double penetration = dpx * N.x + dpy * N.y - contact.depth;
 
 				// track the maximum error
 				minSeparation = Math.min(minSeparation, penetration);
@@ -604,7 +675,7 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				double cp = baumgarte * Interval.clamp(penetration + allowedPenetration, -maxLinearCorrection, 0.0);
 				
 				// compute the position impulse
-				double K = SequentialImpulses.getMassCoefficient(contactConstraint, r1, r2, N);
+				double K = SequentialImpulses.getMassCoefficient(contactConstraint, r1x, r1y, r2x, r2y, N);
 				double jp = (K > Epsilon.E)? (-cp / K) : 0.0;
 				
 				// clamp the accumulated position impulse
@@ -612,17 +683,21 @@ public class SequentialImpulses<T extends PhysicsBody> implements ContactConstra
 				contact.jp = Math.max(jp0 + jp, 0.0);
 				jp = contact.jp - jp0;
 				
-				Vector2 J = N.product(jp);
+				double Jx = N.x * jp;
+				double Jy = N.y * jp;
 				
 				// translate and rotate the objects
-//				b1.translate(J.product(m1.getInverseMass()));
-				t1.translate(J.product(m1.getInverseMass()));
-//				b1.rotate(m1.getInverseInertia() * r1.cross(J), c1.x, c1.y);
-				t1.rotate(m1.getInverseInertia() * r1.cross(J), c1.x, c1.y);
-				
-				t2.translate(J.product(-m2.getInverseMass()));
-//				b2.translate(J.product(-m2.getInverseMass()));
-				t2.rotate(-m2.getInverseInertia() * r2.cross(J), c2.x, c2.y);
+				// NOTE: static bodies can be on many islands, which can be solved
+				//       in parallel, so they are never modified
+				if (!b1.isStatic()) {
+					t1.translate(Jx * m1.getInverseMass(), Jy * m1.getInverseMass());
+					t1.rotate(m1.getInverseInertia() * (r1x * Jy - r1y * Jx), c1x, c1y);
+				}
+				
+				if (!b2.isStatic()) {
+					t2.translate(Jx * -m2.getInverseMass(), Jy * -m2.getInverseMass());
+					t2.rotate(-m2.getInverseInertia() * (r2x * Jy - r2y * Jx), c2x, c2y);
+				}
 			}
 		}
 		// check if the minimum separation between all objects is still
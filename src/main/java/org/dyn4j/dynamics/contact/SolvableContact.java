@@ -32,7 +32,7 @@ import org.dyn4j.geometry.Vector2;
  * Represents a contact point between two {@link PhysicsBody} objects that
  * has the necessary information to allow solving.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 1.0.0
  */
 final class SolvableContact implements Contact, SolvedContact {
@@ -52,10 +52,10 @@ final class SolvableContact implements Contact, SolvedContact {
 	final Vector2 p2;
 	
 	/** The {@link Vector2} from the center of {@link PhysicsBody}1 to the contact point */
-	Vector2 r1;
+	final Vector2 r1;
 	
 	/** The {@link Vector2} from the center of {@link PhysicsBody}2 to the contact point */
-	Vector2 r2;
+	final Vector2 r2;
 	
 	/** The accumulated normal impulse */
 	double jn;
@@ -95,6 +95,8 @@ final class SolvableContact implements Contact, SolvedContact {
 		this.depth = depth;
 		this.p1 = p1;
 		this.p2 = p2;
+		this.r1 = new Vector2();
+		this.r2 = new Vector2();
 	}
 	
 	/* (non-Javadoc)
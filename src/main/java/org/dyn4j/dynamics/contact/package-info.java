@@ -35,8 +35,11 @@
  * {@link org.dyn4j.dynamics.contact.ContactConstraintSolver} to resolve the
  * collisions in a physical way. 
  * <p>
- * {@link org.dyn4j.dynamics.contact.SequentialImpulses} is the only implementation
- * of the {@link org.dyn4j.dynamics.contact.ContactConstraintSolver}.
+ * {@link org.dyn4j.dynamics.contact.SequentialImpulses} is the default implementation
+ * of the {@link org.dyn4j.dynamics.contact.ContactConstraintSolver}.  The 
+ * {@link org.dyn4j.dynamics.contact.PackedSequentialImpulses} implementation produces the
+ * same results, but solves the velocity constraints using packed primitive arrays which 
+ * performs better for large sets of constraints.
  * <p>
  * In addition to solving the {@link org.dyn4j.dynamics.contact.ContactConstraint}s, 
  * they can be updated to facilitate warm starting the solver.  Warm starting provides
@@ -47,7 +50,7 @@
  * {@link org.dyn4j.dynamics.contact.Contact}s
  * are generated through the {@link org.dyn4j.dynamics.contact.ContactUpdateHandler}.
  * @author William Bittle
- * @version 4.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 package org.dyn4j.dynamics.contact;
\ No newline at end of file
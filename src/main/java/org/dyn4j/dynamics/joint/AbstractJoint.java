@@ -31,6 +31,7 @@ import java.util.List;
 import org.dyn4j.DataContainer;
 import org.dyn4j.Epsilon;
 import org.dyn4j.Ownable;
+import org.dyn4j.Restorable;
 import org.dyn4j.collision.CollisionBody;
 import org.dyn4j.dynamics.PhysicsBody;
 import org.dyn4j.exception.ArgumentNullException;
@@ -38,16 +39,20 @@ import org.dyn4j.exception.EmptyCollectionException;
 import org.dyn4j.exception.NullElementException;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.Shiftable;
+import org.dyn4j.geometry.Vector2;
 
 /**
  * Represents an abstract implementation of constrained motion between 
  * {@link PhysicsBody}s.
+ * <p>
+ * The {@link Restorable} state of a joint is the accumulated impulses used to warm 
+ * start the joint in the next step.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 5.0.0
  * @param <T> the {@link PhysicsBody} type
  */
-public abstract class AbstractJoint<T extends PhysicsBody> implements Joint<T>, Shiftable, DataContainer, Ownable {
+public abstract class AbstractJoint<T extends PhysicsBody> implements Joint<T>, Shiftable, DataContainer, Ownable, Restorable {
 	/** An unmodifiable list of the bodies */
 	protected final List<T> bodies;
 
@@ -328,6 +333,18 @@ public abstract class AbstractJoint<T extends PhysicsBody> implements Joint<T>,
 		return false;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Copies the result of {@link #getReactionForce(double)} into the given {@link Vector2}.
+	 * Override this method to avoid creating the intermediate {@link Vector2}.
+	 * @since 6.1.0
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.set(this.getReactionForce(invdt));
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.dynamics.joint.Joint#isCollisionAllowed()
 	 */
@@ -369,4 +386,29 @@ public abstract class AbstractJoint<T extends PhysicsBody> implements Joint<T>,
 	public void setOwner(Object owner) {
 		this.owner = owner;
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * By default a joint has no state.  Joints that accumulate impulses across steps
+	 * should override this method and the {@link #saveState(double[], int)} and 
+	 * {@link #restoreState(double[], int)} methods.
+	 * @since 6.1.0
+	 */
+	@Override
+	public int getStateSize() {
+		return 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {}
 }
@@ -111,7 +111,7 @@ import org.dyn4j.geometry.Vector2;
  * value and by default the limits are enabled, you will need to disable the 
  * limit to see the effect of the ratio.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 2.2.2
  * @see <a href="https://www.dyn4j.org/pages/joints#Angle_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2010/12/angle-constraint/" target="_blank">Angle Constraint</a>
@@ -423,8 +423,12 @@ public class AngleJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 			}
 			
 			double impulse = -this.axialMass * C;
-			this.body1.rotateAboutCenter(-invI1 * impulse);
-			this.body2.rotateAboutCenter(invI2 * impulse);
+			if (!this.body1.isStatic()) {
+				this.body1.rotateAboutCenter(-invI1 * impulse);
+			}
+			if (!this.body2.isStatic()) {
+				this.body2.rotateAboutCenter(invI2 * impulse);
+			}
 			angularError = Math.abs(C);
 			
 			return angularError <= angularTolerance;
@@ -499,7 +503,19 @@ public class AngleJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return new Vector2();
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Not applicable to this joint. Sets the given {@link Vector2} to zero.
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.zero();
 	}
 	
 	/* (non-Javadoc)
@@ -510,6 +526,34 @@ public class AngleJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 		return (this.impulse + this.lowerLimitImpulse - this.upperLimit) * invdt;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 3;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse;
+		state[offset + 1] = this.lowerLimitImpulse;
+		state[offset + 2] = this.upperLimitImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse = state[offset];
+		this.lowerLimitImpulse = state[offset + 1];
+		this.upperLimitImpulse = state[offset + 2];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
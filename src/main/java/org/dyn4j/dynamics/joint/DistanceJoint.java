@@ -81,7 +81,7 @@ import org.dyn4j.geometry.Vector2;
  * the {@link Settings#getLinearTolerance()}) the joint will be treated as a
  * fixed length joint.
  * @author William Bittle
- * @version 6.0.0 
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Distance_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2010/09/distance-constraint/" target="_blank">Distance Constraint</a>
@@ -594,11 +594,15 @@ public class DistanceJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 		Vector2 J = n.product(impulse);
 		
 		// translate and rotate the objects
-		this.body1.translate(J.product(invM1));
-		this.body1.rotate(invI1 * r1.cross(J), c1);
+		if (!this.body1.isStatic()) {
+			this.body1.translate(J.product(invM1));
+			this.body1.rotate(invI1 * r1.cross(J), c1);
+		}
 		
-		this.body2.translate(J.product(-invM2));
-		this.body2.rotate(-invI2 * r2.cross(J), c2);
+		if (!this.body2.isStatic()) {
+			this.body2.translate(J.product(-invM2));
+			this.body2.rotate(-invI2 * r2.cross(J), c2);
+		}
 		
 		return Math.abs(C) < linearTolerance;
 	}
@@ -651,7 +655,19 @@ public class DistanceJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return this.n.product((this.impulse + this.lowerLimitImpulse - this.upperLimitImpulse) * invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		double j = (this.impulse + this.lowerLimitImpulse - this.upperLimitImpulse) * invdt;
+		destination.x = this.n.x * j;
+		destination.y = this.n.y * j;
 	}
 	
 	/**
@@ -664,6 +680,34 @@ public class DistanceJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 		return 0.0;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 3;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse;
+		state[offset + 1] = this.upperLimitImpulse;
+		state[offset + 2] = this.lowerLimitImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse = state[offset];
+		this.upperLimitImpulse = state[offset + 1];
+		this.lowerLimitImpulse = state[offset + 2];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -40,7 +40,7 @@ import org.dyn4j.geometry.Vector2;
 /**
  * Represents constrained motion between {@link PhysicsBody}s.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 5.0.0
  * @param <T> the {@link PhysicsBody} type
  */
@@ -133,6 +133,17 @@ public interface Joint<T extends PhysicsBody> extends Shiftable, DataContainer,
 	 */
 	public abstract Vector2 getReactionForce(double invdt);
 	
+	/**
+	 * Returns the force applied to the {@link PhysicsBody}s in order
+	 * to satisfy the constraint in newtons in the given {@link Vector2}.
+	 * <p>
+	 * Unlike {@link #getReactionForce(double)}, this method doesn't create a new {@link Vector2}.
+	 * @param invdt the inverse delta time
+	 * @param destination the {@link Vector2} containing the result
+	 * @since 6.1.0
+	 */
+	public abstract void getReactionForce(double invdt, Vector2 destination);
+	
 	/**
 	 * Returns the torque applied to the {@link PhysicsBody}s in order
 	 * to satisfy the constraint in newton-meters.
@@ -70,7 +70,7 @@ import org.dyn4j.geometry.Vector2;
  * character body will move and rotate smoothly, participating in any collision
  * or with other joints to match the infinite mass body.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Motor_Joint" target="_blank">Documentation</a>
  * @param <T> the {@link PhysicsBody} type
@@ -367,7 +367,18 @@ public class MotorJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return this.linearImpulse.product(invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.x = this.linearImpulse.x * invdt;
+		destination.y = this.linearImpulse.y * invdt;
 	}
 	
 	/* (non-Javadoc)
@@ -378,6 +389,34 @@ public class MotorJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 		return this.angularImpulse * invdt;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 3;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.linearImpulse.x;
+		state[offset + 1] = this.linearImpulse.y;
+		state[offset + 2] = this.angularImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.linearImpulse.x = state[offset];
+		this.linearImpulse.y = state[offset + 1];
+		this.angularImpulse = state[offset + 2];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -69,7 +69,7 @@ import org.dyn4j.geometry.Vector2;
  * Renamed from MouseJoint in 3.2.0. Can function without a spring-damper as
  * of 5.0.0.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Pin_Joint" target="_blank">Documentation</a>
  * @param <T> the {@link PhysicsBody} type
@@ -494,7 +494,18 @@ public class PinJoint<T extends PhysicsBody> extends AbstractSingleBodyJoint<T>
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return this.impulse.product(invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.x = this.impulse.x * invdt;
+		destination.y = this.impulse.y * invdt;
 	}
 	
 	/**
@@ -508,6 +519,32 @@ public class PinJoint<T extends PhysicsBody> extends AbstractSingleBodyJoint<T>
 		return 0.0;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 2;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse.x;
+		state[offset + 1] = this.impulse.y;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse.x = state[offset];
+		this.impulse.y = state[offset + 1];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.dynamics.joint.Joint#isCollisionAllowed()
 	 */
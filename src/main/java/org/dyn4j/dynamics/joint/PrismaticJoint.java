@@ -104,7 +104,7 @@ import org.dyn4j.geometry.Vector3;
  * constructor were reversed. It was changed to accept the frame first, then 
  * the wheel to make things more natural.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Prismatic_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2011/03/prismatic-constraint/" target="_blank">Prismatic Constraint</a>
@@ -857,11 +857,15 @@ public class PrismaticJoint<T extends PhysicsBody> extends AbstractPairedBodyJoi
 		double l2 = impulse.x * s2 + impulse.y + impulse.z * a2;
 		
 		// apply the impulse
-		this.body1.translate(P.product(-invM1));
-		this.body1.rotateAboutCenter(-l1 * invI1);
+		if (!this.body1.isStatic()) {
+			this.body1.translate(P.product(-invM1));
+			this.body1.rotateAboutCenter(-l1 * invI1);
+		}
 		
-		this.body2.translate(P.product(invM2));
-		this.body2.rotateAboutCenter(l2 * invI2);
+		if (!this.body2.isStatic()) {
+			this.body2.translate(P.product(invM2));
+			this.body2.rotateAboutCenter(l2 * invI2);
+		}
 		
 		// return if we corrected the error enough
 		return linearError <= linearTolerance && angularError <= angularTolerance;
@@ -927,12 +931,21 @@ public class PrismaticJoint<T extends PhysicsBody> extends AbstractPairedBodyJoi
 	@Override
 	public Vector2 getReactionForce(double invdt) {
 		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
 		// compute the impulse
-		force.x = this.impulse.x * this.perp.x + (this.springImpulse + this.motorImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * this.axis.x;
-		force.y = this.impulse.x * this.perp.y + (this.springImpulse + this.motorImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * this.axis.y;
+		double j = this.springImpulse + this.motorImpulse + this.lowerLimitImpulse - this.upperLimitImpulse;
+		destination.x = this.impulse.x * this.perp.x + j * this.axis.x;
+		destination.y = this.impulse.x * this.perp.y + j * this.axis.y;
 		// multiply by invdt to obtain the force
-		force.multiply(invdt);
-		return force;
+		destination.multiply(invdt);
 	}
 	
 	/* (non-Javadoc)
@@ -943,6 +956,40 @@ public class PrismaticJoint<T extends PhysicsBody> extends AbstractPairedBodyJoi
 		return invdt * this.impulse.y;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 6;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse.x;
+		state[offset + 1] = this.impulse.y;
+		state[offset + 2] = this.springImpulse;
+		state[offset + 3] = this.motorImpulse;
+		state[offset + 4] = this.lowerLimitImpulse;
+		state[offset + 5] = this.upperLimitImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse.x = state[offset];
+		this.impulse.y = state[offset + 1];
+		this.springImpulse = state[offset + 2];
+		this.motorImpulse = state[offset + 3];
+		this.lowerLimitImpulse = state[offset + 4];
+		this.upperLimitImpulse = state[offset + 5];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -66,7 +66,7 @@ import org.dyn4j.geometry.Vector2;
  * behave as if connected by flexible rope pass in <code>true</code> to the 
  * {@link #setSlackEnabled(boolean)} method.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 2.1.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Pulley_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2010/12/pulley-constraint/" target="_blank">Pulley Constraint</a>
@@ -450,10 +450,14 @@ public class PulleyJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<
 			Vector2 J2 = n2.product(-impulse);
 			
 			// apply the impulse
-			this.body1.translate(J1.x * invM1, J1.y * invM1);
-			this.body1.rotateAboutCenter(r1.cross(J1) * invI1);
-			this.body2.translate(J2.x * invM2, J2.y * invM2);
-			this.body2.rotateAboutCenter(r2.cross(J2) * invI2);
+			if (!this.body1.isStatic()) {
+				this.body1.translate(J1.x * invM1, J1.y * invM1);
+				this.body1.rotateAboutCenter(r1.cross(J1) * invI1);
+			}
+			if (!this.body2.isStatic()) {
+				this.body2.translate(J2.x * invM2, J2.y * invM2);
+				this.body2.rotateAboutCenter(r2.cross(J2) * invI2);
+			}
 			
 			return linearError < linearTolerance;
 		}
@@ -482,7 +486,18 @@ public class PulleyJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return this.n2.product(this.impulse * invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.x = this.n2.x * this.impulse * invdt;
+		destination.y = this.n2.y * this.impulse * invdt;
 	}
 	
 	/**
@@ -496,6 +511,30 @@ public class PulleyJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<
 		return 0.0;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 1;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse = state[offset];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -114,7 +114,7 @@ import org.dyn4j.geometry.Vector2;
  * greater than zero for the motor to apply any motion, but can be disabled 
  * or enabled using {@link #setMaximumMotorTorqueEnabled(boolean)}.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Revolute_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2010/07/point-to-point-constraint/" target="_blank">Point-to-Point Constraint</a>
@@ -547,8 +547,12 @@ public class RevoluteJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 			}
 			
 			double impulse = -this.axialMass * C;
-			this.body1.rotateAboutCenter(-invI1 * impulse);
-			this.body2.rotateAboutCenter(invI2 * impulse);
+			if (!this.body1.isStatic()) {
+				this.body1.rotateAboutCenter(-invI1 * impulse);
+			}
+			if (!this.body2.isStatic()) {
+				this.body2.rotateAboutCenter(invI2 * impulse);
+			}
 			angularError = Math.abs(C);
 		}
 
@@ -572,11 +576,15 @@ public class RevoluteJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 		Vector2 J = K.solve(p.negate());
 
 		// translate and rotate the objects
-		this.body1.translate(J.product(-invM1));
-		this.body1.rotateAboutCenter(-invI1 * r1.cross(J));
+		if (!this.body1.isStatic()) {
+			this.body1.translate(J.product(-invM1));
+			this.body1.rotateAboutCenter(-invI1 * r1.cross(J));
+		}
 		
-		this.body2.translate(J.product(invM2));
-		this.body2.rotateAboutCenter(invI2 * r2.cross(J));
+		if (!this.body2.isStatic()) {
+			this.body2.translate(J.product(invM2));
+			this.body2.rotateAboutCenter(invI2 * r2.cross(J));
+		}
 		
 		return linearError <= linearTolerance && angularError <= angularTolerance;
 	}
@@ -661,7 +669,18 @@ public class RevoluteJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		return new Vector2(this.impulse.x * invdt, this.impulse.y * invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.x = this.impulse.x * invdt;
+		destination.y = this.impulse.y * invdt;
 	}
 	
 	/* (non-Javadoc)
@@ -672,6 +691,38 @@ public class RevoluteJoint<T extends PhysicsBody> extends AbstractPairedBodyJoin
 		return (this.motorImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * invdt;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 5;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse.x;
+		state[offset + 1] = this.impulse.y;
+		state[offset + 2] = this.motorImpulse;
+		state[offset + 3] = this.lowerLimitImpulse;
+		state[offset + 4] = this.upperLimitImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse.x = state[offset];
+		this.impulse.y = state[offset + 1];
+		this.motorImpulse = state[offset + 2];
+		this.lowerLimitImpulse = state[offset + 3];
+		this.upperLimitImpulse = state[offset + 4];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -125,7 +125,7 @@ import org.dyn4j.geometry.Vector3;
  * situation, make sure the limits are at least 15 degrees apart.
  * <p>
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Weld_Joint" target="_blank">Documentation</a>
  * @see <a href="https://www.dyn4j.org/2010/12/weld-constraint/" target="_blank">Weld Constraint</a>
@@ -654,18 +654,26 @@ public class WeldJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T>
 				}
 				
 				double impulse = -this.axialMass * C3;
-				this.body1.rotateAboutCenter(-invI1 * impulse);
-				this.body2.rotateAboutCenter(invI2 * impulse);
+				if (!this.body1.isStatic()) {
+					this.body1.rotateAboutCenter(-invI1 * impulse);
+				}
+				if (!this.body2.isStatic()) {
+					this.body2.rotateAboutCenter(invI2 * impulse);
+				}
 				angularError = Math.abs(C3);
 			}
 			
 			// then solve the linear constraint
 			Vector2 j = K.solve22(relativePosition.negate());
 			
-			this.body1.translate(j.product(-invM1));
-			this.body1.rotateAboutCenter(-invI1 * r1.cross(j));
-			this.body2.translate(j.product(invM2));
-			this.body2.rotateAboutCenter(invI2 * r2.cross(j));
+			if (!this.body1.isStatic()) {
+				this.body1.translate(j.product(-invM1));
+				this.body1.rotateAboutCenter(-invI1 * r1.cross(j));
+			}
+			if (!this.body2.isStatic()) {
+				this.body2.translate(j.product(invM2));
+				this.body2.rotateAboutCenter(invI2 * r2.cross(j));
+			}
 		} else {
 			Vector3 impulse = null;
 			
@@ -678,10 +686,14 @@ public class WeldJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T>
 	
 			// translate and rotate the objects
 			Vector2 imp = new Vector2(impulse.x, impulse.y);
-			this.body1.translate(imp.product(-invM1));
-			this.body1.rotateAboutCenter(-invI1 * (r1.cross(imp) + impulse.z));
-			this.body2.translate(imp.product(invM2));
-			this.body2.rotateAboutCenter(invI2 * (r2.cross(imp) + impulse.z));
+			if (!this.body1.isStatic()) {
+				this.body1.translate(imp.product(-invM1));
+				this.body1.rotateAboutCenter(-invI1 * (r1.cross(imp) + impulse.z));
+			}
+			if (!this.body2.isStatic()) {
+				this.body2.translate(imp.product(invM2));
+				this.body2.rotateAboutCenter(invI2 * (r2.cross(imp) + impulse.z));
+			}
 		}
 		
 		return linearError <= linearTolerance && angularError <= angularTolerance;
@@ -805,8 +817,18 @@ public class WeldJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T>
 	 */
 	@Override
 	public Vector2 getReactionForce(double invdt) {
-		Vector2 impulse = new Vector2(this.impulse.x, this.impulse.y);
-		return impulse.multiply(invdt);
+		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
+		destination.x = this.impulse.x * invdt;
+		destination.y = this.impulse.y * invdt;
 	}
 	
 	/* (non-Javadoc)
@@ -817,6 +839,40 @@ public class WeldJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T>
 		return (this.impulse.z + this.springImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * invdt;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 6;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse.x;
+		state[offset + 1] = this.impulse.y;
+		state[offset + 2] = this.impulse.z;
+		state[offset + 3] = this.springImpulse;
+		state[offset + 4] = this.lowerLimitImpulse;
+		state[offset + 5] = this.upperLimitImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse.x = state[offset];
+		this.impulse.y = state[offset + 1];
+		this.impulse.z = state[offset + 2];
+		this.springImpulse = state[offset + 3];
+		this.lowerLimitImpulse = state[offset + 4];
+		this.upperLimitImpulse = state[offset + 5];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
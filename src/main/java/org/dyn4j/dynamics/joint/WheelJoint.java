@@ -89,7 +89,7 @@ import org.dyn4j.geometry.Vector2;
  * was changed to accept the frame first, then the wheel to make things more 
  * natural.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.0.0
  * @see <a href="https://www.dyn4j.org/pages/joints#Wheel_Joint" target="_blank">Documentation</a>
  * @param <T> the {@link PhysicsBody} type
@@ -756,11 +756,15 @@ public class WheelJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 				double l1 = impulse * s1x;
 				double l2 = impulse * s2x;
 				
-				this.body1.translate(P.product(-invM1));
-				this.body1.rotateAboutCenter(-l1 * invI1);
+				if (!this.body1.isStatic()) {
+					this.body1.translate(P.product(-invM1));
+					this.body1.rotateAboutCenter(-l1 * invI1);
+				}
 				
-				this.body2.translate(P.product(invM2));
-				this.body2.rotateAboutCenter(l2 * invI2);
+				if (!this.body2.isStatic()) {
+					this.body2.translate(P.product(invM2));
+					this.body2.rotateAboutCenter(l2 * invI2);
+				}
 				
 				linearError = Math.abs(C);
 			}
@@ -800,11 +804,15 @@ public class WheelJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 		double l1 = say * impulse;
 		double l2 = sby * impulse;
 		
-		this.body1.translate(P.product(-invM1));
-		this.body1.rotateAboutCenter(-l1 * invI1);
+		if (!this.body1.isStatic()) {
+			this.body1.translate(P.product(-invM1));
+			this.body1.rotateAboutCenter(-l1 * invI1);
+		}
 		
-		this.body2.translate(P.product(invM2));
-		this.body2.rotateAboutCenter(l2 * invI2);
+		if (!this.body2.isStatic()) {
+			this.body2.translate(P.product(invM2));
+			this.body2.rotateAboutCenter(l2 * invI2);
+		}
 		
 		linearError = Math.max(linearError, Math.abs(Cx));
 		
@@ -861,12 +869,21 @@ public class WheelJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 	@Override
 	public Vector2 getReactionForce(double invdt) {
 		Vector2 force = new Vector2();
+		this.getReactionForce(invdt, force);
+		return force;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.dynamics.joint.Joint#getReactionForce(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getReactionForce(double invdt, Vector2 destination) {
 		// compute the impulse
-		force.x = this.impulse * this.wyAxis.x + (this.springImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * this.wxAxis.x;
-		force.y = this.impulse * this.wyAxis.y + (this.springImpulse + this.lowerLimitImpulse - this.upperLimitImpulse) * this.wxAxis.y;
+		double j = this.springImpulse + this.lowerLimitImpulse - this.upperLimitImpulse;
+		destination.x = this.impulse * this.wyAxis.x + j * this.wxAxis.x;
+		destination.y = this.impulse * this.wyAxis.y + j * this.wxAxis.y;
 		// multiply by invdt to obtain the force
-		force.multiply(invdt);
-		return force;
+		destination.multiply(invdt);
 	}
 	
 	/* (non-Javadoc)
@@ -877,6 +894,38 @@ public class WheelJoint<T extends PhysicsBody> extends AbstractPairedBodyJoint<T
 		return this.motorImpulse * invdt;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#getStateSize()
+	 */
+	@Override
+	public int getStateSize() {
+		return 5;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#saveState(double[], int)
+	 */
+	@Override
+	public void saveState(double[] state, int offset) {
+		state[offset] = this.impulse;
+		state[offset + 1] = this.lowerLimitImpulse;
+		state[offset + 2] = this.upperLimitImpulse;
+		state[offset + 3] = this.springImpulse;
+		state[offset + 4] = this.motorImpulse;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.Restorable#restoreState(double[], int)
+	 */
+	@Override
+	public void restoreState(double[] state, int offset) {
+		this.impulse = state[offset];
+		this.lowerLimitImpulse = state[offset + 1];
+		this.upperLimitImpulse = state[offset + 2];
+		this.springImpulse = state[offset + 3];
+		this.motorImpulse = state[offset + 4];
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
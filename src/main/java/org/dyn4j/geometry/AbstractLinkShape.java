@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import org.dyn4j.DataContainer;
+import org.dyn4j.Epsilon;
+
+/**
+ * Base implementation of the {@link LinkShape} interface.
+ * <p>
+ * Implements the {@link Convex} methods using the convex hull of the given vertices and
+ * the mass and area using the links.  Like the {@link Link} class, this class cannot be locally
+ * rotated or translated. All the <code>rotate</code> and <code>translate</code> methods throw
+ * <code>UnsupportedOperationException</code>s.  Use the transform of the body instead.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public abstract class AbstractLinkShape extends AbstractShape implements LinkShape, Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
+	/** The vertices of the links */
+	final Vector2[] vertices;
+	
+	/** The links */
+	final Link[] links;
+	
+	/** The total length of all links */
+	final double length;
+	
+	/**
+	 * Minimal constructor.
+	 * <p>
+	 * The given arrays are not copied.
+	 * @param links the links; must contain at least one link
+	 * @param vertices the vertices of the links
+	 */
+	AbstractLinkShape(Link[] links, Vector2[] vertices) {
+		super(AbstractLinkShape.getCenter(links), 0.0);
+		
+		this.vertices = vertices;
+		this.links = links;
+		
+		double length = 0.0;
+		for (Link link : links) {
+			length += link.length;
+		}
+		this.length = length;
+		this.radius = this.getRadius(this.center);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param shape the shape to copy
+	 */
+	protected AbstractLinkShape(AbstractLinkShape shape) {
+		super(shape);
+		
+		this.vertices = new Vector2[shape.vertices.length];
+		for (int i = 0; i < shape.vertices.length; i++) {
+			this.vertices[i] = shape.vertices[i].copy();
+		}
+		
+		this.links = new Link[shape.links.length];
+		for (int i = 0; i < shape.links.length; i++) {
+			this.links[i] = shape.links[i].copy();
+		}
+		
+		this.length = shape.length;
+	}
+	
+	/**
+	 * Returns the length weighted center of the given links.
+	 * @param links the links
+	 * @return {@link Vector2}
+	 */
+	private static final Vector2 getCenter(Link[] links) {
+		double x = 0.0;
+		double y = 0.0;
+		double length = 0.0;
+		for (Link link : links) {
+			x += link.center.x * link.length;
+			y += link.center.y * link.length;
+			length += link.length;
+		}
+		return new Vector2(x / length, y / length);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.LinkShape#getLinkCount()
+	 */
+	@Override
+	public int getLinkCount() {
+		return this.links.length;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.LinkShape#getLink(int)
+	 */
+	@Override
+	public Link getLink(int index) {
+		return this.links[index];
+	}
+	
+	/**
+	 * Returns the total length of all the links in this shape.
+	 * @return double
+	 */
+	public double getLength() {
+		return this.length;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#getRadius(org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public double getRadius(Vector2 center) {
+		return Geometry.getRotationRadius(center, this.vertices);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the edge and vertex axes of every link in this shape.
+	 */
+	@Override
+	public Vector2[] getAxes(Vector2[] foci, Transform transform) {
+		int size = foci != null ? foci.length : 0;
+		int n = this.links.length;
+		Vector2[] axes = new Vector2[n * 2 + size];
+		
+		int k = 0;
+		for (int i = 0; i < n; i++) {
+			Link link = this.links[i];
+			axes[k++] = transform.getTransformedR(link.normals[1]);
+			axes[k++] = transform.getTransformedR(link.normals[0]);
+		}
+		
+		// add the axes from the closest vertex to each focal point
+		for (int i = 0; i < size; i++) {
+			Vector2 f = foci[i];
+			Vector2 closest = null;
+			double d2 = Double.MAX_VALUE;
+			for (Vector2 v : this.vertices) {
+				Vector2 p = transform.getTransformed(v);
+				double d = p.distanceSquared(f);
+				if (d < d2) {
+					closest = p;
+					d2 = d;
+				}
+			}
+			Vector2 axis = closest.to(f);
+			axis.normalize();
+			axes[k++] = axis;
+		}
+		
+		return axes;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Not applicable to this shape.  Always returns null.
+	 * @return null
+	 */
+	@Override
+	public Vector2[] getFoci(Transform transform) {
+		return null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Links are infinitely thin so this method only returns true if the point lies on one
+	 * of the links and inclusive is true.
+	 */
+	@Override
+	public boolean contains(Vector2 point, Transform transform, boolean inclusive) {
+		if (!inclusive) {
+			return false;
+		}
+		
+		Vector2 p = transform.getInverseTransformed(point);
+		double e = Epsilon.E;
+		for (int i = 0; i < this.links.length; i++) {
+			Link link = this.links[i];
+			if (p.x < Math.min(link.vertices[0].x, link.vertices[1].x) - e ||
+				p.x > Math.max(link.vertices[0].x, link.vertices[1].x) + e ||
+				p.y < Math.min(link.vertices[0].y, link.vertices[1].y) - e ||
+				p.y > Math.max(link.vertices[0].y, link.vertices[1].y) + e) {
+				continue;
+			}
+			if (link.contains(point, transform, true)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#project(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform)
+	 */
+	@Override
+	public Interval project(Vector2 vector, Transform transform) {
+		// project the vector into local space
+		double lx = transform.getCost() * vector.x + transform.getSint() * vector.y;
+		double ly = -transform.getSint() * vector.x + transform.getCost() * vector.y;
+		
+		double min = Double.MAX_VALUE;
+		double max = -Double.MAX_VALUE;
+		for (Vector2 v : this.vertices) {
+			double p = lx * v.x + ly * v.y;
+			if (p < min) min = p;
+			if (p > max) max = p;
+		}
+		
+		// add the projection of the translation
+		double t = vector.x * transform.getTranslationX() + vector.y * transform.getTranslationY();
+		return new Interval(min + t, max + t);
+	}
+	
+	/**
+	 * Returns the index of the vertex farthest in the given world space direction.
+	 * @param vector the direction
+	 * @param transform the local to world space {@link Transform} of this shape
+	 * @return int
+	 */
+	int getFarthestVertexIndex(Vector2 vector, Transform transform) {
+		// project the vector into local space
+		double lx = transform.getCost() * vector.x + transform.getSint() * vector.y;
+		double ly = -transform.getSint() * vector.x + transform.getCost() * vector.y;
+		
+		int index = 0;
+		double max = -Double.MAX_VALUE;
+		for (int i = 0; i < this.vertices.length; i++) {
+			Vector2 v = this.vertices[i];
+			double p = lx * v.x + ly * v.y;
+			if (p > max) {
+				max = p;
+				index = i;
+			}
+		}
+		return index;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Convex#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform)
+	 */
+	@Override
+	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
+		return transform.getTransformed(this.vertices[this.getFarthestVertexIndex(vector, transform)]);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
+		transform.getTransformed(this.vertices[this.getFarthestVertexIndex(vector, transform)], destination);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the feature of the link, adjacent to the farthest vertex, whose edge is most
+	 * perpendicular to the given vector.
+	 */
+	@Override
+	public Feature getFarthestFeature(Vector2 vector, Transform transform) {
+		Vector2 p = this.vertices[this.getFarthestVertexIndex(vector, transform)];
+		Vector2 v = transform.getInverseTransformedR(vector);
+		v.normalize();
+		
+		Link best = null;
+		double min = Double.MAX_VALUE;
+		for (Link link : this.links) {
+			if (link.vertices[0].equals(p) || link.vertices[1].equals(p)) {
+				double d = Math.abs(link.normals[0].dot(v));
+				if (d < min) {
+					best = link;
+					min = d;
+				}
+			}
+		}
+		
+		return best.getFarthestFeature(vector, transform);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Like the {@link Segment} class, a width of 1.0 is assumed for each link.  Link
+	 * shapes should typically be used with infinite mass bodies.
+	 */
+	@Override
+	public Mass createMass(double density) {
+		double mass = density * this.length;
+		double inertia = 0.0;
+		for (Link link : this.links) {
+			double m = density * link.length;
+			// the inertia of the link about its center plus
+			// the parallel axis term to the shape's center
+			inertia += link.length * link.length * m / 12.0 + m * link.center.distanceSquared(this.center);
+		}
+		return new Mass(this.center, mass, inertia);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This method will always return 0.
+	 */
+	@Override
+	public double getArea() {
+		return 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#createAABB(org.dyn4j.geometry.Transform)
+	 */
+	@Override
+	public AABB createAABB(Transform transform) {
+		AABB aabb = new AABB(0,0,0,0);
+		this.computeAABB(transform, aabb);
+		return aabb;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#computeAABB(org.dyn4j.geometry.Transform, org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public void computeAABB(Transform transform, AABB aabb) {
+		double minX = Double.MAX_VALUE;
+		double minY = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE;
+		double maxY = -Double.MAX_VALUE;
+		for (Vector2 v : this.vertices) {
+			double x = transform.getTransformedX(v);
+			double y = transform.getTransformedY(v);
+			if (x < minX) minX = x;
+			if (x > maxX) maxX = x;
+			if (y < minY) minY = y;
+			if (y > maxY) maxY = y;
+		}
+		
+		aabb.minX = minX;
+		aabb.minY = minY;
+		aabb.maxX = maxX;
+		aabb.maxY = maxY;
+	}
+	
+	// NOTE: local rotation and translation throw
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(double)
+	 */
+	@Override
+	public void rotate(double theta) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(org.dyn4j.geometry.Rotation, double, double)
+	 */
+	@Override
+	public void rotate(Rotation rotation, double x, double y) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(double, double, double)
+	 */
+	@Override
+	public final void rotate(double theta, double x, double y) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(double, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void rotate(double theta, Vector2 point) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(org.dyn4j.geometry.Rotation)
+	 */
+	@Override
+	public void rotate(Rotation rotation) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotate(org.dyn4j.geometry.Rotation, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void rotate(Rotation rotation, Vector2 point) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#rotateAboutCenter(double)
+	 */
+	@Override
+	public void rotateAboutCenter(double theta) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#translate(org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void translate(Vector2 vector) {
+		throw new UnsupportedOperationException();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#translate(double, double)
+	 */
+	@Override
+	public final void translate(double x, double y) {
+		throw new UnsupportedOperationException();
+	}
+}
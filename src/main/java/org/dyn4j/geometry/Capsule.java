@@ -40,10 +40,10 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * A capsule's width and height must be larger than zero and cannot be equal.  A {@link Circle} should be used
  * instead of an equal width/height capsule for both performance and stability.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
-public class Capsule extends AbstractShape implements Convex, Shape, Transformable, DataContainer {
+public class Capsule extends AbstractShape implements Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
 	/** 
 	 * The Capsule shape has two edge features which could be returned from the {@link #getFarthestFeature(Vector2, Transform)}
 	 * method. Under normal floating point conditions the edges will never be selected as the farthest features. Due to this,
@@ -246,12 +246,23 @@ public class Capsule extends AbstractShape implements Convex, Shape, Transformab
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
 		// make sure the given direction is normalized
 		vector.normalize();
 		// a capsule is just a radially expanded line segment
-		Vector2 p = Segment.getFarthestPoint(this.foci[0], this.foci[1], vector, transform);
+		Segment.getFarthestPoint(this.foci[0], this.foci[1], vector, transform, destination);
 		// apply the radial expansion
-		return p.add(vector.product(this.capRadius));
+		destination.x += vector.x * this.capRadius;
+		destination.y += vector.y * this.capRadius;
 	}
 	
 	/* (non-Javadoc)
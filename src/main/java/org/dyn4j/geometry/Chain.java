@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import java.util.List;
+
+import org.dyn4j.DataContainer;
+
+/**
+ * Represents a chain of {@link Link}s as a single shape.
+ * <p>
+ * A chain is intended for static level geometry like terrain.  Using a chain instead of the
+ * {@link Link}s created by {@link Geometry#createLinks(Vector2[], boolean)} as separate fixtures
+ * means the whole chain occupies a single broad-phase proxy.  The links are kept in an internal
+ * bounding volume hierarchy so that only the links near the other shape are tested during the
+ * narrow-phase.  The connectivity information of each {@link Link} is retained so that the
+ * internal edge problem is solved the same way.
+ * <p>
+ * Since the links are ordered along the poly-line, the hierarchy is built by recursively halving
+ * the range of links.  Each node stores the bounds of a contiguous run of links in packed arrays.
+ * <p>
+ * A chain is not convex.  The {@link Convex} methods of this class describe the convex hull of
+ * the chain's vertices. The collision world detects collisions, raycasts and time of impact
+ * against the individual links of the chain instead of the chain itself.  Collisions between two
+ * chains are not detected.
+ * <p>
+ * Like the {@link Link} class, this class cannot be locally rotated or translated. All the
+ * <code>rotate</code> and <code>translate</code> methods throw <code>UnsupportedOperationException</code>s.
+ * Use the transform of the body instead.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class Chain extends AbstractLinkShape implements LinkShape, Convex, Shape, Transformable, DataContainer {
+	/** True if the last vertex is joined to the first */
+	final boolean closed;
+	
+	/** The local space bounds of each node packed as minX, minY, maxX, maxY */
+	final double[] bounds;
+	
+	/** The children of each node packed as left, right; for leaf nodes, left is -(link index + 1) */
+	final int[] children;
+	
+	/**
+	 * Full constructor.
+	 * <p>
+	 * The given vertices are copied.
+	 * @param vertices the poly-line vertices
+	 * @param closed true if an extra link should join the last and first vertices
+	 * @throws NullPointerException if vertices is null or contains a null element
+	 * @throws IllegalArgumentException if vertices contains less than 2 elements or two adjacent vertices are equal
+	 */
+	public Chain(Vector2[] vertices, boolean closed) {
+		this(Geometry.createLinks(vertices, closed), vertices, closed);
+	}
+	
+	/**
+	 * Creates a new chain from the links created from the given vertices.
+	 * @param links the links
+	 * @param vertices the poly-line vertices
+	 * @param closed true if an extra link joins the last and first vertices
+	 */
+	private Chain(List<Link> links, Vector2[] vertices, boolean closed) {
+		super(links.toArray(new Link[links.size()]), Chain.copy(vertices));
+		
+		this.closed = closed;
+		
+		// a binary tree with n leaves has 2n - 1 nodes
+		int n = this.links.length;
+		this.bounds = new double[(2 * n - 1) * 4];
+		this.children = new int[(2 * n - 1) * 2];
+		this.build(0, n, 0);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param chain the chain to copy
+	 */
+	protected Chain(Chain chain) {
+		super(chain);
+		
+		this.closed = chain.closed;
+		this.bounds = chain.bounds.clone();
+		this.children = chain.children.clone();
+	}
+	
+	/**
+	 * Returns a deep copy of the given vertices.
+	 * @param vertices the vertices
+	 * @return {@link Vector2}[]
+	 */
+	private static final Vector2[] copy(Vector2[] vertices) {
+		int size = vertices.length;
+		Vector2[] copy = new Vector2[size];
+		for (int i = 0; i < size; i++) {
+			copy[i] = vertices[i].copy();
+		}
+		return copy;
+	}
+	
+	/**
+	 * Builds the node at the given index for the links in the range [start, end).
+	 * @param start the index of the first link
+	 * @param end the index after the last link
+	 * @param node the index of the node
+	 * @return int the index of the next free node
+	 */
+	private int build(int start, int end, int node) {
+		int b = node * 4;
+		int c = node * 2;
+		
+		if (end - start == 1) {
+			Vector2 p1 = this.links[start].vertices[0];
+			Vector2 p2 = this.links[start].vertices[1];
+			this.bounds[b    ] = Math.min(p1.x, p2.x);
+			this.bounds[b + 1] = Math.min(p1.y, p2.y);
+			this.bounds[b + 2] = Math.max(p1.x, p2.x);
+			this.bounds[b + 3] = Math.max(p1.y, p2.y);
+			this.children[c    ] = -(start + 1);
+			this.children[c + 1] = -(start + 1);
+			return node + 1;
+		}
+		
+		// split the run of links in half
+		int mid = (start + end) >>> 1;
+		int left = node + 1;
+		int right = this.build(start, mid, left);
+		int next = this.build(mid, end, right);
+		
+		int lb = left * 4;
+		int rb = right * 4;
+		this.bounds[b    ] = Math.min(this.bounds[lb    ], this.bounds[rb    ]);
+		this.bounds[b + 1] = Math.min(this.bounds[lb + 1], this.bounds[rb + 1]);
+		this.bounds[b + 2] = Math.max(this.bounds[lb + 2], this.bounds[rb + 2]);
+		this.bounds[b + 3] = Math.max(this.bounds[lb + 3], this.bounds[rb + 3]);
+		this.children[c    ] = left;
+		this.children[c + 1] = right;
+		
+		return next;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @return {@link Chain}
+	 */
+	@Override
+	public Chain copy() {
+		return new Chain(this);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Chain[").append(super.toString())
+		.append("|Links=").append(this.links.length)
+		.append("|Closed=").append(this.closed)
+		.append("|Length=").append(this.length)
+		.append("]");
+		return sb.toString();
+	}
+	
+	/**
+	 * Returns the vertices of this chain.
+	 * <p>
+	 * Modification of the returned array or its elements will not change the links.
+	 * @return {@link Vector2}[]
+	 */
+	public Vector2[] getVertices() {
+		return this.vertices;
+	}
+	
+	/**
+	 * Returns true if the last vertex of this chain is joined to the first.
+	 * @return boolean
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+	
+	/**
+	 * Appends the links whose bounds overlap the given local space {@link AABB} to the given list.
+	 * @param aabb the local space {@link AABB}
+	 * @param links the list to append the links to
+	 * @throws NullPointerException if aabb or links is null
+	 */
+	public void getLinks(AABB aabb, List<Link> links) {
+		this.query(0, aabb.minX, aabb.minY, aabb.maxX, aabb.maxY, links);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Appends the links whose bounds overlap the given {@link AABB}.  The given {@link AABB} is converted to local space using the given transform. When the
+	 * transform has a rotation, the local bounds of the rotated {@link AABB} are used.
+	 */
+	@Override
+	public void getLinks(AABB aabb, Transform transform, List<Link> links) {
+		double cost = transform.getCost();
+		double sint = transform.getSint();
+		
+		// the center and extents in world space relative to the transform
+		double cx = (aabb.minX + aabb.maxX) * 0.5 - transform.getTranslationX();
+		double cy = (aabb.minY + aabb.maxY) * 0.5 - transform.getTranslationY();
+		double ex = (aabb.maxX - aabb.minX) * 0.5;
+		double ey = (aabb.maxY - aabb.minY) * 0.5;
+		
+		// rotate the center and extents into local space
+		double lx = cost * cx + sint * cy;
+		double ly = -sint * cx + cost * cy;
+		double lex = Math.abs(cost) * ex + Math.abs(sint) * ey;
+		double ley = Math.abs(sint) * ex + Math.abs(cost) * ey;
+		
+		this.query(0, lx - lex, ly - ley, lx + lex, ly + ley, links);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Appends the links whose bounds are intersected by the given {@link Ray}.
+	 */
+	@Override
+	public void getLinks(Ray ray, double length, Transform transform, List<Link> links) {
+		Vector2 s = ray.getStart();
+		Vector2 d = ray.getDirectionVector();
+		
+		double cost = transform.getCost();
+		double sint = transform.getSint();
+		double x = s.x - transform.getTranslationX();
+		double y = s.y - transform.getTranslationY();
+		
+		// the start and direction in local space
+		double sx = cost * x + sint * y;
+		double sy = -sint * x + cost * y;
+		double dx = cost * d.x + sint * d.y;
+		double dy = -sint * d.x + cost * d.y;
+		
+		double l = length <= 0.0 ? Double.POSITIVE_INFINITY : length;
+		this.query(0, sx, sy, 1.0 / dx, 1.0 / dy, l, links);
+	}
+	
+	/**
+	 * Appends the links of the given node whose bounds overlap the given bounds.
+	 * @param node the node index
+	 * @param minX the minimum x of the bounds
+	 * @param minY the minimum y of the bounds
+	 * @param maxX the maximum x of the bounds
+	 * @param maxY the maximum y of the bounds
+	 * @param links the list to append the links to
+	 */
+	private void query(int node, double minX, double minY, double maxX, double maxY, List<Link> links) {
+		int b = node * 4;
+		if (this.bounds[b    ] > maxX || this.bounds[b + 2] < minX ||
+			this.bounds[b + 1] > maxY || this.bounds[b + 3] < minY) {
+			return;
+		}
+		
+		int left = this.children[node * 2];
+		if (left < 0) {
+			links.add(this.links[-left - 1]);
+			return;
+		}
+		
+		this.query(left, minX, minY, maxX, maxY, links);
+		this.query(this.children[node * 2 + 1], minX, minY, maxX, maxY, links);
+	}
+	
+	/**
+	 * Appends the links of the given node whose bounds are intersected by the given ray.
+	 * @param node the node index
+	 * @param sx the x coordinate of the local space ray start
+	 * @param sy the y coordinate of the local space ray start
+	 * @param invDx the inverse of the x coordinate of the local space ray direction
+	 * @param invDy the inverse of the y coordinate of the local space ray direction
+	 * @param length the length of the ray
+	 * @param links the list to append the links to
+	 */
+	private void query(int node, double sx, double sy, double invDx, double invDy, double length, List<Link> links) {
+		int b = node * 4;
+		
+		double tx1 = (this.bounds[b    ] - sx) * invDx;
+		double tx2 = (this.bounds[b + 2] - sx) * invDx;
+		double ty1 = (this.bounds[b + 1] - sy) * invDy;
+		double ty2 = (this.bounds[b + 3] - sy) * invDy;
+		
+		double tmin = Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2));
+		double tmax = Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2));
+		
+		// the comparisons are written so that NaN (a ray along the edge
+		// of a degenerate bounds) doesn't reject the node
+		if (tmax < 0.0 || tmin > length || tmax < tmin) {
+			return;
+		}
+		
+		int left = this.children[node * 2];
+		if (left < 0) {
+			links.add(this.links[-left - 1]);
+			return;
+		}
+		
+		this.query(left, sx, sy, invDx, invDy, length, links);
+		this.query(this.children[node * 2 + 1], sx, sy, invDx, invDy, length, links);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the feature of the link, adjacent to the farthest vertex, whose edge is most
+	 * perpendicular to the given vector.  The adjacent links are found by index.
+	 */
+	@Override
+	public Feature getFarthestFeature(Vector2 vector, Transform transform) {
+		int index = this.getFarthestVertexIndex(vector, transform);
+		int n = this.links.length;
+		
+		// the link ending at the vertex and the link starting at the vertex
+		Link prev = index > 0 ? this.links[index - 1] : (this.closed ? this.links[n - 1] : null);
+		Link next = index < n ? this.links[index] : null;
+		
+		if (prev == null) return next.getFarthestFeature(vector, transform);
+		if (next == null) return prev.getFarthestFeature(vector, transform);
+		
+		Vector2 v = transform.getInverseTransformedR(vector);
+		v.normalize();
+		
+		if (Math.abs(prev.normals[0].dot(v)) <= Math.abs(next.normals[0].dot(v))) {
+			return prev.getFarthestFeature(vector, transform);
+		}
+		return next.getFarthestFeature(vector, transform);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#computeAABB(org.dyn4j.geometry.Transform, org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public void computeAABB(Transform transform, AABB aabb) {
+		double tx = transform.getTranslationX();
+		double ty = transform.getTranslationY();
+		
+		// the root bounds are the answer when there's no rotation
+		if (transform.getCost() == 1.0 && transform.getSint() == 0.0) {
+			aabb.minX = this.bounds[0] + tx;
+			aabb.minY = this.bounds[1] + ty;
+			aabb.maxX = this.bounds[2] + tx;
+			aabb.maxY = this.bounds[3] + ty;
+			return;
+		}
+		
+		super.computeAABB(transform, aabb);
+	}
+}
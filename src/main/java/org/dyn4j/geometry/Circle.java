@@ -25,6 +25,7 @@
 package org.dyn4j.geometry;
 
 import org.dyn4j.DataContainer;
+import org.dyn4j.Epsilon;
 import org.dyn4j.exception.ValueOutOfRangeException;
 
 /**
@@ -32,10 +33,10 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * <p>
  * A {@link Circle}'s radius must be greater than zero.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
-public class Circle extends AbstractShape implements Convex, Shape, Transformable, DataContainer {
+public class Circle extends AbstractShape implements Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
 	/**
 	 * Validated constructor.
 	 * <p>
@@ -155,15 +156,30 @@ public class Circle extends AbstractShape implements Convex, Shape, Transformabl
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
-		// make sure the axis is normalized
-		Vector2 nAxis = vector.getNormalized();
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
+		// make sure the axis is normalized (inlined Vector2.getNormalized)
+		double nx = 0.0;
+		double ny = 0.0;
+		double magnitude = vector.getMagnitude();
+		if (magnitude > Epsilon.E) {
+			magnitude = 1.0 / magnitude;
+			nx = vector.x * magnitude;
+			ny = vector.y * magnitude;
+		}
 		// get the transformed center
-		Vector2 center = transform.getTransformed(this.center);
+		transform.getTransformed(this.center, destination);
 		// add the radius along the vector to the center to get the farthest point
-		center.x += this.radius * nAxis.x;
-		center.y += this.radius * nAxis.y;
-		// return the new point
-		return center;
+		destination.x += this.radius * nx;
+		destination.y += this.radius * ny;
 	}
 	
 	/**
@@ -221,11 +237,12 @@ public class Circle extends AbstractShape implements Convex, Shape, Transformabl
 	 */
 	@Override
 	public void computeAABB(Transform transform, AABB aabb) {
-		// if the transform is not null then transform the center
-		Vector2 center = transform.getTransformed(this.center);
-		aabb.minX = center.x - this.radius;
-		aabb.minY = center.y - this.radius;
-		aabb.maxX = center.x + this.radius;
-		aabb.maxY = center.y + this.radius;
+		// transform the center
+		double cx = transform.getTransformedX(this.center);
+		double cy = transform.getTransformedY(this.center);
+		aabb.minX = cx - this.radius;
+		aabb.minY = cy - this.radius;
+		aabb.maxX = cx + this.radius;
+		aabb.maxY = cy + this.radius;
 	}
 }
@@ -40,10 +40,10 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * {@link Polygon} approximation. Another option is to use the GJK or your own collision detection
  * algorithm for this shape only and use SAT on others.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.7
  */
-public class Ellipse extends AbstractShape implements Convex, Shape, Transformable, DataContainer {
+public class Ellipse extends AbstractShape implements Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
 	/** The inverse of the golden ratio */
 	private static final double INV_GOLDEN_RATIO = 1.0 / ((Math.sqrt(5.0) + 1.0) * 0.5);
 	
@@ -178,16 +178,24 @@ public class Ellipse extends AbstractShape implements Convex, Shape, Transformab
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
 		// convert the world space vector(n) to local space
-		Vector2 localAxis = transform.getInverseTransformedR(vector);
+		transform.getInverseTransformedR(vector, destination);
 		
 		// private implementation
-		localAxis = this.getFarthestPoint(localAxis);
-		
-		// then finally convert back into world space coordinates
-		transform.transform(localAxis);
+		this.getFarthestPoint(destination);
 		
-		return localAxis;
+		// then convert back into world space coordinates
+		transform.transform(destination);
 	}
 	
 	/**
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+/**
+ * Represents a {@link Convex} {@link Shape} that can place its farthest point in a given
+ * direction into an existing {@link Vector2}.
+ * <p>
+ * The collision detection algorithms check for this interface and, when present, use the
+ * {@link #getFarthestPoint(Vector2, Transform, Vector2)} method rather than the 
+ * {@link Convex#getFarthestPoint(Vector2, Transform)} method to avoid creating new objects.
+ * All the {@link Convex} {@link Shape}s in this library implement this interface.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public interface FarthestPointProvider extends Convex {
+	/**
+	 * Returns the point farthest in the direction of the given vector in the given destination
+	 * {@link Vector2}.  If two points are equally distant along the given {@link Vector2} the 
+	 * first one is used.
+	 * <p>
+	 * This method produces the same result as the {@link #getFarthestPoint(Vector2, Transform)}
+	 * method without creating any new objects.
+	 * <p>
+	 * The resulting point is in world space.
+	 * @param vector the direction
+	 * @param transform the local to world space {@link Transform} of this {@link Convex} {@link Shape}
+	 * @param destination the {@link Vector2} to place the result in
+	 */
+	public abstract void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination);
+}
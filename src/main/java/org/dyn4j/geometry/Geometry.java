@@ -2050,6 +2050,44 @@ public final class Geometry {
 		return links;
 	}
 	
+	/**
+	 * Creates a {@link Chain} for the given vertices.
+	 * <p>
+	 * If the closed parameter is true, an extra link is created joining the last and first
+	 * vertices in the list.
+	 * @param vertices the poly-line vertices
+	 * @param closed true if the shape should be enclosed
+	 * @return {@link Chain}
+	 * @throws NullPointerException if the list of vertices is null or an element of the vertex list is null
+	 * @throws IllegalArgumentException if the list of vertices doesn't contain 2 or more elements
+	 * @since 6.1.0
+	 */
+	public static final Chain createChain(List<Vector2> vertices, boolean closed) {
+		if (vertices == null)
+			throw new ArgumentNullException("vertices");
+		
+		return new Chain(vertices.toArray(new Vector2[0]), closed);
+	}
+	
+	/**
+	 * Creates a {@link Chain} for the given vertices.
+	 * <p>
+	 * Unlike {@link #createLinks(Vector2[], boolean)}, the returned chain is a single shape
+	 * and therefore a single fixture and broad-phase proxy.
+	 * <p>
+	 * If the closed parameter is true, an extra link is created joining the last and first
+	 * vertices in the array.
+	 * @param vertices the poly-line vertices
+	 * @param closed true if the shape should be enclosed
+	 * @return {@link Chain}
+	 * @throws NullPointerException if the array of vertices is null or an element of the vertex array is null
+	 * @throws IllegalArgumentException if the array of vertices doesn't contain 2 or more elements
+	 * @since 6.1.0
+	 */
+	public static final Chain createChain(Vector2[] vertices, boolean closed) {
+		return new Chain(vertices, closed);
+	}
+	
 	/**
 	 * Returns the intersection {@link Polygon} for the given {@link Polygon}s or returns null if there's no intersection.
 	 * <p>
@@ -40,10 +40,10 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * {@link Polygon} approximation. Another option is to use the GJK or your own collision detection
  * algorithm for this shape only and use SAT on others.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.7
  */
-public class HalfEllipse extends AbstractShape implements Convex, Shape, Transformable, DataContainer {
+public class HalfEllipse extends AbstractShape implements Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
 	/** 
 	 * The half ellipse inertia constant. 
 	 * @see <a href="http://www.efunda.com/math/areas/ellipticalhalf.cfm" target="_blank">Elliptical Half</a>
@@ -208,16 +208,24 @@ public class HalfEllipse extends AbstractShape implements Convex, Shape, Transfo
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
 		// convert the world space vector(n) to local space
-		Vector2 localAxis = transform.getInverseTransformedR(vector);
+		transform.getInverseTransformedR(vector, destination);
 		
 		// private implementation
-		localAxis = this.getFarthestPoint(localAxis);
+		this.getFarthestPoint(destination);
 		
 		// then convert back into world space coordinates
-		transform.transform(localAxis);
-		
-		return localAxis;
+		transform.transform(destination);
 	}
 	
 	/**
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import java.util.List;
+
+/**
+ * Represents a non-convex shape made up of {@link Link}s, like level geometry, that
+ * can be queried for the links in a region.
+ * <p>
+ * The {@link Convex} methods of a link shape describe the convex hull of its links.  The
+ * collision world detects collisions, raycasts and time of impact against the individual
+ * links near the other shape instead of the shape itself.  Collisions between two link shapes
+ * are not detected.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see Chain
+ * @see TileMap
+ */
+public interface LinkShape extends Convex, Shape, Transformable {
+	/**
+	 * Returns the number of links in this shape.
+	 * @return int
+	 */
+	public abstract int getLinkCount();
+	
+	/**
+	 * Returns the link at the given index.
+	 * @param index the index
+	 * @return {@link Link}
+	 * @throws IndexOutOfBoundsException if index is less than zero or greater than or equal to the number of links
+	 */
+	public abstract Link getLink(int index);
+	
+	/**
+	 * Appends the links that may overlap the given world space {@link AABB} to the given list.
+	 * <p>
+	 * Each link is appended at most once.  Links that don't overlap the {@link AABB} may be
+	 * appended, but every link that does is.
+	 * @param aabb the world space {@link AABB}
+	 * @param transform the local to world space {@link Transform} of this shape
+	 * @param links the list to append the links to
+	 * @throws NullPointerException if aabb, transform or links is null
+	 */
+	public abstract void getLinks(AABB aabb, Transform transform, List<Link> links);
+	
+	/**
+	 * Appends the links that may be intersected by the given world space {@link Ray} to the
+	 * given list.
+	 * <p>
+	 * Each link is appended at most once.  Links that aren't intersected may be appended, but
+	 * every link that is intersected is.
+	 * @param ray the world space {@link Ray}
+	 * @param length the length of the ray; 0 or less for infinite length
+	 * @param transform the local to world space {@link Transform} of this shape
+	 * @param links the list to append the links to
+	 * @throws NullPointerException if ray, transform or links is null
+	 */
+	public abstract void getLinks(Ray ray, double length, Transform transform, List<Link> links);
+}
@@ -40,16 +40,22 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * <p>
  * A polygon cannot have coincident vertices.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
-public class Polygon extends AbstractShape implements Convex, Wound, Shape, Transformable, DataContainer {
+public class Polygon extends AbstractShape implements Convex, FarthestPointProvider, Wound, Shape, Transformable, DataContainer {
 	/** The polygon vertices */
 	final Vector2[] vertices;
 	
 	/** The polygon normals */
 	final Vector2[] normals;
 	
+	/** True if the world space vertices are cached */
+	boolean vertexCacheEnabled;
+	
+	/** The reusable world space vertices for the last updated transform; null if not cached */
+	VertexCache vertexCache;
+	
 	/**
 	 * Full constructor for sub classes.
 	 * @param center the center
@@ -174,6 +180,8 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 		for (int i = 0; i < polygon.normals.length; i++) {
 			this.normals[i] = polygon.normals[i].copy();
 		}
+		
+		this.vertexCacheEnabled = polygon.vertexCacheEnabled;
 	}
 	
 	/**
@@ -383,6 +391,8 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 			this.vertices[i].rotate(rotation, x, y);
 			this.normals[i].rotate(rotation);
 		}
+		
+		this.vertexCache = null;
 	}
 
 	/* (non-Javadoc)
@@ -395,6 +405,8 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 		for (int i = 0; i < size; i++) {
 			this.vertices[i].add(x, y);
 		}
+		
+		this.vertexCache = null;
 	}
 	
 	/* (non-Javadoc)
@@ -402,19 +414,27 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 	 */
 	@Override
 	public Interval project(Vector2 vector, Transform transform) {
+		// use the cached world space vertices if they are current
+		VertexCache cache = this.getVertexCache(transform);
+		if (cache != null) {
+			return cache.project(vector);
+		}
+		
 		double v = 0.0;
     	// get the first point
-		Vector2 p = transform.getTransformed(this.vertices[0]);
+		double px = transform.getTransformedX(this.vertices[0]);
+		double py = transform.getTransformedY(this.vertices[0]);
 		// project the point onto the vector
-    	double min = vector.dot(p);
+    	double min = vector.x * px + vector.y * py;
     	double max = min;
     	// loop over the rest of the vertices
     	int size = this.vertices.length;
         for(int i = 1; i < size; i++) {
     		// get the next point
-    		p = transform.getTransformed(this.vertices[i]);
+    		px = transform.getTransformedX(this.vertices[i]);
+    		py = transform.getTransformedY(this.vertices[i]);
     		// project it onto the vector
-            v = vector.dot(p);
+            v = vector.x * px + vector.y * py;
             if (v < min) { 
                 min = v;
             } else if (v > max) { 
@@ -431,31 +451,33 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 	public EdgeFeature getFarthestFeature(Vector2 vector, Transform transform) {
 		// transform the normal into local space
 		Vector2 localn = transform.getInverseTransformedR(vector);
-
-		int index = getFarthestVertexIndex(localn);
+		
+		// use the cached world space vertices if they are current
+		VertexCache cache = this.getVertexCache(transform);
+		
+		int index = cache != null ? cache.getFarthestVertexIndex(vector.x, vector.y) : getFarthestVertexIndex(localn);
 		int count = this.vertices.length;
 
-		Vector2 maximum = new Vector2(this.vertices[index]);
+		Vector2 maximum = this.getTransformed(cache, index, transform);
 		
 		// once we have the point of maximum
 		// see which edge is most perpendicular
 		Vector2 leftN = this.normals[index == 0 ? count - 1 : index - 1];
 		Vector2 rightN = this.normals[index];
-		// create the maximum point for the feature (transform the maximum into world space)
-		transform.transform(maximum);
+		// create the maximum point for the feature
 		PointFeature vm = new PointFeature(maximum, index);
 		// is the left or right edge more perpendicular?
 		if (leftN.dot(localn) < rightN.dot(localn)) {
 			int l = (index == count - 1) ? 0 : index + 1;
 			
-			Vector2 left = transform.getTransformed(this.vertices[l]);
+			Vector2 left = this.getTransformed(cache, l, transform);
 			PointFeature vl = new PointFeature(left, l);
 			// make sure the edge is the right winding
 			return new EdgeFeature(vm, vl, vm, maximum.to(left), index + 1);
 		} else {
 			int r = (index == 0) ? count - 1 : index - 1;
 			
-			Vector2 right = transform.getTransformed(this.vertices[r]);
+			Vector2 right = this.getTransformed(cache, r, transform);
 			PointFeature vr = new PointFeature(right, r);
 			// make sure the edge is the right winding
 			return new EdgeFeature(vr, vm, vm, right.to(maximum), index);
@@ -467,14 +489,33 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
+		// use the cached world space vertices if they are current
+		VertexCache cache = this.getVertexCache(transform);
+		if (cache != null) {
+			int index = cache.getFarthestVertexIndex(vector.x, vector.y);
+			destination.x = cache.vertices[index * 2];
+			destination.y = cache.vertices[index * 2 + 1];
+			return;
+		}
+		
 		// transform the normal into local space
-		Vector2 localn = transform.getInverseTransformedR(vector);
+		transform.getInverseTransformedR(vector, destination);
 
 		// find the index of the farthest point
-		int index = getFarthestVertexIndex(localn);
+		int index = getFarthestVertexIndex(destination);
 
-		// transform the point into world space and return
-		return transform.getTransformed(this.vertices[index]);
+		// transform the point into world space
+		transform.getTransformed(this.vertices[index], destination);
 	}
 	
 	/**
@@ -659,14 +700,22 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 	 */
 	@Override
 	public void computeAABB(Transform transform, AABB aabb) {
+		// use the cached world space vertices if they are current
+		VertexCache cache = this.getVertexCache(transform);
+		if (cache != null) {
+			cache.computeAABB(aabb);
+			return;
+		}
+		
 		// get the first point
-		Vector2 p = transform.getTransformed(this.vertices[0]);
+		double px0 = transform.getTransformedX(this.vertices[0]);
+		double py0 = transform.getTransformedY(this.vertices[0]);
 		
 		// initialize min and max values
-    	double minX = p.x;
-    	double maxX = p.x;
-    	double minY = p.y;
-    	double maxY = p.y;
+    	double minX = px0;
+    	double maxX = px0;
+    	double minY = py0;
+    	double maxY = py0;
     	
     	// loop over the rest of the vertices
     	int size = this.vertices.length;
@@ -695,4 +744,230 @@ public class Polygon extends AbstractShape implements Convex, Wound, Shape, Tran
 		aabb.maxX = maxX;
 		aabb.maxY = maxY;
 	}
+	
+	/**
+	 * Returns the given vertex in world space.
+	 * @param cache the current world space vertices; can be null
+	 * @param index the vertex index
+	 * @param transform the local to world space {@link Transform}
+	 * @return {@link Vector2}
+	 */
+	private Vector2 getTransformed(VertexCache cache, int index, Transform transform) {
+		if (cache != null) {
+			return new Vector2(cache.vertices[index * 2], cache.vertices[index * 2 + 1]);
+		}
+		return transform.getTransformed(this.vertices[index]);
+	}
+	
+	/**
+	 * Returns the cached world space vertices if they were computed using
+	 * the given {@link Transform} and it hasn't changed since.
+	 * @param transform the local to world space {@link Transform}
+	 * @return {@link VertexCache} or null
+	 * @since 6.1.0
+	 */
+	final VertexCache getVertexCache(Transform transform) {
+		// read the field once since it may be cleared
+		VertexCache cache = this.vertexCache;
+		if (cache != null && cache.transform == transform && cache.version == transform.getVersion()) {
+			return cache;
+		}
+		return null;
+	}
+	
+	/**
+	 * Refills the cached world space vertices using the given {@link Transform} if the
+	 * cache is enabled and they weren't computed using its current version.
+	 * <p>
+	 * This is the only method that writes the cache.  It must not be called while another 
+	 * thread is using this polygon.
+	 * @param transform the local to world space {@link Transform}
+	 * @since 6.1.0
+	 * @see #setVertexCacheEnabled(boolean)
+	 */
+	public void updateVertexCache(Transform transform) {
+		if (!this.vertexCacheEnabled) {
+			return;
+		}
+		
+		VertexCache cache = this.vertexCache;
+		if (cache == null) {
+			cache = new VertexCache(this.vertices.length);
+			this.vertexCache = cache;
+		}
+		if (cache.transform != transform || cache.version != transform.getVersion()) {
+			cache.update(this.vertices, transform);
+		}
+	}
+	
+	/**
+	 * Returns true if the world space vertices of this polygon are cached.
+	 * @return boolean
+	 * @since 6.1.0
+	 * @see #setVertexCacheEnabled(boolean)
+	 */
+	public boolean isVertexCacheEnabled() {
+		return this.vertexCacheEnabled;
+	}
+	
+	/**
+	 * Toggles caching of the world space vertices of this polygon.
+	 * <p>
+	 * When enabled, the world space vertices are stored in a packed array each time the
+	 * {@link #updateVertexCache(Transform)} method is called with a new {@link Transform}.
+	 * Until the {@link Transform} changes, as tracked by {@link Transform#getVersion()}, the 
+	 * support, projection and {@link AABB} methods read the vertices from the array instead of 
+	 * transforming them.  Calls with any other transform transform the vertices as before and 
+	 * leave the cache as is.
+	 * <p>
+	 * The {@link org.dyn4j.collision.broadphase.CollisionItemAABBProducer} updates the cache 
+	 * using the body's transform each time the broad-phase updates the fixture.  This happens
+	 * before the narrow-phase, so the many support function calls of the narrow-phase for that 
+	 * step use the cache, even when they are run on other threads.  Temporary transforms, like 
+	 * those used for swept {@link AABB}s or continuous collision detection, don't replace it.
+	 * <p>
+	 * The array is allocated once and refilled in place.  A polygon used by more than one
+	 * fixture is refilled for each of them, so the cache is most effective when the polygon
+	 * is used by only one fixture.  Likewise, a polygon with the cache enabled must not be
+	 * shared between worlds that are updated at the same time.
+	 * @param flag true to enable the cache
+	 * @since 6.1.0
+	 */
+	public void setVertexCacheEnabled(boolean flag) {
+		this.vertexCacheEnabled = flag;
+		if (!flag) {
+			this.vertexCache = null;
+		}
+	}
+	
+	/**
+	 * The world space vertices of a polygon for a specific version of a {@link Transform}.
+	 * <p>
+	 * A polygon keeps one cache and refills it when {@link Polygon#updateVertexCache(Transform)}
+	 * is called with a different transform or version.  The cache can be read by many threads 
+	 * between updates.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	static final class VertexCache {
+		/** The transform used; null until the first update */
+		Transform transform;
+		
+		/** The version of the transform used */
+		long version;
+		
+		/** The world space vertices packed as x, y */
+		final double[] vertices;
+		
+		/**
+		 * Minimal constructor.
+		 * @param size the number of vertices
+		 */
+		VertexCache(int size) {
+			this.vertices = new double[size * 2];
+		}
+		
+		/**
+		 * Refills the world space vertices using the given {@link Transform}.
+		 * @param vertices the local space vertices
+		 * @param transform the local to world space {@link Transform}
+		 */
+		void update(Vector2[] vertices, Transform transform) {
+			// invalidate the cache while it's being filled
+			this.transform = null;
+			
+			int size = vertices.length;
+			for (int i = 0; i < size; i++) {
+				this.vertices[i * 2] = transform.getTransformedX(vertices[i]);
+				this.vertices[i * 2 + 1] = transform.getTransformedY(vertices[i]);
+			}
+			
+			this.version = transform.getVersion();
+			this.transform = transform;
+		}
+		
+		/**
+		 * Returns the index of the vertex farthest in the given world space direction.
+		 * <p>
+		 * This is the same search as {@link Polygon#getFarthestVertexIndex(Vector2)}.
+		 * @param x the x component of the direction
+		 * @param y the y component of the direction
+		 * @return int
+		 */
+		int getFarthestVertexIndex(double x, double y) {
+			double[] v = this.vertices;
+			int maxIndex = 0;
+			int n = v.length / 2;
+			double max = x * v[0] + y * v[1], candidateMax;
+			
+			if (max < (candidateMax = x * v[2] + y * v[3])) {
+				// search to the right
+				do {
+					max = candidateMax;
+					maxIndex++;
+				} while ((maxIndex + 1) < n && max < (candidateMax = x * v[(maxIndex + 1) * 2] + y * v[(maxIndex + 1) * 2 + 1]));
+			} else if (max < (candidateMax = x * v[(n - 1) * 2] + y * v[(n - 1) * 2 + 1])) {
+				maxIndex = n;
+				
+				// search to the left
+				do {
+					max = candidateMax;
+					maxIndex--;
+				} while (maxIndex > 0 && max <= (candidateMax = x * v[(maxIndex - 1) * 2] + y * v[(maxIndex - 1) * 2 + 1]));
+			}
+			
+			return maxIndex;
+		}
+		
+		/**
+		 * Returns the projection of the vertices onto the given vector.
+		 * @param vector the vector
+		 * @return {@link Interval}
+		 */
+		Interval project(Vector2 vector) {
+			double[] v = this.vertices;
+			double min = vector.x * v[0] + vector.y * v[1];
+			double max = min;
+			for (int i = 2; i < v.length; i += 2) {
+				double p = vector.x * v[i] + vector.y * v[i + 1];
+				if (p < min) {
+					min = p;
+				} else if (p > max) {
+					max = p;
+				}
+			}
+			return new Interval(min, max);
+		}
+		
+		/**
+		 * Computes the {@link AABB} of the vertices.
+		 * @param aabb the {@link AABB} to place the result in
+		 */
+		void computeAABB(AABB aabb) {
+			double[] v = this.vertices;
+			double minX = v[0];
+			double maxX = v[0];
+			double minY = v[1];
+			double maxY = v[1];
+			for (int i = 2; i < v.length; i += 2) {
+				double x = v[i];
+				double y = v[i + 1];
+				if (x < minX) {
+					minX = x;
+				} else if (x > maxX) {
+					maxX = x;
+				}
+				if (y < minY) {
+					minY = y;
+				} else if (y > maxY) {
+					maxY = y;
+				}
+			}
+			aabb.minX = minX;
+			aabb.minY = minY;
+			aabb.maxX = maxX;
+			aabb.maxY = maxY;
+		}
+	}
 }
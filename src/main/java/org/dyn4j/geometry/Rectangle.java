@@ -263,6 +263,11 @@ public class Rectangle extends Polygon implements Convex, Wound, Shape, Transfor
 	 */
 	@Override
 	public Interval project(Vector2 vector, Transform transform) {
+		// use the cached world space vertices if they are current
+		if (this.getVertexCache(transform) != null) {
+			return super.project(vector, transform);
+		}
+		
 		// get the center and vertices
 		Vector2 center = transform.getTransformed(this.center);
 		// create the project axes
@@ -301,6 +306,12 @@ public class Rectangle extends Polygon implements Convex, Wound, Shape, Transfor
 	 */
 	@Override
 	public void computeAABB(Transform transform, AABB aabb) {
+		// use the cached world space vertices if they are current
+		if (this.getVertexCache(transform) != null) {
+			super.computeAABB(transform, aabb);
+			return;
+		}
+		
 		// since we know that this is a rectangle we can get away with much fewer
 		// comparisons to find the correct AABB. Each vertex maps to one point of the
 		// AABB, we have to find in which of the four possible rotation states this
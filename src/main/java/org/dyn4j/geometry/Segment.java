@@ -35,10 +35,10 @@ import org.dyn4j.exception.ArgumentNullException;
  * <p>
  * This class represents a line segment that is infinitely thin.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
-public class Segment extends AbstractShape implements Convex, Wound, Shape, Transformable, DataContainer {
+public class Segment extends AbstractShape implements Convex, FarthestPointProvider, Wound, Shape, Transformable, DataContainer {
 	/** The segment vertices */
 	final Vector2[] vertices;
 	
@@ -595,6 +595,35 @@ public class Segment extends AbstractShape implements Convex, Wound, Shape, Tran
 		}
 	}
 	
+	/**
+	 * Returns the farthest point on the given segment in the given destination {@link Vector2}.
+	 * <p>
+	 * This method produces the same result as the {@link #getFarthestPoint(Vector2, Vector2, Vector2, Transform)}
+	 * method without creating any new objects.
+	 * @param v1 the first point of the segment
+	 * @param v2 the second point of the segment
+	 * @param vector the direction
+	 * @param transform the local to world space {@link Transform} of this {@link Convex} {@link Shape}
+	 * @param destination the {@link Vector2} to place the result in
+	 * @throws NullPointerException if v1, v2, vector, transform, or destination is null
+	 * @since 6.1.0
+	 */
+	public static final void getFarthestPoint(Vector2 v1, Vector2 v2, Vector2 vector, Transform transform, Vector2 destination) {
+		// get the first vertex and its projection onto the vector
+		transform.getTransformed(v1, destination);
+		double x1 = destination.x;
+		double y1 = destination.y;
+		double dot1 = vector.dot(destination);
+		// get the second vertex and its projection onto the vector
+		transform.getTransformed(v2, destination);
+		double dot2 = vector.dot(destination);
+		// find the greatest projection
+		if (dot1 >= dot2) {
+			destination.x = x1;
+			destination.y = y1;
+		}
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Convex#getAxes(java.util.List, org.dyn4j.geometry.Transform)
 	 */
@@ -755,6 +784,14 @@ public class Segment extends AbstractShape implements Convex, Wound, Shape, Tran
 		return Segment.getFarthestPoint(this.vertices[0], this.vertices[1], vector, transform);
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
+		Segment.getFarthestPoint(this.vertices[0], this.vertices[1], vector, transform, destination);
+	}
+	
 	/**
 	 * Returns the feature farthest in the direction of n.
 	 * <p>
@@ -34,10 +34,10 @@ import org.dyn4j.exception.ValueOutOfRangeException;
  * <p>
  * This shape can represent any slice of a circle up to 180 degrees (half circle).
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
-public class Slice extends AbstractShape implements Convex, Shape, Transformable, DataContainer {
+public class Slice extends AbstractShape implements Convex, FarthestPointProvider, Shape, Transformable, DataContainer {
 	
 	/** Half the total circular section in radians */
 	final double alpha;
@@ -247,8 +247,18 @@ public class Slice extends AbstractShape implements Convex, Shape, Transformable
 	 */
 	@Override
 	public Vector2 getFarthestPoint(Vector2 vector, Transform transform) {
-		Vector2 localn = transform.getInverseTransformedR(vector);
-		Vector2 localnRotated;
+		Vector2 point = new Vector2();
+		this.getFarthestPoint(vector, transform, point);
+		return point;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.FarthestPointProvider#getFarthestPoint(org.dyn4j.geometry.Vector2, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Vector2)
+	 */
+	@Override
+	public void getFarthestPoint(Vector2 vector, Transform transform, Vector2 destination) {
+		Vector2 localn = destination;
+		transform.getInverseTransformedR(vector, localn);
 		
 		// We need to normalize localn in order for localnRotated.x < cosAlpha to work
 		// and we also use that to compute the farthest point in the circle part of the slice
@@ -256,19 +266,23 @@ public class Slice extends AbstractShape implements Convex, Shape, Transformable
 		
 		// Include rotation if needed
 		// Note that the vertices are already rotated and we need both the rotated and not rotated localn vector
+		// (inlined Vector2.inverseRotate to avoid the copy)
+		double rx = localn.x;
+		double ry = localn.y;
 		if (!this.rotation.isIdentity()) {
-			localnRotated = localn.copy().inverseRotate(this.rotation);
-		} else {
-			localnRotated = localn;
+			double cos = this.rotation.cost;
+			double sin = -this.rotation.sint;
+			rx = localn.x * cos - localn.y * sin;
+			ry = localn.x * sin + localn.y * cos;
 		}
 		
 		// if (abs(angleBetween(localn, rotation)) < alpha)
-		if (localnRotated.x < this.cosAlpha) {
+		if (rx < this.cosAlpha) {
 			double edge = this.vertices[0].dot(localn);
 			int maxIndex = 0;
 			
 			// Based on the sign of localnRotated.y we can rule out one vertex
-			if (localnRotated.y < 0) {
+			if (ry < 0) {
 				if (this.vertices[2].dot(localn) > edge) {
 					maxIndex = 2;
 				}
@@ -278,18 +292,12 @@ public class Slice extends AbstractShape implements Convex, Shape, Transformable
 				}
 			}
 			
-			Vector2 point = new Vector2(this.vertices[maxIndex]);
-			
 			// transform the point into world space
-			transform.transform(point);
-			
-			return point;
+			transform.getTransformed(this.vertices[maxIndex], destination);
 		} else {
 			// NOTE: taken from Circle.getFarthestPoint with some modifications
 			localn.multiply(this.sliceRadius).add(this.vertices[0]);
 			transform.transform(localn);
-			
-			return localn;
 		}
 	}
 	
@@ -0,0 +1,879 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dyn4j.DataContainer;
+import org.dyn4j.Epsilon;
+import org.dyn4j.exception.ArgumentNullException;
+import org.dyn4j.exception.InvalidIndexException;
+import org.dyn4j.exception.ValueOutOfRangeException;
+
+/**
+ * Represents a grid of tiles, like the collision layer of a tile map, as a single shape.
+ * <p>
+ * A tile map is intended for static level geometry.  Each tile refers to a template
+ * {@link Polygon} in unit tile space, [0, 1] x [0, 1], that is scaled to the tile size.  A
+ * tile whose template is null is empty.  Row 0 is the bottom row of the grid and the tile
+ * at column 0 and row 0 has its bottom left corner at the local origin.
+ * <p>
+ * Only the outline of the solid tiles is kept.  The edges shared by neighboring tiles cancel
+ * out and collinear edges are merged, so a floor of many tiles becomes a single {@link Link}.
+ * The links are connected so that the internal edge problem is solved the same way as with
+ * {@link Geometry#createLinks(Vector2[], boolean)}.  The solid side of each link is on its left.
+ * <p>
+ * The links are indexed by the tiles their bounds cover so that the links near another shape
+ * are found by tile and raycasts only visit the tiles along the ray.  Like a {@link Chain}, the
+ * whole tile map occupies a single broad-phase proxy.  A tile map cannot be modified after
+ * creation.
+ * <p>
+ * A tile map is not convex.  The {@link Convex} methods of this class describe the convex hull of
+ * the links.  The collision world detects collisions, raycasts and time of impact against the
+ * individual links near the other shape instead of the tile map itself.
+ * <p>
+ * Like the {@link Link} class, this class cannot be locally rotated or translated. All the
+ * <code>rotate</code> and <code>translate</code> methods throw <code>UnsupportedOperationException</code>s.
+ * Use the transform of the body instead.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class TileMap extends AbstractLinkShape implements LinkShape, Convex, Shape, Transformable, DataContainer {
+	/** The scale used to compare points and lines in unit tile space */
+	private static final double QUANTIZATION = 1.0e6;
+	
+	/** The number of columns */
+	final int columns;
+	
+	/** The number of rows */
+	final int rows;
+	
+	/** The width of a tile */
+	final double tileWidth;
+	
+	/** The height of a tile */
+	final double tileHeight;
+	
+	/** The template index of each tile in row major order */
+	final short[] tiles;
+	
+	/** The local space bounds of all links packed as minX, minY, maxX, maxY */
+	final double[] bounds;
+	
+	/** The range of each tile's link indices in {@link #tileLinks}; the tile's links are in [start[i], start[i + 1]) */
+	final int[] tileStart;
+	
+	/** The link indices of every tile */
+	final int[] tileLinks;
+	
+	/** The tiles covered by each link packed as minColumn, minRow, maxColumn, maxRow */
+	final int[] linkTiles;
+	
+	/**
+	 * Full constructor.
+	 * <p>
+	 * The template of a tile is <code>templates[tiles[row * columns + column]]</code>.
+	 * Each template must lie within the unit square.  A null template represents an
+	 * empty tile.  The given arrays are not retained.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param tileWidth the width of each tile
+	 * @param tileHeight the height of each tile
+	 * @param tiles the template index of each tile in row major order
+	 * @param templates the tile templates in unit tile space
+	 * @throws NullPointerException if tiles or templates is null
+	 * @throws IllegalArgumentException if columns, rows, tileWidth or tileHeight is less than or equal to zero; if the length of tiles is not columns * rows; if a template doesn't lie within the unit square; or if there are no solid tiles
+	 * @throws IndexOutOfBoundsException if a tile refers to a template that doesn't exist
+	 */
+	public TileMap(int columns, int rows, double tileWidth, double tileHeight, short[] tiles, Polygon[] templates) {
+		this(columns, rows, tileWidth, tileHeight, tiles, TileMap.createLinks(columns, rows, tileWidth, tileHeight, tiles, templates));
+	}
+	
+	/**
+	 * Creates a tile map where every solid tile is a full square.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param tileWidth the width of each tile
+	 * @param tileHeight the height of each tile
+	 * @param solid the solid tiles; the bit at index row * columns + column is set for a solid tile
+	 * @throws NullPointerException if solid is null
+	 * @throws IllegalArgumentException if columns, rows, tileWidth or tileHeight is less than or equal to zero or if there are no solid tiles
+	 */
+	public TileMap(int columns, int rows, double tileWidth, double tileHeight, BitSet solid) {
+		this(columns, rows, tileWidth, tileHeight, TileMap.createTiles(columns, rows, solid), new Polygon[] {
+			null,
+			new Polygon(new Vector2(0, 0), new Vector2(1, 0), new Vector2(1, 1), new Vector2(0, 1))
+		});
+	}
+	
+	/**
+	 * Creates a new tile map from the links created from the given tiles.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param tileWidth the width of each tile
+	 * @param tileHeight the height of each tile
+	 * @param tiles the template index of each tile in row major order
+	 * @param links the links
+	 */
+	private TileMap(int columns, int rows, double tileWidth, double tileHeight, short[] tiles, Link[] links) {
+		super(links, TileMap.getVertices(links));
+		
+		this.columns = columns;
+		this.rows = rows;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.tiles = tiles.clone();
+		
+		this.bounds = new double[] { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+		
+		// count the links of each tile
+		int n = links.length;
+		this.linkTiles = new int[n * 4];
+		this.tileStart = new int[columns * rows + 1];
+		for (int i = 0; i < n; i++) {
+			Vector2 p1 = links[i].vertices[0];
+			Vector2 p2 = links[i].vertices[1];
+			double minX = Math.min(p1.x, p2.x);
+			double minY = Math.min(p1.y, p2.y);
+			double maxX = Math.max(p1.x, p2.x);
+			double maxY = Math.max(p1.y, p2.y);
+			
+			this.bounds[0] = Math.min(this.bounds[0], minX);
+			this.bounds[1] = Math.min(this.bounds[1], minY);
+			this.bounds[2] = Math.max(this.bounds[2], maxX);
+			this.bounds[3] = Math.max(this.bounds[3], maxY);
+			
+			int c = i * 4;
+			this.linkTiles[c    ] = this.getColumn(minX);
+			this.linkTiles[c + 1] = this.getRow(minY);
+			this.linkTiles[c + 2] = this.getColumn(maxX);
+			this.linkTiles[c + 3] = this.getRow(maxY);
+			
+			for (int y = this.linkTiles[c + 1]; y <= this.linkTiles[c + 3]; y++) {
+				for (int x = this.linkTiles[c]; x <= this.linkTiles[c + 2]; x++) {
+					this.tileStart[y * columns + x + 1]++;
+				}
+			}
+		}
+		
+		// convert the counts to offsets
+		for (int i = 1; i < this.tileStart.length; i++) {
+			this.tileStart[i] += this.tileStart[i - 1];
+		}
+		
+		// fill in the link indices of each tile
+		this.tileLinks = new int[this.tileStart[this.tileStart.length - 1]];
+		int[] next = Arrays.copyOf(this.tileStart, this.tileStart.length - 1);
+		for (int i = 0; i < n; i++) {
+			int c = i * 4;
+			for (int y = this.linkTiles[c + 1]; y <= this.linkTiles[c + 3]; y++) {
+				for (int x = this.linkTiles[c]; x <= this.linkTiles[c + 2]; x++) {
+					this.tileLinks[next[y * columns + x]++] = i;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param tileMap the tile map to copy
+	 */
+	protected TileMap(TileMap tileMap) {
+		super(tileMap);
+		
+		this.columns = tileMap.columns;
+		this.rows = tileMap.rows;
+		this.tileWidth = tileMap.tileWidth;
+		this.tileHeight = tileMap.tileHeight;
+		this.tiles = tileMap.tiles.clone();
+		this.bounds = tileMap.bounds.clone();
+		this.tileStart = tileMap.tileStart.clone();
+		this.tileLinks = tileMap.tileLinks.clone();
+		this.linkTiles = tileMap.linkTiles.clone();
+	}
+	
+	/**
+	 * Validates the size of the grid.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param tileWidth the width of each tile
+	 * @param tileHeight the height of each tile
+	 */
+	private static final void validate(int columns, int rows, double tileWidth, double tileHeight) {
+		if (columns <= 0) 
+			throw new ValueOutOfRangeException("columns", columns, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0);
+		
+		if (rows <= 0) 
+			throw new ValueOutOfRangeException("rows", rows, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0);
+		
+		if (tileWidth <= 0.0) 
+			throw new ValueOutOfRangeException("tileWidth", tileWidth, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0.0);
+		
+		if (tileHeight <= 0.0) 
+			throw new ValueOutOfRangeException("tileHeight", tileHeight, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0.0);
+	}
+	
+	/**
+	 * Returns the tiles for the given solid tiles where 0 is empty and 1 is solid.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param solid the solid tiles
+	 * @return short[]
+	 */
+	private static final short[] createTiles(int columns, int rows, BitSet solid) {
+		if (solid == null) 
+			throw new ArgumentNullException("solid");
+		
+		TileMap.validate(columns, rows, 1.0, 1.0);
+		
+		short[] tiles = new short[columns * rows];
+		for (int i = solid.nextSetBit(0); i >= 0 && i < tiles.length; i = solid.nextSetBit(i + 1)) {
+			tiles[i] = 1;
+		}
+		return tiles;
+	}
+	
+	/**
+	 * Returns the start point of every link.
+	 * <p>
+	 * Since the links form closed loops, these are all the vertices of the links.
+	 * @param links the links
+	 * @return {@link Vector2}[]
+	 */
+	private static final Vector2[] getVertices(Link[] links) {
+		Vector2[] vertices = new Vector2[links.length];
+		for (int i = 0; i < links.length; i++) {
+			vertices[i] = links[i].vertices[0].copy();
+		}
+		return vertices;
+	}
+	
+	/**
+	 * Creates the links along the outline of the given tiles.
+	 * <p>
+	 * The edges of every template are collected by the line they lie on.  Each edge adds one
+	 * along its span on the line if it runs in the direction of the line and subtracts one if it
+	 * runs against it.  The edges shared by neighboring tiles run in opposite directions and
+	 * cancel out.  The spans that don't cancel are merged into the edges of the outline which are
+	 * then connected end to end.
+	 * @param columns the number of columns
+	 * @param rows the number of rows
+	 * @param tileWidth the width of each tile
+	 * @param tileHeight the height of each tile
+	 * @param tiles the template index of each tile in row major order
+	 * @param templates the tile templates in unit tile space
+	 * @return {@link Link}[]
+	 */
+	private static final Link[] createLinks(int columns, int rows, double tileWidth, double tileHeight, short[] tiles, Polygon[] templates) {
+		if (tiles == null) 
+			throw new ArgumentNullException("tiles");
+		
+		if (templates == null) 
+			throw new ArgumentNullException("templates");
+		
+		TileMap.validate(columns, rows, tileWidth, tileHeight);
+		
+		if (tiles.length != columns * rows) 
+			throw new IllegalArgumentException("The length of tiles must be columns * rows");
+		
+		for (Polygon template : templates) {
+			if (template == null) continue;
+			for (Vector2 v : template.vertices) {
+				if (v.x < -Epsilon.E || v.x > 1.0 + Epsilon.E || v.y < -Epsilon.E || v.y > 1.0 + Epsilon.E) {
+					throw new IllegalArgumentException("A tile template must lie within the unit square");
+				}
+			}
+		}
+		
+		// collect the template edges of every tile by line
+		Map<Key, Line> lines = new HashMap<Key, Line>();
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				int id = tiles[row * columns + column];
+				if (id < 0 || id >= templates.length) 
+					throw new InvalidIndexException(id);
+				
+				Polygon template = templates[id];
+				if (template == null) continue;
+				
+				Vector2[] vertices = template.vertices;
+				int size = vertices.length;
+				for (int i = 0; i < size; i++) {
+					Vector2 a = vertices[i];
+					Vector2 b = vertices[i + 1 == size ? 0 : i + 1];
+					TileMap.addEdge(lines, a.x + column, a.y + row, b.x + column, b.y + row);
+				}
+			}
+		}
+		
+		// merge the spans that don't cancel into edges
+		List<Vector2> starts = new ArrayList<Vector2>();
+		List<Vector2> ends = new ArrayList<Vector2>();
+		List<Key> keys = new ArrayList<Key>();
+		Map<Key, List<Integer>> outgoing = new HashMap<Key, List<Integer>>();
+		for (Line line : lines.values()) {
+			Collections.sort(line.events, new Comparator<double[]>() {
+				@Override
+				public int compare(double[] e1, double[] e2) {
+					return Double.compare(e1[0], e2[0]);
+				}
+			});
+			
+			int net = 0;
+			int sign = 0;
+			double start = 0.0;
+			int size = line.events.size();
+			for (int i = 0; i < size; ) {
+				// apply all the events at the same position
+				double t = line.events.get(i)[0];
+				while (i < size && line.events.get(i)[0] - t <= Epsilon.E) {
+					net += (int)line.events.get(i)[1];
+					i++;
+				}
+				
+				int s = Integer.signum(net);
+				if (s == sign) continue;
+				
+				// the span before this position ends a run
+				if (sign != 0) {
+					double t0 = sign > 0 ? start : t;
+					double t1 = sign > 0 ? t : start;
+					Vector2 p0 = line.getPoint(t0);
+					Vector2 p1 = line.getPoint(t1);
+					
+					int index = starts.size();
+					Key key = new Key(p0.x, p0.y, 0.0);
+					starts.add(new Vector2(p0.x * tileWidth, p0.y * tileHeight));
+					ends.add(new Vector2(p1.x * tileWidth, p1.y * tileHeight));
+					keys.add(new Key(p1.x, p1.y, 0.0));
+					
+					List<Integer> edges = outgoing.get(key);
+					if (edges == null) {
+						edges = new ArrayList<Integer>(2);
+						outgoing.put(key, edges);
+					}
+					edges.add(index);
+				}
+				
+				sign = s;
+				start = t;
+			}
+		}
+		
+		int n = starts.size();
+		if (n == 0) 
+			throw new IllegalArgumentException("A tile map must have at least one solid tile");
+		
+		// connect each edge to the edge that turns the most to the left at
+		// its end so that outlines touching at a vertex stay separate
+		int[] next = new int[n];
+		int[] prev = new int[n];
+		Arrays.fill(prev, -1);
+		for (int i = 0; i < n; i++) {
+			next[i] = -1;
+			
+			List<Integer> edges = outgoing.get(keys.get(i));
+			if (edges == null) continue;
+			
+			Vector2 d1 = starts.get(i).to(ends.get(i));
+			double max = -Double.MAX_VALUE;
+			for (int j : edges) {
+				Vector2 d2 = starts.get(j).to(ends.get(j));
+				double turn = Math.atan2(d1.cross(d2), d1.dot(d2));
+				// never turn back along the same edge
+				if (turn > Math.PI - Epsilon.E) continue;
+				if (turn > max) {
+					max = turn;
+					next[i] = j;
+				}
+			}
+			
+			if (next[i] >= 0) {
+				prev[next[i]] = i;
+			}
+		}
+		
+		Link[] links = new Link[n];
+		for (int i = 0; i < n; i++) {
+			links[i] = new Link(
+					prev[i] >= 0 ? starts.get(prev[i]).copy() : null,
+					starts.get(i).copy(),
+					ends.get(i).copy(),
+					next[i] >= 0 ? ends.get(next[i]).copy() : null);
+		}
+		
+		return links;
+	}
+	
+	/**
+	 * Adds the given edge to the line it lies on.
+	 * @param lines the lines
+	 * @param ax the x coordinate of the start of the edge
+	 * @param ay the y coordinate of the start of the edge
+	 * @param bx the x coordinate of the end of the edge
+	 * @param by the y coordinate of the end of the edge
+	 */
+	private static final void addEdge(Map<Key, Line> lines, double ax, double ay, double bx, double by) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double l = Math.sqrt(dx * dx + dy * dy);
+		if (l <= Epsilon.E) return;
+		
+		// every line has one direction so that
+		// edges in opposite directions cancel
+		double ux = dx / l;
+		double uy = dy / l;
+		int sign = 1;
+		long qx = Math.round(ux * QUANTIZATION);
+		long qy = Math.round(uy * QUANTIZATION);
+		if (qx < 0 || (qx == 0 && qy < 0)) {
+			ux = -ux;
+			uy = -uy;
+			sign = -1;
+		}
+		
+		// the signed distance of the line from the origin
+		double c = ux * ay - uy * ax;
+		
+		Key key = new Key(ux, uy, c);
+		Line line = lines.get(key);
+		if (line == null) {
+			line = new Line(ux, uy, c);
+			lines.put(key, line);
+		}
+		
+		double t0 = ux * ax + uy * ay;
+		double t1 = ux * bx + uy * by;
+		line.events.add(new double[] { Math.min(t0, t1), sign });
+		line.events.add(new double[] { Math.max(t0, t1), -sign });
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @return {@link TileMap}
+	 */
+	@Override
+	public TileMap copy() {
+		return new TileMap(this);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.AbstractShape#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("TileMap[").append(super.toString())
+		.append("|Columns=").append(this.columns)
+		.append("|Rows=").append(this.rows)
+		.append("|TileWidth=").append(this.tileWidth)
+		.append("|TileHeight=").append(this.tileHeight)
+		.append("|Links=").append(this.links.length)
+		.append("]");
+		return sb.toString();
+	}
+	
+	/**
+	 * Returns the number of columns.
+	 * @return int
+	 */
+	public int getColumnCount() {
+		return this.columns;
+	}
+	
+	/**
+	 * Returns the number of rows.
+	 * @return int
+	 */
+	public int getRowCount() {
+		return this.rows;
+	}
+	
+	/**
+	 * Returns the width of a tile.
+	 * @return double
+	 */
+	public double getTileWidth() {
+		return this.tileWidth;
+	}
+	
+	/**
+	 * Returns the height of a tile.
+	 * @return double
+	 */
+	public double getTileHeight() {
+		return this.tileHeight;
+	}
+	
+	/**
+	 * Returns the template index of the tile at the given column and row.
+	 * @param column the column
+	 * @param row the row
+	 * @return short
+	 * @throws IndexOutOfBoundsException if column or row is outside the grid
+	 */
+	public short getTile(int column, int row) {
+		if (column < 0 || column >= this.columns) 
+			throw new InvalidIndexException(column);
+		
+		if (row < 0 || row >= this.rows) 
+			throw new InvalidIndexException(row);
+		
+		return this.tiles[row * this.columns + column];
+	}
+	
+	/**
+	 * Returns the column containing the given local x coordinate clamped to the grid.
+	 * @param x the local x coordinate
+	 * @return int
+	 */
+	private int getColumn(double x) {
+		int column = (int)Math.floor(x / this.tileWidth);
+		return column < 0 ? 0 : (column >= this.columns ? this.columns - 1 : column);
+	}
+	
+	/**
+	 * Returns the row containing the given local y coordinate clamped to the grid.
+	 * @param y the local y coordinate
+	 * @return int
+	 */
+	private int getRow(double y) {
+		int row = (int)Math.floor(y / this.tileHeight);
+		return row < 0 ? 0 : (row >= this.rows ? this.rows - 1 : row);
+	}
+	
+	/**
+	 * Appends the links whose bounds overlap the given local space {@link AABB} to the given list.
+	 * @param aabb the local space {@link AABB}
+	 * @param links the list to append the links to
+	 * @throws NullPointerException if aabb or links is null
+	 */
+	public void getLinks(AABB aabb, List<Link> links) {
+		this.query(aabb.minX, aabb.minY, aabb.maxX, aabb.maxY, links);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Appends the links whose bounds overlap the given {@link AABB}.  The given {@link AABB} is
+	 * converted to local space using the given transform. When the transform has a rotation, the
+	 * local bounds of the rotated {@link AABB} are used.
+	 */
+	@Override
+	public void getLinks(AABB aabb, Transform transform, List<Link> links) {
+		double cost = transform.getCost();
+		double sint = transform.getSint();
+		
+		// the center and extents in world space relative to the transform
+		double cx = (aabb.minX + aabb.maxX) * 0.5 - transform.getTranslationX();
+		double cy = (aabb.minY + aabb.maxY) * 0.5 - transform.getTranslationY();
+		double ex = (aabb.maxX - aabb.minX) * 0.5;
+		double ey = (aabb.maxY - aabb.minY) * 0.5;
+		
+		// rotate the center and extents into local space
+		double lx = cost * cx + sint * cy;
+		double ly = -sint * cx + cost * cy;
+		double lex = Math.abs(cost) * ex + Math.abs(sint) * ey;
+		double ley = Math.abs(sint) * ex + Math.abs(cost) * ey;
+		
+		this.query(lx - lex, ly - ley, lx + lex, ly + ley, links);
+	}
+	
+	/**
+	 * Appends the links whose bounds overlap the given bounds.
+	 * <p>
+	 * A link that covers more than one of the tiles in the bounds is only appended from the
+	 * tile with the lowest column and row that both cover.
+	 * @param minX the minimum x of the bounds
+	 * @param minY the minimum y of the bounds
+	 * @param maxX the maximum x of the bounds
+	 * @param maxY the maximum y of the bounds
+	 * @param links the list to append the links to
+	 */
+	private void query(double minX, double minY, double maxX, double maxY, List<Link> links) {
+		if (this.bounds[0] > maxX || this.bounds[2] < minX ||
+			this.bounds[1] > maxY || this.bounds[3] < minY) {
+			return;
+		}
+		
+		int x0 = this.getColumn(minX);
+		int y0 = this.getRow(minY);
+		int x1 = this.getColumn(maxX);
+		int y1 = this.getRow(maxY);
+		
+		for (int y = y0; y <= y1; y++) {
+			for (int x = x0; x <= x1; x++) {
+				int tile = y * this.columns + x;
+				for (int i = this.tileStart[tile]; i < this.tileStart[tile + 1]; i++) {
+					int index = this.tileLinks[i];
+					int c = index * 4;
+					if (x != Math.max(this.linkTiles[c], x0) || y != Math.max(this.linkTiles[c + 1], y0)) {
+						continue;
+					}
+					
+					Link link = this.links[index];
+					Vector2 p1 = link.vertices[0];
+					Vector2 p2 = link.vertices[1];
+					if (Math.min(p1.x, p2.x) > maxX || Math.max(p1.x, p2.x) < minX ||
+						Math.min(p1.y, p2.y) > maxY || Math.max(p1.y, p2.y) < minY) {
+						continue;
+					}
+					
+					links.add(link);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Appends the links of the tiles the {@link Ray} passes through in order.
+	 */
+	@Override
+	public void getLinks(Ray ray, double length, Transform transform, List<Link> links) {
+		Vector2 s = ray.getStart();
+		Vector2 d = ray.getDirectionVector();
+		
+		double cost = transform.getCost();
+		double sint = transform.getSint();
+		double x = s.x - transform.getTranslationX();
+		double y = s.y - transform.getTranslationY();
+		
+		// the start and direction in local space
+		double sx = cost * x + sint * y;
+		double sy = -sint * x + cost * y;
+		double dx = cost * d.x + sint * d.y;
+		double dy = -sint * d.x + cost * d.y;
+		
+		double w = this.columns * this.tileWidth;
+		double h = this.rows * this.tileHeight;
+		
+		// clip the ray to the grid
+		double tmin = 0.0;
+		double tmax = length <= 0.0 ? Double.POSITIVE_INFINITY : length;
+		if (dx == 0.0) {
+			if (sx < 0.0 || sx > w) return;
+		} else {
+			double t1 = -sx / dx;
+			double t2 = (w - sx) / dx;
+			tmin = Math.max(tmin, Math.min(t1, t2));
+			tmax = Math.min(tmax, Math.max(t1, t2));
+		}
+		if (dy == 0.0) {
+			if (sy < 0.0 || sy > h) return;
+		} else {
+			double t1 = -sy / dy;
+			double t2 = (h - sy) / dy;
+			tmin = Math.max(tmin, Math.min(t1, t2));
+			tmax = Math.min(tmax, Math.max(t1, t2));
+		}
+		if (tmin > tmax) return;
+		
+		// walk the tiles along the ray
+		int column = this.getColumn(sx + dx * tmin);
+		int row = this.getRow(sy + dy * tmin);
+		int stepX = dx > 0.0 ? 1 : -1;
+		int stepY = dy > 0.0 ? 1 : -1;
+		double deltaX = dx == 0.0 ? Double.POSITIVE_INFINITY : this.tileWidth / Math.abs(dx);
+		double deltaY = dy == 0.0 ? Double.POSITIVE_INFINITY : this.tileHeight / Math.abs(dy);
+		double nextX = dx == 0.0 ? Double.POSITIVE_INFINITY : ((column + (dx > 0.0 ? 1 : 0)) * this.tileWidth - sx) / dx;
+		double nextY = dy == 0.0 ? Double.POSITIVE_INFINITY : ((row + (dy > 0.0 ? 1 : 0)) * this.tileHeight - sy) / dy;
+		
+		int prevColumn = -1;
+		int prevRow = -1;
+		while (true) {
+			int tile = row * this.columns + column;
+			for (int i = this.tileStart[tile]; i < this.tileStart[tile + 1]; i++) {
+				int index = this.tileLinks[i];
+				int c = index * 4;
+				// the tiles of a link along the ray are consecutive so only
+				// append the link when the ray enters the link's tiles
+				if (prevColumn >= this.linkTiles[c] && prevColumn <= this.linkTiles[c + 2] &&
+					prevRow >= this.linkTiles[c + 1] && prevRow <= this.linkTiles[c + 3]) {
+					continue;
+				}
+				links.add(this.links[index]);
+			}
+			
+			prevColumn = column;
+			prevRow = row;
+			
+			if (nextX < nextY) {
+				if (nextX > tmax) break;
+				column += stepX;
+				nextX += deltaX;
+			} else {
+				if (nextY > tmax) break;
+				row += stepY;
+				nextY += deltaY;
+			}
+			
+			if (column < 0 || column >= this.columns || row < 0 || row >= this.rows) break;
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.geometry.Shape#computeAABB(org.dyn4j.geometry.Transform, org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public void computeAABB(Transform transform, AABB aabb) {
+		double tx = transform.getTranslationX();
+		double ty = transform.getTranslationY();
+		double cost = transform.getCost();
+		double sint = transform.getSint();
+		
+		// the bounds of the links are the answer when there's no rotation
+		if (cost == 1.0 && sint == 0.0) {
+			aabb.minX = this.bounds[0] + tx;
+			aabb.minY = this.bounds[1] + ty;
+			aabb.maxX = this.bounds[2] + tx;
+			aabb.maxY = this.bounds[3] + ty;
+			return;
+		}
+		
+		// otherwise use the rotated bounds
+		double cx = (this.bounds[0] + this.bounds[2]) * 0.5;
+		double cy = (this.bounds[1] + this.bounds[3]) * 0.5;
+		double ex = (this.bounds[2] - this.bounds[0]) * 0.5;
+		double ey = (this.bounds[3] - this.bounds[1]) * 0.5;
+		
+		double wx = cost * cx - sint * cy + tx;
+		double wy = sint * cx + cost * cy + ty;
+		double wex = Math.abs(cost) * ex + Math.abs(sint) * ey;
+		double wey = Math.abs(sint) * ex + Math.abs(cost) * ey;
+		
+		aabb.minX = wx - wex;
+		aabb.minY = wy - wey;
+		aabb.maxX = wx + wex;
+		aabb.maxY = wy + wey;
+	}
+	
+	/**
+	 * A quantized point or line used to find coincident points and lines.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private static final class Key {
+		/** The first quantized value */
+		private final long a;
+		
+		/** The second quantized value */
+		private final long b;
+		
+		/** The third quantized value */
+		private final long c;
+		
+		/**
+		 * Minimal constructor.
+		 * @param a the first value
+		 * @param b the second value
+		 * @param c the third value
+		 */
+		public Key(double a, double b, double c) {
+			this.a = Math.round(a * QUANTIZATION);
+			this.b = Math.round(b * QUANTIZATION);
+			this.c = Math.round(c * QUANTIZATION);
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int hash = 17;
+			hash = hash * 31 + (int)(this.a ^ (this.a >>> 32));
+			hash = hash * 31 + (int)(this.b ^ (this.b >>> 32));
+			hash = hash * 31 + (int)(this.c ^ (this.c >>> 32));
+			return hash;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) return true;
+			if (obj instanceof Key) {
+				Key key = (Key)obj;
+				return this.a == key.a && this.b == key.b && this.c == key.c;
+			}
+			return false;
+		}
+	}
+	
+	/**
+	 * The template edges that lie on the same line.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private static final class Line {
+		/** The x coordinate of the line direction */
+		private final double ux;
+		
+		/** The y coordinate of the line direction */
+		private final double uy;
+		
+		/** The signed distance of the line from the origin */
+		private final double c;
+		
+		/** The start and end of the edges along the line as position, change */
+		private final List<double[]> events;
+		
+		/**
+		 * Minimal constructor.
+		 * @param ux the x coordinate of the line direction
+		 * @param uy the y coordinate of the line direction
+		 * @param c the signed distance of the line from the origin
+		 */
+		public Line(double ux, double uy, double c) {
+			this.ux = ux;
+			this.uy = uy;
+			this.c = c;
+			this.events = new ArrayList<double[]>();
+		}
+		
+		/**
+		 * Returns the point at the given position along the line.
+		 * @param t the position
+		 * @return {@link Vector2}
+		 */
+		public Vector2 getPoint(double t) {
+			return new Vector2(
+					t * this.ux - this.c * this.uy, 
+					t * this.uy + this.c * this.ux);
+		}
+	}
+}
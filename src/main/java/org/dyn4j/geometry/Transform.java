@@ -31,7 +31,7 @@ import org.dyn4j.Copyable;
  * <p>
  * Supported operations are rotation and translation.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class Transform implements Transformable, Copyable<Transform> {
@@ -46,6 +46,9 @@ public class Transform implements Transformable, Copyable<Transform> {
 	
 	/** The y translation */
 	protected double y = 0.0;
+	
+	/** The number of times this transform has been changed */
+	private long version = 0;
 
 	/**
 	 * Default public constructor
@@ -110,6 +113,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		this.sint = sint;
 		this.x   = x;
 		this.y   = y;
+		this.version++;
 	}
 	
 	/* (non-Javadoc)
@@ -148,6 +152,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		double cy = this.y - y;
 		this.x = c * cx - s * cy + x;
 		this.y = s * cx + c * cy + y;
+		this.version++;
 	}
 	
 	/* (non-Javadoc)
@@ -188,6 +193,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 	public void translate(double x, double y) {
 		this.x += x;
 		this.y += y;
+		this.version++;
 	}
 	
 	/* (non-Javadoc)
@@ -197,6 +203,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 	public void translate(Vector2 vector) {
 		this.x += vector.x;
 		this.y += vector.y;
+		this.version++;
 	}
 	
 	/* (non-Javadoc)
@@ -216,6 +223,30 @@ public class Transform implements Transformable, Copyable<Transform> {
 		this.sint = transform.sint;
 		this.x = transform.x;
 		this.y = transform.y;
+		this.version++;
+	}
+	
+	/**
+	 * Sets this transform to the given rotation and translation values.
+	 * <p>
+	 * This is the allocation free counterpart of {@link #getCost()}, {@link #getSint()},
+	 * {@link #getTranslationX()} and {@link #getTranslationY()} and restores a transform
+	 * exactly.
+	 * <p>
+	 * NOTE: The cost and sint values are not validated and should be values returned
+	 * from the {@link #getCost()} and {@link #getSint()} methods.
+	 * @param cost the cosine of the rotation angle
+	 * @param sint the sine of the rotation angle
+	 * @param x the x translation
+	 * @param y the y translation
+	 * @since 6.1.0
+	 */
+	public void set(double cost, double sint, double x, double y) {
+		this.cost = cost;
+		this.sint = sint;
+		this.x = x;
+		this.y = y;
+		this.version++;
 	}
 	
 	/**
@@ -226,6 +257,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		this.sint = 0;
 		this.x = 0;
 		this.y = 0;
+		this.version++;
 	}
 	
 	/**
@@ -450,6 +482,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 	 */
 	public void setTranslationX(double x) {
 		this.x = x;
+		this.version++;
 	}
 
 	/**
@@ -467,6 +500,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 	 */
 	public void setTranslationY(double y) {
 		this.y = y;
+		this.version++;
 	}
 	
 	/**
@@ -486,6 +520,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 	public void setTranslation(double x, double y) {
 		this.x = x;
 		this.y = y;
+		this.version++;
 	}
 	
 	/**
@@ -525,6 +560,21 @@ public class Transform implements Transformable, Copyable<Transform> {
 		return this.sint;
 	}
 	
+	/**
+	 * Returns the number of times this transform has been changed.
+	 * <p>
+	 * The version changes every time a method of this class changes the rotation or
+	 * translation.  Values computed from this transform can be cached along with the
+	 * version and reused as long as the version hasn't changed.  Subclasses that modify
+	 * the rotation or translation fields directly must call one of the methods of this
+	 * class afterwards, like {@link #set(Transform)}, for the version to change.
+	 * @return long
+	 * @since 6.1.0
+	 */
+	public long getVersion() {
+		return this.version;
+	}
+	
 	/**
 	 * Returns the rotation.
 	 * @return double angle in the range [-&pi;, &pi;]
@@ -558,6 +608,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		// get rid of the current rotation and rotate by the new theta
 		this.cost = Math.cos(theta);
 		this.sint = Math.sin(theta);
+		this.version++;
 		
 		// return the previous amount
 		return r;
@@ -577,6 +628,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		// get rid of the current rotation and rotate by the new rotation
 		this.cost = rotation.cost;
 		this.sint = rotation.sint;
+		this.version++;
 		
 		// return the previous rotation object
 		return r;
@@ -656,6 +708,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		this.sint = Math.sin(a);
 		this.x   = x;
 		this.y   = y;
+		this.version++;
 	}
 	
 	/**
@@ -712,6 +765,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		result.sint = Math.sin(a);
 		result.x   = x;
 		result.y   = y;
+		result.version++;
 	}
 	
 	/**
@@ -729,6 +783,7 @@ public class Transform implements Transformable, Copyable<Transform> {
 		double sint = Interval.clamp(sin * this.cost + cos * this.sint, -1.0, 1.0);
 		this.cost = cost;
 		this.sint = sint;
+		this.version++;
 	}
 	
 	/**
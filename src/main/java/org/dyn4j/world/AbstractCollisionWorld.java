@@ -32,8 +32,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.DataContainer;
+import org.dyn4j.Epsilon;
 import org.dyn4j.collision.BasicCollisionItem;
 import org.dyn4j.collision.BasicCollisionPair;
 import org.dyn4j.collision.Bounds;
@@ -50,8 +57,12 @@ import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
 import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
 import org.dyn4j.collision.broadphase.BroadphaseDetector;
 import org.dyn4j.collision.broadphase.BroadphaseFilter;
+import org.dyn4j.collision.broadphase.BroadphasePairListener;
+import org.dyn4j.collision.broadphase.BroadphaseRaycastListener;
 import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
 import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector;
+import org.dyn4j.collision.broadphase.PreparableBroadphaseDetector;
 import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
 import org.dyn4j.collision.continuous.ConservativeAdvancement;
 import org.dyn4j.collision.continuous.TimeOfImpact;
@@ -59,20 +70,27 @@ import org.dyn4j.collision.continuous.TimeOfImpactDetector;
 import org.dyn4j.collision.manifold.ClippingManifoldSolver;
 import org.dyn4j.collision.manifold.Manifold;
 import org.dyn4j.collision.manifold.ManifoldSolver;
+import org.dyn4j.collision.narrowphase.Epa;
 import org.dyn4j.collision.narrowphase.Gjk;
 import org.dyn4j.collision.narrowphase.LinkPostProcessor;
+import org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.DistanceDetector;
+import org.dyn4j.collision.narrowphase.NarrowphaseCache;
 import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
 import org.dyn4j.collision.narrowphase.NarrowphasePostProcessor;
 import org.dyn4j.collision.narrowphase.Penetration;
 import org.dyn4j.collision.narrowphase.Raycast;
 import org.dyn4j.collision.narrowphase.RaycastDetector;
+import org.dyn4j.collision.narrowphase.Separation;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.exception.ArgumentNullException;
 import org.dyn4j.exception.ObjectAlreadyExistsException;
 import org.dyn4j.exception.ObjectAlreadyOwnedException;
+import org.dyn4j.exception.ValueOutOfRangeException;
 import org.dyn4j.geometry.AABB;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Link;
+import org.dyn4j.geometry.LinkShape;
 import org.dyn4j.geometry.Ray;
 import org.dyn4j.geometry.Shiftable;
 import org.dyn4j.geometry.Transform;
@@ -82,6 +100,7 @@ import org.dyn4j.world.listener.CollisionListener;
 import org.dyn4j.world.result.ConvexCastResult;
 import org.dyn4j.world.result.ConvexDetectResult;
 import org.dyn4j.world.result.DetectResult;
+import org.dyn4j.world.result.RaycastBatch;
 import org.dyn4j.world.result.RaycastResult;
 
 /**
@@ -105,12 +124,18 @@ import org.dyn4j.world.result.RaycastResult;
  * <li>Manifold (contact point) generation
  * </ol>
  * <p>
+ * The broad-phase re-check, narrow-phase, narrow-phase post-processing and manifold activities
+ * can optionally be run in parallel by setting an {@link Executor} using the 
+ * {@link #setDetectExecutor(Executor, int)} method.  The {@link CollisionListener}s and the 
+ * {@link #processCollisions(Iterator)} method are always called on the calling thread, but
+ * only after these activities have been run for all pairs.
+ * <p>
  * <b>NOTE</b>: This class uses the {@link Body#setOwner(Object)} and 
  * {@link Body#setFixtureModificationHandler(org.dyn4j.collision.FixtureModificationHandler)}
  * methods to handle certain scenarios like fixture removal on a body or bodies added to
  * more than one world. Callers should <b>NOT</b> use the methods.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link CollisionBody} type
  * @param <E> the {@link Fixture} type
@@ -119,6 +144,24 @@ import org.dyn4j.world.result.RaycastResult;
  */
 public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E extends Fixture, V extends CollisionData<T, E>> implements CollisionWorld<T, E, V>, Shiftable, DataContainer {
 	
+	/** The average number of chunks of collision data each worker detects in parallel */
+	private static final int DETECT_CHUNKS_PER_WORKER = 4;
+	
+	/** The collision data should be removed */
+	private static final byte DETECT_REMOVE = 0;
+	
+	/** The collision data was rejected by the {@link BroadphaseCollisionDataFilter} */
+	private static final byte DETECT_FILTERED = 1;
+	
+	/** The collision data passed the broadphase only */
+	private static final byte DETECT_BROADPHASE = 2;
+	
+	/** The collision data passed the narrowphase only */
+	private static final byte DETECT_NARROWPHASE = 3;
+	
+	/** The collision data has a contact manifold */
+	private static final byte DETECT_MANIFOLD = 4;
+	
 	/** The user data */
 	protected Object userData;
 	
@@ -148,6 +191,9 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 	/** The {@link TimeOfImpactDetector} */
 	protected TimeOfImpactDetector timeOfImpactDetector;
 	
+	/** Runs the detectors against the links of {@link LinkShape}s for queries on the calling thread */
+	final LinkShapeDetector linkShapeDetector;
+	
 	// members
 	
 	/** The list of all bodies in the world */
@@ -181,6 +227,48 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 	/** The bounds listeners (unmodifiable view) */
 	protected final List<BoundsListener<T, E>> boundsListenersUnmodifiable;
 	
+	// parallel detection
+	
+	/** The executor used to run the detection stages in parallel; null to run them on the calling thread */
+	protected Executor detectExecutor;
+	
+	/** The maximum number of workers used to run the detection stages */
+	protected int detectParallelism;
+	
+	/** The per-worker detection state; index zero uses this world's detectors */
+	private final List<DetectWorker> detectWorkers;
+	
+	/** The collision data being detected in parallel (reused) */
+	private final List<V> detectCollisions;
+	
+	/** The result of each collision data being detected in parallel (reused) */
+	private byte[] detectStates;
+	
+	/** The per-worker batch raycast state; index zero uses this world's raycast detector */
+	private final List<RaycastWorker> raycastWorkers;
+	
+	// pair tracking
+	
+	/** The listener that applies the changes in the broadphase pairs to the collision data */
+	private final BroadphasePairListener<CollisionItem<T, E>> pairListener;
+	
+	/** The collision data removed by the broadphase in the current detection (reused) */
+	private final List<V> pairsRemoved;
+	
+	/** The broadphase detector the collision data was last synchronized with using pair tracking */
+	private CollisionItemBroadphaseDetector<T, E> pairTrackingDetector;
+	
+	/** True if the collision data is synchronized with the broadphase pairs for the current detection */
+	private boolean pairsTracked;
+	
+	// profiling
+	
+	/** The profiler; disabled by default */
+	protected final StepProfiler profiler;
+	
+	/** True if the current detection is being profiled */
+	private boolean profiling;
+	
 	/**
 	 * Default constructor.
 	 * <p>
@@ -218,6 +306,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		this.narrowphasePostProcessor = new LinkPostProcessor();
 		this.manifoldSolver = new ClippingManifoldSolver();
 		this.raycastDetector = new Gjk();
+		this.linkShapeDetector = new LinkShapeDetector();
 		this.timeOfImpactDetector = new ConservativeAdvancement();
 		
 		this.bodies = new ArrayList<T>(initialBodyCapacity);
@@ -229,6 +318,21 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		this.boundsListeners = new ArrayList<BoundsListener<T,E>>(10);
 		this.boundsListenersUnmodifiable = Collections.unmodifiableList(this.boundsListeners);
 		this.collisionListenersUnmodifiable = Collections.unmodifiableList(this.collisionListeners);
+		
+		this.detectExecutor = null;
+		this.detectParallelism = 1;
+		this.detectWorkers = new ArrayList<DetectWorker>();
+		this.detectCollisions = new ArrayList<V>();
+		this.detectStates = new byte[0];
+		this.raycastWorkers = new ArrayList<RaycastWorker>();
+		
+		this.pairListener = new CollisionDataPairListener();
+		this.pairsRemoved = new ArrayList<V>();
+		this.pairTrackingDetector = null;
+		this.pairsTracked = false;
+		
+		this.profiler = new StepProfiler();
+		this.profiling = false;
 	}
 
 	/* (non-Javadoc)
@@ -517,6 +621,36 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		return this.timeOfImpactDetector;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.CollisionWorld#setDetectExecutor(java.util.concurrent.Executor, int)
+	 */
+	@Override
+	public void setDetectExecutor(Executor executor, int parallelism) {
+		if (parallelism < 1)
+			throw new ValueOutOfRangeException("parallelism", parallelism, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 1);
+		
+		this.detectExecutor = executor;
+		this.detectParallelism = parallelism;
+		this.detectWorkers.clear();
+		this.raycastWorkers.clear();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.CollisionWorld#getDetectExecutor()
+	 */
+	@Override
+	public Executor getDetectExecutor() {
+		return this.detectExecutor;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.CollisionWorld#getDetectParallelism()
+	 */
+	@Override
+	public int getDetectParallelism() {
+		return this.detectParallelism;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.geometry.Shiftable#shift(org.dyn4j.geometry.Vector2)
 	 */
@@ -670,6 +804,53 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		this.userData = data;
 	}
 	
+	/**
+	 * Returns true if the penetration and manifold generated for the given collision during the
+	 * last detection are still valid.
+	 * <p>
+	 * This is called before the collision is reset and only for collisions that made it to the 
+	 * manifold stage during the last detection.  When true, the narrowphase and manifold stages 
+	 * are skipped and the previous penetration and manifold are reported again.  The listeners are 
+	 * still notified at each stage.
+	 * <p>
+	 * Returns false by default.
+	 * @param collision the collision data
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	protected boolean isManifoldReusable(V collision) {
+		return false;
+	}
+	
+	/**
+	 * Returns the maximum separation of the given collision's fixtures for which a speculative 
+	 * contact manifold is generated.
+	 * <p>
+	 * When the fixtures of the collision are not overlapping, but are separated by less than the
+	 * returned distance, the collision reaches the manifold stage with a manifold whose points have
+	 * a negative depth equal to their separation.  For pairs involving a {@link LinkShape}, the
+	 * manifold is generated from the closest link.
+	 * <p>
+	 * Returns zero by default, meaning that only overlapping fixtures reach the narrowphase stage.
+	 * @param collision the collision data
+	 * @return double
+	 * @since 6.1.0
+	 */
+	protected double getSpeculativeDistance(V collision) {
+		return 0.0;
+	}
+	
+	/**
+	 * Updates the fixtures of the bodies in the broadphase.
+	 * <p>
+	 * This is called at the beginning of {@link #detect()} and updates all the fixtures by default.
+	 * Sub classes can override this method to skip bodies that are known not to have moved.
+	 * @since 6.1.0
+	 */
+	protected void updateBroadphase() {
+		this.broadphaseDetector.update();
+	}
+	
 	/**
 	 * Performs collision detection on the world.
 	 * <p>
@@ -683,8 +864,13 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		int blSize = boundsListeners.size();
 		int bSize = this.bodies.size();
 		
+		// only call System.nanoTime when profiling
+		this.profiling = this.profiler.isEnabled();
+		long start = this.profiling ? System.nanoTime() : 0;
+		long time = start;
+		
 		// update all fixtures in the broadphase
-		this.broadphaseDetector.update();
+		this.updateBroadphase();
 		
 		// update all AABBs in the broadphase
 		CollisionItemAdapter<T, E> bAdapter = new CollisionItemAdapter<T, E>();
@@ -724,19 +910,220 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 			}
 		}
 		
+		if (this.profiling) {
+			long now = System.nanoTime();
+			this.profiler.addTime(StepPhase.BROADPHASE_UPDATE, now - time);
+			time = now;
+		}
+		
 		// detect broadphase pairs
-		Iterator<CollisionPair<CollisionItem<T, E>>> broadphasePairIterator = this.broadphaseDetector.detectIterator();
-		while(broadphasePairIterator.hasNext()) {
-			// NOTE: since the broadphase reuses the pair object, make sure to make a copy of it
-			CollisionPair<CollisionItem<T, E>> pair = broadphasePairIterator.next().copy();
-			if (!this.collisionData.containsKey(pair)) {
-				this.collisionData.put(pair, this.createCollisionData(pair));
+		PairTrackingBroadphaseDetector<CollisionItem<T, E>> pairTracker = this.getPairTrackingBroadphaseDetector();
+		if (pairTracker != null) {
+			// only apply the pairs that were added or removed since the last detection
+			pairTracker.updatePairs(this.pairListener);
+			// the first time we use the pairs tracked by a broadphase the collision data
+			// could contain pairs from before, so verify all of them one more time
+			this.pairsTracked = this.pairTrackingDetector == this.broadphaseDetector;
+			this.pairTrackingDetector = this.broadphaseDetector;
+		} else {
+			Iterator<CollisionPair<CollisionItem<T, E>>> broadphasePairIterator = this.broadphaseDetector.detectIterator();
+			while(broadphasePairIterator.hasNext()) {
+				// NOTE: since the broadphase reuses the pair object, make sure to make a copy of it
+				CollisionPair<CollisionItem<T, E>> pair = broadphasePairIterator.next().copy();
+				if (!this.collisionData.containsKey(pair)) {
+					this.collisionData.put(pair, this.createCollisionData(pair));
+				}
+			}
+			this.pairsTracked = false;
+			this.pairTrackingDetector = null;
+		}
+		
+		if (this.profiling) {
+			long now = System.nanoTime();
+			this.profiler.addTime(StepPhase.BROADPHASE_DETECT, now - time);
+			this.profiler.addCount(StepCounter.BROADPHASE_PAIRS, this.collisionData.size());
+			// take a snapshot of the detector iteration counts
+			int wSize = this.detectWorkers.size();
+			for (int i = 0; i < wSize; i++) {
+				this.detectWorkers.get(i).beginProfiling();
 			}
 		}
 		
-		this.processCollisions(new DetectIterator(this.collisionData.values().iterator()));
+		if (this.detectExecutor != null && this.detectParallelism > 1 && this.collisionData.size() > 1) {
+			// run the geometric stages in parallel first, then replay the
+			// results in order to notify listeners and process the collisions
+			this.detectInParallel();
+			this.processCollisions(new DetectIterator(this.collisionData.values().iterator(), null, this.detectStates));
+			this.detectCollisions.clear();
+		} else {
+			this.processCollisions(new DetectIterator(this.collisionData.values().iterator(), this.getDetectWorker(0), null));
+		}
 		
+		this.pairsRemoved.clear();
 		this.broadphaseDetector.clearUpdates();
+		
+		if (this.profiling) {
+			int wSize = this.detectWorkers.size();
+			for (int i = 0; i < wSize; i++) {
+				this.detectWorkers.get(i).endProfiling(this.profiler);
+			}
+			this.profiler.addTime(StepPhase.DETECT, System.nanoTime() - start);
+			this.profiling = false;
+		}
+	}
+	
+	/**
+	 * Makes the next detection verify all the collision data and, when the broadphase is tracking
+	 * pairs, report all the overlapping pairs again.
+	 * <p>
+	 * This should be called when the collision data was changed outside of detection.
+	 * @since 6.1.0
+	 */
+	void resetPairTracking() {
+		PairTrackingBroadphaseDetector<CollisionItem<T, E>> pairTracker = this.getPairTrackingBroadphaseDetector();
+		if (pairTracker != null) {
+			pairTracker.setPairTrackingEnabled(false);
+			pairTracker.setPairTrackingEnabled(true);
+		}
+		this.pairTrackingDetector = null;
+		this.pairsTracked = false;
+	}
+	
+	/**
+	 * Returns the broadphase detector if it's a {@link PairTrackingBroadphaseDetector} with pair
+	 * tracking enabled or null otherwise.
+	 * @return {@link PairTrackingBroadphaseDetector}
+	 * @since 6.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	private PairTrackingBroadphaseDetector<CollisionItem<T, E>> getPairTrackingBroadphaseDetector() {
+		if (this.broadphaseDetector instanceof PairTrackingBroadphaseDetector) {
+			PairTrackingBroadphaseDetector<CollisionItem<T, E>> detector = (PairTrackingBroadphaseDetector<CollisionItem<T, E>>)this.broadphaseDetector;
+			if (detector.isPairTrackingEnabled()) {
+				return detector;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Runs the broadphase re-check, narrowphase, narrowphase post-processing and manifold stages
+	 * for all the tracked collision data using the {@link #detectExecutor}.
+	 * <p>
+	 * The result of each collision data is stored in the {@link #detectStates} array, in
+	 * iteration order, so that the results can be replayed on the calling thread.
+	 * @since 6.1.0
+	 */
+	private void detectInParallel() {
+		this.detectCollisions.addAll(this.collisionData.values());
+		
+		int count = this.detectCollisions.size();
+		if (this.detectStates.length < count) {
+			this.detectStates = new byte[count * 2];
+		}
+		
+		// use a few chunks per worker so that workers that finish
+		// early can pick up the slack of the others
+		int chunkSize = Math.max(1, (count + this.detectParallelism * DETECT_CHUNKS_PER_WORKER - 1) / (this.detectParallelism * DETECT_CHUNKS_PER_WORKER));
+		int chunks = (count + chunkSize - 1) / chunkSize;
+		int workers = Math.min(this.detectParallelism, chunks);
+		
+		AtomicInteger next = new AtomicInteger(0);
+		AtomicReference<Throwable> error = new AtomicReference<Throwable>(null);
+		CountDownLatch done = new CountDownLatch(workers - 1);
+		
+		// submit all but one worker to the executor
+		for (int i = 1; i < workers; i++) {
+			DetectTask task = new DetectTask(this.getDetectWorker(i), count, chunkSize, next, error, done);
+			try {
+				this.detectExecutor.execute(task);
+			} catch (RejectedExecutionException e) {
+				// just run it here
+				task.run();
+			}
+		}
+		
+		// the calling thread does its share of the work too
+		new DetectTask(this.getDetectWorker(0), count, chunkSize, next, error, null).run();
+		
+		// we cannot leave until all the workers are done since
+		// they are still modifying the collision data
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		
+		Throwable t = error.get();
+		if (t != null) {
+			this.detectCollisions.clear();
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			} else if (t instanceof Error) {
+				throw (Error)t;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the {@link DetectWorker} for the given worker index.
+	 * <p>
+	 * The worker at index zero always uses this world's detectors.  The other workers use
+	 * copies of the detectors that implement the {@link Copyable} interface.  The workers
+	 * are rebuilt when any of the detectors change.
+	 * @param worker the worker index
+	 * @return {@link DetectWorker}
+	 * @since 6.1.0
+	 */
+	private DetectWorker getDetectWorker(int worker) {
+		if (!this.detectWorkers.isEmpty()) {
+			DetectWorker primary = this.detectWorkers.get(0);
+			if (primary.narrowphaseDetector != this.narrowphaseDetector ||
+				primary.narrowphasePostProcessor != this.narrowphasePostProcessor ||
+				primary.manifoldSolver != this.manifoldSolver) {
+				this.detectWorkers.clear();
+			}
+		}
+		
+		if (this.detectWorkers.isEmpty()) {
+			this.detectWorkers.add(new DetectWorker(this.narrowphaseDetector, this.narrowphasePostProcessor, this.manifoldSolver));
+		}
+		
+		while (this.detectWorkers.size() <= worker) {
+			NarrowphaseDetector detector = copyOf(this.narrowphaseDetector);
+			// a detector that is also the manifold solver must stay one object in the copy
+			ManifoldSolver solver = this.manifoldSolver == this.narrowphaseDetector ? (ManifoldSolver)detector : copyOf(this.manifoldSolver);
+			this.detectWorkers.add(new DetectWorker(
+					detector, 
+					copyOf(this.narrowphasePostProcessor), 
+					solver));
+		}
+		
+		return this.detectWorkers.get(worker);
+	}
+	
+	/**
+	 * Returns a copy of the given object if it implements the {@link Copyable} interface,
+	 * otherwise returns the given object.
+	 * @param <Q> the object type
+	 * @param object the object to copy; can be null
+	 * @return Q
+	 * @since 6.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	private static <Q> Q copyOf(Q object) {
+		if (object instanceof Copyable) {
+			return (Q)((Copyable<?>)object).copy();
+		}
+		return object;
 	}
 	
 	/**
@@ -937,48 +1324,20 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 	 */
 	@Override
 	public RaycastResult<T, E> raycastClosest(Ray ray, double maxLength, DetectFilter<T, E> filter) {
-		// check for the desired length
-		double max = 0.0;
-		if (maxLength > 0.0) {
-			max = maxLength;
-		}
-		
-		// create a raycast result
-		RaycastResult<T, E> result = null;
-		Raycast raycast = new Raycast();
-
-		// filter using the broadphase first
-		Iterator<CollisionItem<T, E>> iterator = this.broadphaseDetector.raycastIterator(ray, maxLength);
+		// let the broadphase report the fixtures in order along the ray
+		// so that it can skip the ones beyond the closest hit so far
+		RaycastClosestListener listener = new RaycastClosestListener(this.raycastDetector);
+		listener.begin(ray, filter);
+		this.broadphaseDetector.raycast(ray, maxLength, listener);
 		
-		while (iterator.hasNext()) {
-			CollisionItem<T, E> item = iterator.next();
-			T body = item.getBody();
-			E fixture = item.getFixture();
-			
-			if (!filter.isAllowed(body, fixture)) {
-				continue;
-			}
-			
-			// get the convex shape
-			Transform transform = body.getTransform();
-			Convex convex = fixture.getShape();
-			
-			// perform the raycast
-			if (this.raycastDetector.raycast(ray, max, convex, transform, raycast)) {
-				if (result == null) {
-					result = new RaycastResult<T, E>();
-				}
-				
-				result.setBody(body);
-				result.setFixture(fixture);
-				result.setRaycast(raycast);
-				
-				// we are only looking for the closest so
-				// set the new maximum
-				max = raycast.getDistance();
-			}
+		if (listener.body == null) {
+			return null;
 		}
 		
+		RaycastResult<T, E> result = new RaycastResult<T, E>();
+		result.setBody(listener.body);
+		result.setFixture(listener.fixture);
+		result.setRaycast(listener.result);
 		return result;
 	}
 	
@@ -1014,7 +1373,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 			// get the convex shape
 			Convex convex = fixture.getShape();
 			// perform the raycast
-			if (this.raycastDetector.raycast(ray, max, convex, transform, raycast)) {
+			if (this.linkShapeDetector.raycast(this.raycastDetector, ray, max, convex, transform, raycast)) {
 				if (result == null) {
 					result = new RaycastResult<T, E>();
 				}
@@ -1033,6 +1392,138 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		return result;
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.CollisionWorld#raycastClosest(org.dyn4j.world.result.RaycastBatch, org.dyn4j.world.DetectFilter)
+	 */
+	@Override
+	public int raycastClosest(RaycastBatch<T, E> batch, DetectFilter<T, E> filter) {
+		if (batch == null) 
+			throw new ArgumentNullException("batch");
+		
+		int count = batch.getCount();
+		if (count == 0) {
+			return 0;
+		}
+		
+		if (this.detectExecutor != null && this.detectParallelism > 1 && count > 1) {
+			// do any deferred work in the broadphase (like sorting) before 
+			// the workers start reading from it at the same time
+			this.prepareBroadphase();
+			return this.raycastInParallel(batch, filter);
+		}
+		
+		RaycastWorker worker = this.getRaycastWorker(0);
+		int hits = 0;
+		for (int i = 0; i < count; i++) {
+			if (worker.raycast(batch, i, filter)) {
+				hits++;
+			}
+		}
+		
+		return hits;
+	}
+	
+	/**
+	 * Performs any deferred work in the broadphase so that it can be queried from multiple
+	 * threads at the same time.
+	 * @see PreparableBroadphaseDetector
+	 * @since 6.1.0
+	 */
+	private void prepareBroadphase() {
+		if (this.broadphaseDetector instanceof PreparableBroadphaseDetector) {
+			((PreparableBroadphaseDetector<?>)this.broadphaseDetector).prepare();
+		}
+	}
+	
+	/**
+	 * Casts the rays of the given batch using the {@link #detectExecutor}.
+	 * @param batch the batch
+	 * @param filter the filter; can be null
+	 * @return int the number of rays that hit something
+	 * @since 6.1.0
+	 */
+	private int raycastInParallel(RaycastBatch<T, E> batch, DetectFilter<T, E> filter) {
+		int count = batch.getCount();
+		
+		// use a few chunks per worker so that workers that finish
+		// early can pick up the slack of the others
+		int chunkSize = Math.max(1, (count + this.detectParallelism * DETECT_CHUNKS_PER_WORKER - 1) / (this.detectParallelism * DETECT_CHUNKS_PER_WORKER));
+		int chunks = (count + chunkSize - 1) / chunkSize;
+		int workers = Math.min(this.detectParallelism, chunks);
+		
+		AtomicInteger next = new AtomicInteger(0);
+		AtomicInteger hits = new AtomicInteger(0);
+		AtomicReference<Throwable> error = new AtomicReference<Throwable>(null);
+		CountDownLatch done = new CountDownLatch(workers - 1);
+		
+		// submit all but one worker to the executor
+		for (int i = 1; i < workers; i++) {
+			RaycastTask task = new RaycastTask(this.getRaycastWorker(i), batch, filter, count, chunkSize, next, hits, error, done);
+			try {
+				this.detectExecutor.execute(task);
+			} catch (RejectedExecutionException e) {
+				// just run it here
+				task.run();
+			}
+		}
+		
+		// the calling thread does its share of the work too
+		new RaycastTask(this.getRaycastWorker(0), batch, filter, count, chunkSize, next, hits, error, null).run();
+		
+		// wait for the workers so that the results are
+		// complete when we return
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		
+		Throwable t = error.get();
+		if (t != null) {
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			} else if (t instanceof Error) {
+				throw (Error)t;
+			}
+		}
+		
+		return hits.get();
+	}
+	
+	/**
+	 * Returns the {@link RaycastWorker} for the given worker index.
+	 * <p>
+	 * The worker at index zero always uses this world's raycast detector.  The other workers
+	 * use copies of the raycast detector if it implements the {@link Copyable} interface.  The
+	 * workers are rebuilt when the raycast detector changes.
+	 * @param worker the worker index
+	 * @return {@link RaycastWorker}
+	 * @since 6.1.0
+	 */
+	private RaycastWorker getRaycastWorker(int worker) {
+		if (!this.raycastWorkers.isEmpty() && this.raycastWorkers.get(0).raycastDetector != this.raycastDetector) {
+			this.raycastWorkers.clear();
+		}
+		
+		if (this.raycastWorkers.isEmpty()) {
+			this.raycastWorkers.add(new RaycastWorker(this.raycastDetector));
+		}
+		
+		while (this.raycastWorkers.size() <= worker) {
+			this.raycastWorkers.add(new RaycastWorker(copyOf(this.raycastDetector)));
+		}
+		
+		return this.raycastWorkers.get(worker);
+	}
+	
 	// convex cast
 
 	/* (non-Javadoc)
@@ -1064,7 +1555,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 			TimeOfImpact toi = new TimeOfImpact();
 			// we pass the zero vector and 0 for the change in position and angle for the body
 			// since we assume that it is not moving since this is a static test
-			if (this.timeOfImpactDetector.getTimeOfImpact(convex, transform, deltaPosition, deltaAngle, c, bodyTransform, dp2, 0.0, 0.0, t2, toi)) {
+			if (this.linkShapeDetector.getTimeOfImpact(this.timeOfImpactDetector, convex, transform, deltaPosition, deltaAngle, c, bodyTransform, dp2, 0.0, 0.0, t2, toi)) {
 				// set the new maximum time
 				t2 = toi.getTime();
 				
@@ -1141,7 +1632,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 			TimeOfImpact timeOfImpact = new TimeOfImpact();
 			// we pass the zero vector and 0 for the change in position and angle for the body
 			// since we assume that it is not moving since this is a static test
-			if (this.timeOfImpactDetector.getTimeOfImpact(
+			if (this.linkShapeDetector.getTimeOfImpact(this.timeOfImpactDetector, 
 					convex, transform, deltaPosition, deltaAngle, 
 					fixtureShape, bodyTransform, dp2, 0.0, 
 					0.0, ft2, timeOfImpact)) {
@@ -1176,13 +1667,30 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		private final List<CollisionListener<T, E>> listeners;
 		private final int clSize;
 		
-		private final CollisionItemAdapter<T, E> adapter1 = new CollisionItemAdapter<T, E>();
-		private final CollisionItemAdapter<T, E> adapter2 = new CollisionItemAdapter<T, E>();
+		/** The worker used to detect collisions on the calling thread; null when replaying */
+		private final DetectWorker worker;
+		
+		/** The results of the parallel detection to replay; null when detecting on the calling thread */
+		private final byte[] states;
+		
+		/** The index of the next result to replay */
+		private int index;
+		
+		/** The collision data removed by the broadphase */
+		private final List<V> removed;
 		
-		public DetectIterator(Iterator<V> iterator) {
+		/** The index of the next removed collision data */
+		private int removedIndex;
+		
+		public DetectIterator(Iterator<V> iterator, DetectWorker worker, byte[] states) {
 			this.iterator = iterator;
+			this.removed = AbstractCollisionWorld.this.pairsRemoved;
+			this.removedIndex = 0;
 			this.listeners = AbstractCollisionWorld.this.collisionListeners;
 			this.clSize = this.listeners.size();
+			this.worker = worker;
+			this.states = states;
+			this.index = 0;
 		}
 		
 		private final boolean isAllowedBroadphase(BroadphaseCollisionData<T, E> data) {
@@ -1229,121 +1737,889 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 		
 		@Override
 		public boolean hasNext() {
-			return this.iterator.hasNext();
+			return this.removedIndex < this.removed.size() || this.iterator.hasNext();
 		}
 
 		@Override
 		public V next() {
-			V collision = this.iterator.next();
-			
-			// get the bodies/fixtures
-			T body1 = collision.getBody1();
-			T body2 = collision.getBody2();
-			E fixture1 = collision.getFixture1();
-			E fixture2 = collision.getFixture2();
+			if (this.removedIndex < this.removed.size()) {
+				// always report back the collisions removed by the broadphase
+				// because we may need to send notifications of "end" contacts
+				V collision = this.removed.get(this.removedIndex++);
+				collision.reset();
+				return collision;
+			}
 			
-			collision.reset();
+			V collision = this.iterator.next();
 			
-			// since the broadphase is a new-overlap-only detection
-			// we need to check every item in the stored set of collisions:
-			//		1. check if they were updated
-			// 		2. if so, then check if their AABBs still overlap
-			this.adapter1.set(body1, fixture1);
-			this.adapter2.set(body2, fixture2);
+			// when replaying, the geometric stages have already been run
+			// for this collision up to the stage stored in the result
+			boolean replay = this.states != null;
+			byte state = replay ? this.states[this.index++] : this.worker.broadphase(collision);
 			
-			// we need to remove the pair if either body/fixture doesn't exist anymore too
-			if (!AbstractCollisionWorld.this.broadphaseDetector.contains(this.adapter1) ||
-				!AbstractCollisionWorld.this.broadphaseDetector.contains(this.adapter2)) {
+			if (state == DETECT_REMOVE) {
+				// remove the collision from the set of collisions
 				this.iterator.remove();
+				// always report back the collision because we may need to send
+				// notifications of "end" contacts
 				return collision;
 			}
 			
-			if (AbstractCollisionWorld.this.broadphaseDetector.isUpdated(this.adapter1) || AbstractCollisionWorld.this.broadphaseDetector.isUpdated(this.adapter2)) {
-				// then we need to verify the pair is still valid
-				boolean overlaps = AbstractCollisionWorld.this.broadphaseDetector.detect(this.adapter1, this.adapter2);
-				if (!overlaps) {
-					// remove the collision from the set of collisions
-					this.iterator.remove();
-					// always report back the collision because we may need to send
-					// notifications of "end" contacts
-					return collision;
-				}
-			}
-			
-			// check broadphase filter conditions
-			if (!AbstractCollisionWorld.this.broadphaseFilter.isAllowed(body1, fixture1, body2, fixture2)) {
+			if (state == DETECT_FILTERED) {
 				return collision;
 			}
 			
 			// check listeners
 			if (!this.isAllowedBroadphase(collision)) {
+				// the narrowphase and manifold could have been run or
+				// reused from the last detection
+				collision.getPenetration().clear();
+				collision.getManifold().clear();
 				return collision;
 			}
 			
 			// it's a legit broadphase collision now
 			collision.setBroadphaseCollision(true);
 			
-			// get the body/fixture data needed for the narrowphase
-			Transform transform1 = body1.getTransform();
-			Transform transform2 = body2.getTransform();
-			Convex convex2 = fixture2.getShape();
-			Convex convex1 = fixture1.getShape();
-
 			// narrowphase detection
-			Penetration penetration = collision.getPenetration();
-			if (AbstractCollisionWorld.this.narrowphaseDetector.detect(convex1, transform1, convex2, transform2, penetration)) {
-				// check for zero penetration
-				if (penetration.getDepth() == 0.0) {
-					// this should only happen if numerical error occurs
-					return collision;
-				}
-				
-				// perform post processing
-				if (AbstractCollisionWorld.this.narrowphasePostProcessor != null) {
-					AbstractCollisionWorld.this.narrowphasePostProcessor.process(convex1, transform1, convex2, transform2, penetration);
-					// should we continue processing this collision?
-					if (penetration.getDepth() == 0.0) {
-						// this happens when the process finds a collision that should not
-						// be handled. In most cases this will be when an object is sliding
-						// across a chain of segments (Links)
-						return collision;
-					}
-				}
-				
-				// notify of the narrow-phase collision
-				if (!isAllowedNarrowphase(collision)) {
-					return collision;
-				}
-
-				// it's a legit narrowphase collision now
-				collision.setNarrowphaseCollision(true);
+			if (!replay) {
+				state = this.worker.narrowphase(collision);
+			}
+			
+			if (state < DETECT_NARROWPHASE) {
+				return collision;
+			}
+			
+			// notify of the narrow-phase collision
+			if (!this.isAllowedNarrowphase(collision)) {
+				// the manifold could have been generated or
+				// reused from the last detection
+				collision.getManifold().clear();
+				return collision;
+			}
+
+			// it's a legit narrowphase collision now
+			collision.setNarrowphaseCollision(true);
+			
+			// manifold generation
+			if (!replay) {
+				state = this.worker.manifold(collision);
+			}
+			
+			if (state < DETECT_MANIFOLD) {
+				return collision;
+			}
+			
+			// notify of the manifold solving result
+			if (!this.isAllowedManifold(collision)) {
+				return collision;
+			}
+			
+			// it's a legit manifold collision now
+			collision.setManifoldCollision(true);
+			
+			return collision;
+		}
+		
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+	
+	/**
+	 * Applies the changes in the pairs tracked by the broadphase to the collision data.
+	 * <p>
+	 * The collision data of removed pairs are stored so that they can be reported one last time.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class CollisionDataPairListener implements BroadphasePairListener<CollisionItem<T, E>> {
+		/* (non-Javadoc)
+		 * @see org.dyn4j.collision.broadphase.BroadphasePairListener#pairAdded(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public void pairAdded(CollisionItem<T, E> first, CollisionItem<T, E> second) {
+			CollisionPair<CollisionItem<T, E>> pair = new BasicCollisionPair<CollisionItem<T, E>>(first, second);
+			if (!AbstractCollisionWorld.this.collisionData.containsKey(pair)) {
+				AbstractCollisionWorld.this.collisionData.put(pair, AbstractCollisionWorld.this.createCollisionData(pair));
+			}
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.dyn4j.collision.broadphase.BroadphasePairListener#pairRemoved(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public void pairRemoved(CollisionItem<T, E> first, CollisionItem<T, E> second) {
+			CollisionPair<CollisionItem<T, E>> pair = new BasicCollisionPair<CollisionItem<T, E>>(first, second);
+			V collision = AbstractCollisionWorld.this.collisionData.remove(pair);
+			// the collision data could have already been removed
+			// by the world, for example, when removing a body
+			if (collision != null) {
+				AbstractCollisionWorld.this.pairsRemoved.add(collision);
+			}
+		}
+	}
+	
+	/**
+	 * Performs the geometric stages of collision detection for {@link CollisionData}.
+	 * <p>
+	 * Each stage returns one of the DETECT_* states.  Listeners are never notified by
+	 * this class so that it can be used from worker threads.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectWorker {
+		/** The narrowphase detector */
+		private final NarrowphaseDetector narrowphaseDetector;
+		
+		/** The narrowphase detector if it supports the {@link NarrowphaseCache}; null otherwise */
+		private final CachingNarrowphaseDetector cachingNarrowphaseDetector;
+		
+		/** The narrowphase post processor; can be null */
+		private final NarrowphasePostProcessor narrowphasePostProcessor;
+		
+		/** The manifold solver */
+		private final ManifoldSolver manifoldSolver;
+		
+		/** Runs the detectors against the links of {@link LinkShape}s */
+		private final LinkShapeDetector linkShapeDetector = new LinkShapeDetector();
+		
+		/** The distance detector for speculative manifolds */
+		private final DistanceDetector distanceDetector;
+		
+		/** The manifold solver for speculative manifolds */
+		private final ClippingManifoldSolver speculativeManifoldSolver = new ClippingManifoldSolver();
+		
+		/** The separation of the current collision when speculative */
+		private final Separation separation = new Separation();
+		
+		/** The maximum separation of the current collision when speculative; zero otherwise */
+		private double speculativeDistance;
+		
+		/** Reusable collision item for the first body/fixture */
+		private final CollisionItemAdapter<T, E> adapter1 = new CollisionItemAdapter<T, E>();
+
+		/** Reusable collision item for the second body/fixture */
+		private final CollisionItemAdapter<T, E> adapter2 = new CollisionItemAdapter<T, E>();
+		
+		/** True if the penetration and manifold of the current collision are reused from the last detection */
+		private boolean reuse;
+		
+		/** The narrowphase detector if it's a {@link Gjk}; null otherwise */
+		private final Gjk gjk;
+		
+		/** The penetration solver of the {@link Gjk} if it's an {@link Epa}; null otherwise */
+		private final Epa epa;
+		
+		/** The narrowphase time in nanoseconds since profiling began */
+		private long narrowphaseTime;
+		
+		/** The manifold time in nanoseconds since profiling began */
+		private long manifoldTime;
+		
+		/** The number of narrowphase collisions since profiling began */
+		private long narrowphaseCollisions;
+		
+		/** The {@link Gjk} iteration count when profiling began */
+		private long gjkIterations;
+		
+		/** The {@link Epa} iteration count when profiling began */
+		private long epaIterations;
+		
+		/**
+		 * Full constructor.
+		 * @param narrowphaseDetector the narrowphase detector
+		 * @param narrowphasePostProcessor the narrowphase post processor; can be null
+		 * @param manifoldSolver the manifold solver
+		 */
+		public DetectWorker(NarrowphaseDetector narrowphaseDetector, NarrowphasePostProcessor narrowphasePostProcessor, ManifoldSolver manifoldSolver) {
+			this.narrowphaseDetector = narrowphaseDetector;
+			this.cachingNarrowphaseDetector = narrowphaseDetector instanceof CachingNarrowphaseDetector ? (CachingNarrowphaseDetector)narrowphaseDetector : null;
+			this.narrowphasePostProcessor = narrowphasePostProcessor;
+			this.manifoldSolver = manifoldSolver;
+			this.gjk = narrowphaseDetector instanceof Gjk ? (Gjk)narrowphaseDetector : null;
+			this.epa = this.gjk != null && this.gjk.getMinkowskiPenetrationSolver() instanceof Epa ? (Epa)this.gjk.getMinkowskiPenetrationSolver() : null;
+			this.distanceDetector = narrowphaseDetector instanceof DistanceDetector ? (DistanceDetector)narrowphaseDetector : new Gjk();
+			this.beginProfiling();
+		}
+		
+		/**
+		 * Clears the profiling data and takes a snapshot of the detector iteration counts.
+		 */
+		public void beginProfiling() {
+			this.narrowphaseTime = 0;
+			this.manifoldTime = 0;
+			this.narrowphaseCollisions = 0;
+			this.gjkIterations = this.gjk != null ? this.gjk.getDetectIterationCount() : 0;
+			this.epaIterations = this.epa != null ? this.epa.getIterationCount() : 0;
+		}
+		
+		/**
+		 * Adds the profiling data since {@link #beginProfiling()} to the given profiler.
+		 * @param profiler the profiler
+		 */
+		public void endProfiling(StepProfiler profiler) {
+			profiler.addTime(StepPhase.NARROWPHASE, this.narrowphaseTime);
+			profiler.addTime(StepPhase.MANIFOLD, this.manifoldTime);
+			profiler.addCount(StepCounter.NARROWPHASE_COLLISIONS, this.narrowphaseCollisions);
+			if (this.gjk != null) {
+				profiler.addCount(StepCounter.GJK_ITERATIONS, this.gjk.getDetectIterationCount() - this.gjkIterations);
+			}
+			if (this.epa != null) {
+				profiler.addCount(StepCounter.EPA_ITERATIONS, this.epa.getIterationCount() - this.epaIterations);
+			}
+			this.beginProfiling();
+		}
+		
+		/**
+		 * Runs all the stages for the given collision stopping at the first stage
+		 * that fails.
+		 * @param collision the collision data
+		 * @return byte the last stage reached
+		 */
+		public byte detect(V collision) {
+			byte state = this.broadphase(collision);
+			if (state != DETECT_BROADPHASE) {
+				return state;
+			}
+			
+			state = this.narrowphase(collision);
+			if (state != DETECT_NARROWPHASE) {
+				return state;
+			}
+			
+			return this.manifold(collision);
+		}
+		
+		/**
+		 * Resets the given collision and verifies the pair is still valid.
+		 * <p>
+		 * The penetration and manifold are kept if they can be reused.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_REMOVE}, {@link #DETECT_FILTERED} or {@link #DETECT_BROADPHASE}
+		 * @see AbstractCollisionWorld#isManifoldReusable(CollisionData)
+		 */
+		public byte broadphase(V collision) {
+			this.reuse = collision.isManifoldCollision() && AbstractCollisionWorld.this.isManifoldReusable(collision);
+			if (this.reuse) {
+				collision.setBroadphaseCollision(false);
+				collision.setNarrowphaseCollision(false);
+				collision.setManifoldCollision(false);
+			} else {
+				collision.reset();
+			}
+			
+			byte state = this.verify(collision);
+			if (state != DETECT_BROADPHASE && this.reuse) {
+				// report the collision the same as if it had been reset
+				collision.getPenetration().clear();
+				collision.getManifold().clear();
+				this.reuse = false;
+			}
+			
+			return state;
+		}
+		
+		/**
+		 * Verifies the pair of the given collision is still valid.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_REMOVE}, {@link #DETECT_FILTERED} or {@link #DETECT_BROADPHASE}
+		 */
+		private byte verify(V collision) {
+			// get the bodies/fixtures
+			T body1 = collision.getBody1();
+			T body2 = collision.getBody2();
+			E fixture1 = collision.getFixture1();
+			E fixture2 = collision.getFixture2();
+			
+			// the pairs that no longer overlap or whose items were removed
+			// have already been removed when the pairs are being tracked
+			if (AbstractCollisionWorld.this.pairsTracked) {
+				if (!AbstractCollisionWorld.this.broadphaseFilter.isAllowed(body1, fixture1, body2, fixture2)) {
+					return DETECT_FILTERED;
+				}
+				return DETECT_BROADPHASE;
+			}
+			
+			// since the broadphase is a new-overlap-only detection
+			// we need to check every item in the stored set of collisions:
+			//		1. check if they were updated
+			// 		2. if so, then check if their AABBs still overlap
+			this.adapter1.set(body1, fixture1);
+			this.adapter2.set(body2, fixture2);
+			
+			// we need to remove the pair if either body/fixture doesn't exist anymore too
+			if (!AbstractCollisionWorld.this.broadphaseDetector.contains(this.adapter1) ||
+				!AbstractCollisionWorld.this.broadphaseDetector.contains(this.adapter2)) {
+				return DETECT_REMOVE;
+			}
+			
+			if (AbstractCollisionWorld.this.broadphaseDetector.isUpdated(this.adapter1) || AbstractCollisionWorld.this.broadphaseDetector.isUpdated(this.adapter2)) {
+				// then we need to verify the pair is still valid
+				boolean overlaps = AbstractCollisionWorld.this.broadphaseDetector.detect(this.adapter1, this.adapter2);
+				if (!overlaps) {
+					return DETECT_REMOVE;
+				}
+			}
+			
+			// check broadphase filter conditions
+			if (!AbstractCollisionWorld.this.broadphaseFilter.isAllowed(body1, fixture1, body2, fixture2)) {
+				return DETECT_FILTERED;
+			}
+			
+			return DETECT_BROADPHASE;
+		}
+		
+		/**
+		 * Performs narrowphase detection and post processing on the given collision
+		 * recording the time spent when profiling.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_BROADPHASE} or {@link #DETECT_NARROWPHASE}
+		 */
+		public byte narrowphase(V collision) {
+			if (!AbstractCollisionWorld.this.profiling) {
+				return this.detectNarrowphase(collision);
+			}
+			
+			long start = System.nanoTime();
+			byte state = this.detectNarrowphase(collision);
+			this.narrowphaseTime += System.nanoTime() - start;
+			if (state == DETECT_NARROWPHASE) {
+				this.narrowphaseCollisions++;
+			}
+			return state;
+		}
+		
+		/**
+		 * Performs narrowphase detection and post processing on the given collision.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_BROADPHASE} or {@link #DETECT_NARROWPHASE}
+		 */
+		private byte detectNarrowphase(V collision) {
+			// the penetration from the last detection is still valid
+			if (this.reuse) {
+				return DETECT_NARROWPHASE;
+			}
+			
+			this.speculativeDistance = 0.0;
+			
+			T body1 = collision.getBody1();
+			T body2 = collision.getBody2();
+			
+			// get the body/fixture data needed for the narrowphase
+			Transform transform1 = body1.getTransform();
+			Transform transform2 = body2.getTransform();
+			Convex convex2 = collision.getFixture2().getShape();
+			Convex convex1 = collision.getFixture1().getShape();
+
+			// narrowphase detection
+			Penetration penetration = collision.getPenetration();
+			if (LinkShapeDetector.isLinkShape(convex1, convex2)) {
+				// only the links near the other shape are detected and
+				// each link is post processed on its own
+				if (this.linkShapeDetector.detect(this.narrowphaseDetector, this.narrowphasePostProcessor, convex1, transform1, convex2, transform2, penetration) &&
+					penetration.getDepth() != 0.0) {
+					return DETECT_NARROWPHASE;
+				}
 				
-				// if there is penetration then find a contact manifold
-				// using the filled in penetration object
-				Manifold manifold = collision.getManifold();
-				if (AbstractCollisionWorld.this.manifoldSolver.getManifold(penetration, convex1, transform1, convex2, transform2, manifold)) {
-					// check for zero points
-					if (manifold.getPoints().size() == 0) {
-						// this should only happen if numerical error occurs
-						return collision;
+				// the links could still be close enough for a speculative manifold
+				return this.detectSpeculative(collision, convex1, transform1, convex2, transform2);
+			}
+			
+			boolean detected;
+			if (this.cachingNarrowphaseDetector != null && collision instanceof WorldCollisionData) {
+				// use the pair's cache to take advantage of temporal coherence
+				NarrowphaseCache cache = ((WorldCollisionData<?>)collision).getNarrowphaseCache();
+				detected = this.cachingNarrowphaseDetector.detect(convex1, transform1, convex2, transform2, penetration, cache);
+			} else {
+				detected = this.narrowphaseDetector.detect(convex1, transform1, convex2, transform2, penetration);
+			}
+			
+			if (detected) {
+				// check for zero penetration
+				if (penetration.getDepth() == 0.0) {
+					// this should only happen if numerical error occurs
+					return DETECT_BROADPHASE;
+				}
+				
+				// perform post processing
+				if (this.narrowphasePostProcessor != null) {
+					this.narrowphasePostProcessor.process(convex1, transform1, convex2, transform2, penetration);
+					// should we continue processing this collision?
+					if (penetration.getDepth() == 0.0) {
+						// this happens when the process finds a collision that should not
+						// be handled. In most cases this will be when an object is sliding
+						// across a chain of segments (Links)
+						return DETECT_BROADPHASE;
 					}
-					
-					// notify of the manifold solving result
-					if (!isAllowedManifold(collision)) {
-						return collision;
+				}
+				
+				return DETECT_NARROWPHASE;
+			}
+			
+			// the fixtures could still be close enough for a speculative manifold
+			return this.detectSpeculative(collision, convex1, transform1, convex2, transform2);
+		}
+		
+		/**
+		 * Tests whether the given separated fixtures are close enough for a speculative manifold.
+		 * @param collision the collision data
+		 * @param convex1 the first convex
+		 * @param transform1 the first convex's transform
+		 * @param convex2 the second convex
+		 * @param transform2 the second convex's transform
+		 * @return byte {@link #DETECT_BROADPHASE} or {@link #DETECT_NARROWPHASE}
+		 * @see AbstractCollisionWorld#getSpeculativeDistance(CollisionData)
+		 */
+		private byte detectSpeculative(V collision, Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+			double maximumDistance = AbstractCollisionWorld.this.getSpeculativeDistance(collision);
+			if (maximumDistance <= 0.0) {
+				return DETECT_BROADPHASE;
+			}
+			
+			Separation separation = this.separation;
+			separation.clear();
+			if (!this.linkShapeDetector.distance(this.distanceDetector, maximumDistance, convex1, transform1, convex2, transform2, separation)) {
+				return DETECT_BROADPHASE;
+			}
+			
+			// report the separation as a negative penetration
+			Penetration penetration = collision.getPenetration();
+			penetration.setNormal(separation.getNormal());
+			penetration.setDepth(-separation.getDistance());
+			
+			this.speculativeDistance = maximumDistance;
+			return DETECT_NARROWPHASE;
+		}
+		
+		/**
+		 * Generates the contact manifold for the given collision recording the
+		 * time spent when profiling.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_NARROWPHASE} or {@link #DETECT_MANIFOLD}
+		 */
+		public byte manifold(V collision) {
+			if (!AbstractCollisionWorld.this.profiling) {
+				return this.generateManifold(collision);
+			}
+			
+			long start = System.nanoTime();
+			byte state = this.generateManifold(collision);
+			this.manifoldTime += System.nanoTime() - start;
+			return state;
+		}
+		
+		/**
+		 * Generates the contact manifold for the given collision.
+		 * @param collision the collision data
+		 * @return byte {@link #DETECT_NARROWPHASE} or {@link #DETECT_MANIFOLD}
+		 */
+		private byte generateManifold(V collision) {
+			// the manifold from the last detection is still valid
+			if (this.reuse) {
+				return DETECT_MANIFOLD;
+			}
+			
+			// if there is penetration then find a contact manifold
+			// using the filled in penetration object
+			Manifold manifold = collision.getManifold();
+			if (this.speculativeDistance > 0.0) {
+				if (this.linkShapeDetector.getManifold(this.speculativeManifoldSolver,
+						this.separation, 
+						this.speculativeDistance, 
+						collision.getFixture1().getShape(), 
+						collision.getBody1().getTransform(), 
+						collision.getFixture2().getShape(), 
+						collision.getBody2().getTransform(), 
+						manifold)) {
+					return DETECT_MANIFOLD;
+				}
+				
+				return DETECT_NARROWPHASE;
+			}
+			
+			if (this.linkShapeDetector.getManifold(this.manifoldSolver,
+					collision.getPenetration(), 
+					collision.getFixture1().getShape(), 
+					collision.getBody1().getTransform(), 
+					collision.getFixture2().getShape(), 
+					collision.getBody2().getTransform(), 
+					manifold)) {
+				// check for zero points
+				if (manifold.getPoints().size() == 0) {
+					// this should only happen if numerical error occurs
+					return DETECT_NARROWPHASE;
+				}
+				
+				return DETECT_MANIFOLD;
+			}
+			
+			return DETECT_NARROWPHASE;
+		}
+	}
+	
+	/**
+	 * Runs the {@link DetectWorker} on chunks of the {@link AbstractCollisionWorld#detectCollisions}
+	 * until there are none left.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class DetectTask implements Runnable {
+		/** The worker */
+		private final DetectWorker worker;
+		
+		/** The number of collisions */
+		private final int count;
+		
+		/** The number of collisions in each chunk */
+		private final int chunkSize;
+		
+		/** The index of the next chunk */
+		private final AtomicInteger next;
+		
+		/** The first error thrown by any worker */
+		private final AtomicReference<Throwable> error;
+		
+		/** The latch to count down when finished; null for the calling thread */
+		private final CountDownLatch done;
+		
+		/**
+		 * Full constructor.
+		 * @param worker the worker
+		 * @param count the number of collisions
+		 * @param chunkSize the number of collisions in each chunk
+		 * @param next the index of the next chunk
+		 * @param error the first error thrown by any worker
+		 * @param done the latch to count down when finished; can be null
+		 */
+		public DetectTask(DetectWorker worker, int count, int chunkSize, AtomicInteger next, AtomicReference<Throwable> error, CountDownLatch done) {
+			this.worker = worker;
+			this.count = count;
+			this.chunkSize = chunkSize;
+			this.next = next;
+			this.error = error;
+			this.done = done;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				List<V> collisions = AbstractCollisionWorld.this.detectCollisions;
+				byte[] states = AbstractCollisionWorld.this.detectStates;
+				
+				int start = this.next.getAndIncrement() * this.chunkSize;
+				while (start < this.count && this.error.get() == null) {
+					int end = Math.min(start + this.chunkSize, this.count);
+					for (int i = start; i < end; i++) {
+						states[i] = this.worker.detect(collisions.get(i));
 					}
-					
-					// it's a legit manifold collision now
-					collision.setManifoldCollision(true);
+					start = this.next.getAndIncrement() * this.chunkSize;
+				}
+			} catch (Throwable t) {
+				this.error.compareAndSet(null, t);
+			} finally {
+				if (this.done != null) {
+					this.done.countDown();
 				}
 			}
+		}
+	}
+	
+	/**
+	 * Holds the working objects used to cast the rays of a {@link RaycastBatch} so 
+	 * that each worker thread has its own.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class RaycastWorker {
+		/** The raycast detector */
+		private final RaycastDetector raycastDetector;
+		
+		/** The reusable ray */
+		private final Ray ray;
+		
+		/** The reusable broadphase listener */
+		private final RaycastClosestListener listener;
+		
+		/**
+		 * Minimal constructor.
+		 * @param raycastDetector the raycast detector
+		 */
+		public RaycastWorker(RaycastDetector raycastDetector) {
+			this.raycastDetector = raycastDetector;
+			this.ray = new Ray(new Vector2(), new Vector2(1.0, 0.0));
+			this.listener = new RaycastClosestListener(raycastDetector);
+		}
+		
+		/**
+		 * Casts the ray at the given index of the batch and stores the closest hit in the batch.
+		 * @param batch the batch
+		 * @param index the index of the ray
+		 * @param filter the filter; can be null
+		 * @return boolean true if the ray hit something
+		 */
+		public boolean raycast(RaycastBatch<T, E> batch, int index, DetectFilter<T, E> filter) {
+			batch.clearResult(index);
 			
-			return collision;
+			double[] starts = batch.getStarts();
+			double[] directions = batch.getDirections();
+			int i2 = index * 2;
+			
+			// a zero direction can't hit anything
+			double dx = directions[i2];
+			double dy = directions[i2 + 1];
+			double mag = Math.sqrt(dx * dx + dy * dy);
+			if (mag <= Epsilon.E) {
+				return false;
+			}
+			
+			Ray ray = this.ray;
+			ray.getStart().set(starts[i2], starts[i2 + 1]);
+			ray.getDirectionVector().set(dx / mag, dy / mag);
+			
+			RaycastClosestListener listener = this.listener;
+			listener.begin(ray, filter);
+			AbstractCollisionWorld.this.broadphaseDetector.raycast(ray, batch.getLengths()[index], listener);
+			
+			if (listener.body != null) {
+				Raycast raycast = listener.result;
+				Vector2 p = raycast.getPoint();
+				Vector2 n = raycast.getNormal();
+				batch.setResult(index, listener.body, listener.fixture, raycast.getDistance(), p.x, p.y, n.x, n.y);
+				
+				// don't hold onto the body/fixture
+				listener.body = null;
+				listener.fixture = null;
+				return true;
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * Performs the narrowphase raycast for the fixtures reported by a closest-hit
+	 * broadphase raycast and tracks the closest hit.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class RaycastClosestListener implements BroadphaseRaycastListener<CollisionItem<T, E>> {
+		/** The raycast detector */
+		private final RaycastDetector raycastDetector;
+		
+		/** Runs the raycast detector against the links of {@link LinkShape}s */
+		private final LinkShapeDetector linkShapeDetector;
+		
+		/** The working raycast */
+		private final Raycast raycast;
+		
+		/** The reusable fixture AABB */
+		private final AABB aabb;
+		
+		/** The ray */
+		private Ray ray;
+		
+		/** The filter; can be null */
+		private DetectFilter<T, E> filter;
+		
+		/** Precomputed 1/x of the ray direction */
+		private double invDx;
+		
+		/** Precomputed 1/y of the ray direction */
+		private double invDy;
+		
+		/** The body of the closest hit; null if nothing was hit */
+		private T body;
+		
+		/** The fixture of the closest hit; null if nothing was hit */
+		private E fixture;
+		
+		/** The closest hit */
+		private final Raycast result;
+		
+		/**
+		 * Minimal constructor.
+		 * @param raycastDetector the raycast detector
+		 */
+		public RaycastClosestListener(RaycastDetector raycastDetector) {
+			this.raycastDetector = raycastDetector;
+			this.linkShapeDetector = new LinkShapeDetector();
+			this.raycast = new Raycast();
+			this.aabb = new AABB(0, 0, 0, 0);
+			this.result = new Raycast();
 		}
 		
+		/**
+		 * Prepares this listener for a new raycast.
+		 * @param ray the ray
+		 * @param filter the filter; can be null
+		 */
+		public void begin(Ray ray, DetectFilter<T, E> filter) {
+			Vector2 d = ray.getDirectionVector();
+			this.ray = ray;
+			this.filter = filter;
+			this.invDx = 1.0 / d.x;
+			this.invDy = 1.0 / d.y;
+			this.body = null;
+			this.fixture = null;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.dyn4j.collision.broadphase.BroadphaseRaycastListener#raycast(java.lang.Object, double)
+		 */
 		@Override
-		public void remove() {
-			throw new UnsupportedOperationException();
+		public double raycast(CollisionItem<T, E> item, double length) {
+			T body = item.getBody();
+			E fixture = item.getFixture();
+			
+			if (this.filter != null && !this.filter.isAllowed(body, fixture)) {
+				return length;
+			}
+			
+			Transform transform = body.getTransform();
+			Convex convex = fixture.getShape();
+			
+			// once we have a hit, skip any fixture that's entirely
+			// farther along the ray than the hit
+			if (this.body != null) {
+				convex.computeAABB(transform, this.aabb);
+				if (!this.raycast(this.ray.getStart(), length, this.aabb)) {
+					return length;
+				}
+			}
+			
+			if (this.linkShapeDetector.raycast(this.raycastDetector, this.ray, length, convex, transform, this.raycast)) {
+				this.body = body;
+				this.fixture = fixture;
+				this.result.set(this.raycast);
+				
+				// we are only looking for the closest so
+				// shorten the ray to the hit
+				return this.raycast.getDistance();
+			}
+			
+			return length;
+		}
+		
+		/**
+		 * Returns true if the ray intersects the given AABB within the given length.
+		 * @param start the start point of the ray
+		 * @param length the length of the ray
+		 * @param aabb the AABB
+		 * @return boolean
+		 */
+		private boolean raycast(Vector2 start, double length, AABB aabb) {
+			double tx1 = (aabb.getMinX() - start.x) * this.invDx;
+			double tx2 = (aabb.getMaxX() - start.x) * this.invDx;
+			
+			double tmin = Math.min(tx1, tx2);
+			double tmax = Math.max(tx1, tx2);
+			
+			double ty1 = (aabb.getMinY() - start.y) * this.invDy;
+			double ty2 = (aabb.getMaxY() - start.y) * this.invDy;
+			
+			tmin = Math.max(tmin, Math.min(ty1, ty2));
+			tmax = Math.min(tmax, Math.max(ty1, ty2));
+			
+			if (tmax < 0) return false;
+			if (tmin > length) return false;
+			return tmax >= tmin;
+		}
+	}
+	
+	/**
+	 * Runs the {@link RaycastWorker} on chunks of the rays of a {@link RaycastBatch}
+	 * until there are none left.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class RaycastTask implements Runnable {
+		/** The worker */
+		private final RaycastWorker worker;
+		
+		/** The batch */
+		private final RaycastBatch<T, E> batch;
+		
+		/** The filter; can be null */
+		private final DetectFilter<T, E> filter;
+		
+		/** The number of rays to cast */
+		private final int count;
+		
+		/** The number of rays in each chunk */
+		private final int chunkSize;
+		
+		/** The index of the next chunk */
+		private final AtomicInteger next;
+		
+		/** The number of rays that hit something */
+		private final AtomicInteger hits;
+		
+		/** The first error thrown by any worker */
+		private final AtomicReference<Throwable> error;
+		
+		/** The latch to count down when finished; null for the calling thread */
+		private final CountDownLatch done;
+		
+		/**
+		 * Full constructor.
+		 * @param worker the worker
+		 * @param batch the batch
+		 * @param filter the filter; can be null
+		 * @param count the number of rays to cast
+		 * @param chunkSize the number of rays in each chunk
+		 * @param next the index of the next chunk
+		 * @param hits the number of rays that hit something
+		 * @param error the first error thrown by any worker
+		 * @param done the latch to count down when finished; can be null
+		 */
+		public RaycastTask(RaycastWorker worker, RaycastBatch<T, E> batch, DetectFilter<T, E> filter, int count, int chunkSize, AtomicInteger next, AtomicInteger hits, AtomicReference<Throwable> error, CountDownLatch done) {
+			this.worker = worker;
+			this.batch = batch;
+			this.filter = filter;
+			this.count = count;
+			this.chunkSize = chunkSize;
+			this.next = next;
+			this.hits = hits;
+			this.error = error;
+			this.done = done;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				int hits = 0;
+				int start = this.next.getAndIncrement() * this.chunkSize;
+				while (start < this.count && this.error.get() == null) {
+					int end = Math.min(start + this.chunkSize, this.count);
+					for (int i = start; i < end; i++) {
+						if (this.worker.raycast(this.batch, i, this.filter)) {
+							hits++;
+						}
+					}
+					start = this.next.getAndIncrement() * this.chunkSize;
+				}
+				this.hits.addAndGet(hits);
+			} catch (Throwable t) {
+				this.error.compareAndSet(null, t);
+			} finally {
+				if (this.done != null) {
+					this.done.countDown();
+				}
+			}
 		}
 	}
 	
@@ -1628,7 +2904,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 				Convex convex1 = fixture.getShape();
 				Transform transform1 = body.getTransform();
 				
-				if (AbstractCollisionWorld.this.narrowphaseDetector.detect(convex1, transform1, this.convex, this.transform, this.nextResult.getPenetration())) {
+				if (AbstractCollisionWorld.this.linkShapeDetector.detect(AbstractCollisionWorld.this.narrowphaseDetector, null, convex1, transform1, this.convex, this.transform, this.nextResult.getPenetration())) {
 					this.nextResult.setBody(body);
 					this.nextResult.setFixture(fixture);
 				}
@@ -1711,7 +2987,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 					Convex convex1 = fixture.getShape();
 					Transform transform1 = this.body.getTransform();
 					
-					if (AbstractCollisionWorld.this.narrowphaseDetector.detect(convex1, transform1, this.convex, this.transform, this.nextResult.getPenetration())) {
+					if (AbstractCollisionWorld.this.linkShapeDetector.detect(AbstractCollisionWorld.this.narrowphaseDetector, null, convex1, transform1, this.convex, this.transform, this.nextResult.getPenetration())) {
 						this.nextResult.setBody(this.body);
 						this.nextResult.setFixture(fixture);
 					}
@@ -1798,7 +3074,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 				Convex convex = fixture.getShape();
 				
 				// perform the raycast
-				if (AbstractCollisionWorld.this.raycastDetector.raycast(this.ray, this.max, convex, transform, this.nextResult.getRaycast())) {
+				if (AbstractCollisionWorld.this.linkShapeDetector.raycast(AbstractCollisionWorld.this.raycastDetector, this.ray, this.max, convex, transform, this.nextResult.getRaycast())) {
 					// we found a collision to report
 					this.nextResult.setBody(body);
 					this.nextResult.setFixture(fixture);
@@ -1885,7 +3161,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 				Convex convex = fixture.getShape();
 				
 				// perform the raycast
-				if (AbstractCollisionWorld.this.raycastDetector.raycast(this.ray, this.max, convex, transform, this.nextResult.getRaycast())) {
+				if (AbstractCollisionWorld.this.linkShapeDetector.raycast(AbstractCollisionWorld.this.raycastDetector, this.ray, this.max, convex, transform, this.nextResult.getRaycast())) {
 					// we found a collision to report
 					this.nextResult.setBody(this.body);
 					this.nextResult.setFixture(fixture);
@@ -1992,7 +3268,7 @@ public abstract class AbstractCollisionWorld<T extends CollisionBody<E>, E exten
 				Convex c = fixture.getShape();
 				// we pass the zero vector and 0 for the change in position and angle for the body
 				// since we assume that it is not moving since this is a static test
-				if (AbstractCollisionWorld.this.timeOfImpactDetector.getTimeOfImpact(
+				if (AbstractCollisionWorld.this.linkShapeDetector.getTimeOfImpact(AbstractCollisionWorld.this.timeOfImpactDetector, 
 						this.convex, this.transform, this.deltaPosition, this.deltaAngle, 
 						c, bodyTransform, dp2, 0.0, 
 						0.0, 1.0, this.nextResult.getTimeOfImpact())) {
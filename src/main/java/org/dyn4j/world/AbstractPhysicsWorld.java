@@ -25,16 +25,23 @@
 package org.dyn4j.world;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.dyn4j.DataContainer;
+import org.dyn4j.Restorable;
+import org.dyn4j.collision.BasicCollisionItem;
+import org.dyn4j.collision.BasicCollisionPair;
+import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.collision.CollisionPair;
 import org.dyn4j.collision.Collisions;
 import org.dyn4j.collision.Filter;
@@ -91,7 +98,7 @@ import org.dyn4j.world.listener.TimeOfImpactListener;
  * more than one world. Likewise, the {@link Joint#setOwner(Object)} method is used to handle
  * joints being added to the world. Callers should <b>NOT</b> use the methods.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link PhysicsBody} type
  * @param <V> the {@link ContactCollisionData} type
@@ -158,6 +165,15 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 	/** True if an update to the collision data or interaction graph is needed before a step of the engine */
 	protected boolean updateRequired;
 	
+	/** True if a snapshot was restored since the last collision detection */
+	private boolean snapshotRestored;
+	
+	/** The body at each index of the body list when the broadphase was last updated */
+	private Object[] broadphaseBodies;
+	
+	/** The transform version of each of the {@link #broadphaseBodies} when it was last updated */
+	private long[] broadphaseVersions;
+	
 	// collision tracking
 	
 	/** The constraint graph between bodies */
@@ -169,6 +185,38 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 	/** The full set of tracked CCD collision data */
 	protected final Set<CollisionPair<T>> ccdCollisionData;
 	
+	/** The moving bodies that need continuous collision detection; cleared and refilled each step */
+	private final List<T> toiCandidates;
+	
+	/** The swept {@link AABB}s of the {@link #toiCandidates}; reused between steps */
+	private final List<AABB> toiSweptAABBs;
+	
+	/** The other bodies that moved during the step; cleared and refilled each step */
+	private final List<T> toiMovers;
+	
+	/** The swept {@link AABB}s of the {@link #toiMovers}; reused between steps */
+	private final List<AABB> toiMoverSweptAABBs;
+	
+	/** The bodies already paired with the current candidate; cleared for each candidate */
+	private final Set<T> toiPaired;
+	
+	// snapshots
+	
+	/** The index of each body in the body list; rebuilt when the bodies change */
+	private final Map<T, Integer> snapshotBodyIndices;
+	
+	/** The collision data in the order they are restored from a snapshot (reused) */
+	private final List<V> snapshotCollisions;
+	
+	/** The first item of {@link #snapshotPair} */
+	private final CollisionItemAdapter<T, BodyFixture> snapshotItem1;
+	
+	/** The second item of {@link #snapshotPair} */
+	private final CollisionItemAdapter<T, BodyFixture> snapshotItem2;
+	
+	/** The pair used to find the collision data of a saved pair */
+	private final CollisionPair<CollisionItem<T, BodyFixture>> snapshotPair;
+	
 	/**
 	 * Default constructor.
 	 * <p>
@@ -238,7 +286,20 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		this.constraintGraph = new ConstraintGraph<T>(initialBodyCapacity, initialJointCapacity);
 		this.contactCollisions = new ArrayList<V>(estimatedCollisionPairs);
 		this.ccdCollisionData = new LinkedHashSet<CollisionPair<T>>();
+		this.toiCandidates = new ArrayList<T>();
+		this.toiSweptAABBs = new ArrayList<AABB>();
+		this.toiMovers = new ArrayList<T>();
+		this.toiMoverSweptAABBs = new ArrayList<AABB>();
+		this.toiPaired = new HashSet<T>();
+		this.snapshotBodyIndices = new HashMap<T, Integer>();
+		this.snapshotCollisions = new ArrayList<V>();
+		this.snapshotItem1 = new CollisionItemAdapter<T, BodyFixture>();
+		this.snapshotItem2 = new CollisionItemAdapter<T, BodyFixture>();
+		this.snapshotPair = new BasicCollisionPair<CollisionItem<T, BodyFixture>>(this.snapshotItem1, this.snapshotItem2);
 		this.updateRequired = true;
+		this.snapshotRestored = false;
+		this.broadphaseBodies = new Object[0];
+		this.broadphaseVersions = new long[0];
 	}
 	
 	/* (non-Javadoc)
@@ -340,7 +401,10 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 	public void addBody(T body) {
 		super.addBody(body);
 		this.constraintGraph.addBody(body);
-		this.ccdBroadphase.add(body);
+		// the CCD broadphase isn't maintained when the discrete broadphase is used
+		if (!this.settings.isContinuousDetectionUnifiedBroadphaseEnabled()) {
+			this.ccdBroadphase.add(body);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -905,6 +969,240 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		}
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#getStepProfiler()
+	 */
+	@Override
+	public StepProfiler getStepProfiler() {
+		return this.profiler;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#saveSnapshot(org.dyn4j.world.WorldSnapshot)
+	 */
+	@Override
+	public void saveSnapshot(WorldSnapshot snapshot) {
+		if (snapshot == null)
+			throw new ArgumentNullException("snapshot");
+		
+		snapshot.clear();
+		
+		snapshot.save(this.time);
+		snapshot.save(this.timeStep.getPrevousDeltaTime());
+		snapshot.save(this.timeStep.getDeltaTime());
+		
+		int bSize = this.bodies.size();
+		for (int i = 0; i < bSize; i++) {
+			T body = this.bodies.get(i);
+			if (body instanceof Restorable) {
+				snapshot.save((Restorable)body);
+			}
+		}
+		snapshot.bodyCount = bSize;
+		
+		int jSize = this.joints.size();
+		for (int i = 0; i < jSize; i++) {
+			Joint<T> joint = this.joints.get(i);
+			if (joint instanceof Restorable) {
+				snapshot.save((Restorable)joint);
+			}
+		}
+		snapshot.jointCount = jSize;
+		
+		// the pairs are saved in the order they are tracked by the indices
+		// of their bodies and fixtures so they can be recreated if needed
+		if (this.snapshotBodyIndices.size() != bSize) {
+			this.updateSnapshotBodyIndices();
+		}
+		for (V data : this.collisionData.values()) {
+			T body1 = data.getBody1();
+			T body2 = data.getBody2();
+			snapshot.save(
+				this.getSnapshotBodyIndex(body1), 
+				getFixtureIndex(body1, data.getFixture1()), 
+				this.getSnapshotBodyIndex(body2), 
+				getFixtureIndex(body2, data.getFixture2()), 
+				data.getContactConstraint());
+		}
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#restoreSnapshot(org.dyn4j.world.WorldSnapshot)
+	 */
+	@Override
+	public void restoreSnapshot(WorldSnapshot snapshot) {
+		if (snapshot == null)
+			throw new ArgumentNullException("snapshot");
+		
+		int bSize = this.bodies.size();
+		int jSize = this.joints.size();
+		if (snapshot.isEmpty() || snapshot.bodyCount != bSize || snapshot.jointCount != jSize) {
+			throw new IllegalArgumentException("The snapshot wasn't saved from a world with the same bodies and joints.");
+		}
+		
+		double[] state = snapshot.state;
+		
+		this.time = state[0];
+		// updating twice sets both the previous and current delta time
+		this.timeStep.update(state[1]);
+		this.timeStep.update(state[2]);
+		
+		int offset = 3;
+		for (int i = 0; i < bSize; i++) {
+			T body = this.bodies.get(i);
+			if (body instanceof Restorable) {
+				Restorable restorable = (Restorable)body;
+				restorable.restoreState(state, offset);
+				offset += restorable.getStateSize();
+			}
+		}
+		
+		for (int i = 0; i < jSize; i++) {
+			Joint<T> joint = this.joints.get(i);
+			if (joint instanceof Restorable) {
+				Restorable restorable = (Restorable)joint;
+				restorable.restoreState(state, offset);
+				offset += restorable.getStateSize();
+			}
+		}
+		
+		// the order of the pairs determines the order the contacts are solved in,
+		// so the pairs must be tracked in the same order as when the snapshot was
+		// saved for the simulation to be replayed exactly
+		int cSize = snapshot.contactConstraintCount;
+		boolean same = cSize == this.collisionData.size();
+		if (same) {
+			int o = offset;
+			for (V data : this.collisionData.values()) {
+				this.setSnapshotPair(state, o);
+				if (!this.snapshotPair.equals(data.getPair())) {
+					same = false;
+					break;
+				}
+				o += 5 + (int)state[o + 4];
+			}
+		}
+		
+		if (same) {
+			// the common case, restore the contact states in place
+			for (V data : this.collisionData.values()) {
+				data.getContactConstraint().restoreState(state, offset + 5);
+				offset += 5 + (int)state[offset + 4];
+			}
+		} else {
+			List<V> collisions = this.snapshotCollisions;
+			for (int i = 0; i < cSize; i++) {
+				this.setSnapshotPair(state, offset);
+				V data = this.collisionData.remove(this.snapshotPair);
+				if (data == null) {
+					// the pair was removed after the snapshot was saved
+					CollisionPair<CollisionItem<T, BodyFixture>> pair = new BasicCollisionPair<CollisionItem<T, BodyFixture>>(
+							new BasicCollisionItem<T, BodyFixture>(this.snapshotItem1.getBody(), this.snapshotItem1.getFixture()),
+							new BasicCollisionItem<T, BodyFixture>(this.snapshotItem2.getBody(), this.snapshotItem2.getFixture()));
+					data = this.createCollisionData(pair);
+				}
+				data.getContactConstraint().restoreState(state, offset + 5);
+				collisions.add(data);
+				offset += 5 + (int)state[offset + 4];
+			}
+			
+			// any remaining pairs were added after the snapshot was saved; the
+			// broadphase will report them again if they still overlap
+			this.collisionData.clear();
+			for (int i = 0; i < cSize; i++) {
+				V data = collisions.get(i);
+				this.collisionData.put(data.getPair(), data);
+			}
+			collisions.clear();
+			
+			this.resetPairTracking();
+		}
+		
+		// the bodies have moved, so the broadphase and contacts must be updated 
+		// before the next step without using any of the at-rest optimizations
+		this.updateRequired = true;
+		this.snapshotRestored = true;
+	}
+	
+	/**
+	 * Sets the {@link #snapshotPair} to the saved pair at the given offset.
+	 * @param state the saved state
+	 * @param offset the offset of the saved pair
+	 */
+	private void setSnapshotPair(double[] state, int offset) {
+		T body1 = this.bodies.get((int)state[offset]);
+		T body2 = this.bodies.get((int)state[offset + 2]);
+		this.snapshotItem1.set(body1, body1.getFixture((int)state[offset + 1]));
+		this.snapshotItem2.set(body2, body2.getFixture((int)state[offset + 3]));
+	}
+	
+	/**
+	 * Rebuilds the index of each body in the body list.
+	 */
+	private void updateSnapshotBodyIndices() {
+		this.snapshotBodyIndices.clear();
+		int bSize = this.bodies.size();
+		for (int i = 0; i < bSize; i++) {
+			this.snapshotBodyIndices.put(this.bodies.get(i), i);
+		}
+	}
+	
+	/**
+	 * Returns the index of the given body in the body list.
+	 * <p>
+	 * The indices are rebuilt if the body list has changed since they were last built.
+	 * @param body the body
+	 * @return int
+	 */
+	private int getSnapshotBodyIndex(T body) {
+		Integer index = this.snapshotBodyIndices.get(body);
+		if (index == null || index >= this.bodies.size() || this.bodies.get(index) != body) {
+			this.updateSnapshotBodyIndices();
+			index = this.snapshotBodyIndices.get(body);
+		}
+		return index;
+	}
+	
+	/**
+	 * Returns the index of the given fixture in the given body.
+	 * @param body the body
+	 * @param fixture the fixture
+	 * @return int
+	 */
+	private static int getFixtureIndex(PhysicsBody body, BodyFixture fixture) {
+		int fSize = body.getFixtureCount();
+		for (int i = 0; i < fSize; i++) {
+			if (body.getFixture(i) == fixture) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#setIslandExecutor(java.util.concurrent.Executor, int)
+	 */
+	@Override
+	public void setIslandExecutor(Executor executor, int parallelism) {
+		this.constraintGraph.setExecutor(executor, parallelism);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#getIslandExecutor()
+	 */
+	@Override
+	public Executor getIslandExecutor() {
+		return this.constraintGraph.getExecutor();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.PhysicsWorld#getIslandParallelism()
+	 */
+	@Override
+	public int getIslandParallelism() {
+		return this.constraintGraph.getParallelism();
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.world.PhysicsWorld#setTimeOfImpactSolver(org.dyn4j.dynamics.contact.TimeOfImpactSolver)
 	 */
@@ -1229,6 +1527,11 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		
 		int sSize = stepListeners.size();
 		
+		// only call System.nanoTime when profiling
+		boolean profiling = this.profiler.isEnabled();
+		long start = profiling ? System.nanoTime() : 0;
+		this.profiler.begin();
+		
 		// notify the step listeners
 		for (int i = 0; i < sSize; i++) {
 			StepListener<T> sl = stepListeners.get(i);
@@ -1246,6 +1549,7 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 			}
 			// set the update required flag to false
 			this.updateRequired = false;
+			this.snapshotRestored = false;
 		}
 		
 		// notify of all the contacts that will be solved and all the sensed contacts
@@ -1274,7 +1578,7 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		}
 		
 		// solve the world by using the interaction graph to produce a set of islands
-		this.constraintGraph.solve(this.contactConstraintSolver, this.gravity, this.timeStep, this.settings);
+		this.constraintGraph.solve(this.contactConstraintSolver, this.gravity, this.timeStep, this.settings, this.profiler);
 		
 		// notify of the all solved contacts
 		if (contactListeners.size() > 0) {
@@ -1294,16 +1598,44 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 			sl.postSolve(this.timeStep, this);
 		}
 
-		// make sure CCD is enabled
-		if (continuousDetectionMode != ContinuousDetectionMode.NONE) {
-			// update the CCD broadphase
-			this.ccdBroadphase.update();
+		// make sure CCD is enabled (speculative contacts don't need the TOI phase)
+		if (continuousDetectionMode != ContinuousDetectionMode.NONE && continuousDetectionMode != ContinuousDetectionMode.SPECULATIVE) {
+			long time = profiling ? System.nanoTime() : 0;
 			
-			// solve any time of impact events that were missed
-			this.solveTOI(continuousDetectionMode);
-
-			// clear the ccd broadphase updates so that on the next iteration
-			this.ccdBroadphase.clearUpdates();
+			if (this.settings.isContinuousDetectionUnifiedBroadphaseEnabled()) {
+				// release the CCD broadphase if it was populated
+				if (this.ccdBroadphase.size() > 0) {
+					this.ccdBroadphase.clear();
+					this.ccdCollisionData.clear();
+				}
+				
+				// solve any time of impact events that were missed
+				this.solveTOI(continuousDetectionMode);
+			} else {
+				// re-populate the CCD broadphase if it was released
+				int bSize = this.bodies.size();
+				if (this.ccdBroadphase.size() != bSize) {
+					for (int i = 0; i < bSize; i++) {
+						T body = this.bodies.get(i);
+						if (!this.ccdBroadphase.contains(body)) {
+							this.ccdBroadphase.add(body);
+						}
+					}
+				}
+				
+				// update the CCD broadphase
+				this.ccdBroadphase.update();
+				
+				// solve any time of impact events that were missed
+				this.solveTOI(continuousDetectionMode);
+				
+				// clear the ccd broadphase updates so that on the next iteration
+				this.ccdBroadphase.clearUpdates();
+			}
+			
+			if (profiling) {
+				this.profiler.addTime(StepPhase.CONTINUOUS_DETECTION, System.nanoTime() - time);
+			}
 		}
 
 		// after all has been updated find new contacts
@@ -1313,6 +1645,14 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		
 		// set the update required flag to false
 		this.updateRequired = false;
+		this.snapshotRestored = false;
+		
+		// complete the profiler sample before the listeners are
+		// notified so that they can read the results of this step
+		if (profiling) {
+			this.profiler.addTime(StepPhase.STEP, System.nanoTime() - start);
+		}
+		this.profiler.end();
 		
 		// notify the step listener
 		for (int i = 0; i < sSize; i++) {
@@ -1321,6 +1661,128 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		}
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.AbstractCollisionWorld#updateBroadphase()
+	 */
+	@Override
+	protected void updateBroadphase() {
+		if (this.settings.isStaticBodyBroadphaseUpdateEnabled()) {
+			super.updateBroadphase();
+			return;
+		}
+		
+		int size = this.bodies.size();
+		if (this.broadphaseBodies.length < size) {
+			this.broadphaseBodies = Arrays.copyOf(this.broadphaseBodies, size * 2);
+			this.broadphaseVersions = Arrays.copyOf(this.broadphaseVersions, size * 2);
+		}
+		
+		// everything is updated after restoring a snapshot
+		boolean all = this.snapshotRestored;
+		for (int i = 0; i < size; i++) {
+			T body = this.bodies.get(i);
+			long version = body.getTransform().getVersion();
+			
+			// static and at-rest bodies don't move on their own, so their fixtures
+			// only need to be updated if their transform changed since their last
+			// update, during the step or between steps
+			if (!all && this.isUnchanged(body, i, version)) {
+				continue;
+			}
+			
+			this.broadphaseDetector.update(body);
+			this.broadphaseBodies[i] = body;
+			this.broadphaseVersions[i] = version;
+		}
+		
+		// don't hold on to removed bodies
+		Arrays.fill(this.broadphaseBodies, size, this.broadphaseBodies.length, null);
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.AbstractCollisionWorld#isManifoldReusable(org.dyn4j.world.CollisionData)
+	 */
+	@Override
+	protected boolean isManifoldReusable(V collision) {
+		if (!this.settings.isManifoldReuseEnabled()) {
+			return false;
+		}
+		
+		T body1 = collision.getBody1();
+		T body2 = collision.getBody2();
+		
+		// at least one of the bodies must be at rest, the other can be static
+		if (!body1.isAtRest() && !body2.isAtRest()) {
+			return false;
+		}
+		
+		if (!(body1.isStatic() || body1.isAtRest()) || !(body2.isStatic() || body2.isAtRest())) {
+			return false;
+		}
+		
+		// the manifold was computed for the state before the snapshot was restored
+		if (this.snapshotRestored) {
+			return false;
+		}
+		
+		// at rest and static bodies don't move on their own, but could have been
+		// moved since the manifold was generated, by the user between steps for
+		// example, so verify that neither transform has changed since then
+		// NOTE: the previous transform can't be used since it's set at the start
+		// of the step, after any changes made between steps
+		return !collision.getContactConstraint().isTransformChanged();
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.world.AbstractCollisionWorld#getSpeculativeDistance(org.dyn4j.world.CollisionData)
+	 */
+	@Override
+	protected double getSpeculativeDistance(V collision) {
+		if (this.settings.getContinuousDetectionMode() != ContinuousDetectionMode.SPECULATIVE) {
+			return 0.0;
+		}
+		
+		// sensors don't resolve contacts so there's nothing to stop
+		if (collision.getFixture1().isSensor() || collision.getFixture2().isSensor()) {
+			return 0.0;
+		}
+		
+		T body1 = collision.getBody1();
+		T body2 = collision.getBody2();
+		
+		// the distance the bodies can close over the next step is bounded by
+		// their relative linear velocity plus the speed of the farthest point
+		// from each center of rotation
+		Vector2 v1 = body1.getLinearVelocity();
+		Vector2 v2 = body2.getLinearVelocity();
+		double rvx = v1.x - v2.x;
+		double rvy = v1.y - v2.y;
+		double speed = Math.sqrt(rvx * rvx + rvy * rvy) +
+				Math.abs(body1.getAngularVelocity()) * body1.getRotationDiscRadius() +
+				Math.abs(body2.getAngularVelocity()) * body2.getRotationDiscRadius();
+		
+		// include the linear tolerance so that resting contacts aren't lost
+		// when the bodies separate slightly
+		return speed * this.timeStep.getDeltaTime() + this.settings.getLinearTolerance();
+	}
+	
+	/**
+	 * Returns true if the given body is static or at rest and its transform
+	 * hasn't changed since its fixtures were last updated in the broadphase.
+	 * <p>
+	 * A body that was added, or moved in the body list by a removal, since the
+	 * last update is always considered changed.
+	 * @param body the body
+	 * @param index the index of the body in the body list
+	 * @param version the current version of the body's transform
+	 * @return boolean
+	 */
+	private boolean isUnchanged(T body, int index, long version) {
+		return (body.isStatic() || body.isAtRest()) &&
+				this.broadphaseBodies[index] == body &&
+				this.broadphaseVersions[index] == version;
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.dyn4j.world.AbstractCollisionWorld#detectCollisions(java.util.Iterator)
 	 */
@@ -1339,6 +1801,10 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		// the manifold stage and is ready to become a contact constraint
 		while (iterator.hasNext()) {
 			V collision = iterator.next();
+			
+			// the flag could be left over from the last detection when
+			// the manifold was reused
+			collision.setContactConstraintCollision(false);
 
 			// get the current contact constraint data
 			ContactConstraint<T> contactConstraint = collision.getContactConstraint();
@@ -1401,6 +1867,40 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		// check the CCD mode
 		boolean bulletsOnly = (mode == ContinuousDetectionMode.BULLETS_ONLY);
 		
+		Map<T, List<T>> pairMapping = new HashMap<T, List<T>>();
+		
+		if (this.settings.isContinuousDetectionUnifiedBroadphaseEnabled()) {
+			this.detectTimeOfImpactPairs(bulletsOnly, listeners, pairMapping);
+		} else {
+			this.detectTimeOfImpactPairsUsingCCDBroadphase(bulletsOnly, listeners, pairMapping);
+		}
+		
+		// solve the individual groups
+		boolean solved = false;
+		for (T body1 : pairMapping.keySet()) {
+			List<T> others = pairMapping.get(body1);
+			
+			// solve for time of impact
+			boolean ss = this.solveTOI(body1, others, listeners);
+			if (ss) {
+				this.profiler.addCount(StepCounter.TIME_OF_IMPACT_EVENTS, 1);
+			}
+			
+			// track if anything was solved
+			solved |= ss;
+		}
+		
+		return solved;
+	}
+	
+	/**
+	 * Finds the time of impact pairs using the dedicated CCD broadphase.
+	 * @param bulletsOnly true if only bullets should be considered
+	 * @param listeners the list of {@link TimeOfImpactListener}s
+	 * @param pairMapping the pair mapping to add to
+	 * @since 6.1.0
+	 */
+	private void detectTimeOfImpactPairsUsingCCDBroadphase(boolean bulletsOnly, List<TimeOfImpactListener<T>> listeners, Map<T, List<T>> pairMapping) {
 		Iterator<CollisionPair<T>> pairIterator = this.ccdBroadphase.detectIterator();
 		while(pairIterator.hasNext()) {
 			// NOTE: since the broadphase reuses the pair object, make sure to make a copy of it
@@ -1408,7 +1908,6 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 			this.ccdCollisionData.add(pair);
 		}
 		
-		Map<T, List<T>> pairMapping = new HashMap<T, List<T>>();
 		Iterator<CollisionPair<T>> iterator = this.ccdCollisionData.iterator();
 		while (iterator.hasNext()) {
 			CollisionPair<T> pair = iterator.next();
@@ -1437,87 +1936,261 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 				}
 			}
 			
-			// if we are only doing CCD on bullets only, then check
-			// to make sure that the current body is a bullet
-			if (bulletsOnly && !body1.isBullet() && !body2.isBullet()) continue;
-			
-			// otherwise we process all dynamic bodies
-
-			// we don't want to mess with disabled bodies
-			if (!body1.isEnabled() || !body2.isEnabled()) continue;
+			this.addTimeOfImpactPair(body1, body2, bulletsOnly, listeners, pairMapping);
+		}
+	}
+	
+	/**
+	 * Finds the time of impact pairs by querying the swept {@link AABB}s of the fast moving 
+	 * bodies against the discrete collision detection broadphase.
+	 * <p>
+	 * Only bullets and the bodies that moved farther than the broadphase's {@link AABB} expansion
+	 * during the step are candidates.  The broadphase isn't updated between the solve and this 
+	 * detection, so its {@link AABB}s are only used to find the bodies that didn't move during the 
+	 * step.  The candidates, which are expected to be few, are tested against one another and 
+	 * against the other bodies that moved during the step using freshly computed swept 
+	 * {@link AABB}s.
+	 * @param bulletsOnly true if only bullets should be considered
+	 * @param listeners the list of {@link TimeOfImpactListener}s
+	 * @param pairMapping the pair mapping to add to
+	 * @since 6.1.0
+	 */
+	private void detectTimeOfImpactPairs(boolean bulletsOnly, List<TimeOfImpactListener<T>> listeners, Map<T, List<T>> pairMapping) {
+		double margin = this.getTimeOfImpactMargin();
+		
+		// find the fast moving bodies
+		List<T> candidates = this.toiCandidates;
+		List<AABB> sweptAABBs = this.toiSweptAABBs;
+		candidates.clear();
+		int size = this.bodies.size();
+		for (int i = 0; i < size; i++) {
+			T body = this.bodies.get(i);
+			if (!this.isTimeOfImpactCandidate(body, bulletsOnly, margin)) continue;
+			this.addSweptAABB(body, candidates, sweptAABBs);
+		}
+		
+		int cSize = candidates.size();
+		if (cSize == 0) return;
+		
+		// find the other bodies that moved
+		List<T> movers = this.toiMovers;
+		List<AABB> moverAABBs = this.toiMoverSweptAABBs;
+		movers.clear();
+		for (int i = 0; i < size; i++) {
+			T body = this.bodies.get(i);
+			if (!body.isEnabled() || !this.hasMoved(body)) continue;
+			if (this.isTimeOfImpactCandidate(body, bulletsOnly, margin)) continue;
+			this.addSweptAABB(body, movers, moverAABBs);
+		}
+		
+		int mSize = movers.size();
+		Set<T> paired = this.toiPaired;
+		for (int i = 0; i < cSize; i++) {
+			T body1 = candidates.get(i);
+			AABB aabb1 = sweptAABBs.get(i);
 			
-			// we don't allow dynamic vs. dynamic unless one (or both) is a bullet
-			if (body1.isDynamic() && body2.isDynamic()) {
-				// one of them has to be a bullet
-				if (!body1.isBullet() && !body2.isBullet()) {
-					continue;
+			// test against the bodies in the broadphase
+			paired.clear();
+			Iterator<CollisionItem<T, BodyFixture>> it = this.broadphaseDetector.detectIterator(aabb1);
+			while (it.hasNext()) {
+				T body2 = it.next().getBody();
+				
+				// skip itself, the other candidates and the bodies that moved (handled below)
+				if (body2 == body1) continue;
+				if (this.hasMoved(body2)) continue;
+				if (this.isTimeOfImpactCandidate(body2, bulletsOnly, margin)) continue;
+				
+				// only process a body once, regardless of the number of fixtures
+				if (paired.add(body2)) {
+					this.addTimeOfImpactPair(body1, body2, bulletsOnly, listeners, pairMapping);
 				}
 			}
 			
-			// if both are infinite, then there's no way to resolve them anyway
-			if (body1.getMass().isInfinite() && body2.getMass().isInfinite()) continue;
-			
-			// we can also check for sleeping bodies and skip those since
-			// they will only be asleep after being stationary for a set
-			// time period
-			if (body1.isAtRest() && body2.isAtRest()) continue;
-
-			// check for joints who's collision is not allowed
-			if (!this.isJointCollisionAllowed(body1, body2)) continue;
-			
-			// check for bodies already in collision
-			if (this.isInContact(body1, body2)) continue;
-			
-			// check listeners
-			boolean allow = true;
-			for (TimeOfImpactListener<T> tl : listeners) {
-				if (!tl.collision(body1, body2)) {
-					// if any toi listener doesnt allow it, then don't allow it
-					// we need to allow all listeners to be notified before we continue
-					allow = false;
+			// test against the other candidates
+			for (int j = i + 1; j < cSize; j++) {
+				T body2 = candidates.get(j);
+				// dynamic vs. dynamic is only allowed when one is a bullet
+				if (body1.isDynamic() && body2.isDynamic() && !body1.isBullet() && !body2.isBullet()) continue;
+				if (aabb1.overlaps(sweptAABBs.get(j))) {
+					this.addTimeOfImpactPair(body1, body2, bulletsOnly, listeners, pairMapping);
 				}
 			}
-			if (!allow) continue;
 			
-			// group the remaining events together based on the first
-			// dynamic body found
-			
-			// NOTE: this has the effect of solving only one TOI event per body
-			// NOTE: I opted to not do sub-stepping due to performance
-			if (body1.isDynamic()) {
-				List<T> list = pairMapping.get(body1);
-				if (list != null) {
-					list.add(body2);
-				} else {
-					list = new ArrayList<T>();
-					list.add(body2);
-					pairMapping.put(body1, list);
-				}
-			} else if (body2.isDynamic()) {
-				List<T> list = pairMapping.get(body2);
-				if (list != null) {
-					list.add(body1);
-				} else {
-					list = new ArrayList<T>();
-					list.add(body1);
-					pairMapping.put(body2, list);
+			// test against the other bodies that moved
+			for (int j = 0; j < mSize; j++) {
+				T body2 = movers.get(j);
+				if (body1.isDynamic() && body2.isDynamic() && !body1.isBullet() && !body2.isBullet()) continue;
+				if (aabb1.overlaps(moverAABBs.get(j))) {
+					this.addTimeOfImpactPair(body1, body2, bulletsOnly, listeners, pairMapping);
 				}
 			}
 		}
 		
-		// solve the individual groups
-		boolean solved = false;
-		for (T body1 : pairMapping.keySet()) {
-			List<T> others = pairMapping.get(body1);
-			
-			// solve for time of impact
-			boolean ss = this.solveTOI(body1, others, listeners);
-			
-			// track if anything was solved
-			solved |= ss;
+		// don't hold on to the bodies
+		candidates.clear();
+		movers.clear();
+		paired.clear();
+	}
+	
+	/**
+	 * Computes the swept {@link AABB} of the given body and adds the body to the given list.
+	 * <p>
+	 * The {@link AABB}s are reused from previous steps.
+	 * @param body the body
+	 * @param bodies the list of bodies
+	 * @param sweptAABBs the swept {@link AABB}s of the bodies
+	 * @since 6.1.0
+	 */
+	private void addSweptAABB(T body, List<T> bodies, List<AABB> sweptAABBs) {
+		int n = bodies.size();
+		if (n == sweptAABBs.size()) {
+			sweptAABBs.add(new AABB(0, 0, 0, 0));
+		}
+		body.computeSweptAABB(sweptAABBs.get(n));
+		bodies.add(body);
+	}
+	
+	/**
+	 * Returns true if the given body's transform changed during the step.
+	 * @param body the body
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	private boolean hasMoved(T body) {
+		Transform tx0 = body.getPreviousTransform();
+		Transform tx1 = body.getTransform();
+		return tx1.getTranslationX() != tx0.getTranslationX() ||
+			   tx1.getTranslationY() != tx0.getTranslationY() ||
+			   tx1.getCost() != tx0.getCost() ||
+			   tx1.getSint() != tx0.getSint();
+	}
+	
+	/**
+	 * Returns true if the given body should have its swept {@link AABB} queried against the
+	 * broadphase for continuous collision detection.
+	 * <p>
+	 * Enabled, non-static bodies that aren't at rest are candidates if they are bullets or 
+	 * if they moved farther than the given margin during the step.
+	 * @param body the body
+	 * @param bulletsOnly true if only bullets should be considered
+	 * @param margin the broadphase {@link AABB} expansion
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	private boolean isTimeOfImpactCandidate(T body, boolean bulletsOnly, double margin) {
+		if (!body.isEnabled() || body.isStatic() || body.isAtRest()) return false;
+		if (body.isBullet()) return true;
+		if (bulletsOnly) return false;
+		
+		// compute an upper bound on how far any point of the body moved
+		Transform tx0 = body.getPreviousTransform();
+		Transform tx1 = body.getTransform();
+		double dx = tx1.getTranslationX() - tx0.getTranslationX();
+		double dy = tx1.getTranslationY() - tx0.getTranslationY();
+		double distance = Math.sqrt(dx * dx + dy * dy) + body.getChangeInOrientation() * body.getRotationDiscRadius();
+		
+		return distance > margin;
+	}
+	
+	/**
+	 * Returns the distance a body can move before it leaves its expanded {@link AABB} in 
+	 * the broadphase.
+	 * <p>
+	 * {@link AABB#expand(double)} expands each side by half the given expansion, so this is 
+	 * half the expansion.  Returns zero if the {@link AABBExpansionMethod} is not known, making 
+	 * every moving body a time of impact candidate.
+	 * @return double
+	 * @since 6.1.0
+	 */
+	private double getTimeOfImpactMargin() {
+		AABBExpansionMethod<?> method = this.broadphaseDetector.getAABBExpansionMethod();
+		if (method instanceof StaticValueAABBExpansionMethod) {
+			return ((StaticValueAABBExpansionMethod<?>)method).getExpansion() * 0.5;
+		} else if (method instanceof PhysicsBodyVelocityAABBExpansionMethod) {
+			return ((PhysicsBodyVelocityAABBExpansionMethod<?>)method).getMargin() * 0.5;
 		}
+		return 0.0;
+	}
+	
+	/**
+	 * Adds the given pair to the given time of impact pair mapping if the pair
+	 * passes all the time of impact filtering criteria.
+	 * <p>
+	 * Pairs are grouped by the first dynamic {@link PhysicsBody}.
+	 * @param body1 the first {@link PhysicsBody}
+	 * @param body2 the second {@link PhysicsBody}
+	 * @param bulletsOnly true if only bullets should be considered
+	 * @param listeners the list of {@link TimeOfImpactListener}s
+	 * @param pairMapping the pair mapping to add to
+	 * @since 6.1.0
+	 */
+	private void addTimeOfImpactPair(T body1, T body2, boolean bulletsOnly, List<TimeOfImpactListener<T>> listeners, Map<T, List<T>> pairMapping) {
+		// if we are only doing CCD on bullets only, then check
+		// to make sure that the current body is a bullet
+		if (bulletsOnly && !body1.isBullet() && !body2.isBullet()) return;
 		
-		return solved;
+		// otherwise we process all dynamic bodies
+
+		// we don't want to mess with disabled bodies
+		if (!body1.isEnabled() || !body2.isEnabled()) return;
+		
+		// we don't allow dynamic vs. dynamic unless one (or both) is a bullet
+		if (body1.isDynamic() && body2.isDynamic()) {
+			// one of them has to be a bullet
+			if (!body1.isBullet() && !body2.isBullet()) {
+				return;
+			}
+		}
+		
+		// if both are infinite, then there's no way to resolve them anyway
+		if (body1.getMass().isInfinite() && body2.getMass().isInfinite()) return;
+		
+		// we can also check for sleeping bodies and skip those since
+		// they will only be asleep after being stationary for a set
+		// time period
+		if (body1.isAtRest() && body2.isAtRest()) return;
+
+		// check for joints who's collision is not allowed
+		if (!this.isJointCollisionAllowed(body1, body2)) return;
+		
+		// check for bodies already in collision
+		if (this.isInContact(body1, body2)) return;
+		
+		// check listeners
+		boolean allow = true;
+		for (TimeOfImpactListener<T> tl : listeners) {
+			if (!tl.collision(body1, body2)) {
+				// if any toi listener doesnt allow it, then don't allow it
+				// we need to allow all listeners to be notified before we continue
+				allow = false;
+			}
+		}
+		if (!allow) return;
+		
+		// group the remaining events together based on the first
+		// dynamic body found
+		
+		// NOTE: this has the effect of solving only one TOI event per body
+		// NOTE: I opted to not do sub-stepping due to performance
+		if (body1.isDynamic()) {
+			List<T> list = pairMapping.get(body1);
+			if (list != null) {
+				list.add(body2);
+			} else {
+				list = new ArrayList<T>();
+				list.add(body2);
+				pairMapping.put(body1, list);
+			}
+		} else if (body2.isDynamic()) {
+			List<T> list = pairMapping.get(body2);
+			if (list != null) {
+				list.add(body1);
+			} else {
+				list = new ArrayList<T>();
+				list.add(body1);
+				pairMapping.put(body2, list);
+			}
+		}
 	}
 	
 	/**
@@ -1600,7 +2273,7 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 				// NOTE: the first body will always be a dynamic body
 				if (b2IsStaticAndMultiFixture) {
 					// use body1 SWEPT AABB
-					AABB b1SweptAABB = this.ccdBroadphase.getAABB(body1);
+					AABB b1SweptAABB = this.getSweptAABB(body1);
 					
 					// use body2-fixture2 STATIC AABB
 					reusableItem.set(body2, fixture2);
@@ -1644,7 +2317,7 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 					Convex c2 = fixture2.getShape();
 					
 					// get the time of impact for the fixture pair
-					if (this.timeOfImpactDetector.getTimeOfImpact(c1, tx1, v1, av1, c2, tx2, v2, av2, t1, t2, toi)) {
+					if (this.linkShapeDetector.getTimeOfImpact(this.timeOfImpactDetector, c1, tx1, v1, av1, c2, tx2, v2, av2, t1, t2, toi)) {
 						// get the time of impact
 						double t = toi.getTime();
 						
@@ -1729,6 +2402,22 @@ public abstract class AbstractPhysicsWorld<T extends PhysicsBody, V extends Cont
 		return false;
 	}
 	
+	/**
+	 * Returns the swept {@link AABB} of the given {@link PhysicsBody}.
+	 * <p>
+	 * The (expanded) swept {@link AABB} stored in the CCD broadphase is used when
+	 * available, otherwise it's computed.
+	 * @param body the {@link PhysicsBody}
+	 * @return {@link AABB}
+	 * @since 6.1.0
+	 */
+	private AABB getSweptAABB(T body) {
+		if (this.ccdBroadphase.contains(body)) {
+			return this.ccdBroadphase.getAABB(body);
+		}
+		return body.createSweptAABB();
+	}
+	
 	/**
 	 * A {@link ContactUpdateHandler} that uses the local mixers and listeners.
 	 * @author William Bittle
@@ -26,6 +26,7 @@ package org.dyn4j.world;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.dyn4j.DataContainer;
 import org.dyn4j.collision.Bounds;
@@ -49,6 +50,7 @@ import org.dyn4j.world.listener.CollisionListener;
 import org.dyn4j.world.result.ConvexCastResult;
 import org.dyn4j.world.result.ConvexDetectResult;
 import org.dyn4j.world.result.DetectResult;
+import org.dyn4j.world.result.RaycastBatch;
 import org.dyn4j.world.result.RaycastResult;
 
 /**
@@ -64,7 +66,7 @@ import org.dyn4j.world.result.RaycastResult;
  * NOTE: This interface does not define a collision detection pipeline or process. Instead it defines the
  * necessary components to build one.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link CollisionBody} type
  * @param <E> the {@link Fixture} type
@@ -344,6 +346,51 @@ public interface CollisionWorld<T extends CollisionBody<E>, E extends Fixture, V
 	 */
 	public TimeOfImpactDetector getTimeOfImpactDetector();
 	
+	/**
+	 * Sets the {@link Executor} used to run the collision detection stages in parallel.
+	 * <p>
+	 * When null (the default), the tracked collision pairs are checked one after another
+	 * on the thread calling the detect/update/step methods.  Otherwise, the tracked pairs are 
+	 * split into chunks and the broadphase re-check, narrowphase, narrowphase post processing
+	 * and manifold stages are run using at most parallelism workers, one of which is the 
+	 * calling thread.  The {@link CollisionListener}s are then notified on the calling
+	 * thread, one pair at a time and in the same order as when run serially.
+	 * <p>
+	 * Unlike the serial case, the stages are run for all pairs before any listener is notified.
+	 * Changes a listener makes to bodies, fixtures or their shapes are not seen by the detection
+	 * of the other pairs until the next detection and the stages are run for a pair even if a 
+	 * listener would have stopped the pair at an earlier stage.  The results are the same as 
+	 * when run serially only when the listeners don't modify the state used by collision
+	 * detection.
+	 * <p>
+	 * The {@link NarrowphaseDetector}, {@link NarrowphasePostProcessor} and {@link ManifoldSolver}
+	 * are copied for each additional worker if they implement {@link org.dyn4j.Copyable}, 
+	 * otherwise they, along with the {@link BroadphaseCollisionDataFilter}, must be thread-safe.
+	 * @param executor the executor; null to run collision detection on the calling thread
+	 * @param parallelism the maximum number of workers
+	 * @throws IllegalArgumentException if parallelism is less than 1
+	 * @since 6.1.0
+	 */
+	public void setDetectExecutor(Executor executor, int parallelism);
+	
+	/**
+	 * Returns the {@link Executor} used to run the collision detection stages in parallel.
+	 * <p>
+	 * Returns null if collision detection is run on the calling thread.
+	 * @return Executor
+	 * @see #setDetectExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public Executor getDetectExecutor();
+	
+	/**
+	 * Returns the maximum number of workers used to run collision detection.
+	 * @return int
+	 * @see #setDetectExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public int getDetectParallelism();
+	
 	// collision data
 	
 	/**
@@ -560,6 +607,30 @@ public interface CollisionWorld<T extends CollisionBody<E>, E extends Fixture, V
 	 */
 	public RaycastResult<T, E> raycastClosest(Ray ray, double maxLength, T body, DetectFilter<T, E> filter);
 	
+	/**
+	 * Finds the closest hit of each ray in the given {@link RaycastBatch} using the current 
+	 * state of the {@link BroadphaseDetector}, storing the results in the batch.
+	 * <p>
+	 * This method produces the same hits as calling {@link #raycastClosest(Ray, double, DetectFilter)}
+	 * for each ray, but reuses the same working objects for all the rays and stops testing fixtures
+	 * whose bounds are farther along the ray than the closest hit found so far.
+	 * <p>
+	 * If an {@link Executor} has been set using {@link #setDetectExecutor(Executor, int)} the rays
+	 * are split into chunks and cast by at most {@link #getDetectParallelism()} workers, one of which
+	 * is the calling thread.  The {@link RaycastDetector} is copied for each additional worker if it 
+	 * implements {@link org.dyn4j.Copyable}, otherwise it, along with the filter, must be thread-safe.
+	 * Any deferred work of a {@link org.dyn4j.collision.broadphase.PreparableBroadphaseDetector} is 
+	 * performed before the workers start.  The world must not be modified until this method returns.
+	 * <p>
+	 * If a ray begins inside a fixture, that fixture will not be included in the results.
+	 * @param batch the rays to cast and the storage for their results
+	 * @param filter the filter; can be null
+	 * @return int the number of rays that hit something
+	 * @throws NullPointerException if batch is null
+	 * @since 6.1.0
+	 */
+	public int raycastClosest(RaycastBatch<T, E> batch, DetectFilter<T, E> filter);
+	
 	// convex cast
 	
 	/**
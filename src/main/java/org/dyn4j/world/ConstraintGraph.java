@@ -32,14 +32,22 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.dyn4j.Copyable;
 import org.dyn4j.collision.Collisions;
 import org.dyn4j.dynamics.PhysicsBody;
 import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.TimeStep;
 import org.dyn4j.dynamics.contact.ContactConstraint;
 import org.dyn4j.dynamics.contact.ContactConstraintSolver;
+import org.dyn4j.dynamics.contact.SequentialImpulses;
 import org.dyn4j.dynamics.joint.Joint;
+import org.dyn4j.exception.ValueOutOfRangeException;
 import org.dyn4j.geometry.Vector2;
 
 /**
@@ -52,8 +60,13 @@ import org.dyn4j.geometry.Vector2;
  * <p>
  * Solving of the graph happens internally by performing depth-first traversal and 
  * the building of {@link Island}s separated by static {@link PhysicsBody}s.
+ * <p>
+ * By default, each {@link Island} is solved as soon as it's built on the calling thread.
+ * Use the {@link #setExecutor(Executor, int)} method to collect all the {@link Island}s
+ * first and then solve them in parallel.  {@link Island}s never share a dynamic 
+ * {@link PhysicsBody} so they can be solved independently of one another.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link PhysicsBody} type
  */
@@ -75,6 +88,23 @@ public final class ConstraintGraph<T extends PhysicsBody> {
 	/** A reusable island instance for solving */
 	private final Island<T> island;
 	
+	// for parallel solving
+	
+	/** The executor used to solve islands in parallel; null to solve them on the calling thread */
+	private Executor executor;
+	
+	/** The maximum number of islands solved at the same time */
+	private int parallelism;
+	
+	/** The reusable islands collected for parallel solving */
+	private final List<Island<T>> islands;
+	
+	/** The number of islands in {@link #islands} collected for the current solve */
+	private int islandCount;
+	
+	/** The solver used by each worker; the solver passed to the solve method is always at index zero */
+	private final List<ContactConstraintSolver<T>> workerSolvers;
+	
 	/**
 	 * Minimal constructor.
 	 */
@@ -100,6 +130,12 @@ public final class ConstraintGraph<T extends PhysicsBody> {
 		this.onIsland = new HashSet<Object>(totalSize);
 		this.staticOnIsland = new HashSet<Object>(totalSize / 2);
 		this.island = new Island<T>(initialBodyCount, initialJointCount);
+		
+		this.executor = null;
+		this.parallelism = 1;
+		this.islands = new ArrayList<Island<T>>();
+		this.islandCount = 0;
+		this.workerSolvers = new ArrayList<ContactConstraintSolver<T>>();
 	}
 	
 	/**
@@ -561,6 +597,63 @@ public final class ConstraintGraph<T extends PhysicsBody> {
 		return bodies;
 	}
 	
+	/**
+	 * Sets the {@link Executor} used to solve {@link Island}s in parallel.
+	 * <p>
+	 * When set, the {@link #solve(ContactConstraintSolver, Vector2, TimeStep, Settings)} method
+	 * will first build all {@link Island}s and then solve them using at most parallelism
+	 * workers.  One of the workers always runs on the calling thread and the method returns 
+	 * only after all {@link Island}s have been solved.  Any executor can be used, a 
+	 * ForkJoinPool for example, as long as it doesn't need the calling thread to run the 
+	 * submitted tasks.
+	 * <p>
+	 * Each worker uses its own {@link Island} and its own {@link ContactConstraintSolver}.
+	 * If the solver implements the {@link Copyable} interface, like {@link SequentialImpulses},
+	 * each additional worker uses a copy of it.  Otherwise the same solver instance is used 
+	 * by all workers and must be thread-safe.
+	 * <p>
+	 * The results are identical to solving the {@link Island}s on the calling thread since
+	 * every {@link Island} is always solved in full by a single worker.  Listeners are not
+	 * notified during {@link Island} solving so they are never called from the worker threads.
+	 * <p>
+	 * Pass a null executor or a parallelism of 1 to solve the {@link Island}s on the 
+	 * calling thread (the default).
+	 * @param executor the executor; can be null
+	 * @param parallelism the maximum number of {@link Island}s solved at the same time
+	 * @throws IllegalArgumentException if parallelism is less than 1
+	 * @since 6.1.0
+	 */
+	public void setExecutor(Executor executor, int parallelism) {
+		if (parallelism < 1)
+			throw new ValueOutOfRangeException("parallelism", parallelism, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 1);
+		
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.workerSolvers.clear();
+	}
+	
+	/**
+	 * Returns the {@link Executor} used to solve {@link Island}s in parallel.
+	 * <p>
+	 * Returns null if {@link Island}s are solved on the calling thread.
+	 * @return Executor
+	 * @see #setExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+	
+	/**
+	 * Returns the maximum number of {@link Island}s solved at the same time.
+	 * @return int
+	 * @see #setExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+	
 	/**
 	 * Solves the interation graph constraints (Joints/Contacts) by splitting the graph into
 	 * {@link Island}s. Each {@link Island} represents a segment of the constraint graph that
@@ -569,17 +662,40 @@ public final class ConstraintGraph<T extends PhysicsBody> {
 	 * @param gravity the world gravity
 	 * @param step the time step information
 	 * @param settings the settings
+	 * @see #setExecutor(Executor, int)
 	 */
 	public void solve(ContactConstraintSolver<T> solver, Vector2 gravity, TimeStep step, Settings settings) {
+		this.solve(solver, gravity, step, settings, null);
+	}
+	
+	/**
+	 * Solves the interation graph constraints (Joints/Contacts) by splitting the graph into
+	 * {@link Island}s recording the time spent in each phase and the {@link Island} statistics
+	 * in the given profiler when it's enabled.
+	 * @param solver the contact constraint solver
+	 * @param gravity the world gravity
+	 * @param step the time step information
+	 * @param settings the settings
+	 * @param profiler the profiler; can be null
+	 * @since 6.1.0
+	 * @see #solve(ContactConstraintSolver, Vector2, TimeStep, Settings)
+	 */
+	void solve(ContactConstraintSolver<T> solver, Vector2 gravity, TimeStep step, Settings settings, StepProfiler profiler) {
 		// perform a depth first search of the contact graph
-		// to create islands for constraint solving
-		// and solve them sequentially
+		// to create islands for constraint solving and either
+		// solve them sequentially or collect them to solve
+		// them in parallel
+		boolean parallel = this.executor != null && this.parallelism > 1;
+		
+		// only call System.nanoTime when profiling
+		boolean profiling = profiler != null && profiler.isEnabled();
+		long buildTime = 0;
 		
 		this.stack.clear();
 		this.onIsland.clear();
 		this.staticOnIsland.clear();
+		this.islandCount = 0;
 		
-		// create an island to reuse
 		for (ConstraintGraphNode<T> seed : this.graph.values()) {
 			T seedBody = seed.body;
 			
@@ -588,111 +704,374 @@ public final class ConstraintGraph<T extends PhysicsBody> {
 				continue;
 			}
 			
-			this.island.clear();
-			this.stack.clear();
-			this.stack.push(seed);
+			// reuse the same island when solving sequentially
+			Island<T> island = parallel ? this.getNextIsland() : this.island;
+			
+			long time = profiling ? System.nanoTime() : 0;
+			island.clear();
+			island.profiling = profiling;
+			this.build(seed, island);
+			if (profiling) {
+				buildTime += System.nanoTime() - time;
+			}
+			
+			// solve the island now if solving sequentially
+			if (!parallel) {
+				island.solve(solver, gravity, step, settings);
+				this.updateStaticBodies(island);
+				if (profiling) {
+					this.record(island, profiler);
+				}
+			}
+			
+			// islands can reuse static bodies because these are what split the
+			// whole constraint graph into islands
+			this.staticOnIsland.clear();
+		}
+		
+		if (parallel && this.islandCount > 0) {
+			this.solveIslands(solver, gravity, step, settings);
+			
+			// static bodies are shared between islands so they
+			// are handled here, after all the workers are done, in
+			// the same order as solving on the calling thread
+			for (int i = 0; i < this.islandCount; i++) {
+				this.updateStaticBodies(this.islands.get(i));
+			}
+			
+			if (profiling) {
+				for (int i = 0; i < this.islandCount; i++) {
+					this.record(this.islands.get(i), profiler);
+				}
+			}
+		}
+		
+		if (profiling) {
+			profiler.addTime(StepPhase.ISLAND_BUILD, buildTime);
+		}
+		
+		// allow memory to be reclaimed
+		this.stack.clear();
+		this.island.clear();
+		this.onIsland.clear();
+		for (int i = 0; i < this.islandCount; i++) {
+			this.islands.get(i).clear();
+		}
+		this.islandCount = 0;
+	}
+	
+	/**
+	 * Sets the at-rest state of the static bodies of the given solved {@link Island} to the
+	 * at-rest state of the {@link Island}.
+	 * <p>
+	 * Building an {@link Island} wakes its static bodies, so when a static body is on many
+	 * {@link Island}s, its state is that of the last {@link Island} it's on.  Calling this
+	 * method in {@link Island} order gives the same state whether the {@link Island}s were 
+	 * solved on the calling thread or in parallel.
+	 * @param island the solved island
+	 * @since 6.1.0
+	 */
+	private void updateStaticBodies(Island<T> island) {
+		boolean atRest = island.atRest;
+		int size = island.bodies.size();
+		for (int i = 0; i < size; i++) {
+			T body = island.bodies.get(i);
+			if (body.isStatic()) {
+				body.setAtRest(atRest);
+			}
+		}
+	}
+	
+	/**
+	 * Adds the statistics of the given solved {@link Island} to the given profiler.
+	 * @param island the solved island
+	 * @param profiler the profiler
+	 * @since 6.1.0
+	 */
+	private void record(Island<T> island, StepProfiler profiler) {
+		profiler.addTime(StepPhase.VELOCITY_SOLVE, island.velocitySolveTime);
+		profiler.addTime(StepPhase.POSITION_SOLVE, island.positionSolveTime);
+		profiler.addCount(StepCounter.ISLANDS, 1);
+		profiler.addCount(StepCounter.ISLAND_BODIES, island.bodies.size());
+		profiler.maxCount(StepCounter.LARGEST_ISLAND, island.bodies.size());
+		profiler.addCount(StepCounter.VELOCITY_ITERATIONS, island.velocityIterations);
+		profiler.addCount(StepCounter.POSITION_ITERATIONS, island.positionIterations);
+	}
+	
+	/**
+	 * Returns the next unused {@link Island} for parallel solving, creating it if necessary.
+	 * @return {@link Island}
+	 */
+	private Island<T> getNextIsland() {
+		Island<T> island;
+		if (this.islandCount < this.islands.size()) {
+			island = this.islands.get(this.islandCount);
+		} else {
+			island = new Island<T>();
+			this.islands.add(island);
+		}
+		this.islandCount++;
+		return island;
+	}
+	
+	/**
+	 * Performs a depth first traversal of the graph starting at the given seed node adding
+	 * all bodies, contact constraints, and joints found to the given {@link Island}.
+	 * <p>
+	 * The traversal stops at static bodies.
+	 * @param seed the node to start from
+	 * @param island the island to fill
+	 */
+	private void build(ConstraintGraphNode<T> seed, Island<T> island) {
+		this.stack.clear();
+		this.stack.push(seed);
+		
+		while (this.stack.size() > 0) {
+			ConstraintGraphNode<T> node = this.stack.pop();
+			T body = node.body;
+			
+			// a body may be added to the stack many times in the case
+			// of more than one/two contacts per body
+			if (this.onIsland.contains(body) || this.staticOnIsland.contains(body)) {
+				continue;
+			}
+			
+			// add it to the island
+			island.add(body);
+			// make sure the body is awake
+			body.setAtRest(false);
 			
-			while (this.stack.size() > 0) {
-				ConstraintGraphNode<T> node = this.stack.pop();
-				T body = node.body;
+			// if its static then continue since we don't want the
+			// island to span more than one static object
+			// this keeps the size of the islands small
+			if (body.isStatic()) {
+				this.staticOnIsland.add(body);
+				continue;
+			} else {
+				this.onIsland.add(body);
+			}
+			
+			// loop over the contact edges of this body
+			int ceSize = node.contactConstraints.size();
+			for (int j = 0; j < ceSize; j++) {
+				ContactConstraint<T> contactConstraint = node.contactConstraints.get(j);
 				
-				// a body may be added to the stack many times in the case
-				// of more than one/two contacts per body
-				if (this.onIsland.contains(body) || this.staticOnIsland.contains(body)) {
+				// skip disabled or sensor contacts or contacts already on the island
+				if (!contactConstraint.isEnabled() || contactConstraint.isSensor() || this.onIsland.contains(contactConstraint)) {
 					continue;
 				}
 				
-				// add it to the island
-				this.island.add(body);
-				// make sure the body is awake
-				body.setAtRest(false);
+				// get the other body
+				T other = contactConstraint.getOtherBody(body);
+				// add the contact constraint to the island list
+				island.add(contactConstraint);
+				this.onIsland.add(contactConstraint);
 				
-				// if its static then continue since we don't want the
-				// island to span more than one static object
-				// this keeps the size of the islands small
-				if (body.isStatic()) {
-					this.staticOnIsland.add(body);
-					continue;
-				} else {
-					this.onIsland.add(body);
+				// has the other body been added to an island yet?
+				if (!this.onIsland.contains(other) && !this.staticOnIsland.contains(other)) {
+					// if not then add this body to the stack
+					this.stack.push(this.graph.get(other));
 				}
+			}
+			
+			// loop over the joint edges of this body
+			int jeSize = node.joints.size();
+			for (int j = 0; j < jeSize; j++) {
+				Joint<T> joint = node.joints.get(j);
 				
-				// loop over the contact edges of this body
-				int ceSize = node.contactConstraints.size();
-				for (int j = 0; j < ceSize; j++) {
-					ContactConstraint<T> contactConstraint = node.contactConstraints.get(j);
-					
-					// skip disabled or sensor contacts or contacts already on the island
-					if (!contactConstraint.isEnabled() || contactConstraint.isSensor() || this.onIsland.contains(contactConstraint)) {
-						continue;
-					}
-					
-					// get the other body
-					T other = contactConstraint.getOtherBody(body);
-					// add the contact constraint to the island list
-					this.island.add(contactConstraint);
-					this.onIsland.add(contactConstraint);
-					
-					// has the other body been added to an island yet?
-					if (!this.onIsland.contains(other) && !this.staticOnIsland.contains(other)) {
-						// if not then add this body to the stack
-						this.stack.push(this.graph.get(other));
-					}
+				// check if the joint is enabled (all bodies must be enabled)
+				// check if the joint has already been added to an island
+				if (!joint.isEnabled() || this.onIsland.contains(joint)) {
+					continue;
 				}
+
+				// add the joint to the island
+				island.add(joint);
+				this.onIsland.add(joint);
 				
-				// loop over the joint edges of this body
-				int jeSize = node.joints.size();
-				for (int j = 0; j < jeSize; j++) {
-					Joint<T> joint = node.joints.get(j);
+				// now add all other bodies to this island
+				int bSize = joint.getBodyCount();
+				for (int k = 0; k < bSize; k++) {
+					// get the other body
+					T other = joint.getBody(k);
 					
-					// check if the joint is enabled (all bodies must be enabled)
-					// check if the joint has already been added to an island
-					if (!joint.isEnabled() || this.onIsland.contains(joint)) {
+					// don't re-process the same body
+					if (other == body) {
 						continue;
 					}
 
-					// add the joint to the island
-					this.island.add(joint);
-					this.onIsland.add(joint);
+					// check if this body is not enabled (shouldn't happen since
+					// we check for this above and the joint wouldn't be enable
+					// in that scenario)
+					if (!other.isEnabled()) {
+						continue;
+					}
 					
-					// now add all other bodies to this island
-					int bSize = joint.getBodyCount();
-					for (int k = 0; k < bSize; k++) {
-						// get the other body
-						T other = joint.getBody(k);
-						
-						// don't re-process the same body
-						if (other == body) {
-							continue;
-						}
-
-						// check if this body is not enabled (shouldn't happen since
-						// we check for this above and the joint wouldn't be enable
-						// in that scenario)
-						if (!other.isEnabled()) {
-							continue;
-						}
-						
-						// check if the other body has been added to an island
-						if (!this.onIsland.contains(other) && !this.staticOnIsland.contains(other)) {
-							// if not then add the body to the stack
-							this.stack.push(this.graph.get(other));
-						}
+					// check if the other body has been added to an island
+					if (!this.onIsland.contains(other) && !this.staticOnIsland.contains(other)) {
+						// if not then add the body to the stack
+						this.stack.push(this.graph.get(other));
 					}
 				}
 			}
-			
-			// solve the island
-			this.island.solve(solver, gravity, step, settings);
-			
-			// islands can reuse static bodies because these are what split the
-			// whole constraint graph into islands
-			this.staticOnIsland.clear();
+		}
+	}
+	
+	/**
+	 * Solves the collected {@link Island}s using the configured {@link Executor}.
+	 * <p>
+	 * This method blocks until all {@link Island}s have been solved.  The first
+	 * exception thrown by any worker is rethrown on the calling thread.
+	 * @param solver the contact constraint solver
+	 * @param gravity the world gravity
+	 * @param step the time step information
+	 * @param settings the settings
+	 */
+	private void solveIslands(ContactConstraintSolver<T> solver, Vector2 gravity, TimeStep step, Settings settings) {
+		int workers = Math.min(this.parallelism, this.islandCount);
+		
+		// islands are handed out in order through a shared counter, but
+		// the island partition doesn't depend on the order they are solved
+		// in so the results are deterministic
+		AtomicInteger next = new AtomicInteger(0);
+		AtomicReference<Throwable> error = new AtomicReference<Throwable>(null);
+		CountDownLatch done = new CountDownLatch(workers - 1);
+		
+		// submit all but one worker to the executor
+		for (int i = 1; i < workers; i++) {
+			IslandSolver worker = new IslandSolver(this.getWorkerSolver(solver, i), gravity, step, settings, next, error, done);
+			try {
+				this.executor.execute(worker);
+			} catch (RejectedExecutionException e) {
+				// just run it here
+				worker.run();
+			}
 		}
 		
-		// allow memory to be reclaimed
-		this.stack.clear();
-		this.island.clear();
-		this.onIsland.clear();
+		// the calling thread does its share of the work too
+		new IslandSolver(solver, gravity, step, settings, next, error, null).run();
+		
+		// we cannot leave until all the workers are done since
+		// they are still modifying the bodies
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		
+		Throwable t = error.get();
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException)t;
+		} else if (t instanceof Error) {
+			throw (Error)t;
+		}
+	}
+	
+	/**
+	 * Returns the solver to use for the given worker.
+	 * <p>
+	 * The given solver is copied for each worker if it implements the {@link Copyable}
+	 * interface so that workers never share solver state.  The copies are reused for
+	 * subsequent solves with the same solver.
+	 * @param solver the contact constraint solver
+	 * @param worker the worker index; greater than zero
+	 * @return {@link ContactConstraintSolver}
+	 */
+	@SuppressWarnings("unchecked")
+	private ContactConstraintSolver<T> getWorkerSolver(ContactConstraintSolver<T> solver, int worker) {
+		// the solver at index zero is the one the copies came from
+		if (this.workerSolvers.isEmpty() || this.workerSolvers.get(0) != solver) {
+			this.workerSolvers.clear();
+			this.workerSolvers.add(solver);
+		}
+		
+		while (this.workerSolvers.size() <= worker) {
+			if (solver instanceof Copyable) {
+				this.workerSolvers.add((ContactConstraintSolver<T>)((Copyable<?>)solver).copy());
+			} else {
+				this.workerSolvers.add(solver);
+			}
+		}
+		
+		return this.workerSolvers.get(worker);
+	}
+	
+	/**
+	 * Solves {@link Island}s until there are none left.
+	 * @author William Bittle
+	 * @version 6.1.0
+	 * @since 6.1.0
+	 */
+	private final class IslandSolver implements Runnable {
+		/** The worker's contact constraint solver */
+		private final ContactConstraintSolver<T> solver;
+		
+		/** The world gravity */
+		private final Vector2 gravity;
+		
+		/** The time step information */
+		private final TimeStep step;
+		
+		/** The settings */
+		private final Settings settings;
+		
+		/** The index of the next island to solve */
+		private final AtomicInteger next;
+		
+		/** The first error thrown by any worker */
+		private final AtomicReference<Throwable> error;
+		
+		/** The latch to count down when finished; null for the calling thread */
+		private final CountDownLatch done;
+		
+		/**
+		 * Full constructor.
+		 * @param solver the worker's contact constraint solver
+		 * @param gravity the world gravity
+		 * @param step the time step information
+		 * @param settings the settings
+		 * @param next the index of the next island to solve
+		 * @param error the first error thrown by any worker
+		 * @param done the latch to count down when finished; can be null
+		 */
+		public IslandSolver(ContactConstraintSolver<T> solver, Vector2 gravity, TimeStep step, Settings settings, AtomicInteger next, AtomicReference<Throwable> error, CountDownLatch done) {
+			this.solver = solver;
+			this.gravity = gravity;
+			this.step = step;
+			this.settings = settings;
+			this.next = next;
+			this.error = error;
+			this.done = done;
+		}
+		
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				int count = ConstraintGraph.this.islandCount;
+				int i = this.next.getAndIncrement();
+				while (i < count && this.error.get() == null) {
+					Island<T> island = ConstraintGraph.this.islands.get(i);
+					island.solve(this.solver, this.gravity, this.step, this.settings);
+					i = this.next.getAndIncrement();
+				}
+			} catch (Throwable t) {
+				this.error.compareAndSet(null, t);
+			} finally {
+				if (this.done != null) {
+					this.done.countDown();
+				}
+			}
+		}
 	}
 }
@@ -33,6 +33,7 @@ import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.TimeStep;
 import org.dyn4j.dynamics.contact.ContactConstraint;
 import org.dyn4j.dynamics.contact.ContactConstraintSolver;
+import org.dyn4j.dynamics.contact.SolvedContact;
 import org.dyn4j.dynamics.joint.Joint;
 import org.dyn4j.geometry.Vector2;
 
@@ -41,7 +42,7 @@ import org.dyn4j.geometry.Vector2;
  * <p>
  * {@link Island}s are used and setup by the {@link ConstraintGraph} during it's solving process.
  * @author William Bittle
- * @version 4.2.0
+ * @version 6.1.0
  * @since 1.0.0
  * @param <T> the {@link PhysicsBody} type
  */
@@ -54,6 +55,32 @@ public final class Island<T extends PhysicsBody> {
 	
 	/** The list of {@link ContactConstraint}s on this {@link Island} */
 	final List<ContactConstraint<T>> contactConstraints;
+	
+	// profiling
+	
+	/** True if the time spent solving should be recorded */
+	boolean profiling;
+	
+	/** The time spent solving velocities in nanoseconds during the last solve; only recorded when profiling */
+	long velocitySolveTime;
+	
+	/** The time spent solving positions in nanoseconds during the last solve; only recorded when profiling */
+	long positionSolveTime;
+	
+	/** The number of velocity solver iterations performed during the last solve */
+	int velocityIterations;
+	
+	/** The number of position solver iterations performed during the last solve */
+	int positionIterations;
+	
+	/** True if the bodies of this island were put at rest during the last solve */
+	boolean atRest;
+	
+	/** The accumulated impulses of each contact and joint at the end of the last velocity iteration (reused) */
+	private double[] impulses = new double[0];
+	
+	/** The accumulated impulse of a joint (reused) */
+	private final Vector2 jointImpulse = new Vector2();
 
 	/**
 	 * Default constructor.
@@ -113,9 +140,105 @@ public final class Island<T extends PhysicsBody> {
 		this.joints.add(joint);
 	}
 	
+	/**
+	 * Records the accumulated impulses of all the {@link ContactConstraint}s and {@link Joint}s 
+	 * and returns the largest change in any of them since the last call to this method.
+	 * <p>
+	 * For contacts, the normal and tangential impulses of each contact are compared.  For joints, 
+	 * the accumulated impulses are obtained from the {@link Joint#getReactionForce(double, Vector2)} and
+	 * {@link Joint#getReactionTorque(double)} methods using an inverse delta time of one.
+	 * <p>
+	 * Each constraint is compared individually so that opposing changes from different constraints
+	 * on the same {@link PhysicsBody} don't cancel out.
+	 * @return double
+	 * @since 6.1.0
+	 */
+	private double updateImpulses() {
+		final int cSize = this.contactConstraints.size();
+		final int jSize = this.joints.size();
+		
+		// make sure the buffer is large enough
+		int count = jSize * 3;
+		for (int i = 0; i < cSize; i++) {
+			count += this.contactConstraints.get(i).getContacts().size() * 2;
+		}
+		if (this.impulses.length < count) {
+			this.impulses = new double[count];
+		}
+		
+		double max = 0.0;
+		int k = 0;
+		for (int i = 0; i < cSize; i++) {
+			List<? extends SolvedContact> contacts = this.contactConstraints.get(i).getContacts();
+			int size = contacts.size();
+			for (int j = 0; j < size; j++) {
+				SolvedContact contact = contacts.get(j);
+				double jn = contact.getNormalImpulse();
+				double jt = contact.getTangentialImpulse();
+				max = Math.max(max, Math.abs(jn - this.impulses[k]));
+				max = Math.max(max, Math.abs(jt - this.impulses[k + 1]));
+				this.impulses[k] = jn;
+				this.impulses[k + 1] = jt;
+				k += 2;
+			}
+		}
+		
+		for (int i = 0; i < jSize; i++) {
+			Joint<T> joint = this.joints.get(i);
+			Vector2 j = this.jointImpulse;
+			joint.getReactionForce(1.0, j);
+			double t = joint.getReactionTorque(1.0);
+			double dx = j.x - this.impulses[k];
+			double dy = j.y - this.impulses[k + 1];
+			max = Math.max(max, Math.sqrt(dx * dx + dy * dy));
+			max = Math.max(max, Math.abs(t - this.impulses[k + 2]));
+			this.impulses[k] = j.x;
+			this.impulses[k + 1] = j.y;
+			this.impulses[k + 2] = t;
+			k += 3;
+		}
+		
+		return max;
+	}
+	
+	/**
+	 * Returns true if the non-static {@link PhysicsBody}s of this island were put at rest
+	 * during the last solve.
+	 * @return boolean
+	 * @since 6.1.0
+	 */
+	public boolean isAtRest() {
+		return this.atRest;
+	}
+	
+	/**
+	 * Returns the number of velocity solver iterations performed during the last solve.
+	 * <p>
+	 * This is less than {@link Settings#getVelocityConstraintSolverIterations()} when the impulses
+	 * converged (see {@link Settings#setVelocityConstraintSolverTolerance(double)}) and zero when 
+	 * there were no constraints to solve.
+	 * @return int
+	 * @since 6.1.0
+	 */
+	public int getVelocityIterationCount() {
+		return this.velocityIterations;
+	}
+	
+	/**
+	 * Returns the number of position solver iterations performed during the last solve.
+	 * @return int
+	 * @since 6.1.0
+	 */
+	public int getPositionIterationCount() {
+		return this.positionIterations;
+	}
+	
 	/**
 	 * Integrates the {@link PhysicsBody}s, solves all {@link ContactConstraint}s and
 	 * {@link Joint}s, and attempts to sleep motionless {@link PhysicsBody}s.
+	 * <p>
+	 * Static {@link PhysicsBody}s can be on many islands so they are not put at rest here.
+	 * Use {@link #isAtRest()} after solving to determine if they should be.
 	 * @param solver the contact constraint solver
 	 * @param gravity the gravity vector
 	 * @param step the time step information
@@ -124,6 +247,7 @@ public final class Island<T extends PhysicsBody> {
 	public void solve(ContactConstraintSolver<T> solver, Vector2 gravity, TimeStep step, Settings settings) {
 		// the number of solver iterations
 		final int velocitySolverIterations = settings.getVelocityConstraintSolverIterations();
+		final double velocitySolverTolerance = settings.getVelocityConstraintSolverTolerance();
 		final int positionSolverIterations = settings.getPositionConstraintSolverIterations();
 		final double sleepTime = settings.getMinimumAtRestTime();
 
@@ -131,6 +255,12 @@ public final class Island<T extends PhysicsBody> {
 		final int jSize = this.joints.size();
 		final int cSize = this.contactConstraints.size();
 		
+		// only call System.nanoTime when profiling
+		long time = this.profiling ? System.nanoTime() : 0;
+		this.velocityIterations = 0;
+		this.positionIterations = 0;
+		this.atRest = false;
+		
 		// integrate the velocities
 		for (int i = 0; i < size; i++) {
 			PhysicsBody body = this.bodies.get(i);
@@ -147,6 +277,12 @@ public final class Island<T extends PhysicsBody> {
 		}
 		
 		if (cSize > 0 || jSize > 0) {
+			boolean converge = velocitySolverTolerance > 0.0;
+			if (converge) {
+				// record the warm start impulses
+				this.updateImpulses();
+			}
+			
 			// solve the velocity constraints if needed
 			for (int i = 0; i < velocitySolverIterations; i++) {
 				// solve the joint velocity constraints
@@ -156,9 +292,21 @@ public final class Island<T extends PhysicsBody> {
 				}
 				
 				solver.solveVelocityContraints(this.contactConstraints, step, settings);
+				this.velocityIterations++;
+				
+				// stop early if the impulses have converged
+				if (converge && this.updateImpulses() <= velocitySolverTolerance) {
+					break;
+				}
 			}
 		}
 		
+		if (this.profiling) {
+			long now = System.nanoTime();
+			this.velocitySolveTime = now - time;
+			time = now;
+		}
+		
 		// integrate the positions
 		for (int i = 0; i < size; i++) {
 			PhysicsBody body = this.bodies.get(i);
@@ -171,6 +319,7 @@ public final class Island<T extends PhysicsBody> {
 		// solve the position constraints
 		boolean positionConstraintsSolved = false;
 		for (int i = 0; i < positionSolverIterations; i++) {
+			this.positionIterations++;
 			boolean contactsSolved = solver.solvePositionContraints(this.contactConstraints, step, settings);
 			
 			// solve the joint position constraints
@@ -206,9 +355,18 @@ public final class Island<T extends PhysicsBody> {
 			if (minSleepTime >= sleepTime && positionConstraintsSolved) {
 				for (int i = 0; i < size; i++) {
 					PhysicsBody body = this.bodies.get(i);
+					// static bodies are shared with other islands
+					if (body.isStatic()) {
+						continue;
+					}
 					body.setAtRest(true);
 				}
+				this.atRest = true;
 			}
 		}
+		
+		if (this.profiling) {
+			this.positionSolveTime = System.nanoTime() - time;
+		}
 	}
 }
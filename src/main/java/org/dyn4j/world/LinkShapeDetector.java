@@ -0,0 +1,584 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dyn4j.collision.continuous.TimeOfImpact;
+import org.dyn4j.collision.continuous.TimeOfImpactDetector;
+import org.dyn4j.collision.manifold.ClippingManifoldSolver;
+import org.dyn4j.collision.manifold.Manifold;
+import org.dyn4j.collision.manifold.ManifoldPoint;
+import org.dyn4j.collision.manifold.ManifoldSolver;
+import org.dyn4j.collision.narrowphase.DistanceDetector;
+import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.NarrowphasePostProcessor;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.Raycast;
+import org.dyn4j.collision.narrowphase.RaycastDetector;
+import org.dyn4j.collision.narrowphase.Separation;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Link;
+import org.dyn4j.geometry.LinkShape;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Runs the narrowphase, manifold, raycast and time of impact detectors against the
+ * {@link Link}s of a {@link LinkShape}, like a {@link org.dyn4j.geometry.Chain}, that are near the other shape.
+ * <p>
+ * Shapes that aren't link shapes are passed directly to the given detectors.
+ * <p>
+ * The narrowphase collision of a pair is the deepest of the link collisions.  The manifold
+ * is generated from that link and the points of any other colliding link with the same
+ * normal are merged into it so that a shape resting across two links is supported by both.
+ * <p>
+ * The separation of a pair is the separation of the closest link, which is also used to
+ * generate the speculative manifold.
+ * <p>
+ * This class holds the candidate links, penetrations and manifold from the last call so
+ * it must not be shared across threads.  The manifold stage uses the links found by the
+ * last narrowphase, or the link found by the last distance test, and must immediately follow it.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+final class LinkShapeDetector {
+	/** The minimum dot product of two link normals for their manifold points to be merged */
+	private static final double MERGE_TOLERANCE = 0.999;
+	
+	/** The candidate links */
+	private final List<Link> links;
+	
+	/** The links in collision from the last narrowphase */
+	private final List<Link> hits;
+	
+	/** The penetrations of the links in collision; grown as needed */
+	private final List<Penetration> penetrations;
+	
+	/** The index of the deepest link in collision */
+	private int best;
+	
+	/** True if the link shape was the second shape in the last narrowphase or distance test */
+	private boolean flipped;
+	
+	/** The closest link from the last distance test; null if none */
+	private Link nearest;
+	
+	/** Reusable AABB for the other shape */
+	private final AABB aabb;
+	
+	/** Reusable AABB for the swept bounds of the other shape */
+	private final AABB swept;
+	
+	/** Reusable manifold for merging */
+	private final Manifold manifold;
+	
+	/** Reusable separation */
+	private final Separation separation;
+	
+	/** Reusable raycast */
+	private final Raycast raycast;
+	
+	/** Reusable time of impact */
+	private final TimeOfImpact toi;
+	
+	/** Reusable end transform */
+	private final Transform transform;
+	
+	/**
+	 * Default constructor.
+	 */
+	public LinkShapeDetector() {
+		this.links = new ArrayList<Link>();
+		this.hits = new ArrayList<Link>();
+		this.penetrations = new ArrayList<Penetration>();
+		this.aabb = new AABB(0, 0, 0, 0);
+		this.swept = new AABB(0, 0, 0, 0);
+		this.manifold = new Manifold();
+		this.separation = new Separation();
+		this.raycast = new Raycast();
+		this.toi = new TimeOfImpact();
+		this.transform = new Transform();
+	}
+	
+	/**
+	 * Returns true if either of the given shapes is a {@link LinkShape}.
+	 * @param convex1 the first shape
+	 * @param convex2 the second shape
+	 * @return boolean
+	 */
+	public static boolean isLinkShape(Convex convex1, Convex convex2) {
+		return convex1 instanceof LinkShape || convex2 instanceof LinkShape;
+	}
+	
+	/**
+	 * Returns the penetration at the given index, creating it if necessary.
+	 * @param index the index
+	 * @return {@link Penetration}
+	 */
+	private Penetration getPenetration(int index) {
+		if (index == this.penetrations.size()) {
+			this.penetrations.add(new Penetration());
+		}
+		return this.penetrations.get(index);
+	}
+	
+	/**
+	 * Detects a collision between the given shapes.
+	 * <p>
+	 * If either shape is a {@link LinkShape}, each link near the other shape is detected and post
+	 * processed separately and the deepest collision is placed in the given penetration.  Collisions
+	 * between two link shapes are not detected.  Otherwise, the given detector is used directly.
+	 * @param detector the narrowphase detector
+	 * @param postProcessor the narrowphase post processor; can be null
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param penetration the penetration to fill
+	 * @return boolean true if any link is in collision
+	 */
+	public boolean detect(NarrowphaseDetector detector, NarrowphasePostProcessor postProcessor, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration) {
+		this.hits.clear();
+		this.best = -1;
+		
+		if (!isLinkShape(convex1, convex2)) {
+			if (!detector.detect(convex1, transform1, convex2, transform2, penetration)) {
+				return false;
+			}
+			if (postProcessor != null) {
+				postProcessor.process(convex1, transform1, convex2, transform2, penetration);
+				return penetration.getDepth() != 0.0;
+			}
+			return true;
+		}
+		
+		if (convex1 instanceof LinkShape && convex2 instanceof LinkShape) {
+			return false;
+		}
+		
+		this.flipped = convex2 instanceof LinkShape;
+		LinkShape shape = (LinkShape)(this.flipped ? convex2 : convex1);
+		Transform ct = this.flipped ? transform2 : transform1;
+		Convex convex = this.flipped ? convex1 : convex2;
+		Transform t = this.flipped ? transform1 : transform2;
+		
+		convex.computeAABB(t, this.aabb);
+		this.links.clear();
+		shape.getLinks(this.aabb, ct, this.links);
+		
+		double depth = 0.0;
+		int size = this.links.size();
+		for (int i = 0; i < size; i++) {
+			Link link = this.links.get(i);
+			Penetration p = this.getPenetration(this.hits.size());
+			
+			// keep the order of the shapes so the normal points from convex1 to convex2
+			Convex c1 = this.flipped ? convex : link;
+			Transform t1 = this.flipped ? t : ct;
+			Convex c2 = this.flipped ? link : convex;
+			Transform t2 = this.flipped ? ct : t;
+			
+			if (!detector.detect(c1, t1, c2, t2, p)) {
+				continue;
+			}
+			
+			// the post processor handles the ghost vertices of each link
+			if (postProcessor != null) {
+				postProcessor.process(c1, t1, c2, t2, p);
+				if (p.getDepth() == 0.0) {
+					continue;
+				}
+			}
+			
+			if (this.best < 0 || p.getDepth() > depth) {
+				depth = p.getDepth();
+				this.best = this.hits.size();
+			}
+			
+			this.hits.add(link);
+		}
+		
+		this.links.clear();
+		
+		if (this.best < 0) {
+			return false;
+		}
+		
+		penetration.set(this.penetrations.get(this.best));
+		return true;
+	}
+	
+	/**
+	 * Generates the manifold for the links found in collision by the last call to
+	 * {@link #detect(NarrowphaseDetector, NarrowphasePostProcessor, Convex, Transform, Convex, Transform, Penetration)}.
+	 * <p>
+	 * If neither shape is a {@link LinkShape}, the given solver is used directly.  Otherwise, the
+	 * manifold is generated from the deepest link.  The points of other links with the same
+	 * normal are merged and the manifold is then reduced to the deepest point and the point
+	 * farthest from it along the contact tangent.
+	 * @param solver the manifold solver
+	 * @param penetration the penetration; only used when neither shape is a link shape
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param manifold the manifold to fill
+	 * @return boolean true if a manifold was found
+	 */
+	public boolean getManifold(ManifoldSolver solver, Penetration penetration, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+		if (!isLinkShape(convex1, convex2)) {
+			return solver.getManifold(penetration, convex1, transform1, convex2, transform2, manifold);
+		}
+		
+		if (this.best < 0) {
+			return false;
+		}
+		
+		if (!this.getManifold(solver, this.best, convex1, transform1, convex2, transform2, manifold)) {
+			return false;
+		}
+		
+		Vector2 n = this.penetrations.get(this.best).getNormal();
+		List<ManifoldPoint> points = manifold.getPoints();
+		
+		int size = this.hits.size();
+		for (int i = 0; i < size; i++) {
+			if (i == this.best || n.dot(this.penetrations.get(i).getNormal()) < MERGE_TOLERANCE) {
+				continue;
+			}
+			
+			this.manifold.clear();
+			if (this.getManifold(solver, i, convex1, transform1, convex2, transform2, this.manifold)) {
+				points.addAll(this.manifold.getPoints());
+			}
+		}
+		this.manifold.clear();
+		
+		if (points.size() > 2) {
+			this.reduce(manifold);
+		}
+		
+		return points.size() > 0;
+	}
+	
+	/**
+	 * Generates the manifold for the link in collision at the given index.
+	 * @param solver the manifold solver
+	 * @param index the index of the link
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param manifold the manifold to fill
+	 * @return boolean
+	 */
+	private boolean getManifold(ManifoldSolver solver, int index, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+		Link link = this.hits.get(index);
+		Penetration p = this.penetrations.get(index);
+		if (this.flipped) {
+			return solver.getManifold(p, convex1, transform1, link, transform2, manifold);
+		}
+		return solver.getManifold(p, link, transform1, convex2, transform2, manifold);
+	}
+	
+	/**
+	 * Reduces the points of the given manifold to the deepest point and the point farthest
+	 * from it along the tangent of the manifold normal.
+	 * @param manifold the manifold
+	 */
+	private void reduce(Manifold manifold) {
+		List<ManifoldPoint> points = manifold.getPoints();
+		int size = points.size();
+		
+		int a = 0;
+		for (int i = 1; i < size; i++) {
+			if (points.get(i).getDepth() > points.get(a).getDepth()) {
+				a = i;
+			}
+		}
+		
+		Vector2 n = manifold.getNormal();
+		Vector2 pa = points.get(a).getPoint();
+		int b = a;
+		double max = 0.0;
+		for (int i = 0; i < size; i++) {
+			Vector2 p = points.get(i).getPoint();
+			// the distance along the tangent (-n.y, n.x)
+			double d = Math.abs((p.y - pa.y) * n.x - (p.x - pa.x) * n.y);
+			if (d > max) {
+				max = d;
+				b = i;
+			}
+		}
+		
+		ManifoldPoint mpa = points.get(a);
+		ManifoldPoint mpb = points.get(b);
+		points.clear();
+		points.add(mpa);
+		if (b != a) {
+			points.add(mpb);
+		}
+	}
+	
+	/**
+	 * Returns true if the given shapes are separated by less than the given maximum distance.
+	 * <p>
+	 * If either shape is a {@link LinkShape}, the links within the maximum distance of the other
+	 * shape are tested and the separation of the closest is placed in the given separation.  If
+	 * the other shape overlaps any of the links, false is returned.  The separation of two link 
+	 * shapes is not detected.  Otherwise, the given detector is used directly.
+	 * @param detector the distance detector
+	 * @param maximumDistance the maximum distance
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param separation the separation to fill
+	 * @return boolean true if the shapes are separated by less than the maximum distance
+	 */
+	public boolean distance(DistanceDetector detector, double maximumDistance, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Separation separation) {
+		this.nearest = null;
+		
+		if (!isLinkShape(convex1, convex2)) {
+			return detector.distance(convex1, transform1, convex2, transform2, separation) &&
+				   separation.getDistance() < maximumDistance;
+		}
+		
+		if (convex1 instanceof LinkShape && convex2 instanceof LinkShape) {
+			return false;
+		}
+		
+		this.flipped = convex2 instanceof LinkShape;
+		LinkShape shape = (LinkShape)(this.flipped ? convex2 : convex1);
+		Transform ct = this.flipped ? transform2 : transform1;
+		Convex convex = this.flipped ? convex1 : convex2;
+		Transform t = this.flipped ? transform1 : transform2;
+		
+		// the expansion is split between the sides of the AABB
+		convex.computeAABB(t, this.aabb);
+		this.aabb.expand(2.0 * maximumDistance);
+		this.links.clear();
+		shape.getLinks(this.aabb, ct, this.links);
+		
+		double max = maximumDistance;
+		int size = this.links.size();
+		for (int i = 0; i < size; i++) {
+			Link link = this.links.get(i);
+			
+			this.separation.clear();
+			boolean separated = this.flipped ?
+					detector.distance(convex, t, link, ct, this.separation) :
+					detector.distance(link, ct, convex, t, this.separation);
+			
+			// the shape overlaps a link whose collision was either found or rejected
+			// by the narrowphase, so the other links shouldn't add contacts
+			if (!separated) {
+				this.nearest = null;
+				break;
+			}
+			
+			if (this.separation.getDistance() < max) {
+				max = this.separation.getDistance();
+				separation.set(this.separation);
+				this.nearest = link;
+			}
+		}
+		
+		this.links.clear();
+		return this.nearest != null;
+	}
+	
+	/**
+	 * Generates the speculative manifold for the given separation found by the last call to
+	 * {@link #distance(DistanceDetector, double, Convex, Transform, Convex, Transform, Separation)}.
+	 * <p>
+	 * If neither shape is a {@link LinkShape}, the given solver is used directly.  Otherwise, the
+	 * manifold is generated from the closest link.
+	 * @param solver the manifold solver
+	 * @param separation the separation
+	 * @param maximumDistance the maximum separation of a manifold point
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param manifold the manifold to fill
+	 * @return boolean true if a manifold was found
+	 */
+	public boolean getManifold(ClippingManifoldSolver solver, Separation separation, double maximumDistance, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+		if (!isLinkShape(convex1, convex2)) {
+			return solver.getManifold(separation, maximumDistance, convex1, transform1, convex2, transform2, manifold);
+		}
+		
+		if (this.nearest == null) {
+			return false;
+		}
+		
+		if (this.flipped) {
+			return solver.getManifold(separation, maximumDistance, convex1, transform1, this.nearest, transform2, manifold);
+		}
+		return solver.getManifold(separation, maximumDistance, this.nearest, transform1, convex2, transform2, manifold);
+	}
+	
+	/**
+	 * Performs a raycast against the given shape.
+	 * <p>
+	 * If the shape is a {@link LinkShape}, the closest hit of the links along the ray is returned.
+	 * Otherwise, the given detector is used directly.
+	 * @param detector the raycast detector
+	 * @param ray the ray
+	 * @param maxLength the maximum length of the ray; 0 for infinite length
+	 * @param convex the shape
+	 * @param transform the shape's transform
+	 * @param raycast the raycast to fill
+	 * @return boolean true if the shape was hit
+	 */
+	public boolean raycast(RaycastDetector detector, Ray ray, double maxLength, Convex convex, Transform transform, Raycast raycast) {
+		if (!(convex instanceof LinkShape)) {
+			return detector.raycast(ray, maxLength, convex, transform, raycast);
+		}
+		
+		this.links.clear();
+		((LinkShape)convex).getLinks(ray, maxLength, transform, this.links);
+		
+		boolean found = false;
+		double max = maxLength;
+		int size = this.links.size();
+		for (int i = 0; i < size; i++) {
+			if (detector.raycast(ray, max, this.links.get(i), transform, this.raycast)) {
+				// shorten the ray to the hit
+				max = this.raycast.getDistance();
+				raycast.set(this.raycast);
+				found = true;
+			}
+		}
+		
+		this.links.clear();
+		return found;
+	}
+	
+	/**
+	 * Returns the earliest time of impact between the given shapes in the range [t1, t2].
+	 * <p>
+	 * If either shape is a {@link LinkShape}, only the links near the path of the other shape during
+	 * the step are tested.  Time of impact between two link shapes is not detected.  Otherwise, the
+	 * given detector is used directly.
+	 * @param detector the time of impact detector
+	 * @param convex1 the first shape
+	 * @param transform1 the first shape's transform
+	 * @param dp1 the change in position of the first shape
+	 * @param da1 the change in angle of the first shape
+	 * @param convex2 the second shape
+	 * @param transform2 the second shape's transform
+	 * @param dp2 the change in position of the second shape
+	 * @param da2 the change in angle of the second shape
+	 * @param t1 the lower bound of the time
+	 * @param t2 the upper bound of the time
+	 * @param toi the time of impact to fill
+	 * @return boolean true if a time of impact was found
+	 */
+	public boolean getTimeOfImpact(TimeOfImpactDetector detector, Convex convex1, Transform transform1, Vector2 dp1, double da1, Convex convex2, Transform transform2, Vector2 dp2, double da2, double t1, double t2, TimeOfImpact toi) {
+		if (!isLinkShape(convex1, convex2)) {
+			return detector.getTimeOfImpact(convex1, transform1, dp1, da1, convex2, transform2, dp2, da2, t1, t2, toi);
+		}
+		
+		if (convex1 instanceof LinkShape && convex2 instanceof LinkShape) {
+			return false;
+		}
+		
+		boolean flipped = convex2 instanceof LinkShape;
+		LinkShape shape = (LinkShape)(flipped ? convex2 : convex1);
+		Transform ct = flipped ? transform2 : transform1;
+		Vector2 cdp = flipped ? dp2 : dp1;
+		double cda = flipped ? da2 : da1;
+		Convex convex = flipped ? convex1 : convex2;
+		Transform t = flipped ? transform1 : transform2;
+		Vector2 dp = flipped ? dp1 : dp2;
+		double da = flipped ? da1 : da2;
+		
+		// the bounds of the other shape at the start and end of the step
+		convex.computeAABB(t, this.aabb);
+		t.lerp(dp, da, 1.0, this.transform);
+		convex.computeAABB(this.transform, this.swept);
+		this.swept.union(this.aabb);
+		
+		// the rotation can carry points outside the bounds at the start
+		// and end; the distance from the chord of the arc is bounded by
+		// r(1 - cos(a / 2)) where r is the distance from the rotation center
+		double e = this.getArcExpansion(convex, da);
+		
+		// the link shape is queried at the start of the step, so its own motion
+		// is accounted for by expanding by the farthest any point moves
+		double ce = 0.0;
+		if (cdp.x != 0.0 || cdp.y != 0.0 || cda != 0.0) {
+			double r = shape.getCenter().getMagnitude() + shape.getRadius();
+			ce = cdp.getMagnitude() + r * Math.min(Math.abs(cda), 2.0);
+		}
+		
+		this.swept.expand(2.0 * (e + ce));
+		
+		this.links.clear();
+		shape.getLinks(this.swept, ct, this.links);
+		
+		boolean found = false;
+		double max = t2;
+		int size = this.links.size();
+		for (int i = 0; i < size; i++) {
+			Link link = this.links.get(i);
+			boolean detected = flipped ?
+					detector.getTimeOfImpact(convex1, transform1, dp1, da1, link, transform2, dp2, da2, t1, max, this.toi) :
+					detector.getTimeOfImpact(link, transform1, dp1, da1, convex2, transform2, dp2, da2, t1, max, this.toi);
+			if (detected) {
+				max = this.toi.getTime();
+				toi.set(this.toi);
+				found = true;
+			}
+		}
+		
+		this.links.clear();
+		return found;
+	}
+	
+	/**
+	 * Returns the farthest a point of the given shape can move away from the chord of its
+	 * path when rotated by the given angle about the origin of its transform.
+	 * @param convex the shape
+	 * @param da the change in angle
+	 * @return double
+	 */
+	private double getArcExpansion(Convex convex, double da) {
+		if (da == 0.0) {
+			return 0.0;
+		}
+		
+		double r = convex.getCenter().getMagnitude() + convex.getRadius();
+		double a = Math.min(Math.abs(da), Math.PI);
+		return r * (1.0 - Math.cos(a * 0.5));
+	}
+}
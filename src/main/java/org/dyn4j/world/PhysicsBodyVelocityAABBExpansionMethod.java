@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import org.dyn4j.collision.CollisionItem;
+import org.dyn4j.collision.broadphase.AABBExpansionMethod;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.PhysicsBody;
+import org.dyn4j.dynamics.TimeStep;
+import org.dyn4j.exception.ArgumentNullException;
+import org.dyn4j.exception.ValueOutOfRangeException;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * {@link AABBExpansionMethod} for the fixtures of {@link PhysicsBody}s that expands {@link AABB}s 
+ * by a minimum margin and in the direction of the body's linear velocity.
+ * <p>
+ * The {@link AABB} is expanded by the margin using {@link AABB#expand(double)}, like 
+ * {@link StaticValueAABBExpansionMethod}, which grows each side by half the margin, and then extended on the leading side by the distance the body will travel in the next step 
+ * multiplied by the velocity multiplier.  This allows fast bodies to remain within their expanded 
+ * {@link AABB} for a number of steps, reducing the number of broadphase updates (reinsertions in the 
+ * case of the {@link DynamicAABBTree}), while allowing a smaller margin for slow bodies, reducing the
+ * number of pairs that reach the narrowphase.
+ * <p>
+ * The step time is read from the given {@link TimeStep} each time an {@link AABB} is expanded.  Pass
+ * the world's {@link TimeStep} (via {@link PhysicsWorld#getTimeStep()}) to use the elapsed time of
+ * the last step.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the {@link PhysicsBody} type
+ */
+public final class PhysicsBodyVelocityAABBExpansionMethod<T extends PhysicsBody> implements AABBExpansionMethod<CollisionItem<T, BodyFixture>> {
+	/** The default margin */
+	public static final double DEFAULT_MARGIN = 0.1;
+	
+	/** The default velocity multiplier */
+	public static final double DEFAULT_VELOCITY_MULTIPLIER = 2.0;
+	
+	/** The time step */
+	private final TimeStep timeStep;
+	
+	/** The margin; each side is expanded by half of it */
+	private final double margin;
+	
+	/** The multiplier applied to the displacement over the step */
+	private final double velocityMultiplier;
+	
+	/**
+	 * Minimal constructor.
+	 * @param timeStep the time step
+	 * @throws NullPointerException if timeStep is null
+	 */
+	public PhysicsBodyVelocityAABBExpansionMethod(TimeStep timeStep) {
+		this(timeStep, DEFAULT_MARGIN, DEFAULT_VELOCITY_MULTIPLIER);
+	}
+	
+	/**
+	 * Optional constructor.
+	 * @param timeStep the time step
+	 * @param margin the minimum expansion; zero or greater
+	 * @throws NullPointerException if timeStep is null
+	 * @throws IllegalArgumentException if margin is less than zero
+	 */
+	public PhysicsBodyVelocityAABBExpansionMethod(TimeStep timeStep, double margin) {
+		this(timeStep, margin, DEFAULT_VELOCITY_MULTIPLIER);
+	}
+	
+	/**
+	 * Full constructor.
+	 * @param timeStep the time step
+	 * @param margin the minimum expansion; zero or greater
+	 * @param velocityMultiplier the multiplier for the displacement over a step; zero or greater
+	 * @throws NullPointerException if timeStep is null
+	 * @throws IllegalArgumentException if margin or velocityMultiplier is less than zero
+	 */
+	public PhysicsBodyVelocityAABBExpansionMethod(TimeStep timeStep, double margin, double velocityMultiplier) {
+		if (timeStep == null)
+			throw new ArgumentNullException("timeStep");
+		
+		if (margin < 0.0)
+			throw new ValueOutOfRangeException("margin", margin, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0.0);
+		
+		if (velocityMultiplier < 0.0)
+			throw new ValueOutOfRangeException("velocityMultiplier", velocityMultiplier, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0.0);
+		
+		this.timeStep = timeStep;
+		this.margin = margin;
+		this.velocityMultiplier = velocityMultiplier;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.dyn4j.collision.broadphase.AABBExpansionMethod#expand(java.lang.Object, org.dyn4j.geometry.AABB)
+	 */
+	@Override
+	public void expand(CollisionItem<T, BodyFixture> object, AABB aabb) {
+		aabb.expand(this.margin);
+		
+		// extend the leading side by the predicted displacement
+		Vector2 v = object.getBody().getLinearVelocity();
+		double s = this.timeStep.getDeltaTime() * this.velocityMultiplier;
+		double dx = v.x * s;
+		double dy = v.y * s;
+		
+		double minX = aabb.getMinX();
+		double minY = aabb.getMinY();
+		double maxX = aabb.getMaxX();
+		double maxY = aabb.getMaxY();
+		
+		if (dx < 0.0) {
+			minX += dx;
+		} else {
+			maxX += dx;
+		}
+		
+		if (dy < 0.0) {
+			minY += dy;
+		} else {
+			maxY += dy;
+		}
+		
+		AABB.setFromPoints(minX, minY, maxX, maxY, aabb);
+	}
+	
+	/**
+	 * Returns the time step.
+	 * @return {@link TimeStep}
+	 */
+	public TimeStep getTimeStep() {
+		return this.timeStep;
+	}
+	
+	/**
+	 * Returns the margin.
+	 * <p>
+	 * Like {@link AABB#expand(double)}, each side of the {@link AABB} is expanded by half the margin.
+	 * @return double
+	 */
+	public double getMargin() {
+		return this.margin;
+	}
+	
+	/**
+	 * Returns the multiplier applied to the displacement over a step.
+	 * @return double
+	 */
+	public double getVelocityMultiplier() {
+		return this.velocityMultiplier;
+	}
+}
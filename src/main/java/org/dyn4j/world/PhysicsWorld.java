@@ -26,6 +26,7 @@ package org.dyn4j.world;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.dyn4j.DataContainer;
 import org.dyn4j.collision.CollisionBody;
@@ -50,7 +51,7 @@ import org.dyn4j.world.listener.TimeOfImpactListener;
  * This interface also expands on the {@link CollisionWorld} adding other features like joints, gravity,
  * etc.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link PhysicsBody} type
  * @param <V> the {@link ContactCollisionData} type
@@ -516,11 +517,101 @@ public interface PhysicsWorld<T extends PhysicsBody, V extends ContactCollisionD
 	
 	/**
 	 * Returns the CCD broad-phase collision detection algorithm.
+	 * <p>
+	 * The CCD broad-phase is not used, and is left empty, when
+	 * {@link org.dyn4j.dynamics.Settings#isContinuousDetectionUnifiedBroadphaseEnabled()} is true.
 	 * @return {@link BroadphaseDetector}&lt;T&gt;
 	 * @since 4.1.0
 	 */
 	public BroadphaseDetector<T> getContinuousCollisionDetectionBroadphaseDetector();
 	
+	/**
+	 * Sets the {@link Executor} used to solve {@link Island}s in parallel.
+	 * <p>
+	 * When null (the default), {@link Island}s are solved one after another on the
+	 * thread calling the update/step methods.  Otherwise, all {@link Island}s are found
+	 * first and then solved using at most parallelism workers, one of which is the
+	 * calling thread.  The update/step methods still return only after all 
+	 * {@link Island}s have been solved and all listeners are still notified on the
+	 * calling thread.
+	 * <p>
+	 * The {@link ContactConstraintSolver} is copied for each additional worker if it 
+	 * implements {@link org.dyn4j.Copyable}, otherwise it must be thread-safe.
+	 * @param executor the executor; null to solve {@link Island}s on the calling thread
+	 * @param parallelism the maximum number of {@link Island}s solved at the same time
+	 * @throws IllegalArgumentException if parallelism is less than 1
+	 * @see ConstraintGraph#setExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public void setIslandExecutor(Executor executor, int parallelism);
+	
+	/**
+	 * Returns the {@link Executor} used to solve {@link Island}s in parallel.
+	 * <p>
+	 * Returns null if {@link Island}s are solved on the calling thread.
+	 * @return Executor
+	 * @see #setIslandExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public Executor getIslandExecutor();
+	
+	/**
+	 * Returns the {@link StepProfiler} used to record the time spent in each phase of a
+	 * step along with some statistics of the step.
+	 * <p>
+	 * The profiler is disabled by default.  Use {@link StepProfiler#setEnabled(boolean)}
+	 * to enable it.
+	 * @return {@link StepProfiler}
+	 * @since 6.1.0
+	 */
+	public StepProfiler getStepProfiler();
+	
+	/**
+	 * Saves the current simulation state of this world into the given snapshot.
+	 * <p>
+	 * The snapshot is cleared and then filled with the state of all bodies and joints that 
+	 * implement {@link org.dyn4j.Restorable}, and the tracked collision pairs along with the
+	 * state of their contact constraints.  The same snapshot can be used repeatedly; it only 
+	 * allocates memory when it needs to grow.
+	 * <p>
+	 * Forces and torques that have been applied, but not accumulated by a step, are not saved.
+	 * @param snapshot the snapshot to fill
+	 * @throws NullPointerException if snapshot is null
+	 * @see #restoreSnapshot(WorldSnapshot)
+	 * @since 6.1.0
+	 */
+	public void saveSnapshot(WorldSnapshot snapshot);
+	
+	/**
+	 * Restores the simulation state of this world from the given snapshot.
+	 * <p>
+	 * The world must have the same bodies, fixtures and joints, in the same order, as when the
+	 * snapshot was saved.
+	 * <p>
+	 * The tracked collision pairs are restored to the pairs, and the order, they had when the 
+	 * snapshot was saved.  Pairs that were removed since are recreated and pairs that were 
+	 * added since are dropped without notifying any listeners.  When the pairs haven't changed,
+	 * the state is restored in place without allocating memory.
+	 * <p>
+	 * The warm starting impulses of each pair are matched to its contacts by their ids when the 
+	 * contacts are updated at the beginning of the next step, which may report begin or end events
+	 * relative to the state before the restore.
+	 * @param snapshot the snapshot to restore
+	 * @throws NullPointerException if snapshot is null
+	 * @throws IllegalArgumentException if the snapshot is empty or has a different number of bodies or joints than this world
+	 * @see #saveSnapshot(WorldSnapshot)
+	 * @since 6.1.0
+	 */
+	public void restoreSnapshot(WorldSnapshot snapshot);
+	
+	/**
+	 * Returns the maximum number of {@link Island}s solved at the same time.
+	 * @return int
+	 * @see #setIslandExecutor(Executor, int)
+	 * @since 6.1.0
+	 */
+	public int getIslandParallelism();
+	
 	/**
 	 * Sets the {@link TimeOfImpactSolver} for this world.
 	 * @param timeOfImpactSolver the time of impact solver
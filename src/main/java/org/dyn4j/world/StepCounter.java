@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+/**
+ * Enumeration of the quantities of a world step counted by the {@link StepProfiler}.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see StepProfiler
+ */
+public enum StepCounter {
+	/** The number of pairs tracked after the broadphase detection */
+	BROADPHASE_PAIRS,
+	
+	/** The number of pairs that passed the narrowphase detection */
+	NARROWPHASE_COLLISIONS,
+	
+	/** 
+	 * The number of {@link org.dyn4j.collision.narrowphase.Gjk} detect iterations.
+	 * <p>
+	 * Only counted when the narrowphase detector is a {@link org.dyn4j.collision.narrowphase.Gjk}.
+	 */
+	GJK_ITERATIONS,
+	
+	/** 
+	 * The number of {@link org.dyn4j.collision.narrowphase.Epa} iterations.
+	 * <p>
+	 * Only counted when the narrowphase detector is a {@link org.dyn4j.collision.narrowphase.Gjk}
+	 * using an {@link org.dyn4j.collision.narrowphase.Epa}.
+	 */
+	EPA_ITERATIONS,
+	
+	/** The number of {@link Island}s solved */
+	ISLANDS,
+	
+	/** The total number of bodies in all the {@link Island}s solved */
+	ISLAND_BODIES,
+	
+	/** The number of bodies in the largest {@link Island} solved */
+	LARGEST_ISLAND,
+	
+	/** The total number of velocity solver iterations performed by all the {@link Island}s */
+	VELOCITY_ITERATIONS,
+	
+	/** The total number of position solver iterations performed by all the {@link Island}s */
+	POSITION_ITERATIONS,
+	
+	/** The number of time of impact events resolved */
+	TIME_OF_IMPACT_EVENTS
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+/**
+ * Enumeration of the phases of a world step timed by the {@link StepProfiler}.
+ * <p>
+ * The phases are nested.  The {@link #DETECT} phase includes the {@link #BROADPHASE_UPDATE}, 
+ * {@link #BROADPHASE_DETECT}, {@link #NARROWPHASE} and {@link #MANIFOLD} phases and the
+ * {@link #STEP} phase includes all the others.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see StepProfiler
+ */
+public enum StepPhase {
+	/** The entire step */
+	STEP,
+	
+	/** 
+	 * The collision detection, including the notification of listeners and the update of 
+	 * the contact constraints.
+	 * <p>
+	 * Collision detection is performed at the end of each step and, when required, 
+	 * at the beginning.
+	 */
+	DETECT,
+	
+	/** The update of the broadphase {@link org.dyn4j.geometry.AABB}s and the bounds check */
+	BROADPHASE_UPDATE,
+	
+	/** The detection of the broadphase pairs */
+	BROADPHASE_DETECT,
+	
+	/** 
+	 * The narrowphase detection and post processing.
+	 * <p>
+	 * When collision detection is run in parallel, this is the sum of all the workers.
+	 */
+	NARROWPHASE,
+	
+	/** 
+	 * The contact manifold generation.
+	 * <p>
+	 * When collision detection is run in parallel, this is the sum of all the workers.
+	 */
+	MANIFOLD,
+	
+	/** The building of the {@link Island}s from the constraint graph */
+	ISLAND_BUILD,
+	
+	/** 
+	 * The velocity integration and velocity constraint solving of all {@link Island}s.
+	 * <p>
+	 * When {@link Island}s are solved in parallel, this is the sum of all the {@link Island}s.
+	 */
+	VELOCITY_SOLVE,
+	
+	/** 
+	 * The position integration, position constraint solving and at-rest detection of all {@link Island}s.
+	 * <p>
+	 * When {@link Island}s are solved in parallel, this is the sum of all the {@link Island}s.
+	 */
+	POSITION_SOLVE,
+	
+	/** The continuous collision detection and time of impact resolution */
+	CONTINUOUS_DETECTION
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import org.dyn4j.exception.ArgumentNullException;
+import org.dyn4j.exception.ValueOutOfRangeException;
+
+/**
+ * Records the time spent in each {@link StepPhase} and the values of each {@link StepCounter}
+ * of the world's steps.
+ * <p>
+ * The profiler is disabled by default, in which case nothing is recorded and the world doesn't
+ * make any calls to {@link System#nanoTime()}.  Once enabled, each step produces one sample.  
+ * The statistics are computed from the last {@link #getWindowSize()} samples.
+ * <p>
+ * Times are reported in nanoseconds.  The phases and counters accumulated in parallel (see 
+ * {@link StepPhase} and {@link StepCounter}) report the sum of all the threads.
+ * <p>
+ * This class is not thread safe.  The statistics should be read between steps, for example in
+ * the {@link org.dyn4j.world.listener.StepListener#end(org.dyn4j.dynamics.TimeStep, PhysicsWorld)}
+ * method.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @see PhysicsWorld#getStepProfiler()
+ */
+public final class StepProfiler {
+	/** The default number of samples used to compute the statistics */
+	public static final int DEFAULT_WINDOW_SIZE = 60;
+	
+	/** The phases */
+	private static final StepPhase[] PHASES = StepPhase.values();
+	
+	/** The counters */
+	private static final StepCounter[] COUNTERS = StepCounter.values();
+	
+	/** The number of samples used to compute the statistics */
+	private final int windowSize;
+	
+	/** The recorded phase times, indexed by phase then sample */
+	private final long[][] times;
+	
+	/** The recorded counter values, indexed by counter then sample */
+	private final long[][] counts;
+	
+	/** The phase times of the current sample */
+	private final long[] currentTimes;
+	
+	/** The counter values of the current sample */
+	private final long[] currentCounts;
+	
+	/** True if recording is enabled */
+	private boolean enabled;
+	
+	/** True if a sample is being recorded */
+	private boolean sampling;
+	
+	/** The index of the next sample */
+	private int index;
+	
+	/** The total number of samples recorded */
+	private long sampleCount;
+	
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Uses the {@link #DEFAULT_WINDOW_SIZE}.
+	 */
+	public StepProfiler() {
+		this(DEFAULT_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Optional constructor.
+	 * @param windowSize the number of samples used to compute the statistics; must be greater than zero
+	 * @throws IllegalArgumentException if windowSize is less than or equal to zero
+	 */
+	public StepProfiler(int windowSize) {
+		if (windowSize <= 0)
+			throw new ValueOutOfRangeException("windowSize", windowSize, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0);
+		
+		this.windowSize = windowSize;
+		this.times = new long[PHASES.length][windowSize];
+		this.counts = new long[COUNTERS.length][windowSize];
+		this.currentTimes = new long[PHASES.length];
+		this.currentCounts = new long[COUNTERS.length];
+		this.enabled = false;
+		this.sampling = false;
+		this.index = 0;
+		this.sampleCount = 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("StepProfiler[Enabled=").append(this.enabled)
+		.append("|WindowSize=").append(this.windowSize)
+		.append("|SampleCount=").append(this.sampleCount);
+		if (this.sampleCount > 0) {
+			for (StepPhase phase : PHASES) {
+				sb.append("|").append(phase).append("=").append(this.getAverageTime(phase));
+			}
+			for (StepCounter counter : COUNTERS) {
+				sb.append("|").append(counter).append("=").append(this.getAverageCount(counter));
+			}
+		}
+		sb.append("]");
+		return sb.toString();
+	}
+	
+	/**
+	 * Clears all the recorded samples.
+	 */
+	public void reset() {
+		for (int i = 0; i < PHASES.length; i++) {
+			for (int j = 0; j < this.windowSize; j++) {
+				this.times[i][j] = 0;
+			}
+			this.currentTimes[i] = 0;
+		}
+		for (int i = 0; i < COUNTERS.length; i++) {
+			for (int j = 0; j < this.windowSize; j++) {
+				this.counts[i][j] = 0;
+			}
+			this.currentCounts[i] = 0;
+		}
+		this.sampling = false;
+		this.index = 0;
+		this.sampleCount = 0;
+	}
+	
+	/**
+	 * Starts a new sample.
+	 * <p>
+	 * Does nothing if the profiler is disabled.
+	 */
+	void begin() {
+		if (!this.enabled) {
+			return;
+		}
+		
+		for (int i = 0; i < PHASES.length; i++) {
+			this.currentTimes[i] = 0;
+		}
+		for (int i = 0; i < COUNTERS.length; i++) {
+			this.currentCounts[i] = 0;
+		}
+		this.sampling = true;
+	}
+	
+	/**
+	 * Ends the current sample and adds it to the statistics.
+	 * <p>
+	 * Does nothing if {@link #begin()} wasn't called while the profiler was enabled.
+	 */
+	void end() {
+		if (!this.sampling) {
+			return;
+		}
+		
+		for (int i = 0; i < PHASES.length; i++) {
+			this.times[i][this.index] = this.currentTimes[i];
+		}
+		for (int i = 0; i < COUNTERS.length; i++) {
+			this.counts[i][this.index] = this.currentCounts[i];
+		}
+		
+		this.index = (this.index + 1) % this.windowSize;
+		this.sampleCount++;
+		this.sampling = false;
+	}
+	
+	/**
+	 * Adds the given time to the given phase of the current sample.
+	 * @param phase the phase
+	 * @param nanoseconds the elapsed time in nanoseconds
+	 */
+	void addTime(StepPhase phase, long nanoseconds) {
+		this.currentTimes[phase.ordinal()] += nanoseconds;
+	}
+	
+	/**
+	 * Adds the given value to the given counter of the current sample.
+	 * @param counter the counter
+	 * @param value the value to add
+	 */
+	void addCount(StepCounter counter, long value) {
+		this.currentCounts[counter.ordinal()] += value;
+	}
+	
+	/**
+	 * Sets the given counter of the current sample to the maximum of its current
+	 * value and the given value.
+	 * @param counter the counter
+	 * @param value the value
+	 */
+	void maxCount(StepCounter counter, long value) {
+		int i = counter.ordinal();
+		if (value > this.currentCounts[i]) {
+			this.currentCounts[i] = value;
+		}
+	}
+	
+	/**
+	 * Returns the number of samples in the window.
+	 * @return int
+	 */
+	private int getWindowSampleCount() {
+		return (int)Math.min(this.sampleCount, this.windowSize);
+	}
+	
+	/**
+	 * Returns the index of the last sample.
+	 * @return int
+	 */
+	private int getLastIndex() {
+		return (this.index + this.windowSize - 1) % this.windowSize;
+	}
+	
+	/**
+	 * Returns the time, in nanoseconds, spent in the given phase during the last step.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param phase the phase
+	 * @return long
+	 * @throws NullPointerException if phase is null
+	 */
+	public long getLastTime(StepPhase phase) {
+		if (phase == null) 
+			throw new ArgumentNullException("phase");
+		
+		if (this.sampleCount == 0) {
+			return 0;
+		}
+		return this.times[phase.ordinal()][this.getLastIndex()];
+	}
+	
+	/**
+	 * Returns the average time, in nanoseconds, spent in the given phase over the 
+	 * samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param phase the phase
+	 * @return double
+	 * @throws NullPointerException if phase is null
+	 */
+	public double getAverageTime(StepPhase phase) {
+		if (phase == null) 
+			throw new ArgumentNullException("phase");
+		
+		return average(this.times[phase.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the minimum time, in nanoseconds, spent in the given phase over the 
+	 * samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param phase the phase
+	 * @return long
+	 * @throws NullPointerException if phase is null
+	 */
+	public long getMinimumTime(StepPhase phase) {
+		if (phase == null) 
+			throw new ArgumentNullException("phase");
+		
+		return minimum(this.times[phase.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the maximum time, in nanoseconds, spent in the given phase over the 
+	 * samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param phase the phase
+	 * @return long
+	 * @throws NullPointerException if phase is null
+	 */
+	public long getMaximumTime(StepPhase phase) {
+		if (phase == null) 
+			throw new ArgumentNullException("phase");
+		
+		return maximum(this.times[phase.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the value of the given counter for the last step.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param counter the counter
+	 * @return long
+	 * @throws NullPointerException if counter is null
+	 */
+	public long getLastCount(StepCounter counter) {
+		if (counter == null) 
+			throw new ArgumentNullException("counter");
+		
+		if (this.sampleCount == 0) {
+			return 0;
+		}
+		return this.counts[counter.ordinal()][this.getLastIndex()];
+	}
+	
+	/**
+	 * Returns the average value of the given counter over the samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param counter the counter
+	 * @return double
+	 * @throws NullPointerException if counter is null
+	 */
+	public double getAverageCount(StepCounter counter) {
+		if (counter == null) 
+			throw new ArgumentNullException("counter");
+		
+		return average(this.counts[counter.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the minimum value of the given counter over the samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param counter the counter
+	 * @return long
+	 * @throws NullPointerException if counter is null
+	 */
+	public long getMinimumCount(StepCounter counter) {
+		if (counter == null) 
+			throw new ArgumentNullException("counter");
+		
+		return minimum(this.counts[counter.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the maximum value of the given counter over the samples in the window.
+	 * <p>
+	 * Returns zero if no samples have been recorded.
+	 * @param counter the counter
+	 * @return long
+	 * @throws NullPointerException if counter is null
+	 */
+	public long getMaximumCount(StepCounter counter) {
+		if (counter == null) 
+			throw new ArgumentNullException("counter");
+		
+		return maximum(this.counts[counter.ordinal()], this.getWindowSampleCount());
+	}
+	
+	/**
+	 * Returns the average of the first n values.
+	 * @param values the values
+	 * @param n the number of values
+	 * @return double
+	 */
+	private static double average(long[] values, int n) {
+		if (n == 0) {
+			return 0.0;
+		}
+		double sum = 0.0;
+		for (int i = 0; i < n; i++) {
+			sum += values[i];
+		}
+		return sum / n;
+	}
+	
+	/**
+	 * Returns the minimum of the first n values.
+	 * @param values the values
+	 * @param n the number of values
+	 * @return long
+	 */
+	private static long minimum(long[] values, int n) {
+		if (n == 0) {
+			return 0;
+		}
+		long min = values[0];
+		for (int i = 1; i < n; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+	
+	/**
+	 * Returns the maximum of the first n values.
+	 * @param values the values
+	 * @param n the number of values
+	 * @return long
+	 */
+	private static long maximum(long[] values, int n) {
+		if (n == 0) {
+			return 0;
+		}
+		long max = values[0];
+		for (int i = 1; i < n; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+	
+	/**
+	 * Returns true if the profiler is enabled.
+	 * @return boolean
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+	
+	/**
+	 * Enables or disables the profiler.
+	 * <p>
+	 * The recorded samples are kept when the profiler is disabled.  Use the {@link #reset()} 
+	 * method to clear them.
+	 * @param flag true if the profiler should be enabled
+	 */
+	public void setEnabled(boolean flag) {
+		this.enabled = flag;
+	}
+	
+	/**
+	 * Returns the number of samples used to compute the statistics.
+	 * @return int
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+	
+	/**
+	 * Returns the total number of samples recorded since this profiler was created or reset.
+	 * @return long
+	 */
+	public long getSampleCount() {
+		return this.sampleCount;
+	}
+}
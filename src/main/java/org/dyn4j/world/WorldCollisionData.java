@@ -27,6 +27,8 @@ package org.dyn4j.world;
 import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.collision.CollisionPair;
 import org.dyn4j.collision.manifold.Manifold;
+import org.dyn4j.collision.narrowphase.CachingNarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.NarrowphaseCache;
 import org.dyn4j.collision.narrowphase.Penetration;
 import org.dyn4j.dynamics.BodyFixture;
 import org.dyn4j.dynamics.PhysicsBody;
@@ -40,7 +42,7 @@ import org.dyn4j.geometry.Vector2;
  * collision detection. Use the {@link #isBroadphaseCollision()} and similar methods to determine the
  * progress of the collision.
  * @author William Bittle
- * @version 5.0.2
+ * @version 6.1.0
  * @since 4.0.0
  * @param <T> the {@link PhysicsBody} type
  */
@@ -66,6 +68,9 @@ public class WorldCollisionData<T extends PhysicsBody> implements ContactCollisi
 	/** The manifold data */
 	private final Manifold manifold;
 	
+	/** The narrowphase cache */
+	private final NarrowphaseCache narrowphaseCache;
+	
 	/** The contact data */
 	private final ContactConstraint<T> contactConstraint;
 	
@@ -91,6 +96,7 @@ public class WorldCollisionData<T extends PhysicsBody> implements ContactCollisi
 		this.pair = pair;
 		this.penetration = new Penetration();
 		this.manifold = new Manifold();
+		this.narrowphaseCache = new NarrowphaseCache();
 		this.contactConstraint = new ContactConstraint<T>(pair);
 		
 		this.broadphaseCollision = false;
@@ -159,6 +165,19 @@ public class WorldCollisionData<T extends PhysicsBody> implements ContactCollisi
 	public Manifold getManifold() {
 		return this.manifold;
 	}
+	
+	/**
+	 * Returns the {@link NarrowphaseCache} used by {@link CachingNarrowphaseDetector}s
+	 * for this {@link CollisionPair}.
+	 * <p>
+	 * The cache is kept for the lifetime of this object and is not cleared by the
+	 * {@link #reset()} method.
+	 * @return {@link NarrowphaseCache}
+	 * @since 6.1.0
+	 */
+	public NarrowphaseCache getNarrowphaseCache() {
+		return this.narrowphaseCache;
+	}
 
 	/* (non-Javadoc)
 	 * @see org.dyn4j.world.NarrowphaseCollisionData#getPenetration()
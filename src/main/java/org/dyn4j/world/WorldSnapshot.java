@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import java.util.Arrays;
+
+import org.dyn4j.Restorable;
+import org.dyn4j.dynamics.contact.ContactConstraint;
+import org.dyn4j.exception.ValueOutOfRangeException;
+
+/**
+ * Represents a saved simulation state of a {@link PhysicsWorld}.
+ * <p>
+ * A snapshot is filled by {@link PhysicsWorld#saveSnapshot(WorldSnapshot)} and applied by
+ * {@link PhysicsWorld#restoreSnapshot(WorldSnapshot)}.  The state is stored in a single 
+ * <code>double</code> array which is reused and only grows when the world does, making it 
+ * suitable for saving the world every step, like for a rollback scheme.
+ * <p>
+ * The snapshot contains the {@link Restorable} state of the bodies and joints of the world, 
+ * the tracked collision pairs and the state of their contact constraints, along with the world's
+ * time step and accumulated time.  It does not contain the structure of the world; restoring a 
+ * snapshot requires the world to have the same bodies, fixtures and joints, in the same order, 
+ * as when the snapshot was saved.
+ * <p>
+ * The collision pairs are stored by the indices of their bodies and fixtures, so a snapshot
+ * doesn't hold onto any objects of the world.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public final class WorldSnapshot {
+	/** The default initial capacity */
+	private static final int DEFAULT_INITIAL_CAPACITY = 256;
+	
+	/** The saved state */
+	double[] state;
+	
+	/** The number of values of the state in use */
+	int size;
+	
+	/** The number of bodies saved */
+	int bodyCount;
+	
+	/** The number of joints saved */
+	int jointCount;
+	
+	/** The number of collision pairs saved */
+	int contactConstraintCount;
+	
+	/**
+	 * Default constructor.
+	 */
+	public WorldSnapshot() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Optional constructor.
+	 * <p>
+	 * The initial capacity is the number of values the snapshot can hold before it needs to grow.
+	 * A body uses 16 values.
+	 * @param initialCapacity the initial capacity
+	 * @throws IllegalArgumentException if initialCapacity is less than zero
+	 */
+	public WorldSnapshot(int initialCapacity) {
+		if (initialCapacity < 0)
+			throw new ValueOutOfRangeException("initialCapacity", initialCapacity, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+		
+		this.state = new double[initialCapacity];
+		this.size = 0;
+		this.bodyCount = 0;
+		this.jointCount = 0;
+		this.contactConstraintCount = 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("WorldSnapshot[Size=").append(this.size)
+		.append("|BodyCount=").append(this.bodyCount)
+		.append("|JointCount=").append(this.jointCount)
+		.append("|ContactConstraintCount=").append(this.contactConstraintCount)
+		.append("]");
+		return sb.toString();
+	}
+	
+	/**
+	 * Clears this snapshot.
+	 * <p>
+	 * The capacity of the snapshot is retained.
+	 */
+	public void clear() {
+		this.size = 0;
+		this.bodyCount = 0;
+		this.jointCount = 0;
+		this.contactConstraintCount = 0;
+	}
+	
+	/**
+	 * Returns true if this snapshot doesn't contain a saved state.
+	 * @return boolean
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	/**
+	 * Returns the number of values in the saved state.
+	 * <p>
+	 * Each value is a <code>double</code>, so the size in bytes is 8 times this value.
+	 * @return int
+	 */
+	public int getSize() {
+		return this.size;
+	}
+	
+	/**
+	 * Returns the number of values this snapshot can hold without growing.
+	 * @return int
+	 */
+	public int getCapacity() {
+		return this.state.length;
+	}
+	
+	/**
+	 * Returns the number of bodies in the saved state.
+	 * @return int
+	 */
+	public int getBodyCount() {
+		return this.bodyCount;
+	}
+	
+	/**
+	 * Returns the number of joints in the saved state.
+	 * @return int
+	 */
+	public int getJointCount() {
+		return this.jointCount;
+	}
+	
+	/**
+	 * Returns the number of contact constraints in the saved state.
+	 * <p>
+	 * This is the number of collision pairs tracked by the world, each of which has a 
+	 * contact constraint, even if it has no contacts.
+	 * @return int
+	 */
+	public int getContactConstraintCount() {
+		return this.contactConstraintCount;
+	}
+	
+	/**
+	 * Appends the state of the given object to this snapshot.
+	 * @param restorable the object to save
+	 */
+	void save(Restorable restorable) {
+		int n = restorable.getStateSize();
+		this.ensureCapacity(this.size + n);
+		restorable.saveState(this.state, this.size);
+		this.size += n;
+	}
+	
+	/**
+	 * Appends a collision pair and the state of its contact constraint to this snapshot.
+	 * <p>
+	 * The pair is saved as the indices of its bodies and fixtures followed by the contact
+	 * state prefixed with its size, since the number of contacts can change between saving 
+	 * and restoring.
+	 * @param body1 the index of the first body
+	 * @param fixture1 the index of the first body's fixture
+	 * @param body2 the index of the second body
+	 * @param fixture2 the index of the second body's fixture
+	 * @param contactConstraint the contact constraint to save
+	 */
+	void save(int body1, int fixture1, int body2, int fixture2, ContactConstraint<?> contactConstraint) {
+		int n = contactConstraint.getStateSize();
+		this.ensureCapacity(this.size + n + 5);
+		this.state[this.size] = body1;
+		this.state[this.size + 1] = fixture1;
+		this.state[this.size + 2] = body2;
+		this.state[this.size + 3] = fixture2;
+		this.state[this.size + 4] = n;
+		contactConstraint.saveState(this.state, this.size + 5);
+		this.size += n + 5;
+		this.contactConstraintCount++;
+	}
+	
+	/**
+	 * Appends the given value to this snapshot.
+	 * @param value the value
+	 */
+	void save(double value) {
+		this.ensureCapacity(this.size + 1);
+		this.state[this.size++] = value;
+	}
+	
+	/**
+	 * Grows the state array to hold at least the given number of values.
+	 * @param capacity the required capacity
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.state.length) {
+			this.state = Arrays.copyOf(this.state, Math.max(capacity, this.state.length * 2));
+		}
+	}
+}
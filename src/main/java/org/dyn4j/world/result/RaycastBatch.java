@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2010-2024 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met:
+ *
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *     and the following disclaimer in the documentation and/or other materials provided with the
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or
+ *     promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world.result;
+
+import java.util.Arrays;
+
+import org.dyn4j.collision.CollisionBody;
+import org.dyn4j.collision.Fixture;
+import org.dyn4j.exception.ValueOutOfRangeException;
+
+/**
+ * Represents a reusable batch of rays and their closest hits.
+ * <p>
+ * The rays and results are stored in primitive arrays that are exposed directly so that
+ * callers can fill and read them without creating any objects.  The start points, directions,
+ * points and normals are packed as x, y pairs so that the values for ray <code>i</code> are at
+ * indices <code>2i</code> and <code>2i + 1</code>.  The directions do not need to be normalized.
+ * A length less than or equal to zero represents infinite length.
+ * <p>
+ * Only the first {@link #getCount()} rays are cast.  The results for a ray that didn't hit
+ * anything have a distance of -1 and a null body and fixture.
+ * <pre>
+ * RaycastBatch&lt;Body, BodyFixture&gt; batch = new RaycastBatch&lt;Body, BodyFixture&gt;(1000);
+ * batch.set(0, 0.0, 0.0, 1.0, 0.0, 10.0);
+ * // ...
+ * batch.setCount(1000);
+ * world.raycastClosest(batch, filter);
+ * if (batch.isHit(0)) {
+ *   double distance = batch.getDistances()[0];
+ * }
+ * </pre>
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ * @param <T> the {@link CollisionBody} type
+ * @param <E> the {@link Fixture} type
+ */
+public final class RaycastBatch<T extends CollisionBody<E>, E extends Fixture> {
+	/** The start points of the rays as x, y pairs */
+	private final double[] starts;
+
+	/** The directions of the rays as x, y pairs */
+	private final double[] directions;
+
+	/** The lengths of the rays */
+	private final double[] lengths;
+
+	/** The distance to the closest hit of each ray; -1 if the ray didn't hit anything */
+	private final double[] distances;
+
+	/** The closest hit points as x, y pairs */
+	private final double[] points;
+
+	/** The closest hit normals as x, y pairs */
+	private final double[] normals;
+
+	/** The bodies of the closest hits */
+	private final Object[] bodies;
+
+	/** The fixtures of the closest hits */
+	private final Object[] fixtures;
+
+	/** The number of rays to cast */
+	private int count;
+
+	/**
+	 * Minimal constructor.
+	 * @param capacity the maximum number of rays in the batch
+	 * @throws IllegalArgumentException if capacity is less than or equal to zero
+	 */
+	public RaycastBatch(int capacity) {
+		if (capacity <= 0)
+			throw new ValueOutOfRangeException("capacity", capacity, ValueOutOfRangeException.MUST_BE_GREATER_THAN, 0);
+
+		this.starts = new double[capacity * 2];
+		this.directions = new double[capacity * 2];
+		this.lengths = new double[capacity];
+		this.distances = new double[capacity];
+		this.points = new double[capacity * 2];
+		this.normals = new double[capacity * 2];
+		this.bodies = new Object[capacity];
+		this.fixtures = new Object[capacity];
+		this.count = 0;
+
+		Arrays.fill(this.distances, -1.0);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("RaycastBatch[Capacity=").append(this.lengths.length)
+		.append("|Count=").append(this.count)
+		.append("]");
+		return sb.toString();
+	}
+
+	/**
+	 * Sets the ray at the given index.
+	 * <p>
+	 * This does not change the number of rays to cast.
+	 * @param index the index of the ray
+	 * @param startX the x coordinate of the start point
+	 * @param startY the y coordinate of the start point
+	 * @param directionX the x component of the direction
+	 * @param directionY the y component of the direction
+	 * @param length the length of the ray; less than or equal to zero for infinite length
+	 * @throws IndexOutOfBoundsException if index is less than zero or greater than or equal to the capacity
+	 * @see #setCount(int)
+	 */
+	public void set(int index, double startX, double startY, double directionX, double directionY, double length) {
+		int i2 = index * 2;
+		this.lengths[index] = length;
+		this.starts[i2] = startX;
+		this.starts[i2 + 1] = startY;
+		this.directions[i2] = directionX;
+		this.directions[i2 + 1] = directionY;
+	}
+
+	/**
+	 * Returns the maximum number of rays in this batch.
+	 * @return int
+	 */
+	public int getCapacity() {
+		return this.lengths.length;
+	}
+
+	/**
+	 * Returns the number of rays to cast.
+	 * @return int
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Sets the number of rays to cast.
+	 * <p>
+	 * The rays at indices zero to count - 1 are cast.
+	 * @param count the number of rays
+	 * @throws IllegalArgumentException if count is less than zero or greater than the capacity
+	 */
+	public void setCount(int count) {
+		if (count < 0)
+			throw new ValueOutOfRangeException("count", count, ValueOutOfRangeException.MUST_BE_GREATER_THAN_OR_EQUAL_TO, 0);
+
+		if (count > this.lengths.length)
+			throw new ValueOutOfRangeException("count", count, ValueOutOfRangeException.MUST_BE_LESS_THAN_OR_EQUAL_TO, "capacity", this.lengths.length);
+
+		this.count = count;
+	}
+
+	/**
+	 * Returns the start points of the rays as x, y pairs.
+	 * <p>
+	 * The returned array is the backing array of this batch.
+	 * @return double[]
+	 */
+	public double[] getStarts() {
+		return this.starts;
+	}
+
+	/**
+	 * Returns the directions of the rays as x, y pairs.
+	 * <p>
+	 * The returned array is the backing array of this batch.
+	 * @return double[]
+	 */
+	public double[] getDirections() {
+		return this.directions;
+	}
+
+	/**
+	 * Returns the lengths of the rays.
+	 * <p>
+	 * The returned array is the backing array of this batch.
+	 * @return double[]
+	 */
+	public double[] getLengths() {
+		return this.lengths;
+	}
+
+	/**
+	 * Returns the distance along each ray to its closest hit or -1 if the ray didn't hit anything.
+	 * <p>
+	 * The returned array is the backing array of this batch.
+	 * @return double[]
+	 */
+	public double[] getDistances() {
+		return this.distances;
+	}
+
+	/**
+	 * Returns the closest hit point of each ray as x, y pairs.
+	 * <p>
+	 * The returned array is the backing array of this batch.  The values are
+	 * undefined for the rays that didn't hit anything.
+	 * @return double[]
+	 */
+	public double[] getPoints() {
+		return this.points;
+	}
+
+	/**
+	 * Returns the normal at the closest hit point of each ray as x, y pairs.
+	 * <p>
+	 * The returned array is the backing array of this batch.  The values are
+	 * undefined for the rays that didn't hit anything.
+	 * @return double[]
+	 */
+	public double[] getNormals() {
+		return this.normals;
+	}
+
+	/**
+	 * Returns true if the ray at the given index hit something.
+	 * @param index the index of the ray
+	 * @return boolean
+	 */
+	public boolean isHit(int index) {
+		return this.bodies[index] != null;
+	}
+
+	/**
+	 * Returns the body of the closest hit of the ray at the given index.
+	 * @param index the index of the ray
+	 * @return T the body or null if the ray didn't hit anything
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBody(int index) {
+		return (T)this.bodies[index];
+	}
+
+	/**
+	 * Returns the fixture of the closest hit of the ray at the given index.
+	 * @param index the index of the ray
+	 * @return E the fixture or null if the ray didn't hit anything
+	 */
+	@SuppressWarnings("unchecked")
+	public E getFixture(int index) {
+		return (E)this.fixtures[index];
+	}
+
+	/**
+	 * Clears the result of the ray at the given index.
+	 * @param index the index of the ray
+	 */
+	public void clearResult(int index) {
+		this.distances[index] = -1.0;
+		this.bodies[index] = null;
+		this.fixtures[index] = null;
+	}
+
+	/**
+	 * Clears the results of all the rays.
+	 * <p>
+	 * The rays themselves are retained.
+	 */
+	public void clearResults() {
+		Arrays.fill(this.distances, -1.0);
+		Arrays.fill(this.bodies, null);
+		Arrays.fill(this.fixtures, null);
+	}
+
+	/**
+	 * Sets the result of the ray at the given index.
+	 * @param index the index of the ray
+	 * @param body the body that was hit
+	 * @param fixture the fixture that was hit
+	 * @param distance the distance along the ray to the hit
+	 * @param pointX the x coordinate of the hit point
+	 * @param pointY the y coordinate of the hit point
+	 * @param normalX the x component of the normal at the hit point
+	 * @param normalY the y component of the normal at the hit point
+	 */
+	public void setResult(int index, T body, E fixture, double distance, double pointX, double pointY, double normalX, double normalY) {
+		int i2 = index * 2;
+		this.bodies[index] = body;
+		this.fixtures[index] = fixture;
+		this.distances[index] = distance;
+		this.points[i2] = pointX;
+		this.points[i2 + 1] = pointY;
+		this.normals[i2] = normalX;
+		this.normals[i2 + 1] = normalY;
+	}
+}
@@ -24,10 +24,22 @@
  */
 package org.dyn4j.collision.broadphase;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 import org.dyn4j.collision.CollisionItem;
+import org.dyn4j.collision.CollisionPair;
 import org.dyn4j.collision.Fixture;
 import org.dyn4j.collision.TestCollisionBody;
+import org.dyn4j.geometry.AABB;
 import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.Vector2;
+import org.junit.Assume;
 import org.junit.Test;
 
 import junit.framework.TestCase;
@@ -35,7 +47,7 @@ import junit.framework.TestCase;
 /**
  * A collection of broadphase tests that are specific to the implementations.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  */
 public class AssortedBroadphaseTest {
@@ -115,6 +127,648 @@ public class AssortedBroadphaseTest {
 		TestCase.assertTrue(broadphase.isValid());
 	}
 	
+	/**
+	 * Tests methods specific to the PackedDynamicAABBTree detector.
+	 */
+	@Test
+	public void packedDynamicAABBSpecial() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		// use a small capacity to test growing the storage
+		PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> broadphase = new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(
+				broadphaseFilter,
+				aabbProducer,
+				aabbExpansionMethod,
+				0);
+		
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertEquals(0, broadphase.getHeight());
+		TestCase.assertEquals(0.0, broadphase.getPerimeterRatio());
+		
+		TestCollisionBody ct1 = new TestCollisionBody(Geometry.createCircle(1.0));
+		broadphase.add(new BroadphaseItem<TestCollisionBody, Fixture>(ct1, ct1.getFixture(0)));
+		
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertEquals(0, broadphase.getHeight());
+		TestCase.assertTrue(broadphase.getPerimeterRatio() > 0);
+		
+		TestCollisionBody ct2 = new TestCollisionBody(Geometry.createCircle(1.0));
+		ct2.addFixture(Geometry.createCircle(0.5));
+		broadphase.add(new BroadphaseItem<TestCollisionBody, Fixture>(ct2, ct2.getFixture(0)));
+		broadphase.add(new BroadphaseItem<TestCollisionBody, Fixture>(ct2, ct2.getFixture(1)));
+		
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertTrue(broadphase.getHeight() > 0);
+		TestCase.assertTrue(broadphase.getPerimeterRatio() > 0);
+		
+		// make sure the returned AABB is a copy
+		AABB aabb = broadphase.getAABB(new BroadphaseItem<TestCollisionBody, Fixture>(ct1, ct1.getFixture(0)));
+		aabb.translate(10.0, 10.0);
+		TestCase.assertFalse(aabb.equals(broadphase.getAABB(new BroadphaseItem<TestCollisionBody, Fixture>(ct1, ct1.getFixture(0)))));
+		TestCase.assertTrue(broadphase.detect(
+				new BroadphaseItem<TestCollisionBody, Fixture>(ct1, ct1.getFixture(0)), 
+				new BroadphaseItem<TestCollisionBody, Fixture>(ct2, ct2.getFixture(1))));
+		
+		// removing and adding should reuse nodes
+		broadphase.remove(new BroadphaseItem<TestCollisionBody, Fixture>(ct2, ct2.getFixture(0)));
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertEquals(2, broadphase.size());
+		broadphase.add(new BroadphaseItem<TestCollisionBody, Fixture>(ct2, ct2.getFixture(0)));
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertEquals(3, broadphase.size());
+		
+		broadphase.clear();
+		TestCase.assertTrue(broadphase.isValid());
+		TestCase.assertEquals(0, broadphase.getHeight());
+		TestCase.assertEquals(0, broadphase.size());
+		
+		try {
+			new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod, -1);
+			TestCase.fail();
+		} catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+	
+	/**
+	 * Tests that the PackedDynamicAABBTree builds the same tree and returns the same 
+	 * results as the DynamicAABBTree.
+	 */
+	@Test
+	public void packedDynamicAABBSameAsDynamicAABB() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> packed = new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod, 4);
+		tree.setUpdateTrackingEnabled(true);
+		packed.setUpdateTrackingEnabled(true);
+		
+		Random random = new Random(17);
+		List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		for (int i = 0; i < 200; i++) {
+			TestCollisionBody body = new TestCollisionBody(i % 2 == 0 ? Geometry.createCircle(0.5) : Geometry.createRectangle(1.0, 0.25));
+			body.translate(random.nextDouble() * 40.0 - 20.0, random.nextDouble() * 40.0 - 20.0);
+			CollisionItem<TestCollisionBody, Fixture> item = new BroadphaseItem<TestCollisionBody, Fixture>(body, body.getFixture(0));
+			items.add(item);
+			tree.add(item);
+			packed.add(item);
+		}
+		
+		for (int k = 0; k < 20; k++) {
+			// move some of the items
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				if (random.nextDouble() < 0.3) {
+					item.getBody().translate(random.nextDouble() * 2.0 - 1.0, random.nextDouble() * 2.0 - 1.0);
+				}
+			}
+			
+			// remove and re-add some of the items
+			// NOTE: the trees order their leaves differently after a
+			// removal so we can only compare their structure before
+			for (int i = 0; i < 5 && k >= 10; i++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(random.nextInt(items.size()));
+				TestCase.assertEquals(tree.remove(item), packed.remove(item));
+				if (random.nextBoolean()) {
+					tree.add(item);
+					packed.add(item);
+				}
+			}
+			
+			tree.update();
+			packed.update();
+			
+			if (k == 5 || k == 15) {
+				tree.optimize();
+				packed.optimize();
+			}
+			
+			TestCase.assertTrue(packed.isValid());
+			TestCase.assertEquals(tree.size(), packed.size());
+			if (k < 10) {
+				TestCase.assertEquals(tree.getHeight(), packed.getHeight());
+				TestCase.assertEquals(tree.getPerimeterRatio(), packed.getPerimeterRatio());
+			}
+			
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(false)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(packed.detect(false)));
+			TestCase.assertEquals(tree.detect(false).size(), packed.detect(false).size());
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(packed.detect(true)));
+			TestCase.assertEquals(tree.detect(true).size(), packed.detect(true).size());
+			
+			AABB aabb = new AABB(-5.0, -5.0, 5.0, 5.0);
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.detect(aabb)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(packed.detect(aabb)));
+			
+			Ray ray = new Ray(new Vector2(-20.0, -18.0), new Vector2(1.0, 0.9));
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 0.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(packed.raycast(ray, 0.0)));
+			
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				TestCase.assertEquals(tree.contains(item), packed.contains(item));
+				TestCase.assertEquals(tree.isUpdated(item), packed.isUpdated(item));
+				if (tree.contains(item)) {
+					TestCase.assertEquals(tree.getAABB(item), packed.getAABB(item));
+				}
+			}
+			
+			tree.clearUpdates();
+			packed.clearUpdates();
+		}
+	}
+	
+	/**
+	 * Tests that the DynamicAABBTree reports raycast items front to back and
+	 * stops reporting items beyond the length returned by the listener.
+	 */
+	@Test
+	public void dynamicAABBRaycastOrdered() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		final DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		
+		// empty tree
+		tree.raycast(new Ray(new Vector2(1.0, 0.0)), 0.0, new BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public double raycast(CollisionItem<TestCollisionBody, Fixture> object, double length) {
+				TestCase.fail();
+				return length;
+			}
+		});
+		
+		// add the items in a random order so that the tree order isn't the ray order
+		List<Integer> order = new ArrayList<Integer>();
+		for (int i = 0; i < 50; i++) {
+			order.add(i);
+		}
+		java.util.Collections.shuffle(order, new Random(7));
+		for (int i : order) {
+			TestCollisionBody b = new TestCollisionBody(Geometry.createSquare(0.5));
+			b.translate(i, (i % 3) * 0.1);
+			tree.add(new BroadphaseItem<TestCollisionBody, Fixture>(b, b.getFixture(0)));
+		}
+		
+		final Ray ray = new Ray(new Vector2(-5.0, 0.0), new Vector2(1.0, 0.0));
+		final List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		
+		// without shortening the ray every item is reported from front to back
+		tree.raycast(ray, 0.0, new BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public double raycast(CollisionItem<TestCollisionBody, Fixture> object, double length) {
+				items.add(object);
+				return length;
+			}
+		});
+		TestCase.assertEquals(50, items.size());
+		TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 0.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(items));
+		for (int i = 1; i < items.size(); i++) {
+			TestCase.assertTrue(tree.getAABB(items.get(i - 1)).getMinX() <= tree.getAABB(items.get(i)).getMinX());
+		}
+		
+		// shortening the ray to the first item only reports its neighbors
+		CollisionItem<TestCollisionBody, Fixture> first = items.get(0);
+		items.clear();
+		tree.raycast(ray, 0.0, new BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public double raycast(CollisionItem<TestCollisionBody, Fixture> object, double length) {
+				items.add(object);
+				return Math.min(length, tree.getAABB(object).getMaxX() - ray.getStart().x);
+			}
+		});
+		TestCase.assertTrue(items.size() < 4);
+		TestCase.assertSame(first, items.get(0));
+	}
+	
+	/**
+	 * Tests that the pairs tracked by the DynamicAABBTree are the same as
+	 * the pairs found by a full detection.
+	 */
+	@Test
+	public void dynamicAABBPairTracking() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		TestCase.assertTrue(tree.isPairTrackingSupported());
+		TestCase.assertFalse(tree.isPairTrackingEnabled());
+		
+		final Set<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>> pairs = new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>();
+		BroadphasePairListener<CollisionItem<TestCollisionBody, Fixture>> listener = new BroadphasePairListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public void pairAdded(CollisionItem<TestCollisionBody, Fixture> first, CollisionItem<TestCollisionBody, Fixture> second) {
+				// pairs should only be reported once
+				TestCase.assertTrue(pairs.add(new BroadphasePair<CollisionItem<TestCollisionBody, Fixture>>(first, second)));
+			}
+			@Override
+			public void pairRemoved(CollisionItem<TestCollisionBody, Fixture> first, CollisionItem<TestCollisionBody, Fixture> second) {
+				TestCase.assertTrue(pairs.remove(new BroadphasePair<CollisionItem<TestCollisionBody, Fixture>>(first, second)));
+			}
+		};
+		
+		Random random = new Random(23);
+		List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		for (int i = 0; i < 200; i++) {
+			TestCollisionBody body = new TestCollisionBody(i % 2 == 0 ? Geometry.createCircle(0.5) : Geometry.createRectangle(1.0, 0.25));
+			body.translate(random.nextDouble() * 30.0 - 15.0, random.nextDouble() * 30.0 - 15.0);
+			CollisionItem<TestCollisionBody, Fixture> item = new BroadphaseItem<TestCollisionBody, Fixture>(body, body.getFixture(0));
+			items.add(item);
+			tree.add(item);
+		}
+		
+		// nothing should be reported when disabled
+		tree.updatePairs(listener);
+		TestCase.assertTrue(pairs.isEmpty());
+		
+		// all the existing pairs should be reported after enabling
+		tree.setPairTrackingEnabled(true);
+		TestCase.assertTrue(tree.isPairTrackingEnabled());
+		tree.updatePairs(listener);
+		TestCase.assertFalse(pairs.isEmpty());
+		TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), pairs);
+		
+		// nothing changed, so nothing should be reported
+		tree.updatePairs(listener);
+		TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), pairs);
+		
+		for (int k = 0; k < 20; k++) {
+			// move some of the items
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				if (random.nextDouble() < 0.3) {
+					item.getBody().translate(random.nextDouble() * 2.0 - 1.0, random.nextDouble() * 2.0 - 1.0);
+				}
+			}
+			
+			// remove and re-add some of the items
+			for (int i = 0; i < 5; i++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(random.nextInt(items.size()));
+				tree.remove(item);
+				if (random.nextBoolean()) {
+					tree.add(item);
+				}
+			}
+			
+			tree.update();
+			
+			if (k == 10) {
+				tree.optimize();
+			}
+			
+			tree.updatePairs(listener);
+			TestCase.assertTrue(tree.isValid());
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), pairs);
+		}
+		
+		// disabling should stop the reporting
+		tree.setPairTrackingEnabled(false);
+		TestCase.assertFalse(tree.isPairTrackingEnabled());
+		pairs.clear();
+		tree.updatePairs(listener);
+		TestCase.assertTrue(pairs.isEmpty());
+		
+		// clearing should remove the pending changes
+		tree.setPairTrackingEnabled(true);
+		tree.clear();
+		tree.updatePairs(listener);
+		TestCase.assertTrue(pairs.isEmpty());
+		
+		// the other detectors don't support it
+		Sap<CollisionItem<TestCollisionBody, Fixture>> sap = new Sap<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		sap.setPairTrackingEnabled(true);
+		TestCase.assertFalse(sap.isPairTrackingSupported());
+		TestCase.assertFalse(sap.isPairTrackingEnabled());
+		
+		// the adapter should delegate
+		CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture> adapter = new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(tree);
+		TestCase.assertTrue(adapter.isPairTrackingSupported());
+		TestCase.assertTrue(adapter.isPairTrackingEnabled());
+		adapter.setPairTrackingEnabled(false);
+		TestCase.assertFalse(tree.isPairTrackingEnabled());
+	}
+	
+	/**
+	 * Tests that the DynamicAABBTree reports each pair once, from the first added item,
+	 * when detecting only the updated items.
+	 */
+	@Test
+	public void dynamicAABBDetectUpdated() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new NullAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>();
+		
+		DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		tree.setUpdateTrackingEnabled(true);
+		
+		TestCollisionBody b1 = new TestCollisionBody(Geometry.createCircle(1.0));
+		TestCollisionBody b2 = new TestCollisionBody(Geometry.createCircle(1.0));
+		TestCollisionBody b3 = new TestCollisionBody(Geometry.createCircle(1.0));
+		CollisionItem<TestCollisionBody, Fixture> i1 = new BroadphaseItem<TestCollisionBody, Fixture>(b1, b1.getFixture(0));
+		CollisionItem<TestCollisionBody, Fixture> i2 = new BroadphaseItem<TestCollisionBody, Fixture>(b2, b2.getFixture(0));
+		CollisionItem<TestCollisionBody, Fixture> i3 = new BroadphaseItem<TestCollisionBody, Fixture>(b3, b3.getFixture(0));
+		
+		tree.add(i1);
+		tree.add(i2);
+		tree.add(i3);
+		tree.clearUpdates();
+		
+		// update them in the opposite order they were added
+		b3.translate(0.5, 0.0);
+		b1.translate(0.5, 0.0);
+		tree.update(i3);
+		tree.update(i1);
+		
+		List<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>> pairs = tree.detect(false);
+		TestCase.assertEquals(3, pairs.size());
+		TestCase.assertEquals(3, new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(pairs).size());
+	}
+	
+	/**
+	 * Tests that the BoxPruning detector returns the same results as the DynamicAABBTree.
+	 */
+	@Test
+	public void boxPruningSameAsDynamicAABB() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		BoxPruning<CollisionItem<TestCollisionBody, Fixture>> bp = new BoxPruning<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod, 4);
+		tree.setUpdateTrackingEnabled(true);
+		bp.setUpdateTrackingEnabled(true);
+		
+		Random random = new Random(31);
+		List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		for (int i = 0; i < 200; i++) {
+			TestCollisionBody body = new TestCollisionBody(i % 2 == 0 ? Geometry.createCircle(0.5) : Geometry.createRectangle(1.0, 0.25));
+			body.translate(random.nextDouble() * 40.0 - 20.0, random.nextDouble() * 40.0 - 20.0);
+			CollisionItem<TestCollisionBody, Fixture> item = new BroadphaseItem<TestCollisionBody, Fixture>(body, body.getFixture(0));
+			items.add(item);
+			tree.add(item);
+			bp.add(item);
+		}
+		
+		for (int k = 0; k < 20; k++) {
+			// move some of the items, squeezing them along x
+			// half way through to force the sweep axis to change
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				if (k == 10) {
+					Vector2 c = item.getBody().getTransform().getTranslation();
+					item.getBody().translate(-c.x * 0.9, 0.0);
+				} else if (random.nextDouble() < 0.3) {
+					item.getBody().translate(random.nextDouble() * 2.0 - 1.0, random.nextDouble() * 2.0 - 1.0);
+				}
+			}
+			
+			// remove and re-add some of the items
+			for (int i = 0; i < 5; i++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(random.nextInt(items.size()));
+				TestCase.assertEquals(tree.remove(item), bp.remove(item));
+				if (random.nextBoolean()) {
+					tree.add(item);
+					bp.add(item);
+				}
+			}
+			
+			tree.update();
+			bp.update();
+			
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(false)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(bp.detect(false)));
+			TestCase.assertEquals(tree.detect(false).size(), bp.detect(false).size());
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(bp.detect(true)));
+			TestCase.assertEquals(tree.detect(true).size(), bp.detect(true).size());
+			TestCase.assertTrue(bp.isValid());
+			TestCase.assertEquals(k < 10, bp.isSweepingX());
+			
+			AABB aabb = new AABB(-5.0, -5.0, 5.0, 5.0);
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.detect(aabb)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(bp.detect(aabb)));
+			
+			Ray ray = new Ray(new Vector2(-20.0, -18.0), new Vector2(1.0, 0.9));
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 0.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(bp.raycast(ray, 0.0)));
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 10.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(bp.raycast(ray, 10.0)));
+			
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				TestCase.assertEquals(tree.contains(item), bp.contains(item));
+				TestCase.assertEquals(tree.isUpdated(item), bp.isUpdated(item));
+				if (tree.contains(item)) {
+					TestCase.assertEquals(tree.getAABB(item), bp.getAABB(item));
+				}
+			}
+			
+			tree.clearUpdates();
+			bp.clearUpdates();
+		}
+		
+		bp.clear();
+		TestCase.assertEquals(0, bp.size());
+		TestCase.assertTrue(bp.isValid());
+		TestCase.assertTrue(bp.detect(false).isEmpty());
+	}
+	
+	/**
+	 * Tests creating a BoxPruning detector with a negative capacity.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void boxPruningNegativeCapacity() {
+		new BoxPruning<CollisionItem<TestCollisionBody, Fixture>>(
+				new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>(), 
+				new CollisionItemAABBProducer<TestCollisionBody, Fixture>(), 
+				new NullAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(), 
+				-1);
+	}
+	
+	/**
+	 * Tests that the HashedGrid detector returns the same results as the DynamicAABBTree.
+	 */
+	@Test
+	public void hashedGridSameAsDynamicAABB() {
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		
+		DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> tree = new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		HashedGrid<CollisionItem<TestCollisionBody, Fixture>> hg = new HashedGrid<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod, 1.5, 4);
+		tree.setUpdateTrackingEnabled(true);
+		hg.setUpdateTrackingEnabled(true);
+		
+		Random random = new Random(47);
+		List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		for (int i = 0; i < 200; i++) {
+			// include a few large items that span many cells
+			TestCollisionBody body = new TestCollisionBody(i % 2 == 0 ? Geometry.createCircle(0.5) : Geometry.createRectangle(i % 25 == 1 ? 6.0 : 1.0, 0.25));
+			body.translate(random.nextDouble() * 40.0 - 20.0, random.nextDouble() * 40.0 - 20.0);
+			CollisionItem<TestCollisionBody, Fixture> item = new BroadphaseItem<TestCollisionBody, Fixture>(body, body.getFixture(0));
+			items.add(item);
+			tree.add(item);
+			hg.add(item);
+		}
+		
+		for (int k = 0; k < 20; k++) {
+			// move some of the items
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				if (random.nextDouble() < 0.3) {
+					item.getBody().translate(random.nextDouble() * 2.0 - 1.0, random.nextDouble() * 2.0 - 1.0);
+				}
+			}
+			
+			// remove and re-add some of the items
+			for (int i = 0; i < 5; i++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(random.nextInt(items.size()));
+				TestCase.assertEquals(tree.remove(item), hg.remove(item));
+				if (random.nextBoolean()) {
+					tree.add(item);
+					hg.add(item);
+				}
+			}
+			
+			tree.update();
+			hg.update();
+			
+			// shift the world part of the way through
+			if (k == 10) {
+				Vector2 shift = new Vector2(3.7, -2.2);
+				tree.shift(shift);
+				hg.shift(shift);
+				for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+					item.getBody().translate(shift);
+				}
+			}
+			
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(false)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(hg.detect(false)));
+			TestCase.assertEquals(tree.detect(false).size(), hg.detect(false).size());
+			TestCase.assertEquals(new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(tree.detect(true)), new HashSet<CollisionPair<CollisionItem<TestCollisionBody, Fixture>>>(hg.detect(true)));
+			TestCase.assertEquals(tree.detect(true).size(), hg.detect(true).size());
+			TestCase.assertTrue(hg.isValid());
+			
+			// small queries walk the cells, large ones test the items directly
+			AABB aabb = new AABB(-5.0, -5.0, 5.0, 5.0);
+			TestCase.assertEquals(tree.detect(aabb).size(), hg.detect(aabb).size());
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.detect(aabb)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(hg.detect(aabb)));
+			aabb = new AABB(-100.0, -100.0, 100.0, 100.0);
+			TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.detect(aabb)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(hg.detect(aabb)));
+			
+			Ray[] rays = new Ray[] {
+				new Ray(new Vector2(-20.0, -18.0), new Vector2(1.0, 0.9)),
+				new Ray(new Vector2(15.0, 3.0), new Vector2(-1.0, 0.0)),
+				new Ray(new Vector2(0.3, 30.0), new Vector2(0.0, -1.0)),
+				new Ray(new Vector2(0.0, 0.0), new Vector2(-0.3, -1.0))
+			};
+			for (Ray ray : rays) {
+				List<CollisionItem<TestCollisionBody, Fixture>> hits = hg.raycast(ray, 0.0);
+				TestCase.assertEquals(tree.raycast(ray, 0.0).size(), hits.size());
+				TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 0.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(hits));
+				TestCase.assertEquals(new HashSet<CollisionItem<TestCollisionBody, Fixture>>(tree.raycast(ray, 10.0)), new HashSet<CollisionItem<TestCollisionBody, Fixture>>(hg.raycast(ray, 10.0)));
+			}
+			
+			for (CollisionItem<TestCollisionBody, Fixture> item : items) {
+				TestCase.assertEquals(tree.contains(item), hg.contains(item));
+				TestCase.assertEquals(tree.isUpdated(item), hg.isUpdated(item));
+				if (tree.contains(item)) {
+					TestCase.assertEquals(tree.getAABB(item), hg.getAABB(item));
+				}
+			}
+			
+			tree.clearUpdates();
+			hg.clearUpdates();
+		}
+		
+		// check the metrics
+		TestCase.assertEquals(1.5, hg.getCellSize());
+		TestCase.assertTrue(hg.getOccupiedCellCount() > 0);
+		TestCase.assertTrue(hg.getAverageCellOccupancy() >= 1.0);
+		TestCase.assertTrue(hg.getMaximumCellOccupancy() >= hg.getAverageCellOccupancy());
+		TestCase.assertTrue(hg.getAverageCellsPerProxy() >= 1.0);
+		
+		hg.optimize();
+		TestCase.assertTrue(hg.isValid());
+		
+		hg.clear();
+		TestCase.assertEquals(0, hg.size());
+		TestCase.assertTrue(hg.isValid());
+		TestCase.assertEquals(0, hg.getOccupiedCellCount());
+		TestCase.assertEquals(0.0, hg.getAverageCellOccupancy());
+		TestCase.assertEquals(0.0, hg.getAverageCellsPerProxy());
+		TestCase.assertTrue(hg.detect(false).isEmpty());
+		TestCase.assertTrue(hg.raycast(new Ray(new Vector2(), new Vector2(1.0, 0.0)), 0.0).isEmpty());
+	}
+	
+	/**
+	 * Tests creating a HashedGrid detector with an invalid cell size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void hashedGridInvalidCellSize() {
+		new HashedGrid<CollisionItem<TestCollisionBody, Fixture>>(
+				new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>(), 
+				new CollisionItemAABBProducer<TestCollisionBody, Fixture>(), 
+				new NullAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(), 
+				0.0);
+	}
+	
+	/**
+	 * Tests that updating the PackedDynamicAABBTree doesn't allocate.
+	 * @throws Exception if the allocation counter can't be read
+	 */
+	@Test
+	public void packedDynamicAABBUpdateAllocationFree() throws Exception {
+		Object bean = null;
+		Method method = null;
+		try {
+			bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+			method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+			method.invoke(bean, Thread.currentThread().getId());
+		} catch (Exception e) {
+			Assume.assumeNoException(e);
+		}
+		
+		BroadphaseFilter<CollisionItem<TestCollisionBody, Fixture>> broadphaseFilter = new CollisionItemBroadphaseFilter<TestCollisionBody, Fixture>();
+		AABBProducer<CollisionItem<TestCollisionBody, Fixture>> aabbProducer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		AABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>> aabbExpansionMethod = new StaticValueAABBExpansionMethod<CollisionItem<TestCollisionBody, Fixture>>(0.2);
+		PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>> broadphase = new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+		broadphase.setUpdateTrackingEnabled(true);
+		
+		List<CollisionItem<TestCollisionBody, Fixture>> items = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		for (int i = 0; i < 100; i++) {
+			TestCollisionBody body = new TestCollisionBody(Geometry.createCircle(0.5));
+			body.translate((i % 10) * 1.5, (i / 10) * 1.5);
+			CollisionItem<TestCollisionBody, Fixture> item = new BroadphaseItem<TestCollisionBody, Fixture>(body, body.getFixture(0));
+			items.add(item);
+			broadphase.add(item);
+		}
+		
+		// warm up
+		for (int i = 0; i < 200; i++) {
+			double d = i % 2 == 0 ? 3.0 : -3.0;
+			for (int j = 0; j < items.size(); j++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(j);
+				item.getBody().translate(j % 2 == 0 ? d : -d, 0.0);
+				broadphase.update(item);
+			}
+			broadphase.update();
+			broadphase.clearUpdates();
+		}
+		
+		long id = Thread.currentThread().getId();
+		int iterations = 1000;
+		long before = (Long)method.invoke(bean, id);
+		for (int i = 0; i < iterations; i++) {
+			double d = i % 2 == 0 ? 3.0 : -3.0;
+			for (int j = 0; j < items.size(); j++) {
+				CollisionItem<TestCollisionBody, Fixture> item = items.get(j);
+				item.getBody().translate(j % 2 == 0 ? d : -d, 0.0);
+				broadphase.update(item);
+			}
+			broadphase.update();
+			broadphase.clearUpdates();
+		}
+		long after = (Long)method.invoke(bean, id);
+		
+		TestCase.assertTrue(broadphase.isValid());
+		
+		// allow for a small fixed overhead (the reflective call itself)
+		TestCase.assertTrue((after - before) < iterations);
+	}
+	
 	/**
 	 * Tests behavior specific to the brute force detector.
 	 */
@@ -87,6 +87,30 @@ public class CollisionBodyBroadphaseTest {
     	BroadphaseDetector<TestCollisionBody> tree2 = new DynamicAABBTree<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
     	tree2.setUpdateTrackingEnabled(true);
     	
+    	// PackedDynamicAABBTree without update tracking
+    	BroadphaseDetector<TestCollisionBody> ptree1 = new PackedDynamicAABBTree<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+    	ptree1.setUpdateTrackingEnabled(false);
+    	
+    	// PackedDynamicAABBTree with update tracking
+    	BroadphaseDetector<TestCollisionBody> ptree2 = new PackedDynamicAABBTree<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+    	ptree2.setUpdateTrackingEnabled(true);
+    	
+    	// BoxPruning without update tracking
+    	BroadphaseDetector<TestCollisionBody> bp1 = new BoxPruning<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+    	bp1.setUpdateTrackingEnabled(false);
+    	
+    	// BoxPruning with update tracking
+    	BroadphaseDetector<TestCollisionBody> bp2 = new BoxPruning<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod);
+    	bp2.setUpdateTrackingEnabled(true);
+    	
+    	// HashedGrid without update tracking
+    	BroadphaseDetector<TestCollisionBody> hg1 = new HashedGrid<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod, 1.0);
+    	hg1.setUpdateTrackingEnabled(false);
+    	
+    	// HashedGrid with update tracking
+    	BroadphaseDetector<TestCollisionBody> hg2 = new HashedGrid<TestCollisionBody>(broadphaseFilter, aabbProducer, aabbExpansionMethod, 1.0);
+    	hg2.setUpdateTrackingEnabled(true);
+    	
     	// BruteForce
     	BroadphaseDetector<TestCollisionBody> bf1 = new BruteForceBroadphase<TestCollisionBody>(broadphaseFilter, aabbProducer);
     	
@@ -95,6 +119,12 @@ public class CollisionBodyBroadphaseTest {
 			new Object[] { sap2 },
 			new Object[] { tree1 },
 			new Object[] { tree2 },
+			new Object[] { ptree1 },
+			new Object[] { ptree2 },
+			new Object[] { bp1 },
+			new Object[] { bp2 },
+			new Object[] { hg1 },
+			new Object[] { hg2 },
 			new Object[] { bf1 }
 		);
     }
@@ -516,6 +546,9 @@ public class CollisionBodyBroadphaseTest {
 	public void isUpdateTrackingSupported() {
 		BroadphaseDetector<TestCollisionBody> detector = this.broadphase;
 		if (detector instanceof DynamicAABBTree ||
+			detector instanceof PackedDynamicAABBTree ||
+			detector instanceof BoxPruning ||
+			detector instanceof HashedGrid ||
 			detector instanceof Sap) {
 			TestCase.assertTrue(this.broadphase.isUpdateTrackingSupported());
 		} else {
@@ -30,6 +30,8 @@ import org.dyn4j.collision.Fixture;
 import org.dyn4j.collision.TestCollisionBody;
 import org.dyn4j.geometry.AABB;
 import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Polygon;
+import org.dyn4j.geometry.Vector2;
 import org.junit.Test;
 
 import junit.framework.TestCase;
@@ -116,4 +118,44 @@ public class CollisionItemAABBProducerTest {
 		TestCase.assertEquals(aabb1.getMaxX(), aabb.getMaxX());
 		TestCase.assertEquals(aabb1.getMaxY(), aabb.getMaxY());
 	}
+	
+	/**
+	 * Tests that the producer keeps the polygon vertex cache in sync with the body.
+	 */
+	@Test
+	public void computeVertexCache() {
+		CollisionItemAABBProducer<TestCollisionBody, Fixture> producer = new CollisionItemAABBProducer<TestCollisionBody, Fixture>();
+		
+		Polygon polygon = Geometry.createUnitCirclePolygon(5, 1.0);
+		Polygon uncached = polygon.copy();
+		polygon.setVertexCacheEnabled(true);
+		
+		TestCollisionBody ct = new TestCollisionBody(polygon);
+		CollisionItem<TestCollisionBody, Fixture> item = new BasicCollisionItem<TestCollisionBody, Fixture>(ct, ct.getFixture(0));
+		
+		AABB aabb = new AABB(0, 0, 0, 0);
+		for (int i = 0; i < 3; i++) {
+			ct.rotate(0.4);
+			ct.translate(1.0, -0.5);
+			
+			producer.compute(item, aabb);
+			AABB expected = uncached.createAABB(ct.getTransform());
+			TestCase.assertEquals(expected.getMinX(), aabb.getMinX(), 1.0e-12);
+			TestCase.assertEquals(expected.getMinY(), aabb.getMinY(), 1.0e-12);
+			TestCase.assertEquals(expected.getMaxX(), aabb.getMaxX(), 1.0e-12);
+			TestCase.assertEquals(expected.getMaxY(), aabb.getMaxY(), 1.0e-12);
+			
+			// the support function reads the cache filled by the producer
+			Vector2 n = new Vector2(1.0, 1.0);
+			Vector2 p1 = polygon.getFarthestPoint(n, ct.getTransform());
+			Vector2 p2 = uncached.getFarthestPoint(n, ct.getTransform());
+			TestCase.assertEquals(p2.x, p1.x, 1.0e-12);
+			TestCase.assertEquals(p2.y, p1.y, 1.0e-12);
+		}
+		
+		aabb = producer.compute(item);
+		AABB expected = uncached.createAABB(ct.getTransform());
+		TestCase.assertEquals(expected.getMinX(), aabb.getMinX(), 1.0e-12);
+		TestCase.assertEquals(expected.getMaxY(), aabb.getMaxY(), 1.0e-12);
+	}
 }
@@ -95,6 +95,42 @@ public class CollisionItemBroadphaseTest {
     					new DynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD)); 
     	tree2.setUpdateTrackingEnabled(true);
     	
+    	// PackedDynamicAABBTree without update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> ptree1 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD)); 
+    	ptree1.setUpdateTrackingEnabled(false);
+    	
+    	// PackedDynamicAABBTree with update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> ptree2 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new PackedDynamicAABBTree<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD)); 
+    	ptree2.setUpdateTrackingEnabled(true);
+    	
+    	// BoxPruning without update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> bp1 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new BoxPruning<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD)); 
+    	bp1.setUpdateTrackingEnabled(false);
+    	
+    	// BoxPruning with update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> bp2 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new BoxPruning<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD)); 
+    	bp2.setUpdateTrackingEnabled(true);
+    	
+    	// HashedGrid without update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> hg1 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new HashedGrid<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD, 1.0)); 
+    	hg1.setUpdateTrackingEnabled(false);
+    	
+    	// HashedGrid with update tracking
+    	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> hg2 = 
+    			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
+    					new HashedGrid<CollisionItem<TestCollisionBody, Fixture>>(BROADPHASE_FILTER, AABB_PRODUCER, AABB_EXPANSION_METHOD, 1.0)); 
+    	hg2.setUpdateTrackingEnabled(true);
+    	
     	// BruteForce
     	CollisionItemBroadphaseDetector<TestCollisionBody, Fixture> bf1 = 
     			new CollisionItemBroadphaseDetectorAdapter<TestCollisionBody, Fixture>(
@@ -105,6 +141,12 @@ public class CollisionItemBroadphaseTest {
 			new Object[] { sap2 },
 			new Object[] { tree1 },
 			new Object[] { tree2 },
+			new Object[] { ptree1 },
+			new Object[] { ptree2 },
+			new Object[] { bp1 },
+			new Object[] { bp2 },
+			new Object[] { hg1 },
+			new Object[] { hg2 },
 			new Object[] { bf1 }
 		);
     }
@@ -849,6 +891,9 @@ public class CollisionItemBroadphaseTest {
 	public void isUpdateTrackingSupported() {
 		BroadphaseDetector<CollisionItem<TestCollisionBody, Fixture>> detector = this.broadphase.getDecoratedBroadphaseDetector();
 		if (detector instanceof DynamicAABBTree ||
+			detector instanceof PackedDynamicAABBTree ||
+			detector instanceof BoxPruning ||
+			detector instanceof HashedGrid ||
 			detector instanceof Sap) {
 			TestCase.assertTrue(this.broadphase.isUpdateTrackingSupported());
 		} else {
@@ -1328,6 +1373,68 @@ public class CollisionItemBroadphaseTest {
 		TestCase.assertEquals(0, list.size());
 	}
 	
+	/**
+	 * Tests the raycast method with a {@link BroadphaseRaycastListener}.
+	 */
+	@Test
+	public void detectRayListener() {
+		TestCollisionBody ct1 = new TestCollisionBody(Geometry.createCircle(1.0));
+		TestCollisionBody ct2 = new TestCollisionBody(Geometry.createUnitCirclePolygon(5, 0.5));
+		TestCollisionBody ct3 = new TestCollisionBody(Geometry.createRectangle(1.0, 0.5));
+		TestCollisionBody ct4 = new TestCollisionBody(Geometry.createVerticalSegment(2.0));
+		
+		ct1.translate(-2.0, 0.0);
+		ct2.translate(-1.0, 1.0);
+		ct3.translate(0.5, -2.0);
+		ct4.translate(1.0, 1.2);
+		
+		this.broadphase.add(ct1); 
+		this.broadphase.add(ct2); 
+		this.broadphase.add(ct3); 
+		this.broadphase.add(ct4);
+		
+		final List<CollisionItem<TestCollisionBody, Fixture>> list = new ArrayList<CollisionItem<TestCollisionBody, Fixture>>();
+		BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>> all = new BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public double raycast(CollisionItem<TestCollisionBody, Fixture> object, double length) {
+				list.add(object);
+				return length;
+			}
+		};
+		
+		// the same items are reported when the ray isn't shortened
+		Ray r = new Ray(new Vector2(-3.0, 0.75), new Vector2(1.0, 0.0));
+		this.broadphase.raycast(r, 0.0, all);
+		TestCase.assertEquals(3, list.size());
+		TestCase.assertTrue(this.containsItem(ct1, ct1.getFixture(0), list));
+		TestCase.assertTrue(this.containsItem(ct2, ct2.getFixture(0), list));
+		TestCase.assertTrue(this.containsItem(ct4, ct4.getFixture(0), list));
+		
+		list.clear();
+		r = new Ray(new Vector2(1.0, 0.0));
+		this.broadphase.raycast(r, 0.0, all);
+		TestCase.assertEquals(0, list.size());
+		
+		// ending the raycast reports only one item
+		list.clear();
+		r = new Ray(new Vector2(-3.0, 0.75), new Vector2(1.0, 0.0));
+		this.broadphase.raycast(r, 0.0, new BroadphaseRaycastListener<CollisionItem<TestCollisionBody, Fixture>>() {
+			@Override
+			public double raycast(CollisionItem<TestCollisionBody, Fixture> object, double length) {
+				list.add(object);
+				return 0.0;
+			}
+		});
+		TestCase.assertEquals(1, list.size());
+		
+		try {
+			this.broadphase.raycast(r, 0.0, null);
+			TestCase.fail();
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+	
 	/**
 	 * Tests the shiftCoordinates method.
 	 */
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.broadphase;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link ProxyIndexMap} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class ProxyIndexMapTest {
+	/**
+	 * A key whose hash code is chosen by the test to force collisions.
+	 */
+	private static final class Key {
+		private final int id;
+		private final int hash;
+		
+		public Key(int id, int hash) {
+			this.id = id;
+			this.hash = hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && ((Key)obj).id == this.id;
+		}
+		
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+	
+	/**
+	 * Tests the put, get and remove methods.
+	 */
+	@Test
+	public void putGetRemove() {
+		ProxyIndexMap<Key> map = new ProxyIndexMap<Key>(4);
+		
+		TestCase.assertEquals(ProxyIndexMap.NOT_FOUND, map.get(new Key(1, 1)));
+		
+		map.put(new Key(1, 1), 10);
+		map.put(new Key(2, 2), 20);
+		TestCase.assertEquals(2, map.size());
+		TestCase.assertEquals(10, map.get(new Key(1, 1)));
+		TestCase.assertEquals(20, map.get(new Key(2, 2)));
+		TestCase.assertTrue(map.containsKey(new Key(2, 2)));
+		
+		// replace
+		map.put(new Key(1, 1), 11);
+		TestCase.assertEquals(2, map.size());
+		TestCase.assertEquals(11, map.get(new Key(1, 1)));
+		
+		TestCase.assertEquals(11, map.remove(new Key(1, 1)));
+		TestCase.assertEquals(ProxyIndexMap.NOT_FOUND, map.remove(new Key(1, 1)));
+		TestCase.assertEquals(1, map.size());
+		TestCase.assertFalse(map.containsKey(new Key(1, 1)));
+		TestCase.assertFalse(map.containsKey(null));
+		
+		map.clear();
+		TestCase.assertEquals(0, map.size());
+		TestCase.assertEquals(ProxyIndexMap.NOT_FOUND, map.get(new Key(2, 2)));
+	}
+	
+	/**
+	 * Tests that keys with the same hash code can be found after others are removed
+	 * and after the map grows.
+	 */
+	@Test
+	public void collisions() {
+		ProxyIndexMap<Key> map = new ProxyIndexMap<Key>(0);
+		
+		// all keys land in the same probe sequence
+		for (int i = 0; i < 100; i++) {
+			map.put(new Key(i, 7), i);
+		}
+		TestCase.assertEquals(100, map.size());
+		
+		// remove every other key
+		for (int i = 0; i < 100; i += 2) {
+			TestCase.assertEquals(i, map.remove(new Key(i, 7)));
+		}
+		TestCase.assertEquals(50, map.size());
+		
+		for (int i = 0; i < 100; i++) {
+			if (i % 2 == 0) {
+				TestCase.assertEquals(ProxyIndexMap.NOT_FOUND, map.get(new Key(i, 7)));
+			} else {
+				TestCase.assertEquals(i, map.get(new Key(i, 7)));
+			}
+		}
+	}
+}
@@ -27,6 +27,7 @@ package org.dyn4j.collision.manifold;
 import org.dyn4j.collision.narrowphase.Gjk;
 import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
 import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.Separation;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.Transform;
@@ -37,7 +38,7 @@ import junit.framework.TestCase;
 /**
  * Test case for the {@link ManifoldPointId} interface.
  * @author William Bittle
- * @version 4.0.0
+ * @version 6.1.0
  * @since 4.0.0
  */
 public class ClippingManifoldSolverTest {
@@ -290,4 +291,93 @@ public class ClippingManifoldSolverTest {
 		TestCase.assertEquals(-0.250, manifold.getPoints().get(1).getPoint().x, 1.0e-3);
 		TestCase.assertEquals(-0.250, manifold.getPoints().get(1).getPoint().y, 1.0e-3);
 	}
+	
+	/**
+	 * Rectangle/Square - separated two point speculative manifold
+	 * @since 6.1.0
+	 */
+	@Test
+	public void speculative() {
+		Gjk detector = new Gjk();
+		ClippingManifoldSolver solver = new ClippingManifoldSolver();
+		
+		Convex c1 = Geometry.createRectangle(1.0, 0.5);
+		Convex c2 = Geometry.createSquare(0.5);
+		
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		
+		tx2.translate(0.0, 0.6);
+		
+		Separation separation = new Separation();
+		TestCase.assertTrue(detector.distance(c1, tx1, c2, tx2, separation));
+		
+		Manifold manifold = new Manifold();
+		boolean isManifoldCollision = solver.getManifold(separation, 0.2, c1, tx1, c2, tx2, manifold);
+		
+		TestCase.assertTrue(isManifoldCollision);
+		TestCase.assertEquals(0.000, manifold.getNormal().x, 1.0e-3);
+		TestCase.assertEquals(-1.000, manifold.getNormal().y, 1.0e-3);
+		TestCase.assertEquals(2, manifold.getPoints().size());
+		TestCase.assertEquals(-0.100, manifold.getPoints().get(0).getDepth(), 1.0e-3);
+		TestCase.assertEquals(-0.100, manifold.getPoints().get(1).getDepth(), 1.0e-3);
+		
+		// rotate the square so that only one corner is within the distance
+		tx2.rotate(0.2, tx2.getTranslation());
+		separation.clear();
+		TestCase.assertTrue(detector.distance(c1, tx1, c2, tx2, separation));
+		
+		manifold.clear();
+		isManifoldCollision = solver.getManifold(separation, 0.1, c1, tx1, c2, tx2, manifold);
+		
+		TestCase.assertTrue(isManifoldCollision);
+		TestCase.assertEquals(1, manifold.getPoints().size());
+		TestCase.assertEquals(-separation.getDistance(), manifold.getPoints().get(0).getDepth(), 1.0e-8);
+		
+		// both corners are within a larger distance
+		manifold.clear();
+		isManifoldCollision = solver.getManifold(separation, 0.5, c1, tx1, c2, tx2, manifold);
+		
+		TestCase.assertTrue(isManifoldCollision);
+		TestCase.assertEquals(2, manifold.getPoints().size());
+		TestCase.assertTrue(manifold.getPoints().get(0).getDepth() < 0.0);
+		TestCase.assertTrue(manifold.getPoints().get(1).getDepth() < 0.0);
+		
+		// the shapes are too far apart
+		manifold.clear();
+		TestCase.assertFalse(solver.getManifold(separation, separation.getDistance(), c1, tx1, c2, tx2, manifold));
+		TestCase.assertEquals(0, manifold.getPoints().size());
+	}
+	
+	/**
+	 * Rectangle/Circle - separated single point speculative manifold
+	 * @since 6.1.0
+	 */
+	@Test
+	public void speculativeCircle() {
+		Gjk detector = new Gjk();
+		ClippingManifoldSolver solver = new ClippingManifoldSolver();
+		
+		Convex c1 = Geometry.createRectangle(1.0, 0.5);
+		Convex c2 = Geometry.createCircle(0.5);
+		
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		
+		tx2.translate(0.0, 1.0);
+		
+		Separation separation = new Separation();
+		TestCase.assertTrue(detector.distance(c1, tx1, c2, tx2, separation));
+		
+		Manifold manifold = new Manifold();
+		boolean isManifoldCollision = solver.getManifold(separation, 0.5, c1, tx1, c2, tx2, manifold);
+		
+		TestCase.assertTrue(isManifoldCollision);
+		TestCase.assertEquals(0.000, manifold.getNormal().x, 1.0e-3);
+		TestCase.assertEquals(-1.000, manifold.getNormal().y, 1.0e-3);
+		TestCase.assertEquals(1, manifold.getPoints().size());
+		TestCase.assertEquals(-0.250, manifold.getPoints().get(0).getDepth(), 1.0e-3);
+		TestCase.assertEquals(0.000, manifold.getPoints().get(0).getPoint().x, 1.0e-3);
+		TestCase.assertEquals(0.500, manifold.getPoints().get(0).getPoint().y, 1.0e-3);
+	}
 }
@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.manifold;
+
+import java.util.Random;
+
+import org.dyn4j.collision.narrowphase.FallbackCondition;
+import org.dyn4j.collision.narrowphase.Gjk;
+import org.dyn4j.collision.narrowphase.NarrowphaseCache;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.SingleTypedFallbackCondition;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.geometry.Capsule;
+import org.dyn4j.geometry.Circle;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Polygon;
+import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Segment;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.world.World;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link DispatchingManifoldSolver} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class DispatchingManifoldSolverTest {
+	/** The dispatched shapes */
+	private static final Convex[] SHAPES = new Convex[] {
+		Geometry.createCircle(0.5),
+		Geometry.createUnitCirclePolygon(5, 0.6),
+		Geometry.createRectangle(1.0, 0.5),
+		Geometry.createEquilateralTriangle(1.0),
+		Geometry.createSquare(2.0),
+		Geometry.createCapsule(1.5, 0.5),
+		Geometry.createCapsule(0.4, 1.2),
+		Geometry.createSegment(new Vector2(-0.5, -0.2), new Vector2(0.6, 0.3))
+	};
+	
+	/**
+	 * A manifold solver that counts the number of times it's called.
+	 */
+	private static final class CountingManifoldSolver extends ClippingManifoldSolver {
+		/** The number of calls */
+		private int count = 0;
+		
+		/* (non-Javadoc)
+		 * @see org.dyn4j.collision.manifold.ClippingManifoldSolver#getManifold(org.dyn4j.collision.narrowphase.Penetration, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.geometry.Convex, org.dyn4j.geometry.Transform, org.dyn4j.collision.manifold.Manifold)
+		 */
+		@Override
+		public boolean getManifold(Penetration penetration, Convex convex1, Transform transform1, Convex convex2, Transform transform2, Manifold manifold) {
+			this.count++;
+			return super.getManifold(penetration, convex1, transform1, convex2, transform2, manifold);
+		}
+	}
+	
+	/**
+	 * Returns a random transform.
+	 * @param random the random number generator
+	 * @return {@link Transform}
+	 */
+	private static Transform random(Random random) {
+		Transform t = new Transform();
+		t.rotate(random.nextDouble() * 2.0 * Math.PI);
+		t.translate(random.nextDouble() * 2.0 - 1.0, random.nextDouble() * 2.0 - 1.0);
+		return t;
+	}
+	
+	/**
+	 * Returns true if the pair is dispatched.
+	 * @param convex1 the first convex
+	 * @param convex2 the second convex
+	 * @return boolean
+	 */
+	private static boolean isDispatched(Convex convex1, Convex convex2) {
+		if (convex1 instanceof Circle || convex2 instanceof Circle) return true;
+		if (convex1 instanceof Polygon && convex2 instanceof Polygon) return true;
+		if (convex1 instanceof Capsule && convex2 instanceof Capsule) return true;
+		return false;
+	}
+	
+	/**
+	 * Tests the successful creation of the detector.
+	 */
+	@Test
+	public void createSuccess() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		TestCase.assertTrue(dms.getFallbackNarrowphaseDetector() instanceof Gjk);
+		TestCase.assertTrue(dms.getFallbackManifoldSolver() instanceof ClippingManifoldSolver);
+		TestCase.assertEquals(0, dms.getConditionCount());
+		
+		Gjk gjk = new Gjk();
+		ClippingManifoldSolver cms = new ClippingManifoldSolver();
+		dms = new DispatchingManifoldSolver(gjk, cms);
+		TestCase.assertSame(gjk, dms.getFallbackNarrowphaseDetector());
+		TestCase.assertSame(cms, dms.getFallbackManifoldSolver());
+	}
+	
+	/**
+	 * Tests the creation of the detector with a null fallback detector.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullDetector() {
+		new DispatchingManifoldSolver(null, new ClippingManifoldSolver());
+	}
+	
+	/**
+	 * Tests the creation of the detector with a null fallback solver.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullSolver() {
+		new DispatchingManifoldSolver(new Gjk(), null);
+	}
+	
+	/**
+	 * Tests the dispatched pairs and the fallback conditions.
+	 */
+	@Test
+	public void isFallbackRequired() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		
+		Convex circle = Geometry.createCircle(0.5);
+		Convex rectangle = Geometry.createRectangle(1.0, 0.5);
+		Convex triangle = Geometry.createEquilateralTriangle(1.0);
+		Convex polygon = Geometry.createUnitCirclePolygon(5, 0.5);
+		Convex capsule = Geometry.createCapsule(1.0, 0.5);
+		Convex segment = Geometry.createHorizontalSegment(1.0);
+		Convex ellipse = Geometry.createEllipse(1.0, 0.5);
+		
+		TestCase.assertFalse(dms.isFallbackRequired(circle, circle));
+		TestCase.assertFalse(dms.isFallbackRequired(circle, rectangle));
+		TestCase.assertFalse(dms.isFallbackRequired(triangle, circle));
+		TestCase.assertFalse(dms.isFallbackRequired(circle, segment));
+		TestCase.assertFalse(dms.isFallbackRequired(capsule, circle));
+		TestCase.assertFalse(dms.isFallbackRequired(polygon, rectangle));
+		TestCase.assertFalse(dms.isFallbackRequired(capsule, capsule));
+		
+		TestCase.assertTrue(dms.isFallbackRequired(ellipse, circle));
+		TestCase.assertTrue(dms.isFallbackRequired(segment, rectangle));
+		TestCase.assertTrue(dms.isFallbackRequired(segment, segment));
+		TestCase.assertTrue(dms.isFallbackRequired(capsule, polygon));
+		
+		// sub classes are not dispatched
+		Convex sub = new Circle(0.5) {};
+		TestCase.assertTrue(dms.isFallbackRequired(sub, circle));
+		
+		FallbackCondition condition = new SingleTypedFallbackCondition(Rectangle.class);
+		dms.addCondition(condition);
+		TestCase.assertEquals(1, dms.getConditionCount());
+		TestCase.assertSame(condition, dms.getCondition(0));
+		TestCase.assertTrue(dms.containsCondition(condition));
+		TestCase.assertTrue(dms.isFallbackRequired(circle, rectangle));
+		TestCase.assertTrue(dms.isFallbackRequired(rectangle, polygon));
+		TestCase.assertFalse(dms.isFallbackRequired(circle, polygon));
+		
+		TestCase.assertTrue(dms.removeCondition(condition));
+		TestCase.assertFalse(dms.containsCondition(condition));
+		TestCase.assertFalse(dms.isFallbackRequired(circle, rectangle));
+	}
+	
+	/**
+	 * Tests the penetrations of the dispatched pairs against {@link Gjk}.
+	 */
+	@Test
+	public void detect() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		Gjk gjk = new Gjk();
+		Random random = new Random(24);
+		
+		for (int i = 0; i < 20000; i++) {
+			Convex convex1 = SHAPES[random.nextInt(SHAPES.length)];
+			Convex convex2 = SHAPES[random.nextInt(SHAPES.length)];
+			Transform transform1 = random(random);
+			Transform transform2 = random(random);
+			
+			if (!isDispatched(convex1, convex2)) {
+				continue;
+			}
+			
+			Penetration p1 = new Penetration();
+			Penetration p2 = new Penetration();
+			boolean b1 = dms.detect(convex1, transform1, convex2, transform2, p1);
+			boolean b2 = gjk.detect(convex1, transform1, convex2, transform2, p2);
+			
+			TestCase.assertEquals(b1, dms.detect(convex1, transform1, convex2, transform2));
+			TestCase.assertEquals(b1, dms.detect(convex1, transform1, convex2, transform2, (NarrowphaseCache)null));
+			
+			// grazing contacts may go either way
+			if (b1 != b2) {
+				TestCase.assertEquals(0.0, Math.max(p1.getDepth(), p2.getDepth()), 1.0e-6);
+				continue;
+			}
+			
+			if (!b1) {
+				continue;
+			}
+			
+			// polygons use the reference edge within a small tolerance of the minimum
+			TestCase.assertEquals(p2.getDepth(), p1.getDepth(), 5.0e-4);
+			TestCase.assertEquals(1.0, p1.getNormal().getMagnitude(), 1.0e-8);
+			
+			// separating the shapes along the penetration leaves them touching
+			Transform moved = new Transform(transform2);
+			moved.translate(p1.getNormal().product(p1.getDepth() + 1.0e-6));
+			TestCase.assertFalse(gjk.detect(convex1, transform1, convex2, moved));
+		}
+	}
+	
+	/**
+	 * Tests the manifolds of the round pairs against the {@link ClippingManifoldSolver}.
+	 */
+	@Test
+	public void getManifoldRound() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		ClippingManifoldSolver cms = new ClippingManifoldSolver();
+		Random random = new Random(42);
+		
+		Convex[] others = new Convex[] { SHAPES[0], SHAPES[1], SHAPES[2], SHAPES[3], SHAPES[7] };
+		for (int i = 0; i < 5000; i++) {
+			Convex convex1 = SHAPES[0];
+			Convex convex2 = others[random.nextInt(others.length)];
+			if (random.nextBoolean()) {
+				Convex c = convex1;
+				convex1 = convex2;
+				convex2 = c;
+			}
+			Transform transform1 = random(random);
+			Transform transform2 = random(random);
+			
+			Penetration p = new Penetration();
+			if (!dms.detect(convex1, transform1, convex2, transform2, p)) {
+				continue;
+			}
+			
+			Manifold m1 = new Manifold();
+			Manifold m2 = new Manifold();
+			TestCase.assertTrue(dms.getManifold(p, convex1, transform1, convex2, transform2, m1));
+			TestCase.assertTrue(cms.getManifold(p, convex1, transform1, convex2, transform2, m2));
+			
+			TestCase.assertEquals(1, m1.getPoints().size());
+			TestCase.assertEquals(1, m2.getPoints().size());
+			ManifoldPoint mp1 = m1.getPoints().get(0);
+			ManifoldPoint mp2 = m2.getPoints().get(0);
+			TestCase.assertSame(ManifoldPointId.DISTANCE, mp1.getId());
+			TestCase.assertEquals(mp2.getDepth(), mp1.getDepth(), 1.0e-8);
+			TestCase.assertEquals(mp2.getPoint().x, mp1.getPoint().x, 1.0e-8);
+			TestCase.assertEquals(mp2.getPoint().y, mp1.getPoint().y, 1.0e-8);
+			TestCase.assertEquals(m2.getNormal().x, m1.getNormal().x, 1.0e-8);
+			TestCase.assertEquals(m2.getNormal().y, m1.getNormal().y, 1.0e-8);
+		}
+	}
+	
+	/**
+	 * Tests the manifolds of the polygon and capsule pairs.
+	 */
+	@Test
+	public void getManifoldClipped() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		Random random = new Random(7);
+		
+		Convex[] polygons = new Convex[] { SHAPES[1], SHAPES[2], SHAPES[3], SHAPES[4] };
+		Convex[] capsules = new Convex[] { SHAPES[5], SHAPES[6] };
+		for (int i = 0; i < 20000; i++) {
+			Convex[] shapes = random.nextBoolean() ? polygons : capsules;
+			Convex convex1 = shapes[random.nextInt(shapes.length)];
+			Convex convex2 = shapes[random.nextInt(shapes.length)];
+			Transform transform1 = random(random);
+			Transform transform2 = random(random);
+			
+			Penetration p = new Penetration();
+			if (!dms.detect(convex1, transform1, convex2, transform2, p)) {
+				continue;
+			}
+			
+			Manifold m = new Manifold();
+			if (!dms.getManifold(p, convex1, transform1, convex2, transform2, m)) {
+				continue;
+			}
+			
+			// the manifold normal is opposite the penetration normal
+			TestCase.assertTrue(m.getNormal().dot(p.getNormal()) < -0.98);
+			TestCase.assertTrue(m.getPoints().size() == 1 || m.getPoints().size() == 2);
+			for (ManifoldPoint mp : m.getPoints()) {
+				TestCase.assertTrue(mp.getDepth() >= 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Tests a known polygon-polygon manifold.
+	 */
+	@Test
+	public void getManifoldRectangles() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		Convex r1 = Geometry.createSquare(1.0);
+		Convex r2 = Geometry.createSquare(1.0);
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		t2.translate(0.3, 0.8);
+		
+		Penetration p = new Penetration();
+		TestCase.assertTrue(dms.detect(r1, t1, r2, t2, p));
+		TestCase.assertEquals(0.0, p.getNormal().x, 1.0e-8);
+		TestCase.assertEquals(1.0, p.getNormal().y, 1.0e-8);
+		TestCase.assertEquals(0.2, p.getDepth(), 1.0e-8);
+		
+		Manifold m = new Manifold();
+		TestCase.assertTrue(dms.getManifold(p, r1, t1, r2, t2, m));
+		TestCase.assertEquals(0.0, m.getNormal().x, 1.0e-8);
+		TestCase.assertEquals(-1.0, m.getNormal().y, 1.0e-8);
+		TestCase.assertEquals(2, m.getPoints().size());
+		
+		ManifoldPoint mp1 = m.getPoints().get(0);
+		ManifoldPoint mp2 = m.getPoints().get(1);
+		TestCase.assertEquals(0.2, mp1.getDepth(), 1.0e-8);
+		TestCase.assertEquals(0.2, mp2.getDepth(), 1.0e-8);
+		TestCase.assertEquals(0.3, mp1.getPoint().y, 1.0e-8);
+		TestCase.assertEquals(0.3, mp2.getPoint().y, 1.0e-8);
+		TestCase.assertEquals(0.3, Math.abs(mp1.getPoint().x + mp2.getPoint().x), 1.0e-8);
+		TestCase.assertEquals(0.7, Math.abs(mp1.getPoint().x - mp2.getPoint().x), 1.0e-8);
+		TestCase.assertTrue(mp1.getId() instanceof IndexedManifoldPointId);
+		TestCase.assertFalse(mp1.getId().equals(mp2.getId()));
+	}
+	
+	/**
+	 * Tests that the manifold from detection is only used when nothing changed.
+	 */
+	@Test
+	public void getManifoldFallback() {
+		CountingManifoldSolver cms = new CountingManifoldSolver();
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver(new Gjk(), cms);
+		Convex c1 = Geometry.createCircle(0.5);
+		Convex c2 = Geometry.createSquare(1.0);
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		t2.translate(0.3, 0.8);
+		
+		// the manifold from detection
+		Penetration p = new Penetration();
+		Manifold m = new Manifold();
+		TestCase.assertTrue(dms.detect(c1, t1, c2, t2, p));
+		TestCase.assertTrue(dms.getManifold(p, c1, t1, c2, t2, m));
+		TestCase.assertEquals(0, cms.count);
+		
+		// the manifold was handed over
+		m.clear();
+		TestCase.assertTrue(dms.getManifold(p, c1, t1, c2, t2, m));
+		TestCase.assertEquals(1, cms.count);
+		
+		// a modified penetration
+		p.clear();
+		m.clear();
+		TestCase.assertTrue(dms.detect(c1, t1, c2, t2, p));
+		p.setDepth(p.getDepth() * 0.5);
+		TestCase.assertTrue(dms.getManifold(p, c1, t1, c2, t2, m));
+		TestCase.assertEquals(2, cms.count);
+		
+		// a modified transform
+		p.clear();
+		m.clear();
+		TestCase.assertTrue(dms.detect(c1, t1, c2, t2, p));
+		t2.translate(0.0, 0.01);
+		TestCase.assertTrue(dms.getManifold(p, c1, t1, c2, t2, m));
+		TestCase.assertEquals(3, cms.count);
+		
+		// a different pair
+		p.clear();
+		m.clear();
+		TestCase.assertTrue(dms.detect(c1, t1, c2, t2, p));
+		TestCase.assertTrue(dms.getManifold(p, c2, t2, c1, t1, m));
+		TestCase.assertEquals(4, cms.count);
+		
+		// an unsupported pair
+		Convex segment = Geometry.createHorizontalSegment(2.0);
+		p.clear();
+		m.clear();
+		TestCase.assertTrue(dms.detect(segment, t2, c2, t2, p));
+		TestCase.assertTrue(dms.getManifold(p, segment, t2, c2, t2, m));
+		TestCase.assertEquals(5, cms.count);
+	}
+	
+	/**
+	 * Tests that degenerate configurations use the fallback.
+	 */
+	@Test
+	public void detectDegenerate() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		Convex c1 = Geometry.createCircle(0.5);
+		Convex c2 = Geometry.createCircle(0.25);
+		Transform t = new Transform();
+		
+		Penetration p = new Penetration();
+		TestCase.assertTrue(dms.detect(c1, t, c2, t, p));
+		TestCase.assertEquals(0.75, p.getDepth(), 1.0e-8);
+		
+		Segment s = Geometry.createHorizontalSegment(1.0);
+		p.clear();
+		TestCase.assertTrue(dms.detect(c1, t, s, t, p));
+		TestCase.assertEquals(0.5, p.getDepth(), 1.0e-8);
+		
+		Capsule k1 = Geometry.createCapsule(1.0, 0.5);
+		Capsule k2 = Geometry.createCapsule(0.5, 1.0);
+		p.clear();
+		TestCase.assertTrue(dms.detect(k1, t, k2, t, p));
+		TestCase.assertTrue(p.getDepth() > 0.0);
+	}
+	
+	/**
+	 * Tests the copy method.
+	 */
+	@Test
+	public void copy() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		FallbackCondition condition = new SingleTypedFallbackCondition(Rectangle.class);
+		dms.addCondition(condition);
+		
+		DispatchingManifoldSolver copy = dms.copy();
+		TestCase.assertNotSame(dms, copy);
+		TestCase.assertNotSame(dms.getFallbackNarrowphaseDetector(), copy.getFallbackNarrowphaseDetector());
+		TestCase.assertTrue(copy.getFallbackNarrowphaseDetector() instanceof Gjk);
+		TestCase.assertSame(dms.getFallbackManifoldSolver(), copy.getFallbackManifoldSolver());
+		TestCase.assertEquals(1, copy.getConditionCount());
+		TestCase.assertSame(condition, copy.getCondition(0));
+	}
+	
+	/**
+	 * Tests a stack of boxes using the detector as both the narrowphase detector
+	 * and the manifold solver.
+	 */
+	@Test
+	public void world() {
+		DispatchingManifoldSolver dms = new DispatchingManifoldSolver();
+		World<Body> w = new World<Body>();
+		w.setNarrowphaseDetector(dms);
+		w.setManifoldSolver(dms);
+		
+		Body floor = new Body();
+		floor.addFixture(Geometry.createRectangle(20.0, 1.0));
+		floor.setMass(MassType.INFINITE);
+		floor.translate(0.0, -0.5);
+		w.addBody(floor);
+		
+		Body[] boxes = new Body[5];
+		for (int i = 0; i < boxes.length; i++) {
+			Body box = new Body();
+			box.addFixture(Geometry.createSquare(1.0));
+			box.setMass(MassType.NORMAL);
+			box.translate(0.0, 0.5 + i * 1.0);
+			w.addBody(box);
+			boxes[i] = box;
+		}
+		
+		Body ball = new Body();
+		ball.addFixture(Geometry.createCircle(0.5));
+		ball.setMass(MassType.NORMAL);
+		ball.translate(3.0, 2.0);
+		w.addBody(ball);
+		
+		for (int i = 0; i < 240; i++) {
+			w.step(1);
+		}
+		
+		for (int i = 0; i < boxes.length; i++) {
+			TestCase.assertEquals(0.0, boxes[i].getTransform().getTranslationX(), 2.0e-2);
+			TestCase.assertEquals(0.5 + i * 1.0, boxes[i].getTransform().getTranslationY(), 5.0e-2);
+		}
+		TestCase.assertEquals(0.5, ball.getTransform().getTranslationY(), 1.0e-2);
+	}
+}
@@ -32,7 +32,7 @@ import junit.framework.TestCase;
  * Test cases for the {@link Epa} class (NOTE: testing of the getPenetration method is
  * performed in the varied shape vs. shape tests).
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  */
 public class EpaTest {
@@ -97,4 +97,21 @@ public class EpaTest {
 		Epa epa = new Epa();
 		epa.setDistanceEpsilon(-0.11);
 	}
+	
+	/**
+	 * Tests the copy method.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void copy() {
+		Epa epa = new Epa();
+		epa.setDistanceEpsilon(0.1);
+		epa.setMaxIterations(20);
+		
+		Epa copy = epa.copy();
+		
+		TestCase.assertNotSame(epa, copy);
+		TestCase.assertEquals(0.1, copy.getDistanceEpsilon());
+		TestCase.assertEquals(20, copy.getMaxIterations());
+	}
 }
@@ -35,7 +35,7 @@ import junit.framework.TestCase;
 /**
  * Tests the {@link ExpandingSimplex} class.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  */
 public class ExpandingSimplexTest {
@@ -185,4 +185,58 @@ public class ExpandingSimplexTest {
 		TestCase.assertEquals(-1.0, edge.normal.x, 1e-3);
 		TestCase.assertEquals(0.0, edge.normal.y, 1e-3);
 	}
+	
+	/**
+	 * Tests reusing an expanding simplex via the initialize method.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void initialize() {
+		List<Vector2> simplex = new ArrayList<Vector2>();
+		simplex.add(new Vector2(-1.0, -1.0));
+		simplex.add(new Vector2(2.0, -1.0));
+		simplex.add(new Vector2(0.0, 2.0));
+		
+		ExpandingSimplex es = new ExpandingSimplex();
+		TestCase.assertEquals(0, es.size());
+		TestCase.assertNull(es.getClosestEdge());
+		
+		// use it once with a different simplex
+		List<Vector2> other = new ArrayList<Vector2>();
+		other.add(new Vector2(0.0, 1.0));
+		other.add(new Vector2(-1.0, -1.0));
+		other.add(new Vector2(1.0, -1.0));
+		es.initialize(other);
+		TestCase.assertEquals(1, es.getWinding());
+		for (int i = 0; i < 20; i++) {
+			ExpandingSimplexEdge edge = es.getClosestEdge();
+			es.expand(edge.point1.copy().add(edge.point2).multiply(0.5).add(edge.normal));
+		}
+		
+		// then reuse it and compare against a new instance
+		es.initialize(simplex);
+		ExpandingSimplex expected = new ExpandingSimplex(simplex);
+		
+		TestCase.assertEquals(expected.getWinding(), es.getWinding());
+		TestCase.assertEquals(expected.size(), es.size());
+		
+		Vector2[] points = new Vector2[] {
+			new Vector2(-1.0, 1.0),
+			new Vector2(1.0, -2.0),
+			new Vector2(1.5, 1.0)
+		};
+		for (int i = 0; i < points.length; i++) {
+			ExpandingSimplexEdge e1 = expected.getClosestEdge();
+			ExpandingSimplexEdge e2 = es.getClosestEdge();
+			TestCase.assertEquals(e1.point1, e2.point1);
+			TestCase.assertEquals(e1.point2, e2.point2);
+			TestCase.assertEquals(e1.distance, e2.distance);
+			TestCase.assertEquals(e1.normal.x, e2.normal.x);
+			TestCase.assertEquals(e1.normal.y, e2.normal.y);
+			
+			expected.expand(points[i]);
+			es.expand(points[i]);
+			TestCase.assertEquals(expected.size(), es.size());
+		}
+	}
 }
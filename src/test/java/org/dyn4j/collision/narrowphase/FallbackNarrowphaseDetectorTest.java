@@ -43,7 +43,7 @@ import junit.framework.TestCase;
 /**
  * Test case for the {@link FallbackNarrowphaseDetector} class.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 3.1.5
  */
 public class FallbackNarrowphaseDetectorTest {
@@ -321,4 +321,31 @@ public class FallbackNarrowphaseDetectorTest {
 		TestCase.assertTrue(detector.detect(t, tx, r, tx, p));
 		TestCase.assertTrue(detector.detect(r, tx, t, tx, p));
 	}
+	
+	/**
+	 * Tests the copy method.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void copy() {
+		Sat sat = new Sat();
+		Gjk gjk = new Gjk();
+		FallbackNarrowphaseDetector nd = new FallbackNarrowphaseDetector(sat, gjk);
+		FallbackCondition condition = new SingleTypedFallbackCondition(Ellipse.class);
+		nd.addCondition(condition);
+		
+		FallbackNarrowphaseDetector copy = nd.copy();
+		
+		TestCase.assertNotSame(nd, copy);
+		TestCase.assertNotSame(sat, copy.getPrimaryNarrowphaseDetector());
+		TestCase.assertEquals(Sat.class, copy.getPrimaryNarrowphaseDetector().getClass());
+		TestCase.assertNotSame(gjk, copy.getFallbackNarrowphaseDetector());
+		TestCase.assertEquals(Gjk.class, copy.getFallbackNarrowphaseDetector().getClass());
+		TestCase.assertEquals(1, copy.getConditionCount());
+		TestCase.assertSame(condition, copy.getCondition(0));
+		
+		// changing the copy's conditions doesn't affect the original
+		copy.removeCondition(condition);
+		TestCase.assertEquals(1, nd.getConditionCount());
+	}
 }
@@ -24,6 +24,8 @@
  */
 package org.dyn4j.collision.narrowphase;
 
+import java.lang.reflect.Method;
+
 import org.dyn4j.geometry.Capsule;
 import org.dyn4j.geometry.Circle;
 import org.dyn4j.geometry.Convex;
@@ -38,6 +40,7 @@ import org.dyn4j.geometry.Slice;
 import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Triangle;
 import org.dyn4j.geometry.Vector2;
+import org.junit.Assume;
 import org.junit.Test;
 
 import junit.framework.TestCase;
@@ -48,7 +51,7 @@ import junit.framework.TestCase;
  * NOTE: Testing of the distance and detect methods are in the shape vs. shape
  * test case classes.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 2.0.0
  */
 public class GjkTest {
@@ -715,4 +718,274 @@ public class GjkTest {
 		ray.getStart().set(t.getTransformed(c.getCenter()));
 		TestCase.assertFalse(gjk.raycast(ray, 0.0, c, t, raycast));
 	}
+	
+	/**
+	 * Tests the copy method.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void copy() {
+		Gjk gjk = new Gjk();
+		gjk.setDetectEpsilon(0.1);
+		gjk.setDistanceEpsilon(0.2);
+		gjk.setRaycastEpsilon(0.3);
+		gjk.setMaxDetectIterations(6);
+		gjk.setMaxDistanceIterations(7);
+		gjk.setMaxRaycastIterations(8);
+		
+		Gjk copy = gjk.copy();
+		
+		TestCase.assertNotSame(gjk, copy);
+		TestCase.assertNotSame(gjk.getMinkowskiPenetrationSolver(), copy.getMinkowskiPenetrationSolver());
+		TestCase.assertEquals(Epa.class, copy.getMinkowskiPenetrationSolver().getClass());
+		TestCase.assertEquals(0.1, copy.getDetectEpsilon());
+		TestCase.assertEquals(0.2, copy.getDistanceEpsilon());
+		TestCase.assertEquals(0.3, copy.getRaycastEpsilon());
+		TestCase.assertEquals(6, copy.getMaxDetectIterations());
+		TestCase.assertEquals(7, copy.getMaxDistanceIterations());
+		TestCase.assertEquals(8, copy.getMaxRaycastIterations());
+		
+		// a non-copyable penetration solver is shared
+		MinkowskiPenetrationSolver solver = new MinkowskiPenetrationSolver() {
+			@Override
+			public void getPenetration(java.util.List<Vector2> simplex, MinkowskiSum minkowskiSum, Penetration penetration) {}
+		};
+		gjk.setMinkowskiPenetrationSolver(solver);
+		copy = gjk.copy();
+		TestCase.assertSame(solver, copy.getMinkowskiPenetrationSolver());
+	}
+	
+	/**
+	 * Tests that repeated detection with the same instance gives the same
+	 * results as detection with a new instance each time.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void detectReuse() {
+		Convex[] shapes = this.getShapes();
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		t2.translate(0.3, 0.2);
+		t2.rotate(0.4);
+		
+		Gjk gjk = new Gjk();
+		Penetration p1 = new Penetration();
+		Penetration p2 = new Penetration();
+		for (int i = 0; i < shapes.length; i++) {
+			for (int j = 0; j < shapes.length; j++) {
+				p1.clear();
+				p2.clear();
+				boolean c1 = gjk.detect(shapes[i], t1, shapes[j], t2, p1);
+				boolean c2 = new Gjk().detect(shapes[i], t1, shapes[j], t2, p2);
+				TestCase.assertEquals(c2, c1);
+				TestCase.assertEquals(p2.getDepth(), p1.getDepth());
+				TestCase.assertEquals(p2.getNormal().x, p1.getNormal().x);
+				TestCase.assertEquals(p2.getNormal().y, p1.getNormal().y);
+				TestCase.assertEquals(new Gjk().detect(shapes[i], t1, shapes[j], t2), gjk.detect(shapes[i], t1, shapes[j], t2));
+			}
+		}
+	}
+	
+	/**
+	 * Tests that detection does not allocate once the workspace has been created.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void detectAllocationFree() throws Exception {
+		Object bean = null;
+		Method method = null;
+		try {
+			bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+			method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+			method.invoke(bean, Thread.currentThread().getId());
+		} catch (Exception e) {
+			Assume.assumeNoException(e);
+		}
+		
+		Convex[] shapes = this.getShapes();
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		t2.translate(0.3, 0.2);
+		t2.rotate(0.4);
+		
+		Gjk gjk = new Gjk();
+		Penetration penetration = new Penetration();
+		
+		// warm up
+		for (int n = 0; n < 200; n++) {
+			for (int i = 0; i < shapes.length; i++) {
+				for (int j = 0; j < shapes.length; j++) {
+					gjk.detect(shapes[i], t1, shapes[j], t2, penetration);
+					gjk.detect(shapes[i], t1, shapes[j], t2);
+				}
+			}
+		}
+		
+		long id = Thread.currentThread().getId();
+		int iterations = 0;
+		long before = (Long)method.invoke(bean, id);
+		for (int n = 0; n < 200; n++) {
+			for (int i = 0; i < shapes.length; i++) {
+				for (int j = 0; j < shapes.length; j++) {
+					gjk.detect(shapes[i], t1, shapes[j], t2, penetration);
+					gjk.detect(shapes[i], t1, shapes[j], t2);
+					iterations++;
+				}
+			}
+		}
+		long after = (Long)method.invoke(bean, id);
+		
+		// allow for a small fixed overhead (the reflective call itself)
+		TestCase.assertTrue((after - before) < iterations);
+	}
+	
+	/**
+	 * Tests the detect methods using a {@link NarrowphaseCache}.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void detectWithCache() {
+		Gjk gjk = new Gjk();
+		Convex[] shapes = this.getShapes();
+		Penetration p1 = new Penetration();
+		Penetration p2 = new Penetration();
+		
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		
+		// move the second shape towards the first and back again
+		for (int i = 0; i < shapes.length; i++) {
+			for (int j = 0; j < shapes.length; j++) {
+				NarrowphaseCache cache = new NarrowphaseCache();
+				for (int k = -20; k <= 20; k++) {
+					t2.identity();
+					t2.translate(0.1 * Math.abs(k), 0.02 * k);
+					t2.rotate(0.05 * k);
+					
+					boolean expected = gjk.detect(shapes[i], t1, shapes[j], t2, p1);
+					TestCase.assertEquals(expected, gjk.detect(shapes[i], t1, shapes[j], t2, p2, cache));
+					TestCase.assertEquals(expected, gjk.detect(shapes[i], t1, shapes[j], t2, cache));
+					// circle-circle detection doesn't use the cache
+					if (!(shapes[i] instanceof Circle && shapes[j] instanceof Circle)) {
+						TestCase.assertEquals(!expected, cache.isSeparated());
+					}
+					if (expected) {
+						// the cached search direction can change the simplex the penetration
+						// is found from, so when more than one direction has the minimum depth 
+						// the normals may differ
+						TestCase.assertEquals(p1.getDepth(), p2.getDepth(), 1.0e-6);
+						Vector2 n = p2.getNormal();
+						if (!n.equals(p1.getNormal())) {
+							double depth = shapes[i].getFarthestPoint(n, t1).dot(n) - shapes[j].getFarthestPoint(n.getNegative(), t2).dot(n);
+							TestCase.assertEquals(p2.getDepth(), depth, 1.0e-6);
+						}
+					}
+				}
+			}
+		}
+		
+		TestCase.assertTrue(gjk.getCacheHitCount() > 0);
+		TestCase.assertTrue(gjk.getCacheMissCount() > 0);
+		
+		// the second call for the same separated pair is always a hit
+		gjk.resetCacheCounters();
+		TestCase.assertEquals(0, gjk.getCacheHitCount());
+		TestCase.assertEquals(0, gjk.getCacheMissCount());
+		
+		NarrowphaseCache cache = new NarrowphaseCache();
+		t2.identity();
+		t2.translate(3.0, 0.0);
+		TestCase.assertFalse(gjk.detect(shapes[0], t1, shapes[1], t2, cache));
+		TestCase.assertFalse(gjk.detect(shapes[0], t1, shapes[1], t2, cache));
+		TestCase.assertEquals(1, gjk.getCacheHitCount());
+		TestCase.assertEquals(1, gjk.getCacheMissCount());
+		
+		// the overlapping pair's last search direction is used to start the next search
+		// which takes fewer iterations as the pair moves
+		gjk.resetCacheCounters();
+		long cached = 0;
+		long uncached = 0;
+		for (int k = 0; k < 20; k++) {
+			t2.identity();
+			t2.translate(0.3, 0.2);
+			t2.rotate(0.05 * k);
+			
+			long iterations = gjk.getDetectIterationCount();
+			TestCase.assertTrue(gjk.detect(shapes[3], t1, shapes[7], t2, p1, cache));
+			TestCase.assertFalse(cache.isSeparated());
+			TestCase.assertFalse(cache.getSearchDirection().isZero());
+			cached += gjk.getDetectIterationCount() - iterations;
+			
+			iterations = gjk.getDetectIterationCount();
+			TestCase.assertTrue(gjk.detect(shapes[3], t1, shapes[7], t2, p2));
+			uncached += gjk.getDetectIterationCount() - iterations;
+		}
+		TestCase.assertTrue(cached < uncached);
+		TestCase.assertEquals(0, gjk.getCacheHitCount());
+		TestCase.assertEquals(20, gjk.getCacheMissCount());
+		
+		// a null cache is the same as no cache
+		t2.identity();
+		t2.translate(3.0, 0.0);
+		TestCase.assertFalse(gjk.detect(shapes[0], t1, shapes[1], t2, p1, null));
+		TestCase.assertEquals(0, gjk.getCacheHitCount());
+		TestCase.assertEquals(20, gjk.getCacheMissCount());
+		
+		// the counters aren't copied
+		TestCase.assertEquals(0, gjk.copy().getCacheHitCount());
+	}
+	
+	/**
+	 * Returns a set of overlapping shapes for testing.
+	 * @return {@link Convex}[]
+	 */
+	private Convex[] getShapes() {
+		return new Convex[] {
+			Geometry.createRectangle(1.0, 1.0),
+			Geometry.createEquilateralTriangle(1.0),
+			Geometry.createCircle(0.5),
+			Geometry.createCapsule(1.0, 0.5),
+			Geometry.createEllipse(1.0, 0.5),
+			Geometry.createHalfEllipse(1.0, 0.5),
+			Geometry.createSlice(0.5, Math.toRadians(50)),
+			Geometry.createSegment(new Vector2(-0.5, 0.0), new Vector2(0.5, 0.2)),
+			Geometry.createUnitCirclePolygon(7, 0.5)
+		};
+	}
+	
+	/**
+	 * Tests the detect and {@link Epa} iteration counts.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void iterationCounts() {
+		Epa epa = new Epa();
+		Gjk gjk = new Gjk(epa);
+		TestCase.assertEquals(0, gjk.getDetectIterationCount());
+		TestCase.assertEquals(0, epa.getIterationCount());
+		
+		Convex c1 = Geometry.createSquare(1.0);
+		Convex c2 = Geometry.createSquare(1.0);
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		t2.translate(0.5, 0.2);
+		
+		// overlapping requires both
+		TestCase.assertTrue(gjk.detect(c1, t1, c2, t2, new Penetration()));
+		long gjkCount = gjk.getDetectIterationCount();
+		long epaCount = epa.getIterationCount();
+		TestCase.assertTrue(gjkCount > 0);
+		TestCase.assertTrue(epaCount > 0);
+		
+		// separated only uses gjk
+		t2.translate(3.0, 0.0);
+		TestCase.assertFalse(gjk.detect(c1, t1, c2, t2, new Penetration()));
+		TestCase.assertTrue(gjk.getDetectIterationCount() >= gjkCount);
+		TestCase.assertEquals(epaCount, epa.getIterationCount());
+		
+		// copies start at zero
+		Gjk copy = gjk.copy();
+		TestCase.assertEquals(0, copy.getDetectIterationCount());
+		TestCase.assertEquals(0, ((Epa)copy.getMinkowskiPenetrationSolver()).getIterationCount());
+	}
 }
@@ -35,7 +35,7 @@ import junit.framework.TestCase;
 /**
  * Tests the {@link MinkowskiSum} class.
  * @author William Bittle
- * @version 4.1.0
+ * @version 6.1.0
  * @since 4.1.0
  */
 public class MinkowskiSumTest {
@@ -151,4 +151,37 @@ public class MinkowskiSumTest {
 		TestCase.assertEquals(2.000, p.supportPoint2.x, 1e-3);
 		TestCase.assertEquals(0.000, p.supportPoint2.y, 1e-3);
 	}
+	
+	/**
+	 * Tests getting a support point using a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getSupportPointDestination() {
+		Convex c1 = Geometry.createUnitCirclePolygon(5, 1.0);
+		Convex c2 = Geometry.createCapsule(1.0, 0.5);
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		
+		tx1.rotate(0.3);
+		tx2.translate(1.0, 0.5);
+		tx2.rotate(-0.7);
+		
+		MinkowskiSum sum = new MinkowskiSum();
+		sum.set(c1, tx1, c2, tx2);
+		
+		TestCase.assertSame(c1, sum.getConvex1());
+		TestCase.assertSame(c2, sum.getConvex2());
+		TestCase.assertSame(tx1, sum.getTransform1());
+		TestCase.assertSame(tx2, sum.getTransform2());
+		
+		Vector2 destination = new Vector2();
+		for (int i = 0; i < 16; i++) {
+			Vector2 d = Vector2.create(1.0, i * Math.PI / 8.0);
+			Vector2 p = sum.getSupportPoint(d);
+			sum.getSupportPoint(d, destination);
+			TestCase.assertEquals(p.x, destination.x);
+			TestCase.assertEquals(p.y, destination.y);
+		}
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.collision.narrowphase;
+
+import org.dyn4j.geometry.Vector2;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link NarrowphaseCache} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class NarrowphaseCacheTest {
+	/**
+	 * Tests the constructor.
+	 */
+	@Test
+	public void create() {
+		NarrowphaseCache cache = new NarrowphaseCache();
+		
+		TestCase.assertFalse(cache.isSeparated());
+		TestCase.assertTrue(cache.getSeparatingAxis().isZero());
+		TestCase.assertTrue(cache.getSearchDirection().isZero());
+		TestCase.assertNotNull(cache.toString());
+	}
+	
+	/**
+	 * Tests the getters/setters.
+	 */
+	@Test
+	public void getSet() {
+		NarrowphaseCache cache = new NarrowphaseCache();
+		
+		Vector2 axis = new Vector2(1.0, 2.0);
+		cache.setSeparatingAxis(axis);
+		
+		TestCase.assertTrue(cache.isSeparated());
+		TestCase.assertNotSame(axis, cache.getSeparatingAxis());
+		TestCase.assertEquals(1.0, cache.getSeparatingAxis().x);
+		TestCase.assertEquals(2.0, cache.getSeparatingAxis().y);
+		
+		cache.clear();
+		
+		TestCase.assertFalse(cache.isSeparated());
+		TestCase.assertTrue(cache.getSeparatingAxis().isZero());
+		
+		// setting the search direction clears the separating axis and vice versa
+		Vector2 direction = new Vector2(3.0, 4.0);
+		cache.setSeparatingAxis(axis);
+		cache.setSearchDirection(direction);
+		
+		TestCase.assertFalse(cache.isSeparated());
+		TestCase.assertTrue(cache.getSeparatingAxis().isZero());
+		TestCase.assertNotSame(direction, cache.getSearchDirection());
+		TestCase.assertEquals(3.0, cache.getSearchDirection().x);
+		TestCase.assertEquals(4.0, cache.getSearchDirection().y);
+		
+		cache.setSeparatingAxis(axis);
+		
+		TestCase.assertTrue(cache.isSeparated());
+		TestCase.assertTrue(cache.getSearchDirection().isZero());
+		
+		cache.setSearchDirection(direction);
+		cache.clear();
+		
+		TestCase.assertTrue(cache.getSearchDirection().isZero());
+	}
+}
@@ -24,6 +24,7 @@
  */
 package org.dyn4j.collision.narrowphase;
 
+import org.dyn4j.geometry.Circle;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.Transform;
@@ -33,9 +34,9 @@ import org.junit.Test;
 import junit.framework.TestCase;
 
 /**
- * Tests the contains methods of the {@link Sat} class.
+ * Tests the contains and detect methods of the {@link Sat} class.
  * @author William Bittle
- * @version 4.2.1
+ * @version 6.1.0
  * @since 4.2.1
  */
 public class SatTest {
@@ -372,4 +373,74 @@ public class SatTest {
 		result = sat.contains(c1, tx2, c2, tx1, c);
 		TestCase.assertFalse(result);
 	}
+	
+	/**
+	 * Tests the detect methods using a {@link NarrowphaseCache}.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void detectWithCache() {
+		Sat sat = new Sat();
+		Convex[] shapes = new Convex[] {
+			Geometry.createRectangle(1.0, 1.0),
+			Geometry.createEquilateralTriangle(1.0),
+			Geometry.createCircle(0.5),
+			Geometry.createCapsule(1.0, 0.5),
+			Geometry.createSegment(new Vector2(-0.5, 0.0), new Vector2(0.5, 0.2)),
+			Geometry.createUnitCirclePolygon(7, 0.5)
+		};
+		Penetration p1 = new Penetration();
+		Penetration p2 = new Penetration();
+		
+		Transform t1 = new Transform();
+		Transform t2 = new Transform();
+		
+		// move the second shape towards the first and back again
+		for (int i = 0; i < shapes.length; i++) {
+			for (int j = 0; j < shapes.length; j++) {
+				NarrowphaseCache cache = new NarrowphaseCache();
+				for (int k = -20; k <= 20; k++) {
+					t2.identity();
+					t2.translate(0.1 * Math.abs(k), 0.02 * k);
+					t2.rotate(0.05 * k);
+					
+					boolean expected = sat.detect(shapes[i], t1, shapes[j], t2, p1);
+					TestCase.assertEquals(expected, sat.detect(shapes[i], t1, shapes[j], t2, p2, cache));
+					TestCase.assertEquals(expected, sat.detect(shapes[i], t1, shapes[j], t2, cache));
+					// circle-circle detection doesn't use the cache
+					if (!(shapes[i] instanceof Circle && shapes[j] instanceof Circle)) {
+						TestCase.assertEquals(!expected, cache.isSeparated());
+					}
+					if (expected) {
+						TestCase.assertEquals(p1.getDepth(), p2.getDepth());
+						TestCase.assertEquals(p1.getNormal(), p2.getNormal());
+					}
+				}
+			}
+		}
+		
+		TestCase.assertTrue(sat.getCacheHitCount() > 0);
+		TestCase.assertTrue(sat.getCacheMissCount() > 0);
+		
+		// the second call for the same separated pair is always a hit
+		sat.resetCacheCounters();
+		TestCase.assertEquals(0, sat.getCacheHitCount());
+		TestCase.assertEquals(0, sat.getCacheMissCount());
+		
+		NarrowphaseCache cache = new NarrowphaseCache();
+		t2.identity();
+		t2.translate(3.0, 0.0);
+		TestCase.assertFalse(sat.detect(shapes[0], t1, shapes[1], t2, cache));
+		TestCase.assertFalse(sat.detect(shapes[0], t1, shapes[1], t2, cache));
+		TestCase.assertEquals(1, sat.getCacheHitCount());
+		TestCase.assertEquals(1, sat.getCacheMissCount());
+		
+		// a null cache is the same as no cache
+		TestCase.assertFalse(sat.detect(shapes[0], t1, shapes[1], t2, p1, null));
+		TestCase.assertEquals(1, sat.getCacheHitCount());
+		TestCase.assertEquals(1, sat.getCacheMissCount());
+		
+		// the counters aren't copied
+		TestCase.assertEquals(0, sat.copy().getCacheHitCount());
+	}
 }
@@ -40,7 +40,7 @@ import junit.framework.TestCase;
 /**
  * Class to test the {@link AbstractPhysicsBody} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 4.0.0
  */
 public class AbstractPhysicsBodyTest {
@@ -1338,4 +1338,52 @@ public class AbstractPhysicsBodyTest {
 		
 		TestCase.assertNotNull(b.toString());
 	}
+	
+	/**
+	 * Tests saving and restoring the state of a body.
+	 */
+	@Test
+	public void saveRestoreState() {
+		TestBody b = new TestBody();
+		b.addFixture(Geometry.createCircle(1.0));
+		b.setMass(MassType.NORMAL);
+		b.rotate(Math.toRadians(30));
+		b.translate(1.0, 2.0);
+		b.getPreviousTransform().translate(0.5, 1.0);
+		b.setLinearVelocity(1.0, -1.0);
+		b.setAngularVelocity(0.5);
+		b.force.set(2.0, 3.0);
+		b.torque = 4.0;
+		b.atRestTime = 0.25;
+		
+		double[] state = new double[b.getStateSize() + 2];
+		b.saveState(state, 2);
+		
+		Transform tx = b.getTransform().copy();
+		Transform tx0 = b.getPreviousTransform().copy();
+		
+		b.setAtRest(true);
+		b.translate(5.0, 5.0);
+		b.getPreviousTransform().identity();
+		b.force.zero();
+		b.torque = 0.0;
+		b.atRestTime = 0.0;
+		
+		b.restoreState(state, 2);
+		
+		TestCase.assertFalse(b.isAtRest());
+		TestCase.assertEquals(tx.getCost(), b.getTransform().getCost());
+		TestCase.assertEquals(tx.getSint(), b.getTransform().getSint());
+		TestCase.assertEquals(tx.getTranslationX(), b.getTransform().getTranslationX());
+		TestCase.assertEquals(tx.getTranslationY(), b.getTransform().getTranslationY());
+		TestCase.assertEquals(tx0.getTranslationX(), b.getPreviousTransform().getTranslationX());
+		TestCase.assertEquals(tx0.getTranslationY(), b.getPreviousTransform().getTranslationY());
+		TestCase.assertEquals(1.0, b.getLinearVelocity().x);
+		TestCase.assertEquals(-1.0, b.getLinearVelocity().y);
+		TestCase.assertEquals(0.5, b.getAngularVelocity());
+		TestCase.assertEquals(2.0, b.force.x);
+		TestCase.assertEquals(3.0, b.force.y);
+		TestCase.assertEquals(4.0, b.torque);
+		TestCase.assertEquals(0.25, b.atRestTime);
+	}
 }
@@ -32,7 +32,7 @@ import org.junit.Test;
 /**
  * Tests the methods of the {@link Settings} class.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class SettingsTest {
@@ -120,6 +120,45 @@ public class SettingsTest {
 		TestCase.assertTrue(settings.isAtRestDetectionEnabled());
 	}
 	
+	/**
+	 * Tests the set static body broadphase update method.
+	 */
+	@Test
+	public void setStaticBodyBroadphaseUpdate() {
+		settings.reset();
+		TestCase.assertTrue(settings.isStaticBodyBroadphaseUpdateEnabled());
+		settings.setStaticBodyBroadphaseUpdateEnabled(false);
+		TestCase.assertFalse(settings.isStaticBodyBroadphaseUpdateEnabled());
+		settings.reset();
+		TestCase.assertTrue(settings.isStaticBodyBroadphaseUpdateEnabled());
+	}
+	
+	/**
+	 * Tests the set manifold reuse method.
+	 */
+	@Test
+	public void setManifoldReuse() {
+		settings.reset();
+		TestCase.assertFalse(settings.isManifoldReuseEnabled());
+		settings.setManifoldReuseEnabled(true);
+		TestCase.assertTrue(settings.isManifoldReuseEnabled());
+		settings.reset();
+		TestCase.assertFalse(settings.isManifoldReuseEnabled());
+	}
+	
+	/**
+	 * Tests the get/set continuous detection unified broadphase methods.
+	 */
+	@Test
+	public void getSetContinuousDetectionUnifiedBroadphaseEnabled() {
+		settings.reset();
+		TestCase.assertFalse(settings.isContinuousDetectionUnifiedBroadphaseEnabled());
+		settings.setContinuousDetectionUnifiedBroadphaseEnabled(true);
+		TestCase.assertTrue(settings.isContinuousDetectionUnifiedBroadphaseEnabled());
+		settings.reset();
+		TestCase.assertFalse(settings.isContinuousDetectionUnifiedBroadphaseEnabled());
+	}
+	
 	/**
 	 * Tests the set sleep linear velocity method.
 	 */
@@ -200,6 +239,27 @@ public class SettingsTest {
 		settings.setVelocityConstraintSolverIterations(0);
 	}
 	
+	/**
+	 * Tests the set velocity constraint solver tolerance method.
+	 */
+	@Test
+	public void setValidVelocityConstraintSolverTolerance() {
+		TestCase.assertEquals(0.0, settings.getVelocityConstraintSolverTolerance());
+		settings.setVelocityConstraintSolverTolerance(0.001);
+		TestCase.assertEquals(0.001, settings.getVelocityConstraintSolverTolerance());
+		settings.setVelocityConstraintSolverTolerance(0.0);
+		TestCase.assertEquals(0.0, settings.getVelocityConstraintSolverTolerance());
+	}
+	
+	/**
+	 * Tests the set velocity constraint solver tolerance method passing
+	 * a negative value.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setNegativeVelocityConstraintSolverTolerance() {
+		settings.setVelocityConstraintSolverTolerance(-0.001);
+	}
+	
 	/**
 	 * Tests the set position constraint solver iterations method.
 	 */
@@ -358,6 +418,8 @@ public class SettingsTest {
 		TestCase.assertEquals(ContinuousDetectionMode.ALL, settings.getContinuousDetectionMode());
 		settings.setContinuousDetectionMode(ContinuousDetectionMode.NONE);
 		TestCase.assertEquals(ContinuousDetectionMode.NONE, settings.getContinuousDetectionMode());
+		settings.setContinuousDetectionMode(ContinuousDetectionMode.SPECULATIVE);
+		TestCase.assertEquals(ContinuousDetectionMode.SPECULATIVE, settings.getContinuousDetectionMode());
 	}
 
 	/**
@@ -399,6 +461,10 @@ public class SettingsTest {
 		settings.setStepFrequency(Settings.DEFAULT_STEP_FREQUENCY * 2);
 		settings.setVelocityConstraintSolverIterations(Settings.DEFAULT_VELOCITY_CONSTRAINT_SOLVER_ITERATIONS * 2);
 		settings.setWarmStartingEnabled(false);
+		settings.setStaticBodyBroadphaseUpdateEnabled(false);
+		settings.setManifoldReuseEnabled(true);
+		settings.setContinuousDetectionUnifiedBroadphaseEnabled(true);
+		settings.setVelocityConstraintSolverTolerance(0.5);
 		
 		TestCase.assertEquals(Settings.DEFAULT_ANGULAR_TOLERANCE * 2, settings.getAngularTolerance());
 		TestCase.assertEquals(false, settings.isAtRestDetectionEnabled());
@@ -417,6 +483,10 @@ public class SettingsTest {
 		TestCase.assertEquals(Settings.DEFAULT_STEP_FREQUENCY * 2, settings.getStepFrequency());
 		TestCase.assertEquals(Settings.DEFAULT_VELOCITY_CONSTRAINT_SOLVER_ITERATIONS * 2, settings.getVelocityConstraintSolverIterations());
 		TestCase.assertEquals(false, settings.isWarmStartingEnabled());
+		TestCase.assertEquals(false, settings.isStaticBodyBroadphaseUpdateEnabled());
+		TestCase.assertEquals(true, settings.isManifoldReuseEnabled());
+		TestCase.assertEquals(true, settings.isContinuousDetectionUnifiedBroadphaseEnabled());
+		TestCase.assertEquals(0.5, settings.getVelocityConstraintSolverTolerance());
 	}
 	
 	/**
@@ -441,6 +511,10 @@ public class SettingsTest {
 		settings.setStepFrequency(Settings.DEFAULT_STEP_FREQUENCY * 2);
 		settings.setVelocityConstraintSolverIterations(Settings.DEFAULT_VELOCITY_CONSTRAINT_SOLVER_ITERATIONS * 2);
 		settings.setWarmStartingEnabled(false);
+		settings.setStaticBodyBroadphaseUpdateEnabled(false);
+		settings.setManifoldReuseEnabled(true);
+		settings.setContinuousDetectionUnifiedBroadphaseEnabled(true);
+		settings.setVelocityConstraintSolverTolerance(0.5);
 		
 		Settings copy = settings.copy();
 		
@@ -461,5 +535,9 @@ public class SettingsTest {
 		TestCase.assertEquals(settings.getStepFrequency(), copy.getStepFrequency());
 		TestCase.assertEquals(settings.getVelocityConstraintSolverIterations(), copy.getVelocityConstraintSolverIterations());
 		TestCase.assertEquals(settings.isWarmStartingEnabled(), copy.isWarmStartingEnabled());
+		TestCase.assertEquals(settings.isStaticBodyBroadphaseUpdateEnabled(), copy.isStaticBodyBroadphaseUpdateEnabled());
+		TestCase.assertEquals(settings.isManifoldReuseEnabled(), copy.isManifoldReuseEnabled());
+		TestCase.assertEquals(settings.isContinuousDetectionUnifiedBroadphaseEnabled(), copy.isContinuousDetectionUnifiedBroadphaseEnabled());
+		TestCase.assertEquals(settings.getVelocityConstraintSolverTolerance(), copy.getVelocityConstraintSolverTolerance());
 	}
 }
@@ -46,7 +46,7 @@ import junit.framework.TestCase;
 /**
  * Tests the methods of the {@link ContactConstraint} class.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 4.0.0
  */
 public class ContactConstraintTest {
@@ -112,8 +112,8 @@ public class ContactConstraintTest {
 		TestCase.assertTrue(cc.isEnabled());
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.friction);
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.getFriction());
-		TestCase.assertNull(cc.invK);
-		TestCase.assertNull(cc.K);
+		TestCase.assertNotNull(cc.invK);
+		TestCase.assertNotNull(cc.K);
 		TestCase.assertNotNull(cc.normal);
 		TestCase.assertNotNull(cc.getNormal());
 		TestCase.assertEquals(0.0, cc.normal.x);
@@ -189,8 +189,8 @@ public class ContactConstraintTest {
 		TestCase.assertTrue(cc.isEnabled());
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.friction);
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.getFriction());
-		TestCase.assertNull(cc.invK);
-		TestCase.assertNull(cc.K);
+		TestCase.assertNotNull(cc.invK);
+		TestCase.assertNotNull(cc.K);
 		TestCase.assertNotNull(cc.normal);
 		TestCase.assertNotNull(cc.getNormal());
 		TestCase.assertEquals(m.getNormal().x, cc.normal.x);
@@ -259,8 +259,8 @@ public class ContactConstraintTest {
 		TestCase.assertTrue(cc.isEnabled());
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.friction);
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.getFriction());
-		TestCase.assertNull(cc.invK);
-		TestCase.assertNull(cc.K);
+		TestCase.assertNotNull(cc.invK);
+		TestCase.assertNotNull(cc.K);
 		TestCase.assertNotNull(cc.normal);
 		TestCase.assertNotNull(cc.getNormal());
 		TestCase.assertEquals(m.getNormal().x, cc.normal.x);
@@ -321,8 +321,8 @@ public class ContactConstraintTest {
 		TestCase.assertTrue(cc.isEnabled());
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.friction);
 		TestCase.assertEquals(BodyFixture.DEFAULT_FRICTION, cc.getFriction());
-		TestCase.assertNull(cc.invK);
-		TestCase.assertNull(cc.K);
+		TestCase.assertNotNull(cc.invK);
+		TestCase.assertNotNull(cc.K);
 		TestCase.assertNotNull(cc.normal);
 		TestCase.assertNotNull(cc.getNormal());
 		TestCase.assertEquals(m.getNormal().x, cc.normal.x);
@@ -476,4 +476,71 @@ public class ContactConstraintTest {
 		TestCase.assertEquals(5.0, cc.getContacts().get(1).getPoint().x);
 		TestCase.assertEquals(1.0, cc.getContacts().get(1).getPoint().y);
 	}
+	
+	/**
+	 * Tests saving and restoring the state.
+	 */
+	@Test
+	public void saveRestoreState() {
+		ContactConstraint<Body> cc = new ContactConstraint<Body>(this.cp);
+		Settings s = new Settings();
+		
+		Manifold m = new Manifold();
+		m.setNormal(new Vector2(1.0, 0.0));
+		ManifoldPoint mp0 = new ManifoldPoint(ManifoldPointId.DISTANCE);
+		mp0.setDepth(1.0);
+		mp0.setPoint(new Vector2(2.0, 2.0));
+		m.getPoints().add(mp0);
+		ManifoldPoint mp1 = new ManifoldPoint(new IndexedManifoldPointId(0, 1, 2));
+		mp1.setDepth(1.0);
+		mp1.setPoint(new Vector2(2.0, 3.0));
+		m.getPoints().add(mp1);
+		cc.update(m, s, this.cuh);
+		
+		cc.contacts.get(0).jn = 1.0;
+		cc.contacts.get(0).jt = 2.0;
+		cc.contacts.get(1).jn = 3.0;
+		cc.contacts.get(1).jt = 4.0;
+		cc.contacts.get(1).solved = true;
+		
+		TestCase.assertEquals(13, cc.getStateSize());
+		double[] state = new double[cc.getStateSize()];
+		cc.saveState(state, 0);
+		
+		// change the impulses and the ids
+		m.getPoints().clear();
+		ManifoldPoint mp2 = new ManifoldPoint(new IndexedManifoldPointId(0, 1, 2, true));
+		mp2.setDepth(1.0);
+		mp2.setPoint(new Vector2(2.0, 3.0));
+		m.getPoints().add(mp2);
+		cc.update(m, s, this.cuh);
+		cc.contacts.get(0).jn = 5.0;
+		TestCase.assertEquals(7, cc.getStateSize());
+		
+		// the restored state is applied on the next update
+		cc.restoreState(state, 0);
+		TestCase.assertEquals(5.0, cc.contacts.get(0).jn);
+		
+		m.getPoints().clear();
+		m.getPoints().add(mp0);
+		m.getPoints().add(mp1);
+		m.getPoints().add(mp2);
+		cc.update(m, s, this.cuh);
+		
+		TestCase.assertEquals(1.0, cc.contacts.get(0).jn);
+		TestCase.assertEquals(2.0, cc.contacts.get(0).jt);
+		TestCase.assertFalse(cc.contacts.get(0).solved);
+		TestCase.assertEquals(3.0, cc.contacts.get(1).jn);
+		TestCase.assertEquals(4.0, cc.contacts.get(1).jt);
+		TestCase.assertTrue(cc.contacts.get(1).solved);
+		// not in the restored state
+		TestCase.assertEquals(0.0, cc.contacts.get(2).jn);
+		TestCase.assertEquals(0.0, cc.contacts.get(2).jt);
+		
+		// the restored state is only applied once
+		cc.contacts.get(2).jn = 6.0;
+		cc.update(m, s, this.cuh);
+		TestCase.assertEquals(1.0, cc.contacts.get(0).jn);
+		TestCase.assertEquals(6.0, cc.contacts.get(2).jn);
+	}
 }
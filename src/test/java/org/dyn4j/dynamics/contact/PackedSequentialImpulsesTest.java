@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2022 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.dynamics.contact;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.joint.RevoluteJoint;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.world.World;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the methods of the {@link PackedSequentialImpulses} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class PackedSequentialImpulsesTest {
+	/**
+	 * Tests the constructors.
+	 */
+	@Test
+	public void create() {
+		PackedSequentialImpulses<Body> si = new PackedSequentialImpulses<Body>();
+		TestCase.assertEquals(PackedSequentialImpulses.DEFAULT_MINIMUM_CONSTRAINT_COUNT, si.getMinimumConstraintCount());
+		
+		si = new PackedSequentialImpulses<Body>(0);
+		TestCase.assertEquals(0, si.getMinimumConstraintCount());
+		
+		si = new PackedSequentialImpulses<Body>(10);
+		TestCase.assertEquals(10, si.getMinimumConstraintCount());
+	}
+	
+	/**
+	 * Tests the constructor with a negative minimum constraint count.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createNegativeMinimumConstraintCount() {
+		new PackedSequentialImpulses<Body>(-1);
+	}
+	
+	/**
+	 * Tests the copy method.
+	 */
+	@Test
+	public void copy() {
+		PackedSequentialImpulses<Body> si = new PackedSequentialImpulses<Body>(10);
+		PackedSequentialImpulses<Body> copy = si.copy();
+		
+		TestCase.assertNotNull(copy);
+		TestCase.assertNotSame(si, copy);
+		TestCase.assertEquals(10, copy.getMinimumConstraintCount());
+	}
+	
+	/**
+	 * Tests that the packed solver produces exactly the same results as
+	 * the {@link SequentialImpulses} solver.
+	 */
+	@Test
+	public void sameAsSequentialImpulses() {
+		World<Body> expected = this.createScene();
+		World<Body> packed = this.createScene();
+		World<Body> threshold = this.createScene();
+		
+		packed.setContactConstraintSolver(new PackedSequentialImpulses<Body>(0));
+		// uses packing for the large pile only
+		threshold.setContactConstraintSolver(new PackedSequentialImpulses<Body>(10));
+		
+		for (int i = 0; i < 300; i++) {
+			expected.step(1);
+			packed.step(1);
+			threshold.step(1);
+		}
+		
+		this.assertSame(expected, packed);
+		this.assertSame(expected, threshold);
+	}
+	
+	/**
+	 * Asserts the bodies of the given worlds are in exactly the same state.
+	 * @param expected the expected world
+	 * @param actual the actual world
+	 */
+	private void assertSame(World<Body> expected, World<Body> actual) {
+		int n = expected.getBodyCount();
+		TestCase.assertEquals(n, actual.getBodyCount());
+		for (int i = 0; i < n; i++) {
+			Body b1 = expected.getBody(i);
+			Body b2 = actual.getBody(i);
+			Transform t1 = b1.getTransform();
+			Transform t2 = b2.getTransform();
+			TestCase.assertEquals(t1.getTranslationX(), t2.getTranslationX());
+			TestCase.assertEquals(t1.getTranslationY(), t2.getTranslationY());
+			TestCase.assertEquals(t1.getCost(), t2.getCost());
+			TestCase.assertEquals(t1.getSint(), t2.getSint());
+			TestCase.assertEquals(b1.getLinearVelocity().x, b2.getLinearVelocity().x);
+			TestCase.assertEquals(b1.getLinearVelocity().y, b2.getLinearVelocity().y);
+			TestCase.assertEquals(b1.getAngularVelocity(), b2.getAngularVelocity());
+			TestCase.assertEquals(b1.isAtRest(), b2.isAtRest());
+		}
+	}
+	
+	/**
+	 * Returns a new world with a pile of boxes and circles, a small pile of boxes and a
+	 * chain of bodies joined together that falls onto the pile.
+	 * @return {@link World}
+	 */
+	private World<Body> createScene() {
+		World<Body> w = new World<Body>();
+		
+		Body floor = new Body();
+		floor.addFixture(Geometry.createRectangle(60.0, 1.0));
+		floor.setMass(MassType.INFINITE);
+		w.addBody(floor);
+		
+		// a large pile
+		for (int i = 0; i < 6; i++) {
+			for (int j = 0; j < 6; j++) {
+				Body body = new Body();
+				if ((i + j) % 3 == 0) {
+					body.addFixture(Geometry.createCircle(0.5));
+				} else {
+					body.addFixture(Geometry.createSquare(1.0));
+				}
+				body.setMass(MassType.NORMAL);
+				body.translate(-3.0 + i * 1.02 + j * 0.05, 1.0 + j * 1.05);
+				body.setAngularVelocity(0.01 * (i - j));
+				w.addBody(body);
+			}
+		}
+		
+		// a small pile
+		for (int j = 0; j < 2; j++) {
+			Body box = new Body();
+			box.addFixture(Geometry.createSquare(1.0));
+			box.setMass(MassType.NORMAL);
+			box.translate(20.0, 1.0 + j * 1.05);
+			w.addBody(box);
+		}
+		
+		// a chain of bodies that falls on the large pile
+		Body previous = null;
+		for (int i = 0; i < 4; i++) {
+			Body link = new Body();
+			link.addFixture(Geometry.createRectangle(1.0, 0.25));
+			link.setMass(MassType.NORMAL);
+			link.translate(-2.0 + i * 1.0, 10.0);
+			w.addBody(link);
+			
+			if (previous != null) {
+				w.addJoint(new RevoluteJoint<Body>(previous, link, new Vector2(-2.5 + i * 1.0, 10.0)));
+			}
+			previous = link;
+		}
+		
+		return w;
+	}
+}
@@ -24,6 +24,7 @@
  */
 package org.dyn4j.dynamics.contact;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +45,7 @@ import org.dyn4j.dynamics.TimeStep;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.world.ValueMixer;
+import org.junit.Assume;
 import org.junit.Test;
 
 import junit.framework.TestCase;
@@ -51,7 +53,7 @@ import junit.framework.TestCase;
 /**
  * Tests the methods of the {@link SequentialImpulses} class.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 4.2.0
  */
 public class SequentialImpulsesTest {
@@ -191,4 +193,89 @@ public class SequentialImpulsesTest {
 		TestCase.assertTrue(c2.isSolved());
 		TestCase.assertFalse(c1.isSolved());
 	}
+	
+	/**
+	 * Tests the copy method.
+	 */
+	@Test
+	public void copy() {
+		SequentialImpulses<Body> si = new SequentialImpulses<Body>();
+		SequentialImpulses<Body> copy = si.copy();
+		
+		TestCase.assertNotNull(copy);
+		TestCase.assertNotSame(si, copy);
+	}
+	
+	/**
+	 * Tests that solving does not allocate.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void solveAllocationFree() throws Exception {
+		Object bean = null;
+		Method method = null;
+		try {
+			bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+			method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+			method.invoke(bean, Thread.currentThread().getId());
+		} catch (Exception e) {
+			Assume.assumeNoException(e);
+		}
+		
+		Body b1 = new Body();
+		Body b2 = new Body();
+		BodyFixture bf1 = b1.addFixture(Geometry.createSquare(0.5));
+		BodyFixture bf2 = b2.addFixture(Geometry.createSquare(0.5));
+		CollisionPair<CollisionItem<Body, BodyFixture>> cp = new BasicCollisionPair<CollisionItem<Body, BodyFixture>>(
+				new BasicCollisionItem<Body, BodyFixture>(b1, bf1), 
+				new BasicCollisionItem<Body, BodyFixture>(b2, bf2));
+		
+		b1.setMass(MassType.NORMAL);
+		b2.setMass(MassType.NORMAL);
+		b1.translate(0.1, 0.45);
+		b1.setLinearVelocity(0.2, -1.5);
+		b1.setAngularVelocity(0.3);
+		
+		Settings settings = new Settings();
+		TimeStep step = new TimeStep(settings.getStepFrequency());
+		ContactUpdateHandler handler = new CustomContactUpdateHandler();
+		ContactConstraint<Body> cc = new ContactConstraint<Body>(cp);
+		
+		NarrowphaseDetector np = new Gjk();
+		Penetration penetration = new Penetration();
+		np.detect(bf1.getShape(), b1.getTransform(), bf2.getShape(), b2.getTransform(), penetration);
+		
+		ManifoldSolver ms = new ClippingManifoldSolver();
+		Manifold manifold = new Manifold();
+		ms.getManifold(penetration, bf1.getShape(), b1.getTransform(), bf2.getShape(), b2.getTransform(), manifold);
+		
+		SequentialImpulses<Body> si = new SequentialImpulses<Body>();
+		List<ContactConstraint<Body>> ccs = new ArrayList<ContactConstraint<Body>>();
+		ccs.add(cc);
+		cc.update(manifold, settings, handler);
+		
+		// make sure we're testing the block solver
+		si.initialize(ccs, step, settings);
+		TestCase.assertEquals(2, cc.size);
+		
+		// warm up
+		for (int i = 0; i < 5000; i++) {
+			si.initialize(ccs, step, settings);
+			si.solveVelocityContraints(ccs, step, settings);
+			si.solvePositionContraints(ccs, step, settings);
+		}
+		
+		long id = Thread.currentThread().getId();
+		int iterations = 10000;
+		long before = (Long)method.invoke(bean, id);
+		for (int i = 0; i < iterations; i++) {
+			si.initialize(ccs, step, settings);
+			si.solveVelocityContraints(ccs, step, settings);
+			si.solvePositionContraints(ccs, step, settings);
+		}
+		long after = (Long)method.invoke(bean, id);
+		
+		// allow for a small fixed overhead (the reflective call itself)
+		TestCase.assertTrue((after - before) < iterations);
+	}
 }
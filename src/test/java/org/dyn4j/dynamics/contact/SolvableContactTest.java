@@ -33,7 +33,7 @@ import junit.framework.TestCase;
 /**
  * Tests the methods of the {@link SolvableContact} class.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 4.1.0
  */
 public class SolvableContactTest {
@@ -64,8 +64,10 @@ public class SolvableContactTest {
 		TestCase.assertEquals(0.0, c.massT);
 		TestCase.assertEquals(0.0, c.vb);
 		TestCase.assertEquals(false, c.ignored);
-		TestCase.assertEquals(null, c.r1);
-		TestCase.assertEquals(null, c.r2);
+		TestCase.assertNotNull(c.r1);
+		TestCase.assertTrue(c.r1.isZero());
+		TestCase.assertNotNull(c.r2);
+		TestCase.assertTrue(c.r2.isZero());
 		TestCase.assertEquals(false, c.isSolved());
 		
 		
@@ -38,7 +38,7 @@ import junit.framework.TestCase;
 /**
  * Tests the abstract joint's methods.
  * @author William Bittle
- * @version 5.0.0
+ * @version 6.1.0
  * @since 5.0.0
  */
 public class AbstractJointTest {
@@ -343,4 +343,18 @@ public class AbstractJointTest {
 		double v = TestAbstractJoint.getSpringDampingCoefficient(2, 3, 4);
 		TestCase.assertEquals(48.0, v);
 	}
+	
+	/**
+	 * Tests the default state methods.
+	 */
+	@Test
+	public void saveRestoreState() {
+		TestAbstractJoint tj = new TestAbstractJoint(Arrays.asList(b1, b2));
+		TestCase.assertEquals(0, tj.getStateSize());
+		
+		// these should do nothing
+		double[] state = new double[0];
+		tj.saveState(state, 0);
+		tj.restoreState(state, 0);
+	}
 }
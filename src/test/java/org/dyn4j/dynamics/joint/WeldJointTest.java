@@ -33,7 +33,7 @@ import junit.framework.TestCase;
 /**
  * Used to test the {@link WeldJoint} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.2
  */
 public class WeldJointTest extends BaseJointTest {
@@ -1230,4 +1230,33 @@ public class WeldJointTest extends BaseJointTest {
 		
 		wj.copy();
 	}
+	
+	/**
+	 * Tests saving and restoring the accumulated impulses.
+	 */
+	@Test
+	public void saveRestoreState() {
+		WeldJoint<Body> wj = new WeldJoint<Body>(b1, b2, new Vector2(1.0, 2.0));
+		wj.impulse.set(1.0, 2.0, 3.0);
+		wj.springImpulse = 4.0;
+		wj.lowerLimitImpulse = 5.0;
+		wj.upperLimitImpulse = 6.0;
+		
+		TestCase.assertEquals(6, wj.getStateSize());
+		double[] state = new double[7];
+		wj.saveState(state, 1);
+		
+		wj.impulse.zero();
+		wj.springImpulse = 0.0;
+		wj.lowerLimitImpulse = 0.0;
+		wj.upperLimitImpulse = 0.0;
+		
+		wj.restoreState(state, 1);
+		TestCase.assertEquals(1.0, wj.impulse.x);
+		TestCase.assertEquals(2.0, wj.impulse.y);
+		TestCase.assertEquals(3.0, wj.impulse.z);
+		TestCase.assertEquals(4.0, wj.springImpulse);
+		TestCase.assertEquals(5.0, wj.lowerLimitImpulse);
+		TestCase.assertEquals(6.0, wj.upperLimitImpulse);
+	}
 }
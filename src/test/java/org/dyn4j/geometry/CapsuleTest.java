@@ -31,7 +31,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Capsule} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
 public class CapsuleTest {
@@ -218,6 +218,43 @@ public class CapsuleTest {
 		TestCase.assertEquals( 0.75, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Capsule s = new Capsule(2.0, 1.0);
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		// along the axis it's the end of the cap
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// perpendicular to the axis both foci are farthest so the first is used
+		// and the direction doesn't need to be normalized
+		s.getFarthestPoint(new Vector2(0.0, -4.0), t, destination);
+		TestCase.assertEquals(-0.500, destination.x, 1.0e-3);
+		TestCase.assertEquals(-0.500, destination.y, 1.0e-3);
+		Vector2 p = s.getFarthestPoint(new Vector2(0.0, -4.0), t);
+		TestCase.assertEquals(p.x, destination.x);
+		TestCase.assertEquals(p.y, destination.y);
+		
+		// diagonally it's on the cap around the closest focus
+		s.getFarthestPoint(new Vector2(1.0, 1.0), t, destination);
+		TestCase.assertEquals(0.853, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.353, destination.y, 1.0e-3);
+		
+		// the transform is applied to both the direction and the point
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+	}
+	
 	/**
 	 * Tests the getAxes method.
 	 */
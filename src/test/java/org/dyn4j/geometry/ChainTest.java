@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2010-2024 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link Chain} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class ChainTest {
+	/** A zig-zag poly-line */
+	private static final Vector2[] VERTICES = new Vector2[] {
+		new Vector2(0.0, 0.0),
+		new Vector2(1.0, 1.0),
+		new Vector2(2.0, 0.0),
+		new Vector2(3.0, 1.0),
+		new Vector2(4.0, 0.0),
+		new Vector2(5.0, 1.0)
+	};
+	
+	/**
+	 * Tests a failed create using a null array.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNull() {
+		new Chain(null, false);
+	}
+	
+	/**
+	 * Tests a failed create using a null element.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullElement() {
+		new Chain(new Vector2[] { new Vector2(), null, new Vector2(1.0, 0.0) }, false);
+	}
+	
+	/**
+	 * Tests a failed create using too few vertices.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createTooFew() {
+		new Chain(new Vector2[] { new Vector2() }, false);
+	}
+	
+	/**
+	 * Tests a successful creation.
+	 */
+	@Test
+	public void createSuccess() {
+		Chain chain = Geometry.createChain(VERTICES, false);
+		
+		TestCase.assertEquals(5, chain.getLinkCount());
+		TestCase.assertFalse(chain.isClosed());
+		TestCase.assertEquals(6, chain.getVertices().length);
+		TestCase.assertEquals(5.0 * Math.sqrt(2.0), chain.getLength(), 1.0e-8);
+		TestCase.assertEquals(2.5, chain.getCenter().x, 1.0e-8);
+		TestCase.assertEquals(0.5, chain.getCenter().y, 1.0e-8);
+		TestCase.assertNotNull(chain.toString());
+		
+		// the ghost vertices carry over to the links
+		TestCase.assertNull(chain.getLink(0).getPoint0());
+		TestCase.assertEquals(2.0, chain.getLink(0).getPoint3().x, 1.0e-8);
+		TestCase.assertEquals(0.0, chain.getLink(1).getPoint0().x, 1.0e-8);
+		TestCase.assertNull(chain.getLink(4).getPoint3());
+		
+		// the vertices are copied
+		TestCase.assertNotSame(VERTICES[0], chain.getVertices()[0]);
+		
+		Chain closed = Geometry.createChain(VERTICES, true);
+		TestCase.assertEquals(6, closed.getLinkCount());
+		TestCase.assertTrue(closed.isClosed());
+		TestCase.assertEquals(5.0, closed.getLink(0).getPoint0().x, 1.0e-8);
+		TestCase.assertEquals(1.0, closed.getLink(5).getPoint3().x, 1.0e-8);
+	}
+	
+	/**
+	 * Tests the getLinks method with an AABB.
+	 */
+	@Test
+	public void getLinksAABB() {
+		Chain chain = new Chain(VERTICES, false);
+		List<Link> links = new ArrayList<Link>();
+		
+		chain.getLinks(new AABB(1.5, 0.5, 2.5, 0.6), links);
+		TestCase.assertEquals(2, links.size());
+		TestCase.assertTrue(links.contains(chain.getLink(1)));
+		TestCase.assertTrue(links.contains(chain.getLink(2)));
+		
+		links.clear();
+		chain.getLinks(new AABB(-2.0, -2.0, -1.0, -1.0), links);
+		TestCase.assertEquals(0, links.size());
+		
+		links.clear();
+		chain.getLinks(new AABB(-2.0, -2.0, 10.0, 10.0), links);
+		TestCase.assertEquals(5, links.size());
+		
+		// with a transform
+		Transform tx = new Transform();
+		tx.translate(10.0, 0.0);
+		links.clear();
+		chain.getLinks(new AABB(1.5, 0.5, 2.5, 0.6), tx, links);
+		TestCase.assertEquals(0, links.size());
+		chain.getLinks(new AABB(14.5, 0.1, 14.6, 0.2), tx, links);
+		TestCase.assertEquals(1, links.size());
+		TestCase.assertSame(chain.getLink(4), links.get(0));
+		
+		// rotated 90 degrees, the chain runs along the y-axis
+		tx.identity();
+		tx.rotate(Math.toRadians(90.0));
+		links.clear();
+		chain.getLinks(new AABB(-0.6, 4.5, -0.5, 4.6), tx, links);
+		TestCase.assertEquals(1, links.size());
+		TestCase.assertSame(chain.getLink(4), links.get(0));
+	}
+	
+	/**
+	 * Tests the getLinks method with a ray.
+	 */
+	@Test
+	public void getLinksRay() {
+		Chain chain = new Chain(VERTICES, false);
+		List<Link> links = new ArrayList<Link>();
+		Transform tx = new Transform();
+		
+		// straight down through the second link
+		chain.getLinks(new Ray(new Vector2(1.5, 5.0), new Vector2(0.0, -1.0)), 0.0, tx, links);
+		TestCase.assertEquals(1, links.size());
+		TestCase.assertSame(chain.getLink(1), links.get(0));
+		
+		// too short
+		links.clear();
+		chain.getLinks(new Ray(new Vector2(1.5, 5.0), new Vector2(0.0, -1.0)), 2.0, tx, links);
+		TestCase.assertEquals(0, links.size());
+		
+		// along the chain
+		links.clear();
+		chain.getLinks(new Ray(new Vector2(-1.0, 0.5), new Vector2(1.0, 0.0)), 0.0, tx, links);
+		TestCase.assertEquals(5, links.size());
+		
+		// pointing away
+		links.clear();
+		chain.getLinks(new Ray(new Vector2(-1.0, 0.5), new Vector2(-1.0, 0.0)), 0.0, tx, links);
+		TestCase.assertEquals(0, links.size());
+		
+		// with a transform
+		tx.translate(0.0, 10.0);
+		links.clear();
+		chain.getLinks(new Ray(new Vector2(1.5, 5.0), new Vector2(0.0, -1.0)), 0.0, tx, links);
+		TestCase.assertEquals(0, links.size());
+		chain.getLinks(new Ray(new Vector2(1.5, 15.0), new Vector2(0.0, -1.0)), 0.0, tx, links);
+		TestCase.assertEquals(1, links.size());
+	}
+	
+	/**
+	 * Tests the AABB methods.
+	 */
+	@Test
+	public void createAABB() {
+		Chain chain = new Chain(VERTICES, false);
+		
+		AABB aabb = chain.createAABB(new Transform());
+		TestCase.assertEquals(0.0, aabb.getMinX(), 1.0e-8);
+		TestCase.assertEquals(0.0, aabb.getMinY(), 1.0e-8);
+		TestCase.assertEquals(5.0, aabb.getMaxX(), 1.0e-8);
+		TestCase.assertEquals(1.0, aabb.getMaxY(), 1.0e-8);
+		
+		Transform tx = new Transform();
+		tx.translate(1.0, 2.0);
+		aabb = chain.createAABB(tx);
+		TestCase.assertEquals(1.0, aabb.getMinX(), 1.0e-8);
+		TestCase.assertEquals(2.0, aabb.getMinY(), 1.0e-8);
+		TestCase.assertEquals(6.0, aabb.getMaxX(), 1.0e-8);
+		TestCase.assertEquals(3.0, aabb.getMaxY(), 1.0e-8);
+		
+		tx.identity();
+		tx.rotate(Math.toRadians(90.0));
+		aabb = chain.createAABB(tx);
+		TestCase.assertEquals(-1.0, aabb.getMinX(), 1.0e-8);
+		TestCase.assertEquals(0.0, aabb.getMinY(), 1.0e-8);
+		TestCase.assertEquals(0.0, aabb.getMaxX(), 1.0e-8);
+		TestCase.assertEquals(5.0, aabb.getMaxY(), 1.0e-8);
+	}
+	
+	/**
+	 * Tests the farthest point, feature and projection methods.
+	 */
+	@Test
+	public void getFarthest() {
+		Chain chain = new Chain(VERTICES, false);
+		Transform tx = new Transform();
+		
+		Vector2 p = chain.getFarthestPoint(new Vector2(1.0, 1.0), tx);
+		TestCase.assertEquals(5.0, p.x, 1.0e-8);
+		TestCase.assertEquals(1.0, p.y, 1.0e-8);
+		
+		Feature f = chain.getFarthestFeature(new Vector2(1.0, 1.0), tx);
+		TestCase.assertTrue(f instanceof EdgeFeature);
+		
+		Interval i = chain.project(new Vector2(1.0, 0.0), tx);
+		TestCase.assertEquals(0.0, i.getMin(), 1.0e-8);
+		TestCase.assertEquals(5.0, i.getMax(), 1.0e-8);
+		
+		tx.translate(1.0, 0.0);
+		i = chain.project(new Vector2(1.0, 0.0), tx);
+		TestCase.assertEquals(1.0, i.getMin(), 1.0e-8);
+		TestCase.assertEquals(6.0, i.getMax(), 1.0e-8);
+	}
+	
+	/**
+	 * Tests the contains method.
+	 */
+	@Test
+	public void contains() {
+		Chain chain = new Chain(VERTICES, false);
+		Transform tx = new Transform();
+		
+		TestCase.assertTrue(chain.contains(new Vector2(0.5, 0.5), tx));
+		TestCase.assertTrue(chain.contains(new Vector2(4.5, 0.5), tx));
+		TestCase.assertFalse(chain.contains(new Vector2(0.5, 0.6), tx));
+		TestCase.assertFalse(chain.contains(new Vector2(0.5, 0.5), tx, false));
+	}
+	
+	/**
+	 * Tests the createMass method.
+	 */
+	@Test
+	public void createMass() {
+		Chain chain = new Chain(VERTICES, false);
+		Mass mass = chain.createMass(1.0);
+		
+		TestCase.assertEquals(chain.getLength(), mass.getMass(), 1.0e-8);
+		TestCase.assertEquals(2.5, mass.getCenter().x, 1.0e-8);
+		TestCase.assertEquals(0.5, mass.getCenter().y, 1.0e-8);
+		TestCase.assertTrue(mass.getInertia() > 0.0);
+		TestCase.assertEquals(0.0, chain.getArea(), 1.0e-8);
+	}
+	
+	/**
+	 * Tests the copy method.
+	 */
+	@Test
+	public void copy() {
+		Chain chain = new Chain(VERTICES, true);
+		Chain copy = chain.copy();
+		
+		TestCase.assertNotSame(chain, copy);
+		TestCase.assertEquals(chain.getLinkCount(), copy.getLinkCount());
+		TestCase.assertNotSame(chain.getLink(0), copy.getLink(0));
+		TestCase.assertEquals(chain.isClosed(), copy.isClosed());
+		TestCase.assertEquals(chain.getLength(), copy.getLength(), 1.0e-8);
+		
+		List<Link> links = new ArrayList<Link>();
+		copy.getLinks(new AABB(1.5, 0.7, 2.5, 0.8), links);
+		// the bounds of the closing link span the whole chain
+		TestCase.assertEquals(3, links.size());
+		TestCase.assertTrue(links.contains(copy.getLink(1)));
+		TestCase.assertTrue(links.contains(copy.getLink(5)));
+	}
+	
+	/**
+	 * Tests the rotate and translate methods.
+	 */
+	@Test
+	public void rotateAndTranslate() {
+		Chain chain = new Chain(VERTICES, false);
+		
+		try { chain.rotate(Math.toRadians(30)); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotate(Rotation.of(Math.toRadians(40))); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotate(Math.toRadians(40), new Vector2(1, 2)); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotate(Rotation.of(Math.toRadians(20)), new Vector2(0, 3)); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotate(Math.toRadians(10), 2, -1); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotate(Rotation.of(Math.toRadians(45)), -1, -1); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.rotateAboutCenter(Math.toRadians(26)); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.translate(1.0, 2.0); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+		try { chain.translate(new Vector2(-1.0, 2.0)); TestCase.fail(); } catch (UnsupportedOperationException ex) { }
+	}
+}
@@ -31,7 +31,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Circle} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class CircleTest {
@@ -145,6 +145,35 @@ public class CircleTest {
 		TestCase.assertEquals(1.000, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Circle s = new Circle(1.5);
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		// the direction doesn't need to be normalized
+		s.getFarthestPoint(new Vector2(0.0, -3.0), t, destination);
+		TestCase.assertEquals(0.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.500, destination.y, 1.0e-3);
+		
+		// a zero direction gives the center
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-2.000, destination.y, 1.0e-3);
+		
+		// the direction isn't rotated but the local center is
+		s.translate(0.5, 0.0);
+		t.rotate(Math.toRadians(90), 1.0, -2.0);
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(2.500, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.500, destination.y, 1.0e-3);
+	}
+	
 	/**
 	 * Tests the getAxes method.
 	 */
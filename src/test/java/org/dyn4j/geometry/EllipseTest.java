@@ -31,7 +31,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Ellipse} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
 public class EllipseTest {
@@ -202,6 +202,43 @@ public class EllipseTest {
 		TestCase.assertEquals( 0.838, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Ellipse s = new Ellipse(2.0, 1.0);
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		// along the axes it's the end of the axis
+		s.getFarthestPoint(new Vector2(0.0, -1.0), t, destination);
+		TestCase.assertEquals(0.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-0.500, destination.y, 1.0e-3);
+		s.getFarthestPoint(new Vector2(-1.0, 0.0), t, destination);
+		TestCase.assertEquals(-1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// diagonally it's closer to the major axis than the direction
+		s.getFarthestPoint(new Vector2(1.0, 1.0), t, destination);
+		TestCase.assertEquals(0.894, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.224, destination.y, 1.0e-3);
+		
+		// the transform is applied to both the direction and the point
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+		
+		// a locally rotated ellipse swaps the axes
+		s.rotateAboutCenter(Math.toRadians(90));
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.500, destination.y, 1.0e-3);
+	}
+	
 	/**
 	 * Tests the getFarthestPointOnEllipse method.
 	 */
@@ -31,7 +31,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link HalfEllipse} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
 public class HalfEllipseTest {
@@ -216,6 +216,50 @@ public class HalfEllipseTest {
 		TestCase.assertEquals( 1.000, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		HalfEllipse s = new HalfEllipse(2.0, 1.0);
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		// straight down both base vertices are farthest so the right one is used
+		s.getFarthestPoint(new Vector2(0.0, -1.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// along the base it's the base vertices
+		s.getFarthestPoint(new Vector2(-1.0, 0.0), t, destination);
+		TestCase.assertEquals(-1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// just above the base it's on the curved side next to the vertex
+		s.getFarthestPoint(new Vector2(1.0, 1.0e-9), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// straight up it's the top of the curved side
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(0.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(1.000, destination.y, 1.0e-3);
+		
+		// the transform is applied to both the direction and the point
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+		Vector2 p = s.getFarthestPoint(new Vector2(1.0, 0.0), t);
+		TestCase.assertEquals(p.x, destination.x);
+		TestCase.assertEquals(p.y, destination.y);
+	}
+	
 	/**
 	 * Tests the getAxes method.
 	 */
@@ -27,13 +27,14 @@ package org.dyn4j.geometry;
 import junit.framework.TestCase;
 
 import java.util.Iterator;
+import java.util.Random;
 
 import org.junit.Test;
 
 /**
  * Test case for the {@link Polygon} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class PolygonTest {
@@ -259,6 +260,53 @@ public class PolygonTest {
 		TestCase.assertEquals(-1.000, pt.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Polygon s = new Polygon(new Vector2(0.0, 1.0), new Vector2(-1.0, -1.0), new Vector2(1.0, -1.0));
+		Polygon cached = s.copy();
+		cached.setVertexCacheEnabled(true);
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(0.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(1.000, destination.y, 1.0e-3);
+		
+		// the vertex ties of each edge resolve the same way with and
+		// without the cache and as the allocating method
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		cached.updateVertexCache(t);
+		Vector2 cd = new Vector2();
+		Vector2[] ties = new Vector2[] {
+			new Vector2(0.0, -1.0),
+			new Vector2(2.0, 1.0),
+			new Vector2(-2.0, 1.0)
+		};
+		Vector2[] expected = new Vector2[] {
+			new Vector2(-1.0, -1.0),
+			new Vector2(0.0, 1.0),
+			new Vector2(0.0, 1.0)
+		};
+		for (int i = 0; i < ties.length; i++) {
+			Vector2 n = t.getTransformedR(ties[i]);
+			Vector2 e = t.getTransformed(expected[i]);
+			s.getFarthestPoint(n, t, destination);
+			cached.getFarthestPoint(n, t, cd);
+			Vector2 p = s.getFarthestPoint(n, t);
+			TestCase.assertEquals(e.x, destination.x, 1.0e-8);
+			TestCase.assertEquals(e.y, destination.y, 1.0e-8);
+			TestCase.assertEquals(p.x, destination.x);
+			TestCase.assertEquals(p.y, destination.y);
+			TestCase.assertEquals(destination.x, cd.x, 1.0e-12);
+			TestCase.assertEquals(destination.y, cd.y, 1.0e-12);
+		}
+	}
+	
 	/**
 	 * Tests the getAxes method.
 	 */
@@ -575,4 +623,98 @@ public class PolygonTest {
 			TestCase.assertEquals(poly.vertices[i].y, copy.vertices[i].y);
 		}
 	}
+	
+	/**
+	 * Tests that the cached world space vertices give the same results.
+	 */
+	@Test
+	public void vertexCache() {
+		Polygon cached = Geometry.createUnitCirclePolygon(7, 1.0);
+		Polygon uncached = cached.copy();
+		cached.setVertexCacheEnabled(true);
+		TestCase.assertTrue(cached.isVertexCacheEnabled());
+		TestCase.assertFalse(uncached.isVertexCacheEnabled());
+		TestCase.assertTrue(cached.copy().isVertexCacheEnabled());
+		
+		Random random = new Random(1);
+		Transform tx = new Transform();
+		AABB a1 = new AABB(0, 0, 0, 0);
+		AABB a2 = new AABB(0, 0, 0, 0);
+		Vector2 p1 = new Vector2();
+		Vector2 p2 = new Vector2();
+		double[] buffer = null;
+		for (int i = 0; i < 50; i++) {
+			tx.rotate(random.nextDouble() * 2.0);
+			tx.translate(random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+			
+			// computing the AABB doesn't refresh the cache
+			TestCase.assertNull(cached.getVertexCache(tx));
+			cached.computeAABB(tx, a1);
+			TestCase.assertNull(cached.getVertexCache(tx));
+			cached.updateVertexCache(tx);
+			cached.computeAABB(tx, a1);
+			uncached.computeAABB(tx, a2);
+			TestCase.assertNotNull(cached.getVertexCache(tx));
+			
+			// the same buffer is refilled for each transform
+			if (buffer == null) {
+				buffer = cached.getVertexCache(tx).vertices;
+			}
+			TestCase.assertSame(buffer, cached.getVertexCache(tx).vertices);
+			TestCase.assertEquals(a2.getMinX(), a1.getMinX(), 1.0e-12);
+			TestCase.assertEquals(a2.getMinY(), a1.getMinY(), 1.0e-12);
+			TestCase.assertEquals(a2.getMaxX(), a1.getMaxX(), 1.0e-12);
+			TestCase.assertEquals(a2.getMaxY(), a1.getMaxY(), 1.0e-12);
+			
+			for (int j = 0; j < 10; j++) {
+				Vector2 n = new Vector2(random.nextDouble() * 2.0 * Math.PI);
+				
+				cached.getFarthestPoint(n, tx, p1);
+				uncached.getFarthestPoint(n, tx, p2);
+				TestCase.assertEquals(p2.x, p1.x, 1.0e-12);
+				TestCase.assertEquals(p2.y, p1.y, 1.0e-12);
+				
+				Interval i1 = cached.project(n, tx);
+				Interval i2 = uncached.project(n, tx);
+				TestCase.assertEquals(i2.getMin(), i1.getMin(), 1.0e-12);
+				TestCase.assertEquals(i2.getMax(), i1.getMax(), 1.0e-12);
+				
+				EdgeFeature f1 = cached.getFarthestFeature(n, tx);
+				EdgeFeature f2 = uncached.getFarthestFeature(n, tx);
+				TestCase.assertEquals(f2.getMaximum().getIndex(), f1.getMaximum().getIndex());
+				TestCase.assertEquals(f2.getVertex1().getIndex(), f1.getVertex1().getIndex());
+				TestCase.assertEquals(f2.getVertex2().getIndex(), f1.getVertex2().getIndex());
+				TestCase.assertEquals(f2.getMaximum().getPoint().x, f1.getMaximum().getPoint().x, 1.0e-12);
+				TestCase.assertEquals(f2.getMaximum().getPoint().y, f1.getMaximum().getPoint().y, 1.0e-12);
+			}
+		}
+		
+		// another transform doesn't use or replace the cache
+		Transform other = new Transform();
+		other.translate(2.0, 1.0);
+		TestCase.assertNull(cached.getVertexCache(other));
+		cached.computeAABB(other, a1);
+		uncached.computeAABB(other, a2);
+		TestCase.assertEquals(a2.getMinX(), a1.getMinX(), 1.0e-12);
+		TestCase.assertEquals(a2.getMaxY(), a1.getMaxY(), 1.0e-12);
+		cached.getFarthestPoint(new Vector2(1.0, 0.0), other, p1);
+		TestCase.assertNull(cached.getVertexCache(other));
+		TestCase.assertNotNull(cached.getVertexCache(tx));
+		TestCase.assertSame(buffer, cached.getVertexCache(tx).vertices);
+		
+		// changing the polygon clears the cache
+		cached.updateVertexCache(tx);
+		cached.translate(1.0, 0.0);
+		TestCase.assertNull(cached.getVertexCache(tx));
+		cached.updateVertexCache(tx);
+		cached.rotate(1.0);
+		TestCase.assertNull(cached.getVertexCache(tx));
+		
+		// disabling the cache clears it
+		cached.updateVertexCache(tx);
+		cached.setVertexCacheEnabled(false);
+		TestCase.assertNull(cached.getVertexCache(tx));
+		cached.updateVertexCache(tx);
+		TestCase.assertNull(cached.getVertexCache(tx));
+	}
 }
@@ -267,4 +267,47 @@ public class RectangleTest {
 			TestCase.assertEquals(rect.vertices[i].y, copy.vertices[i].y);
 		}
 	}
+	
+	/**
+	 * Tests that the cached world space vertices give the same results.
+	 */
+	@Test
+	public void vertexCache() {
+		Rectangle cached = new Rectangle(2.0, 1.0);
+		Rectangle uncached = new Rectangle(2.0, 1.0);
+		cached.setVertexCacheEnabled(true);
+		
+		Transform tx = new Transform();
+		tx.rotate(0.3);
+		tx.translate(1.0, -2.0);
+		
+		cached.updateVertexCache(tx);
+		AABB a1 = cached.createAABB(tx);
+		AABB a2 = uncached.createAABB(tx);
+		TestCase.assertNotNull(cached.getVertexCache(tx));
+		TestCase.assertEquals(a2.getMinX(), a1.getMinX(), 1.0e-12);
+		TestCase.assertEquals(a2.getMinY(), a1.getMinY(), 1.0e-12);
+		TestCase.assertEquals(a2.getMaxX(), a1.getMaxX(), 1.0e-12);
+		TestCase.assertEquals(a2.getMaxY(), a1.getMaxY(), 1.0e-12);
+		
+		Vector2 n = new Vector2(1.0, 2.0);
+		n.normalize();
+		Interval i1 = cached.project(n, tx);
+		Interval i2 = uncached.project(n, tx);
+		TestCase.assertEquals(i2.getMin(), i1.getMin(), 1.0e-12);
+		TestCase.assertEquals(i2.getMax(), i1.getMax(), 1.0e-12);
+		
+		Vector2 p1 = cached.getFarthestPoint(n, tx);
+		Vector2 p2 = uncached.getFarthestPoint(n, tx);
+		TestCase.assertEquals(p2.x, p1.x, 1.0e-12);
+		TestCase.assertEquals(p2.y, p1.y, 1.0e-12);
+		
+		// a moved transform doesn't use the stale cache
+		tx.translate(1.0, 0.0);
+		TestCase.assertNull(cached.getVertexCache(tx));
+		p1 = cached.getFarthestPoint(n, tx);
+		p2 = uncached.getFarthestPoint(n, tx);
+		TestCase.assertEquals(p2.x, p1.x, 1.0e-12);
+		TestCase.assertEquals(p2.y, p1.y, 1.0e-12);
+	}
 }
@@ -33,7 +33,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Segment} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class SegmentTest {
@@ -357,6 +357,49 @@ public class SegmentTest {
 		TestCase.assertEquals(0.000, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Segment s = new Segment(new Vector2(-1.0, -1.0), new Vector2(1.0, 0.5));
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		
+		// along the segment it's the end points
+		s.getFarthestPoint(new Vector2(2.0, 1.5), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.500, destination.y, 1.0e-3);
+		s.getFarthestPoint(new Vector2(-2.0, -1.5), t, destination);
+		TestCase.assertEquals(-1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+		
+		// perpendicular to the segment both points are farthest so the first is used
+		s.getFarthestPoint(new Vector2(-1.5, 2.0), t, destination);
+		TestCase.assertEquals(-1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+		Vector2 p = s.getFarthestPoint(new Vector2(-1.5, 2.0), t);
+		TestCase.assertEquals(p.x, destination.x);
+		TestCase.assertEquals(p.y, destination.y);
+		
+		// the transform is applied to the points
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(2.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-3.000, destination.y, 1.0e-3);
+		
+		// a degenerate segment always gives its only point
+		Vector2 v = new Vector2(0.5, 0.5);
+		Segment.getFarthestPoint(v, v, new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(0.500, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.500, destination.y, 1.0e-3);
+		Segment.getFarthestPoint(v, v, new Vector2(-1.0, 0.0), t, destination);
+		TestCase.assertEquals(0.500, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.500, destination.y, 1.0e-3);
+	}
+	
 	/**
 	 * Tests the rotate method.
 	 */
@@ -32,7 +32,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Slice} class.
  * @author William Bittle
- * @version 6.0.0
+ * @version 6.1.0
  * @since 3.1.5
  */
 public class SliceTest {
@@ -188,6 +188,51 @@ public class SliceTest {
 		TestCase.assertEquals( 2.319, p.y, 1.0e-3);
 	}
 	
+	/**
+	 * Tests the farthest point method that uses a destination vector.
+	 * @since 6.1.0
+	 */
+	@Test
+	public void getFarthestPointDestination() {
+		Slice s = new Slice(1.0, Math.toRadians(50));
+		Transform t = new Transform();
+		Vector2 destination = new Vector2(100.0, 100.0);
+		double c = Math.cos(Math.toRadians(25));
+		double n = Math.sin(Math.toRadians(25));
+		
+		// towards the arc it's on the arc
+		s.getFarthestPoint(new Vector2(1.0, 0.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// away from the arc it's the circle center
+		s.getFarthestPoint(new Vector2(-1.0, 0.0), t, destination);
+		TestCase.assertEquals(0.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(0.000, destination.y, 1.0e-3);
+		
+		// at the boundary between the arc and the straight sides it's the vertex
+		s.getFarthestPoint(new Vector2(c, n), t, destination);
+		TestCase.assertEquals(c, destination.x, 1.0e-8);
+		TestCase.assertEquals(n, destination.y, 1.0e-8);
+		s.getFarthestPoint(new Vector2(c, -n), t, destination);
+		TestCase.assertEquals(c, destination.x, 1.0e-8);
+		TestCase.assertEquals(-n, destination.y, 1.0e-8);
+		
+		// perpendicular to a straight side it's on that side
+		s.getFarthestPoint(new Vector2(-n, c), t, destination);
+		TestCase.assertEquals(0.000, destination.x * -n + destination.y * c, 1.0e-8);
+		
+		// the transform is applied to both the direction and the point
+		t.rotate(Math.toRadians(90));
+		t.translate(1.0, -2.0);
+		s.getFarthestPoint(new Vector2(0.0, 1.0), t, destination);
+		TestCase.assertEquals(1.000, destination.x, 1.0e-3);
+		TestCase.assertEquals(-1.000, destination.y, 1.0e-3);
+		Vector2 p = s.getFarthestPoint(new Vector2(0.0, 1.0), t);
+		TestCase.assertEquals(p.x, destination.x);
+		TestCase.assertEquals(p.y, destination.y);
+	}
+	
 	/**
 	 * Tests the getAxes method.
 	 */
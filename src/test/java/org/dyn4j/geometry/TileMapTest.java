@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link TileMap} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class TileMapTest {
+	/** The identity transform */
+	private static final Transform IDENTITY = new Transform();
+	
+	/** The templates used by the tests: empty, square and a slope rising to the right */
+	private static final Polygon[] TEMPLATES = new Polygon[] {
+		null,
+		new Polygon(new Vector2(0, 0), new Vector2(1, 0), new Vector2(1, 1), new Vector2(0, 1)),
+		new Polygon(new Vector2(0, 0), new Vector2(1, 0), new Vector2(1, 1))
+	};
+	
+	/**
+	 * Returns a tile map with the given rows of solid tiles where row 0 of the array is the top row.
+	 * @param tileSize the tile size
+	 * @param rows the rows
+	 * @return {@link TileMap}
+	 */
+	private static final TileMap create(double tileSize, String... rows) {
+		int columns = rows[0].length();
+		short[] tiles = new short[columns * rows.length];
+		for (int r = 0; r < rows.length; r++) {
+			String row = rows[rows.length - 1 - r];
+			for (int c = 0; c < columns; c++) {
+				char t = row.charAt(c);
+				tiles[r * columns + c] = (short)(t == '#' ? 1 : (t == '/' ? 2 : 0));
+			}
+		}
+		return new TileMap(columns, rows.length, tileSize, tileSize, tiles, TEMPLATES);
+	}
+	
+	/**
+	 * Returns true if the link connects to the other links of its loop.
+	 * @param tileMap the tile map
+	 * @param link the link
+	 * @return boolean
+	 */
+	private static final boolean isConnected(TileMap tileMap, Link link) {
+		boolean prev = false;
+		boolean next = false;
+		for (int i = 0; i < tileMap.getLinkCount(); i++) {
+			Link other = tileMap.getLink(i);
+			if (other == link) continue;
+			if (other.getPoint2().equals(link.getPoint1()) && other.getPoint1().equals(link.getPoint0())) prev = true;
+			if (other.getPoint1().equals(link.getPoint2()) && other.getPoint2().equals(link.getPoint3())) next = true;
+		}
+		return prev && next;
+	}
+	
+	/**
+	 * Returns true if the given segment intersects the given {@link AABB}.
+	 * @param aabb the {@link AABB}
+	 * @param p1 the first point of the segment
+	 * @param p2 the second point of the segment
+	 * @return boolean
+	 */
+	private static final boolean intersects(AABB aabb, Vector2 p1, Vector2 p2) {
+		// clip the segment against each slab
+		double t0 = 0.0;
+		double t1 = 1.0;
+		double[] p = new double[] { p1.x, p1.y };
+		double[] d = new double[] { p2.x - p1.x, p2.y - p1.y };
+		double[] min = new double[] { aabb.getMinX(), aabb.getMinY() };
+		double[] max = new double[] { aabb.getMaxX(), aabb.getMaxY() };
+		for (int i = 0; i < 2; i++) {
+			if (d[i] == 0.0) {
+				if (p[i] < min[i] || p[i] > max[i]) return false;
+				continue;
+			}
+			double a = (min[i] - p[i]) / d[i];
+			double b = (max[i] - p[i]) / d[i];
+			t0 = Math.max(t0, Math.min(a, b));
+			t1 = Math.min(t1, Math.max(a, b));
+		}
+		return t0 <= t1;
+	}
+	
+	/**
+	 * Tests a failed create using a null tiles array.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullTiles() {
+		new TileMap(1, 1, 1.0, 1.0, null, TEMPLATES);
+	}
+	
+	/**
+	 * Tests a failed create using a null templates array.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullTemplates() {
+		new TileMap(1, 1, 1.0, 1.0, new short[1], null);
+	}
+	
+	/**
+	 * Tests a failed create using a null bit set.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullSolid() {
+		new TileMap(1, 1, 1.0, 1.0, (BitSet)null);
+	}
+	
+	/**
+	 * Tests a failed create using zero columns.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createZeroColumns() {
+		new TileMap(0, 1, 1.0, 1.0, new short[0], TEMPLATES);
+	}
+	
+	/**
+	 * Tests a failed create using a negative tile size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createNegativeTileSize() {
+		new TileMap(1, 1, -1.0, 1.0, new short[] { 1 }, TEMPLATES);
+	}
+	
+	/**
+	 * Tests a failed create using the wrong number of tiles.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createWrongTileCount() {
+		new TileMap(2, 2, 1.0, 1.0, new short[] { 1 }, TEMPLATES);
+	}
+	
+	/**
+	 * Tests a failed create using a template outside the unit square.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createTemplateOutside() {
+		new TileMap(1, 1, 1.0, 1.0, new short[] { 0 }, new Polygon[] { Geometry.createSquare(2.0) });
+	}
+	
+	/**
+	 * Tests a failed create using a tile with an unknown template.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void createInvalidTemplate() {
+		new TileMap(1, 1, 1.0, 1.0, new short[] { 3 }, TEMPLATES);
+	}
+	
+	/**
+	 * Tests a failed create with no solid tiles.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createEmpty() {
+		new TileMap(2, 2, 1.0, 1.0, new BitSet());
+	}
+	
+	/**
+	 * Tests a successful creation.
+	 */
+	@Test
+	public void createSuccess() {
+		BitSet solid = new BitSet();
+		solid.set(0, 10);
+		TileMap tileMap = new TileMap(10, 3, 0.5, 0.5, solid);
+		
+		TestCase.assertEquals(10, tileMap.getColumnCount());
+		TestCase.assertEquals(3, tileMap.getRowCount());
+		TestCase.assertEquals(0.5, tileMap.getTileWidth());
+		TestCase.assertEquals(0.5, tileMap.getTileHeight());
+		TestCase.assertEquals(1, tileMap.getTile(3, 0));
+		TestCase.assertEquals(0, tileMap.getTile(3, 1));
+		TestCase.assertNotNull(tileMap.toString());
+		
+		// the row of tiles becomes a single rectangle
+		TestCase.assertEquals(4, tileMap.getLinkCount());
+		TestCase.assertEquals(11.0, tileMap.getLength(), 1.0e-8);
+		TestCase.assertEquals(2.5, tileMap.getCenter().x, 1.0e-8);
+		TestCase.assertEquals(0.25, tileMap.getCenter().y, 1.0e-8);
+		for (int i = 0; i < 4; i++) {
+			Link link = tileMap.getLink(i);
+			TestCase.assertTrue(isConnected(tileMap, link));
+			
+			// the solid side is on the left
+			Vector2 e = link.getPoint1().to(link.getPoint2());
+			Vector2 m = link.getCenter().sum(e.getRightHandOrthogonalVector().multiply(0.01));
+			TestCase.assertTrue(m.x > 0.0 && m.x < 5.0 && m.y > 0.0 && m.y < 0.5);
+		}
+	}
+	
+	/**
+	 * Tests the getTile method with an invalid column.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getTileInvalid() {
+		create(1.0, "#").getTile(1, 0);
+	}
+	
+	/**
+	 * Tests that tiles touching at a corner have separate outlines.
+	 */
+	@Test
+	public void createTouchingCorners() {
+		TileMap tileMap = create(1.0, 
+				".#", 
+				"#.");
+		
+		TestCase.assertEquals(8, tileMap.getLinkCount());
+		for (int i = 0; i < 8; i++) {
+			Link link = tileMap.getLink(i);
+			TestCase.assertTrue(isConnected(tileMap, link));
+			
+			// every link stays with the tile it came from
+			double x = (link.getPoint1().x + link.getPoint2().x) * 0.5;
+			double y = (link.getPoint1().y + link.getPoint2().y) * 0.5;
+			double px = (link.getPoint0().x + link.getPoint3().x) * 0.5;
+			double py = (link.getPoint0().y + link.getPoint3().y) * 0.5;
+			TestCase.assertEquals(x < 1.0 || (x == 1.0 && y < 1.0), px < 1.0 || (px == 1.0 && py < 1.0));
+		}
+	}
+	
+	/**
+	 * Tests the outline of slopes, holes and steps.
+	 */
+	@Test
+	public void createOutline() {
+		// the slope's bottom is merged with the floor and the seam with the square cancels
+		TileMap tileMap = create(1.0, "/#");
+		TestCase.assertEquals(4, tileMap.getLinkCount());
+		TestCase.assertEquals(4.0 + Math.sqrt(2.0), tileMap.getLength(), 1.0e-8);
+		
+		// a square with a hole has an outer and an inner outline
+		tileMap = create(1.0, 
+				"###", 
+				"#.#", 
+				"###");
+		TestCase.assertEquals(8, tileMap.getLinkCount());
+		TestCase.assertEquals(16.0, tileMap.getLength(), 1.0e-8);
+		
+		// a step
+		tileMap = create(2.0, 
+				"..#", 
+				"###");
+		TestCase.assertEquals(6, tileMap.getLinkCount());
+		TestCase.assertEquals(20.0, tileMap.getLength(), 1.0e-8);
+		for (int i = 0; i < 6; i++) {
+			TestCase.assertTrue(isConnected(tileMap, tileMap.getLink(i)));
+		}
+	}
+	
+	/**
+	 * Tests the getLinks method with an AABB.
+	 */
+	@Test
+	public void getLinksAABB() {
+		TileMap tileMap = create(1.0, 
+				"#...#", 
+				"#####");
+		List<Link> links = new ArrayList<Link>();
+		
+		// the floor between the walls
+		tileMap.getLinks(new AABB(2.0, 0.8, 2.5, 1.2), links);
+		TestCase.assertEquals(1, links.size());
+		TestCase.assertEquals(1.0, links.get(0).getPoint1().y, 1.0e-8);
+		
+		links.clear();
+		tileMap.getLinks(new AABB(-2.0, -2.0, -1.0, -1.0), links);
+		TestCase.assertEquals(0, links.size());
+		
+		// every link only once
+		links.clear();
+		tileMap.getLinks(new AABB(-1.0, -1.0, 6.0, 3.0), links);
+		TestCase.assertEquals(tileMap.getLinkCount(), links.size());
+		TestCase.assertEquals(tileMap.getLinkCount(), new HashSet<Link>(links).size());
+		
+		// using a transform
+		Transform tx = new Transform();
+		tx.translate(10.0, 0.0);
+		links.clear();
+		tileMap.getLinks(new AABB(12.0, 0.8, 12.5, 1.2), tx, links);
+		TestCase.assertEquals(1, links.size());
+	}
+	
+	/**
+	 * Tests the getLinks method with a ray.
+	 */
+	@Test
+	public void getLinksRay() {
+		TileMap tileMap = create(1.0, 
+				"#...#", 
+				"#####");
+		List<Link> links = new ArrayList<Link>();
+		
+		// straight down onto the floor
+		tileMap.getLinks(new Ray(new Vector2(2.5, 5.0), new Vector2(0.0, -1.0)), 0.0, new Transform(), links);
+		TestCase.assertTrue(links.size() >= 2);
+		TestCase.assertEquals(links.size(), new HashSet<Link>(links).size());
+		
+		// too short to reach the map
+		links.clear();
+		tileMap.getLinks(new Ray(new Vector2(2.5, 5.0), new Vector2(0.0, -1.0)), 2.0, new Transform(), links);
+		TestCase.assertEquals(0, links.size());
+		
+		// missing the map
+		links.clear();
+		tileMap.getLinks(new Ray(new Vector2(-1.0, 0.5), new Vector2(-1.0, 0.0)), 0.0, new Transform(), links);
+		TestCase.assertEquals(0, links.size());
+	}
+	
+	/**
+	 * Tests the getLinks methods against every link on random maps.
+	 */
+	@Test
+	public void getLinksRandom() {
+		Random random = new Random(42);
+		for (int n = 0; n < 20; n++) {
+			int columns = 2 + random.nextInt(12);
+			int rows = 2 + random.nextInt(12);
+			short[] tiles = new short[columns * rows];
+			for (int i = 0; i < tiles.length; i++) {
+				tiles[i] = (short)random.nextInt(3);
+			}
+			tiles[0] = 1;
+			
+			TileMap tileMap = new TileMap(columns, rows, 0.5, 0.75, tiles, TEMPLATES);
+			Transform tx = new Transform();
+			tx.rotate(random.nextDouble() * Math.PI);
+			tx.translate(random.nextDouble(), random.nextDouble());
+			
+			List<Link> links = new ArrayList<Link>();
+			for (int q = 0; q < 20; q++) {
+				// an AABB query
+				double x = random.nextDouble() * 12.0 - 6.0;
+				double y = random.nextDouble() * 12.0 - 6.0;
+				AABB aabb = new AABB(x, y, x + random.nextDouble() * 3.0, y + random.nextDouble() * 3.0);
+				links.clear();
+				tileMap.getLinks(aabb, tx, links);
+				TestCase.assertEquals(links.size(), new HashSet<Link>(links).size());
+				for (int i = 0; i < tileMap.getLinkCount(); i++) {
+					Link link = tileMap.getLink(i);
+					if (intersects(aabb, tx.getTransformed(link.getPoint1()), tx.getTransformed(link.getPoint2()))) {
+						TestCase.assertTrue(links.contains(link));
+					}
+				}
+				
+				// a ray query
+				double a = random.nextDouble() * Math.PI * 2.0;
+				Ray ray = new Ray(new Vector2(x, y), a);
+				double length = random.nextBoolean() ? 0.0 : random.nextDouble() * 10.0;
+				links.clear();
+				tileMap.getLinks(ray, length, tx, links);
+				TestCase.assertEquals(links.size(), new HashSet<Link>(links).size());
+				for (int i = 0; i < tileMap.getLinkCount(); i++) {
+					Link link = tileMap.getLink(i);
+					Vector2 p1 = tx.getTransformed(link.getPoint1());
+					Vector2 p2 = tx.getTransformed(link.getPoint2());
+					Vector2 d = ray.getDirectionVector();
+					Vector2 e = p1.to(p2);
+					double den = d.cross(e);
+					if (Math.abs(den) < 1.0e-12) continue;
+					Vector2 s = ray.getStart().to(p1);
+					double t = s.cross(e) / den;
+					double u = s.cross(d) / den;
+					if (t >= 0.0 && (length <= 0.0 || t <= length) && u >= 0.0 && u <= 1.0) {
+						TestCase.assertTrue(links.contains(link));
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Tests the createAABB method.
+	 */
+	@Test
+	public void createAABB() {
+		TileMap tileMap = create(1.0, 
+				"..#", 
+				"###");
+		
+		AABB aabb = tileMap.createAABB(IDENTITY);
+		TestCase.assertEquals(0.0, aabb.getMinX(), 1.0e-8);
+		TestCase.assertEquals(0.0, aabb.getMinY(), 1.0e-8);
+		TestCase.assertEquals(3.0, aabb.getMaxX(), 1.0e-8);
+		TestCase.assertEquals(2.0, aabb.getMaxY(), 1.0e-8);
+		
+		// a rotated tile map contains all its links
+		Transform tx = new Transform();
+		tx.rotate(Math.toRadians(30.0));
+		tx.translate(1.0, 2.0);
+		aabb = tileMap.createAABB(tx);
+		for (int i = 0; i < tileMap.getLinkCount(); i++) {
+			TestCase.assertTrue(aabb.contains(tileMap.getLink(i).createAABB(tx)));
+		}
+	}
+	
+	/**
+	 * Tests the Convex methods.
+	 */
+	@Test
+	public void convex() {
+		TileMap tileMap = create(1.0, 
+				"..#", 
+				"###");
+		
+		Vector2 p = tileMap.getFarthestPoint(new Vector2(1.0, 1.0), IDENTITY);
+		TestCase.assertEquals(3.0, p.x, 1.0e-8);
+		TestCase.assertEquals(2.0, p.y, 1.0e-8);
+		
+		Interval i = tileMap.project(new Vector2(0.0, 1.0), IDENTITY);
+		TestCase.assertEquals(0.0, i.getMin(), 1.0e-8);
+		TestCase.assertEquals(2.0, i.getMax(), 1.0e-8);
+		
+		EdgeFeature f = (EdgeFeature)tileMap.getFarthestFeature(new Vector2(0.0, 1.0), IDENTITY);
+		TestCase.assertEquals(2.0, f.getMaximum().getPoint().y, 1.0e-8);
+		
+		TestCase.assertTrue(tileMap.contains(new Vector2(1.0, 1.0), IDENTITY, true));
+		TestCase.assertFalse(tileMap.contains(new Vector2(1.0, 0.5), IDENTITY, true));
+		TestCase.assertFalse(tileMap.contains(new Vector2(1.0, 1.0), IDENTITY, false));
+		
+		TestCase.assertEquals(0.0, tileMap.getArea());
+		TestCase.assertNull(tileMap.getFoci(IDENTITY));
+	}
+	
+	/**
+	 * Tests the copy method.
+	 */
+	@Test
+	public void copy() {
+		TileMap tileMap = create(1.0, 
+				"..#", 
+				"###");
+		TileMap copy = tileMap.copy();
+		
+		TestCase.assertNotSame(tileMap, copy);
+		TestCase.assertEquals(tileMap.getLinkCount(), copy.getLinkCount());
+		TestCase.assertNotSame(tileMap.getLink(0), copy.getLink(0));
+		TestCase.assertEquals(tileMap.getTile(2, 1), copy.getTile(2, 1));
+		
+		List<Link> links = new ArrayList<Link>();
+		copy.getLinks(new AABB(2.2, 1.8, 2.8, 2.2), links);
+		TestCase.assertEquals(1, links.size());
+		TestCase.assertNotSame(tileMap.links[0], links.get(0));
+		TestCase.assertTrue(Arrays.asList(copy.links).contains(links.get(0)));
+	}
+	
+	/**
+	 * Tests the rotate and translate methods throw.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void rotate() {
+		create(1.0, "#").rotate(1.0);
+	}
+	
+	/**
+	 * Tests the translate method throws.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void translate() {
+		create(1.0, "#").translate(1.0, 0.0);
+	}
+}
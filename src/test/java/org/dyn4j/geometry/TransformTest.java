@@ -31,7 +31,7 @@ import org.junit.Test;
 /**
  * Test case for the {@link Transform} object.
  * @author William Bittle
- * @version 4.2.2
+ * @version 6.1.0
  * @since 1.0.0
  */
 public class TransformTest {
@@ -395,4 +395,75 @@ public class TransformTest {
 		TestCase.assertEquals( 0.0, t2.y);
 		TestCase.assertEquals( Math.toRadians(30), t2.getRotationAngle(), 1.0e-3);
 	}
+	
+	/**
+	 * Tests the set method accepting the rotation and translation values.
+	 */
+	@Test
+	public void setValues() {
+		Transform tx = new Transform();
+		tx.rotate(Math.toRadians(30));
+		tx.translate(2.0, 0.5);
+		
+		Transform tx2 = new Transform();
+		tx2.set(tx.getCost(), tx.getSint(), tx.getTranslationX(), tx.getTranslationY());
+		
+		TestCase.assertEquals(tx.cost, tx2.cost);
+		TestCase.assertEquals(tx.sint, tx2.sint);
+		TestCase.assertEquals(tx.x, tx2.x);
+		TestCase.assertEquals(tx.y, tx2.y);
+	}
+	
+	/**
+	 * Tests that the version changes with every change to the transform.
+	 */
+	@Test
+	public void version() {
+		Transform tx = new Transform();
+		long v = tx.getVersion();
+		
+		tx.rotate(0.5);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.rotate(0.5, 1.0, 1.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.translate(1.0, 0.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.translate(new Vector2(1.0, 0.0));
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.setTranslation(1.0, 2.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.setTranslationX(3.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.setTranslationY(3.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.setRotation(1.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.setRotation(Rotation.of(2.0));
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.set(new Transform());
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.set(1.0, 0.0, 2.0, 2.0);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.identity();
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		tx.lerp(new Vector2(1.0, 0.0), 1.0, 0.5);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		
+		Transform end = new Transform();
+		end.translate(5.0, 0.0);
+		tx.lerp(end, 0.5);
+		TestCase.assertTrue(tx.getVersion() != v); v = tx.getVersion();
+		
+		Transform result = new Transform();
+		long rv = result.getVersion();
+		tx.lerp(end, 0.5, result);
+		TestCase.assertTrue(result.getVersion() != rv); rv = result.getVersion();
+		tx.lerp(new Vector2(1.0, 0.0), 1.0, 0.5, result);
+		TestCase.assertTrue(result.getVersion() != rv);
+		
+		// reads don't change the version
+		tx.getTransformed(new Vector2(1.0, 1.0));
+		tx.getRotationAngle();
+		TestCase.assertEquals(v, tx.getVersion());
+	}
 }
@@ -24,9 +24,12 @@
  */
 package org.dyn4j.world;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.dyn4j.collision.AxisAlignedBounds;
 import org.dyn4j.collision.CategoryFilter;
@@ -34,11 +37,13 @@ import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.collision.CollisionPair;
 import org.dyn4j.collision.broadphase.AABBExpansionMethod;
 import org.dyn4j.collision.broadphase.AABBProducer;
+import org.dyn4j.collision.broadphase.BoxPruning;
 import org.dyn4j.collision.broadphase.BroadphaseFilter;
 import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetector;
 import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
 import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
 import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
+import org.dyn4j.collision.broadphase.PairTrackingBroadphaseDetector;
 import org.dyn4j.collision.broadphase.Sap;
 import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
 import org.dyn4j.collision.continuous.ConservativeAdvancement;
@@ -50,6 +55,7 @@ import org.dyn4j.collision.narrowphase.Gjk;
 import org.dyn4j.collision.narrowphase.LinkPostProcessor;
 import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
 import org.dyn4j.collision.narrowphase.NarrowphasePostProcessor;
+import org.dyn4j.collision.narrowphase.Raycast;
 import org.dyn4j.collision.narrowphase.RaycastDetector;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
@@ -67,6 +73,7 @@ import org.dyn4j.world.listener.CollisionListenerAdapter;
 import org.dyn4j.world.result.ConvexCastResult;
 import org.dyn4j.world.result.ConvexDetectResult;
 import org.dyn4j.world.result.DetectResult;
+import org.dyn4j.world.result.RaycastBatch;
 import org.dyn4j.world.result.RaycastResult;
 import org.junit.Test;
 
@@ -1284,6 +1291,122 @@ public class AbstractCollisionWorldTest {
 		TestCase.assertFalse(it.hasNext());
 	}
 	
+	/**
+	 * Tests the detect method uses the narrowphase cache of the pair.
+	 */
+	@Test
+	public void detectWithNarrowphaseCache() {
+		TestWorld w = new TestWorld();
+		Gjk gjk = new Gjk();
+		w.setNarrowphaseDetector(gjk);
+		
+		// setup the bodies so that their AABBs overlap, but not their shapes
+		Body b1 = new Body(); b1.addFixture(Geometry.createEquilateralTriangle(1.0)); b1.setMass(MassType.INFINITE);
+		Body b2 = new Body(); b2.addFixture(Geometry.createEquilateralTriangle(1.0)); b2.setMass(MassType.INFINITE);
+		b2.rotate(Math.PI);
+		b2.translate(0.7, 0.3);
+		
+		w.addBody(b1);
+		w.addBody(b2);
+		
+		w.detect();
+		Iterator<WorldCollisionData<Body>> it = w.getCollisionDataIterator();
+		TestCase.assertTrue(it.hasNext());
+		WorldCollisionData<Body> data = it.next();
+		TestCase.assertTrue(data.isBroadphaseCollision());
+		TestCase.assertFalse(data.isNarrowphaseCollision());
+		TestCase.assertTrue(data.getNarrowphaseCache().isSeparated());
+		TestCase.assertEquals(0, gjk.getCacheHitCount());
+		TestCase.assertEquals(1, gjk.getCacheMissCount());
+		
+		// the pair hasn't moved so the cached axis is used
+		w.detect();
+		TestCase.assertFalse(data.isNarrowphaseCollision());
+		TestCase.assertEquals(1, gjk.getCacheHitCount());
+		TestCase.assertEquals(1, gjk.getCacheMissCount());
+		
+		// the pair is colliding now
+		b2.translate(-0.5, 0.0);
+		w.detect();
+		TestCase.assertTrue(data.isNarrowphaseCollision());
+		TestCase.assertFalse(data.getNarrowphaseCache().isSeparated());
+		TestCase.assertEquals(1, gjk.getCacheHitCount());
+		TestCase.assertEquals(2, gjk.getCacheMissCount());
+	}
+	
+	/**
+	 * Tests the detect method when the broadphase is tracking the pairs.
+	 */
+	@Test
+	public void detectWithPairTracking() {
+		final List<WorldCollisionData<Body>> processed = new ArrayList<WorldCollisionData<Body>>();
+		TestWorld w = new TestWorld() {
+			@Override
+			protected void processCollisions(Iterator<WorldCollisionData<Body>> iterator) {
+				processed.clear();
+				while (iterator.hasNext()) {
+					processed.add(iterator.next());
+				}
+			}
+		};
+		
+		// pair tracking is opt-in
+		@SuppressWarnings("unchecked")
+		PairTrackingBroadphaseDetector<CollisionItem<Body, BodyFixture>> bp = (PairTrackingBroadphaseDetector<CollisionItem<Body, BodyFixture>>)w.getBroadphaseDetector();
+		TestCase.assertFalse(bp.isPairTrackingEnabled());
+		bp.setPairTrackingEnabled(true);
+		TestCase.assertTrue(bp.isPairTrackingEnabled());
+		
+		// setup the bodies
+		Body b1 = new Body(); b1.addFixture(Geometry.createCircle(1.0)); b1.setMass(MassType.INFINITE);
+		Body b2 = new Body(); b2.addFixture(Geometry.createEquilateralTriangle(0.5)); b2.setMass(MassType.INFINITE);
+		Body b3 = new Body(); b3.addFixture(Geometry.createSquare(0.5)); b3.setMass(MassType.INFINITE);
+		b3.translate(0.5, 0.0);
+		
+		w.addBody(b1);
+		w.addBody(b2);
+		w.addBody(b3);
+		
+		w.detect();
+		TestCase.assertEquals(3, processed.size());
+		TestCase.assertNotNull(w.getCollisionData(b1, b1.getFixture(0), b2, b2.getFixture(0)));
+		
+		// the removed pairs are reported one last time
+		b1.translate(10, 10);
+		w.detect();
+		TestCase.assertEquals(3, processed.size());
+		TestCase.assertNull(w.getCollisionData(b1, b1.getFixture(0), b2, b2.getFixture(0)));
+		TestCase.assertNull(w.getCollisionData(b1, b1.getFixture(0), b3, b3.getFixture(0)));
+		TestCase.assertNotNull(w.getCollisionData(b2, b2.getFixture(0), b3, b3.getFixture(0)));
+		
+		w.detect();
+		TestCase.assertEquals(1, processed.size());
+		
+		// removing a fixture should remove its pairs
+		b3.removeFixture(0);
+		w.detect();
+		TestCase.assertEquals(1, processed.size());
+		TestCase.assertFalse(processed.get(0).isBroadphaseCollision());
+		w.detect();
+		TestCase.assertEquals(0, processed.size());
+		
+		// the pairs should be found again when turning it off
+		b1.translate(-10, -10);
+		bp.setPairTrackingEnabled(false);
+		w.detect();
+		TestCase.assertEquals(1, processed.size());
+		TestCase.assertTrue(processed.get(0).isBroadphaseCollision());
+		
+		// and back on
+		b1.translate(10, 10);
+		bp.setPairTrackingEnabled(true);
+		w.detect();
+		TestCase.assertEquals(1, processed.size());
+		TestCase.assertFalse(processed.get(0).isBroadphaseCollision());
+		w.detect();
+		TestCase.assertEquals(0, processed.size());
+	}
+	
 	/**
 	 * Tests the detect iterator remove method.
 	 */
@@ -2202,6 +2325,193 @@ public class AbstractCollisionWorldTest {
 		TestCase.assertEquals(0, results.size());
 	}
 
+	/**
+	 * Tests that the closest raycast only performs the narrowphase raycast for
+	 * the fixtures near the closest hit.
+	 */
+	@Test
+	public void raycastClosestOrdered() {
+		TestWorld w = new TestWorld();
+		
+		Body first = null;
+		for (int i = 49; i >= 0; i--) {
+			Body b = new Body();
+			b.addFixture(Geometry.createSquare(0.5));
+			b.translate(i, 0.0);
+			w.addBody(b);
+			first = b;
+		}
+		
+		final int[] count = new int[1];
+		final Gjk gjk = new Gjk();
+		w.setRaycastDetector(new RaycastDetector() {
+			@Override
+			public boolean raycast(Ray ray, double maxLength, Convex convex, Transform transform, Raycast raycast) {
+				count[0]++;
+				return gjk.raycast(ray, maxLength, convex, transform, raycast);
+			}
+		});
+		
+		Ray ray = new Ray(new Vector2(-5.0, 0.0), new Vector2(1.0, 0.0));
+		RaycastResult<Body, BodyFixture> result = w.raycastClosest(ray, 0.0, null);
+		TestCase.assertNotNull(result);
+		TestCase.assertEquals(first, result.getBody());
+		TestCase.assertEquals(4.75, result.getRaycast().getDistance(), 1e-8);
+		TestCase.assertTrue(count[0] < 4);
+		
+		// the batch uses the same traversal
+		count[0] = 0;
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(1);
+		batch.set(0, -5.0, 0.0, 1.0, 0.0, 100.0);
+		batch.setCount(1);
+		TestCase.assertEquals(1, w.raycastClosest(batch, null));
+		TestCase.assertEquals(first, batch.getBody(0));
+		TestCase.assertEquals(4.75, batch.getDistances()[0], 1e-8);
+		TestCase.assertTrue(count[0] < 4);
+	}
+	
+	/**
+	 * Tests the batch raycast method against the single ray method.
+	 */
+	@Test
+	public void raycastBatch() {
+		TestWorld w = new TestWorld();
+		
+		for (int i = 0; i < 10; i++) {
+			for (int j = 0; j < 10; j++) {
+				Body b = new Body();
+				b.addFixture((i + j) % 2 == 0 ? Geometry.createCircle(0.4) : Geometry.createSquare(0.8));
+				b.translate(i * 2.0, j * 2.0);
+				b.setMass(MassType.NORMAL);
+				w.addBody(b);
+			}
+		}
+		
+		// exclude some of the bodies
+		final Body excluded = w.getBody(12);
+		DetectFilter<Body, BodyFixture> filter = new DetectFilter<Body, BodyFixture>(true, true, null) {
+			@Override
+			public boolean isAllowed(Body body, BodyFixture fixture) {
+				return body != excluded && super.isAllowed(body, fixture);
+			}
+		};
+		
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(101);
+		for (int i = 0; i < 100; i++) {
+			double a = i * Math.PI * 2.0 / 100.0;
+			batch.set(i, -3.0 + i * 0.05, 9.0, Math.cos(a) * 3.0, Math.sin(a) * 3.0, i % 3 == 0 ? 0.0 : 6.0);
+		}
+		// a zero direction ray
+		batch.set(100, 0.0, 0.0, 0.0, 0.0, 0.0);
+		batch.setCount(101);
+		
+		int hits = w.raycastClosest(batch, filter);
+		this.assertRaycastBatch(w, batch, filter, hits);
+		TestCase.assertFalse(batch.isHit(100));
+		
+		// test in parallel
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			w.setDetectExecutor(executor, 4);
+			batch.clearResults();
+			int parallelHits = w.raycastClosest(batch, filter);
+			TestCase.assertEquals(hits, parallelHits);
+			this.assertRaycastBatch(w, batch, filter, hits);
+		} finally {
+			executor.shutdown();
+		}
+		
+		// test an empty batch
+		batch.setCount(0);
+		TestCase.assertEquals(0, w.raycastClosest(batch, null));
+	}
+	
+	/**
+	 * Tests casting a batch of rays in parallel using a broadphase that defers sorting when the 
+	 * first ray doesn't reach the broadphase.
+	 */
+	@Test
+	public void raycastBatchParallelPrepare() {
+		TestWorld w = new TestWorld();
+		w.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+				new BoxPruning<CollisionItem<Body, BodyFixture>>(
+						new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+						new CollisionItemAABBProducer<Body, BodyFixture>(),
+						new StaticValueAABBExpansionMethod<CollisionItem<Body, BodyFixture>>(0.2))));
+		
+		for (int i = 0; i < 20; i++) {
+			Body b = new Body();
+			b.addFixture(Geometry.createSquare(0.8));
+			b.translate(i * 2.0, 0.0);
+			b.setMass(MassType.NORMAL);
+			w.addBody(b);
+		}
+		
+		// move the bodies so that the broadphase needs to be sorted again
+		for (int i = 0; i < 20; i++) {
+			w.getBody(i).translate((19 - i) * 4.0 - i * 2.0, 0.0);
+		}
+		w.getBroadphaseDetector().update();
+		
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(41);
+		// the first ray has a zero direction so it never reaches the broadphase
+		batch.set(0, 0.0, 0.0, 0.0, 0.0, 0.0);
+		for (int i = 1; i < 41; i++) {
+			batch.set(i, i * 2.0, 5.0, 0.0, -1.0, 10.0);
+		}
+		batch.setCount(41);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			w.setDetectExecutor(executor, 4);
+			int hits = w.raycastClosest(batch, null);
+			this.assertRaycastBatch(w, batch, null, hits);
+			TestCase.assertFalse(batch.isHit(0));
+			TestCase.assertTrue(hits > 0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Verifies that the results of the given batch match the single ray method.
+	 * @param w the world
+	 * @param batch the batch
+	 * @param filter the filter
+	 * @param hits the number of hits reported
+	 */
+	private void assertRaycastBatch(TestWorld w, RaycastBatch<Body, BodyFixture> batch, DetectFilter<Body, BodyFixture> filter, int hits) {
+		int n = 0;
+		double[] starts = batch.getStarts();
+		double[] directions = batch.getDirections();
+		for (int i = 0; i < batch.getCount(); i++) {
+			if (directions[i * 2] == 0.0 && directions[i * 2 + 1] == 0.0) {
+				continue;
+			}
+			
+			Ray ray = new Ray(new Vector2(starts[i * 2], starts[i * 2 + 1]), new Vector2(directions[i * 2], directions[i * 2 + 1]));
+			RaycastResult<Body, BodyFixture> result = w.raycastClosest(ray, batch.getLengths()[i], filter);
+			if (result == null) {
+				TestCase.assertFalse(batch.isHit(i));
+				TestCase.assertEquals(-1.0, batch.getDistances()[i]);
+				TestCase.assertNull(batch.getBody(i));
+				TestCase.assertNull(batch.getFixture(i));
+			} else {
+				n++;
+				TestCase.assertTrue(batch.isHit(i));
+				TestCase.assertEquals(result.getBody(), batch.getBody(i));
+				TestCase.assertEquals(result.getFixture(), batch.getFixture(i));
+				TestCase.assertEquals(result.getRaycast().getDistance(), batch.getDistances()[i], 1e-8);
+				TestCase.assertEquals(result.getRaycast().getPoint().x, batch.getPoints()[i * 2], 1e-8);
+				TestCase.assertEquals(result.getRaycast().getPoint().y, batch.getPoints()[i * 2 + 1], 1e-8);
+				TestCase.assertEquals(result.getRaycast().getNormal().x, batch.getNormals()[i * 2], 1e-8);
+				TestCase.assertEquals(result.getRaycast().getNormal().y, batch.getNormals()[i * 2 + 1], 1e-8);
+			}
+		}
+		TestCase.assertEquals(n, hits);
+		TestCase.assertTrue(n > 0);
+	}
+	
 	/**
 	 * Tests the raycast (against a body) methods.
 	 */
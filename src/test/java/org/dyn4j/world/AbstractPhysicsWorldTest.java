@@ -24,8 +24,11 @@
  */
 package org.dyn4j.world;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.dyn4j.collision.AxisAlignedBounds;
 import org.dyn4j.collision.CollisionItem;
@@ -36,10 +39,18 @@ import org.dyn4j.collision.broadphase.BroadphaseDetector;
 import org.dyn4j.collision.broadphase.BroadphaseFilter;
 import org.dyn4j.collision.broadphase.CollisionBodyAABBProducer;
 import org.dyn4j.collision.broadphase.CollisionBodyBroadphaseFilter;
+import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
 import org.dyn4j.collision.broadphase.Sap;
 import org.dyn4j.collision.broadphase.StaticValueAABBExpansionMethod;
+import org.dyn4j.collision.narrowphase.Gjk;
+import org.dyn4j.collision.narrowphase.NarrowphaseDetector;
+import org.dyn4j.collision.narrowphase.Penetration;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.ContinuousDetectionMode;
 import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.TimeStep;
 import org.dyn4j.dynamics.contact.Contact;
@@ -53,11 +64,13 @@ import org.dyn4j.dynamics.joint.DistanceJoint;
 import org.dyn4j.dynamics.joint.Joint;
 import org.dyn4j.dynamics.joint.PinJoint;
 import org.dyn4j.dynamics.joint.RevoluteJoint;
+import org.dyn4j.geometry.AABB;
 import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
+import org.dyn4j.world.listener.CollisionListenerAdapter;
 import org.dyn4j.world.listener.ContactListener;
 import org.dyn4j.world.listener.ContactListenerAdapter;
 import org.dyn4j.world.listener.DestructionListener;
@@ -73,7 +86,7 @@ import junit.framework.TestCase;
 /**
  * Test case for the {@link AbstractPhysicsWorld} class.
  * @author William Bittle
- * @version 5.0.1
+ * @version 6.1.0
  * @since 4.0.0
  */
 public class AbstractPhysicsWorldTest {
@@ -1001,6 +1014,327 @@ public class AbstractPhysicsWorldTest {
 		w.setContactConstraintSolver(null);
 	}
 	
+	/**
+	 * Tests the get/set methods for the island executor.
+	 */
+	@Test
+	public void getSetIslandExecutor() {
+		TestWorld w = new TestWorld();
+		
+		TestCase.assertNull(w.getIslandExecutor());
+		TestCase.assertEquals(1, w.getIslandParallelism());
+		
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			w.setIslandExecutor(executor, 4);
+			TestCase.assertSame(executor, w.getIslandExecutor());
+			TestCase.assertEquals(4, w.getIslandParallelism());
+			
+			w.setIslandExecutor(null, 1);
+			TestCase.assertNull(w.getIslandExecutor());
+			TestCase.assertEquals(1, w.getIslandParallelism());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the set island executor method passing an invalid parallelism.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setIslandExecutorInvalidParallelism() {
+		TestWorld w = new TestWorld();
+		w.setIslandExecutor(null, 0);
+	}
+	
+	/**
+	 * Tests that solving islands in parallel produces the same results as
+	 * solving them on the calling thread.
+	 */
+	@Test
+	public void solveIslandsInParallel() {
+		TestWorld serial = this.createPiles();
+		TestWorld parallel = this.createPiles();
+		
+		// the shared static floor is never modified by the islands
+		Transform floor = parallel.getBody(0).getTransform();
+		long version = floor.getVersion();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			parallel.setIslandExecutor(executor, 4);
+			
+			for (int i = 0; i < 120; i++) {
+				serial.step(1);
+				parallel.step(1);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		int n = serial.getBodyCount();
+		TestCase.assertEquals(n, parallel.getBodyCount());
+		for (int i = 0; i < n; i++) {
+			Body b1 = serial.getBody(i);
+			Body b2 = parallel.getBody(i);
+			Transform t1 = b1.getTransform();
+			Transform t2 = b2.getTransform();
+			TestCase.assertEquals(t1.getTranslationX(), t2.getTranslationX());
+			TestCase.assertEquals(t1.getTranslationY(), t2.getTranslationY());
+			TestCase.assertEquals(t1.getCost(), t2.getCost());
+			TestCase.assertEquals(t1.getSint(), t2.getSint());
+			TestCase.assertEquals(b1.getLinearVelocity().x, b2.getLinearVelocity().x);
+			TestCase.assertEquals(b1.getLinearVelocity().y, b2.getLinearVelocity().y);
+			TestCase.assertEquals(b1.getAngularVelocity(), b2.getAngularVelocity());
+			TestCase.assertEquals(b1.isAtRest(), b2.isAtRest());
+		}
+		
+		TestCase.assertEquals(version, floor.getVersion());
+	}
+	
+	/**
+	 * Tests that solving islands in parallel leaves a static body shared by a resting
+	 * island and a moving island in the same state as solving them on the calling thread.
+	 */
+	@Test
+	public void solveIslandsInParallelSharedStatic() {
+		for (int order = 0; order < 2; order++) {
+			TestWorld serial = this.createSharedFloor(order == 0);
+			TestWorld parallel = this.createSharedFloor(order == 0);
+			
+			ExecutorService executor = Executors.newFixedThreadPool(3);
+			try {
+				parallel.setIslandExecutor(executor, 4);
+				
+				for (int i = 0; i < 120; i++) {
+					serial.step(1);
+					parallel.step(1);
+					
+					int n = serial.getBodyCount();
+					for (int j = 0; j < n; j++) {
+						Body b1 = serial.getBody(j);
+						Body b2 = parallel.getBody(j);
+						TestCase.assertEquals(b1.getTransform().getTranslationX(), b2.getTransform().getTranslationX());
+						TestCase.assertEquals(b1.getTransform().getTranslationY(), b2.getTransform().getTranslationY());
+						TestCase.assertEquals(b1.getLinearVelocity().x, b2.getLinearVelocity().x);
+						TestCase.assertEquals(b1.getLinearVelocity().y, b2.getLinearVelocity().y);
+						TestCase.assertEquals(b1.isAtRest(), b2.isAtRest());
+					}
+				}
+			} finally {
+				executor.shutdown();
+			}
+			
+			// make sure both cases were tested
+			TestCase.assertTrue(serial.getBody(1).isAtRest() || serial.getBody(2).isAtRest());
+			TestCase.assertFalse(serial.getBody(1).isAtRest() && serial.getBody(2).isAtRest());
+		}
+	}
+	
+	/**
+	 * Returns a new world with a box resting on a static floor and another box sliding 
+	 * along the same floor.
+	 * @param restingFirst true if the resting box should be added first
+	 * @return {@link TestWorld}
+	 */
+	private TestWorld createSharedFloor(boolean restingFirst) {
+		TestWorld w = new TestWorld();
+		
+		Body floor = new Body();
+		floor.addFixture(Geometry.createRectangle(60.0, 1.0)).setFriction(0.0);
+		floor.setMass(MassType.INFINITE);
+		w.addBody(floor);
+		
+		Body resting = new Body();
+		resting.addFixture(Geometry.createSquare(1.0));
+		resting.setMass(MassType.NORMAL);
+		resting.translate(-20.0, 1.0);
+		
+		Body sliding = new Body();
+		sliding.addFixture(Geometry.createSquare(1.0)).setFriction(0.0);
+		sliding.setMass(MassType.NORMAL);
+		sliding.translate(-10.0, 1.0);
+		sliding.setLinearVelocity(10.0, 0.0);
+		
+		if (restingFirst) {
+			w.addBody(resting);
+			w.addBody(sliding);
+		} else {
+			w.addBody(sliding);
+			w.addBody(resting);
+		}
+		
+		return w;
+	}
+	
+	/**
+	 * Returns a new world with a number of separate piles of boxes resting on 
+	 * a shared static floor and a pendulum hanging from it.
+	 * @return {@link TestWorld}
+	 */
+	private TestWorld createPiles() {
+		TestWorld w = new TestWorld();
+		
+		Body floor = new Body();
+		floor.addFixture(Geometry.createRectangle(60.0, 1.0));
+		floor.setMass(MassType.INFINITE);
+		w.addBody(floor);
+		
+		for (int i = 0; i < 8; i++) {
+			for (int j = 0; j < 5; j++) {
+				Body box = new Body();
+				box.addFixture(Geometry.createSquare(1.0));
+				box.setMass(MassType.NORMAL);
+				box.translate(-25.0 + i * 6.0 + j * 0.05, 1.0 + j * 1.05);
+				w.addBody(box);
+			}
+		}
+		
+		Body bob = new Body();
+		bob.addFixture(Geometry.createCircle(0.5));
+		bob.setMass(MassType.NORMAL);
+		bob.translate(25.0, 5.0);
+		w.addBody(bob);
+		
+		w.addJoint(new RevoluteJoint<Body>(floor, bob, new Vector2(22.0, 5.0)));
+		
+		return w;
+	}
+	
+	/**
+	 * Tests the get/set detect executor methods.
+	 */
+	@Test
+	public void getSetDetectExecutor() {
+		TestWorld w = new TestWorld();
+		
+		TestCase.assertNull(w.getDetectExecutor());
+		TestCase.assertEquals(1, w.getDetectParallelism());
+		
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			w.setDetectExecutor(executor, 4);
+			TestCase.assertSame(executor, w.getDetectExecutor());
+			TestCase.assertEquals(4, w.getDetectParallelism());
+			
+			w.setDetectExecutor(null, 1);
+			TestCase.assertNull(w.getDetectExecutor());
+			TestCase.assertEquals(1, w.getDetectParallelism());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests the set detect executor method passing an invalid parallelism.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setDetectExecutorInvalidParallelism() {
+		TestWorld w = new TestWorld();
+		w.setDetectExecutor(null, 0);
+	}
+	
+	/**
+	 * Tests that running collision detection in parallel produces the same results,
+	 * and notifies the listeners in the same order, as running it on the calling thread.
+	 */
+	@Test
+	public void detectInParallel() {
+		TestWorld serial = this.createPiles();
+		TestWorld parallel = this.createPiles();
+		
+		List<String> serialEvents = new ArrayList<String>();
+		List<String> parallelEvents = new ArrayList<String>();
+		this.addRecordingListeners(serial, serialEvents);
+		this.addRecordingListeners(parallel, parallelEvents);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			parallel.setDetectExecutor(executor, 4);
+			
+			for (int i = 0; i < 120; i++) {
+				serial.step(1);
+				parallel.step(1);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		TestCase.assertFalse(serialEvents.isEmpty());
+		TestCase.assertEquals(serialEvents, parallelEvents);
+		
+		int n = serial.getBodyCount();
+		TestCase.assertEquals(n, parallel.getBodyCount());
+		for (int i = 0; i < n; i++) {
+			Body b1 = serial.getBody(i);
+			Body b2 = parallel.getBody(i);
+			Transform t1 = b1.getTransform();
+			Transform t2 = b2.getTransform();
+			TestCase.assertEquals(t1.getTranslationX(), t2.getTranslationX());
+			TestCase.assertEquals(t1.getTranslationY(), t2.getTranslationY());
+			TestCase.assertEquals(t1.getCost(), t2.getCost());
+			TestCase.assertEquals(t1.getSint(), t2.getSint());
+			TestCase.assertEquals(b1.getLinearVelocity().x, b2.getLinearVelocity().x);
+			TestCase.assertEquals(b1.getLinearVelocity().y, b2.getLinearVelocity().y);
+			TestCase.assertEquals(b1.getAngularVelocity(), b2.getAngularVelocity());
+		}
+	}
+	
+	/**
+	 * Adds collision and contact listeners to the given world that record every
+	 * notification and reject some of the collisions at each stage.
+	 * @param w the world
+	 * @param events the list to record the notifications in
+	 */
+	private void addRecordingListeners(final TestWorld w, final List<String> events) {
+		w.addCollisionListener(new CollisionListenerAdapter<Body, BodyFixture>() {
+			/** The number of notifications; used to vary the rejected collisions over time */
+			private int calls = 0;
+			
+			@Override
+			public boolean collision(BroadphaseCollisionData<Body, BodyFixture> collision) {
+				int key = this.key(collision);
+				events.add("broadphase " + key);
+				return (key + this.calls / 200) % 7 != 0;
+			}
+			
+			@Override
+			public boolean collision(NarrowphaseCollisionData<Body, BodyFixture> collision) {
+				int key = this.key(collision);
+				events.add("narrowphase " + key + " " + collision.getPenetration().getDepth());
+				return (key + this.calls / 200) % 5 != 0;
+			}
+			
+			@Override
+			public boolean collision(ManifoldCollisionData<Body, BodyFixture> collision) {
+				int key = this.key(collision);
+				events.add("manifold " + key + " " + collision.getManifold().getPoints().size());
+				return (key + this.calls / 200) % 11 != 0;
+			}
+			
+			private int key(BroadphaseCollisionData<Body, BodyFixture> collision) {
+				this.calls++;
+				return w.getBodies().indexOf(collision.getBody1()) * 100 + w.getBodies().indexOf(collision.getBody2());
+			}
+		});
+		w.addContactListener(new ContactListenerAdapter<Body>() {
+			@Override
+			public void begin(ContactCollisionData<Body> collision, Contact contact) {
+				events.add("begin " + contact.getPoint());
+			}
+			
+			@Override
+			public void persist(ContactCollisionData<Body> collision, Contact oldContact, Contact newContact) {
+				events.add("persist " + newContact.getPoint());
+			}
+			
+			@Override
+			public void end(ContactCollisionData<Body> collision, Contact contact) {
+				events.add("end " + contact.getPoint());
+			}
+		});
+	}
+	
 	/**
 	 * Tests the get/set gravity methods.
 	 */
@@ -1460,6 +1794,202 @@ public class AbstractPhysicsWorldTest {
 		TestCase.assertTrue(w.isUpdateRequired());
 	}
 	
+	/**
+	 * Tests skipping the broadphase update of static and at-rest bodies.
+	 */
+	@Test
+	public void staticBodyBroadphaseUpdate() {
+		TestWorld w = new TestWorld();
+		w.setGravity(PhysicsWorld.ZERO_GRAVITY);
+		w.getSettings().setStaticBodyBroadphaseUpdateEnabled(false);
+		
+		Body ground = new Body(); ground.addFixture(Geometry.createRectangle(10.0, 1.0)); ground.setMass(MassType.INFINITE);
+		Body sleeper = new Body(); sleeper.addFixture(Geometry.createCircle(0.5)); sleeper.setMass(MassType.NORMAL);
+		Body mover = new Body(); mover.addFixture(Geometry.createCircle(0.5)); mover.setMass(MassType.NORMAL);
+		sleeper.translate(0.0, 5.0);
+		mover.translate(0.0, -5.0);
+		mover.setLinearVelocity(10.0, 0.0);
+		
+		w.addBody(ground);
+		w.addBody(sleeper);
+		w.addBody(mover);
+		w.step(1);
+		
+		// copy them since the broadphase may return the stored AABBs
+		AABB groundAABB = w.getBroadphaseDetector().getAABB(ground).copy();
+		AABB sleeperAABB = w.getBroadphaseDetector().getAABB(sleeper).copy();
+		
+		// moving the static body between steps is picked up
+		ground.translate(20.0, 0.0);
+		w.step(1);
+		TestCase.assertEquals(groundAABB.getMinX() + 20.0, w.getBroadphaseDetector().getAABB(ground).getMinX(), 1e-8);
+		
+		// changing the shape of its fixture isn't
+		groundAABB = w.getBroadphaseDetector().getAABB(ground).copy();
+		ground.getFixture(0).getShape().translate(0.0, 2.0);
+		w.step(1);
+		TestCase.assertEquals(groundAABB, w.getBroadphaseDetector().getAABB(ground));
+		
+		// until it's updated explicitly
+		w.getBroadphaseDetector().update(ground);
+		TestCase.assertEquals(groundAABB.getMinY() + 2.0, w.getBroadphaseDetector().getAABB(ground).getMinY(), 1e-8);
+		ground.getFixture(0).getShape().translate(0.0, -2.0);
+		w.getBroadphaseDetector().update(ground);
+		
+		// moving an at-rest body between steps is picked up too
+		sleeper.setAtRest(true);
+		sleeper.translate(20.0, 0.0);
+		w.step(1);
+		TestCase.assertEquals(sleeperAABB.getMinX() + 20.0, w.getBroadphaseDetector().getAABB(sleeper).getMinX(), 1e-8);
+		TestCase.assertTrue(sleeper.isAtRest());
+		
+		// and so is waking it up
+		sleeper.setAtRest(false);
+		w.step(1);
+		TestCase.assertTrue(w.getBroadphaseDetector().getAABB(sleeper).contains(sleeper.createAABB()));
+		
+		// teleporting the static body onto another body creates contacts
+		Body ball = new Body(); ball.addFixture(Geometry.createCircle(0.5)); ball.setMass(MassType.NORMAL);
+		ball.translate(-30.0, 0.0);
+		w.addBody(ball);
+		w.step(1);
+		TestCase.assertFalse(w.isInContact(ground, ball));
+		
+		ground.translate(-50.0, 0.0);
+		w.step(1);
+		TestCase.assertTrue(w.getBroadphaseDetector().getAABB(ground).contains(ground.createAABB()));
+		TestCase.assertTrue(w.isInContact(ground, ball));
+		
+		// moving bodies are always updated
+		for (int i = 0; i < 10; i++) {
+			w.step(1);
+			TestCase.assertTrue(w.getBroadphaseDetector().getAABB(mover).contains(mover.createAABB()));
+		}
+		
+		// turning it back on updates everything
+		w.getSettings().setStaticBodyBroadphaseUpdateEnabled(true);
+		ground.translate(30.0, 0.0);
+		w.step(1);
+		TestCase.assertTrue(w.getBroadphaseDetector().getAABB(ground).contains(ground.createAABB()));
+	}
+	
+	/**
+	 * Tests that the manifold is reused for at-rest pairs.
+	 */
+	@Test
+	public void atRestManifoldReuse() {
+		final int[] detections = new int[1];
+		final Gjk gjk = new Gjk();
+		
+		TestWorld w = new TestWorld();
+		w.setNarrowphaseDetector(new NarrowphaseDetector() {
+			@Override
+			public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2, Penetration penetration) {
+				detections[0]++;
+				return gjk.detect(convex1, transform1, convex2, transform2, penetration);
+			}
+			@Override
+			public boolean detect(Convex convex1, Transform transform1, Convex convex2, Transform transform2) {
+				detections[0]++;
+				return gjk.detect(convex1, transform1, convex2, transform2);
+			}
+		});
+		
+		final int[] persists = new int[1];
+		w.addContactListener(new ContactListenerAdapter<Body>() {
+			@Override
+			public void persist(ContactCollisionData<Body> collision, Contact oldContact, Contact newContact) {
+				persists[0]++;
+			}
+		});
+		
+		Body ground = new Body(); ground.addFixture(Geometry.createRectangle(10.0, 1.0)); ground.setMass(MassType.INFINITE);
+		Body box = new Body(); box.addFixture(Geometry.createSquare(1.0)); box.setMass(MassType.NORMAL);
+		box.translate(0.0, 1.0);
+		
+		w.addBody(ground);
+		w.addBody(box);
+		
+		for (int i = 0; i < 1000 && !box.isAtRest(); i++) {
+			w.step(1);
+		}
+		TestCase.assertTrue(box.isAtRest());
+		TestCase.assertTrue(w.isInContact(box, ground));
+		
+		// manifold reuse is disabled by default
+		TestCase.assertFalse(w.getSettings().isManifoldReuseEnabled());
+		detections[0] = 0;
+		w.step(1);
+		TestCase.assertTrue(detections[0] > 0);
+		
+		w.getSettings().setManifoldReuseEnabled(true);
+		w.step(1);
+		
+		// the narrowphase is skipped while the box is at rest
+		detections[0] = 0;
+		persists[0] = 0;
+		w.step(5);
+		TestCase.assertEquals(0, detections[0]);
+		TestCase.assertTrue(persists[0] > 0);
+		TestCase.assertTrue(w.isInContact(box, ground));
+		TestCase.assertFalse(w.getContacts(box).isEmpty());
+		
+		// and is run again once it wakes up
+		box.setAtRest(false);
+		w.step(1);
+		TestCase.assertTrue(detections[0] > 0);
+		TestCase.assertTrue(w.isInContact(box, ground));
+		
+		// a listener can still reject a reused manifold
+		for (int i = 0; i < 1000 && !box.isAtRest(); i++) {
+			w.step(1);
+		}
+		TestCase.assertTrue(box.isAtRest());
+		w.addCollisionListener(new CollisionListenerAdapter<Body, BodyFixture>() {
+			@Override
+			public boolean collision(NarrowphaseCollisionData<Body, BodyFixture> collision) {
+				return false;
+			}
+		});
+		w.step(1);
+		TestCase.assertFalse(w.isInContact(box, ground));
+	}
+	
+	/**
+	 * Tests that a reused manifold is regenerated when an at-rest body is moved between steps.
+	 */
+	@Test
+	public void atRestManifoldReuseMoved() {
+		TestWorld w = new TestWorld();
+		w.getSettings().setManifoldReuseEnabled(true);
+		
+		Body ground = new Body(); ground.addFixture(Geometry.createRectangle(10.0, 1.0)); ground.setMass(MassType.INFINITE);
+		Body box = new Body(); box.addFixture(Geometry.createSquare(1.0)); box.setMass(MassType.NORMAL);
+		box.translate(0.0, 1.0);
+		
+		w.addBody(ground);
+		w.addBody(box);
+		
+		for (int i = 0; i < 1000 && !box.isAtRest(); i++) {
+			w.step(1);
+		}
+		TestCase.assertTrue(box.isAtRest());
+		w.step(2);
+		
+		// move the box without waking it
+		box.translate(3.0, 0.0);
+		box.setAtRest(true);
+		w.step(1);
+		
+		List<ContactConstraint<Body>> contacts = w.getContacts(box);
+		TestCase.assertEquals(1, contacts.size());
+		List<? extends SolvedContact> points = contacts.get(0).getContacts();
+		TestCase.assertEquals(2, points.size());
+		for (SolvedContact point : points) {
+			TestCase.assertTrue(point.getPoint().x > 2.0 && point.getPoint().x < 4.0);
+		}
+	}
+	
 	/**
 	 * Test the shift method.
 	 */
@@ -2264,4 +2794,215 @@ public class AbstractPhysicsWorldTest {
 		TestCase.assertTrue(cc.getContacts().get(0).isSolved());
 		TestCase.assertTrue(cc.getContacts().get(1).isSolved());
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Tests that time of impact events are found using the discrete broadphase
+	 * when the unified broadphase setting is enabled.
+	 */
+	@Test
+	public void continuousDetectionUnifiedBroadphase() {
+		TestWorld w = new TestWorld();
+		w.setGravity(0.0, 0.0);
+		w.getSettings().setContinuousDetectionUnifiedBroadphaseEnabled(true);
+		
+		Body wall = new Body(); wall.addFixture(Geometry.createRectangle(0.1, 10.0)); wall.setMass(MassType.INFINITE);
+		Body ball = new Body(); ball.addFixture(Geometry.createCircle(0.1)); ball.setMass(MassType.NORMAL);
+		ball.translate(-1.5, 0.0);
+		ball.setLinearVelocity(200.0, 0.0);
+		
+		w.addBody(wall);
+		w.addBody(ball);
+		
+		// the CCD broadphase isn't used
+		TestCase.assertEquals(0, w.getContinuousCollisionDetectionBroadphaseDetector().size());
+		
+		// the ball would pass through the wall without CCD
+		w.step(1);
+		TestCase.assertTrue(ball.getWorldCenter().x < 0.0);
+		TestCase.assertEquals(0, w.getContinuousCollisionDetectionBroadphaseDetector().size());
+		
+		// the CCD broadphase is re-populated when disabled
+		w.getSettings().setContinuousDetectionUnifiedBroadphaseEnabled(false);
+		ball.translateToOrigin();
+		ball.translate(-1.5, 0.0);
+		ball.setLinearVelocity(200.0, 0.0);
+		w.step(1);
+		TestCase.assertTrue(ball.getWorldCenter().x < 0.0);
+		TestCase.assertEquals(2, w.getContinuousCollisionDetectionBroadphaseDetector().size());
+		
+		// and released when enabled again
+		w.getSettings().setContinuousDetectionUnifiedBroadphaseEnabled(true);
+		w.step(1);
+		TestCase.assertEquals(0, w.getContinuousCollisionDetectionBroadphaseDetector().size());
+		
+		// no CCD, the ball tunnels
+		w.getSettings().setContinuousDetectionMode(ContinuousDetectionMode.NONE);
+		ball.translateToOrigin();
+		ball.translate(-1.5, 0.0);
+		ball.setLinearVelocity(200.0, 0.0);
+		w.step(1);
+		TestCase.assertTrue(ball.getWorldCenter().x > 0.0);
+	}
+	
+	/**
+	 * Tests that the unified broadphase finds time of impact events with bodies that
+	 * moved outside of their broadphase {@link AABB} during the step.
+	 */
+	@Test
+	public void continuousDetectionUnifiedBroadphaseMovingBody() {
+		for (int k = 0; k < 2; k++) {
+			TestWorld w = new TestWorld();
+			w.setGravity(0.0, 0.0);
+			w.getSettings().setContinuousDetectionUnifiedBroadphaseEnabled(k == 0);
+			w.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+					new DynamicAABBTree<CollisionItem<Body, BodyFixture>>(
+							new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+							new CollisionItemAABBProducer<Body, BodyFixture>(),
+							new StaticValueAABBExpansionMethod<CollisionItem<Body, BodyFixture>>(1.0))));
+			
+			// the box moves 0.4 per step, less than the 0.5 expansion per side, so it's 
+			// not reinserted into the broadphase after the first step
+			Body box = new Body(); box.addFixture(Geometry.createSquare(1.0)); box.setMass(MassType.NORMAL);
+			box.setLinearVelocity(0.0, 0.4 / w.getSettings().getStepFrequency());
+			
+			// the bullet passes above the box's broadphase AABB, but through the box at the end of the second step
+			Body bullet = new Body(); bullet.addFixture(Geometry.createCircle(0.1)); bullet.setMass(MassType.NORMAL);
+			bullet.setBullet(true);
+			bullet.translate(-3.0, 1.15);
+			bullet.setLinearVelocity(2.0 / w.getSettings().getStepFrequency(), 0.0);
+			
+			w.addBody(box);
+			w.addBody(bullet);
+			
+			w.step(1);
+			TestCase.assertEquals(-1.0, bullet.getWorldCenter().x, 1.0e-8);
+			TestCase.assertEquals(0.4, box.getWorldCenter().y, 1.0e-8);
+			
+			// the bullet doesn't pass through the box
+			w.step(1);
+			TestCase.assertTrue(bullet.getWorldCenter().x < 0.5);
+		}
+	}
+	
+	/**
+	 * Tests that speculative contacts stop fast bodies without a time of impact phase.
+	 */
+	@Test
+	public void continuousDetectionSpeculative() {
+		TestWorld w = new TestWorld();
+		w.setGravity(0.0, 0.0);
+		w.getSettings().setContinuousDetectionMode(ContinuousDetectionMode.SPECULATIVE);
+		w.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+				new DynamicAABBTree<CollisionItem<Body, BodyFixture>>(
+						new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+						new CollisionItemAABBProducer<Body, BodyFixture>(),
+						new PhysicsBodyVelocityAABBExpansionMethod<Body>(w.getTimeStep()))));
+		
+		final List<Double> depths = new ArrayList<Double>();
+		w.addContactListener(new ContactListenerAdapter<Body>() {
+			@Override
+			public void begin(ContactCollisionData<Body> collision, Contact contact) {
+				depths.add(contact.getDepth());
+			}
+		});
+		w.addTimeOfImpactListener(new TimeOfImpactListenerAdapter<Body>() {
+			@Override
+			public boolean collision(Body body1, BodyFixture fixture1, Body body2, BodyFixture fixture2) {
+				TestCase.fail();
+				return true;
+			}
+		});
+		
+		Body wall = new Body(); wall.addFixture(Geometry.createRectangle(0.1, 10.0)); wall.setMass(MassType.INFINITE);
+		Body ball = new Body(); ball.addFixture(Geometry.createCircle(0.1)); ball.setMass(MassType.NORMAL);
+		ball.translate(-1.5, 0.0);
+		ball.setLinearVelocity(200.0, 0.0);
+		
+		w.addBody(wall);
+		w.addBody(ball);
+		
+		// the ball is stopped at the wall in the velocity solve
+		w.step(1);
+		TestCase.assertTrue(ball.getWorldCenter().x < 0.0);
+		TestCase.assertEquals(-0.15, ball.getWorldCenter().x, 0.01);
+		
+		// the contact was reported with the separation as a negative depth
+		TestCase.assertFalse(depths.isEmpty());
+		TestCase.assertEquals(-1.35, depths.get(0), 1.0e-8);
+		
+		// and it stays on this side of the wall
+		for (int i = 0; i < 10; i++) {
+			w.step(1);
+			TestCase.assertTrue(ball.getWorldCenter().x < 0.0);
+		}
+		TestCase.assertEquals(0.0, ball.getLinearVelocity().x, 1.0e-8);
+		
+		// the contact doesn't slow bodies that won't close the gap in the step
+		depths.clear();
+		Body slow = new Body(); slow.addFixture(Geometry.createCircle(0.1)); slow.setMass(MassType.NORMAL);
+		slow.translate(-0.158, 3.0);
+		slow.setLinearVelocity(0.3, 0.0);
+		w.addBody(slow);
+		w.step(1);
+		TestCase.assertEquals(1, depths.size());
+		TestCase.assertTrue(depths.get(0) < 0.0);
+		TestCase.assertEquals(0.3, slow.getLinearVelocity().x, 1.0e-8);
+	}
+	
+	/**
+	 * Tests the step profiler.
+	 */
+	@Test
+	public void stepProfiler() {
+		TestWorld w = new TestWorld();
+		StepProfiler profiler = w.getStepProfiler();
+		TestCase.assertNotNull(profiler);
+		TestCase.assertFalse(profiler.isEnabled());
+		
+		Body ground = new Body(); ground.addFixture(Geometry.createRectangle(10.0, 1.0)); ground.setMass(MassType.INFINITE);
+		Body box = new Body(); box.addFixture(Geometry.createSquare(1.0)); box.setMass(MassType.NORMAL);
+		box.translate(0.0, 0.99);
+		w.addBody(ground);
+		w.addBody(box);
+		
+		// nothing is recorded when disabled
+		w.step(1);
+		TestCase.assertEquals(0, profiler.getSampleCount());
+		
+		profiler.setEnabled(true);
+		w.step(2);
+		
+		TestCase.assertEquals(2, profiler.getSampleCount());
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.STEP) > 0);
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.DETECT) > 0);
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.DETECT) <= profiler.getLastTime(StepPhase.STEP));
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.NARROWPHASE) > 0);
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.VELOCITY_SOLVE) > 0);
+		TestCase.assertTrue(profiler.getLastTime(StepPhase.CONTINUOUS_DETECTION) > 0);
+		TestCase.assertEquals(1, profiler.getLastCount(StepCounter.BROADPHASE_PAIRS));
+		TestCase.assertEquals(1, profiler.getLastCount(StepCounter.NARROWPHASE_COLLISIONS));
+		TestCase.assertTrue(profiler.getLastCount(StepCounter.GJK_ITERATIONS) > 0);
+		TestCase.assertTrue(profiler.getLastCount(StepCounter.EPA_ITERATIONS) > 0);
+		TestCase.assertEquals(1, profiler.getLastCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(2, profiler.getLastCount(StepCounter.ISLAND_BODIES));
+		TestCase.assertEquals(2, profiler.getLastCount(StepCounter.LARGEST_ISLAND));
+		TestCase.assertEquals(w.getSettings().getVelocityConstraintSolverIterations(), profiler.getLastCount(StepCounter.VELOCITY_ITERATIONS));
+		TestCase.assertTrue(profiler.getLastCount(StepCounter.POSITION_ITERATIONS) > 0);
+		TestCase.assertEquals(0, profiler.getLastCount(StepCounter.TIME_OF_IMPACT_EVENTS));
+		
+		// the samples are available to the step listeners
+		final long[] samples = new long[1];
+		w.addStepListener(new StepListenerAdapter<Body>() {
+			@Override
+			public void end(TimeStep step, PhysicsWorld<Body, ?> world) {
+				samples[0] = world.getStepProfiler().getSampleCount();
+			}
+		});
+		w.step(1);
+		TestCase.assertEquals(3, samples[0]);
+		
+		profiler.setEnabled(false);
+		w.step(1);
+		TestCase.assertEquals(3, profiler.getSampleCount());
+	}
+}
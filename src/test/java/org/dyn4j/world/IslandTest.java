@@ -29,9 +29,15 @@ import org.dyn4j.collision.BasicCollisionPair;
 import org.dyn4j.collision.CollisionItem;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.Settings;
+import org.dyn4j.dynamics.TimeStep;
 import org.dyn4j.dynamics.contact.ContactConstraint;
+import org.dyn4j.dynamics.contact.SequentialImpulses;
 import org.dyn4j.dynamics.joint.AngleJoint;
+import org.dyn4j.dynamics.joint.WeldJoint;
 import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Vector2;
 import org.junit.Test;
 
 import junit.framework.TestCase;
@@ -39,7 +45,7 @@ import junit.framework.TestCase;
 /**
  * Test case for the {@link Island} class.
  * @author William Bittle
- * @version 4.0.0
+ * @version 6.1.0
  * @since 3.1.1
  */
 public class IslandTest {
@@ -133,4 +139,55 @@ public class IslandTest {
 		TestCase.assertEquals(0, i.joints.size());
 		TestCase.assertEquals(0, i.contactConstraints.size());
 	}
+	
+	/**
+	 * Tests the velocity solver early exit.
+	 */
+	@Test
+	public void velocityConvergence() {
+		Settings settings = new Settings();
+		TimeStep step = new TimeStep(settings.getStepFrequency());
+		SequentialImpulses<Body> solver = new SequentialImpulses<Body>();
+		
+		Body b1 = new Body(); b1.addFixture(Geometry.createSquare(1.0)); b1.setMass(MassType.INFINITE);
+		Body b2 = new Body(); b2.addFixture(Geometry.createSquare(1.0)); b2.setMass(MassType.NORMAL);
+		b2.translate(1.0, 0.0);
+		WeldJoint<Body> joint = new WeldJoint<Body>(b1, b2, new Vector2(0.5, 0.0));
+		
+		Island<Body> island = new Island<Body>();
+		
+		// no constraints, no iterations
+		island.add(b2);
+		island.solve(solver, new Vector2(), step, settings);
+		TestCase.assertEquals(0, island.getVelocityIterationCount());
+		TestCase.assertTrue(island.getPositionIterationCount() > 0);
+		
+		island.clear();
+		island.add(b1);
+		island.add(b2);
+		island.add(joint);
+		
+		// nothing is changing
+		settings.setVelocityConstraintSolverTolerance(1e-6);
+		island.solve(solver, new Vector2(), step, settings);
+		TestCase.assertEquals(1, island.getVelocityIterationCount());
+		
+		// disabled
+		settings.setVelocityConstraintSolverTolerance(0.0);
+		island.solve(solver, new Vector2(0.0, -9.8), step, settings);
+		TestCase.assertEquals(settings.getVelocityConstraintSolverIterations(), island.getVelocityIterationCount());
+		
+		// converges before the maximum (without warm starting)
+		Body b3 = new Body(); b3.addFixture(Geometry.createSquare(1.0)); b3.setMass(MassType.NORMAL);
+		b3.translate(1.0, 0.0);
+		island.clear();
+		island.add(b1);
+		island.add(b3);
+		island.add(new WeldJoint<Body>(b1, b3, new Vector2(0.5, 0.0)));
+		settings.setVelocityConstraintSolverTolerance(1e-6);
+		settings.setVelocityConstraintSolverIterations(50);
+		island.solve(solver, new Vector2(0.0, -9.8), step, settings);
+		TestCase.assertTrue(island.getVelocityIterationCount() > 1);
+		TestCase.assertTrue(island.getVelocityIterationCount() < 50);
+	}
 }
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import java.util.BitSet;
+
+import org.dyn4j.collision.CollisionItem;
+import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.collision.continuous.ConservativeAdvancement;
+import org.dyn4j.collision.continuous.TimeOfImpact;
+import org.dyn4j.collision.manifold.ClippingManifoldSolver;
+import org.dyn4j.collision.manifold.Manifold;
+import org.dyn4j.collision.narrowphase.Gjk;
+import org.dyn4j.collision.narrowphase.LinkPostProcessor;
+import org.dyn4j.collision.narrowphase.Penetration;
+import org.dyn4j.collision.narrowphase.Raycast;
+import org.dyn4j.collision.narrowphase.Separation;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.ContinuousDetectionMode;
+import org.dyn4j.geometry.Chain;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Ray;
+import org.dyn4j.geometry.TileMap;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+import org.dyn4j.world.result.RaycastResult;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link LinkShapeDetector} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class LinkShapeDetectorTest {
+	/**
+	 * Returns a flat chain from x = 10 to x = -10 made of links of the given length.
+	 * <p>
+	 * The vertices are wound so that the solid side of the links is below.
+	 * @param length the link length
+	 * @return {@link Chain}
+	 */
+	private static final Chain createFloor(double length) {
+		int n = (int)Math.round(20.0 / length);
+		Vector2[] vertices = new Vector2[n + 1];
+		for (int i = 0; i <= n; i++) {
+			vertices[i] = new Vector2(10.0 - i * length, 0.0);
+		}
+		return Geometry.createChain(vertices, false);
+	}
+	
+	/**
+	 * Tests the detect method.
+	 */
+	@Test
+	public void detect() {
+		LinkShapeDetector cd = new LinkShapeDetector();
+		Gjk gjk = new Gjk();
+		LinkPostProcessor lpp = new LinkPostProcessor();
+		Chain chain = createFloor(1.0);
+		Convex box = Geometry.createSquare(1.0);
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		Penetration p = new Penetration();
+		
+		// resting across a vertex with a small overlap
+		tx2.translate(0.0, 0.45);
+		TestCase.assertTrue(cd.detect(gjk, lpp, chain, tx1, box, tx2, p));
+		TestCase.assertEquals(0.05, p.getDepth(), 1.0e-8);
+		TestCase.assertEquals(0.0, p.getNormal().x, 1.0e-8);
+		TestCase.assertEquals(1.0, p.getNormal().y, 1.0e-8);
+		
+		// reversing the order reverses the normal
+		TestCase.assertTrue(cd.detect(gjk, lpp, box, tx2, chain, tx1, p));
+		TestCase.assertEquals(0.05, p.getDepth(), 1.0e-8);
+		TestCase.assertEquals(-1.0, p.getNormal().y, 1.0e-8);
+		
+		// separated
+		tx2.translate(0.0, 0.1);
+		TestCase.assertFalse(cd.detect(gjk, lpp, chain, tx1, box, tx2, p));
+		
+		// the chain's transform is used
+		tx1.translate(0.0, 0.2);
+		TestCase.assertTrue(cd.detect(gjk, lpp, chain, tx1, box, tx2, p));
+		TestCase.assertEquals(0.15, p.getDepth(), 1.0e-8);
+		
+		// two chains never collide
+		TestCase.assertFalse(cd.detect(gjk, lpp, chain, tx1, chain, tx1, p));
+		
+		// other shapes go straight to the detector
+		TestCase.assertTrue(cd.detect(gjk, null, box, tx1, box, tx2, p));
+	}
+	
+	/**
+	 * Tests that the manifold points of links with the same normal are merged.
+	 */
+	@Test
+	public void getManifold() {
+		LinkShapeDetector cd = new LinkShapeDetector();
+		Gjk gjk = new Gjk();
+		LinkPostProcessor lpp = new LinkPostProcessor();
+		ClippingManifoldSolver cms = new ClippingManifoldSolver();
+		Chain chain = createFloor(0.25);
+		Convex box = Geometry.createRectangle(2.0, 1.0);
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		Penetration p = new Penetration();
+		Manifold m = new Manifold();
+		
+		// the box spans 8 links
+		tx2.translate(0.1, 0.45);
+		TestCase.assertTrue(cd.detect(gjk, lpp, chain, tx1, box, tx2, p));
+		TestCase.assertTrue(cd.getManifold(cms, p, chain, tx1, box, tx2, m));
+		
+		// the two points should be the corners of the box
+		TestCase.assertEquals(2, m.getPoints().size());
+		double x1 = m.getPoints().get(0).getPoint().x;
+		double x2 = m.getPoints().get(1).getPoint().x;
+		TestCase.assertEquals(2.0, Math.abs(x1 - x2), 1.0e-8);
+		TestCase.assertEquals(0.05, m.getPoints().get(0).getDepth(), 1.0e-8);
+		TestCase.assertEquals(0.05, m.getPoints().get(1).getDepth(), 1.0e-8);
+	}
+	
+	/**
+	 * Tests the raycast method.
+	 */
+	@Test
+	public void raycast() {
+		LinkShapeDetector cd = new LinkShapeDetector();
+		Gjk gjk = new Gjk();
+		Chain chain = Geometry.createChain(new Vector2[] {
+			new Vector2(0.0, 0.0),
+			new Vector2(1.0, 1.0),
+			new Vector2(2.0, 0.0),
+			new Vector2(3.0, 1.0)
+		}, false);
+		Transform tx = new Transform();
+		Raycast r = new Raycast();
+		
+		// the ray passes through three links; the first is the closest
+		Ray ray = new Ray(new Vector2(-1.0, 0.5), new Vector2(1.0, 0.0));
+		TestCase.assertTrue(cd.raycast(gjk, ray, 0.0, chain, tx, r));
+		TestCase.assertEquals(1.5, r.getDistance(), 1.0e-8);
+		TestCase.assertEquals(0.5, r.getPoint().x, 1.0e-8);
+		
+		TestCase.assertFalse(cd.raycast(gjk, ray, 1.0, chain, tx, r));
+		
+		tx.translate(0.0, 1.0);
+		TestCase.assertFalse(cd.raycast(gjk, ray, 0.0, chain, tx, r));
+	}
+	
+	/**
+	 * Tests the getTimeOfImpact method.
+	 */
+	@Test
+	public void getTimeOfImpact() {
+		LinkShapeDetector cd = new LinkShapeDetector();
+		ConservativeAdvancement ca = new ConservativeAdvancement();
+		Chain chain = createFloor(1.0);
+		Convex circle = Geometry.createCircle(0.1);
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		TimeOfImpact toi = new TimeOfImpact();
+		
+		// a fast circle passes through the floor during the step
+		tx2.translate(0.5, 1.0);
+		Vector2 dp = new Vector2(0.0, -2.0);
+		TestCase.assertTrue(cd.getTimeOfImpact(ca, chain, tx1, new Vector2(), 0.0, circle, tx2, dp, 0.0, 0.0, 1.0, toi));
+		TestCase.assertEquals(0.45, toi.getTime(), 1.0e-2);
+		
+		TestCase.assertTrue(cd.getTimeOfImpact(ca, circle, tx2, dp, 0.0, chain, tx1, new Vector2(), 0.0, 0.0, 1.0, toi));
+		TestCase.assertEquals(0.45, toi.getTime(), 1.0e-2);
+		
+		// moving away
+		dp.set(0.0, 2.0);
+		TestCase.assertFalse(cd.getTimeOfImpact(ca, chain, tx1, new Vector2(), 0.0, circle, tx2, dp, 0.0, 0.0, 1.0, toi));
+	}
+	
+	/**
+	 * Tests the distance and speculative getManifold methods.
+	 */
+	@Test
+	public void distance() {
+		LinkShapeDetector cd = new LinkShapeDetector();
+		Gjk gjk = new Gjk();
+		ClippingManifoldSolver cms = new ClippingManifoldSolver();
+		Chain chain = createFloor(1.0);
+		Convex circle = Geometry.createCircle(0.1);
+		Transform tx1 = new Transform();
+		Transform tx2 = new Transform();
+		Separation s = new Separation();
+		Manifold m = new Manifold();
+		
+		// a circle above the floor
+		tx2.translate(0.5, 0.5);
+		TestCase.assertTrue(cd.distance(gjk, 1.0, chain, tx1, circle, tx2, s));
+		TestCase.assertEquals(0.4, s.getDistance(), 1.0e-8);
+		TestCase.assertEquals(0.0, s.getNormal().x, 1.0e-8);
+		TestCase.assertEquals(1.0, s.getNormal().y, 1.0e-8);
+		
+		TestCase.assertTrue(cd.getManifold(cms, s, 1.0, chain, tx1, circle, tx2, m));
+		TestCase.assertEquals(1, m.getPoints().size());
+		TestCase.assertEquals(-0.4, m.getPoints().get(0).getDepth(), 1.0e-8);
+		
+		// the order of the shapes is kept
+		m.clear();
+		TestCase.assertTrue(cd.distance(gjk, 1.0, circle, tx2, chain, tx1, s));
+		TestCase.assertEquals(0.4, s.getDistance(), 1.0e-8);
+		TestCase.assertEquals(-1.0, s.getNormal().y, 1.0e-8);
+		TestCase.assertTrue(cd.getManifold(cms, s, 1.0, circle, tx2, chain, tx1, m));
+		TestCase.assertEquals(1, m.getPoints().size());
+		
+		// too far away
+		TestCase.assertFalse(cd.distance(gjk, 0.3, chain, tx1, circle, tx2, s));
+		m.clear();
+		TestCase.assertFalse(cd.getManifold(cms, s, 0.3, chain, tx1, circle, tx2, m));
+		
+		// overlapping links are left to the narrowphase
+		tx2.translate(0.0, -0.45);
+		TestCase.assertFalse(cd.distance(gjk, 1.0, chain, tx1, circle, tx2, s));
+		
+		// other shapes are passed to the detector
+		tx2.translate(0.0, 1.0);
+		TestCase.assertTrue(cd.distance(gjk, 1.0, circle, tx1, circle, tx2, s));
+		TestCase.assertEquals(Math.hypot(0.5, 1.05) - 0.2, s.getDistance(), 1.0e-8);
+		TestCase.assertFalse(cd.distance(gjk, 0.5, circle, tx1, circle, tx2, s));
+	}
+	
+	/**
+	 * Tests that speculative contacts stop fast bodies at a chain.
+	 */
+	@Test
+	public void worldSpeculative() {
+		World<Body> w = new World<Body>();
+		w.getSettings().setContinuousDetectionMode(ContinuousDetectionMode.SPECULATIVE);
+		w.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+				new DynamicAABBTree<CollisionItem<Body, BodyFixture>>(
+						new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+						new CollisionItemAABBProducer<Body, BodyFixture>(),
+						new PhysicsBodyVelocityAABBExpansionMethod<Body>(w.getTimeStep()))));
+		
+		Body floor = new Body();
+		floor.addFixture(createFloor(0.5));
+		floor.setMass(MassType.INFINITE);
+		w.addBody(floor);
+		
+		// the ball moves 2m each step
+		Body ball = new Body();
+		ball.addFixture(Geometry.createCircle(0.1));
+		ball.setMass(MassType.NORMAL);
+		ball.translate(0.1, 3.0);
+		ball.setLinearVelocity(0.0, -120.0);
+		w.addBody(ball);
+		
+		for (int i = 0; i < 10; i++) {
+			w.step(1);
+			TestCase.assertTrue(ball.getTransform().getTranslationY() > 0.0);
+		}
+		
+		// and comes to rest on the floor
+		for (int i = 0; i < 110; i++) {
+			w.step(1);
+		}
+		TestCase.assertEquals(0.1, ball.getTransform().getTranslationY(), 1.0e-2);
+		
+		Body box = new Body();
+		box.addFixture(Geometry.createSquare(1.0));
+		box.setMass(MassType.NORMAL);
+		box.translate(3.1, 1.0);
+		w.addBody(box);
+		
+		for (int i = 0; i < 120; i++) {
+			w.step(1);
+		}
+		
+		TestCase.assertEquals(0.5, box.getTransform().getTranslationY(), 1.0e-2);
+		TestCase.assertEquals(0.0, box.getTransform().getRotationAngle(), 1.0e-2);
+	}
+	
+	/**
+	 * Tests that bodies come to rest on a chain and can be raycast in a world.
+	 */
+	@Test
+	public void world() {
+		World<Body> w = new World<Body>();
+		
+		Body floor = new Body();
+		floor.addFixture(createFloor(0.5));
+		floor.setMass(MassType.INFINITE);
+		w.addBody(floor);
+		
+		Body box = new Body();
+		box.addFixture(Geometry.createSquare(1.0));
+		box.setMass(MassType.NORMAL);
+		box.translate(0.1, 1.0);
+		w.addBody(box);
+		
+		for (int i = 0; i < 120; i++) {
+			w.step(1);
+		}
+		
+		TestCase.assertEquals(0.5, box.getTransform().getTranslationY(), 1.0e-2);
+		TestCase.assertEquals(0.0, box.getTransform().getRotationAngle(), 1.0e-2);
+		
+		RaycastResult<Body, BodyFixture> result = w.raycastClosest(new Ray(new Vector2(5.0, 5.0), new Vector2(0.0, -1.0)), 0.0, null);
+		TestCase.assertNotNull(result);
+		TestCase.assertSame(floor, result.getBody());
+		TestCase.assertEquals(5.0, result.getRaycast().getDistance(), 1.0e-8);
+	}
+	
+	/**
+	 * Tests that bodies come to rest on a tile map and can be raycast in a world.
+	 */
+	@Test
+	public void worldTileMap() {
+		World<Body> w = new World<Body>();
+		
+		// a floor of 40 tiles with a one tile step on the right
+		BitSet solid = new BitSet();
+		solid.set(0, 40);
+		solid.set(79);
+		
+		Body floor = new Body();
+		floor.addFixture(new TileMap(40, 2, 0.5, 0.5, solid));
+		floor.setMass(MassType.INFINITE);
+		floor.translate(-10.0, -0.5);
+		w.addBody(floor);
+		
+		Body box = new Body();
+		box.addFixture(Geometry.createSquare(1.0));
+		box.setMass(MassType.NORMAL);
+		box.translate(0.1, 1.0);
+		w.addBody(box);
+		
+		for (int i = 0; i < 120; i++) {
+			w.step(1);
+		}
+		
+		TestCase.assertEquals(0.5, box.getTransform().getTranslationY(), 1.0e-2);
+		TestCase.assertEquals(0.0, box.getTransform().getRotationAngle(), 1.0e-2);
+		
+		RaycastResult<Body, BodyFixture> result = w.raycastClosest(new Ray(new Vector2(5.0, 5.0), new Vector2(0.0, -1.0)), 0.0, null);
+		TestCase.assertNotNull(result);
+		TestCase.assertSame(floor, result.getBody());
+		TestCase.assertEquals(5.0, result.getRaycast().getDistance(), 1.0e-8);
+		
+		result = w.raycastClosest(new Ray(new Vector2(9.75, 5.0), new Vector2(0.0, -1.0)), 0.0, null);
+		TestCase.assertNotNull(result);
+		TestCase.assertEquals(4.5, result.getRaycast().getDistance(), 1.0e-8);
+	}
+}
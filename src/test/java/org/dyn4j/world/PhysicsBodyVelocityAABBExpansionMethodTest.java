@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import org.dyn4j.collision.CollisionItem;
+import org.dyn4j.collision.broadphase.CollisionItemAABBProducer;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseDetectorAdapter;
+import org.dyn4j.collision.broadphase.CollisionItemBroadphaseFilter;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.dynamics.TimeStep;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link PhysicsBodyVelocityAABBExpansionMethod} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class PhysicsBodyVelocityAABBExpansionMethodTest {
+	/**
+	 * Tests the constructors.
+	 */
+	@Test
+	public void create() {
+		TimeStep step = new TimeStep(1.0 / 60.0);
+		
+		PhysicsBodyVelocityAABBExpansionMethod<Body> method = new PhysicsBodyVelocityAABBExpansionMethod<Body>(step);
+		TestCase.assertSame(step, method.getTimeStep());
+		TestCase.assertEquals(PhysicsBodyVelocityAABBExpansionMethod.DEFAULT_MARGIN, method.getMargin());
+		TestCase.assertEquals(PhysicsBodyVelocityAABBExpansionMethod.DEFAULT_VELOCITY_MULTIPLIER, method.getVelocityMultiplier());
+		
+		method = new PhysicsBodyVelocityAABBExpansionMethod<Body>(step, 0.3);
+		TestCase.assertEquals(0.3, method.getMargin());
+		TestCase.assertEquals(PhysicsBodyVelocityAABBExpansionMethod.DEFAULT_VELOCITY_MULTIPLIER, method.getVelocityMultiplier());
+		
+		method = new PhysicsBodyVelocityAABBExpansionMethod<Body>(step, 0.0, 0.0);
+		TestCase.assertEquals(0.0, method.getMargin());
+		TestCase.assertEquals(0.0, method.getVelocityMultiplier());
+	}
+	
+	/**
+	 * Tests the constructor with a null time step.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void createNullTimeStep() {
+		new PhysicsBodyVelocityAABBExpansionMethod<Body>(null);
+	}
+	
+	/**
+	 * Tests the constructor with a negative margin.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createNegativeMargin() {
+		new PhysicsBodyVelocityAABBExpansionMethod<Body>(new TimeStep(1.0), -1.0);
+	}
+	
+	/**
+	 * Tests the constructor with a negative velocity multiplier.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createNegativeVelocityMultiplier() {
+		new PhysicsBodyVelocityAABBExpansionMethod<Body>(new TimeStep(1.0), 0.2, -1.0);
+	}
+	
+	/**
+	 * Tests the expand method.
+	 */
+	@Test
+	public void expand() {
+		TimeStep step = new TimeStep(0.5);
+		PhysicsBodyVelocityAABBExpansionMethod<Body> method = new PhysicsBodyVelocityAABBExpansionMethod<Body>(step, 0.2, 2.0);
+		
+		Body body = new Body();
+		BodyFixture fixture = body.addFixture(Geometry.createSquare(1.0));
+		body.setMass(MassType.NORMAL);
+		CollisionItemAdapter<Body, BodyFixture> item = new CollisionItemAdapter<Body, BodyFixture>();
+		item.set(body, fixture);
+		
+		// not moving, only the margin
+		AABB aabb = new AABB(-0.5, -0.5, 0.5, 0.5);
+		method.expand(item, aabb);
+		TestCase.assertEquals(-0.6, aabb.getMinX(), 1e-8);
+		TestCase.assertEquals(-0.6, aabb.getMinY(), 1e-8);
+		TestCase.assertEquals(0.6, aabb.getMaxX(), 1e-8);
+		TestCase.assertEquals(0.6, aabb.getMaxY(), 1e-8);
+		
+		// moving, the leading side is extended by v * dt * multiplier
+		body.setLinearVelocity(1.0, -2.0);
+		aabb = new AABB(-0.5, -0.5, 0.5, 0.5);
+		method.expand(item, aabb);
+		TestCase.assertEquals(-0.6, aabb.getMinX(), 1e-8);
+		TestCase.assertEquals(-2.6, aabb.getMinY(), 1e-8);
+		TestCase.assertEquals(1.6, aabb.getMaxX(), 1e-8);
+		TestCase.assertEquals(0.6, aabb.getMaxY(), 1e-8);
+		
+		// the time step is read each time
+		step.update(0.25);
+		aabb = new AABB(-0.5, -0.5, 0.5, 0.5);
+		method.expand(item, aabb);
+		TestCase.assertEquals(-1.6, aabb.getMinY(), 1e-8);
+		TestCase.assertEquals(1.1, aabb.getMaxX(), 1e-8);
+	}
+	
+	/**
+	 * Tests the expansion method in the world's broadphase.
+	 */
+	@Test
+	public void world() {
+		World<Body> world = new World<Body>();
+		world.setGravity(World.ZERO_GRAVITY);
+		world.setBroadphaseDetector(new CollisionItemBroadphaseDetectorAdapter<Body, BodyFixture>(
+				new DynamicAABBTree<CollisionItem<Body, BodyFixture>>(
+						new CollisionItemBroadphaseFilter<Body, BodyFixture>(),
+						new CollisionItemAABBProducer<Body, BodyFixture>(),
+						new PhysicsBodyVelocityAABBExpansionMethod<Body>(world.getTimeStep()))));
+		
+		Body body = new Body();
+		BodyFixture fixture = body.addFixture(Geometry.createCircle(0.5));
+		body.setMass(MassType.NORMAL);
+		body.setLinearVelocity(30.0, 0.0);
+		world.addBody(body);
+		world.step(1);
+		
+		// the expanded AABB covers the next step's travel so it doesn't need to be updated
+		AABB aabb = world.getBroadphaseDetector().getAABB(body, fixture).copy();
+		world.step(1);
+		TestCase.assertEquals(aabb, world.getBroadphaseDetector().getAABB(body, fixture));
+		TestCase.assertTrue(aabb.contains(body.createAABB()));
+	}
+}
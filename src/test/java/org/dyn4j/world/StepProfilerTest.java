@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link StepProfiler} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class StepProfilerTest {
+	/**
+	 * Tests the constructors.
+	 */
+	@Test
+	public void create() {
+		StepProfiler profiler = new StepProfiler();
+		TestCase.assertFalse(profiler.isEnabled());
+		TestCase.assertEquals(StepProfiler.DEFAULT_WINDOW_SIZE, profiler.getWindowSize());
+		TestCase.assertEquals(0, profiler.getSampleCount());
+		TestCase.assertEquals(0, profiler.getLastTime(StepPhase.STEP));
+		TestCase.assertEquals(0.0, profiler.getAverageTime(StepPhase.STEP));
+		TestCase.assertEquals(0, profiler.getMinimumCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(0, profiler.getMaximumCount(StepCounter.ISLANDS));
+		TestCase.assertNotNull(profiler.toString());
+		
+		profiler = new StepProfiler(10);
+		TestCase.assertEquals(10, profiler.getWindowSize());
+	}
+	
+	/**
+	 * Tests the constructor with a zero window size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createZeroWindowSize() {
+		new StepProfiler(0);
+	}
+	
+	/**
+	 * Tests the getters with a null phase.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void getNullPhase() {
+		new StepProfiler().getAverageTime(null);
+	}
+	
+	/**
+	 * Tests the getters with a null counter.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void getNullCounter() {
+		new StepProfiler().getAverageCount(null);
+	}
+	
+	/**
+	 * Tests that nothing is recorded when disabled.
+	 */
+	@Test
+	public void disabled() {
+		StepProfiler profiler = new StepProfiler();
+		profiler.begin();
+		profiler.addTime(StepPhase.STEP, 10);
+		profiler.end();
+		
+		TestCase.assertEquals(0, profiler.getSampleCount());
+		TestCase.assertEquals(0, profiler.getLastTime(StepPhase.STEP));
+	}
+	
+	/**
+	 * Tests the rolling statistics.
+	 */
+	@Test
+	public void statistics() {
+		StepProfiler profiler = new StepProfiler(3);
+		profiler.setEnabled(true);
+		
+		for (int i = 1; i <= 4; i++) {
+			profiler.begin();
+			profiler.addTime(StepPhase.STEP, i * 10);
+			profiler.addTime(StepPhase.STEP, i * 10);
+			profiler.addCount(StepCounter.ISLANDS, i);
+			profiler.maxCount(StepCounter.LARGEST_ISLAND, 5);
+			profiler.maxCount(StepCounter.LARGEST_ISLAND, i);
+			profiler.end();
+		}
+		
+		TestCase.assertEquals(4, profiler.getSampleCount());
+		
+		// only the last 3 samples are used: 2, 3 and 4
+		TestCase.assertEquals(80, profiler.getLastTime(StepPhase.STEP));
+		TestCase.assertEquals(60.0, profiler.getAverageTime(StepPhase.STEP));
+		TestCase.assertEquals(40, profiler.getMinimumTime(StepPhase.STEP));
+		TestCase.assertEquals(80, profiler.getMaximumTime(StepPhase.STEP));
+		TestCase.assertEquals(0, profiler.getLastTime(StepPhase.NARROWPHASE));
+		
+		TestCase.assertEquals(4, profiler.getLastCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(3.0, profiler.getAverageCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(2, profiler.getMinimumCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(4, profiler.getMaximumCount(StepCounter.ISLANDS));
+		TestCase.assertEquals(5, profiler.getLastCount(StepCounter.LARGEST_ISLAND));
+		
+		// the samples are kept when disabled
+		profiler.setEnabled(false);
+		TestCase.assertEquals(4, profiler.getSampleCount());
+		TestCase.assertEquals(80, profiler.getLastTime(StepPhase.STEP));
+		
+		profiler.reset();
+		TestCase.assertEquals(0, profiler.getSampleCount());
+		TestCase.assertEquals(0, profiler.getLastTime(StepPhase.STEP));
+		TestCase.assertEquals(0.0, profiler.getAverageCount(StepCounter.ISLANDS));
+	}
+}
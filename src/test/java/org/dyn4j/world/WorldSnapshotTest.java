@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2010-2026 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.joint.RevoluteJoint;
+import org.dyn4j.dynamics.joint.WeldJoint;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test case for the {@link WorldSnapshot} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class WorldSnapshotTest {
+	/**
+	 * Returns a world with a stack of boxes, a ball and some joints.
+	 * @return {@link World}
+	 */
+	private World<Body> createWorld() {
+		World<Body> world = new World<Body>();
+		
+		Body ground = new Body();
+		ground.addFixture(Geometry.createRectangle(20.0, 1.0));
+		ground.setMass(MassType.INFINITE);
+		world.addBody(ground);
+		
+		for (int i = 0; i < 5; i++) {
+			Body box = new Body();
+			box.addFixture(Geometry.createSquare(1.0));
+			box.setMass(MassType.NORMAL);
+			box.translate(0.1 * i, 1.0 + i * 1.05);
+			world.addBody(box);
+		}
+		
+		Body ball = new Body();
+		ball.addFixture(Geometry.createCircle(0.5));
+		ball.setMass(MassType.NORMAL);
+		ball.translate(-4.0, 3.0);
+		ball.setLinearVelocity(1.0, 0.0);
+		world.addBody(ball);
+		
+		Body link1 = new Body();
+		link1.addFixture(Geometry.createRectangle(1.0, 0.25));
+		link1.setMass(MassType.NORMAL);
+		link1.translate(5.0, 5.0);
+		world.addBody(link1);
+		
+		Body link2 = new Body();
+		link2.addFixture(Geometry.createRectangle(1.0, 0.25));
+		link2.setMass(MassType.NORMAL);
+		link2.translate(6.0, 5.0);
+		world.addBody(link2);
+		
+		world.addJoint(new RevoluteJoint<Body>(ground, link1, new Vector2(4.5, 5.0)));
+		world.addJoint(new WeldJoint<Body>(link1, link2, new Vector2(5.5, 5.0)));
+		
+		return world;
+	}
+	
+	/**
+	 * Records the transforms and velocities of all the bodies in the world.
+	 * @param world the world
+	 * @param values the list to add to
+	 */
+	private void record(World<Body> world, List<Double> values) {
+		for (Body body : world.getBodies()) {
+			Transform tx = body.getTransform();
+			values.add(tx.getCost());
+			values.add(tx.getSint());
+			values.add(tx.getTranslationX());
+			values.add(tx.getTranslationY());
+			values.add(body.getLinearVelocity().x);
+			values.add(body.getLinearVelocity().y);
+			values.add(body.getAngularVelocity());
+		}
+	}
+	
+	/**
+	 * Tests the constructors.
+	 */
+	@Test
+	public void create() {
+		WorldSnapshot snapshot = new WorldSnapshot();
+		TestCase.assertTrue(snapshot.isEmpty());
+		TestCase.assertEquals(0, snapshot.getSize());
+		TestCase.assertEquals(0, snapshot.getBodyCount());
+		TestCase.assertEquals(0, snapshot.getJointCount());
+		TestCase.assertEquals(0, snapshot.getContactConstraintCount());
+		TestCase.assertNotNull(snapshot.toString());
+		
+		snapshot = new WorldSnapshot(0);
+		TestCase.assertEquals(0, snapshot.getCapacity());
+	}
+	
+	/**
+	 * Tests the constructor with a negative capacity.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createNegativeCapacity() {
+		new WorldSnapshot(-1);
+	}
+	
+	/**
+	 * Tests saving a snapshot.
+	 */
+	@Test
+	public void save() {
+		World<Body> world = this.createWorld();
+		for (int i = 0; i < 30; i++) {
+			world.step(1);
+		}
+		
+		WorldSnapshot snapshot = new WorldSnapshot(0);
+		world.saveSnapshot(snapshot);
+		
+		TestCase.assertFalse(snapshot.isEmpty());
+		TestCase.assertEquals(9, snapshot.getBodyCount());
+		TestCase.assertEquals(2, snapshot.getJointCount());
+		TestCase.assertEquals(world.collisionData.size(), snapshot.getContactConstraintCount());
+		TestCase.assertTrue(snapshot.getContactConstraintCount() > 0);
+		
+		// 3 world values, 16 per body, 3 for the revolute joint and 6 for the weld joint
+		// plus the contacts
+		TestCase.assertTrue(snapshot.getSize() > 3 + 9 * 16 + 3 + 6);
+		
+		// saving again reuses the buffer
+		int size = snapshot.getSize();
+		int capacity = snapshot.getCapacity();
+		world.saveSnapshot(snapshot);
+		TestCase.assertEquals(size, snapshot.getSize());
+		TestCase.assertEquals(capacity, snapshot.getCapacity());
+		
+		snapshot.clear();
+		TestCase.assertTrue(snapshot.isEmpty());
+		TestCase.assertEquals(0, snapshot.getContactConstraintCount());
+		TestCase.assertEquals(capacity, snapshot.getCapacity());
+	}
+	
+	/**
+	 * Tests that restoring a snapshot replays the simulation exactly.
+	 */
+	@Test
+	public void restore() {
+		World<Body> world = this.createWorld();
+		for (int i = 0; i < 30; i++) {
+			world.step(1);
+		}
+		
+		WorldSnapshot snapshot = new WorldSnapshot();
+		world.saveSnapshot(snapshot);
+		
+		List<Double> expected = new ArrayList<Double>();
+		for (int i = 0; i < 20; i++) {
+			world.step(1);
+			this.record(world, expected);
+		}
+		
+		world.restoreSnapshot(snapshot);
+		
+		List<Double> actual = new ArrayList<Double>();
+		for (int i = 0; i < 20; i++) {
+			world.step(1);
+			this.record(world, actual);
+		}
+		
+		TestCase.assertEquals(expected, actual);
+		
+		// the same snapshot can be restored again
+		world.restoreSnapshot(snapshot);
+		actual.clear();
+		for (int i = 0; i < 20; i++) {
+			world.step(1);
+			this.record(world, actual);
+		}
+		
+		TestCase.assertEquals(expected, actual);
+	}
+	
+	/**
+	 * Tests that restoring a snapshot replays the simulation exactly when collision pairs
+	 * begin and end between saving and restoring.
+	 */
+	@Test
+	public void restoreChangedPairs() {
+		World<Body> world = new World<Body>();
+		
+		Body ground = new Body();
+		ground.addFixture(Geometry.createRectangle(20.0, 1.0));
+		ground.setMass(MassType.INFINITE);
+		world.addBody(ground);
+		
+		for (int i = 0; i < 3; i++) {
+			Body ball = new Body();
+			ball.addFixture(Geometry.createCircle(0.25), 1.0, 0.2, 0.9);
+			ball.setMass(MassType.NORMAL);
+			ball.translate(i * 0.4 - 0.4, 1.0 + i * 0.3);
+			ball.setLinearVelocity(1.0 - i, 0.0);
+			world.addBody(ball);
+		}
+		
+		WorldSnapshot snapshot = new WorldSnapshot();
+		List<Double> expected = new ArrayList<Double>();
+		List<Double> actual = new ArrayList<Double>();
+		boolean changed = false;
+		for (int i = 0; i < 60; i++) {
+			world.step(1);
+			world.saveSnapshot(snapshot);
+			
+			expected.clear();
+			for (int j = 0; j < 10; j++) {
+				world.step(1);
+				this.record(world, expected);
+			}
+			changed |= world.collisionData.size() != snapshot.getContactConstraintCount();
+			
+			world.restoreSnapshot(snapshot);
+			
+			actual.clear();
+			for (int j = 0; j < 10; j++) {
+				world.step(1);
+				this.record(world, actual);
+			}
+			
+			TestCase.assertEquals(expected, actual);
+			
+			// continue from the saved state
+			world.restoreSnapshot(snapshot);
+		}
+		
+		// make sure the pairs changed at least once
+		TestCase.assertTrue(changed);
+	}
+	
+	/**
+	 * Tests that restoring a snapshot restores the at-rest state of bodies.
+	 */
+	@Test
+	public void restoreAtRest() {
+		World<Body> world = this.createWorld();
+		Body box = world.getBody(1);
+		for (int i = 0; i < 30; i++) {
+			world.step(1);
+		}
+		
+		WorldSnapshot snapshot = new WorldSnapshot();
+		world.saveSnapshot(snapshot);
+		boolean atRest = box.isAtRest();
+		Transform tx = box.getTransform().copy();
+		
+		box.setAtRest(!atRest);
+		box.translate(1.0, 1.0);
+		world.restoreSnapshot(snapshot);
+		
+		TestCase.assertEquals(atRest, box.isAtRest());
+		TestCase.assertEquals(tx.getTranslationX(), box.getTransform().getTranslationX());
+		TestCase.assertEquals(tx.getTranslationY(), box.getTransform().getTranslationY());
+		TestCase.assertTrue(world.isUpdateRequired());
+	}
+	
+	/**
+	 * Tests restoring a snapshot with a null snapshot.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void restoreNull() {
+		this.createWorld().restoreSnapshot(null);
+	}
+	
+	/**
+	 * Tests saving a snapshot with a null snapshot.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void saveNull() {
+		this.createWorld().saveSnapshot(null);
+	}
+	
+	/**
+	 * Tests restoring an empty snapshot.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void restoreEmpty() {
+		this.createWorld().restoreSnapshot(new WorldSnapshot());
+	}
+	
+	/**
+	 * Tests restoring a snapshot of a different world.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void restoreDifferentWorld() {
+		World<Body> world = this.createWorld();
+		WorldSnapshot snapshot = new WorldSnapshot();
+		world.saveSnapshot(snapshot);
+		
+		world.removeBody(world.getBody(5));
+		world.restoreSnapshot(snapshot);
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2021 William Bittle  http://www.dyn4j.org/
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are permitted 
+ * provided that the following conditions are met:
+ * 
+ *   * Redistributions of source code must retain the above copyright notice, this list of conditions 
+ *     and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright notice, this list of conditions 
+ *     and the following disclaimer in the documentation and/or other materials provided with the 
+ *     distribution.
+ *   * Neither the name of the copyright holder nor the names of its contributors may be used to endorse or 
+ *     promote products derived from this software without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR 
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND 
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL 
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, 
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER 
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT 
+ * OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.dyn4j.world.result;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.geometry.Geometry;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Test cases for the {@link RaycastBatch} class.
+ * @author William Bittle
+ * @version 6.1.0
+ * @since 6.1.0
+ */
+public class RaycastBatchTest {
+	/**
+	 * Tests the constructor.
+	 */
+	@Test
+	public void createSuccess() {
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(10);
+		TestCase.assertEquals(10, batch.getCapacity());
+		TestCase.assertEquals(0, batch.getCount());
+		TestCase.assertEquals(20, batch.getStarts().length);
+		TestCase.assertEquals(20, batch.getDirections().length);
+		TestCase.assertEquals(10, batch.getLengths().length);
+		TestCase.assertEquals(10, batch.getDistances().length);
+		TestCase.assertEquals(20, batch.getPoints().length);
+		TestCase.assertEquals(20, batch.getNormals().length);
+		
+		for (int i = 0; i < 10; i++) {
+			TestCase.assertFalse(batch.isHit(i));
+			TestCase.assertEquals(-1.0, batch.getDistances()[i]);
+			TestCase.assertNull(batch.getBody(i));
+			TestCase.assertNull(batch.getFixture(i));
+		}
+		
+		TestCase.assertNotNull(batch.toString());
+	}
+	
+	/**
+	 * Tests the constructor with an invalid capacity.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void createZeroCapacity() {
+		new RaycastBatch<Body, BodyFixture>(0);
+	}
+	
+	/**
+	 * Tests setting the count.
+	 */
+	@Test
+	public void setCount() {
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(10);
+		batch.setCount(5);
+		TestCase.assertEquals(5, batch.getCount());
+		batch.setCount(10);
+		TestCase.assertEquals(10, batch.getCount());
+		batch.setCount(0);
+		TestCase.assertEquals(0, batch.getCount());
+	}
+	
+	/**
+	 * Tests setting a negative count.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setNegativeCount() {
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(10);
+		batch.setCount(-1);
+	}
+	
+	/**
+	 * Tests setting a count larger than the capacity.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setCountOverCapacity() {
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(10);
+		batch.setCount(11);
+	}
+	
+	/**
+	 * Tests the set and result methods.
+	 */
+	@Test
+	public void set() {
+		RaycastBatch<Body, BodyFixture> batch = new RaycastBatch<Body, BodyFixture>(2);
+		batch.set(1, 1.0, 2.0, 3.0, 4.0, 5.0);
+		
+		TestCase.assertEquals(1.0, batch.getStarts()[2]);
+		TestCase.assertEquals(2.0, batch.getStarts()[3]);
+		TestCase.assertEquals(3.0, batch.getDirections()[2]);
+		TestCase.assertEquals(4.0, batch.getDirections()[3]);
+		TestCase.assertEquals(5.0, batch.getLengths()[1]);
+		
+		Body body = new Body();
+		BodyFixture fixture = body.addFixture(Geometry.createCircle(0.5));
+		batch.setResult(1, body, fixture, 2.0, 1.0, 1.0, 0.0, 1.0);
+		
+		TestCase.assertFalse(batch.isHit(0));
+		TestCase.assertTrue(batch.isHit(1));
+		TestCase.assertEquals(body, batch.getBody(1));
+		TestCase.assertEquals(fixture, batch.getFixture(1));
+		TestCase.assertEquals(2.0, batch.getDistances()[1]);
+		TestCase.assertEquals(1.0, batch.getPoints()[2]);
+		TestCase.assertEquals(1.0, batch.getPoints()[3]);
+		TestCase.assertEquals(0.0, batch.getNormals()[2]);
+		TestCase.assertEquals(1.0, batch.getNormals()[3]);
+		
+		batch.clearResult(1);
+		TestCase.assertFalse(batch.isHit(1));
+		TestCase.assertEquals(-1.0, batch.getDistances()[1]);
+		TestCase.assertNull(batch.getBody(1));
+		TestCase.assertNull(batch.getFixture(1));
+		
+		batch.setResult(0, body, fixture, 2.0, 1.0, 1.0, 0.0, 1.0);
+		batch.clearResults();
+		TestCase.assertFalse(batch.isHit(0));
+		
+		// the rays are retained
+		TestCase.assertEquals(5.0, batch.getLengths()[1]);
+	}
+}